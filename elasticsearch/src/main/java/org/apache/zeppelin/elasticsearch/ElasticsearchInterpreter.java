@@ -46,6 +46,8 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -77,9 +79,11 @@ public class ElasticsearchInterpreter extends Interpreter {
       + "  - search /indices/types <query>\n"
       + "    . indices and types can be omitted (at least, you have to provide '/')\n"
       + "    . a query is either a JSON-formatted query, nor a lucene query\n"
+      + "  - scroll /indices/types <query>\n"
+      + "    . same as search, but all the hits are fetched page by page and streamed in a table\n"
       + "  - size <value>\n"
       + "    . defines the size of the result set (default value is in the config)\n"
-      + "    . if used, this command must be declared before a search command\n"
+      + "    . if used, this command must be declared before a search or a scroll command\n"
       + "  - count /indices/types <query>\n"
       + "    . same comments as for the search\n"
       + "  - get /index/type/id\n"
@@ -88,7 +92,7 @@ public class ElasticsearchInterpreter extends Interpreter {
       + "    . the id can be omitted, elasticsearch will generate one";
 
   protected static final List<String> COMMANDS = Arrays.asList(
-      "count", "delete", "get", "help", "index", "search");
+      "count", "delete", "get", "help", "index", "scroll", "search");
 
   private static final Pattern FIELD_NAME_PATTERN = Pattern.compile("\\[\\\\\"(.+)\\\\\"\\](.*)");
 
@@ -99,10 +103,18 @@ public class ElasticsearchInterpreter extends Interpreter {
   public static final String ELASTICSEARCH_RESULT_SIZE = "elasticsearch.result.size";
   public static final String ELASTICSEARCH_BASIC_AUTH_USERNAME = "elasticsearch.basicauth.username";
   public static final String ELASTICSEARCH_BASIC_AUTH_PASSWORD = "elasticsearch.basicauth.password";
+  public static final String ELASTICSEARCH_SCROLL_SIZE = "elasticsearch.scroll.size";
+  public static final String ELASTICSEARCH_SCROLL_KEEPALIVE = "elasticsearch.scroll.keepalive";
+  public static final String ELASTICSEARCH_SCROLL_SCHEMA_SIZE = "elasticsearch.scroll.schema.size";
 
   private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
   private ElasticsearchClient elsClient;
   private int resultSize = 10;
+  private int scrollSize = 1000;
+  private String scrollKeepAlive = "1m";
+  private int scrollSchemaSize = 100;
+  // cancel flags of the running scrolls, by paragraph id
+  private final Map<String, AtomicBoolean> runningScrolls = new ConcurrentHashMap<>();
 
   public ElasticsearchInterpreter(Properties property) {
     super(property);
@@ -122,6 +134,9 @@ public class ElasticsearchInterpreter extends Interpreter {
       logger.error("Unable to parse " + ELASTICSEARCH_RESULT_SIZE + " : " +
           getProperty(ELASTICSEARCH_RESULT_SIZE), e);
     }
+    this.scrollSize = getIntProperty(ELASTICSEARCH_SCROLL_SIZE, 1000);
+    this.scrollKeepAlive = getProperty(ELASTICSEARCH_SCROLL_KEEPALIVE, "1m");
+    this.scrollSchemaSize = getIntProperty(ELASTICSEARCH_SCROLL_SCHEMA_SIZE, 100);
 
     try {
       if (StringUtils.isEmpty(clientType) || "transport".equals(clientType)) {
@@ -136,6 +151,19 @@ public class ElasticsearchInterpreter extends Interpreter {
     }
   }
 
+  private int getIntProperty(String name, int defaultValue) {
+    final String value = getProperty(name);
+    if (StringUtils.isBlank(value)) {
+      return defaultValue;
+    }
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (final NumberFormatException e) {
+      logger.error("Unable to parse " + name + " : " + value, e);
+      return defaultValue;
+    }
+  }
+
   @Override
   public void close() {
     if (elsClient != null) {
@@ -152,6 +180,7 @@ public class ElasticsearchInterpreter extends Interpreter {
     }
 
     int currentResultSize = resultSize;
+    boolean resultSizeDefined = false;
 
     if (elsClient == null) {
       return new InterpreterResult(InterpreterResult.Code.ERROR,
@@ -180,6 +209,7 @@ public class ElasticsearchInterpreter extends Interpreter {
         return processHelp(InterpreterResult.Code.ERROR, "Right format is : size <value>");
       }
       currentResultSize = Integer.parseInt(sizeLine[1]);
+      resultSizeDefined = true;
 
       items = StringUtils.split(lines[1].trim(), " ", 3);
     }
@@ -201,6 +231,9 @@ public class ElasticsearchInterpreter extends Interpreter {
         return processCount(urlItems, data, interpreterContext);
       } else if ("search".equalsIgnoreCase(method)) {
         return processSearch(urlItems, data, currentResultSize, interpreterContext);
+      } else if ("scroll".equalsIgnoreCase(method)) {
+        return processScroll(urlItems, data, resultSizeDefined ? currentResultSize : 0,
+            interpreterContext);
       } else if ("index".equalsIgnoreCase(method)) {
         return processIndex(urlItems, data);
       } else if ("delete".equalsIgnoreCase(method)) {
@@ -215,7 +248,10 @@ public class ElasticsearchInterpreter extends Interpreter {
 
   @Override
   public void cancel(InterpreterContext interpreterContext) {
-    // Nothing to do
+    final AtomicBoolean cancelled = runningScrolls.get(interpreterContext.getParagraphId());
+    if (cancelled != null) {
+      cancelled.set(true);
+    }
   }
 
   @Override
@@ -358,6 +394,73 @@ public class ElasticsearchInterpreter extends Interpreter {
     return buildResponseMessage(response);
   }
 
+  /**
+   * Processes a "scroll" request: all the matching hits are fetched page by page, and written
+   * to the output as rows of a table as they come, so they are never all in memory.
+   *
+   * @param urlItems Items of the URL
+   * @param data May contains the JSON of the request
+   * @param limit Max number of hits, 0 for all
+   * @param interpreterContext Instance of the context
+   * @return Result of the scroll request, the table is in the output of the context
+   */
+  private InterpreterResult processScroll(String[] urlItems, String data, int limit,
+      InterpreterContext interpreterContext) throws IOException {
+    if (urlItems.length > 2) {
+      return new InterpreterResult(InterpreterResult.Code.ERROR,
+          "Bad URL (it should be /index1,index2,.../type1,type2,...)");
+    }
+
+    final String paragraphId = interpreterContext.getParagraphId();
+    final AtomicBoolean cancelled = new AtomicBoolean(false);
+    runningScrolls.put(paragraphId, cancelled);
+
+    final HitTableWriter writer = new HitTableWriter(interpreterContext.out, scrollSchemaSize);
+    final int pageSize = limit > 0 ? Math.min(limit, scrollSize) : scrollSize;
+    String scrollId = null;
+    try {
+      ActionResponse response = elsClient.searchScroll(getIndices(urlItems), getTypes(urlItems),
+          data, pageSize, scrollKeepAlive);
+      scrollId = response.getScrollId();
+
+      while (!response.getHits().isEmpty() && !cancelled.get()) {
+        for (final HitWrapper hit : response.getHits()) {
+          if (limit > 0 && writer.getRows() >= limit) {
+            break;
+          }
+          writer.write(flattenHit(hit));
+        }
+        writer.flush();
+        if ((limit > 0 && writer.getRows() >= limit) || scrollId == null) {
+          break;
+        }
+
+        response = elsClient.scroll(scrollId, scrollKeepAlive);
+        if (response.getScrollId() != null) {
+          scrollId = response.getScrollId();
+        }
+      }
+      writer.close();
+    } finally {
+      runningScrolls.remove(paragraphId);
+      if (scrollId != null) {
+        try {
+          elsClient.clearScroll(scrollId);
+        } catch (final RuntimeException e) {
+          logger.warn("Unable to clear scroll " + scrollId, e);
+        }
+      }
+    }
+
+    addAngularObject(interpreterContext, "scroll", writer.getRows());
+
+    if (cancelled.get()) {
+      return new InterpreterResult(InterpreterResult.Code.ERROR, "Scroll cancelled after "
+          + writer.getRows() + " hits");
+    }
+    return new InterpreterResult(InterpreterResult.Code.SUCCESS);
+  }
+
   /**
    * Processes a "index" request.
    *
@@ -408,17 +511,15 @@ public class ElasticsearchInterpreter extends Interpreter {
   }
 
   private ActionResponse searchData(String[] urlItems, String query, int size) {
-    String[] indices = null;
-    String[] types = null;
+    return elsClient.search(getIndices(urlItems), getTypes(urlItems), query, size);
+  }
 
-    if (urlItems.length >= 1) {
-      indices = StringUtils.split(urlItems[0], ",");
-    }
-    if (urlItems.length > 1) {
-      types = StringUtils.split(urlItems[1], ",");
-    }
+  private String[] getIndices(String[] urlItems) {
+    return urlItems.length >= 1 ? StringUtils.split(urlItems[0], ",") : null;
+  }
 
-    return elsClient.search(indices, types, query, size);
+  private String[] getTypes(String[] urlItems) {
+    return urlItems.length > 1 ? StringUtils.split(urlItems[1], ",") : null;
   }
 
   private InterpreterResult buildAggResponseMessage(Aggregations aggregations) {
@@ -516,22 +617,7 @@ public class ElasticsearchInterpreter extends Interpreter {
     final List<Map<String, Object>> flattenHits = new LinkedList<>();
     final Set<String> keys = new TreeSet<>();
     for (final HitWrapper hit : response.getHits()) {
-
-      final String json = hit.getSourceAsString();
-
-      final Map<String, Object> flattenJsonMap = JsonFlattener.flattenAsMap(json);
-      final Map<String, Object> flattenMap = new HashMap<>();
-      for (final Iterator<String> iter = flattenJsonMap.keySet().iterator(); iter.hasNext(); ) {
-        // Replace keys that match a format like that : [\"keyname\"][0]
-        final String fieldName = iter.next();
-        final Matcher fieldNameMatcher = FIELD_NAME_PATTERN.matcher(fieldName);
-        if (fieldNameMatcher.matches()) {
-          flattenMap.put(fieldNameMatcher.group(1) + fieldNameMatcher.group(2),
-              flattenJsonMap.get(fieldName));
-        } else {
-          flattenMap.put(fieldName, flattenJsonMap.get(fieldName));
-        }
-      }
+      final Map<String, Object> flattenMap = flattenHit(hit);
       flattenHits.add(flattenMap);
 
       for (final String key : flattenMap.keySet()) {
@@ -563,6 +649,25 @@ public class ElasticsearchInterpreter extends Interpreter {
     return buffer.toString();
   }
 
+  private static Map<String, Object> flattenHit(HitWrapper hit) {
+    final String json = hit.getSourceAsString();
+
+    final Map<String, Object> flattenJsonMap = JsonFlattener.flattenAsMap(json);
+    final Map<String, Object> flattenMap = new HashMap<>();
+    for (final Iterator<String> iter = flattenJsonMap.keySet().iterator(); iter.hasNext(); ) {
+      // Replace keys that match a format like that : [\"keyname\"][0]
+      final String fieldName = iter.next();
+      final Matcher fieldNameMatcher = FIELD_NAME_PATTERN.matcher(fieldName);
+      if (fieldNameMatcher.matches()) {
+        flattenMap.put(fieldNameMatcher.group(1) + fieldNameMatcher.group(2),
+            flattenJsonMap.get(fieldName));
+      } else {
+        flattenMap.put(fieldName, flattenJsonMap.get(fieldName));
+      }
+    }
+    return flattenMap;
+  }
+
   private InterpreterResult buildResponseMessage(ActionResponse response) {
     final List<AggWrapper> aggregations = response.getAggregations();
 
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.elasticsearch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.zeppelin.interpreter.InterpreterOutput;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+
+/**
+ * Writes flattened hits to an output as the rows of a table, while they are fetched.
+ *
+ * The columns of the table are the keys of the first hits (the schema discovery window), these
+ * hits are kept until the window is full. Keys of the next hits which are not columns are
+ * dropped, as the header of the table has already been written.
+ */
+class HitTableWriter {
+  private static final Logger logger = LoggerFactory.getLogger(HitTableWriter.class);
+
+  // max number of dropped keys which are reported
+  private static final int MAX_DROPPED_KEYS = 100;
+
+  private final InterpreterOutput out;
+  private final int windowSize;
+  private final List<Map<String, Object>> window = new ArrayList<>();
+  private List<String> columns;
+  private Set<String> columnSet;
+  private final Set<String> droppedKeys = new TreeSet<>();
+  private long rows = 0;
+
+  /**
+   * @param out
+   * @param windowSize number of first hits used to find the columns of the table
+   */
+  HitTableWriter(InterpreterOutput out, int windowSize) {
+    this.out = out;
+    this.windowSize = Math.max(1, windowSize);
+  }
+
+  void write(Map<String, Object> hit) throws IOException {
+    rows++;
+    if (columns != null) {
+      writeRow(hit);
+      return;
+    }
+
+    window.add(hit);
+    if (window.size() >= windowSize) {
+      writeWindow();
+    }
+  }
+
+  void flush() throws IOException {
+    if (columns != null) {
+      out.flush();
+    }
+  }
+
+  /**
+   * Writes the hits left in the window, if there are less hits than the window size.
+   */
+  void close() throws IOException {
+    if (columns == null) {
+      writeWindow();
+    }
+    out.flush();
+
+    if (!droppedKeys.isEmpty()) {
+      logger.warn("Fields not found in the first " + windowSize + " hits are not in the table: "
+          + droppedKeys);
+    }
+  }
+
+  /**
+   * @return number of hits written
+   */
+  long getRows() {
+    return rows;
+  }
+
+  /**
+   * @return keys of the hits which are not columns of the table
+   */
+  Set<String> getDroppedKeys() {
+    return droppedKeys;
+  }
+
+  private void writeWindow() throws IOException {
+    final Set<String> keys = new TreeSet<>();
+    for (final Map<String, Object> hit : window) {
+      keys.addAll(hit.keySet());
+    }
+    columns = new ArrayList<>(keys);
+    columnSet = new HashSet<>(keys);
+
+    out.setType(InterpreterResult.Type.TABLE);
+    if (!columns.isEmpty()) {
+      final StringBuilder header = new StringBuilder();
+      for (final String column : columns) {
+        if (header.length() > 0) {
+          header.append('\t');
+        }
+        header.append(escape(column));
+      }
+      out.write(header.append('\n').toString());
+    }
+
+    for (final Map<String, Object> hit : window) {
+      writeRow(hit);
+    }
+    window.clear();
+  }
+
+  private void writeRow(Map<String, Object> hit) throws IOException {
+    for (final String key : hit.keySet()) {
+      if (!columnSet.contains(key) && droppedKeys.size() < MAX_DROPPED_KEYS) {
+        droppedKeys.add(key);
+      }
+    }
+    if (columns.isEmpty()) {
+      return;
+    }
+
+    final StringBuilder row = new StringBuilder();
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        row.append('\t');
+      }
+      final Object val = hit.get(columns.get(i));
+      if (val != null) {
+        row.append(escape(val.toString()));
+      }
+    }
+    out.write(row.append('\n').toString());
+  }
+
+  // tabs and new lines would break the table
+  private static String escape(String value) {
+    return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+  }
+}
@@ -27,6 +27,7 @@ public class ActionResponse {
 
   private boolean succeeded;
   private long totalHits;
+  private String scrollId;
   private final List<HitWrapper> hits = new LinkedList<>();
   private final List<AggWrapper> aggregations = new LinkedList<>();
 
@@ -49,6 +50,18 @@ public class ActionResponse {
     return totalHits;
   }
 
+  public ActionResponse scrollId(String scrollId) {
+    this.scrollId = scrollId;
+    return this;
+  }
+
+  /**
+   * @return id of the scroll to get the next page of hits, null if the search isn't a scroll
+   */
+  public String getScrollId() {
+    return scrollId;
+  }
+
   public List<HitWrapper> getHits() {
     return hits;
   }
@@ -32,5 +32,22 @@ public interface ElasticsearchClient {
 
   ActionResponse search(String[] indices, String[] types, String query, int size);
 
+  /**
+   * Starts a scroll on the hits of a query.
+   *
+   * @param size number of hits per page
+   * @param keepAlive time to keep the scroll alive between two pages, e.g. 1m
+   * @return first page of hits, and the id of the scroll
+   */
+  ActionResponse searchScroll(String[] indices, String[] types, String query, int size,
+      String keepAlive);
+
+  /**
+   * @return next page of hits of the scroll, no hits at the end of the scroll
+   */
+  ActionResponse scroll(String scrollId, String keepAlive);
+
+  void clearScroll(String scrollId);
+
   void close();
 }
@@ -20,7 +20,10 @@ package org.apache.zeppelin.elasticsearch.client;
 import com.google.common.base.Joiner;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
 
 import org.apache.commons.lang3.StringUtils;
 import org.json.JSONArray;
@@ -139,6 +142,10 @@ public class HttpBasedClient implements ElasticsearchClient {
     return getUrl(inds, typs, null, false);
   }
 
+  private String getScrollUrl() {
+    return getUrl(null, null, null, false) + "_search/scroll";
+  }
+
   @Override
   public ActionResponse get(String index, String type, String id) {
     ActionResponse response = null;
@@ -256,8 +263,17 @@ public class HttpBasedClient implements ElasticsearchClient {
 
   @Override
   public ActionResponse search(String[] indices, String[] types, String query, int size) {
-    ActionResponse response = null;
+    return search(getUrl(indices, types) + "/_search?size=" + size, query, size > 0);
+  }
 
+  @Override
+  public ActionResponse searchScroll(String[] indices, String[] types, String query, int size,
+      String keepAlive) {
+    return search(getUrl(indices, types) + "/_search?size=" + size + "&scroll=" + keepAlive,
+        query, true);
+  }
+
+  private ActionResponse search(String url, String query, boolean withHits) {
     if (!StringUtils.isEmpty(query)) {
       // The query can be either JSON-formatted, nor a Lucene query
       // So, try to parse as a JSON => if there is an error, consider the query a Lucene one
@@ -271,7 +287,7 @@ public class HttpBasedClient implements ElasticsearchClient {
 
     try {
       final HttpRequestWithBody request = Unirest
-          .post(getUrl(indices, types) + "/_search?size=" + size)
+          .post(url)
           .header("Content-Type", "application/json");
 
       if (StringUtils.isNoneEmpty(query)) {
@@ -282,58 +298,112 @@ public class HttpBasedClient implements ElasticsearchClient {
         request.basicAuth(username, password);
       }
 
-      final HttpResponse<JsonNode> result = request.asJson();
-      final JSONObject body = result.getBody() != null ? result.getBody().getObject() : null;
+      return buildSearchResponse(request.asJson(), withHits);
+    } catch (final UnirestException e) {
+      throw new ActionException(e);
+    }
+  }
 
-      if (isSucceeded(result)) {
-        final long total = getFieldAsLong(result, "hits/total");
+  @Override
+  public ActionResponse scroll(String scrollId, String keepAlive) {
+    final JsonObject body = new JsonObject();
+    body.addProperty("scroll", keepAlive);
+    body.addProperty("scroll_id", scrollId);
 
-        response = new ActionResponse()
-            .succeeded(true)
-            .totalHits(total);
+    try {
+      final HttpRequestWithBody request = Unirest
+          .post(getScrollUrl())
+          .header("Content-Type", "application/json")
+          .header("Accept", "application/json");
+      request.body(body.toString());
 
-        if (containsAggs(result)) {
-          JSONObject aggregationsMap = body.getJSONObject("aggregations");
-          if (aggregationsMap == null) {
-            aggregationsMap = body.getJSONObject("aggs");
-          }
+      if (StringUtils.isNotEmpty(username)) {
+        request.basicAuth(username, password);
+      }
 
-          for (final String key: aggregationsMap.keySet()) {
-            final JSONObject aggResult = aggregationsMap.getJSONObject(key);
-            if (aggResult.has("buckets")) {
-              // Multi-bucket aggregations
-              final Iterator<Object> buckets = aggResult.getJSONArray("buckets").iterator();
-              while (buckets.hasNext()) {
-                response.addAggregation(
-                    new AggWrapper(AggregationType.MULTI_BUCKETS, buckets.next().toString()));
-              }
-            } else {
-              response.addAggregation(
-                  new AggWrapper(AggregationType.SIMPLE, aggregationsMap.toString()));
-            }
-            break; // Keep only one aggregation
-          }
-        } else if (size > 0 && total > 0) {
-          final JSONArray hits = getFieldAsArray(body, "hits/hits");
-          final Iterator<Object> iter = hits.iterator();
-
-          while (iter.hasNext()) {
-            final JSONObject hit = (JSONObject) iter.next();
-            final Object data =
-                hit.opt("_source") != null ? hit.opt("_source") : hit.opt("fields");
-            response.addHit(new HitWrapper(
-                hit.getString("_index"),
-                hit.getString("_type"),
-                hit.getString("_id"),
-                data.toString()));
-          }
-        }
-      } else {
-        throw new ActionException(body.get("error").toString());
+      return buildSearchResponse(request.asJson(), true);
+    } catch (final UnirestException e) {
+      throw new ActionException(e);
+    }
+  }
+
+  @Override
+  public void clearScroll(String scrollId) {
+    final JsonArray scrollIds = new JsonArray();
+    scrollIds.add(new JsonPrimitive(scrollId));
+    final JsonObject body = new JsonObject();
+    body.add("scroll_id", scrollIds);
+
+    try {
+      final HttpRequestWithBody request = Unirest
+          .delete(getScrollUrl())
+          .header("Content-Type", "application/json");
+      request.body(body.toString());
+
+      if (StringUtils.isNotEmpty(username)) {
+        request.basicAuth(username, password);
+      }
+
+      final HttpResponse<String> result = request.asString();
+      // the scroll may have expired already
+      if (!isSucceeded(result) && result.getStatus() != 404) {
+        throw new ActionException(result.getBody());
       }
     } catch (final UnirestException e) {
       throw new ActionException(e);
     }
+  }
+
+  private ActionResponse buildSearchResponse(HttpResponse<JsonNode> result, boolean withHits) {
+    final JSONObject body = result.getBody() != null ? result.getBody().getObject() : null;
+
+    if (!isSucceeded(result)) {
+      throw new ActionException(body.get("error").toString());
+    }
+
+    final long total = getFieldAsLong(result, "hits/total");
+
+    final ActionResponse response = new ActionResponse()
+        .succeeded(true)
+        .totalHits(total)
+        .scrollId(body.optString("_scroll_id", null));
+
+    if (containsAggs(result)) {
+      JSONObject aggregationsMap = body.getJSONObject("aggregations");
+      if (aggregationsMap == null) {
+        aggregationsMap = body.getJSONObject("aggs");
+      }
+
+      for (final String key: aggregationsMap.keySet()) {
+        final JSONObject aggResult = aggregationsMap.getJSONObject(key);
+        if (aggResult.has("buckets")) {
+          // Multi-bucket aggregations
+          final Iterator<Object> buckets = aggResult.getJSONArray("buckets").iterator();
+          while (buckets.hasNext()) {
+            response.addAggregation(
+                new AggWrapper(AggregationType.MULTI_BUCKETS, buckets.next().toString()));
+          }
+        } else {
+          response.addAggregation(
+              new AggWrapper(AggregationType.SIMPLE, aggregationsMap.toString()));
+        }
+        break; // Keep only one aggregation
+      }
+    } else if (withHits && total > 0) {
+      final JSONArray hits = getFieldAsArray(body, "hits/hits");
+      final Iterator<Object> iter = hits.iterator();
+
+      while (iter.hasNext()) {
+        final JSONObject hit = (JSONObject) iter.next();
+        final Object data =
+            hit.opt("_source") != null ? hit.opt("_source") : hit.opt("fields");
+        response.addHit(new HitWrapper(
+            hit.getString("_index"),
+            hit.getString("_type"),
+            hit.getString("_id"),
+            data.toString()));
+      }
+    }
 
     return response;
   }
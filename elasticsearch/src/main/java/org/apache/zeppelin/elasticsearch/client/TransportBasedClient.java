@@ -133,6 +133,37 @@ public class TransportBasedClient implements ElasticsearchClient {
 
   @Override
   public ActionResponse search(String[] indices, String[] types, String query, int size) {
+    final SearchRequestBuilder reqBuilder = prepareSearch(indices, types, query);
+    reqBuilder.setSize(size);
+
+    return buildActionResponse(reqBuilder.get());
+  }
+
+  @Override
+  public ActionResponse searchScroll(String[] indices, String[] types, String query, int size,
+      String keepAlive) {
+    final SearchRequestBuilder reqBuilder = prepareSearch(indices, types, query);
+    reqBuilder.setSize(size).setScroll(keepAlive);
+
+    return buildActionResponse(reqBuilder.get());
+  }
+
+  @Override
+  public ActionResponse scroll(String scrollId, String keepAlive) {
+    return buildActionResponse(client
+        .prepareSearchScroll(scrollId)
+        .setScroll(keepAlive)
+        .get());
+  }
+
+  @Override
+  public void clearScroll(String scrollId) {
+    client.prepareClearScroll()
+        .addScrollId(scrollId)
+        .get();
+  }
+
+  private SearchRequestBuilder prepareSearch(String[] indices, String[] types, String query) {
     final SearchRequestBuilder reqBuilder = new SearchRequestBuilder(
         client, SearchAction.INSTANCE);
     reqBuilder.setIndices();
@@ -157,13 +188,14 @@ public class TransportBasedClient implements ElasticsearchClient {
       }
     }
 
-    reqBuilder.setSize(size);
-
-    final SearchResponse searchResp = reqBuilder.get();
+    return reqBuilder;
+  }
 
+  private ActionResponse buildActionResponse(SearchResponse searchResp) {
     final ActionResponse actionResp = new ActionResponse()
         .succeeded(true)
-        .totalHits(searchResp.getHits().getTotalHits());
+        .totalHits(searchResp.getHits().getTotalHits())
+        .scrollId(searchResp.getScrollId());
 
     if (searchResp.getAggregations() != null) {
       setAggregations(searchResp.getAggregations(), actionResp);
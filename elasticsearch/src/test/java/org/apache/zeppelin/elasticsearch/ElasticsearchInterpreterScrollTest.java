@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.elasticsearch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.io.CharStreams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.zeppelin.display.AngularObjectRegistry;
+import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResult.Code;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+
+/**
+ * Tests the scroll command against a local HTTP server standing in for the HTTP API of
+ * Elasticsearch.
+ */
+public class ElasticsearchInterpreterScrollTest {
+
+  // pages of hits returned by the search, then by the scroll requests
+  private static final List<List<String>> PAGES = Arrays.asList(
+      Arrays.asList("{\"a\": \"1\", \"b\": \"x\"}", "{\"a\": \"2\", \"b\": \"y\\tz\"}"),
+      Arrays.asList("{\"a\": \"3\", \"c\": \"dropped\"}", "{\"a\": \"4\", \"b\": \"w\"}"),
+      Collections.singletonList("{\"a\": \"5\"}"));
+
+  private HttpServer server;
+  private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+  private int nextPage = 0;
+  private ElasticsearchInterpreter interpreter;
+
+  @Before
+  public void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", this::handle);
+    server.start();
+
+    final Properties props = new Properties();
+    props.put(ElasticsearchInterpreter.ELASTICSEARCH_HOST, "localhost");
+    props.put(ElasticsearchInterpreter.ELASTICSEARCH_PORT, "" + server.getAddress().getPort());
+    props.put(ElasticsearchInterpreter.ELASTICSEARCH_CLIENT_TYPE, "http");
+    props.put(ElasticsearchInterpreter.ELASTICSEARCH_SCROLL_SIZE, "2");
+    props.put(ElasticsearchInterpreter.ELASTICSEARCH_SCROLL_SCHEMA_SIZE, "2");
+    interpreter = new ElasticsearchInterpreter(props);
+    interpreter.open();
+  }
+
+  @After
+  public void tearDown() {
+    interpreter.close();
+    server.stop(0);
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    final String method = exchange.getRequestMethod();
+    final String uri = exchange.getRequestURI().toString();
+    final String body = CharStreams.toString(
+        new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8));
+    requests.add(method + " " + uri);
+
+    final String response;
+    if ("DELETE".equals(method)) {
+      response = "{\"succeeded\": true}";
+    } else {
+      if (uri.contains("/_search/scroll")) {
+        assertTrue(body.contains("\"scroll_id\":\"scroll1\""));
+      } else {
+        nextPage = 0;
+      }
+      response = page(nextPage < PAGES.size() ? PAGES.get(nextPage++)
+          : Collections.<String>emptyList());
+    }
+
+    final byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private String page(List<String> sources) {
+    final StringBuilder hits = new StringBuilder();
+    for (int i = 0; i < sources.size(); i++) {
+      if (i > 0) {
+        hits.append(',');
+      }
+      hits.append("{\"_index\": \"logs\", \"_type\": \"http\", \"_id\": \"").append(i)
+          .append("\", \"_source\": ").append(sources.get(i)).append('}');
+    }
+    return "{\"_scroll_id\": \"scroll1\", \"hits\": {\"total\": 5, \"hits\": [" + hits + "]}}";
+  }
+
+  private InterpreterContext buildContext(String paragraphId) {
+    return InterpreterContext.builder()
+        .setNoteId("note")
+        .setParagraphId(paragraphId)
+        .setAngularObjectRegistry(new AngularObjectRegistry("elasticsearch", null))
+        .setInterpreterOut(new InterpreterOutput(null))
+        .build();
+  }
+
+  private InterpreterResultMessage getTable(InterpreterContext ctx) throws IOException {
+    final List<InterpreterResultMessage> messages = ctx.out.toInterpreterResultMessage();
+    assertEquals(1, messages.size());
+    assertEquals(InterpreterResult.Type.TABLE, messages.get(0).getType());
+    return messages.get(0);
+  }
+
+  @Test
+  public void testScroll() throws IOException {
+    final InterpreterContext ctx = buildContext("scroll");
+    final InterpreterResult res = interpreter.interpret("scroll /logs *", ctx);
+    assertEquals(Code.SUCCESS, res.code());
+
+    // columns come from the first 2 hits, so c is dropped
+    assertEquals("a\tb\n1\tx\n2\ty z\n3\t\n4\tw\n5\t\n", getTable(ctx).getData());
+    assertEquals(5L, ctx.getAngularObjectRegistry().get("scroll_scroll", null, null).get());
+
+    assertEquals(5, requests.size());
+    assertTrue(requests.get(0), requests.get(0).startsWith("POST /logs/_search?size=2&scroll=1m"));
+    assertEquals("POST /_search/scroll", requests.get(1));
+    assertEquals("POST /_search/scroll", requests.get(2));
+    // the last page is empty
+    assertEquals("POST /_search/scroll", requests.get(3));
+    assertEquals("DELETE /_search/scroll", requests.get(4));
+  }
+
+  @Test
+  public void testScrollWithSize() throws IOException {
+    final InterpreterContext ctx = buildContext("scrollWithSize");
+    final InterpreterResult res = interpreter.interpret("size 3\nscroll /logs *", ctx);
+    assertEquals(Code.SUCCESS, res.code());
+
+    assertEquals("a\tb\n1\tx\n2\ty z\n3\t\n", getTable(ctx).getData());
+    // no page is fetched after the limit, and the scroll is cleared
+    assertEquals(3, requests.size());
+    assertEquals("DELETE /_search/scroll", requests.get(2));
+  }
+
+  @Test
+  public void testHitTableWriter() throws IOException {
+    final InterpreterOutput out = new InterpreterOutput(null);
+    final HitTableWriter writer = new HitTableWriter(out, 10);
+    final Map<String, Object> hit = new HashMap<>();
+    hit.put("b", "1");
+    hit.put("a", "2");
+    writer.write(hit);
+    // nothing is written before the window is full or the writer is closed
+    assertEquals(0, out.toInterpreterResultMessage().size());
+
+    writer.close();
+    assertEquals(1, writer.getRows());
+    assertEquals("a\tb\n2\t1\n", out.toInterpreterResultMessage().get(0).getData());
+    assertTrue(writer.getDroppedKeys().isEmpty());
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.java;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JavaFileManager which keeps the compiled classes in memory instead of writing .class files
+ * to the working directory.
+ */
+class InMemoryJavaFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+  private final Map<String, ClassFromBytes> classes = new HashMap<>();
+
+  InMemoryJavaFileManager(StandardJavaFileManager fileManager) {
+    super(fileManager);
+  }
+
+  @Override
+  public JavaFileObject getJavaFileForOutput(Location location, String className,
+                                             JavaFileObject.Kind kind, FileObject sibling) {
+    ClassFromBytes classFile = new ClassFromBytes(className, kind);
+    classes.put(className, classFile);
+    return classFile;
+  }
+
+  /**
+   * @return bytecode of all compiled classes, keyed by binary class name
+   */
+  Map<String, byte[]> getClassBytes() {
+    Map<String, byte[]> classBytes = new HashMap<>();
+    for (Map.Entry<String, ClassFromBytes> entry : classes.entrySet()) {
+      classBytes.put(entry.getKey(), entry.getValue().getBytes());
+    }
+    return classBytes;
+  }
+
+  private static class ClassFromBytes extends SimpleJavaFileObject {
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    ClassFromBytes(String className, Kind kind) {
+      super(URI.create("bytes:///" + className.replace('.', '/') + kind.extension), kind);
+    }
+
+    @Override
+    public OutputStream openOutputStream() {
+      return bytes;
+    }
+
+    byte[] getBytes() {
+      return bytes.toByteArray();
+    }
+  }
+}
+
+/**
+ * ClassLoader defining classes from the bytecode produced by InMemoryJavaFileManager.
+ * A new instance is created for every execution, so static state of the paragraph classes
+ * doesn't leak from one run to the next even when the bytecode comes from the cache.
+ */
+class InMemoryClassLoader extends ClassLoader {
+  private final Map<String, byte[]> classBytes;
+
+  InMemoryClassLoader(Map<String, byte[]> classBytes, ClassLoader parent) {
+    super(parent);
+    this.classBytes = classBytes;
+  }
+
+  @Override
+  protected Class<?> findClass(String name) throws ClassNotFoundException {
+    byte[] bytes = classBytes.get(name);
+    if (bytes == null) {
+      throw new ClassNotFoundException(name);
+    }
+    return defineClass(name, bytes, 0, bytes.length);
+  }
+}
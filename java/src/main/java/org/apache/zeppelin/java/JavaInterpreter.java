@@ -17,12 +17,10 @@
 
 package org.apache.zeppelin.java;
 
-import java.io.File;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.UUID;
-import java.util.stream.Stream;
 
 import org.apache.zeppelin.interpreter.Interpreter;
 import org.apache.zeppelin.interpreter.InterpreterContext;
@@ -49,10 +47,7 @@ public class JavaInterpreter extends Interpreter {
 
   @Override
   public void close() {
-    /* Clean up .class files created during the compilation process. */
-    Stream.of(
-      new File(".").listFiles(f -> f.getAbsolutePath().endsWith(".class")))
-      .forEach(f -> f.delete());
+    StaticRepl.clearCache();
   }
 
   @Override
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.java;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Captures System.out and System.err per execution.
+ *
+ * System.out and System.err are replaced only once, by streams that write to the buffers of the
+ * execution running in the current thread, and to the original streams otherwise. So paragraphs
+ * can run concurrently without stealing each other's output.
+ *
+ * The capture is not inherited by threads started during the execution, as long-lived threads
+ * (e.g. pool workers) would keep writing to the buffer of a finished execution. Their output
+ * goes to the original streams.
+ */
+class OutputCapture implements AutoCloseable {
+
+  private static final ThreadLocal<OutputCapture> CURRENT = new ThreadLocal<>();
+  private static boolean installed = false;
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+  private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+  private final OutputCapture previous;
+  private volatile boolean closed = false;
+
+  private OutputCapture() {
+    this.previous = CURRENT.get();
+  }
+
+  /**
+   * Start capturing the output of the current thread, until close() is called.
+   */
+  static OutputCapture start() {
+    install();
+    OutputCapture capture = new OutputCapture();
+    CURRENT.set(capture);
+    return capture;
+  }
+
+  private static synchronized void install() {
+    if (installed) {
+      return;
+    }
+    System.setOut(new PrintStream(new RoutingOutputStream(System.out, false), true));
+    System.setErr(new PrintStream(new RoutingOutputStream(System.err, true), true));
+    installed = true;
+  }
+
+  String getOut() {
+    synchronized (out) {
+      return out.toString();
+    }
+  }
+
+  String getErr() {
+    synchronized (err) {
+      return err.toString();
+    }
+  }
+
+  @Override
+  public void close() {
+    System.out.flush();
+    System.err.flush();
+    closed = true;
+    if (previous == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+
+  private static class RoutingOutputStream extends OutputStream {
+    private final OutputStream original;
+    private final boolean isErr;
+
+    RoutingOutputStream(OutputStream original, boolean isErr) {
+      this.original = original;
+      this.isErr = isErr;
+    }
+
+    private OutputStream target() {
+      OutputCapture capture = CURRENT.get();
+      if (capture == null || capture.closed) {
+        return original;
+      }
+      return isErr ? capture.err : capture.out;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      OutputStream target = target();
+      synchronized (target) {
+        target.write(b);
+      }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      OutputStream target = target();
+      synchronized (target) {
+        target.write(b, off, len);
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      original.flush();
+    }
+  }
+}
@@ -30,24 +30,52 @@ import javax.tools.JavaCompiler.CompilationTask;
 import javax.tools.JavaFileObject;
 import javax.tools.SimpleJavaFileObject;
 import javax.tools.ToolProvider;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
-import java.io.PrintStream;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
-import java.net.URL;
-import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * StaticRepl for compling the java code in memory
+ *
+ * Compiled classes never touch the disk, and their bytecode is cached by the hash of the
+ * paragraph source, so re-running an unchanged paragraph skips parsing and compilation.
+ * Output is captured per execution, so paragraphs can be executed concurrently.
  */
 public class StaticRepl {
   static Logger logger = LoggerFactory.getLogger(StaticRepl.class);
 
+  static final int CACHE_SIZE = 100;
+
+  private static final Map<String, CompiledCode> compiledCodeCache = Collections.synchronizedMap(
+      new LinkedHashMap<String, CompiledCode>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompiledCode> eldest) {
+          return size() > CACHE_SIZE;
+        }
+      });
+
   public static String execute(String generatedClassName, String code) throws Exception {
+    String sourceHash = hash(code);
+    CompiledCode compiledCode = compiledCodeCache.get(sourceHash);
+    if (compiledCode == null) {
+      compiledCode = compile(generatedClassName, code);
+      compiledCodeCache.put(sourceHash, compiledCode);
+    } else {
+      logger.debug("Use cached classes of {}", compiledCode.mainClassName);
+    }
+    return run(compiledCode);
+  }
+
+  private static CompiledCode compile(String generatedClassName, String code) throws Exception {
 
     JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
     DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
@@ -91,79 +119,87 @@ public class StaticRepl {
     JavaFileObject file = new JavaSourceFromString(generatedClassName, code.toString());
     Iterable<? extends JavaFileObject> compilationUnits = Arrays.asList(file);
 
-    ByteArrayOutputStream baosOut = new ByteArrayOutputStream();
-    ByteArrayOutputStream baosErr = new ByteArrayOutputStream();
-
-    // Creating new stream to get the output data
-    PrintStream newOut = new PrintStream(baosOut);
-    PrintStream newErr = new PrintStream(baosErr);
-    // Save the old System.out!
-    PrintStream oldOut = System.out;
-    PrintStream oldErr = System.err;
-    // Tell Java to use your special stream
-    System.setOut(newOut);
-    System.setErr(newErr);
-
-    CompilationTask task = compiler.getTask(null, null, diagnostics, null, null, compilationUnits);
+    InMemoryJavaFileManager fileManager = new InMemoryJavaFileManager(
+        compiler.getStandardFileManager(diagnostics, null, null));
+    StringWriter compilerOutput = new StringWriter();
+    CompilationTask task = compiler.getTask(compilerOutput, fileManager, diagnostics, null, null,
+        compilationUnits);
 
     // executing the compilation process
     boolean success = task.call();
+    fileManager.close();
 
     // if success is false will get error
     if (!success) {
+      StringBuilder errors = new StringBuilder(compilerOutput.toString());
       for (Diagnostic diagnostic : diagnostics.getDiagnostics()) {
         if (diagnostic.getLineNumber() == -1) {
           continue;
         }
-        System.err.println("line " + diagnostic.getLineNumber() + " : "
-            + diagnostic.getMessage(null));
+        errors.append("line " + diagnostic.getLineNumber() + " : "
+            + diagnostic.getMessage(null) + "\n");
       }
-      System.out.flush();
-      System.err.flush();
+      logger.error("Exception in Interpreter while compilation", errors.toString());
+      throw new Exception(errors.toString());
+    }
+    return new CompiledCode(generatedClassName, fileManager.getClassBytes());
+  }
 
-      System.setOut(oldOut);
-      System.setErr(oldErr);
-      logger.error("Exception in Interpreter while compilation", baosErr.toString());
-      throw new Exception(baosErr.toString());
-    } else {
+  private static String run(CompiledCode compiledCode) throws Exception {
+    try (OutputCapture output = OutputCapture.start()) {
       try {
-
         // creating new class loader
-        URLClassLoader classLoader = URLClassLoader.newInstance(new URL[]{new File("").toURI()
-            .toURL()});
+        ClassLoader classLoader = new InMemoryClassLoader(compiledCode.classBytes,
+            StaticRepl.class.getClassLoader());
         // execute the Main method
-        Class.forName(generatedClassName, true, classLoader)
+        Class.forName(compiledCode.mainClassName, true, classLoader)
             .getDeclaredMethod("main", new Class[]{String[].class})
             .invoke(null, new Object[]{null});
 
         System.out.flush();
-        System.err.flush();
-
-        // set the stream to old stream
-        System.setOut(oldOut);
-        System.setErr(oldErr);
-
-        return baosOut.toString();
+        return output.getOut();
 
       } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException
           | InvocationTargetException e) {
         logger.error("Exception in Interpreter while execution", e);
         System.err.println(e);
-        e.printStackTrace(newErr);
-        throw new Exception(baosErr.toString(), e);
-
-      } finally {
-
-        System.out.flush();
+        e.printStackTrace(System.err);
         System.err.flush();
-
-        System.setOut(oldOut);
-        System.setErr(oldErr);
+        throw new Exception(output.getErr(), e);
       }
     }
+  }
 
+  private static String hash(String code) throws NoSuchAlgorithmException {
+    byte[] digest = MessageDigest.getInstance("SHA-256")
+        .digest(code.getBytes(StandardCharsets.UTF_8));
+    StringBuilder hex = new StringBuilder();
+    for (byte b : digest) {
+      hex.append(String.format("%02x", b));
+    }
+    return hex.toString();
   }
 
+  static void clearCache() {
+    compiledCodeCache.clear();
+  }
+
+  static int cacheSize() {
+    return compiledCodeCache.size();
+  }
+
+  /**
+   * Bytecode of a compiled paragraph.
+   */
+  private static class CompiledCode {
+    final String mainClassName;
+    final Map<String, byte[]> classBytes;
+
+    CompiledCode(String mainClassName, Map<String, byte[]> classBytes) {
+      this.mainClassName = mainClassName;
+      this.classBytes = classBytes;
+    }
+  }
 }
 
 class JavaSourceFromString extends SimpleJavaFileObject {
@@ -25,9 +25,17 @@ import org.junit.Test;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * JavaInterpreterTest
@@ -96,4 +104,73 @@ public class JavaInterpreterTest {
     assertEquals(InterpreterResult.Code.ERROR, res.code());
   }
 
+  @Test
+  public void testStaticReplCache() {
+    StaticRepl.clearCache();
+    StringWriter writer = new StringWriter();
+    PrintWriter out = new PrintWriter(writer);
+    out.println("public class Counter {");
+    out.println("  static int count = 0;");
+    out.println("  public static void main(String args[]) {");
+    out.println("    count++;");
+    out.println("    System.out.println(\"count: \" + count);");
+    out.println("  }");
+    out.println("}");
+    out.close();
+
+    InterpreterResult res = java.interpret(writer.toString(), context);
+    assertEquals(InterpreterResult.Code.SUCCESS, res.code());
+    assertEquals("count: 1\n", res.message().get(0).getData());
+    assertEquals(1, StaticRepl.cacheSize());
+
+    // unchanged paragraph is not compiled again, but still starts with fresh static state
+    res = java.interpret(writer.toString(), context);
+    assertEquals(InterpreterResult.Code.SUCCESS, res.code());
+    assertEquals("count: 1\n", res.message().get(0).getData());
+    assertEquals(1, StaticRepl.cacheSize());
+  }
+
+  @Test
+  public void testConcurrentOutput() throws InterruptedException, ExecutionException {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<InterpreterResult>> results = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      StringWriter writer = new StringWriter();
+      PrintWriter out = new PrintWriter(writer);
+      out.println("public class Printer {");
+      out.println("  public static void main(String args[]) throws Exception {");
+      out.println("    for (int i = 0; i < 10; i++) {");
+      out.println("      System.out.println(\"paragraph_" + i + "\");");
+      out.println("      Thread.sleep(5);");
+      out.println("    }");
+      out.println("  }");
+      out.println("}");
+      out.close();
+      results.add(executor.submit(() -> java.interpret(writer.toString(), context)));
+    }
+    for (int i = 0; i < results.size(); i++) {
+      InterpreterResult res = results.get(i).get();
+      assertEquals(InterpreterResult.Code.SUCCESS, res.code());
+      StringBuilder expected = new StringBuilder();
+      for (int j = 0; j < 10; j++) {
+        expected.append("paragraph_" + i + "\n");
+      }
+      assertEquals(expected.toString(), res.message().get(0).getData());
+    }
+    executor.shutdown();
+  }
+
+  @Test
+  public void testOutputCaptureIsNotInherited() throws InterruptedException {
+    String out;
+    try (OutputCapture capture = OutputCapture.start()) {
+      System.out.print("current_thread");
+      Thread thread = new Thread(() -> System.out.print("started_thread"));
+      thread.start();
+      thread.join();
+      out = capture.getOut();
+    }
+    assertFalse(out.contains("started_thread"));
+    assertTrue(out.contains("current_thread"));
+  }
 }
@@ -66,7 +66,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -93,12 +97,14 @@ public abstract class BaseLivyInterpreter extends Interpreter {
   private String livyURL;
   private int sessionCreationTimeout;
   private int pullStatusInterval;
+  private int pullStatusMaxInterval;
   private int maxLogLines;
   protected boolean displayAppInfo;
   private boolean restartDeadSession;
   protected LivyVersion livyVersion;
   private RestTemplate restTemplate;
   private Map<String, String> customHeaders = new HashMap<>();
+  private LivyStatementPoller statementPoller;
 
   // delegate to sharedInterpreter when it is available
   protected LivySharedInterpreter sharedInterpreter;
@@ -119,6 +125,8 @@ public abstract class BaseLivyInterpreter extends Interpreter {
         property.getProperty("zeppelin.livy.session.create_timeout", 120 + ""));
     this.pullStatusInterval = Integer.parseInt(
         property.getProperty("zeppelin.livy.pull_status.interval.millis", 1000 + ""));
+    this.pullStatusMaxInterval = Integer.parseInt(
+        property.getProperty("zeppelin.livy.pull_status.max_interval.millis", 5000 + ""));
     this.maxLogLines = Integer.parseInt(property.getProperty("zeppelin.livy.maxLogLines",
         "1000"));
     this.restTemplate = createRestTemplate();
@@ -176,6 +184,12 @@ public abstract class BaseLivyInterpreter extends Interpreter {
       sharedInterpreter.close();
       return;
     }
+    synchronized (this) {
+      if (statementPoller != null) {
+        statementPoller.close();
+        statementPoller = null;
+      }
+    }
     if (sessionInfo != null) {
       closeSession(sessionInfo.id);
       // reset sessionInfo to null so that we won't close it twice.
@@ -399,22 +413,12 @@ public abstract class BaseLivyInterpreter extends Interpreter {
         }
       }
 
-      // pull the statement status
-      while (!stmtInfo.isAvailable()) {
-        if (paragraphId != null && paragraphsToCancel.contains(paragraphId)) {
-          cancel(stmtInfo.id, paragraphId);
+      // the statement status is pulled by the poller of the session
+      if (!stmtInfo.isAvailable()) {
+        stmtInfo = waitForStatement(stmtInfo, paragraphId);
+        if (stmtInfo == null) {
           return new InterpreterResult(InterpreterResult.Code.ERROR, "Job is cancelled");
         }
-        try {
-          Thread.sleep(pullStatusInterval);
-        } catch (InterruptedException e) {
-          LOGGER.error("InterruptedException when pulling statement status.", e);
-          throw new LivyException(e);
-        }
-        stmtInfo = getStatementInfo(stmtInfo.id);
-        if (paragraphId != null) {
-          paragraphId2StmtProgressMap.put(paragraphId, (int) (stmtInfo.progress * 100));
-        }
       }
       if (appendSessionExpired || appendSessionDead) {
         return appendSessionExpireDead(getResultFromStatementInfo(stmtInfo, displayAppInfo),
@@ -430,6 +434,64 @@ public abstract class BaseLivyInterpreter extends Interpreter {
     }
   }
 
+  /**
+   * Wait until the statement is available, the job thread only checks whether the paragraph is
+   * cancelled in the meantime.
+   *
+   * @return the available statement, or null if the paragraph is cancelled
+   */
+  private StatementInfo waitForStatement(StatementInfo stmtInfo, final String paragraphId)
+      throws LivyException {
+    LivyStatementPoller poller = getStatementPoller();
+    CompletableFuture<StatementInfo> future = poller.watch(stmtInfo,
+        new LivyStatementPoller.ProgressListener() {
+          @Override
+          public void onProgress(double progress) {
+            if (paragraphId != null) {
+              paragraphId2StmtProgressMap.put(paragraphId, (int) (progress * 100));
+            }
+          }
+        });
+    while (true) {
+      if (paragraphId != null && paragraphsToCancel.contains(paragraphId)) {
+        poller.remove(stmtInfo.id);
+        cancel(stmtInfo.id, paragraphId);
+        return null;
+      }
+      try {
+        return future.get(pullStatusInterval, TimeUnit.MILLISECONDS);
+      } catch (TimeoutException e) {
+        // check whether the paragraph is cancelled
+      } catch (InterruptedException e) {
+        LOGGER.error("InterruptedException when pulling statement status.", e);
+        poller.remove(stmtInfo.id);
+        throw new LivyException(e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof LivyException) {
+          throw (LivyException) e.getCause();
+        }
+        throw new LivyException(e.getCause());
+      }
+    }
+  }
+
+  private synchronized LivyStatementPoller getStatementPoller() {
+    if (statementPoller == null) {
+      statementPoller = new LivyStatementPoller(new LivyStatementPoller.StatementFetcher() {
+        @Override
+        public StatementInfo getStatement(int id) throws LivyException {
+          return getStatementInfo(id);
+        }
+
+        @Override
+        public List<StatementInfo> getStatements(int from, int size) throws LivyException {
+          return getStatementInfos(from, size);
+        }
+      }, pullStatusInterval, pullStatusMaxInterval);
+    }
+    return statementPoller;
+  }
+
   private void cancel(int id, String paragraphId) {
     if (livyVersion.isCancelSupported()) {
       try {
@@ -568,6 +630,11 @@ public abstract class BaseLivyInterpreter extends Interpreter {
         callRestAPI("/sessions/" + sessionInfo.id + "/statements/" + statementId, "GET"));
   }
 
+  private List<StatementInfo> getStatementInfos(int from, int size) throws LivyException {
+    return StatementList.fromJson(callRestAPI("/sessions/" + sessionInfo.id + "/statements?from="
+        + from + "&size=" + size, "GET")).statements;
+  }
+
   private void cancelStatement(int statementId) throws LivyException {
     callRestAPI("/sessions/" + sessionInfo.id + "/statements/" + statementId + "/cancel", "POST");
   }
@@ -867,7 +934,7 @@ public abstract class BaseLivyInterpreter extends Interpreter {
     }
   }
 
-  private static class StatementInfo {
+  static class StatementInfo {
     public Integer id;
     public String state;
     public double progress;
@@ -937,6 +1004,16 @@ public abstract class BaseLivyInterpreter extends Interpreter {
     }
   }
 
+  private static class StatementList {
+    public List<StatementInfo> statements = new ArrayList<>();
+
+    public static StatementList fromJson(String json) {
+      // same traceback type mismatch as in StatementInfo
+      return gson.fromJson(json.replace("\"traceback\":{}", "\"traceback\":[]"),
+          StatementList.class);
+    }
+  }
+
   static class CompletionRequest {
     public final String code;
     public final String kind;
@@ -0,0 +1,344 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.livy;
+
+import org.apache.zeppelin.livy.BaseLivyInterpreter.StatementInfo;
+import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pulls the status of the running statements of one livy session, shared by all the paragraphs
+ * which run in the session.
+ *
+ * Statements with close ids are checked together, with one list request per span of ids, the
+ * others with one request each. A statement whose status can't be pulled is retried with backoff
+ * and only fails after MAX_RETRIES failures in a row, the other statements keep being polled.
+ * The poll interval is reset to the min interval when a statement is added or finished, and is
+ * doubled up to the max interval while nothing changes. A random jitter of up to 20% of the
+ * interval is added, so that the pollers of many sessions don't send their requests at once.
+ */
+class LivyStatementPoller {
+  private static final Logger LOGGER = LoggerFactory.getLogger(LivyStatementPoller.class);
+
+  // shared by the pollers of all sessions, a poll only holds a thread while it waits for livy
+  private static final ScheduledExecutorService EXECUTOR = Executors.newScheduledThreadPool(4,
+      new SchedulerThreadFactory("LivyStatementPoller-"));
+  // a statement is failed when pulling its status fails more times in a row
+  static final int MAX_RETRIES = 3;
+  static final int MAX_LIST_GAP = 2;
+  static final int MAX_LIST_SIZE = 20;
+
+  /**
+   * Gets the status of the statements of the session from livy.
+   */
+  interface StatementFetcher {
+    StatementInfo getStatement(int id) throws LivyException;
+
+    /**
+     * @return the statements of the session from index from, the ids of the returned statements
+     * are checked by the poller
+     */
+    List<StatementInfo> getStatements(int from, int size) throws LivyException;
+  }
+
+  /**
+   * Notified in the poller thread when the progress of a statement is pulled.
+   */
+  interface ProgressListener {
+    void onProgress(double progress);
+  }
+
+  private final StatementFetcher fetcher;
+  private final long minInterval;
+  private final long maxInterval;
+  private final Map<Integer, PendingStatement> pending = new ConcurrentHashMap<>();
+  private long interval;
+  private ScheduledFuture<?> scheduled;
+  private boolean polling;
+  private boolean closed;
+  private volatile boolean listSupported = true;
+
+  /**
+   * @param fetcher
+   * @param minInterval min time in ms between two polls
+   * @param maxInterval max time in ms between two polls
+   */
+  LivyStatementPoller(StatementFetcher fetcher, long minInterval, long maxInterval) {
+    this.fetcher = fetcher;
+    this.minInterval = minInterval;
+    this.maxInterval = Math.max(minInterval, maxInterval);
+    this.interval = minInterval;
+  }
+
+  /**
+   * Watch a statement until it is available.
+   *
+   * @param stmtInfo the statement returned by livy when it was submitted
+   * @param listener
+   * @return future completed with the available statement, or completed exceptionally with the
+   * LivyException thrown while pulling its status
+   */
+  CompletableFuture<StatementInfo> watch(StatementInfo stmtInfo, ProgressListener listener) {
+    if (stmtInfo.isAvailable()) {
+      return CompletableFuture.completedFuture(stmtInfo);
+    }
+    PendingStatement stmt = new PendingStatement(listener);
+    synchronized (this) {
+      if (closed) {
+        stmt.future.completeExceptionally(new LivyException("Statement poller is closed"));
+        return stmt.future;
+      }
+      pending.put(stmtInfo.id, stmt);
+      interval = minInterval;
+      // poll sooner if the next poll was backed off, a running poll schedules the next one itself
+      if (!polling && (scheduled == null
+          || (scheduled.getDelay(TimeUnit.MILLISECONDS) > minInterval
+          && scheduled.cancel(false)))) {
+        schedule(minInterval);
+      }
+    }
+    return stmt.future;
+  }
+
+  /**
+   * Stop watching a statement, e.g. because it is cancelled.
+   */
+  void remove(int id) {
+    PendingStatement stmt = pending.remove(id);
+    if (stmt != null) {
+      stmt.future.cancel(false);
+    }
+  }
+
+  int getPendingCount() {
+    return pending.size();
+  }
+
+  synchronized long getInterval() {
+    return interval;
+  }
+
+  // called with the lock held
+  private void schedule(long delay) {
+    if (closed || pending.isEmpty()) {
+      scheduled = null;
+      return;
+    }
+    long jitter = (long) (delay * 0.2 * ThreadLocalRandom.current().nextDouble());
+    scheduled = EXECUTOR.schedule(this::poll, delay + jitter, TimeUnit.MILLISECONDS);
+  }
+
+  private void poll() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      polling = true;
+      scheduled = null;
+    }
+    Change change = Change.NONE;
+    try {
+      change = check();
+    } catch (RuntimeException e) {
+      LOGGER.warn("Fail to pull the status of livy statements " + pending.keySet(), e);
+    } finally {
+      synchronized (this) {
+        polling = false;
+        if (change == Change.FINISHED) {
+          interval = minInterval;
+        } else if (change == Change.NONE) {
+          interval = Math.min(interval * 2, maxInterval);
+        }
+        schedule(interval);
+      }
+    }
+  }
+
+  private Change check() {
+    long now = System.currentTimeMillis();
+    List<Integer> ids = new ArrayList<>();
+    for (Map.Entry<Integer, PendingStatement> entry : pending.entrySet()) {
+      // statements whose last pull failed wait for their retry
+      if (entry.getValue().retryAt <= now) {
+        ids.add(entry.getKey());
+      }
+    }
+    if (ids.isEmpty()) {
+      return Change.NONE;
+    }
+    Collections.sort(ids);
+    Map<Integer, StatementInfo> infos = new HashMap<>();
+    if (listSupported) {
+      for (List<Integer> span : getListSpans(ids)) {
+        listStatements(span, infos);
+      }
+    }
+
+    Change change = Change.NONE;
+    for (Integer id : ids) {
+      PendingStatement stmt = pending.get(id);
+      if (stmt == null) {
+        continue;
+      }
+      StatementInfo info = infos.get(id);
+      if (info == null) {
+        // not listed, or older statements dropped from the list by livy, pull them one by one
+        try {
+          info = fetcher.getStatement(id);
+        } catch (LivyException e) {
+          onFetchFailure(id, stmt, e);
+          continue;
+        }
+      }
+      stmt.failures = 0;
+      stmt.retryAt = 0;
+      if (info.progress != stmt.progress) {
+        stmt.progress = info.progress;
+        if (change == Change.NONE) {
+          change = Change.PROGRESS;
+        }
+        if (stmt.listener != null) {
+          stmt.listener.onProgress(info.progress);
+        }
+      }
+      if (info.isAvailable()) {
+        change = Change.FINISHED;
+        if (pending.remove(id, stmt)) {
+          stmt.future.complete(info);
+        }
+      }
+    }
+    return change;
+  }
+
+  /**
+   * Split the sorted ids into the spans which are worth one list request: at least 2 ids, with
+   * at most MAX_LIST_GAP ids not watched between two of them, and at most MAX_LIST_SIZE ids in
+   * total. The ids out of these spans are pulled one by one, so that a few old statements still
+   * running don't make every poll download all the statements submitted after them.
+   */
+  static List<List<Integer>> getListSpans(List<Integer> ids) {
+    List<List<Integer>> spans = new ArrayList<>();
+    List<Integer> span = new ArrayList<>();
+    for (Integer id : ids) {
+      if (!span.isEmpty() && (id - span.get(span.size() - 1) > MAX_LIST_GAP + 1
+          || id - span.get(0) + 1 > MAX_LIST_SIZE)) {
+        if (span.size() > 1) {
+          spans.add(span);
+        }
+        span = new ArrayList<>();
+      }
+      span.add(id);
+    }
+    if (span.size() > 1) {
+      spans.add(span);
+    }
+    return spans;
+  }
+
+  private void listStatements(List<Integer> span, Map<Integer, StatementInfo> infos) {
+    int from = span.get(0);
+    int size = span.get(span.size() - 1) - from + 1;
+    try {
+      for (StatementInfo info : fetcher.getStatements(from, size)) {
+        if (info != null && info.id != null) {
+          infos.put(info.id, info);
+        }
+      }
+    } catch (APINotFoundException e) {
+      LOGGER.info("Listing statements is not supported, pull the status of each statement");
+      listSupported = false;
+    } catch (LivyException e) {
+      // the statements of the span are pulled one by one, so that only those failing again fail
+      LOGGER.warn("Fail to list livy statements from " + from + ", size " + size, e);
+    }
+  }
+
+  /**
+   * Retry the pull of the statement later with exponential backoff, and fail the statement when
+   * it fails MAX_RETRIES times in a row, or when its session is gone.
+   */
+  private void onFetchFailure(int id, PendingStatement stmt, LivyException e) {
+    stmt.failures++;
+    if (stmt.failures > MAX_RETRIES || e instanceof SessionNotFoundException
+        || e instanceof SessionDeadException) {
+      LOGGER.warn("Fail to pull the status of livy statement " + id, e);
+      if (pending.remove(id, stmt)) {
+        stmt.future.completeExceptionally(e);
+      }
+      return;
+    }
+    long delay = Math.min(minInterval << stmt.failures, maxInterval);
+    LOGGER.info("Fail to pull the status of livy statement " + id + ", retry in " + delay
+        + " ms: " + e.getMessage());
+    stmt.retryAt = System.currentTimeMillis() + delay;
+  }
+
+  /**
+   * Stop polling, the statements still watched are completed exceptionally.
+   */
+  void close() {
+    synchronized (this) {
+      closed = true;
+      if (scheduled != null) {
+        scheduled.cancel(false);
+        scheduled = null;
+      }
+    }
+    for (Integer id : new ArrayList<>(pending.keySet())) {
+      PendingStatement stmt = pending.remove(id);
+      if (stmt != null) {
+        stmt.future.completeExceptionally(new LivyException("Statement poller is closed"));
+      }
+    }
+  }
+
+  /**
+   * Outcome of a poll: nothing changed, only progress changed, or a statement finished.
+   * A poll where only the progress changed keeps the interval.
+   */
+  private enum Change {
+    NONE, PROGRESS, FINISHED
+  }
+
+  private static class PendingStatement {
+    private final CompletableFuture<StatementInfo> future = new CompletableFuture<>();
+    private final ProgressListener listener;
+    private double progress;
+    private int failures;
+    private long retryAt;
+
+    PendingStatement(ProgressListener listener) {
+      this.listener = listener;
+    }
+  }
+}
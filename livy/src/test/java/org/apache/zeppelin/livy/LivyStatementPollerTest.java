@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.livy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.apache.zeppelin.livy.BaseLivyInterpreter.StatementInfo;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit test for LivyStatementPoller.
+ */
+public class LivyStatementPollerTest {
+
+  private final Map<Integer, String> states = new ConcurrentHashMap<>();
+  private final Map<Integer, Double> progresses = new ConcurrentHashMap<>();
+  private final AtomicInteger getCount = new AtomicInteger();
+  private final AtomicInteger listCount = new AtomicInteger();
+  private volatile boolean listSupported = true;
+  private volatile LivyException error;
+  private final Map<Integer, Integer> failures = new ConcurrentHashMap<>();
+  private final List<Integer> listSizes = new ArrayList<>();
+  private LivyStatementPoller poller;
+
+  private final LivyStatementPoller.StatementFetcher fetcher =
+      new LivyStatementPoller.StatementFetcher() {
+        @Override
+        public StatementInfo getStatement(int id) throws LivyException {
+          getCount.incrementAndGet();
+          if (error != null) {
+            throw error;
+          }
+          Integer failCount = failures.get(id);
+          if (failCount != null && failCount > 0) {
+            failures.put(id, failCount - 1);
+            throw new LivyException("Fail to pull statement " + id);
+          }
+          return statement(id);
+        }
+
+        @Override
+        public List<StatementInfo> getStatements(int from, int size) throws LivyException {
+          listCount.incrementAndGet();
+          synchronized (listSizes) {
+            listSizes.add(size);
+          }
+          if (!listSupported) {
+            throw new APINotFoundException("No rest api found");
+          }
+          List<StatementInfo> statements = new ArrayList<>();
+          for (int id = from; id < from + size; id++) {
+            if (states.containsKey(id)) {
+              statements.add(statement(id));
+            }
+          }
+          return statements;
+        }
+      };
+
+  @After
+  public void tearDown() {
+    if (poller != null) {
+      poller.close();
+    }
+  }
+
+  private StatementInfo statement(int id) {
+    StatementInfo stmtInfo = new StatementInfo();
+    stmtInfo.id = id;
+    stmtInfo.state = states.get(id);
+    stmtInfo.progress = progresses.containsKey(id) ? progresses.get(id) : 0;
+    return stmtInfo;
+  }
+
+  private CompletableFuture<StatementInfo> submit(int id, List<Double> progress) {
+    states.put(id, "running");
+    return poller.watch(statement(id), new LivyStatementPoller.ProgressListener() {
+      @Override
+      public void onProgress(double p) {
+        if (progress != null) {
+          progress.add(p);
+        }
+      }
+    });
+  }
+
+  @Test
+  public void testBatch() throws Exception {
+    poller = new LivyStatementPoller(fetcher, 20, 20);
+    List<Double> progress = new ArrayList<>();
+    CompletableFuture<StatementInfo> future0 = submit(0, progress);
+    CompletableFuture<StatementInfo> future1 = submit(1, null);
+    CompletableFuture<StatementInfo> future2 = submit(2, null);
+
+    Thread.sleep(200);
+    progresses.put(0, 0.5);
+    Thread.sleep(200);
+    states.put(0, "available");
+    states.put(1, "available");
+    states.put(2, "cancelled");
+    assertEquals(0, future0.get(5, TimeUnit.SECONDS).id.intValue());
+    assertEquals(1, future1.get(5, TimeUnit.SECONDS).id.intValue());
+    assertTrue(future2.get(5, TimeUnit.SECONDS).isCancelled());
+    assertEquals(0.5, progress.get(0), 0);
+    assertEquals(0, poller.getPendingCount());
+
+    // the statements are pulled with one request per poll
+    assertEquals(0, getCount.get());
+    assertTrue(listCount.get() > 0);
+    int polls = listCount.get();
+    Thread.sleep(200);
+    // stopped polling when no statement is watched
+    assertEquals(polls, listCount.get());
+  }
+
+  @Test
+  public void testBackoff() throws Exception {
+    poller = new LivyStatementPoller(fetcher, 10, 80);
+    CompletableFuture<StatementInfo> future0 = submit(0, null);
+    long start = System.currentTimeMillis();
+    while (poller.getInterval() < 80 && System.currentTimeMillis() - start < 5000) {
+      Thread.sleep(10);
+    }
+    assertEquals(80, poller.getInterval());
+    int polls = getCount.get();
+    Thread.sleep(500);
+    // at most one poll per max interval, plus jitter
+    assertTrue(getCount.get() - polls <= 7);
+
+    // a new statement is pulled with the min interval again
+    CompletableFuture<StatementInfo> future1 = submit(1, null);
+    assertTrue(poller.getInterval() < 80);
+    states.put(1, "available");
+    future1.get(5, TimeUnit.SECONDS);
+    states.put(0, "available");
+    future0.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testListNotSupported() throws Exception {
+    listSupported = false;
+    poller = new LivyStatementPoller(fetcher, 10, 10);
+    CompletableFuture<StatementInfo> future0 = submit(0, null);
+    CompletableFuture<StatementInfo> future1 = submit(1, null);
+    Thread.sleep(200);
+    states.put(0, "available");
+    states.put(1, "available");
+    future0.get(5, TimeUnit.SECONDS);
+    future1.get(5, TimeUnit.SECONDS);
+    // listing is only tried once, then each statement is pulled
+    assertEquals(1, listCount.get());
+    assertTrue(getCount.get() >= 2);
+  }
+
+  @Test
+  public void testError() throws Exception {
+    poller = new LivyStatementPoller(fetcher, 10, 10);
+    CompletableFuture<StatementInfo> future0 = submit(0, null);
+    error = new SessionNotFoundException("Session '0' not found.");
+    try {
+      future0.get(5, TimeUnit.SECONDS);
+      fail("Should fail to pull statement status");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof SessionNotFoundException);
+    }
+    assertEquals(0, poller.getPendingCount());
+  }
+
+  @Test
+  public void testListSpans() throws Exception {
+    assertEquals(Arrays.asList(Arrays.asList(1, 2, 4), Arrays.asList(30, 31)),
+        LivyStatementPoller.getListSpans(Arrays.asList(1, 2, 4, 10, 30, 31, 100)));
+    List<Integer> ids = new ArrayList<>();
+    for (int id = 0; id < LivyStatementPoller.MAX_LIST_SIZE + 1; id++) {
+      ids.add(id);
+    }
+    // a long run of ids is split, a single id left is pulled on its own
+    assertEquals(1, LivyStatementPoller.getListSpans(ids).size());
+    assertEquals(LivyStatementPoller.MAX_LIST_SIZE,
+        LivyStatementPoller.getListSpans(ids).get(0).size());
+
+    // an old statement still running doesn't make the list cover all the statements after it
+    poller = new LivyStatementPoller(fetcher, 10, 10);
+    CompletableFuture<StatementInfo> future0 = submit(0, null);
+    CompletableFuture<StatementInfo> future1 = submit(1000, null);
+    CompletableFuture<StatementInfo> future2 = submit(1001, null);
+    Thread.sleep(100);
+    states.put(0, "available");
+    states.put(1000, "available");
+    states.put(1001, "available");
+    future0.get(5, TimeUnit.SECONDS);
+    future1.get(5, TimeUnit.SECONDS);
+    future2.get(5, TimeUnit.SECONDS);
+    synchronized (listSizes) {
+      assertTrue(listSizes.size() > 0);
+      for (int size : listSizes) {
+        assertEquals(2, size);
+      }
+    }
+    assertTrue(getCount.get() > 0);
+  }
+
+  @Test
+  public void testRetry() throws Exception {
+    listSupported = false;
+    poller = new LivyStatementPoller(fetcher, 10, 40);
+    // statement 0 recovers within the retries, statement 1 doesn't
+    failures.put(0, LivyStatementPoller.MAX_RETRIES);
+    failures.put(1, LivyStatementPoller.MAX_RETRIES + 1);
+    CompletableFuture<StatementInfo> future0 = submit(0, null);
+    CompletableFuture<StatementInfo> future1 = submit(1, null);
+    CompletableFuture<StatementInfo> future2 = submit(2, null);
+    try {
+      future1.get(5, TimeUnit.SECONDS);
+      fail("Should fail to pull statement status");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof LivyException);
+    }
+    // the other statements are still watched
+    assertTrue(!future0.isDone());
+    assertTrue(!future2.isDone());
+    states.put(0, "available");
+    states.put(2, "available");
+    assertEquals(0, future0.get(5, TimeUnit.SECONDS).id.intValue());
+    assertEquals(2, future2.get(5, TimeUnit.SECONDS).id.intValue());
+    assertEquals(0, poller.getPendingCount());
+  }
+
+  @Test
+  public void testRemoveAndClose() throws Exception {
+    poller = new LivyStatementPoller(fetcher, 10, 10);
+    CompletableFuture<StatementInfo> future0 = submit(0, null);
+    CompletableFuture<StatementInfo> future1 = submit(1, null);
+    poller.remove(0);
+    assertTrue(future0.isCancelled());
+    assertEquals(1, poller.getPendingCount());
+
+    poller.close();
+    try {
+      future1.get(5, TimeUnit.SECONDS);
+      fail("Should fail after poller is closed");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof LivyException);
+    }
+    CompletableFuture<StatementInfo> future2 = submit(2, null);
+    assertTrue(future2.isCompletedExceptionally());
+  }
+}
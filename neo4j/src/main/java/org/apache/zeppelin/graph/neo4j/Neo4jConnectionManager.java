@@ -71,6 +71,13 @@ public class Neo4jConnectionManager {
    */
   public enum Neo4jAuthType {NONE, BASIC}
 
+  /**
+   * Consumes the records of a query while they are received.
+   */
+  public interface ResultConsumer<T> {
+    T consume(StatementResult result) throws Exception;
+  }
+
   public Neo4jConnectionManager(Properties properties) {
     this.neo4jUrl = properties.getProperty(NEO4J_SERVER_URL);
     this.config = Config.build()
@@ -113,6 +120,36 @@ public class Neo4jConnectionManager {
 
   public StatementResult execute(String cypherQuery,
       InterpreterContext interpreterContext) {
+    Map<String, Object> params = getParams(cypherQuery, interpreterContext);
+    LOGGER.debug("Executing cypher query {} with params {}", cypherQuery, params);
+    StatementResult result;
+    try (Session session = getSession()) {
+      result = params.isEmpty()
+            ? getSession().run(cypherQuery) : getSession().run(cypherQuery, params);
+    }
+    return result;
+  }
+
+  /**
+   * Runs a query and lets the consumer read its records. The records which are not read by the
+   * consumer, e.g. after a row limit, are discarded instead of being buffered, and the session
+   * is closed afterwards.
+   */
+  public <T> T execute(String cypherQuery, InterpreterContext interpreterContext,
+      ResultConsumer<T> consumer) throws Exception {
+    Map<String, Object> params = getParams(cypherQuery, interpreterContext);
+    LOGGER.debug("Executing cypher query {} with params {}", cypherQuery, params);
+    try (Session session = getSession()) {
+      StatementResult result = params.isEmpty()
+            ? session.run(cypherQuery) : session.run(cypherQuery, params);
+      T value = consumer.consume(result);
+      result.consume();
+      return value;
+    }
+  }
+
+  private Map<String, Object> getParams(String cypherQuery,
+      InterpreterContext interpreterContext) {
     Map<String, Object> params = new HashMap<>();
     if (interpreterContext != null) {
       ResourcePool resourcePool = interpreterContext.getResourcePool();
@@ -125,13 +162,7 @@ public class Neo4jConnectionManager {
         }
       }
     }
-    LOGGER.debug("Executing cypher query {} with params {}", cypherQuery, params);
-    StatementResult result;
-    try (Session session = getSession()) {
-      result = params.isEmpty()
-            ? getSession().run(cypherQuery) : getSession().run(cypherQuery, params);
-    }
-    return result;
+    return params;
   }
 
   public StatementResult execute(String cypherQuery) {
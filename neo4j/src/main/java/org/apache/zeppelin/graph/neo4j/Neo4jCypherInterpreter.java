@@ -19,7 +19,6 @@ package org.apache.zeppelin.graph.neo4j;
 
 import org.apache.commons.lang.StringUtils;
 import org.neo4j.driver.internal.types.InternalTypeSystem;
-import org.neo4j.driver.internal.util.Iterables;
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.StatementResult;
 import org.neo4j.driver.v1.Value;
@@ -28,8 +27,10 @@ import org.neo4j.driver.v1.types.Relationship;
 import org.neo4j.driver.v1.types.TypeSystem;
 import org.neo4j.driver.v1.util.Pair;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -40,11 +41,15 @@ import java.util.Set;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.apache.zeppelin.graph.neo4j.utils.IdSet;
 import org.apache.zeppelin.graph.neo4j.utils.Neo4jConversionUtils;
 import org.apache.zeppelin.interpreter.Interpreter;
 import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterOutput;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.apache.zeppelin.interpreter.ResultMessages;
 import org.apache.zeppelin.interpreter.graph.GraphResult;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
@@ -59,6 +64,13 @@ public class Neo4jCypherInterpreter extends Interpreter {
 
   private static final String MAP_KEY_TEMPLATE = "%s.%s";
 
+  public static final String NEO4J_MAX_RESULT = "neo4j.max.result";
+  // -1 (or any value <= 0) reads all rows
+  private static final String DEFAULT_MAX_RESULT = "1000";
+
+  // tables with more rows are written to the output while the records are read
+  static final int TABLE_STREAMING_ROWS = 100;
+
   private Map<String, String> labels;
 
   private Set<String> types;
@@ -122,44 +134,143 @@ public class Neo4jCypherInterpreter extends Interpreter {
       return new InterpreterResult(Code.SUCCESS);
     }
     try {
-      StatementResult result = this.neo4jConnectionManager.execute(cypherQuery,
-              interpreterContext);
-      Set<Node> nodes = new HashSet<>();
-      Set<Relationship> relationships = new HashSet<>();
-      List<String> columns = new ArrayList<>();
-      List<List<String>> lines = new ArrayList<List<String>>();
-      while (result.hasNext()) {
-        Record record = result.next();
-        List<Pair<String, Value>> fields = record.fields();
-        List<String> line = new ArrayList<>();
-        for (Pair<String, Value> field : fields) {
-          if (field.value().hasType(InternalTypeSystem.TYPE_SYSTEM.NODE())) {
-            nodes.add(field.value().asNode());
-          } else if (field.value().hasType(InternalTypeSystem.TYPE_SYSTEM.RELATIONSHIP())) {
-            relationships.add(field.value().asRelationship());
-          } else if (field.value().hasType(InternalTypeSystem.TYPE_SYSTEM.PATH())) {
-            nodes.addAll(Iterables.asList(field.value().asPath().nodes()));
-            relationships.addAll(Iterables.asList(field.value().asPath().relationships()));
-          } else {
-            setTabularResult(field.key(), field.value(), columns, line,
-                    InternalTypeSystem.TYPE_SYSTEM);
+      return this.neo4jConnectionManager.execute(cypherQuery, interpreterContext,
+          result -> renderResult(result, interpreterContext));
+    } catch (Exception e) {
+      logger.error("Exception while interpreting cypher query", e);
+      return new InterpreterResult(Code.ERROR, e.getMessage());
+    }
+  }
+
+  /**
+   * Reads the records while they are received, up to the max number of rows.
+   *
+   * Nodes and relationships are converted as they come, and kept once per id. Table rows are
+   * kept until there are TABLE_STREAMING_ROWS of them: a smaller table is returned in the
+   * result, as its columns are only known at the end. The columns of a larger table are the
+   * ones of its first rows, the table is written to the output of the context, and the next
+   * rows are written one by one without being kept.
+   */
+  InterpreterResult renderResult(StatementResult result, InterpreterContext interpreterContext)
+      throws IOException {
+    final int maxResult = getMaxResult();
+    List<org.apache.zeppelin.tabledata.Node> nodes = new ArrayList<>();
+    List<org.apache.zeppelin.tabledata.Relationship> relationships = new ArrayList<>();
+    IdSet nodeIds = new IdSet();
+    IdSet relationshipIds = new IdSet();
+    List<String> columns = new ArrayList<>();
+    List<List<String>> lines = new ArrayList<List<String>>();
+    InterpreterOutput out = interpreterContext == null ? null : interpreterContext.out;
+    // number of columns of the table written to the output, -1 while the table is kept
+    int streamedColumns = -1;
+    int rows = 0;
+    boolean truncated = false;
+    while (result.hasNext()) {
+      if (rows >= maxResult) {
+        truncated = true;
+        break;
+      }
+      Record record = result.next();
+      rows++;
+      List<Pair<String, Value>> fields = record.fields();
+      List<String> line = new ArrayList<>();
+      for (Pair<String, Value> field : fields) {
+        if (field.value().hasType(InternalTypeSystem.TYPE_SYSTEM.NODE())) {
+          addNode(field.value().asNode(), nodes, nodeIds);
+        } else if (field.value().hasType(InternalTypeSystem.TYPE_SYSTEM.RELATIONSHIP())) {
+          addRelationship(field.value().asRelationship(), relationships, relationshipIds);
+        } else if (field.value().hasType(InternalTypeSystem.TYPE_SYSTEM.PATH())) {
+          for (Node node : field.value().asPath().nodes()) {
+            addNode(node, nodes, nodeIds);
           }
+          for (Relationship relationship : field.value().asPath().relationships()) {
+            addRelationship(relationship, relationships, relationshipIds);
+          }
+        } else {
+          setTabularResult(field.key(), field.value(), columns, line,
+                  InternalTypeSystem.TYPE_SYSTEM);
         }
-        if (!line.isEmpty()) {
-          lines.add(line);
-        }
       }
-      if (!nodes.isEmpty()) {
-        return renderGraph(nodes, relationships);
+      if (line.isEmpty()) {
+        continue;
+      }
+      if (streamedColumns >= 0) {
+        writeLine(out, line, streamedColumns);
       } else {
-        return renderTable(columns, lines);
+        lines.add(line);
+        if (lines.size() >= TABLE_STREAMING_ROWS && nodes.isEmpty() && out != null) {
+          streamedColumns = columns.size();
+          out.setType(InterpreterResult.Type.TABLE);
+          out.write(StringUtils.join(columns, TAB) + NEW_LINE);
+          for (List<String> keptLine : lines) {
+            writeLine(out, keptLine, streamedColumns);
+          }
+          lines.clear();
+        }
       }
-    } catch (Exception e) {
-      logger.error("Exception while interpreting cypher query", e);
-      return new InterpreterResult(Code.ERROR, e.getMessage());
+    }
+
+    if (truncated) {
+      logger.info("Result of the query is truncated to {} rows", maxResult);
+    }
+    if (streamedColumns >= 0) {
+      if (truncated) {
+        InterpreterResultMessage msg =
+            ResultMessages.getExceedsLimitRowsMessage(maxResult, NEO4J_MAX_RESULT);
+        out.setType(msg.getType());
+        out.write(msg.getData());
+      }
+      out.flush();
+      return new InterpreterResult(Code.SUCCESS);
+    }
+
+    InterpreterResult interpreterResult = !nodes.isEmpty()
+        ? renderGraph(nodes, relationships) : renderTable(columns, lines);
+    if (truncated) {
+      interpreterResult.add(ResultMessages.getExceedsLimitRowsMessage(maxResult,
+          NEO4J_MAX_RESULT));
+    }
+    return interpreterResult;
+  }
+
+  /**
+   * @return max number of rows read, Integer.MAX_VALUE if there's no limit
+   */
+  private int getMaxResult() {
+    int maxResult = Integer.parseInt(getProperty(NEO4J_MAX_RESULT, DEFAULT_MAX_RESULT));
+    return maxResult <= 0 ? Integer.MAX_VALUE : maxResult;
+  }
+
+  private void addNode(Node node, List<org.apache.zeppelin.tabledata.Node> nodes,
+      IdSet nodeIds) {
+    if (nodeIds.add(node.id())) {
+      // the colors of the labels are set when the graph is rendered
+      nodes.add(Neo4jConversionUtils.toZeppelinNode(node, Collections.<String, String>emptyMap()));
     }
   }
 
+  private void addRelationship(Relationship relationship,
+      List<org.apache.zeppelin.tabledata.Relationship> relationships, IdSet relationshipIds) {
+    if (relationshipIds.add(relationship.id())) {
+      relationships.add(Neo4jConversionUtils.toZeppelinRelationship(relationship));
+    }
+  }
+
+  private void writeLine(InterpreterOutput out, List<String> line, int columns)
+      throws IOException {
+    StringBuilder msg = new StringBuilder();
+    for (int i = 0; i < columns; i++) {
+      if (i > 0) {
+        msg.append(TAB);
+      }
+      if (i < line.size() && line.get(i) != null) {
+        msg.append(line.get(i));
+      }
+    }
+    msg.append(NEW_LINE);
+    out.write(msg.toString());
+  }
+
   private void setTabularResult(String key, Object obj, List<String> columns, List<String> line,
       TypeSystem typeSystem) {
     if (obj instanceof Value) {
@@ -251,20 +362,12 @@ public class Neo4jCypherInterpreter extends Interpreter {
     return new InterpreterResult(Code.SUCCESS, msg.toString());
   }
 
-  private InterpreterResult renderGraph(Set<Node> nodes,
-      Set<Relationship> relationships) {
+  private InterpreterResult renderGraph(List<org.apache.zeppelin.tabledata.Node> nodes,
+      List<org.apache.zeppelin.tabledata.Relationship> relationships) {
     logger.info("Executing renderGraph method");
-    List<org.apache.zeppelin.tabledata.Node> nodesList = new ArrayList<>();
-    List<org.apache.zeppelin.tabledata.Relationship> relsList = new ArrayList<>();
-    for (Relationship rel : relationships) {
-      relsList.add(Neo4jConversionUtils.toZeppelinRelationship(rel));
-    }
     Map<String, String> labels = getLabels(true);
-    for (Node node : nodes) {
-      nodesList.add(Neo4jConversionUtils.toZeppelinNode(node, labels));
-    }
     return new GraphResult(Code.SUCCESS,
-        new GraphResult.Graph(nodesList, relsList, labels, getTypes(true), true));
+        new GraphResult.Graph(nodes, relationships, labels, getTypes(true), true));
   }
 
   @Override
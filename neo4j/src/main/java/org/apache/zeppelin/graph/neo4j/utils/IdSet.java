@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.graph.neo4j.utils;
+
+/**
+ * Compact set of Neo4j ids, to find out whether a node or a relationship was already seen.
+ * The ids are kept in an open addressing hash table of primitive longs, so the memory depends
+ * on the number of ids seen, not on their values, and ids are not boxed.
+ */
+public class IdSet {
+  private static final int INITIAL_CAPACITY = 64;
+  // 0 marks a free slot, so id 0 is kept apart
+  private static final long FREE = 0;
+
+  private long[] table = new long[INITIAL_CAPACITY];
+  private boolean containsFree = false;
+  private int size = 0;
+
+  /**
+   * @return true if the id wasn't in the set
+   */
+  public boolean add(long id) {
+    if (id == FREE) {
+      if (containsFree) {
+        return false;
+      }
+      containsFree = true;
+      size++;
+      return true;
+    }
+    int slot = findSlot(table, id);
+    if (table[slot] == id) {
+      return false;
+    }
+    table[slot] = id;
+    size++;
+    // keep the table at most half full, so the probe sequences stay short
+    if (size * 2 > table.length) {
+      grow();
+    }
+    return true;
+  }
+
+  public boolean contains(long id) {
+    if (id == FREE) {
+      return containsFree;
+    }
+    return table[findSlot(table, id)] == id;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private void grow() {
+    long[] newTable = new long[table.length * 2];
+    for (long id : table) {
+      if (id != FREE) {
+        newTable[findSlot(newTable, id)] = id;
+      }
+    }
+    table = newTable;
+  }
+
+  /**
+   * @return slot of id in table, or the free slot where it belongs
+   */
+  private static int findSlot(long[] table, long id) {
+    int mask = table.length - 1;
+    int slot = hash(id) & mask;
+    while (table[slot] != FREE && table[slot] != id) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /**
+   * Spreads the bits of dense ids over the table, like the finalizer of MurmurHash3.
+   */
+  private static int hash(long id) {
+    long h = id;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    return (int) h;
+  }
+}
@@ -23,7 +23,9 @@ import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterOutput;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResult.Code;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.interpreter.graph.GraphResult;
+import org.apache.zeppelin.tabledata.Node;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -33,15 +35,24 @@ import org.junit.Test;
 import org.junit.runners.MethodSorters;
 import org.neo4j.harness.ServerControls;
 import org.neo4j.harness.TestServerBuilders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 @FixMethodOrder(MethodSorters.NAME_ASCENDING)
 public class Neo4jCypherInterpreterTest {
+  private static final Logger LOGGER = LoggerFactory.getLogger(Neo4jCypherInterpreterTest.class);
 
   private Neo4jCypherInterpreter interpreter;
 
@@ -319,4 +330,136 @@ public class Neo4jCypherInterpreterTest {
                     "12.0\t56.0\t1000.0\n",
             result.toString().replace(TABLE_RESULT_PREFIX, StringUtils.EMPTY));
   }
+
+  private Neo4jCypherInterpreter createInterpreter(int maxResult) {
+    Properties p = new Properties();
+    p.setProperty(Neo4jConnectionManager.NEO4J_SERVER_URL, server.boltURI().toString());
+    p.setProperty(Neo4jConnectionManager.NEO4J_AUTH_TYPE, Neo4jAuthType.NONE.toString());
+    p.setProperty(Neo4jConnectionManager.NEO4J_MAX_CONCURRENCY, "50");
+    p.setProperty(Neo4jCypherInterpreter.NEO4J_MAX_RESULT, "" + maxResult);
+    Neo4jCypherInterpreter neo4jInterpreter = new Neo4jCypherInterpreter(p);
+    neo4jInterpreter.open();
+    return neo4jInterpreter;
+  }
+
+  @Test
+  public void testStreamingTable() throws IOException {
+    interpreter.open();
+    InterpreterResult result = interpreter.interpret(
+            "UNWIND range(1, 150) AS x RETURN x, 'name' + x AS name", context);
+    assertEquals(Code.SUCCESS, result.code());
+    // the table is written to the output instead of being returned
+    assertEquals(0, result.message().size());
+    List<InterpreterResultMessage> messages = context.out.toInterpreterResultMessage();
+    assertEquals(1, messages.size());
+    assertEquals(InterpreterResult.Type.TABLE, messages.get(0).getType());
+    String[] rows = messages.get(0).getData().split(Neo4jCypherInterpreter.NEW_LINE);
+    assertEquals(151, rows.length);
+    assertEquals("x\tname", rows[0]);
+    assertEquals("150\t\"name150\"", rows[150]);
+  }
+
+  @Test
+  public void testMaxResult() throws IOException {
+    Neo4jCypherInterpreter limitedInterpreter = createInterpreter(10);
+    try {
+      InterpreterResult result = limitedInterpreter.interpret(
+              "UNWIND range(1, 50) AS x RETURN x", context);
+      assertEquals(Code.SUCCESS, result.code());
+      assertEquals(2, result.message().size());
+      assertEquals(11, result.message().get(0).getData()
+              .split(Neo4jCypherInterpreter.NEW_LINE).length);
+      assertEquals(InterpreterResult.Type.HTML, result.message().get(1).getType());
+    } finally {
+      limitedInterpreter.close();
+    }
+
+    // the limit also applies to the tables written to the output
+    limitedInterpreter = createInterpreter(Neo4jCypherInterpreter.TABLE_STREAMING_ROWS + 10);
+    try {
+      InterpreterResult result = limitedInterpreter.interpret(
+              "UNWIND range(1, 1000) AS x RETURN x", context);
+      assertEquals(Code.SUCCESS, result.code());
+      List<InterpreterResultMessage> messages = context.out.toInterpreterResultMessage();
+      assertEquals(2, messages.size());
+      assertEquals(Neo4jCypherInterpreter.TABLE_STREAMING_ROWS + 11,
+              messages.get(0).getData().split(Neo4jCypherInterpreter.NEW_LINE).length);
+      assertEquals(InterpreterResult.Type.HTML, messages.get(1).getType());
+    } finally {
+      limitedInterpreter.close();
+    }
+
+    // -1 reads all rows
+    context = InterpreterContext.builder()
+        .setInterpreterOut(new InterpreterOutput(null))
+        .build();
+    Neo4jCypherInterpreter unlimitedInterpreter = createInterpreter(-1);
+    try {
+      InterpreterResult result = unlimitedInterpreter.interpret(
+              "UNWIND range(1, 1500) AS x RETURN x", context);
+      assertEquals(Code.SUCCESS, result.code());
+      List<InterpreterResultMessage> messages = context.out.toInterpreterResultMessage();
+      assertEquals(1, messages.size());
+      assertEquals(1501,
+              messages.get(0).getData().split(Neo4jCypherInterpreter.NEW_LINE).length);
+    } finally {
+      unlimitedInterpreter.close();
+    }
+  }
+
+  @Test
+  public void testRenderNetworkWithPaths() {
+    interpreter.open();
+    // paths share nodes, which are kept once
+    InterpreterResult result = interpreter.interpret(
+            "MATCH p = (n)-[:KNOWS]->(m) RETURN p, n LIMIT 20", context);
+    assertEquals(Code.SUCCESS, result.code());
+    GraphResult.Graph graph = gson.fromJson(result.toString().replace(NETWORK_RESULT_PREFIX,
+            StringUtils.EMPTY), GraphResult.Graph.class);
+    Set<Long> nodeIds = new HashSet<>();
+    for (Node node : graph.getNodes()) {
+      assertTrue(nodeIds.add(node.getId()));
+    }
+    assertEquals(20, graph.getEdges().size());
+  }
+
+  /**
+   * Measures the peak heap used by a query returning many rows, which are written to the
+   * output while they are read.
+   */
+  @Test
+  public void testStreamingMemory() throws Exception {
+    final int rows = 200000;
+    Neo4jCypherInterpreter streamingInterpreter = createInterpreter(rows);
+    try {
+      final Runtime runtime = Runtime.getRuntime();
+      System.gc();
+      final long before = runtime.totalMemory() - runtime.freeMemory();
+      final AtomicLong peak = new AtomicLong(before);
+      final AtomicBoolean running = new AtomicBoolean(true);
+      Thread sampler = new Thread(() -> {
+        while (running.get()) {
+          peak.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+          try {
+            Thread.sleep(5);
+          } catch (InterruptedException e) {
+            return;
+          }
+        }
+      });
+      sampler.start();
+      long start = System.currentTimeMillis();
+      InterpreterResult result = streamingInterpreter.interpret("UNWIND range(1, " + rows
+              + ") AS x RETURN x, 'name' + x AS name, x % 10 AS age", context);
+      long time = System.currentTimeMillis() - start;
+      running.set(false);
+      sampler.join();
+
+      assertEquals(Code.SUCCESS, result.code());
+      LOGGER.info("Read {} rows in {} ms, peak heap increase {} MB", rows, time,
+              (peak.get() - before) / (1024 * 1024));
+    } finally {
+      streamingInterpreter.close();
+    }
+  }
 }
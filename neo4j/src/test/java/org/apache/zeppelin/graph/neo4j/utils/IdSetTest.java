@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.graph.neo4j.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class IdSetTest {
+
+  @Test
+  public void testAddAndContains() {
+    IdSet ids = new IdSet();
+    long[] values = {0, 1, 2, 63, 64, Integer.MAX_VALUE, Long.MAX_VALUE, -1, Long.MIN_VALUE};
+    for (long id : values) {
+      assertFalse(ids.contains(id));
+      assertTrue(ids.add(id));
+      assertTrue(ids.contains(id));
+      assertFalse(ids.add(id));
+    }
+    assertEquals(values.length, ids.size());
+  }
+
+  @Test
+  public void testManySparseIds() {
+    IdSet ids = new IdSet();
+    // sparse ids, a bit set would need a bit for every id up to the largest one
+    for (long i = 0; i < 100000; i++) {
+      assertTrue(ids.add(i * 1000003L));
+    }
+    assertEquals(100000, ids.size());
+    for (long i = 0; i < 100000; i++) {
+      assertTrue(ids.contains(i * 1000003L));
+      assertFalse(ids.contains(i * 1000003L + 1));
+    }
+  }
+}
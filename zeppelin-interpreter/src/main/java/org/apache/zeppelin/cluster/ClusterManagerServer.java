@@ -34,6 +34,9 @@ import io.atomix.utils.net.Address;
 import org.apache.commons.lang.StringUtils;
 import org.apache.zeppelin.cluster.event.ClusterEventListener;
 import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.apache.zeppelin.cluster.placement.ClusterPlacementEngine;
+import org.apache.zeppelin.cluster.placement.PlacementPolicy;
+import org.apache.zeppelin.cluster.placement.ResourceRequest;
 import org.apache.zeppelin.cluster.protocol.RaftServerMessagingProtocol;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.slf4j.Logger;
@@ -49,6 +52,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 
+import static org.apache.zeppelin.cluster.meta.ClusterMetaType.INTP_PROCESS_META;
 import static org.apache.zeppelin.cluster.meta.ClusterMetaType.SERVER_META;
 
 /**
@@ -77,8 +81,13 @@ public class ClusterManagerServer extends ClusterManager {
   public static String CLUSTER_AUTH_EVENT_TOPIC = "CLUSTER_AUTH_EVENT_TOPIC";
   public static String CLUSTER_INTP_SETTING_EVENT_TOPIC = "CLUSTER_INTP_SETTING_EVENT_TOPIC";
 
+  private ClusterPlacementEngine placementEngine;
+
   private ClusterManagerServer(ZeppelinConfiguration zConf) {
     super(zConf);
+    placementEngine = new ClusterPlacementEngine(
+        PlacementPolicy.fromString(zConf.getClusterPlacementPolicy()),
+        zConf.getClusterPlacementReservationTimeout());
   }
 
   public static ClusterManagerServer getInstance(ZeppelinConfiguration zConf) {
@@ -261,31 +270,19 @@ public class ClusterManagerServer extends ClusterManager {
     instance = null;
   }
 
-  // Obtain the server node whose resources are idle in the cluster
-  public HashMap<String, Object> getIdleNodeMeta() {
-    HashMap<String, Object> idleNodeMeta = null;
-    HashMap<String, HashMap<String, Object>> clusterMeta = getClusterMeta(SERVER_META, "");
-
-    long memoryIdle = 0;
-    for (Map.Entry<String, HashMap<String, Object>> entry : clusterMeta.entrySet()) {
-      HashMap<String, Object> meta = entry.getValue();
-      // Check if the service or process is offline
-      String status = (String) meta.get(ClusterMeta.STATUS);
-      if (null == status || StringUtils.isEmpty(status)
-          || status.equals(ClusterMeta.OFFLINE_STATUS)) {
-        continue;
-      }
+  // Obtain the server node which the interpreter process should be launched on,
+  // taking into account the processes placed since the last heartbeat
+  public HashMap<String, Object> getIdleNodeMeta(String intpGroupId, ResourceRequest request) {
+    HashMap<String, HashMap<String, Object>> serverMeta = getClusterMeta(SERVER_META, "");
+    HashMap<String, HashMap<String, Object>> intpMeta = getClusterMeta(INTP_PROCESS_META, "");
 
-      long memoryCapacity  = (long) meta.get(ClusterMeta.MEMORY_CAPACITY);
-      long memoryUsed      = (long) meta.get(ClusterMeta.MEMORY_USED);
-      long idle = memoryCapacity - memoryUsed;
-      if (idle > memoryIdle) {
-        memoryIdle = idle;
-        idleNodeMeta = meta;
-      }
-    }
+    return placementEngine.place(intpGroupId, request, serverMeta, intpMeta);
+  }
 
-    return idleNodeMeta;
+  // Release the resources reserved for the interpreter process once it is launched,
+  // either it reports its own usage now or it failed to launch
+  public void releaseNodeReservation(String intpGroupId) {
+    placementEngine.release(intpGroupId);
   }
 
   public void unicastClusterEvent(String host, int port, String topic, String msg) {
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster.placement;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Choose the server node on which an interpreter process is launched.
+ *
+ * The resource usage in the cluster meta is only refreshed by heartbeats, and it is averaged
+ * over the last heartbeats, so a new process shows up in it only minutes after its launch.
+ * Launches in that time would all see the same "idlest" node. The engine keeps a reservation
+ * for every placed process until it expires (or the launch fails), and counts the reserved
+ * resources as used when scoring nodes for later launches.
+ */
+public class ClusterPlacementEngine {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ClusterPlacementEngine.class);
+
+  private static final double MEMORY_WEIGHT = 1.0;
+  private static final double CPU_WEIGHT = 1.0;
+  private static final double PROCESS_WEIGHT = 1.0;
+
+  private final PlacementPolicy policy;
+  private final long reservationTimeout;
+
+  // InterpreterGroupId -> Reservation
+  private final Map<String, Reservation> reservations = new HashMap<>();
+
+  public ClusterPlacementEngine(PlacementPolicy policy, long reservationTimeout) {
+    this.policy = policy;
+    this.reservationTimeout = reservationTimeout;
+  }
+
+  /**
+   * Place the interpreter process based on the cluster meta.
+   *
+   * @return the SERVER_META of the chosen node, null if no node can hold the request
+   */
+  public synchronized HashMap<String, Object> place(
+      String intpGroupId, ResourceRequest request,
+      Map<String, HashMap<String, Object>> serverMeta,
+      Map<String, HashMap<String, Object>> intpMeta) {
+    long now = System.currentTimeMillis();
+    expireReservations(now);
+
+    // reserved processes are counted by the reservations until they expire
+    Set<String> reservedIntpGroupIds = new HashSet<>(reservations.keySet());
+    List<NodeResource> nodes = new ArrayList<>();
+    for (Map.Entry<String, HashMap<String, Object>> entry : serverMeta.entrySet()) {
+      if (entry.getValue() == null) {
+        continue;
+      }
+      NodeResource node = NodeResource.fromClusterMeta(
+          entry.getKey(), entry.getValue(), intpMeta, reservedIntpGroupIds);
+      if (node != null) {
+        nodes.add(node);
+      }
+    }
+
+    NodeResource node = place(intpGroupId, request, nodes, now);
+    return node == null ? null : node.getMeta();
+  }
+
+  @VisibleForTesting
+  synchronized NodeResource place(String intpGroupId, ResourceRequest request,
+                                  Collection<NodeResource> nodes, long now) {
+    expireReservations(now);
+    // A relaunch of the same interpreter group replaces its previous reservation
+    reservations.remove(intpGroupId);
+
+    int maxProcessCount = 0;
+    for (NodeResource node : nodes) {
+      maxProcessCount = Math.max(maxProcessCount,
+          node.getProcessCount() + getReservedUsage(node.getNodeName()).processCount);
+    }
+
+    NodeResource chosenNode = null;
+    double chosenScore = 0;
+    for (NodeResource node : nodes) {
+      Usage reserved = getReservedUsage(node.getNodeName());
+      long memoryUsed = node.getMemoryUsed() + reserved.memory + request.getMemory();
+      if (memoryUsed > node.getMemoryCapacity()) {
+        continue;
+      }
+
+      double score = MEMORY_WEIGHT * memoryUsed / node.getMemoryCapacity();
+      if (node.getCpuCapacity() > 0) {
+        long cpuUsed = node.getCpuUsed() + reserved.cpu + request.getCpu();
+        score += CPU_WEIGHT * Math.min(1.0, (double) cpuUsed / node.getCpuCapacity());
+      }
+      int processCount = node.getProcessCount() + reserved.processCount + 1;
+      score += PROCESS_WEIGHT * processCount / (maxProcessCount + 1);
+
+      if (chosenNode == null || isBetter(score, chosenScore)
+          || (score == chosenScore
+          && node.getNodeName().compareTo(chosenNode.getNodeName()) < 0)) {
+        chosenNode = node;
+        chosenScore = score;
+      }
+    }
+
+    if (chosenNode == null) {
+      LOGGER.warn("No node in the cluster can hold {} for {}", request, intpGroupId);
+      return null;
+    }
+
+    reservations.put(intpGroupId,
+        new Reservation(chosenNode.getNodeName(), request, now + reservationTimeout));
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Place {} on {} with score {}, policy {}",
+          intpGroupId, chosenNode.getNodeName(), chosenScore, policy);
+    }
+    return chosenNode;
+  }
+
+  private boolean isBetter(double score, double chosenScore) {
+    switch (policy) {
+      case BINPACK:
+        return score > chosenScore;
+      case SPREAD:
+      default:
+        return score < chosenScore;
+    }
+  }
+
+  /**
+   * Release the reservation of the interpreter process when it failed to start.
+   */
+  public synchronized void release(String intpGroupId) {
+    reservations.remove(intpGroupId);
+  }
+
+  public synchronized int getReservationCount() {
+    return reservations.size();
+  }
+
+  private void expireReservations(long now) {
+    Iterator<Map.Entry<String, Reservation>> iterator = reservations.entrySet().iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().getValue().expireTime <= now) {
+        iterator.remove();
+      }
+    }
+  }
+
+  private Usage getReservedUsage(String nodeName) {
+    Usage usage = new Usage();
+    for (Reservation reservation : reservations.values()) {
+      if (reservation.nodeName.equals(nodeName)) {
+        usage.memory += reservation.request.getMemory();
+        usage.cpu += reservation.request.getCpu();
+        usage.processCount++;
+      }
+    }
+    return usage;
+  }
+
+  private static class Reservation {
+    private final String nodeName;
+    private final ResourceRequest request;
+    private final long expireTime;
+
+    Reservation(String nodeName, ResourceRequest request, long expireTime) {
+      this.nodeName = nodeName;
+      this.request = request;
+      this.expireTime = expireTime;
+    }
+  }
+
+  private static class Usage {
+    private long memory = 0;
+    private long cpu = 0;
+    private int processCount = 0;
+  }
+}
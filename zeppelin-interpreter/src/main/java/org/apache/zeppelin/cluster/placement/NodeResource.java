@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster.placement;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.zeppelin.cluster.meta.ClusterMeta;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resource snapshot of a zeppelin server node, built from the last heartbeat in the cluster meta
+ */
+public class NodeResource {
+  private final String nodeName;
+  private final long memoryCapacity;
+  private final long memoryUsed;
+  private final long cpuCapacity;
+  private final long cpuUsed;
+  private final int processCount;
+  private final HashMap<String, Object> meta;
+
+  public NodeResource(String nodeName, long memoryCapacity, long memoryUsed,
+                      long cpuCapacity, long cpuUsed, int processCount,
+                      HashMap<String, Object> meta) {
+    this.nodeName = nodeName;
+    this.memoryCapacity = memoryCapacity;
+    this.memoryUsed = memoryUsed;
+    this.cpuCapacity = cpuCapacity;
+    this.cpuUsed = cpuUsed;
+    this.processCount = processCount;
+    this.meta = meta;
+  }
+
+  /**
+   * Build the node resource from SERVER_META, return null if the node is offline
+   * or has not reported its usage yet.
+   *
+   * @param nodeName cluster node name
+   * @param serverMeta SERVER_META of this node
+   * @param intpMeta all INTP_PROCESS_META, used to count the processes running on this node
+   * @param excludedIntpGroupIds processes that should not be counted, e.g. reserved ones
+   */
+  public static NodeResource fromClusterMeta(String nodeName,
+                                             HashMap<String, Object> serverMeta,
+                                             Map<String, HashMap<String, Object>> intpMeta,
+                                             Set<String> excludedIntpGroupIds) {
+    String status = (String) serverMeta.get(ClusterMeta.STATUS);
+    if (StringUtils.isEmpty(status) || status.equals(ClusterMeta.OFFLINE_STATUS)) {
+      return null;
+    }
+    if (!(serverMeta.get(ClusterMeta.MEMORY_CAPACITY) instanceof Long)
+        || !(serverMeta.get(ClusterMeta.MEMORY_USED) instanceof Long)) {
+      return null;
+    }
+
+    long memoryCapacity = (long) serverMeta.get(ClusterMeta.MEMORY_CAPACITY);
+    long memoryUsed = (long) serverMeta.get(ClusterMeta.MEMORY_USED);
+    long cpuCapacity = getLong(serverMeta, ClusterMeta.CPU_CAPACITY);
+    long cpuUsed = getLong(serverMeta, ClusterMeta.CPU_USED);
+
+    int processCount = 0;
+    if (intpMeta != null) {
+      for (Map.Entry<String, HashMap<String, Object>> entry : intpMeta.entrySet()) {
+        HashMap<String, Object> meta = entry.getValue();
+        if (excludedIntpGroupIds.contains(entry.getKey())) {
+          continue;
+        }
+        if (meta != null && nodeName.equals(meta.get(ClusterMeta.NODE_NAME))
+            && !ClusterMeta.OFFLINE_STATUS.equals(meta.get(ClusterMeta.STATUS))) {
+          processCount++;
+        }
+      }
+    }
+
+    return new NodeResource(nodeName, memoryCapacity, memoryUsed,
+        cpuCapacity, cpuUsed, processCount, serverMeta);
+  }
+
+  private static long getLong(Map<String, Object> meta, String key) {
+    Object value = meta.get(key);
+    return value instanceof Long ? (long) value : 0;
+  }
+
+  public String getNodeName() {
+    return nodeName;
+  }
+
+  public long getMemoryCapacity() {
+    return memoryCapacity;
+  }
+
+  public long getMemoryUsed() {
+    return memoryUsed;
+  }
+
+  public long getCpuCapacity() {
+    return cpuCapacity;
+  }
+
+  public long getCpuUsed() {
+    return cpuUsed;
+  }
+
+  public int getProcessCount() {
+    return processCount;
+  }
+
+  public HashMap<String, Object> getMeta() {
+    return meta;
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster.placement;
+
+/**
+ * Policy used to choose a server node when launching an interpreter process in cluster mode
+ */
+public enum PlacementPolicy {
+  // Place the process on the least loaded node, spreading processes across the cluster
+  SPREAD,
+  // Place the process on the most loaded node that can still hold it,
+  // keeping the other nodes free for large requests
+  BINPACK;
+
+  public static PlacementPolicy fromString(String policy) {
+    for (PlacementPolicy value : values()) {
+      if (value.name().equalsIgnoreCase(policy)) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Unknown cluster placement policy: " + policy);
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster.placement;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.Properties;
+
+/**
+ * Resources requested by an interpreter process, taken from the interpreter setting properties.
+ * Memory is in bytes, cpu uses the unit of ClusterMeta.CPU_CAPACITY (100 per core).
+ */
+public class ResourceRequest {
+  public static final String MEMORY_PROPERTY = "zeppelin.interpreter.cluster.memory";
+  public static final String CPU_PROPERTY = "zeppelin.interpreter.cluster.cpu";
+
+  public static final long DEFAULT_MEMORY = 1024L * 1024 * 1024;
+  public static final long DEFAULT_CPU = 100;
+
+  private final long memory;
+  private final long cpu;
+
+  public ResourceRequest(long memory, long cpu) {
+    this.memory = memory;
+    this.cpu = cpu;
+  }
+
+  public static ResourceRequest fromProperties(Properties properties) {
+    long memory = DEFAULT_MEMORY;
+    long cpu = DEFAULT_CPU;
+    if (properties != null) {
+      String memoryValue = properties.getProperty(MEMORY_PROPERTY);
+      if (StringUtils.isNotBlank(memoryValue)) {
+        memory = parseMemory(memoryValue);
+      }
+      String cpuValue = properties.getProperty(CPU_PROPERTY);
+      if (StringUtils.isNotBlank(cpuValue)) {
+        cpu = (long) (Double.parseDouble(cpuValue.trim()) * 100);
+      }
+    }
+    return new ResourceRequest(memory, cpu);
+  }
+
+  /**
+   * Parse memory size such as 512m, 2g or 1073741824 into bytes.
+   */
+  static long parseMemory(String value) {
+    String memory = value.trim().toLowerCase();
+    long unit = 1;
+    char suffix = memory.charAt(memory.length() - 1);
+    switch (suffix) {
+      case 'k':
+        unit = 1024L;
+        break;
+      case 'm':
+        unit = 1024L * 1024;
+        break;
+      case 'g':
+        unit = 1024L * 1024 * 1024;
+        break;
+      case 't':
+        unit = 1024L * 1024 * 1024 * 1024;
+        break;
+      default:
+        break;
+    }
+    if (unit != 1) {
+      memory = memory.substring(0, memory.length() - 1);
+    }
+    return (long) (Double.parseDouble(memory) * unit);
+  }
+
+  public long getMemory() {
+    return memory;
+  }
+
+  public long getCpu() {
+    return cpu;
+  }
+
+  @Override
+  public String toString() {
+    return "ResourceRequest{memory=" + memory + ", cpu=" + cpu + "}";
+  }
+}
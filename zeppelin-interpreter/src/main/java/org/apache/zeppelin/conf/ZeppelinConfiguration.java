@@ -489,6 +489,17 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getString(ConfVars.ZEPPELIN_INTERPRETER_JSON);
   }
 
+  /**
+   * @return path of the index of interpreter-setting.json of all interpreters, null if disabled
+   */
+  public String getInterpreterDiscoveryIndexPath() {
+    String index = getString(ConfVars.ZEPPELIN_INTERPRETER_DISCOVERY_INDEX);
+    if (StringUtils.isBlank(index)) {
+      return null;
+    }
+    return getRelativeDir(String.format("%s/%s", getConfDir(), index));
+  }
+
   public String getInterpreterSettingPath() {
     return getConfigFSDir() + "/interpreter.json";
   }
@@ -517,6 +528,10 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getConfigFSDir() + "/notebook-authorization.json";
   }
 
+  public String getNotebookCronInfoPath() {
+    return getConfigFSDir() + "/notebook-cron.json";
+  }
+
   public Boolean credentialsPersist() {
     return getBoolean(ConfVars.ZEPPELIN_CREDENTIALS_PERSIST);
   }
@@ -566,6 +581,66 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getString(ConfVars.ZEPPELIN_INTERPRETER_RPC_PORTRANGE);
   }
 
+  public String getInterpreterRpcTransport() {
+    return getString(ConfVars.ZEPPELIN_INTERPRETER_RPC_TRANSPORT);
+  }
+
+  public int getAngularObjectMaxUpdateRate() {
+    return getInt(ConfVars.ZEPPELIN_ANGULAR_OBJECT_MAX_UPDATE_RATE);
+  }
+
+  public int getAngularObjectPatchThreshold() {
+    return getInt(ConfVars.ZEPPELIN_ANGULAR_OBJECT_PATCH_THRESHOLD);
+  }
+
+  public long getInterpreterOutputBatchInterval() {
+    return getLong(ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_BATCH_INTERVAL);
+  }
+
+  public int getInterpreterOutputBatchSize() {
+    return getInt(ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_BATCH_SIZE);
+  }
+
+  public long getInterpreterOutputUpdateInterval() {
+    return getLong(ConfVars.ZEPPELIN_INTERPRETER_OUTPUT_UPDATE_INTERVAL);
+  }
+
+  public long getResourcePoolCacheTtl() {
+    return getLong(ConfVars.ZEPPELIN_RESOURCE_POOL_CACHE_TTL);
+  }
+
+  public int getResourceTransferChunkSize() {
+    return getInt(ConfVars.ZEPPELIN_RESOURCE_POOL_TRANSFER_CHUNK_SIZE);
+  }
+
+  public int getResourceTransferSpillThreshold() {
+    return getInt(ConfVars.ZEPPELIN_RESOURCE_POOL_TRANSFER_SPILL_THRESHOLD);
+  }
+
+  public String getResourceTransferSpillDir() {
+    return getRelativeDir(ConfVars.ZEPPELIN_RESOURCE_POOL_TRANSFER_SPILL_DIR);
+  }
+
+  public String getParagraphOutputJournalDir() {
+    return getRelativeDir(ConfVars.ZEPPELIN_PARAGRAPH_OUTPUT_JOURNAL_DIR);
+  }
+
+  public long getParagraphResultCacheTtl() {
+    return getLong(ConfVars.ZEPPELIN_PARAGRAPH_RESULT_CACHE_TTL);
+  }
+
+  public long getParagraphStreamTimeout() {
+    return getLong(ConfVars.ZEPPELIN_PARAGRAPH_STREAM_TIMEOUT);
+  }
+
+  public long getParagraphResultCacheMaxSize() {
+    return getLong(ConfVars.ZEPPELIN_PARAGRAPH_RESULT_CACHE_MAX_SIZE);
+  }
+
+  public String getSchedulerThreadBackend() {
+    return getString(ConfVars.ZEPPELIN_SCHEDULER_THREAD_BACKEND);
+  }
+
   public boolean isWindowsPath(String path){
     return path.matches("^[A-Za-z]:\\\\.*");
   }
@@ -724,6 +799,14 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getInt(ConfVars.ZEPPELIN_CLUSTER_HEARTBEAT_TIMEOUT);
   }
 
+  public String getClusterPlacementPolicy() {
+    return getString(ConfVars.ZEPPELIN_CLUSTER_PLACEMENT_POLICY);
+  }
+
+  public long getClusterPlacementReservationTimeout() {
+    return getLong(ConfVars.ZEPPELIN_CLUSTER_PLACEMENT_RESERVATION_TIMEOUT);
+  }
+
   public RUN_MODE getRunMode() {
     String mode = getString(ConfVars.ZEPPELIN_RUN_MODE);
     if ("auto".equalsIgnoreCase(mode)) { // auto detect
@@ -750,6 +833,14 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     return getString(ConfVars.ZEPPELIN_K8S_KUBECTL);
   }
 
+  public String getK8sClient() {
+    return getString(ConfVars.ZEPPELIN_K8S_CLIENT);
+  }
+
+  public String getK8sApiUrl() {
+    return getString(ConfVars.ZEPPELIN_K8S_API_URL);
+  }
+
   public String getK8sContainerImage() {
     return getString(ConfVars.ZEPPELIN_K8S_CONTAINER_IMAGE);
   }
@@ -820,6 +911,16 @@ public class ZeppelinConfiguration extends XMLConfiguration {
     ZEPPELIN_WAR_TEMPDIR("zeppelin.war.tempdir", "webapps"),
 
     ZEPPELIN_INTERPRETER_JSON("zeppelin.interpreter.setting", "interpreter-setting.json"),
+    // file under the conf dir which caches interpreter-setting.json of all interpreters,
+    // empty to disable it
+    ZEPPELIN_INTERPRETER_DISCOVERY_INDEX("zeppelin.interpreter.discovery.index",
+        "interpreter-discovery-index.json"),
+    // start and open the interpreters of a note in the background when it is opened
+    ZEPPELIN_INTERPRETER_WARMUP_ENABLED("zeppelin.interpreter.warmUp.enabled", false),
+    // max number of interpreter sessions which are warmed up for a user and not used yet
+    ZEPPELIN_INTERPRETER_WARMUP_MAX_PER_USER("zeppelin.interpreter.warmUp.maxPerUser", 2),
+    // time in ms after which an unused warmed up interpreter session is closed
+    ZEPPELIN_INTERPRETER_WARMUP_TIMEOUT("zeppelin.interpreter.warmUp.timeout", 300000L),
     ZEPPELIN_INTERPRETER_DIR("zeppelin.interpreter.dir", "interpreter"),
     ZEPPELIN_INTERPRETER_JUPYTER_KERNELS("zeppelin.interpreter.jupyter.kernels", "python:python,ir:r"),
     ZEPPELIN_INTERPRETER_LOCALREPO("zeppelin.interpreter.localRepo", "local-repo"),
@@ -905,6 +1006,8 @@ public class ZeppelinConfiguration extends XMLConfiguration {
 
     ZEPPELIN_SERVER_RPC_PORTRANGE("zeppelin.server.rpc.portRange", ":"),
     ZEPPELIN_INTERPRETER_RPC_PORTRANGE("zeppelin.interpreter.rpc.portRange", ":"),
+    // thrift transport between server and interpreter processes, blocking | nonblocking
+    ZEPPELIN_INTERPRETER_RPC_TRANSPORT("zeppelin.interpreter.rpc.transport", "blocking"),
 
     ZEPPELIN_INTERPRETER_LIFECYCLE_MANAGER_CLASS("zeppelin.interpreter.lifecyclemanager.class",
         "org.apache.zeppelin.interpreter.lifecycle.NullLifecycleManager"),
@@ -914,17 +1017,59 @@ public class ZeppelinConfiguration extends XMLConfiguration {
         "zeppelin.interpreter.lifecyclemanager.timeout.threshold", 3600000L),
 
     ZEPPELIN_INTERPRETER_SCHEDULER_POOL_SIZE("zeppelin.scheduler.threadpool.size", 100),
+    // max updates per second of one AngularObject sent from interpreter to zeppelin server, 0 for
+    // no limit. Updates in between are coalesced.
+    ZEPPELIN_ANGULAR_OBJECT_MAX_UPDATE_RATE("zeppelin.angularObject.maxUpdateRate", 20),
+    // AngularObjects with json of at least this size are updated by patch, -1 to disable
+    ZEPPELIN_ANGULAR_OBJECT_PATCH_THRESHOLD("zeppelin.angularObject.patchThreshold", 4096),
+    // max time (ms) paragraph output appended in interpreters is delayed to be sent to zeppelin
+    // server in one batch, 0 to send every append on its own
+    ZEPPELIN_INTERPRETER_OUTPUT_BATCH_INTERVAL("zeppelin.interpreter.output.batch.interval", 50L),
+    // a batch of output appends is sent as soon as it has this many chars
+    ZEPPELIN_INTERPRETER_OUTPUT_BATCH_SIZE("zeppelin.interpreter.output.batch.size", 64 * 1024),
+    // min time (ms) between two updates of a paragraph output which can't be appended to, e.g.
+    // html, 0 for no limit. Updates in between are coalesced.
+    ZEPPELIN_INTERPRETER_OUTPUT_UPDATE_INTERVAL("zeppelin.interpreter.output.update.interval",
+        200L),
+    // threads of scheduler loops and pollers, auto | virtual | platform
+    ZEPPELIN_SCHEDULER_THREAD_BACKEND("zeppelin.scheduler.thread.backend", "auto"),
+    // how long (ms) an interpreter caches lookups of resources in other interpreters, 0 to disable.
+    // Cached lookups are also invalidated by zeppelin server when the resources change.
+    ZEPPELIN_RESOURCE_POOL_CACHE_TTL("zeppelin.resourcePool.cacheTtl", 1000L),
+    // resources bigger than this are transferred between interpreters in chunks of this size
+    ZEPPELIN_RESOURCE_POOL_TRANSFER_CHUNK_SIZE("zeppelin.resourcePool.transfer.chunkSize",
+        4 * 1024 * 1024),
+    // serialized resources bigger than this are kept in a temporary file during transfer
+    ZEPPELIN_RESOURCE_POOL_TRANSFER_SPILL_THRESHOLD(
+        "zeppelin.resourcePool.transfer.spillThreshold", 64 * 1024 * 1024),
+    // dir of the temporary files of resource transfers, only accessible by the owner
+    ZEPPELIN_RESOURCE_POOL_TRANSFER_SPILL_DIR("zeppelin.resourcePool.transfer.spillDir",
+        "run/resource-transfer"),
+    // time in ms a cached paragraph result is used, for paragraphs with cacheResult enabled
+    ZEPPELIN_PARAGRAPH_RESULT_CACHE_TTL("zeppelin.paragraph.resultCache.ttl", 3600000L),
+    // max total size in bytes of cached paragraph results, 0 to disable the cache
+    ZEPPELIN_PARAGRAPH_RESULT_CACHE_MAX_SIZE("zeppelin.paragraph.resultCache.maxSize",
+        64 * 1024 * 1024L),
+    // dir of the journals of the output of running paragraphs, only accessible by the owner
+    ZEPPELIN_PARAGRAPH_OUTPUT_JOURNAL_DIR("zeppelin.paragraph.outputJournal.dir",
+        "run/output-journal"),
+    ZEPPELIN_PARAGRAPH_STREAM_TIMEOUT("zeppelin.paragraph.stream.timeout", 3600000L),
 
     ZEPPELIN_OWNER_ROLE("zeppelin.notebook.default.owner.username", ""),
 
     ZEPPELIN_CLUSTER_ADDR("zeppelin.cluster.addr", ""),
     ZEPPELIN_CLUSTER_HEARTBEAT_INTERVAL("zeppelin.cluster.heartbeat.interval", 3000),
     ZEPPELIN_CLUSTER_HEARTBEAT_TIMEOUT("zeppelin.cluster.heartbeat.timeout", 9000),
+    ZEPPELIN_CLUSTER_PLACEMENT_POLICY("zeppelin.cluster.placement.policy", "spread"), // spread | binpack
+    ZEPPELIN_CLUSTER_PLACEMENT_RESERVATION_TIMEOUT(
+        "zeppelin.cluster.placement.reservation.timeout", 300000L),
 
     ZEPPELIN_RUN_MODE("zeppelin.run.mode", "auto"),              // auto | local | k8s | Docker
 
     ZEPPELIN_K8S_PORTFORWARD("zeppelin.k8s.portforward", false), // kubectl port-forward incase of Zeppelin is running outside of kuberentes
     ZEPPELIN_K8S_KUBECTL("zeppelin.k8s.kubectl", "kubectl"),     // kubectl command
+    ZEPPELIN_K8S_CLIENT("zeppelin.k8s.client", "kubectl"),       // kubectl or api, how to talk to kubernetes
+    ZEPPELIN_K8S_API_URL("zeppelin.k8s.api.url", ""),            // api server url for zeppelin.k8s.client=api. e.g. kubectl proxy url. empty to use service account of the pod
     ZEPPELIN_K8S_CONTAINER_IMAGE("zeppelin.k8s.container.image", "apache/zeppelin:" + Util.getVersion()),
     ZEPPELIN_K8S_SPARK_CONTAINER_IMAGE("zeppelin.k8s.spark.container.image", "apache/spark:latest"),
     ZEPPELIN_K8S_TEMPLATE_DIR("zeppelin.k8s.template.dir", "k8s"),
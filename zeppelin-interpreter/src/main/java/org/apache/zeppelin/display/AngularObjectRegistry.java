@@ -17,10 +17,14 @@
 
 package org.apache.zeppelin.display;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * AngularObjectRegistry keeps all the object that binded to Angular Display System.
@@ -29,14 +33,29 @@ import java.util.Map;
  *  - Paragraphscope : AngularObject is valid in specific paragraph
  *  - Notebook scope: AngularObject is valid in a single notebook
  *  - Global scope : Shared to all notebook that uses the same interpreter group
+ *
+ * Objects are indexed by note and then by paragraph in concurrent maps, so no lock is taken to
+ * add, get or remove objects, and all objects of a note or a paragraph can be found or removed
+ * without scanning the others.
  */
 public class AngularObjectRegistry {
-  Map<String, Map<String, AngularObject>> registry = new HashMap<>();
-  private final String GLOBAL_KEY = "_GLOBAL_";
+  private static final String GLOBAL_KEY = "_GLOBAL_";
+
+  private final ConcurrentMap<String, AngularObject> globalScope = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, NoteScope> noteScopes = new ConcurrentHashMap<>();
   private AngularObjectRegistryListener listener;
   private String interpreterId;
   private AngularObjectListener angularObjectListener;
 
+  /**
+   * Objects of a note, note scope and paragraph scopes.
+   */
+  private static class NoteScope {
+    private final ConcurrentMap<String, AngularObject> objects = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, AngularObject>> paragraphScopes =
+        new ConcurrentHashMap<>();
+  }
+
   public AngularObjectRegistry(final String interpreterId,
       final AngularObjectRegistryListener listener) {
     this.interpreterId = interpreterId;
@@ -72,27 +91,28 @@ public class AngularObjectRegistry {
     return add(name, o, noteId, paragraphId, true);
   }
 
-  private String getRegistryKey(String noteId, String paragraphId) {
+  /**
+   * @param noteId
+   * @param paragraphId
+   * @param create create the scope if it doesn't exist
+   * @return objects of the scope, null when it doesn't exist and create is false
+   */
+  private ConcurrentMap<String, AngularObject> getScope(String noteId, String paragraphId,
+                                                        boolean create) {
     if (noteId == null) {
-      return GLOBAL_KEY;
-    } else {
-      if (paragraphId == null) {
-        return noteId;
-      } else {
-        return noteId + "_" + paragraphId;
-      }
+      return globalScope;
     }
-  }
-  
-  private Map<String, AngularObject> getRegistryForKey(String noteId, String paragraphId) {
-    synchronized (registry) {
-      String key = getRegistryKey(noteId, paragraphId);
-      if (!registry.containsKey(key)) {
-        registry.put(key, new HashMap<String, AngularObject>());
-      }
-      
-      return registry.get(key);
+    NoteScope noteScope = create ?
+        noteScopes.computeIfAbsent(noteId, k -> new NoteScope()) : noteScopes.get(noteId);
+    if (noteScope == null) {
+      return null;
     }
+    if (paragraphId == null) {
+      return noteScope.objects;
+    }
+    return create ?
+        noteScope.paragraphScopes.computeIfAbsent(paragraphId, k -> new ConcurrentHashMap<>()) :
+        noteScope.paragraphScopes.get(paragraphId);
   }
 
   /**
@@ -112,15 +132,10 @@ public class AngularObjectRegistry {
   public AngularObject add(String name, Object o, String noteId, String paragraphId,
                            boolean emit) {
     AngularObject ao = createNewAngularObject(name, o, noteId, paragraphId);
-
-    synchronized (registry) {
-      Map<String, AngularObject> noteLocalRegistry = getRegistryForKey(noteId, paragraphId);
-      noteLocalRegistry.put(name, ao);
-      if (listener != null && emit) {
-        listener.onAdd(interpreterId, ao);
-      }
+    getScope(noteId, paragraphId, true).put(name, ao);
+    if (listener != null && emit) {
+      listener.onAdd(interpreterId, ao);
     }
-
     return ao;
   }
 
@@ -155,14 +170,12 @@ public class AngularObjectRegistry {
    * @return removed object. null if object is not found in registry
    */
   public AngularObject remove(String name, String noteId, String paragraphId, boolean emit) {
-    synchronized (registry) {
-      Map<String, AngularObject> r = getRegistryForKey(noteId, paragraphId);
-      AngularObject o = r.remove(name);
-      if (listener != null && emit) {
-        listener.onRemove(interpreterId, name, noteId, paragraphId);
-      }
-      return o;
+    Map<String, AngularObject> r = getScope(noteId, paragraphId, false);
+    AngularObject o = r == null ? null : r.remove(name);
+    if (listener != null && emit) {
+      listener.onRemove(interpreterId, name, noteId, paragraphId);
     }
+    return o;
   }
 
   /**
@@ -176,11 +189,13 @@ public class AngularObjectRegistry {
    * @param paragraphId paragraphId
    */
   public void removeAll(String noteId, String paragraphId) {
-    synchronized (registry) {
-      List<AngularObject> all = getAll(noteId, paragraphId);
-      for (AngularObject ao : all) {
-        remove(ao.getName(), noteId, paragraphId);
-      }
+    Map<String, AngularObject> r = getScope(noteId, paragraphId, false);
+    if (r == null) {
+      return;
+    }
+    // iterating a concurrent map while removing from it is safe
+    for (AngularObject ao : r.values()) {
+      remove(ao.getName(), noteId, paragraphId);
     }
   }
 
@@ -192,10 +207,8 @@ public class AngularObjectRegistry {
    * @return angularobject. null when not found
    */
   public AngularObject get(String name, String noteId, String paragraphId) {
-    synchronized (registry) {
-      Map<String, AngularObject> r = getRegistryForKey(noteId, paragraphId);
-      return r.get(name);
-    }
+    Map<String, AngularObject> r = getScope(noteId, paragraphId, false);
+    return r == null ? null : r.get(name);
   }
 
   /**
@@ -205,16 +218,24 @@ public class AngularObjectRegistry {
    * @return all angularobject in the scope
    */
   public List<AngularObject> getAll(String noteId, String paragraphId) {
-    List<AngularObject> all = new LinkedList<>();
-    synchronized (registry) {
-      Map<String, AngularObject> r = getRegistryForKey(noteId, paragraphId);
-      if (r != null) {
-        all.addAll(r.values());
-      }
-    }
-    return all;
+    return new ArrayList<>(getAllView(noteId, paragraphId));
   }
-  
+
+  /**
+   * Same as getAll, but doesn't copy the objects. The returned collection can't be modified,
+   * and iterating it while objects are added or removed neither fails nor blocks, it may or may
+   * not see the changes.
+   *
+   * @param noteId noteId that belongs to
+   * @param paragraphId paragraphId that belongs to
+   * @return all angularobject in the scope
+   */
+  public Collection<AngularObject> getAllView(String noteId, String paragraphId) {
+    Map<String, AngularObject> r = getScope(noteId, paragraphId, false);
+    return r == null ? Collections.<AngularObject>emptyList() :
+        Collections.unmodifiableCollection(r.values());
+  }
+
   /**
    * Get all angular object related to specific note.
    * That includes all global scope objects, notebook scope objects and paragraph scope objects
@@ -224,16 +245,12 @@ public class AngularObjectRegistry {
    * @return
    */
   public List<AngularObject> getAllWithGlobal(String noteId) {
-    List<AngularObject> all = new LinkedList<>();
-    synchronized (registry) {
-      Map<String, AngularObject> global = getRegistryForKey(null, null);
-      if (global != null) {
-        all.addAll(global.values());
-      }
-      for (String key : registry.keySet()) {
-        if (key.startsWith(noteId)) {
-          all.addAll(registry.get(key).values());
-        }
+    List<AngularObject> all = new ArrayList<>(globalScope.values());
+    NoteScope noteScope = noteScopes.get(noteId);
+    if (noteScope != null) {
+      all.addAll(noteScope.objects.values());
+      for (Map<String, AngularObject> paragraphScope : noteScope.paragraphScopes.values()) {
+        all.addAll(paragraphScope.values());
       }
     }
     return all;
@@ -243,15 +260,46 @@ public class AngularObjectRegistry {
     return interpreterId;
   }
 
+  /**
+   * Snapshot of all objects, keyed by scope (_GLOBAL_, noteId or noteId_paragraphId) and then by
+   * name. This is the format that is pushed to the remote interpreter process.
+   *
+   * @return
+   */
   public Map<String, Map<String, AngularObject>> getRegistry() {
+    Map<String, Map<String, AngularObject>> registry = new HashMap<>();
+    if (!globalScope.isEmpty()) {
+      registry.put(GLOBAL_KEY, new HashMap<>(globalScope));
+    }
+    for (Map.Entry<String, NoteScope> noteEntry : noteScopes.entrySet()) {
+      NoteScope noteScope = noteEntry.getValue();
+      if (!noteScope.objects.isEmpty()) {
+        registry.put(noteEntry.getKey(), new HashMap<>(noteScope.objects));
+      }
+      for (Map.Entry<String, ConcurrentMap<String, AngularObject>> paragraphEntry :
+          noteScope.paragraphScopes.entrySet()) {
+        if (!paragraphEntry.getValue().isEmpty()) {
+          registry.put(noteEntry.getKey() + "_" + paragraphEntry.getKey(),
+              new HashMap<>(paragraphEntry.getValue()));
+        }
+      }
+    }
     return registry;
   }
 
+  /**
+   * Replace all objects with the given ones, in the format of getRegistry().
+   * The scope of each object is taken from its noteId and paragraphId.
+   *
+   * @param registry
+   */
   public void setRegistry(Map<String, Map<String, AngularObject>> registry) {
-    this.registry = registry;
+    globalScope.clear();
+    noteScopes.clear();
     for (Map<String, AngularObject> map : registry.values()) {
       for (AngularObject ao : map.values()) {
         ao.setListener(angularObjectListener);
+        getScope(ao.getNoteId(), ao.getParagraphId(), true).put(ao.getName(), ao);
       }
     }
   }
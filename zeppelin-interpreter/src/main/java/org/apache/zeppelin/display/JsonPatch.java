@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.display;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * JSON-patch (RFC 6902) style delta between two json values, used to send only the changed part
+ * of big AngularObjects. Only the add, remove and replace operations are produced and understood.
+ *
+ * A patch also carries the checksum of the value it was computed from, so the receiver can
+ * detect that its copy is not the same and ask for the full value instead, and the checksum of
+ * the value it produces. Both sides keep the checksum next to the value, so a big value is not
+ * serialized again to compute its checksum for every patch.
+ */
+public class JsonPatch {
+
+  private static final JsonParser JSON_PARSER = new JsonParser();
+
+  private final long baseChecksum;
+  private final long targetChecksum;
+  private final JsonArray operations;
+
+  private JsonPatch(long baseChecksum, long targetChecksum, JsonArray operations) {
+    this.baseChecksum = baseChecksum;
+    this.targetChecksum = targetChecksum;
+    this.operations = operations;
+  }
+
+  /**
+   * Compute the patch which turns base into target.
+   *
+   * @param base
+   * @param target
+   * @return
+   */
+  public static JsonPatch diff(JsonElement base, JsonElement target) {
+    return diff(base, checksum(base), target, checksum(target));
+  }
+
+  /**
+   * Compute the patch which turns base into target, with the known checksums of both.
+   *
+   * @param base
+   * @param baseChecksum
+   * @param target
+   * @param targetChecksum
+   * @return
+   */
+  public static JsonPatch diff(JsonElement base, long baseChecksum,
+                               JsonElement target, long targetChecksum) {
+    JsonArray operations = new JsonArray();
+    diff("", base, target, operations);
+    return new JsonPatch(baseChecksum, targetChecksum, operations);
+  }
+
+  private static void diff(String path, JsonElement base, JsonElement target,
+                           JsonArray operations) {
+    if (base.equals(target)) {
+      return;
+    }
+    if (base.isJsonObject() && target.isJsonObject()) {
+      JsonObject baseObject = base.getAsJsonObject();
+      JsonObject targetObject = target.getAsJsonObject();
+      for (Map.Entry<String, JsonElement> entry : baseObject.entrySet()) {
+        if (!targetObject.has(entry.getKey())) {
+          operations.add(operation("remove", path + "/" + escape(entry.getKey()), null));
+        }
+      }
+      for (Map.Entry<String, JsonElement> entry : targetObject.entrySet()) {
+        String childPath = path + "/" + escape(entry.getKey());
+        if (!baseObject.has(entry.getKey())) {
+          operations.add(operation("add", childPath, entry.getValue()));
+        } else {
+          diff(childPath, baseObject.get(entry.getKey()), entry.getValue(), operations);
+        }
+      }
+    } else if (base.isJsonArray() && target.isJsonArray()) {
+      JsonArray baseArray = base.getAsJsonArray();
+      JsonArray targetArray = target.getAsJsonArray();
+      int common = Math.min(baseArray.size(), targetArray.size());
+      for (int i = 0; i < common; i++) {
+        diff(path + "/" + i, baseArray.get(i), targetArray.get(i), operations);
+      }
+      // remove from the end, so the indices of the remaining elements don't change
+      for (int i = baseArray.size() - 1; i >= common; i--) {
+        operations.add(operation("remove", path + "/" + i, null));
+      }
+      for (int i = common; i < targetArray.size(); i++) {
+        operations.add(operation("add", path + "/-", targetArray.get(i)));
+      }
+    } else {
+      operations.add(operation("replace", path, target));
+    }
+  }
+
+  /**
+   * Apply this patch to base. base is modified in place where possible.
+   *
+   * @param base
+   * @return patched value
+   * @throws IllegalArgumentException when the patch doesn't match base
+   */
+  public JsonElement apply(JsonElement base) {
+    return apply(base, checksum(base));
+  }
+
+  /**
+   * Apply this patch to base, whose checksum is known. base is modified in place where possible.
+   *
+   * @param base
+   * @param checksum checksum of base
+   * @return patched value, its checksum is {@link #getTargetChecksum()}
+   * @throws IllegalArgumentException when the patch doesn't match base
+   */
+  public JsonElement apply(JsonElement base, long checksum) {
+    if (checksum != baseChecksum) {
+      throw new IllegalArgumentException("Patch is not computed from this value");
+    }
+    JsonElement result = base;
+    for (JsonElement element : operations) {
+      JsonObject operation = element.getAsJsonObject();
+      String op = operation.get("op").getAsString();
+      List<String> tokens = parsePath(operation.get("path").getAsString());
+      result = apply(result, tokens, 0, op, operation.get("value"));
+    }
+    return result;
+  }
+
+  private static JsonElement apply(JsonElement node, List<String> tokens, int index, String op,
+                                   JsonElement value) {
+    if (index == tokens.size()) {
+      if (!op.equals("replace")) {
+        throw new IllegalArgumentException("Invalid operation " + op + " on the whole value");
+      }
+      return value;
+    }
+    String token = tokens.get(index);
+    boolean last = index == tokens.size() - 1;
+    if (node.isJsonObject()) {
+      JsonObject object = node.getAsJsonObject();
+      if (last) {
+        if (op.equals("remove")) {
+          checkExists(object.remove(token), tokens);
+        } else {
+          object.add(token, value);
+        }
+      } else {
+        JsonElement child = checkExists(object.get(token), tokens);
+        object.add(token, apply(child, tokens, index + 1, op, value));
+      }
+      return object;
+    } else if (node.isJsonArray()) {
+      JsonArray array = node.getAsJsonArray();
+      if (last && op.equals("add") && token.equals("-")) {
+        array.add(value);
+        return array;
+      }
+      int position = parseIndex(token, array.size(), tokens);
+      // JsonArray can't replace or remove elements in place, so copy it
+      JsonArray result = new JsonArray();
+      for (int i = 0; i < array.size(); i++) {
+        if (i != position) {
+          result.add(array.get(i));
+        } else if (!last) {
+          result.add(apply(array.get(i), tokens, index + 1, op, value));
+        } else if (op.equals("replace")) {
+          result.add(value);
+        } else if (op.equals("add")) {
+          result.add(value);
+          result.add(array.get(i));
+        }
+      }
+      return result;
+    } else {
+      throw new IllegalArgumentException("Invalid path: /" + String.join("/", tokens));
+    }
+  }
+
+  private static JsonElement checkExists(JsonElement element, List<String> tokens) {
+    if (element == null) {
+      throw new IllegalArgumentException("Invalid path: /" + String.join("/", tokens));
+    }
+    return element;
+  }
+
+  private static int parseIndex(String token, int size, List<String> tokens) {
+    try {
+      int position = Integer.parseInt(token);
+      if (position >= 0 && position < size) {
+        return position;
+      }
+    } catch (NumberFormatException e) {
+      // fall through
+    }
+    throw new IllegalArgumentException("Invalid path: /" + String.join("/", tokens));
+  }
+
+  private static JsonObject operation(String op, String path, JsonElement value) {
+    JsonObject operation = new JsonObject();
+    operation.addProperty("op", op);
+    operation.addProperty("path", path);
+    if (value != null) {
+      operation.add("value", value);
+    }
+    return operation;
+  }
+
+  private static String escape(String token) {
+    return token.replace("~", "~0").replace("/", "~1");
+  }
+
+  private static List<String> parsePath(String path) {
+    List<String> tokens = new ArrayList<>();
+    if (path.isEmpty()) {
+      return tokens;
+    }
+    if (!path.startsWith("/")) {
+      throw new IllegalArgumentException("Invalid path: " + path);
+    }
+    for (String token : path.substring(1).split("/", -1)) {
+      tokens.add(token.replace("~1", "/").replace("~0", "~"));
+    }
+    return tokens;
+  }
+
+  /**
+   * @param value
+   * @return checksum of the json text of value
+   */
+  public static long checksum(JsonElement value) {
+    return checksum(value.toString());
+  }
+
+  /**
+   * @param json
+   * @return checksum of json, which must be the text of JsonElement.toString()
+   */
+  public static long checksum(String json) {
+    CRC32 crc32 = new CRC32();
+    crc32.update(json.getBytes(StandardCharsets.UTF_8));
+    return crc32.getValue();
+  }
+
+  public long getTargetChecksum() {
+    return targetChecksum;
+  }
+
+  public boolean isEmpty() {
+    return operations.size() == 0;
+  }
+
+  public String toJson() {
+    JsonObject json = new JsonObject();
+    json.add("base", new JsonPrimitive(baseChecksum));
+    json.add("target", new JsonPrimitive(targetChecksum));
+    json.add("ops", operations);
+    return json.toString();
+  }
+
+  public static JsonPatch fromJson(String json) {
+    JsonObject object = JSON_PARSER.parse(json).getAsJsonObject();
+    return new JsonPatch(object.get("base").getAsLong(), object.get("target").getAsLong(),
+        object.getAsJsonArray("ops"));
+  }
+}
@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import org.apache.zeppelin.display.AngularObject;
+import org.apache.zeppelin.display.JsonPatch;
+import org.apache.zeppelin.interpreter.thrift.AngularObjectId;
+import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the rate of AngularObject updates sent to zeppelin server.
+ *
+ * Updates of the same object are coalesced: at most maxUpdateRate updates per second are sent
+ * for each object, and an update that comes too early is delayed, so that only the latest value
+ * is sent when the delay expires. The first update after a quiet period is sent immediately.
+ *
+ * Objects whose json is at least patchThreshold characters long are sent as a JsonPatch against
+ * the value zeppelin server has, if that is less than half of the full value. That value is the
+ * one sent before, or the one set by zeppelin server (see {@link #updatedByServer}). When it is
+ * not known for sure, e.g. zeppelin server updated the object while an update was being sent,
+ * or zeppelin server rejects the patch, the full value is sent instead.
+ *
+ * The value is serialized under the lock of this class, the RPC is done outside of it.
+ */
+public class AngularObjectUpdateThrottler {
+  private static final Logger LOGGER = LoggerFactory.getLogger(AngularObjectUpdateThrottler.class);
+
+  /**
+   * Sends updates to zeppelin server.
+   */
+  public interface UpdateSender {
+    /**
+     * @param object
+     * @param json json of object, taken when the update is sent
+     */
+    void sendUpdate(AngularObject object, String json) throws Exception;
+
+    void sendPatch(AngularObject object, JsonPatch patch) throws Exception;
+  }
+
+  private final JsonParser jsonParser = new JsonParser();
+  private final UpdateSender sender;
+  private final long minIntervalMs;
+  private final int patchThreshold;
+  private final Map<AngularObjectId, ObjectState> states = new HashMap<>();
+  private ScheduledExecutorService timer;
+
+  /**
+   * @param sender
+   * @param maxUpdateRate max updates per second of one object, 0 for no limit
+   * @param patchThreshold min size of the json of a value to send it as patch, -1 to disable
+   */
+  public AngularObjectUpdateThrottler(UpdateSender sender, int maxUpdateRate,
+                                      int patchThreshold) {
+    this.sender = sender;
+    this.minIntervalMs = maxUpdateRate > 0 ? 1000 / maxUpdateRate : 0;
+    this.patchThreshold = patchThreshold;
+  }
+
+  public void update(AngularObject object) {
+    AngularObjectId id = idOf(object);
+    Update update;
+    synchronized (this) {
+      ObjectState state = states.get(id);
+      if (state == null) {
+        state = new ObjectState();
+        states.put(id, state);
+      }
+      state.object = object;
+      if (state.pending != null) {
+        // the pending update sends the latest value
+        return;
+      }
+      if (state.sending) {
+        // sent again when the current update is done
+        state.dirty = true;
+        return;
+      }
+      long delay = state.lastSentTime + minIntervalMs - System.currentTimeMillis();
+      if (delay > 0) {
+        state.pending = getTimer().schedule(() -> flush(id), delay, TimeUnit.MILLISECONDS);
+        return;
+      }
+      update = prepare(id, state);
+    }
+    send(update);
+  }
+
+  /**
+   * The object is updated by zeppelin server, which has its value now.
+   * So the next update is sent as patch against that value.
+   */
+  public synchronized void updatedByServer(AngularObject object) {
+    if (patchThreshold < 0) {
+      return;
+    }
+    AngularObjectId id = idOf(object);
+    ObjectState state = states.get(id);
+    if (state == null) {
+      state = new ObjectState();
+      states.put(id, state);
+    }
+    state.object = object;
+    state.version++;
+    if (state.sending) {
+      // don't know whether zeppelin server applies its value or the one being sent last
+      state.lastSentValue = null;
+    } else {
+      state.lastSentValue = valueOf(object.toJson());
+      state.lastSentChecksum = JsonPatch.checksum(state.lastSentValue);
+    }
+  }
+
+  /**
+   * Drop the state of the object, e.g. when it is added or removed.
+   * A pending update is not sent.
+   */
+  public synchronized void forget(String noteId, String paragraphId, String name) {
+    ObjectState state = states.remove(new AngularObjectId(noteId, paragraphId, name));
+    if (state != null && state.pending != null) {
+      state.pending.cancel(false);
+    }
+  }
+
+  private void flush(AngularObjectId id) {
+    Update update;
+    synchronized (this) {
+      ObjectState state = states.get(id);
+      if (state == null || state.pending == null) {
+        return;
+      }
+      state.pending = null;
+      if (state.sending) {
+        state.dirty = true;
+        return;
+      }
+      update = prepare(id, state);
+    }
+    send(update);
+  }
+
+  /**
+   * Take the value to send, must hold the lock of this.
+   *
+   * @return null when zeppelin server already has the value
+   */
+  private Update prepare(AngularObjectId id, ObjectState state) {
+    state.lastSentTime = System.currentTimeMillis();
+    String json = state.object.toJson();
+    JsonElement value = null;
+    long checksum = 0;
+    JsonPatch patch = null;
+    if (patchThreshold >= 0) {
+      value = valueOf(json);
+      String valueJson = value.toString();
+      if (valueJson.length() < patchThreshold) {
+        value = null;
+      } else {
+        checksum = JsonPatch.checksum(valueJson);
+        if (state.lastSentValue != null) {
+          patch = JsonPatch.diff(state.lastSentValue, state.lastSentChecksum, value, checksum);
+          if (patch.isEmpty()) {
+            return null;
+          }
+          if (patch.toJson().length() * 2 > valueJson.length()) {
+            patch = null;
+          }
+        }
+      }
+    }
+    state.sending = true;
+    return new Update(id, state, json, value, checksum, patch, state.version);
+  }
+
+  private void send(Update update) {
+    if (update == null) {
+      return;
+    }
+    boolean delivered = false;
+    try {
+      if (update.patch != null) {
+        try {
+          sender.sendPatch(update.state.object, update.patch);
+          delivered = true;
+        } catch (Exception e) {
+          LOGGER.debug("Patch of AngularObject {} is rejected, send full value",
+              update.state.object.getName(), e);
+        }
+      }
+      if (!delivered) {
+        sender.sendUpdate(update.state.object, update.json);
+        delivered = true;
+      }
+    } catch (Exception e) {
+      LOGGER.warn("Fail to update AngularObject: " + update.state.object.getName(), e);
+    } finally {
+      onSent(update, delivered);
+    }
+  }
+
+  private synchronized void onSent(Update update, boolean delivered) {
+    ObjectState state = update.state;
+    state.sending = false;
+    if (states.get(update.id) != state) {
+      // forgotten while it was being sent
+      return;
+    }
+    if (state.version == update.version) {
+      state.lastSentValue = delivered ? update.value : null;
+      state.lastSentChecksum = update.checksum;
+    }
+    if (state.dirty) {
+      state.dirty = false;
+      long delay = Math.max(0, state.lastSentTime + minIntervalMs - System.currentTimeMillis());
+      state.pending = getTimer().schedule(() -> flush(update.id), delay, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private JsonElement valueOf(String json) {
+    JsonElement value = jsonParser.parse(json).getAsJsonObject().get("object");
+    return value == null ? JsonNull.INSTANCE : value;
+  }
+
+  private ScheduledExecutorService getTimer() {
+    if (timer == null) {
+      timer = Executors.newSingleThreadScheduledExecutor(
+          new SchedulerThreadFactory("AngularObjectUpdateThrottler-"));
+    }
+    return timer;
+  }
+
+  public synchronized void shutdown() {
+    if (timer != null) {
+      timer.shutdownNow();
+      timer = null;
+    }
+    states.clear();
+  }
+
+  private static AngularObjectId idOf(AngularObject object) {
+    return new AngularObjectId(object.getNoteId(), object.getParagraphId(), object.getName());
+  }
+
+  private static class ObjectState {
+    private AngularObject object;
+    private long lastSentTime;
+    // value that zeppelin server has, null if unknown
+    private JsonElement lastSentValue;
+    private long lastSentChecksum;
+    private ScheduledFuture<?> pending;
+    private boolean sending;
+    // updated while it was being sent
+    private boolean dirty;
+    // incremented when zeppelin server updates the object
+    private int version;
+  }
+
+  private static class Update {
+    private final AngularObjectId id;
+    private final ObjectState state;
+    private final String json;
+    private final JsonElement value;
+    private final long checksum;
+    private final JsonPatch patch;
+    private final int version;
+
+    Update(AngularObjectId id, ObjectState state, String json, JsonElement value, long checksum,
+           JsonPatch patch, int version) {
+      this.id = id;
+      this.state = state;
+      this.json = json;
+      this.value = value;
+      this.checksum = checksum;
+      this.patch = patch;
+      this.version = version;
+    }
+  }
+}
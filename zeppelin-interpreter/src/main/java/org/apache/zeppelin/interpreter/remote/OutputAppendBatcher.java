@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.zeppelin.interpreter.thrift.OutputAppendEvent;
+import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Groups output appends of paragraphs, so that an interpreter printing many lines doesn't make
+ * one RPC per line.
+ *
+ * Appends are sent as one batch at most interval ms after the first pending append, or as soon
+ * as the pending data reaches maxSize chars. Consecutive appends to the same output of the same
+ * paragraph are merged; the order of appends is kept. Appends are only ever merged as a whole,
+ * so every appended line arrives at zeppelin server complete.
+ *
+ * Other output events must call flush first, so that they are not sent before the appends
+ * which happened before them.
+ */
+public class OutputAppendBatcher {
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutputAppendBatcher.class);
+
+  /**
+   * Sends a batch of appends to zeppelin server.
+   */
+  public interface BatchSender {
+    void sendBatch(List<OutputAppendEvent> events) throws Exception;
+  }
+
+  private final BatchSender sender;
+  private final long interval;
+  private final int maxSize;
+  // pending appends, consecutive appends of the same output are merged into the last one
+  private List<PendingAppend> pending = new ArrayList<>();
+  private int pendingSize = 0;
+  private ScheduledFuture<?> scheduledFlush;
+  private ScheduledExecutorService timer;
+  // held while a batch is sent, so that batches are sent in order
+  private final Object sendLock = new Object();
+
+  /**
+   * @param sender
+   * @param interval max time in ms an append is delayed
+   * @param maxSize max number of chars of a batch
+   */
+  public OutputAppendBatcher(BatchSender sender, long interval, int maxSize) {
+    this.sender = sender;
+    this.interval = interval;
+    this.maxSize = maxSize;
+  }
+
+  public void append(String noteId, String paragraphId, int index, String data) {
+    boolean full;
+    synchronized (this) {
+      PendingAppend last = pending.isEmpty() ? null : pending.get(pending.size() - 1);
+      if (last != null && last.isSameOutput(noteId, paragraphId, index)) {
+        last.data.append(data);
+      } else {
+        pending.add(new PendingAppend(noteId, paragraphId, index, data));
+      }
+      pendingSize += data.length();
+      full = pendingSize >= maxSize;
+      if (!full && scheduledFlush == null) {
+        scheduledFlush = getTimer().schedule(this::flush, interval, TimeUnit.MILLISECONDS);
+      }
+    }
+    if (full) {
+      // send it in the caller thread, which slows down an interpreter that prints too fast
+      flush();
+    }
+  }
+
+  /**
+   * Send all pending appends.
+   */
+  public void flush() {
+    synchronized (sendLock) {
+      List<PendingAppend> batch;
+      synchronized (this) {
+        if (pending.isEmpty()) {
+          return;
+        }
+        batch = pending;
+        pending = new ArrayList<>();
+        pendingSize = 0;
+        if (scheduledFlush != null) {
+          scheduledFlush.cancel(false);
+          scheduledFlush = null;
+        }
+      }
+      List<OutputAppendEvent> events = new ArrayList<>(batch.size());
+      for (PendingAppend append : batch) {
+        events.add(new OutputAppendEvent(append.noteId, append.paragraphId, append.index,
+            append.data.toString(), null));
+      }
+      try {
+        sender.sendBatch(events);
+      } catch (Exception e) {
+        LOGGER.warn("Fail to send output batch of " + events.size() + " appends", e);
+      }
+    }
+  }
+
+  private ScheduledExecutorService getTimer() {
+    if (timer == null) {
+      timer = Executors.newSingleThreadScheduledExecutor(
+          new SchedulerThreadFactory("OutputAppendBatcher-"));
+    }
+    return timer;
+  }
+
+  public void shutdown() {
+    flush();
+    synchronized (this) {
+      if (timer != null) {
+        timer.shutdownNow();
+        timer = null;
+      }
+      scheduledFlush = null;
+    }
+  }
+
+  private static class PendingAppend {
+    private final String noteId;
+    private final String paragraphId;
+    private final int index;
+    private final StringBuilder data;
+
+    PendingAppend(String noteId, String paragraphId, int index, String data) {
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+      this.index = index;
+      this.data = new StringBuilder(data);
+    }
+
+    boolean isSameOutput(String noteId, String paragraphId, int index) {
+      return this.index == index && this.paragraphId.equals(paragraphId)
+          && this.noteId.equals(noteId);
+    }
+  }
+}
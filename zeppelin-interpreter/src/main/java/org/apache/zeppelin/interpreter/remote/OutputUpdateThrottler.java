@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.zeppelin.interpreter.InterpreterResultMessageOutput;
+import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits the updates of paragraph outputs which can't be appended to, e.g. html. Such an
+ * output is sent as a whole on every update, so an interpreter which flushes it line by line
+ * would send the whole output again and again.
+ *
+ * The first update of an output is sent immediately, later updates are sent at most once per
+ * interval ms. Updates in between are coalesced, and the content of the output is only read
+ * when the update is sent, so only the latest state goes over the wire. Call flush to send the
+ * pending updates, e.g. when the paragraph is finished.
+ */
+public class OutputUpdateThrottler {
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutputUpdateThrottler.class);
+
+  /**
+   * Sends the current content of an output to zeppelin server.
+   */
+  public interface UpdateSender {
+    void sendUpdate(String noteId, String paragraphId, int index,
+                    InterpreterResultMessageOutput out) throws Exception;
+  }
+
+  private final UpdateSender sender;
+  private final long interval;
+  private final Map<OutputId, OutputState> states = new HashMap<>();
+  private ScheduledExecutorService timer;
+  // held while an update is read and sent, so that an older content can't overtake a newer one
+  private final Object sendLock = new Object();
+
+  /**
+   * @param sender
+   * @param interval min time in ms between two updates of an output, 0 for no limit
+   */
+  public OutputUpdateThrottler(UpdateSender sender, long interval) {
+    this.sender = sender;
+    this.interval = interval;
+  }
+
+  public void update(String noteId, String paragraphId, int index,
+                     InterpreterResultMessageOutput out) {
+    OutputId id = new OutputId(noteId, paragraphId, index);
+    if (interval > 0) {
+      synchronized (this) {
+        OutputState state = states.get(id);
+        long now = System.currentTimeMillis();
+        if (state != null && (state.pending != null || now - state.lastSentTime < interval)) {
+          state.pending = out;
+          if (!state.scheduled) {
+            state.scheduled = true;
+            getTimer().schedule(() -> send(id), state.lastSentTime + interval - now,
+                TimeUnit.MILLISECONDS);
+          }
+          return;
+        }
+        if (state == null) {
+          states.put(id, new OutputState(now));
+        } else {
+          state.lastSentTime = now;
+        }
+      }
+    }
+    send(id, out);
+  }
+
+  private void send(OutputId id) {
+    InterpreterResultMessageOutput out;
+    synchronized (this) {
+      OutputState state = states.get(id);
+      if (state == null || state.pending == null) {
+        return;
+      }
+      out = state.pending;
+      state.pending = null;
+      state.scheduled = false;
+      state.lastSentTime = System.currentTimeMillis();
+    }
+    send(id, out);
+  }
+
+  private void send(OutputId id, InterpreterResultMessageOutput out) {
+    synchronized (sendLock) {
+      try {
+        sender.sendUpdate(id.noteId, id.paragraphId, id.index, out);
+      } catch (Exception e) {
+        LOGGER.warn("Fail to send update of output " + id.index + " of paragraph "
+            + id.paragraphId, e);
+      }
+    }
+  }
+
+  /**
+   * Send the pending updates of all outputs now, and forget the outputs.
+   */
+  public void flush() {
+    List<OutputId> pending = new ArrayList<>();
+    synchronized (this) {
+      for (Map.Entry<OutputId, OutputState> entry : states.entrySet()) {
+        if (entry.getValue().pending != null) {
+          pending.add(entry.getKey());
+        }
+      }
+    }
+    for (OutputId id : pending) {
+      send(id);
+    }
+    synchronized (this) {
+      states.values().removeIf(state -> state.pending == null);
+    }
+  }
+
+  private synchronized ScheduledExecutorService getTimer() {
+    if (timer == null) {
+      timer = Executors.newSingleThreadScheduledExecutor(
+          new SchedulerThreadFactory("OutputUpdateThrottler-"));
+    }
+    return timer;
+  }
+
+  public void shutdown() {
+    flush();
+    synchronized (this) {
+      if (timer != null) {
+        timer.shutdownNow();
+        timer = null;
+      }
+      states.clear();
+    }
+  }
+
+  private static class OutputState {
+    private long lastSentTime;
+    private InterpreterResultMessageOutput pending;
+    private boolean scheduled;
+
+    OutputState(long lastSentTime) {
+      this.lastSentTime = lastSentTime;
+    }
+  }
+
+  private static class OutputId {
+    private final String noteId;
+    private final String paragraphId;
+    private final int index;
+
+    OutputId(String noteId, String paragraphId, int index) {
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+      this.index = index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      OutputId outputId = (OutputId) o;
+      return index == outputId.index && Objects.equals(noteId, outputId.noteId)
+          && Objects.equals(paragraphId, outputId.paragraphId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(noteId, paragraphId, index);
+    }
+  }
+}
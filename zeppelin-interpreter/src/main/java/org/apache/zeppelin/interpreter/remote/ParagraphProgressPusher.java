@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.zeppelin.interpreter.Interpreter;
+import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.thrift.ParagraphProgressEvent;
+import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes the progress of paragraphs running in this interpreter process to zeppelin server.
+ *
+ * One timer serves all jobs of the process. On every tick the progress of each tracked paragraph
+ * is computed locally and only the values that changed since the last tick are sent, batched into
+ * a single updateParagraphProgress call. This replaces zeppelin server polling getProgress
+ * (with a full RemoteInterpreterContext) for every running paragraph.
+ */
+public class ParagraphProgressPusher {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ParagraphProgressPusher.class);
+
+  private final RemoteInterpreterEventClient intpEventClient;
+  // progress that interpreters report manually via InterpreterContext.setProgress
+  private final Map<String, Integer> progressMap;
+  private final Map<String, TrackedJob> trackedJobs = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService timer;
+
+  public ParagraphProgressPusher(RemoteInterpreterEventClient intpEventClient,
+                                 Map<String, Integer> progressMap,
+                                 long intervalMs) {
+    this.intpEventClient = intpEventClient;
+    this.progressMap = progressMap;
+    this.timer = Executors.newSingleThreadScheduledExecutor(
+        new SchedulerThreadFactory("ParagraphProgressPusher-"));
+    this.timer.scheduleWithFixedDelay(() -> {
+      try {
+        pushProgress();
+      } catch (Exception e) {
+        // never let an exception cancel the timer
+        LOGGER.warn("Fail to push paragraph progress", e);
+      }
+    }, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  public void add(Job job, Interpreter interpreter, InterpreterContext context) {
+    trackedJobs.put(context.getParagraphId(), new TrackedJob(job, interpreter, context));
+  }
+
+  public void remove(String paragraphId) {
+    trackedJobs.remove(paragraphId);
+  }
+
+  @VisibleForTesting
+  void pushProgress() {
+    List<ParagraphProgressEvent> events = new ArrayList<>();
+    for (TrackedJob trackedJob : trackedJobs.values()) {
+      int progress = trackedJob.progress();
+      if (progress != trackedJob.lastPushedProgress) {
+        trackedJob.lastPushedProgress = progress;
+        events.add(new ParagraphProgressEvent(trackedJob.context.getNoteId(),
+            trackedJob.context.getParagraphId(), progress));
+      }
+    }
+    if (!events.isEmpty()) {
+      intpEventClient.updateParagraphProgress(events);
+    }
+  }
+
+  public void shutdown() {
+    timer.shutdownNow();
+  }
+
+  private class TrackedJob {
+    private final Job job;
+    private final Interpreter interpreter;
+    private final InterpreterContext context;
+    // -1 makes sure the first value is always pushed, so zeppelin server stops polling
+    private int lastPushedProgress = -1;
+
+    TrackedJob(Job job, Interpreter interpreter, InterpreterContext context) {
+      this.job = job;
+      this.interpreter = interpreter;
+      this.context = context;
+    }
+
+    int progress() {
+      Integer manuallyProvidedProgress = progressMap.get(context.getParagraphId());
+      if (manuallyProvidedProgress != null) {
+        return manuallyProvidedProgress;
+      }
+      if (!job.isRunning()) {
+        return 0;
+      }
+      try {
+        return interpreter.getProgress(context);
+      } catch (Exception e) {
+        LOGGER.warn("Fail to get progress of paragraph: " + context.getParagraphId(), e);
+        return lastPushedProgress < 0 ? 0 : lastPushedProgress;
+      }
+    }
+  }
+}
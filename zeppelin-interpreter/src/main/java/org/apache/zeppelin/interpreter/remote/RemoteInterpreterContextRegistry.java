@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.zeppelin.interpreter.thrift.ContextSegmentNotFoundException;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Registry of RemoteInterpreterContext segments (json serialized authenticationInfo, config,
+ * gui, noteGui and paragraphText) that zeppelin server has already sent to this interpreter
+ * process.
+ *
+ * Every segment in RemoteInterpreterContext.segmentIds is either sent with its value, in which
+ * case it is registered here, or without value, in which case the value registered before under
+ * the same id is filled in. Ids are content digests computed by zeppelin server, so the same
+ * segment is only transferred once no matter which paragraph or call it belongs to.
+ */
+public class RemoteInterpreterContextRegistry {
+
+  public static final int DEFAULT_CAPACITY = 4096;
+
+  private final Map<String, String> segments;
+
+  public RemoteInterpreterContextRegistry() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public RemoteInterpreterContextRegistry(final int capacity) {
+    this.segments = new LinkedHashMap<String, String>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * Register the segments sent with this context and fill in the ones that were omitted.
+   *
+   * @param ric
+   * @throws ContextSegmentNotFoundException when an omitted segment is not registered (e.g. it
+   *         was evicted), zeppelin server then retries the call with the full context.
+   */
+  public synchronized void resolve(RemoteInterpreterContext ric)
+      throws ContextSegmentNotFoundException {
+    if (ric.getSegmentIds() == null) {
+      return;
+    }
+    for (Map.Entry<String, String> entry : ric.getSegmentIds().entrySet()) {
+      RemoteInterpreterContext._Fields field =
+          RemoteInterpreterContext._Fields.findByName(entry.getKey());
+      if (field == null) {
+        throw new IllegalArgumentException("Unknown context segment: " + entry.getKey());
+      }
+      String value = (String) ric.getFieldValue(field);
+      if (value != null) {
+        segments.put(entry.getValue(), value);
+      } else {
+        value = segments.get(entry.getValue());
+        if (value == null) {
+          throw new ContextSegmentNotFoundException("Context segment " + entry.getKey() + " with id "
+              + entry.getValue() + " is not registered");
+        }
+        ric.setFieldValue(field, value);
+      }
+    }
+  }
+
+  public synchronized int size() {
+    return segments.size();
+  }
+}
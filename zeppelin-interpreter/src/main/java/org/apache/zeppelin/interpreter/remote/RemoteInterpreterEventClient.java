@@ -20,8 +20,10 @@ import com.google.gson.Gson;
 import org.apache.thrift.TException;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.display.AngularObjectRegistryListener;
+import org.apache.zeppelin.display.JsonPatch;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.apache.zeppelin.interpreter.thrift.AngularObjectId;
 import org.apache.zeppelin.interpreter.thrift.AppOutputAppendEvent;
 import org.apache.zeppelin.interpreter.thrift.AppOutputUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.AppStatusUpdateEvent;
@@ -29,20 +31,30 @@ import org.apache.zeppelin.interpreter.thrift.OutputAppendEvent;
 import org.apache.zeppelin.interpreter.thrift.OutputUpdateAllEvent;
 import org.apache.zeppelin.interpreter.thrift.OutputUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.ParagraphInfo;
+import org.apache.zeppelin.interpreter.thrift.ParagraphProgressEvent;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
+import org.apache.zeppelin.interpreter.thrift.ResourceTransfer;
 import org.apache.zeppelin.interpreter.thrift.RunParagraphsEvent;
 import org.apache.zeppelin.interpreter.thrift.ServiceException;
+import org.apache.zeppelin.resource.ByteBufferInputStream;
+import org.apache.zeppelin.resource.ChunkedInputStream;
 import org.apache.zeppelin.resource.RemoteResource;
 import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceExporter;
 import org.apache.zeppelin.resource.ResourceId;
 import org.apache.zeppelin.resource.ResourcePoolConnector;
+import org.apache.zeppelin.resource.ResourceSerializers;
 import org.apache.zeppelin.resource.ResourceSet;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -58,15 +70,62 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
 
   private RemoteInterpreterEventService.Client intpEventServiceClient;
   private String intpGroupId;
+  private int resourceTransferChunkSize = 4 * 1024 * 1024;
+  private final AngularObjectUpdateThrottler angularObjectUpdateThrottler;
+  // null when output appends are sent one by one
+  private volatile OutputAppendBatcher outputAppendBatcher;
 
   public RemoteInterpreterEventClient(RemoteInterpreterEventService.Client intpEventServiceClient) {
+    this(intpEventServiceClient, 0, -1);
+  }
+
+  /**
+   * @param intpEventServiceClient
+   * @param angularObjectMaxUpdateRate max updates per second of one AngularObject, 0 for no limit
+   * @param angularObjectPatchThreshold min json size of AngularObject to send updates as patch,
+   *                                    -1 to disable
+   */
+  public RemoteInterpreterEventClient(RemoteInterpreterEventService.Client intpEventServiceClient,
+                                      int angularObjectMaxUpdateRate,
+                                      int angularObjectPatchThreshold) {
     this.intpEventServiceClient = intpEventServiceClient;
+    this.angularObjectUpdateThrottler = new AngularObjectUpdateThrottler(
+        new AngularObjectUpdateThrottler.UpdateSender() {
+          @Override
+          public void sendUpdate(AngularObject object, String json) throws TException {
+            updateAngularObject(json);
+          }
+
+          @Override
+          public void sendPatch(AngularObject object, JsonPatch patch) throws TException {
+            patchAngularObject(object, patch);
+          }
+        }, angularObjectMaxUpdateRate, angularObjectPatchThreshold);
   }
 
   public void setIntpGroupId(String intpGroupId) {
     this.intpGroupId = intpGroupId;
   }
 
+  public void setResourceTransferChunkSize(int resourceTransferChunkSize) {
+    this.resourceTransferChunkSize = resourceTransferChunkSize;
+  }
+
+  /**
+   * Send output appends in batches instead of one by one.
+   *
+   * @param interval max time in ms an append is delayed, 0 to send appends one by one
+   * @param maxSize max number of chars of a batch
+   */
+  public void setOutputBatching(long interval, int maxSize) {
+    OutputAppendBatcher oldBatcher = outputAppendBatcher;
+    outputAppendBatcher = interval > 0 ? new OutputAppendBatcher(this::appendOutputBatch,
+        interval, maxSize) : null;
+    if (oldBatcher != null) {
+      oldBatcher.shutdown();
+    }
+  }
+
   /**
    * Get all resources except for specific resourcePool
    *
@@ -89,22 +148,129 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     }
   }
 
+  /**
+   * Get resources with the given name from all other resource pools, looked up in the resource
+   * index of zeppelin server.
+   *
+   * @param name
+   * @return
+   */
+  @Override
+  public synchronized ResourceSet getResourcesByName(String name) {
+    try {
+      List<String> resources = intpEventServiceClient.getResourcesByName(intpGroupId, name);
+      ResourceSet resourceSet = new ResourceSet();
+      for (String res : resources) {
+        RemoteResource resource = RemoteResource.fromJson(res);
+        resource.setResourcePoolConnector(this);
+        resourceSet.add(resource);
+      }
+      return resourceSet;
+    } catch (TException e) {
+      LOGGER.warn("Fail to getResourcesByName: " + name, e);
+      return null;
+    }
+  }
+
+  @Override
+  public synchronized void onResourcePut(Resource resource) {
+    try {
+      intpEventServiceClient.addResource(intpGroupId, resource.toJson());
+    } catch (TException e) {
+      LOGGER.warn("Fail to addResource: " + resource.getResourceId().getName(), e);
+    }
+  }
+
+  @Override
+  public synchronized void onResourceRemove(ResourceId resourceId) {
+    try {
+      intpEventServiceClient.removeResource(intpGroupId, resourceId.toJson());
+    } catch (TException e) {
+      LOGGER.warn("Fail to removeResource: " + resourceId.getName(), e);
+    }
+  }
+
   public synchronized List<ParagraphInfo> getParagraphList(String user, String noteId)
       throws TException, ServiceException {
     List<ParagraphInfo> paragraphList = intpEventServiceClient.getParagraphList(user, noteId);
     return paragraphList;
   }
 
+  /**
+   * Read remote resource. Big resources are read in chunks, or mapped from the file of the other
+   * interpreter process when it is on the same host, so they are never copied as a whole.
+   *
+   * @param resourceId
+   * @return
+   */
   @Override
-  public synchronized Object readResource(ResourceId resourceId) {
+  public Object readResource(ResourceId resourceId) {
+    ResourceTransfer transfer;
     try {
-      ByteBuffer buffer = intpEventServiceClient.getResource(resourceId.toJson());
-      Object o = Resource.deserializeObject(buffer);
-      return o;
-    } catch (TException | IOException | ClassNotFoundException e) {
-      LOGGER.warn("Failt to readResource: " + resourceId, e);
+      transfer = openResourceTransfer(resourceId);
+    } catch (TException e) {
+      LOGGER.warn("Fail to readResource: " + resourceId, e);
       return null;
     }
+    if (transfer.getSize() < 0) {
+      return null;
+    }
+    try {
+      if (transfer.getTransferId() == null) {
+        return Resource.deserializeObject(transfer.data);
+      }
+      return ResourceSerializers.deserialize(openTransferStream(resourceId, transfer));
+    } catch (IOException | ClassNotFoundException e) {
+      LOGGER.warn("Fail to readResource: " + resourceId, e);
+      return null;
+    } finally {
+      if (transfer.getTransferId() != null) {
+        closeResourceTransfer(resourceId.getResourcePoolId(), transfer.getTransferId());
+      }
+    }
+  }
+
+  private InputStream openTransferStream(ResourceId resourceId, ResourceTransfer transfer) {
+    if (transfer.getPath() != null && transfer.getSize() <= Integer.MAX_VALUE
+        && transfer.getHost() != null && transfer.getHost().equals(ResourceExporter.getHostName())) {
+      File file = new File(transfer.getPath());
+      if (file.length() == transfer.getSize()) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+          return new ByteBufferInputStream(
+              channel.map(FileChannel.MapMode.READ_ONLY, 0, transfer.getSize()));
+        } catch (IOException e) {
+          LOGGER.debug("Fail to map {}, read it from zeppelin server", file, e);
+        }
+      }
+    }
+    final String resourcePoolId = resourceId.getResourcePoolId();
+    final String transferId = transfer.getTransferId();
+    return new ChunkedInputStream(
+        (offset, length) -> readResourceTransfer(resourcePoolId, transferId, offset, length),
+        transfer.getSize(), resourceTransferChunkSize);
+  }
+
+  private synchronized ResourceTransfer openResourceTransfer(ResourceId resourceId)
+      throws TException {
+    return intpEventServiceClient.openResourceTransfer(resourceId.toJson());
+  }
+
+  private synchronized ByteBuffer readResourceTransfer(String resourcePoolId, String transferId,
+                                                       long offset, int length)
+      throws IOException {
+    try {
+      return intpEventServiceClient.readResourceTransfer(resourcePoolId, transferId, offset, length);
+    } catch (TException e) {
+      throw new IOException("Fail to read resource transfer " + transferId, e);
+    }
+  }
+
+  private synchronized void closeResourceTransfer(String resourcePoolId, String transferId) {
+    try {
+      intpEventServiceClient.closeResourceTransfer(resourcePoolId, transferId);
+    } catch (TException e) {
+      LOGGER.warn("Fail to close resource transfer " + transferId, e);
+    }
   }
 
   /**
@@ -179,34 +345,64 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     }
   }
 
-  public synchronized void onInterpreterOutputAppend(
+  // Output events don't hold the lock of this class while calling the batcher, because the
+  // batcher calls back into this class to send the batches. Every output event other than append
+  // flushes the pending appends first, so that the order of output events is kept.
+  public void onInterpreterOutputAppend(
       String noteId, String paragraphId, int outputIndex, String output) {
-    try {
-      intpEventServiceClient.appendOutput(
-          new OutputAppendEvent(noteId, paragraphId, outputIndex, output, null));
-    } catch (TException e) {
-      LOGGER.warn("Fail to appendOutput", e);
+    OutputAppendBatcher batcher = outputAppendBatcher;
+    if (batcher != null) {
+      batcher.append(noteId, paragraphId, outputIndex, output);
+      return;
+    }
+    synchronized (this) {
+      try {
+        intpEventServiceClient.appendOutput(
+            new OutputAppendEvent(noteId, paragraphId, outputIndex, output, null));
+      } catch (TException e) {
+        LOGGER.warn("Fail to appendOutput", e);
+      }
     }
   }
 
-  public synchronized void onInterpreterOutputUpdate(
+  private synchronized void appendOutputBatch(List<OutputAppendEvent> events) throws TException {
+    intpEventServiceClient.appendOutputBatch(events);
+  }
+
+  /**
+   * Send the pending output appends now.
+   */
+  public void flushOutput() {
+    OutputAppendBatcher batcher = outputAppendBatcher;
+    if (batcher != null) {
+      batcher.flush();
+    }
+  }
+
+  public void onInterpreterOutputUpdate(
       String noteId, String paragraphId, int outputIndex,
       InterpreterResult.Type type, String output) {
-    try {
-      intpEventServiceClient.updateOutput(
-          new OutputUpdateEvent(noteId, paragraphId, outputIndex, type.name(), output, null));
-    } catch (TException e) {
-      LOGGER.warn("Fail to updateOutput", e);
+    flushOutput();
+    synchronized (this) {
+      try {
+        intpEventServiceClient.updateOutput(
+            new OutputUpdateEvent(noteId, paragraphId, outputIndex, type.name(), output, null));
+      } catch (TException e) {
+        LOGGER.warn("Fail to updateOutput", e);
+      }
     }
   }
 
-  public synchronized void onInterpreterOutputUpdateAll(
+  public void onInterpreterOutputUpdateAll(
       String noteId, String paragraphId, List<InterpreterResultMessage> messages) {
-    try {
-      intpEventServiceClient.updateAllOutput(
-          new OutputUpdateAllEvent(noteId, paragraphId, convertToThrift(messages)));
-    } catch (TException e) {
-      LOGGER.warn("Fail to updateAllOutput", e);
+    flushOutput();
+    synchronized (this) {
+      try {
+        intpEventServiceClient.updateAllOutput(
+            new OutputUpdateAllEvent(noteId, paragraphId, convertToThrift(messages)));
+      } catch (TException e) {
+        LOGGER.warn("Fail to updateAllOutput", e);
+      }
     }
   }
 
@@ -235,12 +431,23 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     }
   }
 
-  public synchronized void checkpointOutput(String noteId, String paragraphId) {
+  public void checkpointOutput(String noteId, String paragraphId) {
+    flushOutput();
+    synchronized (this) {
+      try {
+        intpEventServiceClient.checkpointOutput(noteId, paragraphId);
+      } catch (TException e) {
+        LOGGER.warn("Fail to checkpointOutput of paragraph: " +
+                paragraphId + " of note: " + noteId, e);
+      }
+    }
+  }
+
+  public synchronized void updateParagraphProgress(List<ParagraphProgressEvent> events) {
     try {
-      intpEventServiceClient.checkpointOutput(noteId, paragraphId);
+      intpEventServiceClient.updateParagraphProgress(events);
     } catch (TException e) {
-      LOGGER.warn("Fail to checkpointOutput of paragraph: " +
-              paragraphId + " of note: " + noteId, e);
+      LOGGER.warn("Fail to updateParagraphProgress: " + events, e);
     }
   }
 
@@ -286,8 +493,16 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
     }
   }
 
+  // AngularObject events don't hold the lock of this class while calling the throttler, because
+  // the throttler calls back into this class to send the updates.
   @Override
-  public synchronized void onAdd(String interpreterGroupId, AngularObject object) {
+  public void onAdd(String interpreterGroupId, AngularObject object) {
+    angularObjectUpdateThrottler.forget(object.getNoteId(), object.getParagraphId(),
+        object.getName());
+    addAngularObject(object);
+  }
+
+  private synchronized void addAngularObject(AngularObject object) {
     try {
       intpEventServiceClient.addAngularObject(intpGroupId, object.toJson());
     } catch (TException e) {
@@ -296,21 +511,55 @@ public class RemoteInterpreterEventClient implements ResourcePoolConnector,
   }
 
   @Override
-  public synchronized void onUpdate(String interpreterGroupId, AngularObject object) {
-    try {
-      intpEventServiceClient.updateAngularObject(intpGroupId, object.toJson());
-    } catch (TException e) {
-      LOGGER.warn("Fail to update AngularObject: " + object, e);
-    }
+  public void onUpdate(String interpreterGroupId, AngularObject object) {
+    angularObjectUpdateThrottler.update(object);
+  }
+
+  private synchronized void updateAngularObject(String json) throws TException {
+    intpEventServiceClient.updateAngularObject(intpGroupId, json);
+  }
+
+  /**
+   * AngularObject is added or updated by zeppelin server, no need to send it back.
+   */
+  public void onAngularObjectUpdatedByServer(AngularObject object) {
+    angularObjectUpdateThrottler.updatedByServer(object);
+  }
+
+  /**
+   * AngularObject is removed by zeppelin server.
+   */
+  public void onAngularObjectRemovedByServer(String name, String noteId, String paragraphId) {
+    angularObjectUpdateThrottler.forget(noteId, paragraphId, name);
+  }
+
+  private synchronized void patchAngularObject(AngularObject object, JsonPatch patch)
+      throws TException {
+    intpEventServiceClient.patchAngularObject(intpGroupId,
+        new AngularObjectId(object.getNoteId(), object.getParagraphId(), object.getName()),
+        patch.toJson());
   }
 
   @Override
-  public synchronized void onRemove(String interpreterGroupId, String name, String noteId,
-                                    String paragraphId) {
+  public void onRemove(String interpreterGroupId, String name, String noteId,
+                       String paragraphId) {
+    angularObjectUpdateThrottler.forget(noteId, paragraphId, name);
+    removeAngularObject(name, noteId, paragraphId);
+  }
+
+  private synchronized void removeAngularObject(String name, String noteId, String paragraphId) {
     try {
       intpEventServiceClient.removeAngularObject(intpGroupId, noteId, paragraphId, name);
     } catch (TException e) {
       LOGGER.warn("Fail to remove AngularObject", e);
     }
   }
+
+  public void shutdown() {
+    angularObjectUpdateThrottler.shutdown();
+    OutputAppendBatcher batcher = outputAppendBatcher;
+    if (batcher != null) {
+      batcher.shutdown();
+    }
+  }
 }
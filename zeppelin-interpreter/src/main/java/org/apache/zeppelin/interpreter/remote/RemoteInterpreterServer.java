@@ -22,12 +22,9 @@ import com.google.gson.reflect.TypeToken;
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.transport.TServerSocket;
-import org.apache.thrift.transport.TSocket;
-import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.zeppelin.cluster.ClusterManagerClient;
 import org.apache.zeppelin.cluster.meta.ClusterMeta;
@@ -57,6 +54,7 @@ import org.apache.zeppelin.interpreter.InterpreterResult.Code;
 import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.interpreter.InterpreterResultMessageOutput;
 import org.apache.zeppelin.interpreter.LazyOpenInterpreter;
+import org.apache.zeppelin.interpreter.thrift.ContextSegmentNotFoundException;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
 import org.apache.zeppelin.interpreter.thrift.RegisterInfo;
 import org.apache.zeppelin.interpreter.thrift.RemoteApplicationResult;
@@ -65,13 +63,17 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResultMessage;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
+import org.apache.zeppelin.interpreter.thrift.ResourceTransfer;
 import org.apache.zeppelin.resource.DistributedResourcePool;
 import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceExporter;
 import org.apache.zeppelin.resource.ResourcePool;
 import org.apache.zeppelin.resource.ResourceSet;
+import org.apache.zeppelin.scheduler.FairScheduler;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.scheduler.JobListener;
+import org.apache.zeppelin.scheduler.JobProgressPoller;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
 import org.apache.zeppelin.user.AuthenticationInfo;
@@ -80,6 +82,7 @@ import org.slf4j.LoggerFactory;
 import sun.misc.Signal;
 import sun.misc.SignalHandler;
 
+import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -111,18 +114,24 @@ public class RemoteInterpreterServer extends Thread
 
   private static Logger logger = LoggerFactory.getLogger(RemoteInterpreterServer.class);
 
+  // transfers of resources which are not closed by the reader within this time are dropped
+  private static final long RESOURCE_TRANSFER_IDLE_TIMEOUT_MS = 10 * 60 * 1000;
+
   private String interpreterGroupId;
   private InterpreterGroup interpreterGroup;
   private AngularObjectRegistry angularObjectRegistry;
   private InterpreterHookRegistry hookRegistry;
   private DistributedResourcePool resourcePool;
+  private ResourceExporter resourceExporter;
   private ApplicationLoader appLoader;
   private Gson gson = new Gson();
+  private final RemoteInterpreterContextRegistry contextRegistry =
+      new RemoteInterpreterContextRegistry();
 
   private String intpEventServerHost;
   private String host;
   private int port;
-  private TThreadPoolServer server;
+  private TServer server;
   RemoteInterpreterEventService.Client intpEventServiceClient;
 
   RemoteInterpreterEventClient intpEventClient;
@@ -137,6 +146,10 @@ public class RemoteInterpreterServer extends Thread
 
   // Hold information for manual progress update
   private ConcurrentMap<String, Integer> progressMap = new ConcurrentHashMap<>();
+  // Push progress of running paragraphs to zeppelin server
+  private ParagraphProgressPusher progressPusher;
+  // rate limits updates of outputs which can't be appended to
+  private OutputUpdateThrottler outputUpdateThrottler;
 
   private boolean isTest;
 
@@ -160,14 +173,22 @@ public class RemoteInterpreterServer extends Thread
       throws TTransportException, IOException {
     logger.info("Starting remote interpreter server on port {}, intpEventServerAddress: {}:{}", port,
             intpEventServerHost, intpEventServerPort);
+    RemoteInterpreterTransport transport = RemoteInterpreterTransport.create(zconf);
     if (null != intpEventServerHost) {
       this.intpEventServerHost = intpEventServerHost;
       if (!isTest) {
-        TTransport transport = new TSocket(intpEventServerHost, intpEventServerPort);
-        transport.open();
-        TProtocol protocol = new TBinaryProtocol(transport);
+        TProtocol protocol = transport.openClientProtocol(intpEventServerHost,
+            intpEventServerPort, RemoteInterpreterTransport.EVENT_SERVICE);
         intpEventServiceClient = new RemoteInterpreterEventService.Client(protocol);
-        intpEventClient = new RemoteInterpreterEventClient(intpEventServiceClient);
+        intpEventClient = new RemoteInterpreterEventClient(intpEventServiceClient,
+            zconf.getAngularObjectMaxUpdateRate(), zconf.getAngularObjectPatchThreshold());
+        intpEventClient.setResourceTransferChunkSize(zconf.getResourceTransferChunkSize());
+        intpEventClient.setOutputBatching(zconf.getInterpreterOutputBatchInterval(),
+            zconf.getInterpreterOutputBatchSize());
+        progressPusher = new ParagraphProgressPusher(intpEventClient, progressMap,
+            JobProgressPoller.DEFAULT_INTERVAL_MSEC);
+        outputUpdateThrottler = new OutputUpdateThrottler(this::sendOutputUpdate,
+            zconf.getInterpreterOutputUpdateInterval());
       }
     } else {
       // DevInterpreter
@@ -177,19 +198,23 @@ public class RemoteInterpreterServer extends Thread
     this.interpreterGroupId = interpreterGroupId;
     RemoteInterpreterService.Processor<RemoteInterpreterServer> processor =
         new RemoteInterpreterService.Processor<>(this);
-    TServerSocket serverTransport;
+    TServerTransport serverTransport;
     if (null == intpEventServerHost) {
       // Dev Interpreter
-      serverTransport = new TServerSocket(intpEventServerPort);
+      serverTransport = transport.createServerTransport(intpEventServerPort);
     } else {
-      serverTransport = RemoteInterpreterUtils.createTServerSocket(portRange);
-      this.port = serverTransport.getServerSocket().getLocalPort();
+      serverTransport = transport.createServerTransport(portRange);
+      this.port = RemoteInterpreterTransport.getLocalPort(serverTransport);
       this.host = RemoteInterpreterUtils.findAvailableHostAddress();
-      logger.info("Launching ThriftServer at " + this.host + ":" + this.port);
+      logger.info("Launching ThriftServer at " + this.host + ":" + this.port
+          + ", transport: " + transport.getMode());
     }
-    server = new TThreadPoolServer(
-        new TThreadPoolServer.Args(serverTransport).processor(processor));
+    server = transport.createServer(serverTransport,
+        RemoteInterpreterTransport.INTERPRETER_SERVICE, processor, "RemoteInterpreterServer-");
     remoteWorksResponsePool = Collections.synchronizedMap(new HashMap<String, Object>());
+    resourceExporter = new ResourceExporter(zconf.getResourceTransferChunkSize(),
+        zconf.getResourceTransferSpillThreshold(), new File(zconf.getResourceTransferSpillDir()),
+        RESOURCE_TRANSFER_IDLE_TIMEOUT_MS);
 
     if (zconf.isClusterMode()) {
       clusterManagerClient = ClusterManagerClient.getInstance(zconf);
@@ -263,6 +288,16 @@ public class RemoteInterpreterServer extends Thread
       if (!isTest) {
         SchedulerFactory.singleton().destroy();
       }
+      if (progressPusher != null) {
+        progressPusher.shutdown();
+      }
+      if (outputUpdateThrottler != null) {
+        outputUpdateThrottler.shutdown();
+      }
+      if (intpEventClient != null) {
+        intpEventClient.shutdown();
+      }
+      resourceExporter.closeAll();
 
       server.stop();
 
@@ -379,7 +414,8 @@ public class RemoteInterpreterServer extends Thread
       interpreterGroup = new InterpreterGroup(interpreterGroupId);
       angularObjectRegistry = new AngularObjectRegistry(interpreterGroup.getId(), intpEventClient);
       hookRegistry = new InterpreterHookRegistry();
-      resourcePool = new DistributedResourcePool(interpreterGroup.getId(), intpEventClient);
+      resourcePool = new DistributedResourcePool(interpreterGroup.getId(), intpEventClient,
+          zconf.getResourcePoolCacheTtl());
       interpreterGroup.setInterpreterHookRegistry(hookRegistry);
       interpreterGroup.setAngularObjectRegistry(angularObjectRegistry);
       interpreterGroup.setResourcePool(resourcePool);
@@ -506,6 +542,9 @@ public class RemoteInterpreterServer extends Thread
               } catch (InterpreterException e) {
                 logger.warn("Fail to close interpreter", e);
               }
+              if (FairScheduler.isEnabled(inp)) {
+                SchedulerFactory.singleton().removeScheduler(getFairSchedulerName(inp));
+              }
               it.remove();
               break;
             }
@@ -526,7 +565,7 @@ public class RemoteInterpreterServer extends Thread
     InterpreterContext context = convert(interpreterContext);
     context.setInterpreterClassName(intp.getClassName());
 
-    Scheduler scheduler = intp.getScheduler();
+    Scheduler scheduler = getScheduler(intp);
     InterpretJobListener jobListener = new InterpretJobListener();
     InterpretJob job = new InterpretJob(
         interpreterContext.getParagraphId(),
@@ -535,6 +574,9 @@ public class RemoteInterpreterServer extends Thread
         intp,
         st,
         context);
+    if (progressPusher != null) {
+      progressPusher.add(job, intp, context);
+    }
     scheduler.submit(job);
 
     while (!job.isTerminated()) {
@@ -547,8 +589,19 @@ public class RemoteInterpreterServer extends Thread
       }
     }
 
+    if (progressPusher != null) {
+      progressPusher.remove(interpreterContext.getParagraphId());
+    }
     progressMap.remove(interpreterContext.getParagraphId());
 
+    // the output streamed while running must arrive before the result
+    if (outputUpdateThrottler != null) {
+      outputUpdateThrottler.flush();
+    }
+    if (intpEventClient != null) {
+      intpEventClient.flushOutput();
+    }
+
     InterpreterResult  result = (InterpreterResult) job.getReturn();
     // in case of job abort in PENDING status, result can be null
     if (result == null) {
@@ -560,6 +613,40 @@ public class RemoteInterpreterServer extends Thread
         context.getNoteGui());
   }
 
+  /**
+   * Scheduler of interpreter, which is FairScheduler if it is enabled in the interpreter setting.
+   * FairScheduler runs one job at a time unless configured otherwise, so it is safe for
+   * interpreters that don't support concurrent jobs. The fair order of the jobs is decided by
+   * RemoteScheduler in ZeppelinServer, FairScheduler here enforces the concurrency caps.
+   *
+   * @param intp
+   * @return
+   */
+  private Scheduler getScheduler(Interpreter intp) {
+    if (!FairScheduler.isEnabled(intp)) {
+      return intp.getScheduler();
+    }
+    boolean queueByNote = FairScheduler.isQueueByNote(intp);
+    return SchedulerFactory.singleton().createOrGetFairScheduler(
+        getFairSchedulerName(intp),
+        FairScheduler.getMaxConcurrency(intp),
+        FairScheduler.getMaxConcurrencyPerQueue(intp),
+        FairScheduler.getWeights(intp),
+        job -> {
+          InterpreterContext context = ((InterpretJob) job).getInterpreterContext();
+          if (queueByNote) {
+            return context.getNoteId();
+          }
+          AuthenticationInfo authInfo = context.getAuthenticationInfo();
+          return authInfo == null || authInfo.getUser() == null ?
+              "anonymous" : authInfo.getUser();
+        });
+  }
+
+  private String getFairSchedulerName(Interpreter intp) {
+    return FairScheduler.class.getSimpleName() + "-" + intp.getClassName() + intp.hashCode();
+  }
+
   class InterpretJobListener implements JobListener {
 
     @Override
@@ -596,6 +683,10 @@ public class RemoteInterpreterServer extends Thread
       this.context = context;
     }
 
+    public InterpreterContext getInterpreterContext() {
+      return context;
+    }
+
     @Override
     public InterpreterResult getReturn() {
       return results;
@@ -746,7 +837,7 @@ public class RemoteInterpreterServer extends Thread
     logger.info("cancel {} {}", className, interpreterContext.getParagraphId());
     Interpreter intp = getInterpreter(sessionId, className);
     String jobId = interpreterContext.getParagraphId();
-    Job job = intp.getScheduler().getJob(jobId);
+    Job job = getScheduler(intp).getJob(jobId);
 
     if (job != null && job.getStatus() == Status.PENDING) {
       job.setStatus(Status.ABORT);
@@ -806,11 +897,14 @@ public class RemoteInterpreterServer extends Thread
     }
   }
 
-  private InterpreterContext convert(RemoteInterpreterContext ric) {
+  private InterpreterContext convert(RemoteInterpreterContext ric)
+      throws ContextSegmentNotFoundException {
     return convert(ric, createInterpreterOutput(ric.getNoteId(), ric.getParagraphId()));
   }
 
-  private InterpreterContext convert(RemoteInterpreterContext ric, InterpreterOutput output) {
+  private InterpreterContext convert(RemoteInterpreterContext ric, InterpreterOutput output)
+      throws ContextSegmentNotFoundException {
+    contextRegistry.resolve(ric);
     return InterpreterContext.builder()
         .setNoteId(ric.getNoteId())
         .setNoteName(ric.getNoteName())
@@ -838,6 +932,10 @@ public class RemoteInterpreterServer extends Thread
     return new InterpreterOutput(new InterpreterOutputListener() {
       @Override
       public void onUpdateAll(InterpreterOutput out) {
+        // pending updates must not arrive after the outputs are replaced
+        if (outputUpdateThrottler != null) {
+          outputUpdateThrottler.flush();
+        }
         try {
           intpEventClient.onInterpreterOutputUpdateAll(
               noteId, paragraphId, out.toInterpreterResultMessage());
@@ -856,19 +954,29 @@ public class RemoteInterpreterServer extends Thread
 
       @Override
       public void onUpdate(int index, InterpreterResultMessageOutput out) {
-        String output;
-        try {
-          output = new String(out.toByteArray());
-          logger.debug("Output Update for index {}: {}", index, output);
-          intpEventClient.onInterpreterOutputUpdate(
-              noteId, paragraphId, index, out.getType(), output);
-        } catch (IOException e) {
-          logger.error(e.getMessage(), e);
+        // updates of appendable outputs clear them, they must not be delayed behind the appends
+        if (outputUpdateThrottler != null && !out.isAppendSupported()) {
+          outputUpdateThrottler.update(noteId, paragraphId, index, out);
+        } else {
+          sendOutputUpdate(noteId, paragraphId, index, out);
         }
       }
     });
   }
 
+  private void sendOutputUpdate(String noteId, String paragraphId, int index,
+                                InterpreterResultMessageOutput out) {
+    String output;
+    try {
+      output = new String(out.toByteArray());
+      logger.debug("Output Update for index {}: {}", index, output);
+      intpEventClient.onInterpreterOutputUpdate(
+          noteId, paragraphId, index, out.getType(), output);
+    } catch (IOException e) {
+      logger.error(e.getMessage(), e);
+    }
+  }
+
   private RemoteInterpreterResult convert(InterpreterResult result,
                                           Map<String, Object> config, GUI gui, GUI noteGui) {
 
@@ -901,7 +1009,7 @@ public class RemoteInterpreterServer extends Thread
       }
 
       for (Interpreter intp : interpreters) {
-        Job job = intp.getScheduler().getJob(jobId);
+        Job job = getScheduler(intp).getJob(jobId);
         if (job != null) {
           return job.getStatus().name();
         }
@@ -931,7 +1039,7 @@ public class RemoteInterpreterServer extends Thread
     }
 
     if (object == null) {
-      ao.set(null, false);
+      setAngularObjectByServer(ao, null);
       return;
     }
 
@@ -940,7 +1048,7 @@ public class RemoteInterpreterServer extends Thread
     if (oldObject != null) {  // first try with previous object's type
       try {
         value = gson.fromJson(object, oldObject.getClass());
-        ao.set(value, false);
+        setAngularObjectByServer(ao, value);
         return;
       } catch (Exception e) {
         // it's not a previous object's type. proceed to treat as a generic type
@@ -965,7 +1073,7 @@ public class RemoteInterpreterServer extends Thread
       value = gson.fromJson(object, String.class);
     }
 
-    ao.set(value, false);
+    setAngularObjectByServer(ao, value);
   }
 
   /**
@@ -999,7 +1107,17 @@ public class RemoteInterpreterServer extends Thread
       value = gson.fromJson(object, String.class);
     }
 
-    registry.add(name, value, noteId, paragraphId, false);
+    ao = registry.add(name, value, noteId, paragraphId, false);
+    if (intpEventClient != null) {
+      intpEventClient.onAngularObjectUpdatedByServer(ao);
+    }
+  }
+
+  private void setAngularObjectByServer(AngularObject ao, Object value) {
+    ao.set(value, false);
+    if (intpEventClient != null) {
+      intpEventClient.onAngularObjectUpdatedByServer(ao);
+    }
   }
 
   @Override
@@ -1007,6 +1125,9 @@ public class RemoteInterpreterServer extends Thread
       TException {
     AngularObjectRegistry registry = interpreterGroup.getAngularObjectRegistry();
     registry.remove(name, noteId, paragraphId, false);
+    if (intpEventClient != null) {
+      intpEventClient.onAngularObjectRemovedByServer(name, noteId, paragraphId);
+    }
   }
 
   @Override
@@ -1050,6 +1171,56 @@ public class RemoteInterpreterServer extends Thread
     }
   }
 
+  @Override
+  public ResourceTransfer resourceOpenTransfer(String noteId, String paragraphId,
+                                               String resourceName) throws TException {
+    logger.debug("Request resourceOpenTransfer {} from ZeppelinServer", resourceName);
+    Resource resource = resourcePool.get(noteId, paragraphId, resourceName, false);
+    ResourceTransfer transfer = new ResourceTransfer();
+    transfer.setSize(-1);
+    if (resource == null || resource.get() == null || !resource.isSerializable()) {
+      return transfer;
+    }
+    try {
+      ResourceExporter.Export export = resourceExporter.export(resource.get());
+      if (export == null) {
+        return transfer;
+      }
+      transfer.setTransferId(export.getTransferId());
+      transfer.setSize(export.getSize());
+      transfer.setData(export.getData());
+      transfer.setHost(ResourceExporter.getHostName());
+      transfer.setPath(export.getPath());
+      return transfer;
+    } catch (IOException e) {
+      logger.error("Fail to serialize resource " + resourceName, e);
+      return transfer;
+    }
+  }
+
+  @Override
+  public ByteBuffer resourceReadTransfer(String transferId, long offset, int length)
+      throws TException {
+    try {
+      return resourceExporter.read(transferId, offset, length);
+    } catch (IOException e) {
+      throw new TException(e);
+    }
+  }
+
+  @Override
+  public void resourceCloseTransfer(String transferId) throws TException {
+    resourceExporter.close(transferId);
+  }
+
+  @Override
+  public void resourceInvalidate(String resourceName) throws TException {
+    logger.debug("Invalidate cached lookups of resource {}", resourceName);
+    if (resourcePool != null) {
+      resourcePool.invalidate(resourceName);
+    }
+  }
+
   @Override
   public ByteBuffer resourceInvokeMethod(
       String noteId, String paragraphId, String resourceName, String invokeMessage) {
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.TMultiplexedProcessor;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TNonblockingServerTransport;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+
+/**
+ * Thrift transport between zeppelin server and interpreter processes. Both sides must use
+ * the same mode, which is set by zeppelin.interpreter.rpc.transport.
+ *
+ * blocking:    TThreadPoolServer, one server thread per connection.
+ * nonblocking: TThreadedSelectorServer with framed transport and multiplexed services.
+ *              Idle connections don't hold any thread, worker threads only run in-flight calls.
+ */
+public class RemoteInterpreterTransport {
+
+  public static final String INTERPRETER_SERVICE = "RemoteInterpreterService";
+  public static final String EVENT_SERVICE = "RemoteInterpreterEventService";
+
+  /**
+   * Transport mode
+   */
+  public enum Mode {
+    BLOCKING,
+    NONBLOCKING
+  }
+
+  private final Mode mode;
+
+  public RemoteInterpreterTransport(Mode mode) {
+    this.mode = mode;
+  }
+
+  public static RemoteInterpreterTransport create(ZeppelinConfiguration zConf) {
+    return new RemoteInterpreterTransport(
+        Mode.valueOf(zConf.getInterpreterRpcTransport().toUpperCase()));
+  }
+
+  public Mode getMode() {
+    return mode;
+  }
+
+  public boolean isNonBlocking() {
+    return mode == Mode.NONBLOCKING;
+  }
+
+  /**
+   * Create server transport on an available port of the portRange.
+   */
+  public TServerTransport createServerTransport(String portRange) throws IOException {
+    if (isNonBlocking()) {
+      return RemoteInterpreterUtils.createTNonblockingServerSocket(portRange);
+    } else {
+      return RemoteInterpreterUtils.createTServerSocket(portRange);
+    }
+  }
+
+  /**
+   * Create server transport on the specified port.
+   */
+  public TServerTransport createServerTransport(int port) throws TTransportException {
+    if (isNonBlocking()) {
+      return new TNonblockingServerSocket(port);
+    } else {
+      return new TServerSocket(port);
+    }
+  }
+
+  public static int getLocalPort(TServerTransport serverTransport) {
+    if (serverTransport instanceof TNonblockingServerSocket) {
+      return ((TNonblockingServerSocket) serverTransport).getPort();
+    } else {
+      return ((TServerSocket) serverTransport).getServerSocket().getLocalPort();
+    }
+  }
+
+  /**
+   * Create thrift server which serves the processor under the serviceName.
+   *
+   * @param threadNamePrefix name prefix of the worker threads of nonblocking server
+   */
+  public TServer createServer(TServerTransport serverTransport,
+                              String serviceName,
+                              TProcessor processor,
+                              String threadNamePrefix) {
+    if (isNonBlocking()) {
+      TMultiplexedProcessor multiplexedProcessor = new TMultiplexedProcessor();
+      multiplexedProcessor.registerProcessor(serviceName, processor);
+      // Calls such as interpret block until the paragraph is finished, so the workers must
+      // not be bounded, otherwise cancel and getProgress would queue behind them.
+      return new TThreadedSelectorServer(
+          new TThreadedSelectorServer.Args((TNonblockingServerTransport) serverTransport)
+              .processor(multiplexedProcessor)
+              .executorService(Executors.newCachedThreadPool(
+                  new SchedulerThreadFactory(threadNamePrefix))));
+    } else {
+      return new TThreadPoolServer(
+          new TThreadPoolServer.Args(serverTransport).processor(processor));
+    }
+  }
+
+  /**
+   * Open the client transport and return the protocol of the service.
+   */
+  public TProtocol openClientProtocol(String host, int port, String serviceName)
+      throws TTransportException {
+    TTransport transport = new TSocket(host, port);
+    if (isNonBlocking()) {
+      // shared resources can be larger than the default max frame size
+      transport = new TFramedTransport(transport, Integer.MAX_VALUE);
+    }
+    transport.open();
+
+    TProtocol protocol = new TBinaryProtocol(transport);
+    if (isNonBlocking()) {
+      protocol = new TMultiplexedProtocol(protocol, serviceName);
+    }
+    return protocol;
+  }
+}
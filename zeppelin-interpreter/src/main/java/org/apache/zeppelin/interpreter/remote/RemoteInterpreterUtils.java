@@ -18,6 +18,7 @@
 package org.apache.zeppelin.interpreter.remote;
 
 import org.apache.commons.lang.StringUtils;
+import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TServerSocket;
 import org.apache.thrift.transport.TTransportException;
 import org.slf4j.Logger;
@@ -93,6 +94,43 @@ public class RemoteInterpreterUtils {
     throw new IOException("No available port in the portRange: " + portRange);
   }
 
+  /**
+   * start:end
+   *
+   * @param portRange
+   * @return
+   * @throws IOException
+   */
+  public static TNonblockingServerSocket createTNonblockingServerSocket(String portRange)
+      throws IOException {
+
+    // ':' is the default value which means no constraints on the portRange
+    if (StringUtils.isBlank(portRange) || portRange.equals(":")) {
+      try {
+        return new TNonblockingServerSocket(0);
+      } catch (TTransportException e) {
+        throw new IOException("Fail to create TNonblockingServerSocket", e);
+      }
+    }
+    int start = 1024;
+    int end = 65535;
+    String[] ports = portRange.split(":", -1);
+    if (!ports[0].isEmpty()) {
+      start = Integer.parseInt(ports[0]);
+    }
+    if (!ports[1].isEmpty()) {
+      end = Integer.parseInt(ports[1]);
+    }
+    for (int i = start; i <= end; ++i) {
+      try {
+        return new TNonblockingServerSocket(i);
+      } catch (Exception e) {
+        // ignore this
+      }
+    }
+    throw new IOException("No available port in the portRange: " + portRange);
+  }
+
   public static String findAvailableHostAddress() throws UnknownHostException, SocketException {
     String zeppelinServerIP = System.getenv("ZEPPELIN_LOCAL_IP");
     if (zeppelinServerIP != null) {
@@ -24,7 +24,7 @@
 package org.apache.zeppelin.interpreter.thrift;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2020-01-07")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2026-10-19")
 public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteInterpreterContext, RemoteInterpreterContext._Fields>, java.io.Serializable, Cloneable, Comparable<RemoteInterpreterContext> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("RemoteInterpreterContext");
 
@@ -39,6 +39,7 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
   private static final org.apache.thrift.protocol.TField GUI_FIELD_DESC = new org.apache.thrift.protocol.TField("gui", org.apache.thrift.protocol.TType.STRING, (short)9);
   private static final org.apache.thrift.protocol.TField NOTE_GUI_FIELD_DESC = new org.apache.thrift.protocol.TField("noteGui", org.apache.thrift.protocol.TType.STRING, (short)10);
   private static final org.apache.thrift.protocol.TField LOCAL_PROPERTIES_FIELD_DESC = new org.apache.thrift.protocol.TField("localProperties", org.apache.thrift.protocol.TType.MAP, (short)11);
+  private static final org.apache.thrift.protocol.TField SEGMENT_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("segmentIds", org.apache.thrift.protocol.TType.MAP, (short)12);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new RemoteInterpreterContextStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new RemoteInterpreterContextTupleSchemeFactory();
@@ -54,6 +55,7 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
   public @org.apache.thrift.annotation.Nullable java.lang.String gui; // required
   public @org.apache.thrift.annotation.Nullable java.lang.String noteGui; // required
   public @org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.String> localProperties; // required
+  public @org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.String> segmentIds; // required
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -67,7 +69,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     CONFIG((short)8, "config"),
     GUI((short)9, "gui"),
     NOTE_GUI((short)10, "noteGui"),
-    LOCAL_PROPERTIES((short)11, "localProperties");
+    LOCAL_PROPERTIES((short)11, "localProperties"),
+    SEGMENT_IDS((short)12, "segmentIds");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -105,6 +108,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
           return NOTE_GUI;
         case 11: // LOCAL_PROPERTIES
           return LOCAL_PROPERTIES;
+        case 12: // SEGMENT_IDS
+          return SEGMENT_IDS;
         default:
           return null;
       }
@@ -173,6 +178,10 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
         new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
             new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
             new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+    tmpMap.put(_Fields.SEGMENT_IDS, new org.apache.thrift.meta_data.FieldMetaData("segmentIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+        new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(RemoteInterpreterContext.class, metaDataMap);
   }
@@ -191,7 +200,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     java.lang.String config,
     java.lang.String gui,
     java.lang.String noteGui,
-    java.util.Map<java.lang.String,java.lang.String> localProperties)
+    java.util.Map<java.lang.String,java.lang.String> localProperties,
+    java.util.Map<java.lang.String,java.lang.String> segmentIds)
   {
     this();
     this.noteId = noteId;
@@ -205,6 +215,7 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     this.gui = gui;
     this.noteGui = noteGui;
     this.localProperties = localProperties;
+    this.segmentIds = segmentIds;
   }
 
   /**
@@ -245,6 +256,10 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       java.util.Map<java.lang.String,java.lang.String> __this__localProperties = new java.util.HashMap<java.lang.String,java.lang.String>(other.localProperties);
       this.localProperties = __this__localProperties;
     }
+    if (other.isSetSegmentIds()) {
+      java.util.Map<java.lang.String,java.lang.String> __this__segmentIds = new java.util.HashMap<java.lang.String,java.lang.String>(other.segmentIds);
+      this.segmentIds = __this__segmentIds;
+    }
   }
 
   public RemoteInterpreterContext deepCopy() {
@@ -264,6 +279,7 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     this.gui = null;
     this.noteGui = null;
     this.localProperties = null;
+    this.segmentIds = null;
   }
 
   @org.apache.thrift.annotation.Nullable
@@ -552,6 +568,42 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     }
   }
 
+  public int getSegmentIdsSize() {
+    return (this.segmentIds == null) ? 0 : this.segmentIds.size();
+  }
+
+  public void putToSegmentIds(java.lang.String key, java.lang.String val) {
+    if (this.segmentIds == null) {
+      this.segmentIds = new java.util.HashMap<java.lang.String,java.lang.String>();
+    }
+    this.segmentIds.put(key, val);
+  }
+
+  @org.apache.thrift.annotation.Nullable
+  public java.util.Map<java.lang.String,java.lang.String> getSegmentIds() {
+    return this.segmentIds;
+  }
+
+  public RemoteInterpreterContext setSegmentIds(@org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.String> segmentIds) {
+    this.segmentIds = segmentIds;
+    return this;
+  }
+
+  public void unsetSegmentIds() {
+    this.segmentIds = null;
+  }
+
+  /** Returns true if field segmentIds is set (has been assigned a value) and false otherwise */
+  public boolean isSetSegmentIds() {
+    return this.segmentIds != null;
+  }
+
+  public void setSegmentIdsIsSet(boolean value) {
+    if (!value) {
+      this.segmentIds = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
     switch (field) {
     case NOTE_ID:
@@ -642,6 +694,14 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       }
       break;
 
+    case SEGMENT_IDS:
+      if (value == null) {
+        unsetSegmentIds();
+      } else {
+        setSegmentIds((java.util.Map<java.lang.String,java.lang.String>)value);
+      }
+      break;
+
     }
   }
 
@@ -681,6 +741,9 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     case LOCAL_PROPERTIES:
       return getLocalProperties();
 
+    case SEGMENT_IDS:
+      return getSegmentIds();
+
     }
     throw new java.lang.IllegalStateException();
   }
@@ -714,6 +777,8 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       return isSetNoteGui();
     case LOCAL_PROPERTIES:
       return isSetLocalProperties();
+    case SEGMENT_IDS:
+      return isSetSegmentIds();
     }
     throw new java.lang.IllegalStateException();
   }
@@ -832,6 +897,15 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
         return false;
     }
 
+    boolean this_present_segmentIds = true && this.isSetSegmentIds();
+    boolean that_present_segmentIds = true && that.isSetSegmentIds();
+    if (this_present_segmentIds || that_present_segmentIds) {
+      if (!(this_present_segmentIds && that_present_segmentIds))
+        return false;
+      if (!this.segmentIds.equals(that.segmentIds))
+        return false;
+    }
+
     return true;
   }
 
@@ -883,6 +957,10 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     if (isSetLocalProperties())
       hashCode = hashCode * 8191 + localProperties.hashCode();
 
+    hashCode = hashCode * 8191 + ((isSetSegmentIds()) ? 131071 : 524287);
+    if (isSetSegmentIds())
+      hashCode = hashCode * 8191 + segmentIds.hashCode();
+
     return hashCode;
   }
 
@@ -1004,6 +1082,16 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.valueOf(isSetSegmentIds()).compareTo(other.isSetSegmentIds());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetSegmentIds()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.segmentIds, other.segmentIds);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -1112,6 +1200,14 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       sb.append(this.localProperties);
     }
     first = false;
+    if (!first) sb.append(", ");
+    sb.append("segmentIds:");
+    if (this.segmentIds == null) {
+      sb.append("null");
+    } else {
+      sb.append(this.segmentIds);
+    }
+    first = false;
     sb.append(")");
     return sb.toString();
   }
@@ -1255,6 +1351,26 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 12: // SEGMENT_IDS
+            if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+              {
+                org.apache.thrift.protocol.TMap _map4 = iprot.readMapBegin();
+                struct.segmentIds = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map4.size);
+                @org.apache.thrift.annotation.Nullable java.lang.String _key5;
+                @org.apache.thrift.annotation.Nullable java.lang.String _val6;
+                for (int _i7 = 0; _i7 < _map4.size; ++_i7)
+                {
+                  _key5 = iprot.readString();
+                  _val6 = iprot.readString();
+                  struct.segmentIds.put(_key5, _val6);
+                }
+                iprot.readMapEnd();
+              }
+              struct.setSegmentIdsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -1324,10 +1440,23 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
         oprot.writeFieldBegin(LOCAL_PROPERTIES_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, struct.localProperties.size()));
-          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter4 : struct.localProperties.entrySet())
+          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter8 : struct.localProperties.entrySet())
           {
-            oprot.writeString(_iter4.getKey());
-            oprot.writeString(_iter4.getValue());
+            oprot.writeString(_iter8.getKey());
+            oprot.writeString(_iter8.getValue());
+          }
+          oprot.writeMapEnd();
+        }
+        oprot.writeFieldEnd();
+      }
+      if (struct.segmentIds != null) {
+        oprot.writeFieldBegin(SEGMENT_IDS_FIELD_DESC);
+        {
+          oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, struct.segmentIds.size()));
+          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter9 : struct.segmentIds.entrySet())
+          {
+            oprot.writeString(_iter9.getKey());
+            oprot.writeString(_iter9.getValue());
           }
           oprot.writeMapEnd();
         }
@@ -1384,7 +1513,10 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       if (struct.isSetLocalProperties()) {
         optionals.set(10);
       }
-      oprot.writeBitSet(optionals, 11);
+      if (struct.isSetSegmentIds()) {
+        optionals.set(11);
+      }
+      oprot.writeBitSet(optionals, 12);
       if (struct.isSetNoteId()) {
         oprot.writeString(struct.noteId);
       }
@@ -1418,10 +1550,20 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       if (struct.isSetLocalProperties()) {
         {
           oprot.writeI32(struct.localProperties.size());
-          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter5 : struct.localProperties.entrySet())
+          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter10 : struct.localProperties.entrySet())
+          {
+            oprot.writeString(_iter10.getKey());
+            oprot.writeString(_iter10.getValue());
+          }
+        }
+      }
+      if (struct.isSetSegmentIds()) {
+        {
+          oprot.writeI32(struct.segmentIds.size());
+          for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter11 : struct.segmentIds.entrySet())
           {
-            oprot.writeString(_iter5.getKey());
-            oprot.writeString(_iter5.getValue());
+            oprot.writeString(_iter11.getKey());
+            oprot.writeString(_iter11.getValue());
           }
         }
       }
@@ -1430,7 +1572,7 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, RemoteInterpreterContext struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(11);
+      java.util.BitSet incoming = iprot.readBitSet(12);
       if (incoming.get(0)) {
         struct.noteId = iprot.readString();
         struct.setNoteIdIsSet(true);
@@ -1473,19 +1615,34 @@ public class RemoteInterpreterContext implements org.apache.thrift.TBase<RemoteI
       }
       if (incoming.get(10)) {
         {
-          org.apache.thrift.protocol.TMap _map6 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.localProperties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map6.size);
-          @org.apache.thrift.annotation.Nullable java.lang.String _key7;
-          @org.apache.thrift.annotation.Nullable java.lang.String _val8;
-          for (int _i9 = 0; _i9 < _map6.size; ++_i9)
+          org.apache.thrift.protocol.TMap _map12 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.localProperties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map12.size);
+          @org.apache.thrift.annotation.Nullable java.lang.String _key13;
+          @org.apache.thrift.annotation.Nullable java.lang.String _val14;
+          for (int _i15 = 0; _i15 < _map12.size; ++_i15)
           {
-            _key7 = iprot.readString();
-            _val8 = iprot.readString();
-            struct.localProperties.put(_key7, _val8);
+            _key13 = iprot.readString();
+            _val14 = iprot.readString();
+            struct.localProperties.put(_key13, _val14);
           }
         }
         struct.setLocalPropertiesIsSet(true);
       }
+      if (incoming.get(11)) {
+        {
+          org.apache.thrift.protocol.TMap _map16 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.segmentIds = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map16.size);
+          @org.apache.thrift.annotation.Nullable java.lang.String _key17;
+          @org.apache.thrift.annotation.Nullable java.lang.String _val18;
+          for (int _i19 = 0; _i19 < _map16.size; ++_i19)
+          {
+            _key17 = iprot.readString();
+            _val18 = iprot.readString();
+            struct.segmentIds.put(_key17, _val18);
+          }
+        }
+        struct.setSegmentIdsIsSet(true);
+      }
     }
   }
 
@@ -24,7 +24,7 @@
 package org.apache.zeppelin.interpreter.thrift;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2020-01-07")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2026-10-19")
 public class RemoteInterpreterEventService {
 
   public interface Iface {
@@ -33,6 +33,8 @@ public class RemoteInterpreterEventService {
 
     public void appendOutput(OutputAppendEvent event) throws org.apache.thrift.TException;
 
+    public void appendOutputBatch(java.util.List<OutputAppendEvent> events) throws org.apache.thrift.TException;
+
     public void updateOutput(OutputUpdateEvent event) throws org.apache.thrift.TException;
 
     public void updateAllOutput(OutputUpdateAllEvent event) throws org.apache.thrift.TException;
@@ -53,16 +55,32 @@ public class RemoteInterpreterEventService {
 
     public void removeAngularObject(java.lang.String intpGroupId, java.lang.String noteId, java.lang.String paragraphId, java.lang.String name) throws org.apache.thrift.TException;
 
+    public void patchAngularObject(java.lang.String intpGroupId, AngularObjectId angularObjectId, java.lang.String patch) throws ServiceException, org.apache.thrift.TException;
+
     public void sendParagraphInfo(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException;
 
     public java.util.List<java.lang.String> getAllResources(java.lang.String intpGroupId) throws org.apache.thrift.TException;
 
+    public java.util.List<java.lang.String> getResourcesByName(java.lang.String intpGroupId, java.lang.String name) throws org.apache.thrift.TException;
+
+    public void addResource(java.lang.String intpGroupId, java.lang.String resourceJson) throws org.apache.thrift.TException;
+
+    public void removeResource(java.lang.String intpGroupId, java.lang.String resourceIdJson) throws org.apache.thrift.TException;
+
     public java.nio.ByteBuffer getResource(java.lang.String resourceIdJson) throws org.apache.thrift.TException;
 
+    public org.apache.zeppelin.interpreter.thrift.ResourceTransfer openResourceTransfer(java.lang.String resourceIdJson) throws org.apache.thrift.TException;
+
+    public java.nio.ByteBuffer readResourceTransfer(java.lang.String resourcePoolId, java.lang.String transferId, long offset, int length) throws org.apache.thrift.TException;
+
+    public void closeResourceTransfer(java.lang.String resourcePoolId, java.lang.String transferId) throws org.apache.thrift.TException;
+
     public java.nio.ByteBuffer invokeMethod(java.lang.String intpGroupId, java.lang.String invokeMethodJson) throws org.apache.thrift.TException;
 
     public java.util.List<ParagraphInfo> getParagraphList(java.lang.String user, java.lang.String noteId) throws ServiceException, org.apache.thrift.TException;
 
+    public void updateParagraphProgress(java.util.List<ParagraphProgressEvent> events) throws org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
@@ -71,6 +89,8 @@ public class RemoteInterpreterEventService {
 
     public void appendOutput(OutputAppendEvent event, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
+    public void appendOutputBatch(java.util.List<OutputAppendEvent> events, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
     public void updateOutput(OutputUpdateEvent event, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void updateAllOutput(OutputUpdateAllEvent event, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
@@ -91,16 +111,32 @@ public class RemoteInterpreterEventService {
 
     public void removeAngularObject(java.lang.String intpGroupId, java.lang.String noteId, java.lang.String paragraphId, java.lang.String name, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
+    public void patchAngularObject(java.lang.String intpGroupId, AngularObjectId angularObjectId, java.lang.String patch, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
     public void sendParagraphInfo(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void getAllResources(java.lang.String intpGroupId, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException;
 
+    public void getResourcesByName(java.lang.String intpGroupId, java.lang.String name, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException;
+
+    public void addResource(java.lang.String intpGroupId, java.lang.String resourceJson, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
+    public void removeResource(java.lang.String intpGroupId, java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
     public void getResource(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException;
 
+    public void openResourceTransfer(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<org.apache.zeppelin.interpreter.thrift.ResourceTransfer> resultHandler) throws org.apache.thrift.TException;
+
+    public void readResourceTransfer(java.lang.String resourcePoolId, java.lang.String transferId, long offset, int length, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException;
+
+    public void closeResourceTransfer(java.lang.String resourcePoolId, java.lang.String transferId, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
     public void invokeMethod(java.lang.String intpGroupId, java.lang.String invokeMethodJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException;
 
     public void getParagraphList(java.lang.String user, java.lang.String noteId, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> resultHandler) throws org.apache.thrift.TException;
 
+    public void updateParagraphProgress(java.util.List<ParagraphProgressEvent> events, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -163,6 +199,26 @@ public class RemoteInterpreterEventService {
       return;
     }
 
+    public void appendOutputBatch(java.util.List<OutputAppendEvent> events) throws org.apache.thrift.TException
+    {
+      send_appendOutputBatch(events);
+      recv_appendOutputBatch();
+    }
+
+    public void send_appendOutputBatch(java.util.List<OutputAppendEvent> events) throws org.apache.thrift.TException
+    {
+      appendOutputBatch_args args = new appendOutputBatch_args();
+      args.setEvents(events);
+      sendBase("appendOutputBatch", args);
+    }
+
+    public void recv_appendOutputBatch() throws org.apache.thrift.TException
+    {
+      appendOutputBatch_result result = new appendOutputBatch_result();
+      receiveBase(result, "appendOutputBatch");
+      return;
+    }
+
     public void updateOutput(OutputUpdateEvent event) throws org.apache.thrift.TException
     {
       send_updateOutput(event);
@@ -369,6 +425,31 @@ public class RemoteInterpreterEventService {
       return;
     }
 
+    public void patchAngularObject(java.lang.String intpGroupId, AngularObjectId angularObjectId, java.lang.String patch) throws ServiceException, org.apache.thrift.TException
+    {
+      send_patchAngularObject(intpGroupId, angularObjectId, patch);
+      recv_patchAngularObject();
+    }
+
+    public void send_patchAngularObject(java.lang.String intpGroupId, AngularObjectId angularObjectId, java.lang.String patch) throws org.apache.thrift.TException
+    {
+      patchAngularObject_args args = new patchAngularObject_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setAngularObjectId(angularObjectId);
+      args.setPatch(patch);
+      sendBase("patchAngularObject", args);
+    }
+
+    public void recv_patchAngularObject() throws ServiceException, org.apache.thrift.TException
+    {
+      patchAngularObject_result result = new patchAngularObject_result();
+      receiveBase(result, "patchAngularObject");
+      if (result.e != null) {
+        throw result.e;
+      }
+      return;
+    }
+
     public void sendParagraphInfo(java.lang.String intpGroupId, java.lang.String json) throws org.apache.thrift.TException
     {
       send_sendParagraphInfo(intpGroupId, json);
@@ -413,6 +494,72 @@ public class RemoteInterpreterEventService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getAllResources failed: unknown result");
     }
 
+    public java.util.List<java.lang.String> getResourcesByName(java.lang.String intpGroupId, java.lang.String name) throws org.apache.thrift.TException
+    {
+      send_getResourcesByName(intpGroupId, name);
+      return recv_getResourcesByName();
+    }
+
+    public void send_getResourcesByName(java.lang.String intpGroupId, java.lang.String name) throws org.apache.thrift.TException
+    {
+      getResourcesByName_args args = new getResourcesByName_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setName(name);
+      sendBase("getResourcesByName", args);
+    }
+
+    public java.util.List<java.lang.String> recv_getResourcesByName() throws org.apache.thrift.TException
+    {
+      getResourcesByName_result result = new getResourcesByName_result();
+      receiveBase(result, "getResourcesByName");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getResourcesByName failed: unknown result");
+    }
+
+    public void addResource(java.lang.String intpGroupId, java.lang.String resourceJson) throws org.apache.thrift.TException
+    {
+      send_addResource(intpGroupId, resourceJson);
+      recv_addResource();
+    }
+
+    public void send_addResource(java.lang.String intpGroupId, java.lang.String resourceJson) throws org.apache.thrift.TException
+    {
+      addResource_args args = new addResource_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setResourceJson(resourceJson);
+      sendBase("addResource", args);
+    }
+
+    public void recv_addResource() throws org.apache.thrift.TException
+    {
+      addResource_result result = new addResource_result();
+      receiveBase(result, "addResource");
+      return;
+    }
+
+    public void removeResource(java.lang.String intpGroupId, java.lang.String resourceIdJson) throws org.apache.thrift.TException
+    {
+      send_removeResource(intpGroupId, resourceIdJson);
+      recv_removeResource();
+    }
+
+    public void send_removeResource(java.lang.String intpGroupId, java.lang.String resourceIdJson) throws org.apache.thrift.TException
+    {
+      removeResource_args args = new removeResource_args();
+      args.setIntpGroupId(intpGroupId);
+      args.setResourceIdJson(resourceIdJson);
+      sendBase("removeResource", args);
+    }
+
+    public void recv_removeResource() throws org.apache.thrift.TException
+    {
+      removeResource_result result = new removeResource_result();
+      receiveBase(result, "removeResource");
+      return;
+    }
+
     public java.nio.ByteBuffer getResource(java.lang.String resourceIdJson) throws org.apache.thrift.TException
     {
       send_getResource(resourceIdJson);
@@ -436,6 +583,76 @@ public class RemoteInterpreterEventService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getResource failed: unknown result");
     }
 
+    public org.apache.zeppelin.interpreter.thrift.ResourceTransfer openResourceTransfer(java.lang.String resourceIdJson) throws org.apache.thrift.TException
+    {
+      send_openResourceTransfer(resourceIdJson);
+      return recv_openResourceTransfer();
+    }
+
+    public void send_openResourceTransfer(java.lang.String resourceIdJson) throws org.apache.thrift.TException
+    {
+      openResourceTransfer_args args = new openResourceTransfer_args();
+      args.setResourceIdJson(resourceIdJson);
+      sendBase("openResourceTransfer", args);
+    }
+
+    public org.apache.zeppelin.interpreter.thrift.ResourceTransfer recv_openResourceTransfer() throws org.apache.thrift.TException
+    {
+      openResourceTransfer_result result = new openResourceTransfer_result();
+      receiveBase(result, "openResourceTransfer");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "openResourceTransfer failed: unknown result");
+    }
+
+    public java.nio.ByteBuffer readResourceTransfer(java.lang.String resourcePoolId, java.lang.String transferId, long offset, int length) throws org.apache.thrift.TException
+    {
+      send_readResourceTransfer(resourcePoolId, transferId, offset, length);
+      return recv_readResourceTransfer();
+    }
+
+    public void send_readResourceTransfer(java.lang.String resourcePoolId, java.lang.String transferId, long offset, int length) throws org.apache.thrift.TException
+    {
+      readResourceTransfer_args args = new readResourceTransfer_args();
+      args.setResourcePoolId(resourcePoolId);
+      args.setTransferId(transferId);
+      args.setOffset(offset);
+      args.setLength(length);
+      sendBase("readResourceTransfer", args);
+    }
+
+    public java.nio.ByteBuffer recv_readResourceTransfer() throws org.apache.thrift.TException
+    {
+      readResourceTransfer_result result = new readResourceTransfer_result();
+      receiveBase(result, "readResourceTransfer");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "readResourceTransfer failed: unknown result");
+    }
+
+    public void closeResourceTransfer(java.lang.String resourcePoolId, java.lang.String transferId) throws org.apache.thrift.TException
+    {
+      send_closeResourceTransfer(resourcePoolId, transferId);
+      recv_closeResourceTransfer();
+    }
+
+    public void send_closeResourceTransfer(java.lang.String resourcePoolId, java.lang.String transferId) throws org.apache.thrift.TException
+    {
+      closeResourceTransfer_args args = new closeResourceTransfer_args();
+      args.setResourcePoolId(resourcePoolId);
+      args.setTransferId(transferId);
+      sendBase("closeResourceTransfer", args);
+    }
+
+    public void recv_closeResourceTransfer() throws org.apache.thrift.TException
+    {
+      closeResourceTransfer_result result = new closeResourceTransfer_result();
+      receiveBase(result, "closeResourceTransfer");
+      return;
+    }
+
     public java.nio.ByteBuffer invokeMethod(java.lang.String intpGroupId, java.lang.String invokeMethodJson) throws org.apache.thrift.TException
     {
       send_invokeMethod(intpGroupId, invokeMethodJson);
@@ -487,6 +704,26 @@ public class RemoteInterpreterEventService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getParagraphList failed: unknown result");
     }
 
+    public void updateParagraphProgress(java.util.List<ParagraphProgressEvent> events) throws org.apache.thrift.TException
+    {
+      send_updateParagraphProgress(events);
+      recv_updateParagraphProgress();
+    }
+
+    public void send_updateParagraphProgress(java.util.List<ParagraphProgressEvent> events) throws org.apache.thrift.TException
+    {
+      updateParagraphProgress_args args = new updateParagraphProgress_args();
+      args.setEvents(events);
+      sendBase("updateParagraphProgress", args);
+    }
+
+    public void recv_updateParagraphProgress() throws org.apache.thrift.TException
+    {
+      updateParagraphProgress_result result = new updateParagraphProgress_result();
+      receiveBase(result, "updateParagraphProgress");
+      return;
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -569,6 +806,38 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public void appendOutputBatch(java.util.List<OutputAppendEvent> events, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      appendOutputBatch_call method_call = new appendOutputBatch_call(events, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class appendOutputBatch_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.util.List<OutputAppendEvent> events;
+      public appendOutputBatch_call(java.util.List<OutputAppendEvent> events, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.events = events;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("appendOutputBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        appendOutputBatch_args args = new appendOutputBatch_args();
+        args.setEvents(events);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
     public void updateOutput(OutputUpdateEvent event, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       updateOutput_call method_call = new updateOutput_call(event, resultHandler, this, ___protocolFactory, ___transport);
@@ -907,6 +1176,44 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public void patchAngularObject(java.lang.String intpGroupId, AngularObjectId angularObjectId, java.lang.String patch, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      patchAngularObject_call method_call = new patchAngularObject_call(intpGroupId, angularObjectId, patch, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class patchAngularObject_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.lang.String intpGroupId;
+      private AngularObjectId angularObjectId;
+      private java.lang.String patch;
+      public patchAngularObject_call(java.lang.String intpGroupId, AngularObjectId angularObjectId, java.lang.String patch, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.intpGroupId = intpGroupId;
+        this.angularObjectId = angularObjectId;
+        this.patch = patch;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("patchAngularObject", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        patchAngularObject_args args = new patchAngularObject_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setAngularObjectId(angularObjectId);
+        args.setPatch(patch);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws ServiceException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
     public void sendParagraphInfo(java.lang.String intpGroupId, java.lang.String json, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       sendParagraphInfo_call method_call = new sendParagraphInfo_call(intpGroupId, json, resultHandler, this, ___protocolFactory, ___transport);
@@ -974,138 +1281,392 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public void getResource(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+    public void getResourcesByName(java.lang.String intpGroupId, java.lang.String name, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      getResource_call method_call = new getResource_call(resourceIdJson, resultHandler, this, ___protocolFactory, ___transport);
+      getResourcesByName_call method_call = new getResourcesByName_call(intpGroupId, name, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class getResource_call extends org.apache.thrift.async.TAsyncMethodCall<java.nio.ByteBuffer> {
-      private java.lang.String resourceIdJson;
-      public getResource_call(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+    public static class getResourcesByName_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<java.lang.String>> {
+      private java.lang.String intpGroupId;
+      private java.lang.String name;
+      public getResourcesByName_call(java.lang.String intpGroupId, java.lang.String name, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
-        this.resourceIdJson = resourceIdJson;
+        this.intpGroupId = intpGroupId;
+        this.name = name;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getResource", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        getResource_args args = new getResource_args();
-        args.setResourceIdJson(resourceIdJson);
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getResourcesByName", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getResourcesByName_args args = new getResourcesByName_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setName(name);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public java.nio.ByteBuffer getResult() throws org.apache.thrift.TException {
+      public java.util.List<java.lang.String> getResult() throws org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new java.lang.IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return (new Client(prot)).recv_getResource();
+        return (new Client(prot)).recv_getResourcesByName();
       }
     }
 
-    public void invokeMethod(java.lang.String intpGroupId, java.lang.String invokeMethodJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+    public void addResource(java.lang.String intpGroupId, java.lang.String resourceJson, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      invokeMethod_call method_call = new invokeMethod_call(intpGroupId, invokeMethodJson, resultHandler, this, ___protocolFactory, ___transport);
+      addResource_call method_call = new addResource_call(intpGroupId, resourceJson, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class invokeMethod_call extends org.apache.thrift.async.TAsyncMethodCall<java.nio.ByteBuffer> {
+    public static class addResource_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
       private java.lang.String intpGroupId;
-      private java.lang.String invokeMethodJson;
-      public invokeMethod_call(java.lang.String intpGroupId, java.lang.String invokeMethodJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private java.lang.String resourceJson;
+      public addResource_call(java.lang.String intpGroupId, java.lang.String resourceJson, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.intpGroupId = intpGroupId;
-        this.invokeMethodJson = invokeMethodJson;
+        this.resourceJson = resourceJson;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("invokeMethod", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        invokeMethod_args args = new invokeMethod_args();
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("addResource", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        addResource_args args = new addResource_args();
         args.setIntpGroupId(intpGroupId);
-        args.setInvokeMethodJson(invokeMethodJson);
+        args.setResourceJson(resourceJson);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public java.nio.ByteBuffer getResult() throws org.apache.thrift.TException {
+      public Void getResult() throws org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new java.lang.IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return (new Client(prot)).recv_invokeMethod();
+        return null;
       }
     }
 
-    public void getParagraphList(java.lang.String user, java.lang.String noteId, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> resultHandler) throws org.apache.thrift.TException {
+    public void removeResource(java.lang.String intpGroupId, java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      getParagraphList_call method_call = new getParagraphList_call(user, noteId, resultHandler, this, ___protocolFactory, ___transport);
+      removeResource_call method_call = new removeResource_call(intpGroupId, resourceIdJson, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class getParagraphList_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<ParagraphInfo>> {
-      private java.lang.String user;
-      private java.lang.String noteId;
-      public getParagraphList_call(java.lang.String user, java.lang.String noteId, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+    public static class removeResource_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.lang.String intpGroupId;
+      private java.lang.String resourceIdJson;
+      public removeResource_call(java.lang.String intpGroupId, java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
-        this.user = user;
-        this.noteId = noteId;
+        this.intpGroupId = intpGroupId;
+        this.resourceIdJson = resourceIdJson;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getParagraphList", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        getParagraphList_args args = new getParagraphList_args();
-        args.setUser(user);
-        args.setNoteId(noteId);
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("removeResource", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        removeResource_args args = new removeResource_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setResourceIdJson(resourceIdJson);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public java.util.List<ParagraphInfo> getResult() throws ServiceException, org.apache.thrift.TException {
+      public Void getResult() throws org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new java.lang.IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return (new Client(prot)).recv_getParagraphList();
+        return null;
       }
     }
 
-  }
-
-  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
-    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(Processor.class.getName());
-    public Processor(I iface) {
-      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
+    public void getResource(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getResource_call method_call = new getResource_call(resourceIdJson, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-    protected Processor(I iface, java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> processMap) {
-      super(iface, getProcessMap(processMap));
-    }
+    public static class getResource_call extends org.apache.thrift.async.TAsyncMethodCall<java.nio.ByteBuffer> {
+      private java.lang.String resourceIdJson;
+      public getResource_call(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.resourceIdJson = resourceIdJson;
+      }
 
-    private static <I extends Iface> java.util.Map<java.lang.String,  org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> getProcessMap(java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
-      processMap.put("registerInterpreterProcess", new registerInterpreterProcess());
-      processMap.put("appendOutput", new appendOutput());
-      processMap.put("updateOutput", new updateOutput());
-      processMap.put("updateAllOutput", new updateAllOutput());
-      processMap.put("appendAppOutput", new appendAppOutput());
-      processMap.put("updateAppOutput", new updateAppOutput());
-      processMap.put("updateAppStatus", new updateAppStatus());
-      processMap.put("checkpointOutput", new checkpointOutput());
-      processMap.put("runParagraphs", new runParagraphs());
-      processMap.put("addAngularObject", new addAngularObject());
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getResource", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getResource_args args = new getResource_args();
+        args.setResourceIdJson(resourceIdJson);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.nio.ByteBuffer getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getResource();
+      }
+    }
+
+    public void openResourceTransfer(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<org.apache.zeppelin.interpreter.thrift.ResourceTransfer> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      openResourceTransfer_call method_call = new openResourceTransfer_call(resourceIdJson, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class openResourceTransfer_call extends org.apache.thrift.async.TAsyncMethodCall<org.apache.zeppelin.interpreter.thrift.ResourceTransfer> {
+      private java.lang.String resourceIdJson;
+      public openResourceTransfer_call(java.lang.String resourceIdJson, org.apache.thrift.async.AsyncMethodCallback<org.apache.zeppelin.interpreter.thrift.ResourceTransfer> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.resourceIdJson = resourceIdJson;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("openResourceTransfer", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        openResourceTransfer_args args = new openResourceTransfer_args();
+        args.setResourceIdJson(resourceIdJson);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public org.apache.zeppelin.interpreter.thrift.ResourceTransfer getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_openResourceTransfer();
+      }
+    }
+
+    public void readResourceTransfer(java.lang.String resourcePoolId, java.lang.String transferId, long offset, int length, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      readResourceTransfer_call method_call = new readResourceTransfer_call(resourcePoolId, transferId, offset, length, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class readResourceTransfer_call extends org.apache.thrift.async.TAsyncMethodCall<java.nio.ByteBuffer> {
+      private java.lang.String resourcePoolId;
+      private java.lang.String transferId;
+      private long offset;
+      private int length;
+      public readResourceTransfer_call(java.lang.String resourcePoolId, java.lang.String transferId, long offset, int length, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.resourcePoolId = resourcePoolId;
+        this.transferId = transferId;
+        this.offset = offset;
+        this.length = length;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("readResourceTransfer", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        readResourceTransfer_args args = new readResourceTransfer_args();
+        args.setResourcePoolId(resourcePoolId);
+        args.setTransferId(transferId);
+        args.setOffset(offset);
+        args.setLength(length);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.nio.ByteBuffer getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_readResourceTransfer();
+      }
+    }
+
+    public void closeResourceTransfer(java.lang.String resourcePoolId, java.lang.String transferId, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      closeResourceTransfer_call method_call = new closeResourceTransfer_call(resourcePoolId, transferId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class closeResourceTransfer_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.lang.String resourcePoolId;
+      private java.lang.String transferId;
+      public closeResourceTransfer_call(java.lang.String resourcePoolId, java.lang.String transferId, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.resourcePoolId = resourcePoolId;
+        this.transferId = transferId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("closeResourceTransfer", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        closeResourceTransfer_args args = new closeResourceTransfer_args();
+        args.setResourcePoolId(resourcePoolId);
+        args.setTransferId(transferId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
+    public void invokeMethod(java.lang.String intpGroupId, java.lang.String invokeMethodJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      invokeMethod_call method_call = new invokeMethod_call(intpGroupId, invokeMethodJson, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class invokeMethod_call extends org.apache.thrift.async.TAsyncMethodCall<java.nio.ByteBuffer> {
+      private java.lang.String intpGroupId;
+      private java.lang.String invokeMethodJson;
+      public invokeMethod_call(java.lang.String intpGroupId, java.lang.String invokeMethodJson, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.intpGroupId = intpGroupId;
+        this.invokeMethodJson = invokeMethodJson;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("invokeMethod", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        invokeMethod_args args = new invokeMethod_args();
+        args.setIntpGroupId(intpGroupId);
+        args.setInvokeMethodJson(invokeMethodJson);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.nio.ByteBuffer getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_invokeMethod();
+      }
+    }
+
+    public void getParagraphList(java.lang.String user, java.lang.String noteId, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getParagraphList_call method_call = new getParagraphList_call(user, noteId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getParagraphList_call extends org.apache.thrift.async.TAsyncMethodCall<java.util.List<ParagraphInfo>> {
+      private java.lang.String user;
+      private java.lang.String noteId;
+      public getParagraphList_call(java.lang.String user, java.lang.String noteId, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.user = user;
+        this.noteId = noteId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getParagraphList", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getParagraphList_args args = new getParagraphList_args();
+        args.setUser(user);
+        args.setNoteId(noteId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.util.List<ParagraphInfo> getResult() throws ServiceException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getParagraphList();
+      }
+    }
+
+    public void updateParagraphProgress(java.util.List<ParagraphProgressEvent> events, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      updateParagraphProgress_call method_call = new updateParagraphProgress_call(events, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class updateParagraphProgress_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.util.List<ParagraphProgressEvent> events;
+      public updateParagraphProgress_call(java.util.List<ParagraphProgressEvent> events, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.events = events;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("updateParagraphProgress", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        updateParagraphProgress_args args = new updateParagraphProgress_args();
+        args.setEvents(events);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
+  }
+
+  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
+    private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(Processor.class.getName());
+    public Processor(I iface) {
+      super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
+    }
+
+    protected Processor(I iface, java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
+
+    private static <I extends Iface> java.util.Map<java.lang.String,  org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>> getProcessMap(java.util.Map<java.lang.String, org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
+      processMap.put("registerInterpreterProcess", new registerInterpreterProcess());
+      processMap.put("appendOutput", new appendOutput());
+      processMap.put("appendOutputBatch", new appendOutputBatch());
+      processMap.put("updateOutput", new updateOutput());
+      processMap.put("updateAllOutput", new updateAllOutput());
+      processMap.put("appendAppOutput", new appendAppOutput());
+      processMap.put("updateAppOutput", new updateAppOutput());
+      processMap.put("updateAppStatus", new updateAppStatus());
+      processMap.put("checkpointOutput", new checkpointOutput());
+      processMap.put("runParagraphs", new runParagraphs());
+      processMap.put("addAngularObject", new addAngularObject());
       processMap.put("updateAngularObject", new updateAngularObject());
       processMap.put("removeAngularObject", new removeAngularObject());
+      processMap.put("patchAngularObject", new patchAngularObject());
       processMap.put("sendParagraphInfo", new sendParagraphInfo());
       processMap.put("getAllResources", new getAllResources());
+      processMap.put("getResourcesByName", new getResourcesByName());
+      processMap.put("addResource", new addResource());
+      processMap.put("removeResource", new removeResource());
       processMap.put("getResource", new getResource());
+      processMap.put("openResourceTransfer", new openResourceTransfer());
+      processMap.put("readResourceTransfer", new readResourceTransfer());
+      processMap.put("closeResourceTransfer", new closeResourceTransfer());
       processMap.put("invokeMethod", new invokeMethod());
       processMap.put("getParagraphList", new getParagraphList());
+      processMap.put("updateParagraphProgress", new updateParagraphProgress());
       return processMap;
     }
 
@@ -1159,6 +1720,31 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class appendOutputBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, appendOutputBatch_args> {
+      public appendOutputBatch() {
+        super("appendOutputBatch");
+      }
+
+      public appendOutputBatch_args getEmptyArgsInstance() {
+        return new appendOutputBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public appendOutputBatch_result getResult(I iface, appendOutputBatch_args args) throws org.apache.thrift.TException {
+        appendOutputBatch_result result = new appendOutputBatch_result();
+        iface.appendOutputBatch(args.events);
+        return result;
+      }
+    }
+
     public static class updateOutput<I extends Iface> extends org.apache.thrift.ProcessFunction<I, updateOutput_args> {
       public updateOutput() {
         super("updateOutput");
@@ -1409,6 +1995,35 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class patchAngularObject<I extends Iface> extends org.apache.thrift.ProcessFunction<I, patchAngularObject_args> {
+      public patchAngularObject() {
+        super("patchAngularObject");
+      }
+
+      public patchAngularObject_args getEmptyArgsInstance() {
+        return new patchAngularObject_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public patchAngularObject_result getResult(I iface, patchAngularObject_args args) throws org.apache.thrift.TException {
+        patchAngularObject_result result = new patchAngularObject_result();
+        try {
+          iface.patchAngularObject(args.intpGroupId, args.angularObjectId, args.patch);
+        } catch (ServiceException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class sendParagraphInfo<I extends Iface> extends org.apache.thrift.ProcessFunction<I, sendParagraphInfo_args> {
       public sendParagraphInfo() {
         super("sendParagraphInfo");
@@ -1459,13 +2074,13 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public static class getResource<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getResource_args> {
-      public getResource() {
-        super("getResource");
+    public static class getResourcesByName<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getResourcesByName_args> {
+      public getResourcesByName() {
+        super("getResourcesByName");
       }
 
-      public getResource_args getEmptyArgsInstance() {
-        return new getResource_args();
+      public getResourcesByName_args getEmptyArgsInstance() {
+        return new getResourcesByName_args();
       }
 
       protected boolean isOneway() {
@@ -1477,20 +2092,20 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public getResource_result getResult(I iface, getResource_args args) throws org.apache.thrift.TException {
-        getResource_result result = new getResource_result();
-        result.success = iface.getResource(args.resourceIdJson);
+      public getResourcesByName_result getResult(I iface, getResourcesByName_args args) throws org.apache.thrift.TException {
+        getResourcesByName_result result = new getResourcesByName_result();
+        result.success = iface.getResourcesByName(args.intpGroupId, args.name);
         return result;
       }
     }
 
-    public static class invokeMethod<I extends Iface> extends org.apache.thrift.ProcessFunction<I, invokeMethod_args> {
-      public invokeMethod() {
-        super("invokeMethod");
+    public static class addResource<I extends Iface> extends org.apache.thrift.ProcessFunction<I, addResource_args> {
+      public addResource() {
+        super("addResource");
       }
 
-      public invokeMethod_args getEmptyArgsInstance() {
-        return new invokeMethod_args();
+      public addResource_args getEmptyArgsInstance() {
+        return new addResource_args();
       }
 
       protected boolean isOneway() {
@@ -1502,8 +2117,158 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public invokeMethod_result getResult(I iface, invokeMethod_args args) throws org.apache.thrift.TException {
-        invokeMethod_result result = new invokeMethod_result();
+      public addResource_result getResult(I iface, addResource_args args) throws org.apache.thrift.TException {
+        addResource_result result = new addResource_result();
+        iface.addResource(args.intpGroupId, args.resourceJson);
+        return result;
+      }
+    }
+
+    public static class removeResource<I extends Iface> extends org.apache.thrift.ProcessFunction<I, removeResource_args> {
+      public removeResource() {
+        super("removeResource");
+      }
+
+      public removeResource_args getEmptyArgsInstance() {
+        return new removeResource_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public removeResource_result getResult(I iface, removeResource_args args) throws org.apache.thrift.TException {
+        removeResource_result result = new removeResource_result();
+        iface.removeResource(args.intpGroupId, args.resourceIdJson);
+        return result;
+      }
+    }
+
+    public static class getResource<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getResource_args> {
+      public getResource() {
+        super("getResource");
+      }
+
+      public getResource_args getEmptyArgsInstance() {
+        return new getResource_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public getResource_result getResult(I iface, getResource_args args) throws org.apache.thrift.TException {
+        getResource_result result = new getResource_result();
+        result.success = iface.getResource(args.resourceIdJson);
+        return result;
+      }
+    }
+
+    public static class openResourceTransfer<I extends Iface> extends org.apache.thrift.ProcessFunction<I, openResourceTransfer_args> {
+      public openResourceTransfer() {
+        super("openResourceTransfer");
+      }
+
+      public openResourceTransfer_args getEmptyArgsInstance() {
+        return new openResourceTransfer_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public openResourceTransfer_result getResult(I iface, openResourceTransfer_args args) throws org.apache.thrift.TException {
+        openResourceTransfer_result result = new openResourceTransfer_result();
+        result.success = iface.openResourceTransfer(args.resourceIdJson);
+        return result;
+      }
+    }
+
+    public static class readResourceTransfer<I extends Iface> extends org.apache.thrift.ProcessFunction<I, readResourceTransfer_args> {
+      public readResourceTransfer() {
+        super("readResourceTransfer");
+      }
+
+      public readResourceTransfer_args getEmptyArgsInstance() {
+        return new readResourceTransfer_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public readResourceTransfer_result getResult(I iface, readResourceTransfer_args args) throws org.apache.thrift.TException {
+        readResourceTransfer_result result = new readResourceTransfer_result();
+        result.success = iface.readResourceTransfer(args.resourcePoolId, args.transferId, args.offset, args.length);
+        return result;
+      }
+    }
+
+    public static class closeResourceTransfer<I extends Iface> extends org.apache.thrift.ProcessFunction<I, closeResourceTransfer_args> {
+      public closeResourceTransfer() {
+        super("closeResourceTransfer");
+      }
+
+      public closeResourceTransfer_args getEmptyArgsInstance() {
+        return new closeResourceTransfer_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public closeResourceTransfer_result getResult(I iface, closeResourceTransfer_args args) throws org.apache.thrift.TException {
+        closeResourceTransfer_result result = new closeResourceTransfer_result();
+        iface.closeResourceTransfer(args.resourcePoolId, args.transferId);
+        return result;
+      }
+    }
+
+    public static class invokeMethod<I extends Iface> extends org.apache.thrift.ProcessFunction<I, invokeMethod_args> {
+      public invokeMethod() {
+        super("invokeMethod");
+      }
+
+      public invokeMethod_args getEmptyArgsInstance() {
+        return new invokeMethod_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public invokeMethod_result getResult(I iface, invokeMethod_args args) throws org.apache.thrift.TException {
+        invokeMethod_result result = new invokeMethod_result();
         result.success = iface.invokeMethod(args.intpGroupId, args.invokeMethodJson);
         return result;
       }
@@ -1538,6 +2303,31 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class updateParagraphProgress<I extends Iface> extends org.apache.thrift.ProcessFunction<I, updateParagraphProgress_args> {
+      public updateParagraphProgress() {
+        super("updateParagraphProgress");
+      }
+
+      public updateParagraphProgress_args getEmptyArgsInstance() {
+        return new updateParagraphProgress_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public updateParagraphProgress_result getResult(I iface, updateParagraphProgress_args args) throws org.apache.thrift.TException {
+        updateParagraphProgress_result result = new updateParagraphProgress_result();
+        iface.updateParagraphProgress(args.events);
+        return result;
+      }
+    }
+
   }
 
   public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
@@ -1553,6 +2343,7 @@ public class RemoteInterpreterEventService {
     private static <I extends AsyncIface> java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(java.util.Map<java.lang.String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
       processMap.put("registerInterpreterProcess", new registerInterpreterProcess());
       processMap.put("appendOutput", new appendOutput());
+      processMap.put("appendOutputBatch", new appendOutputBatch());
       processMap.put("updateOutput", new updateOutput());
       processMap.put("updateAllOutput", new updateAllOutput());
       processMap.put("appendAppOutput", new appendAppOutput());
@@ -1563,11 +2354,19 @@ public class RemoteInterpreterEventService {
       processMap.put("addAngularObject", new addAngularObject());
       processMap.put("updateAngularObject", new updateAngularObject());
       processMap.put("removeAngularObject", new removeAngularObject());
+      processMap.put("patchAngularObject", new patchAngularObject());
       processMap.put("sendParagraphInfo", new sendParagraphInfo());
       processMap.put("getAllResources", new getAllResources());
+      processMap.put("getResourcesByName", new getResourcesByName());
+      processMap.put("addResource", new addResource());
+      processMap.put("removeResource", new removeResource());
       processMap.put("getResource", new getResource());
+      processMap.put("openResourceTransfer", new openResourceTransfer());
+      processMap.put("readResourceTransfer", new readResourceTransfer());
+      processMap.put("closeResourceTransfer", new closeResourceTransfer());
       processMap.put("invokeMethod", new invokeMethod());
       processMap.put("getParagraphList", new getParagraphList());
+      processMap.put("updateParagraphProgress", new updateParagraphProgress());
       return processMap;
     }
 
@@ -1691,6 +2490,66 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class appendOutputBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, appendOutputBatch_args, Void> {
+      public appendOutputBatch() {
+        super("appendOutputBatch");
+      }
+
+      public appendOutputBatch_args getEmptyArgsInstance() {
+        return new appendOutputBatch_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            appendOutputBatch_result result = new appendOutputBatch_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            appendOutputBatch_result result = new appendOutputBatch_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, appendOutputBatch_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.appendOutputBatch(args.events,resultHandler);
+      }
+    }
+
     public static class updateOutput<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateOutput_args, Void> {
       public updateOutput() {
         super("updateOutput");
@@ -2291,6 +3150,70 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    public static class patchAngularObject<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, patchAngularObject_args, Void> {
+      public patchAngularObject() {
+        super("patchAngularObject");
+      }
+
+      public patchAngularObject_args getEmptyArgsInstance() {
+        return new patchAngularObject_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            patchAngularObject_result result = new patchAngularObject_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            patchAngularObject_result result = new patchAngularObject_result();
+            if (e instanceof ServiceException) {
+              result.e = (ServiceException) e;
+              result.setEIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, patchAngularObject_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.patchAngularObject(args.intpGroupId, args.angularObjectId, args.patch,resultHandler);
+      }
+    }
+
     public static class sendParagraphInfo<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, sendParagraphInfo_args, Void> {
       public sendParagraphInfo() {
         super("sendParagraphInfo");
@@ -2412,20 +3335,20 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    public static class getResource<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getResource_args, java.nio.ByteBuffer> {
-      public getResource() {
-        super("getResource");
+    public static class getResourcesByName<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getResourcesByName_args, java.util.List<java.lang.String>> {
+      public getResourcesByName() {
+        super("getResourcesByName");
       }
 
-      public getResource_args getEmptyArgsInstance() {
-        return new getResource_args();
+      public getResourcesByName_args getEmptyArgsInstance() {
+        return new getResourcesByName_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer>() { 
-          public void onComplete(java.nio.ByteBuffer o) {
-            getResource_result result = new getResource_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>>() { 
+          public void onComplete(java.util.List<java.lang.String> o) {
+            getResourcesByName_result result = new getResourcesByName_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2440,7 +3363,7 @@ public class RemoteInterpreterEventService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getResource_result result = new getResource_result();
+            getResourcesByName_result result = new getResourcesByName_result();
             if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -2468,25 +3391,145 @@ public class RemoteInterpreterEventService {
         return false;
       }
 
-      public void start(I iface, getResource_args args, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
-        iface.getResource(args.resourceIdJson,resultHandler);
+      public void start(I iface, getResourcesByName_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<java.lang.String>> resultHandler) throws org.apache.thrift.TException {
+        iface.getResourcesByName(args.intpGroupId, args.name,resultHandler);
       }
     }
 
-    public static class invokeMethod<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, invokeMethod_args, java.nio.ByteBuffer> {
-      public invokeMethod() {
-        super("invokeMethod");
+    public static class addResource<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addResource_args, Void> {
+      public addResource() {
+        super("addResource");
       }
 
-      public invokeMethod_args getEmptyArgsInstance() {
-        return new invokeMethod_args();
+      public addResource_args getEmptyArgsInstance() {
+        return new addResource_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            addResource_result result = new addResource_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            addResource_result result = new addResource_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, addResource_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.addResource(args.intpGroupId, args.resourceJson,resultHandler);
+      }
+    }
+
+    public static class removeResource<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, removeResource_args, Void> {
+      public removeResource() {
+        super("removeResource");
+      }
+
+      public removeResource_args getEmptyArgsInstance() {
+        return new removeResource_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            removeResource_result result = new removeResource_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            removeResource_result result = new removeResource_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, removeResource_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.removeResource(args.intpGroupId, args.resourceIdJson,resultHandler);
+      }
+    }
+
+    public static class getResource<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getResource_args, java.nio.ByteBuffer> {
+      public getResource() {
+        super("getResource");
+      }
+
+      public getResource_args getEmptyArgsInstance() {
+        return new getResource_args();
       }
 
       public org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer>() { 
           public void onComplete(java.nio.ByteBuffer o) {
-            invokeMethod_result result = new invokeMethod_result();
+            getResource_result result = new getResource_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2501,7 +3544,129 @@ public class RemoteInterpreterEventService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            invokeMethod_result result = new invokeMethod_result();
+            getResource_result result = new getResource_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getResource_args args, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+        iface.getResource(args.resourceIdJson,resultHandler);
+      }
+    }
+
+    public static class openResourceTransfer<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, openResourceTransfer_args, org.apache.zeppelin.interpreter.thrift.ResourceTransfer> {
+      public openResourceTransfer() {
+        super("openResourceTransfer");
+      }
+
+      public openResourceTransfer_args getEmptyArgsInstance() {
+        return new openResourceTransfer_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<org.apache.zeppelin.interpreter.thrift.ResourceTransfer> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<org.apache.zeppelin.interpreter.thrift.ResourceTransfer>() { 
+          public void onComplete(org.apache.zeppelin.interpreter.thrift.ResourceTransfer o) {
+            openResourceTransfer_result result = new openResourceTransfer_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            openResourceTransfer_result result = new openResourceTransfer_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, openResourceTransfer_args args, org.apache.thrift.async.AsyncMethodCallback<org.apache.zeppelin.interpreter.thrift.ResourceTransfer> resultHandler) throws org.apache.thrift.TException {
+        iface.openResourceTransfer(args.resourceIdJson,resultHandler);
+      }
+    }
+
+    public static class readResourceTransfer<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, readResourceTransfer_args, java.nio.ByteBuffer> {
+      public readResourceTransfer() {
+        super("readResourceTransfer");
+      }
+
+      public readResourceTransfer_args getEmptyArgsInstance() {
+        return new readResourceTransfer_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer>() { 
+          public void onComplete(java.nio.ByteBuffer o) {
+            readResourceTransfer_result result = new readResourceTransfer_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            readResourceTransfer_result result = new readResourceTransfer_result();
             if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -2525,95 +3690,6060 @@ public class RemoteInterpreterEventService {
         };
       }
 
-      protected boolean isOneway() {
-        return false;
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, readResourceTransfer_args args, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+        iface.readResourceTransfer(args.resourcePoolId, args.transferId, args.offset, args.length,resultHandler);
+      }
+    }
+
+    public static class closeResourceTransfer<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, closeResourceTransfer_args, Void> {
+      public closeResourceTransfer() {
+        super("closeResourceTransfer");
+      }
+
+      public closeResourceTransfer_args getEmptyArgsInstance() {
+        return new closeResourceTransfer_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            closeResourceTransfer_result result = new closeResourceTransfer_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            closeResourceTransfer_result result = new closeResourceTransfer_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, closeResourceTransfer_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.closeResourceTransfer(args.resourcePoolId, args.transferId,resultHandler);
+      }
+    }
+
+    public static class invokeMethod<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, invokeMethod_args, java.nio.ByteBuffer> {
+      public invokeMethod() {
+        super("invokeMethod");
+      }
+
+      public invokeMethod_args getEmptyArgsInstance() {
+        return new invokeMethod_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer>() { 
+          public void onComplete(java.nio.ByteBuffer o) {
+            invokeMethod_result result = new invokeMethod_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            invokeMethod_result result = new invokeMethod_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, invokeMethod_args args, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+        iface.invokeMethod(args.intpGroupId, args.invokeMethodJson,resultHandler);
+      }
+    }
+
+    public static class getParagraphList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getParagraphList_args, java.util.List<ParagraphInfo>> {
+      public getParagraphList() {
+        super("getParagraphList");
+      }
+
+      public getParagraphList_args getEmptyArgsInstance() {
+        return new getParagraphList_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>>() { 
+          public void onComplete(java.util.List<ParagraphInfo> o) {
+            getParagraphList_result result = new getParagraphList_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getParagraphList_result result = new getParagraphList_result();
+            if (e instanceof ServiceException) {
+              result.e = (ServiceException) e;
+              result.setEIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getParagraphList_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> resultHandler) throws org.apache.thrift.TException {
+        iface.getParagraphList(args.user, args.noteId,resultHandler);
+      }
+    }
+
+    public static class updateParagraphProgress<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, updateParagraphProgress_args, Void> {
+      public updateParagraphProgress() {
+        super("updateParagraphProgress");
+      }
+
+      public updateParagraphProgress_args getEmptyArgsInstance() {
+        return new updateParagraphProgress_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            updateParagraphProgress_result result = new updateParagraphProgress_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            updateParagraphProgress_result result = new updateParagraphProgress_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, updateParagraphProgress_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.updateParagraphProgress(args.events,resultHandler);
+      }
+    }
+
+  }
+
+  public static class registerInterpreterProcess_args implements org.apache.thrift.TBase<registerInterpreterProcess_args, registerInterpreterProcess_args._Fields>, java.io.Serializable, Cloneable, Comparable<registerInterpreterProcess_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerInterpreterProcess_args");
+
+    private static final org.apache.thrift.protocol.TField REGISTER_INFO_FIELD_DESC = new org.apache.thrift.protocol.TField("registerInfo", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new registerInterpreterProcess_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new registerInterpreterProcess_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable RegisterInfo registerInfo; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REGISTER_INFO((short)1, "registerInfo");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REGISTER_INFO
+            return REGISTER_INFO;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REGISTER_INFO, new org.apache.thrift.meta_data.FieldMetaData("registerInfo", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RegisterInfo.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(registerInterpreterProcess_args.class, metaDataMap);
+    }
+
+    public registerInterpreterProcess_args() {
+    }
+
+    public registerInterpreterProcess_args(
+      RegisterInfo registerInfo)
+    {
+      this();
+      this.registerInfo = registerInfo;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public registerInterpreterProcess_args(registerInterpreterProcess_args other) {
+      if (other.isSetRegisterInfo()) {
+        this.registerInfo = new RegisterInfo(other.registerInfo);
+      }
+    }
+
+    public registerInterpreterProcess_args deepCopy() {
+      return new registerInterpreterProcess_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.registerInfo = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public RegisterInfo getRegisterInfo() {
+      return this.registerInfo;
+    }
+
+    public registerInterpreterProcess_args setRegisterInfo(@org.apache.thrift.annotation.Nullable RegisterInfo registerInfo) {
+      this.registerInfo = registerInfo;
+      return this;
+    }
+
+    public void unsetRegisterInfo() {
+      this.registerInfo = null;
+    }
+
+    /** Returns true if field registerInfo is set (has been assigned a value) and false otherwise */
+    public boolean isSetRegisterInfo() {
+      return this.registerInfo != null;
+    }
+
+    public void setRegisterInfoIsSet(boolean value) {
+      if (!value) {
+        this.registerInfo = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case REGISTER_INFO:
+        if (value == null) {
+          unsetRegisterInfo();
+        } else {
+          setRegisterInfo((RegisterInfo)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REGISTER_INFO:
+        return getRegisterInfo();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REGISTER_INFO:
+        return isSetRegisterInfo();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof registerInterpreterProcess_args)
+        return this.equals((registerInterpreterProcess_args)that);
+      return false;
+    }
+
+    public boolean equals(registerInterpreterProcess_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_registerInfo = true && this.isSetRegisterInfo();
+      boolean that_present_registerInfo = true && that.isSetRegisterInfo();
+      if (this_present_registerInfo || that_present_registerInfo) {
+        if (!(this_present_registerInfo && that_present_registerInfo))
+          return false;
+        if (!this.registerInfo.equals(that.registerInfo))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetRegisterInfo()) ? 131071 : 524287);
+      if (isSetRegisterInfo())
+        hashCode = hashCode * 8191 + registerInfo.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(registerInterpreterProcess_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetRegisterInfo()).compareTo(other.isSetRegisterInfo());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRegisterInfo()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.registerInfo, other.registerInfo);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("registerInterpreterProcess_args(");
+      boolean first = true;
+
+      sb.append("registerInfo:");
+      if (this.registerInfo == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.registerInfo);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (registerInfo != null) {
+        registerInfo.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class registerInterpreterProcess_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public registerInterpreterProcess_argsStandardScheme getScheme() {
+        return new registerInterpreterProcess_argsStandardScheme();
+      }
+    }
+
+    private static class registerInterpreterProcess_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<registerInterpreterProcess_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REGISTER_INFO
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.registerInfo = new RegisterInfo();
+                struct.registerInfo.read(iprot);
+                struct.setRegisterInfoIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.registerInfo != null) {
+          oprot.writeFieldBegin(REGISTER_INFO_FIELD_DESC);
+          struct.registerInfo.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class registerInterpreterProcess_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public registerInterpreterProcess_argsTupleScheme getScheme() {
+        return new registerInterpreterProcess_argsTupleScheme();
+      }
+    }
+
+    private static class registerInterpreterProcess_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<registerInterpreterProcess_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetRegisterInfo()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRegisterInfo()) {
+          struct.registerInfo.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.registerInfo = new RegisterInfo();
+          struct.registerInfo.read(iprot);
+          struct.setRegisterInfoIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class registerInterpreterProcess_result implements org.apache.thrift.TBase<registerInterpreterProcess_result, registerInterpreterProcess_result._Fields>, java.io.Serializable, Cloneable, Comparable<registerInterpreterProcess_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerInterpreterProcess_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new registerInterpreterProcess_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new registerInterpreterProcess_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(registerInterpreterProcess_result.class, metaDataMap);
+    }
+
+    public registerInterpreterProcess_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public registerInterpreterProcess_result(registerInterpreterProcess_result other) {
+    }
+
+    public registerInterpreterProcess_result deepCopy() {
+      return new registerInterpreterProcess_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof registerInterpreterProcess_result)
+        return this.equals((registerInterpreterProcess_result)that);
+      return false;
+    }
+
+    public boolean equals(registerInterpreterProcess_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(registerInterpreterProcess_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("registerInterpreterProcess_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class registerInterpreterProcess_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public registerInterpreterProcess_resultStandardScheme getScheme() {
+        return new registerInterpreterProcess_resultStandardScheme();
+      }
+    }
+
+    private static class registerInterpreterProcess_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<registerInterpreterProcess_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class registerInterpreterProcess_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public registerInterpreterProcess_resultTupleScheme getScheme() {
+        return new registerInterpreterProcess_resultTupleScheme();
+      }
+    }
+
+    private static class registerInterpreterProcess_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<registerInterpreterProcess_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class appendOutput_args implements org.apache.thrift.TBase<appendOutput_args, appendOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<appendOutput_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendOutput_args");
+
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new appendOutput_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new appendOutput_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable OutputAppendEvent event; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENT((short)1, "event");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENT
+            return EVENT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OutputAppendEvent.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendOutput_args.class, metaDataMap);
+    }
+
+    public appendOutput_args() {
+    }
+
+    public appendOutput_args(
+      OutputAppendEvent event)
+    {
+      this();
+      this.event = event;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendOutput_args(appendOutput_args other) {
+      if (other.isSetEvent()) {
+        this.event = new OutputAppendEvent(other.event);
+      }
+    }
+
+    public appendOutput_args deepCopy() {
+      return new appendOutput_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.event = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public OutputAppendEvent getEvent() {
+      return this.event;
+    }
+
+    public appendOutput_args setEvent(@org.apache.thrift.annotation.Nullable OutputAppendEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    public void unsetEvent() {
+      this.event = null;
+    }
+
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
+    }
+
+    public void setEventIsSet(boolean value) {
+      if (!value) {
+        this.event = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case EVENT:
+        if (value == null) {
+          unsetEvent();
+        } else {
+          setEvent((OutputAppendEvent)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENT:
+        return getEvent();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EVENT:
+        return isSetEvent();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendOutput_args)
+        return this.equals((appendOutput_args)that);
+      return false;
+    }
+
+    public boolean equals(appendOutput_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
+          return false;
+        if (!this.event.equals(that.event))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
+      if (isSetEvent())
+        hashCode = hashCode * 8191 + event.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(appendOutput_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("appendOutput_args(");
+      boolean first = true;
+
+      sb.append("event:");
+      if (this.event == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.event);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendOutput_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public appendOutput_argsStandardScheme getScheme() {
+        return new appendOutput_argsStandardScheme();
+      }
+    }
+
+    private static class appendOutput_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<appendOutput_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new OutputAppendEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendOutput_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class appendOutput_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public appendOutput_argsTupleScheme getScheme() {
+        return new appendOutput_argsTupleScheme();
+      }
+    }
+
+    private static class appendOutput_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<appendOutput_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetEvent()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.event = new OutputAppendEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class appendOutput_result implements org.apache.thrift.TBase<appendOutput_result, appendOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<appendOutput_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendOutput_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new appendOutput_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new appendOutput_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendOutput_result.class, metaDataMap);
+    }
+
+    public appendOutput_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendOutput_result(appendOutput_result other) {
+    }
+
+    public appendOutput_result deepCopy() {
+      return new appendOutput_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendOutput_result)
+        return this.equals((appendOutput_result)that);
+      return false;
+    }
+
+    public boolean equals(appendOutput_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(appendOutput_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("appendOutput_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendOutput_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public appendOutput_resultStandardScheme getScheme() {
+        return new appendOutput_resultStandardScheme();
+      }
+    }
+
+    private static class appendOutput_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<appendOutput_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendOutput_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class appendOutput_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public appendOutput_resultTupleScheme getScheme() {
+        return new appendOutput_resultTupleScheme();
+      }
+    }
+
+    private static class appendOutput_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<appendOutput_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class appendOutputBatch_args implements org.apache.thrift.TBase<appendOutputBatch_args, appendOutputBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<appendOutputBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendOutputBatch_args");
+
+    private static final org.apache.thrift.protocol.TField EVENTS_FIELD_DESC = new org.apache.thrift.protocol.TField("events", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new appendOutputBatch_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new appendOutputBatch_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.util.List<OutputAppendEvent> events; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENTS((short)1, "events");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENTS
+            return EVENTS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENTS, new org.apache.thrift.meta_data.FieldMetaData("events", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OutputAppendEvent.class))));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendOutputBatch_args.class, metaDataMap);
+    }
+
+    public appendOutputBatch_args() {
+    }
+
+    public appendOutputBatch_args(
+      java.util.List<OutputAppendEvent> events)
+    {
+      this();
+      this.events = events;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendOutputBatch_args(appendOutputBatch_args other) {
+      if (other.isSetEvents()) {
+        java.util.List<OutputAppendEvent> __this__events = new java.util.ArrayList<OutputAppendEvent>(other.events.size());
+        for (OutputAppendEvent other_element : other.events) {
+          __this__events.add(new OutputAppendEvent(other_element));
+        }
+        this.events = __this__events;
+      }
+    }
+
+    public appendOutputBatch_args deepCopy() {
+      return new appendOutputBatch_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.events = null;
+    }
+
+    public int getEventsSize() {
+      return (this.events == null) ? 0 : this.events.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<OutputAppendEvent> getEventsIterator() {
+      return (this.events == null) ? null : this.events.iterator();
+    }
+
+    public void addToEvents(OutputAppendEvent elem) {
+      if (this.events == null) {
+        this.events = new java.util.ArrayList<OutputAppendEvent>();
+      }
+      this.events.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<OutputAppendEvent> getEvents() {
+      return this.events;
+    }
+
+    public appendOutputBatch_args setEvents(@org.apache.thrift.annotation.Nullable java.util.List<OutputAppendEvent> events) {
+      this.events = events;
+      return this;
+    }
+
+    public void unsetEvents() {
+      this.events = null;
+    }
+
+    /** Returns true if field events is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvents() {
+      return this.events != null;
+    }
+
+    public void setEventsIsSet(boolean value) {
+      if (!value) {
+        this.events = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case EVENTS:
+        if (value == null) {
+          unsetEvents();
+        } else {
+          setEvents((java.util.List<OutputAppendEvent>)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENTS:
+        return getEvents();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EVENTS:
+        return isSetEvents();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendOutputBatch_args)
+        return this.equals((appendOutputBatch_args)that);
+      return false;
+    }
+
+    public boolean equals(appendOutputBatch_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_events = true && this.isSetEvents();
+      boolean that_present_events = true && that.isSetEvents();
+      if (this_present_events || that_present_events) {
+        if (!(this_present_events && that_present_events))
+          return false;
+        if (!this.events.equals(that.events))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetEvents()) ? 131071 : 524287);
+      if (isSetEvents())
+        hashCode = hashCode * 8191 + events.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(appendOutputBatch_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetEvents()).compareTo(other.isSetEvents());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEvents()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.events, other.events);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("appendOutputBatch_args(");
+      boolean first = true;
+
+      sb.append("events:");
+      if (this.events == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.events);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendOutputBatch_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public appendOutputBatch_argsStandardScheme getScheme() {
+        return new appendOutputBatch_argsStandardScheme();
+      }
+    }
+
+    private static class appendOutputBatch_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<appendOutputBatch_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendOutputBatch_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EVENTS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
+                  struct.events = new java.util.ArrayList<OutputAppendEvent>(_list24.size);
+                  @org.apache.thrift.annotation.Nullable OutputAppendEvent _elem25;
+                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
+                  {
+                    _elem25 = new OutputAppendEvent();
+                    _elem25.read(iprot);
+                    struct.events.add(_elem25);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setEventsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendOutputBatch_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.events != null) {
+          oprot.writeFieldBegin(EVENTS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.events.size()));
+            for (OutputAppendEvent _iter27 : struct.events)
+            {
+              _iter27.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class appendOutputBatch_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public appendOutputBatch_argsTupleScheme getScheme() {
+        return new appendOutputBatch_argsTupleScheme();
+      }
+    }
+
+    private static class appendOutputBatch_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<appendOutputBatch_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendOutputBatch_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetEvents()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvents()) {
+          {
+            oprot.writeI32(struct.events.size());
+            for (OutputAppendEvent _iter28 : struct.events)
+            {
+              _iter28.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendOutputBatch_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.events = new java.util.ArrayList<OutputAppendEvent>(_list29.size);
+            @org.apache.thrift.annotation.Nullable OutputAppendEvent _elem30;
+            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
+            {
+              _elem30 = new OutputAppendEvent();
+              _elem30.read(iprot);
+              struct.events.add(_elem30);
+            }
+          }
+          struct.setEventsIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class appendOutputBatch_result implements org.apache.thrift.TBase<appendOutputBatch_result, appendOutputBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<appendOutputBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendOutputBatch_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new appendOutputBatch_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new appendOutputBatch_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendOutputBatch_result.class, metaDataMap);
+    }
+
+    public appendOutputBatch_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendOutputBatch_result(appendOutputBatch_result other) {
+    }
+
+    public appendOutputBatch_result deepCopy() {
+      return new appendOutputBatch_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendOutputBatch_result)
+        return this.equals((appendOutputBatch_result)that);
+      return false;
+    }
+
+    public boolean equals(appendOutputBatch_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(appendOutputBatch_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("appendOutputBatch_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendOutputBatch_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public appendOutputBatch_resultStandardScheme getScheme() {
+        return new appendOutputBatch_resultStandardScheme();
+      }
+    }
+
+    private static class appendOutputBatch_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<appendOutputBatch_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendOutputBatch_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendOutputBatch_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class appendOutputBatch_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public appendOutputBatch_resultTupleScheme getScheme() {
+        return new appendOutputBatch_resultTupleScheme();
+      }
+    }
+
+    private static class appendOutputBatch_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<appendOutputBatch_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendOutputBatch_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendOutputBatch_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class updateOutput_args implements org.apache.thrift.TBase<updateOutput_args, updateOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateOutput_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateOutput_args");
+
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateOutput_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateOutput_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable OutputUpdateEvent event; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENT((short)1, "event");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENT
+            return EVENT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OutputUpdateEvent.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateOutput_args.class, metaDataMap);
+    }
+
+    public updateOutput_args() {
+    }
+
+    public updateOutput_args(
+      OutputUpdateEvent event)
+    {
+      this();
+      this.event = event;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateOutput_args(updateOutput_args other) {
+      if (other.isSetEvent()) {
+        this.event = new OutputUpdateEvent(other.event);
+      }
+    }
+
+    public updateOutput_args deepCopy() {
+      return new updateOutput_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.event = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public OutputUpdateEvent getEvent() {
+      return this.event;
+    }
+
+    public updateOutput_args setEvent(@org.apache.thrift.annotation.Nullable OutputUpdateEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    public void unsetEvent() {
+      this.event = null;
+    }
+
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
+    }
+
+    public void setEventIsSet(boolean value) {
+      if (!value) {
+        this.event = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case EVENT:
+        if (value == null) {
+          unsetEvent();
+        } else {
+          setEvent((OutputUpdateEvent)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENT:
+        return getEvent();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EVENT:
+        return isSetEvent();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateOutput_args)
+        return this.equals((updateOutput_args)that);
+      return false;
+    }
+
+    public boolean equals(updateOutput_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
+          return false;
+        if (!this.event.equals(that.event))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
+      if (isSetEvent())
+        hashCode = hashCode * 8191 + event.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(updateOutput_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateOutput_args(");
+      boolean first = true;
+
+      sb.append("event:");
+      if (this.event == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.event);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateOutput_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateOutput_argsStandardScheme getScheme() {
+        return new updateOutput_argsStandardScheme();
+      }
+    }
+
+    private static class updateOutput_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateOutput_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new OutputUpdateEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateOutput_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateOutput_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateOutput_argsTupleScheme getScheme() {
+        return new updateOutput_argsTupleScheme();
+      }
+    }
+
+    private static class updateOutput_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateOutput_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetEvent()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.event = new OutputUpdateEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class updateOutput_result implements org.apache.thrift.TBase<updateOutput_result, updateOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateOutput_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateOutput_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateOutput_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateOutput_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateOutput_result.class, metaDataMap);
+    }
+
+    public updateOutput_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateOutput_result(updateOutput_result other) {
+    }
+
+    public updateOutput_result deepCopy() {
+      return new updateOutput_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateOutput_result)
+        return this.equals((updateOutput_result)that);
+      return false;
+    }
+
+    public boolean equals(updateOutput_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(updateOutput_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateOutput_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateOutput_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateOutput_resultStandardScheme getScheme() {
+        return new updateOutput_resultStandardScheme();
+      }
+    }
+
+    private static class updateOutput_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateOutput_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateOutput_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateOutput_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateOutput_resultTupleScheme getScheme() {
+        return new updateOutput_resultTupleScheme();
+      }
+    }
+
+    private static class updateOutput_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateOutput_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class updateAllOutput_args implements org.apache.thrift.TBase<updateAllOutput_args, updateAllOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAllOutput_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAllOutput_args");
+
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAllOutput_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAllOutput_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable OutputUpdateAllEvent event; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENT((short)1, "event");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENT
+            return EVENT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OutputUpdateAllEvent.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAllOutput_args.class, metaDataMap);
+    }
+
+    public updateAllOutput_args() {
+    }
+
+    public updateAllOutput_args(
+      OutputUpdateAllEvent event)
+    {
+      this();
+      this.event = event;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAllOutput_args(updateAllOutput_args other) {
+      if (other.isSetEvent()) {
+        this.event = new OutputUpdateAllEvent(other.event);
+      }
+    }
+
+    public updateAllOutput_args deepCopy() {
+      return new updateAllOutput_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.event = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public OutputUpdateAllEvent getEvent() {
+      return this.event;
+    }
+
+    public updateAllOutput_args setEvent(@org.apache.thrift.annotation.Nullable OutputUpdateAllEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    public void unsetEvent() {
+      this.event = null;
+    }
+
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
+    }
+
+    public void setEventIsSet(boolean value) {
+      if (!value) {
+        this.event = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case EVENT:
+        if (value == null) {
+          unsetEvent();
+        } else {
+          setEvent((OutputUpdateAllEvent)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENT:
+        return getEvent();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EVENT:
+        return isSetEvent();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateAllOutput_args)
+        return this.equals((updateAllOutput_args)that);
+      return false;
+    }
+
+    public boolean equals(updateAllOutput_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
+          return false;
+        if (!this.event.equals(that.event))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
+      if (isSetEvent())
+        hashCode = hashCode * 8191 + event.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(updateAllOutput_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAllOutput_args(");
+      boolean first = true;
+
+      sb.append("event:");
+      if (this.event == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.event);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateAllOutput_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAllOutput_argsStandardScheme getScheme() {
+        return new updateAllOutput_argsStandardScheme();
+      }
+    }
+
+    private static class updateAllOutput_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAllOutput_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new OutputUpdateAllEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateAllOutput_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAllOutput_argsTupleScheme getScheme() {
+        return new updateAllOutput_argsTupleScheme();
+      }
+    }
+
+    private static class updateAllOutput_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAllOutput_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetEvent()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.event = new OutputUpdateAllEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class updateAllOutput_result implements org.apache.thrift.TBase<updateAllOutput_result, updateAllOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAllOutput_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAllOutput_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAllOutput_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAllOutput_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAllOutput_result.class, metaDataMap);
+    }
+
+    public updateAllOutput_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAllOutput_result(updateAllOutput_result other) {
+    }
+
+    public updateAllOutput_result deepCopy() {
+      return new updateAllOutput_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateAllOutput_result)
+        return this.equals((updateAllOutput_result)that);
+      return false;
+    }
+
+    public boolean equals(updateAllOutput_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(updateAllOutput_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAllOutput_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateAllOutput_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAllOutput_resultStandardScheme getScheme() {
+        return new updateAllOutput_resultStandardScheme();
+      }
+    }
+
+    private static class updateAllOutput_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAllOutput_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateAllOutput_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAllOutput_resultTupleScheme getScheme() {
+        return new updateAllOutput_resultTupleScheme();
+      }
+    }
+
+    private static class updateAllOutput_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAllOutput_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class appendAppOutput_args implements org.apache.thrift.TBase<appendAppOutput_args, appendAppOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<appendAppOutput_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendAppOutput_args");
+
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new appendAppOutput_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new appendAppOutput_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable AppOutputAppendEvent event; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENT((short)1, "event");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENT
+            return EVENT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, AppOutputAppendEvent.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendAppOutput_args.class, metaDataMap);
+    }
+
+    public appendAppOutput_args() {
+    }
+
+    public appendAppOutput_args(
+      AppOutputAppendEvent event)
+    {
+      this();
+      this.event = event;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendAppOutput_args(appendAppOutput_args other) {
+      if (other.isSetEvent()) {
+        this.event = new AppOutputAppendEvent(other.event);
+      }
+    }
+
+    public appendAppOutput_args deepCopy() {
+      return new appendAppOutput_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.event = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public AppOutputAppendEvent getEvent() {
+      return this.event;
+    }
+
+    public appendAppOutput_args setEvent(@org.apache.thrift.annotation.Nullable AppOutputAppendEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    public void unsetEvent() {
+      this.event = null;
+    }
+
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
+    }
+
+    public void setEventIsSet(boolean value) {
+      if (!value) {
+        this.event = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case EVENT:
+        if (value == null) {
+          unsetEvent();
+        } else {
+          setEvent((AppOutputAppendEvent)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENT:
+        return getEvent();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EVENT:
+        return isSetEvent();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendAppOutput_args)
+        return this.equals((appendAppOutput_args)that);
+      return false;
+    }
+
+    public boolean equals(appendAppOutput_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
+          return false;
+        if (!this.event.equals(that.event))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
+      if (isSetEvent())
+        hashCode = hashCode * 8191 + event.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(appendAppOutput_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("appendAppOutput_args(");
+      boolean first = true;
+
+      sb.append("event:");
+      if (this.event == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.event);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendAppOutput_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public appendAppOutput_argsStandardScheme getScheme() {
+        return new appendAppOutput_argsStandardScheme();
+      }
+    }
+
+    private static class appendAppOutput_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<appendAppOutput_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new AppOutputAppendEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class appendAppOutput_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public appendAppOutput_argsTupleScheme getScheme() {
+        return new appendAppOutput_argsTupleScheme();
+      }
+    }
+
+    private static class appendAppOutput_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<appendAppOutput_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetEvent()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.event = new AppOutputAppendEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class appendAppOutput_result implements org.apache.thrift.TBase<appendAppOutput_result, appendAppOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<appendAppOutput_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendAppOutput_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new appendAppOutput_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new appendAppOutput_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendAppOutput_result.class, metaDataMap);
+    }
+
+    public appendAppOutput_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public appendAppOutput_result(appendAppOutput_result other) {
+    }
+
+    public appendAppOutput_result deepCopy() {
+      return new appendAppOutput_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof appendAppOutput_result)
+        return this.equals((appendAppOutput_result)that);
+      return false;
+    }
+
+    public boolean equals(appendAppOutput_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(appendAppOutput_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("appendAppOutput_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class appendAppOutput_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public appendAppOutput_resultStandardScheme getScheme() {
+        return new appendAppOutput_resultStandardScheme();
+      }
+    }
+
+    private static class appendAppOutput_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<appendAppOutput_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class appendAppOutput_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public appendAppOutput_resultTupleScheme getScheme() {
+        return new appendAppOutput_resultTupleScheme();
+      }
+    }
+
+    private static class appendAppOutput_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<appendAppOutput_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class updateAppOutput_args implements org.apache.thrift.TBase<updateAppOutput_args, updateAppOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppOutput_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppOutput_args");
+
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAppOutput_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAppOutput_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable AppOutputUpdateEvent event; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENT((short)1, "event");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENT
+            return EVENT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, AppOutputUpdateEvent.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppOutput_args.class, metaDataMap);
+    }
+
+    public updateAppOutput_args() {
+    }
+
+    public updateAppOutput_args(
+      AppOutputUpdateEvent event)
+    {
+      this();
+      this.event = event;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAppOutput_args(updateAppOutput_args other) {
+      if (other.isSetEvent()) {
+        this.event = new AppOutputUpdateEvent(other.event);
+      }
+    }
+
+    public updateAppOutput_args deepCopy() {
+      return new updateAppOutput_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.event = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public AppOutputUpdateEvent getEvent() {
+      return this.event;
+    }
+
+    public updateAppOutput_args setEvent(@org.apache.thrift.annotation.Nullable AppOutputUpdateEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    public void unsetEvent() {
+      this.event = null;
+    }
+
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
+    }
+
+    public void setEventIsSet(boolean value) {
+      if (!value) {
+        this.event = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case EVENT:
+        if (value == null) {
+          unsetEvent();
+        } else {
+          setEvent((AppOutputUpdateEvent)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENT:
+        return getEvent();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EVENT:
+        return isSetEvent();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateAppOutput_args)
+        return this.equals((updateAppOutput_args)that);
+      return false;
+    }
+
+    public boolean equals(updateAppOutput_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
+          return false;
+        if (!this.event.equals(that.event))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
+      if (isSetEvent())
+        hashCode = hashCode * 8191 + event.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(updateAppOutput_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAppOutput_args(");
+      boolean first = true;
+
+      sb.append("event:");
+      if (this.event == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.event);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateAppOutput_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAppOutput_argsStandardScheme getScheme() {
+        return new updateAppOutput_argsStandardScheme();
+      }
+    }
+
+    private static class updateAppOutput_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAppOutput_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new AppOutputUpdateEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateAppOutput_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAppOutput_argsTupleScheme getScheme() {
+        return new updateAppOutput_argsTupleScheme();
+      }
+    }
+
+    private static class updateAppOutput_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAppOutput_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetEvent()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.event = new AppOutputUpdateEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class updateAppOutput_result implements org.apache.thrift.TBase<updateAppOutput_result, updateAppOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppOutput_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppOutput_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAppOutput_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAppOutput_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppOutput_result.class, metaDataMap);
+    }
+
+    public updateAppOutput_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAppOutput_result(updateAppOutput_result other) {
+    }
+
+    public updateAppOutput_result deepCopy() {
+      return new updateAppOutput_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateAppOutput_result)
+        return this.equals((updateAppOutput_result)that);
+      return false;
+    }
+
+    public boolean equals(updateAppOutput_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(updateAppOutput_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAppOutput_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateAppOutput_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAppOutput_resultStandardScheme getScheme() {
+        return new updateAppOutput_resultStandardScheme();
+      }
+    }
+
+    private static class updateAppOutput_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAppOutput_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateAppOutput_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAppOutput_resultTupleScheme getScheme() {
+        return new updateAppOutput_resultTupleScheme();
+      }
+    }
+
+    private static class updateAppOutput_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAppOutput_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class updateAppStatus_args implements org.apache.thrift.TBase<updateAppStatus_args, updateAppStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppStatus_args");
+
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAppStatus_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAppStatus_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable AppStatusUpdateEvent event; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EVENT((short)1, "event");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EVENT
+            return EVENT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, AppStatusUpdateEvent.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppStatus_args.class, metaDataMap);
+    }
+
+    public updateAppStatus_args() {
+    }
+
+    public updateAppStatus_args(
+      AppStatusUpdateEvent event)
+    {
+      this();
+      this.event = event;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAppStatus_args(updateAppStatus_args other) {
+      if (other.isSetEvent()) {
+        this.event = new AppStatusUpdateEvent(other.event);
+      }
+    }
+
+    public updateAppStatus_args deepCopy() {
+      return new updateAppStatus_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.event = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public AppStatusUpdateEvent getEvent() {
+      return this.event;
+    }
+
+    public updateAppStatus_args setEvent(@org.apache.thrift.annotation.Nullable AppStatusUpdateEvent event) {
+      this.event = event;
+      return this;
+    }
+
+    public void unsetEvent() {
+      this.event = null;
+    }
+
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
+    }
+
+    public void setEventIsSet(boolean value) {
+      if (!value) {
+        this.event = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case EVENT:
+        if (value == null) {
+          unsetEvent();
+        } else {
+          setEvent((AppStatusUpdateEvent)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EVENT:
+        return getEvent();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EVENT:
+        return isSetEvent();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateAppStatus_args)
+        return this.equals((updateAppStatus_args)that);
+      return false;
+    }
+
+    public boolean equals(updateAppStatus_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
+          return false;
+        if (!this.event.equals(that.event))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
+      if (isSetEvent())
+        hashCode = hashCode * 8191 + event.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(updateAppStatus_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAppStatus_args(");
+      boolean first = true;
+
+      sb.append("event:");
+      if (this.event == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.event);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (event != null) {
+        event.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateAppStatus_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAppStatus_argsStandardScheme getScheme() {
+        return new updateAppStatus_argsStandardScheme();
+      }
+    }
+
+    private static class updateAppStatus_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAppStatus_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EVENT
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.event = new AppStatusUpdateEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateAppStatus_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAppStatus_argsTupleScheme getScheme() {
+        return new updateAppStatus_argsTupleScheme();
+      }
+    }
+
+    private static class updateAppStatus_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAppStatus_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetEvent()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.event = new AppStatusUpdateEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class updateAppStatus_result implements org.apache.thrift.TBase<updateAppStatus_result, updateAppStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppStatus_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAppStatus_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAppStatus_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppStatus_result.class, metaDataMap);
+    }
+
+    public updateAppStatus_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAppStatus_result(updateAppStatus_result other) {
+    }
+
+    public updateAppStatus_result deepCopy() {
+      return new updateAppStatus_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof updateAppStatus_result)
+        return this.equals((updateAppStatus_result)that);
+      return false;
+    }
+
+    public boolean equals(updateAppStatus_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(updateAppStatus_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAppStatus_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class updateAppStatus_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAppStatus_resultStandardScheme getScheme() {
+        return new updateAppStatus_resultStandardScheme();
+      }
+    }
+
+    private static class updateAppStatus_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAppStatus_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class updateAppStatus_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAppStatus_resultTupleScheme getScheme() {
+        return new updateAppStatus_resultTupleScheme();
+      }
+    }
+
+    private static class updateAppStatus_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAppStatus_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class checkpointOutput_args implements org.apache.thrift.TBase<checkpointOutput_args, checkpointOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<checkpointOutput_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkpointOutput_args");
+
+    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new checkpointOutput_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new checkpointOutput_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String noteId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      NOTE_ID((short)1, "noteId"),
+      PARAGRAPH_ID((short)2, "paragraphId");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // NOTE_ID
+            return NOTE_ID;
+          case 2: // PARAGRAPH_ID
+            return PARAGRAPH_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkpointOutput_args.class, metaDataMap);
+    }
+
+    public checkpointOutput_args() {
+    }
+
+    public checkpointOutput_args(
+      java.lang.String noteId,
+      java.lang.String paragraphId)
+    {
+      this();
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public checkpointOutput_args(checkpointOutput_args other) {
+      if (other.isSetNoteId()) {
+        this.noteId = other.noteId;
+      }
+      if (other.isSetParagraphId()) {
+        this.paragraphId = other.paragraphId;
+      }
+    }
+
+    public checkpointOutput_args deepCopy() {
+      return new checkpointOutput_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.noteId = null;
+      this.paragraphId = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getNoteId() {
+      return this.noteId;
+    }
+
+    public checkpointOutput_args setNoteId(@org.apache.thrift.annotation.Nullable java.lang.String noteId) {
+      this.noteId = noteId;
+      return this;
+    }
+
+    public void unsetNoteId() {
+      this.noteId = null;
+    }
+
+    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
+    public boolean isSetNoteId() {
+      return this.noteId != null;
+    }
+
+    public void setNoteIdIsSet(boolean value) {
+      if (!value) {
+        this.noteId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getParagraphId() {
+      return this.paragraphId;
+    }
+
+    public checkpointOutput_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
+      this.paragraphId = paragraphId;
+      return this;
+    }
+
+    public void unsetParagraphId() {
+      this.paragraphId = null;
+    }
+
+    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
+    public boolean isSetParagraphId() {
+      return this.paragraphId != null;
+    }
+
+    public void setParagraphIdIsSet(boolean value) {
+      if (!value) {
+        this.paragraphId = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case NOTE_ID:
+        if (value == null) {
+          unsetNoteId();
+        } else {
+          setNoteId((java.lang.String)value);
+        }
+        break;
+
+      case PARAGRAPH_ID:
+        if (value == null) {
+          unsetParagraphId();
+        } else {
+          setParagraphId((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case NOTE_ID:
+        return getNoteId();
+
+      case PARAGRAPH_ID:
+        return getParagraphId();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case NOTE_ID:
+        return isSetNoteId();
+      case PARAGRAPH_ID:
+        return isSetParagraphId();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof checkpointOutput_args)
+        return this.equals((checkpointOutput_args)that);
+      return false;
+    }
+
+    public boolean equals(checkpointOutput_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_noteId = true && this.isSetNoteId();
+      boolean that_present_noteId = true && that.isSetNoteId();
+      if (this_present_noteId || that_present_noteId) {
+        if (!(this_present_noteId && that_present_noteId))
+          return false;
+        if (!this.noteId.equals(that.noteId))
+          return false;
+      }
+
+      boolean this_present_paragraphId = true && this.isSetParagraphId();
+      boolean that_present_paragraphId = true && that.isSetParagraphId();
+      if (this_present_paragraphId || that_present_paragraphId) {
+        if (!(this_present_paragraphId && that_present_paragraphId))
+          return false;
+        if (!this.paragraphId.equals(that.paragraphId))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetNoteId()) ? 131071 : 524287);
+      if (isSetNoteId())
+        hashCode = hashCode * 8191 + noteId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetParagraphId()) ? 131071 : 524287);
+      if (isSetParagraphId())
+        hashCode = hashCode * 8191 + paragraphId.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(checkpointOutput_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNoteId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParagraphId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("checkpointOutput_args(");
+      boolean first = true;
+
+      sb.append("noteId:");
+      if (this.noteId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.noteId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("paragraphId:");
+      if (this.paragraphId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paragraphId);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class checkpointOutput_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public checkpointOutput_argsStandardScheme getScheme() {
+        return new checkpointOutput_argsStandardScheme();
+      }
+    }
+
+    private static class checkpointOutput_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<checkpointOutput_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, checkpointOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // NOTE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.noteId = iprot.readString();
+                struct.setNoteIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PARAGRAPH_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, checkpointOutput_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.noteId != null) {
+          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
+          oprot.writeString(struct.noteId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.paragraphId != null) {
+          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
+          oprot.writeString(struct.paragraphId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class checkpointOutput_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public checkpointOutput_argsTupleScheme getScheme() {
+        return new checkpointOutput_argsTupleScheme();
+      }
+    }
+
+    private static class checkpointOutput_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<checkpointOutput_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetNoteId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetParagraphId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetNoteId()) {
+          oprot.writeString(struct.noteId);
+        }
+        if (struct.isSetParagraphId()) {
+          oprot.writeString(struct.paragraphId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.noteId = iprot.readString();
+          struct.setNoteIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.paragraphId = iprot.readString();
+          struct.setParagraphIdIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class checkpointOutput_result implements org.apache.thrift.TBase<checkpointOutput_result, checkpointOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<checkpointOutput_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkpointOutput_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new checkpointOutput_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new checkpointOutput_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkpointOutput_result.class, metaDataMap);
+    }
+
+    public checkpointOutput_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public checkpointOutput_result(checkpointOutput_result other) {
+    }
+
+    public checkpointOutput_result deepCopy() {
+      return new checkpointOutput_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof checkpointOutput_result)
+        return this.equals((checkpointOutput_result)that);
+      return false;
+    }
+
+    public boolean equals(checkpointOutput_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(checkpointOutput_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
       }
 
-      public void start(I iface, invokeMethod_args args, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
-        iface.invokeMethod(args.intpGroupId, args.invokeMethodJson,resultHandler);
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("checkpointOutput_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
       }
     }
 
-    public static class getParagraphList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getParagraphList_args, java.util.List<ParagraphInfo>> {
-      public getParagraphList() {
-        super("getParagraphList");
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
       }
+    }
 
-      public getParagraphList_args getEmptyArgsInstance() {
-        return new getParagraphList_args();
+    private static class checkpointOutput_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public checkpointOutput_resultStandardScheme getScheme() {
+        return new checkpointOutput_resultStandardScheme();
       }
+    }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>>() { 
-          public void onComplete(java.util.List<ParagraphInfo> o) {
-            getParagraphList_result result = new getParagraphList_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-            } catch (org.apache.thrift.transport.TTransportException e) {
-              _LOGGER.error("TTransportException writing to internal frame buffer", e);
-              fb.close();
-            } catch (java.lang.Exception e) {
-              _LOGGER.error("Exception writing to internal frame buffer", e);
-              onError(e);
-            }
+    private static class checkpointOutput_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<checkpointOutput_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, checkpointOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
           }
-          public void onError(java.lang.Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TSerializable msg;
-            getParagraphList_result result = new getParagraphList_result();
-            if (e instanceof ServiceException) {
-              result.e = (ServiceException) e;
-              result.setEIsSet(true);
-              msg = result;
-            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
-              _LOGGER.error("TTransportException inside handler", e);
-              fb.close();
-              return;
-            } else if (e instanceof org.apache.thrift.TApplicationException) {
-              _LOGGER.error("TApplicationException inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TApplicationException)e;
-            } else {
-              _LOGGER.error("Exception inside handler", e);
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-            } catch (java.lang.Exception ex) {
-              _LOGGER.error("Exception writing to internal frame buffer", ex);
-              fb.close();
-            }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
-        };
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write(org.apache.thrift.protocol.TProtocol oprot, checkpointOutput_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
       }
 
-      public void start(I iface, getParagraphList_args args, org.apache.thrift.async.AsyncMethodCallback<java.util.List<ParagraphInfo>> resultHandler) throws org.apache.thrift.TException {
-        iface.getParagraphList(args.user, args.noteId,resultHandler);
+    }
+
+    private static class checkpointOutput_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public checkpointOutput_resultTupleScheme getScheme() {
+        return new checkpointOutput_resultTupleScheme();
+      }
+    }
+
+    private static class checkpointOutput_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<checkpointOutput_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
 
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
   }
 
-  public static class registerInterpreterProcess_args implements org.apache.thrift.TBase<registerInterpreterProcess_args, registerInterpreterProcess_args._Fields>, java.io.Serializable, Cloneable, Comparable<registerInterpreterProcess_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerInterpreterProcess_args");
+  public static class runParagraphs_args implements org.apache.thrift.TBase<runParagraphs_args, runParagraphs_args._Fields>, java.io.Serializable, Cloneable, Comparable<runParagraphs_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("runParagraphs_args");
 
-    private static final org.apache.thrift.protocol.TField REGISTER_INFO_FIELD_DESC = new org.apache.thrift.protocol.TField("registerInfo", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new registerInterpreterProcess_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new registerInterpreterProcess_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new runParagraphs_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new runParagraphs_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable RegisterInfo registerInfo; // required
+    public @org.apache.thrift.annotation.Nullable RunParagraphsEvent event; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      REGISTER_INFO((short)1, "registerInfo");
+      EVENT((short)1, "event");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -2629,8 +9759,8 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // REGISTER_INFO
-            return REGISTER_INFO;
+          case 1: // EVENT
+            return EVENT;
           default:
             return null;
         }
@@ -2675,72 +9805,72 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.REGISTER_INFO, new org.apache.thrift.meta_data.FieldMetaData("registerInfo", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RegisterInfo.class)));
+      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RunParagraphsEvent.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(registerInterpreterProcess_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(runParagraphs_args.class, metaDataMap);
     }
 
-    public registerInterpreterProcess_args() {
+    public runParagraphs_args() {
     }
 
-    public registerInterpreterProcess_args(
-      RegisterInfo registerInfo)
+    public runParagraphs_args(
+      RunParagraphsEvent event)
     {
       this();
-      this.registerInfo = registerInfo;
+      this.event = event;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public registerInterpreterProcess_args(registerInterpreterProcess_args other) {
-      if (other.isSetRegisterInfo()) {
-        this.registerInfo = new RegisterInfo(other.registerInfo);
+    public runParagraphs_args(runParagraphs_args other) {
+      if (other.isSetEvent()) {
+        this.event = new RunParagraphsEvent(other.event);
       }
     }
 
-    public registerInterpreterProcess_args deepCopy() {
-      return new registerInterpreterProcess_args(this);
+    public runParagraphs_args deepCopy() {
+      return new runParagraphs_args(this);
     }
 
     @Override
     public void clear() {
-      this.registerInfo = null;
+      this.event = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public RegisterInfo getRegisterInfo() {
-      return this.registerInfo;
+    public RunParagraphsEvent getEvent() {
+      return this.event;
     }
 
-    public registerInterpreterProcess_args setRegisterInfo(@org.apache.thrift.annotation.Nullable RegisterInfo registerInfo) {
-      this.registerInfo = registerInfo;
+    public runParagraphs_args setEvent(@org.apache.thrift.annotation.Nullable RunParagraphsEvent event) {
+      this.event = event;
       return this;
     }
 
-    public void unsetRegisterInfo() {
-      this.registerInfo = null;
+    public void unsetEvent() {
+      this.event = null;
     }
 
-    /** Returns true if field registerInfo is set (has been assigned a value) and false otherwise */
-    public boolean isSetRegisterInfo() {
-      return this.registerInfo != null;
+    /** Returns true if field event is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvent() {
+      return this.event != null;
     }
 
-    public void setRegisterInfoIsSet(boolean value) {
+    public void setEventIsSet(boolean value) {
       if (!value) {
-        this.registerInfo = null;
+        this.event = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case REGISTER_INFO:
+      case EVENT:
         if (value == null) {
-          unsetRegisterInfo();
+          unsetEvent();
         } else {
-          setRegisterInfo((RegisterInfo)value);
+          setEvent((RunParagraphsEvent)value);
         }
         break;
 
@@ -2750,8 +9880,8 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case REGISTER_INFO:
-        return getRegisterInfo();
+      case EVENT:
+        return getEvent();
 
       }
       throw new java.lang.IllegalStateException();
@@ -2764,8 +9894,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case REGISTER_INFO:
-        return isSetRegisterInfo();
+      case EVENT:
+        return isSetEvent();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -2774,23 +9904,23 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof registerInterpreterProcess_args)
-        return this.equals((registerInterpreterProcess_args)that);
+      if (that instanceof runParagraphs_args)
+        return this.equals((runParagraphs_args)that);
       return false;
     }
 
-    public boolean equals(registerInterpreterProcess_args that) {
+    public boolean equals(runParagraphs_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_registerInfo = true && this.isSetRegisterInfo();
-      boolean that_present_registerInfo = true && that.isSetRegisterInfo();
-      if (this_present_registerInfo || that_present_registerInfo) {
-        if (!(this_present_registerInfo && that_present_registerInfo))
+      boolean this_present_event = true && this.isSetEvent();
+      boolean that_present_event = true && that.isSetEvent();
+      if (this_present_event || that_present_event) {
+        if (!(this_present_event && that_present_event))
           return false;
-        if (!this.registerInfo.equals(that.registerInfo))
+        if (!this.event.equals(that.event))
           return false;
       }
 
@@ -2801,27 +9931,27 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetRegisterInfo()) ? 131071 : 524287);
-      if (isSetRegisterInfo())
-        hashCode = hashCode * 8191 + registerInfo.hashCode();
+      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
+      if (isSetEvent())
+        hashCode = hashCode * 8191 + event.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(registerInterpreterProcess_args other) {
+    public int compareTo(runParagraphs_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetRegisterInfo()).compareTo(other.isSetRegisterInfo());
+      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRegisterInfo()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.registerInfo, other.registerInfo);
+      if (isSetEvent()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2844,14 +9974,14 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("registerInterpreterProcess_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("runParagraphs_args(");
       boolean first = true;
 
-      sb.append("registerInfo:");
-      if (this.registerInfo == null) {
+      sb.append("event:");
+      if (this.event == null) {
         sb.append("null");
       } else {
-        sb.append(this.registerInfo);
+        sb.append(this.event);
       }
       first = false;
       sb.append(")");
@@ -2861,8 +9991,8 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (registerInfo != null) {
-        registerInfo.validate();
+      if (event != null) {
+        event.validate();
       }
     }
 
@@ -2882,15 +10012,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class registerInterpreterProcess_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public registerInterpreterProcess_argsStandardScheme getScheme() {
-        return new registerInterpreterProcess_argsStandardScheme();
+    private static class runParagraphs_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public runParagraphs_argsStandardScheme getScheme() {
+        return new runParagraphs_argsStandardScheme();
       }
     }
 
-    private static class registerInterpreterProcess_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<registerInterpreterProcess_args> {
+    private static class runParagraphs_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<runParagraphs_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, runParagraphs_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2900,11 +10030,11 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // REGISTER_INFO
+            case 1: // EVENT
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.registerInfo = new RegisterInfo();
-                struct.registerInfo.read(iprot);
-                struct.setRegisterInfoIsSet(true);
+                struct.event = new RunParagraphsEvent();
+                struct.event.read(iprot);
+                struct.setEventIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -2920,13 +10050,13 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, runParagraphs_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.registerInfo != null) {
-          oprot.writeFieldBegin(REGISTER_INFO_FIELD_DESC);
-          struct.registerInfo.write(oprot);
+        if (struct.event != null) {
+          oprot.writeFieldBegin(EVENT_FIELD_DESC);
+          struct.event.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -2935,35 +10065,35 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class registerInterpreterProcess_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public registerInterpreterProcess_argsTupleScheme getScheme() {
-        return new registerInterpreterProcess_argsTupleScheme();
+    private static class runParagraphs_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public runParagraphs_argsTupleScheme getScheme() {
+        return new runParagraphs_argsTupleScheme();
       }
     }
 
-    private static class registerInterpreterProcess_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<registerInterpreterProcess_args> {
+    private static class runParagraphs_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<runParagraphs_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, runParagraphs_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetRegisterInfo()) {
+        if (struct.isSetEvent()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetRegisterInfo()) {
-          struct.registerInfo.write(oprot);
+        if (struct.isSetEvent()) {
+          struct.event.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, runParagraphs_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.registerInfo = new RegisterInfo();
-          struct.registerInfo.read(iprot);
-          struct.setRegisterInfoIsSet(true);
+          struct.event = new RunParagraphsEvent();
+          struct.event.read(iprot);
+          struct.setEventIsSet(true);
         }
       }
     }
@@ -2973,12 +10103,12 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class registerInterpreterProcess_result implements org.apache.thrift.TBase<registerInterpreterProcess_result, registerInterpreterProcess_result._Fields>, java.io.Serializable, Cloneable, Comparable<registerInterpreterProcess_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("registerInterpreterProcess_result");
+  public static class runParagraphs_result implements org.apache.thrift.TBase<runParagraphs_result, runParagraphs_result._Fields>, java.io.Serializable, Cloneable, Comparable<runParagraphs_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("runParagraphs_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new registerInterpreterProcess_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new registerInterpreterProcess_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new runParagraphs_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new runParagraphs_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -3042,20 +10172,20 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(registerInterpreterProcess_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(runParagraphs_result.class, metaDataMap);
     }
 
-    public registerInterpreterProcess_result() {
+    public runParagraphs_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public registerInterpreterProcess_result(registerInterpreterProcess_result other) {
+    public runParagraphs_result(runParagraphs_result other) {
     }
 
-    public registerInterpreterProcess_result deepCopy() {
-      return new registerInterpreterProcess_result(this);
+    public runParagraphs_result deepCopy() {
+      return new runParagraphs_result(this);
     }
 
     @Override
@@ -3089,12 +10219,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof registerInterpreterProcess_result)
-        return this.equals((registerInterpreterProcess_result)that);
+      if (that instanceof runParagraphs_result)
+        return this.equals((runParagraphs_result)that);
       return false;
     }
 
-    public boolean equals(registerInterpreterProcess_result that) {
+    public boolean equals(runParagraphs_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -3111,7 +10241,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(registerInterpreterProcess_result other) {
+    public int compareTo(runParagraphs_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3136,7 +10266,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("registerInterpreterProcess_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("runParagraphs_result(");
       boolean first = true;
 
       sb.append(")");
@@ -3164,15 +10294,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class registerInterpreterProcess_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public registerInterpreterProcess_resultStandardScheme getScheme() {
-        return new registerInterpreterProcess_resultStandardScheme();
+    private static class runParagraphs_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public runParagraphs_resultStandardScheme getScheme() {
+        return new runParagraphs_resultStandardScheme();
       }
     }
 
-    private static class registerInterpreterProcess_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<registerInterpreterProcess_result> {
+    private static class runParagraphs_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<runParagraphs_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, runParagraphs_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3193,7 +10323,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, runParagraphs_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -3203,21 +10333,21 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class registerInterpreterProcess_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public registerInterpreterProcess_resultTupleScheme getScheme() {
-        return new registerInterpreterProcess_resultTupleScheme();
+    private static class runParagraphs_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public runParagraphs_resultTupleScheme getScheme() {
+        return new runParagraphs_resultTupleScheme();
       }
     }
 
-    private static class registerInterpreterProcess_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<registerInterpreterProcess_result> {
+    private static class runParagraphs_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<runParagraphs_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, runParagraphs_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, registerInterpreterProcess_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, runParagraphs_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -3227,19 +10357,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class appendOutput_args implements org.apache.thrift.TBase<appendOutput_args, appendOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<appendOutput_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendOutput_args");
+  public static class addAngularObject_args implements org.apache.thrift.TBase<addAngularObject_args, addAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<addAngularObject_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addAngularObject_args");
 
-    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new appendOutput_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new appendOutput_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addAngularObject_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addAngularObject_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable OutputAppendEvent event; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EVENT((short)1, "event");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      JSON((short)2, "json");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -3255,8 +10388,10 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // EVENT
-            return EVENT;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // JSON
+            return JSON;
           default:
             return null;
         }
@@ -3301,72 +10436,113 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OutputAppendEvent.class)));
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendOutput_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addAngularObject_args.class, metaDataMap);
     }
 
-    public appendOutput_args() {
+    public addAngularObject_args() {
     }
 
-    public appendOutput_args(
-      OutputAppendEvent event)
+    public addAngularObject_args(
+      java.lang.String intpGroupId,
+      java.lang.String json)
     {
       this();
-      this.event = event;
+      this.intpGroupId = intpGroupId;
+      this.json = json;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public appendOutput_args(appendOutput_args other) {
-      if (other.isSetEvent()) {
-        this.event = new OutputAppendEvent(other.event);
+    public addAngularObject_args(addAngularObject_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetJson()) {
+        this.json = other.json;
       }
     }
 
-    public appendOutput_args deepCopy() {
-      return new appendOutput_args(this);
+    public addAngularObject_args deepCopy() {
+      return new addAngularObject_args(this);
     }
 
     @Override
     public void clear() {
-      this.event = null;
+      this.intpGroupId = null;
+      this.json = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public OutputAppendEvent getEvent() {
-      return this.event;
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
     }
 
-    public appendOutput_args setEvent(@org.apache.thrift.annotation.Nullable OutputAppendEvent event) {
-      this.event = event;
+    public addAngularObject_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
       return this;
     }
 
-    public void unsetEvent() {
-      this.event = null;
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    /** Returns true if field event is set (has been assigned a value) and false otherwise */
-    public boolean isSetEvent() {
-      return this.event != null;
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
     }
 
-    public void setEventIsSet(boolean value) {
+    public void setIntpGroupIdIsSet(boolean value) {
       if (!value) {
-        this.event = null;
+        this.intpGroupId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getJson() {
+      return this.json;
+    }
+
+    public addAngularObject_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
+      this.json = json;
+      return this;
+    }
+
+    public void unsetJson() {
+      this.json = null;
+    }
+
+    /** Returns true if field json is set (has been assigned a value) and false otherwise */
+    public boolean isSetJson() {
+      return this.json != null;
+    }
+
+    public void setJsonIsSet(boolean value) {
+      if (!value) {
+        this.json = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case EVENT:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetEvent();
+          unsetIntpGroupId();
         } else {
-          setEvent((OutputAppendEvent)value);
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      case JSON:
+        if (value == null) {
+          unsetJson();
+        } else {
+          setJson((java.lang.String)value);
         }
         break;
 
@@ -3376,8 +10552,11 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case EVENT:
-        return getEvent();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case JSON:
+        return getJson();
 
       }
       throw new java.lang.IllegalStateException();
@@ -3390,8 +10569,10 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case EVENT:
-        return isSetEvent();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case JSON:
+        return isSetJson();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -3400,23 +10581,32 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof appendOutput_args)
-        return this.equals((appendOutput_args)that);
+      if (that instanceof addAngularObject_args)
+        return this.equals((addAngularObject_args)that);
       return false;
     }
 
-    public boolean equals(appendOutput_args that) {
+    public boolean equals(addAngularObject_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_event = true && this.isSetEvent();
-      boolean that_present_event = true && that.isSetEvent();
-      if (this_present_event || that_present_event) {
-        if (!(this_present_event && that_present_event))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
+          return false;
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_json = true && this.isSetJson();
+      boolean that_present_json = true && that.isSetJson();
+      if (this_present_json || that_present_json) {
+        if (!(this_present_json && that_present_json))
           return false;
-        if (!this.event.equals(that.event))
+        if (!this.json.equals(that.json))
           return false;
       }
 
@@ -3427,27 +10617,41 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
-      if (isSetEvent())
-        hashCode = hashCode * 8191 + event.hashCode();
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetJson()) ? 131071 : 524287);
+      if (isSetJson())
+        hashCode = hashCode * 8191 + json.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(appendOutput_args other) {
+    public int compareTo(addAngularObject_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEvent()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3470,14 +10674,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("appendOutput_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("addAngularObject_args(");
       boolean first = true;
 
-      sb.append("event:");
-      if (this.event == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.event);
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("json:");
+      if (this.json == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.json);
       }
       first = false;
       sb.append(")");
@@ -3487,9 +10699,6 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (event != null) {
-        event.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3508,15 +10717,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class appendOutput_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public appendOutput_argsStandardScheme getScheme() {
-        return new appendOutput_argsStandardScheme();
+    private static class addAngularObject_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addAngularObject_argsStandardScheme getScheme() {
+        return new addAngularObject_argsStandardScheme();
       }
     }
 
-    private static class appendOutput_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<appendOutput_args> {
+    private static class addAngularObject_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<addAngularObject_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, appendOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3526,11 +10735,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EVENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.event = new OutputAppendEvent();
-                struct.event.read(iprot);
-                struct.setEventIsSet(true);
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.json = iprot.readString();
+                struct.setJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3546,13 +10762,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, appendOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addAngularObject_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.event != null) {
-          oprot.writeFieldBegin(EVENT_FIELD_DESC);
-          struct.event.write(oprot);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.json != null) {
+          oprot.writeFieldBegin(JSON_FIELD_DESC);
+          oprot.writeString(struct.json);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3561,35 +10782,44 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class appendOutput_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public appendOutput_argsTupleScheme getScheme() {
-        return new appendOutput_argsTupleScheme();
+    private static class addAngularObject_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addAngularObject_argsTupleScheme getScheme() {
+        return new addAngularObject_argsTupleScheme();
       }
     }
 
-    private static class appendOutput_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<appendOutput_args> {
+    private static class addAngularObject_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<addAngularObject_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, appendOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, addAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetEvent()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEvent()) {
-          struct.event.write(oprot);
+        if (struct.isSetJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetJson()) {
+          oprot.writeString(struct.json);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, appendOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, addAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.event = new OutputAppendEvent();
-          struct.event.read(iprot);
-          struct.setEventIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.json = iprot.readString();
+          struct.setJsonIsSet(true);
         }
       }
     }
@@ -3599,12 +10829,12 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class appendOutput_result implements org.apache.thrift.TBase<appendOutput_result, appendOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<appendOutput_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendOutput_result");
+  public static class addAngularObject_result implements org.apache.thrift.TBase<addAngularObject_result, addAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<addAngularObject_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addAngularObject_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new appendOutput_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new appendOutput_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addAngularObject_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addAngularObject_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -3668,20 +10898,20 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendOutput_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addAngularObject_result.class, metaDataMap);
     }
 
-    public appendOutput_result() {
+    public addAngularObject_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public appendOutput_result(appendOutput_result other) {
+    public addAngularObject_result(addAngularObject_result other) {
     }
 
-    public appendOutput_result deepCopy() {
-      return new appendOutput_result(this);
+    public addAngularObject_result deepCopy() {
+      return new addAngularObject_result(this);
     }
 
     @Override
@@ -3715,12 +10945,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof appendOutput_result)
-        return this.equals((appendOutput_result)that);
+      if (that instanceof addAngularObject_result)
+        return this.equals((addAngularObject_result)that);
       return false;
     }
 
-    public boolean equals(appendOutput_result that) {
+    public boolean equals(addAngularObject_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -3737,7 +10967,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(appendOutput_result other) {
+    public int compareTo(addAngularObject_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3762,7 +10992,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("appendOutput_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("addAngularObject_result(");
       boolean first = true;
 
       sb.append(")");
@@ -3790,15 +11020,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class appendOutput_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public appendOutput_resultStandardScheme getScheme() {
-        return new appendOutput_resultStandardScheme();
+    private static class addAngularObject_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addAngularObject_resultStandardScheme getScheme() {
+        return new addAngularObject_resultStandardScheme();
       }
     }
 
-    private static class appendOutput_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<appendOutput_result> {
+    private static class addAngularObject_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<addAngularObject_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, appendOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3819,7 +11049,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, appendOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addAngularObject_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -3829,21 +11059,21 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class appendOutput_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public appendOutput_resultTupleScheme getScheme() {
-        return new appendOutput_resultTupleScheme();
+    private static class addAngularObject_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addAngularObject_resultTupleScheme getScheme() {
+        return new addAngularObject_resultTupleScheme();
       }
     }
 
-    private static class appendOutput_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<appendOutput_result> {
+    private static class addAngularObject_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<addAngularObject_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, appendOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, addAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, appendOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, addAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -3853,19 +11083,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class updateOutput_args implements org.apache.thrift.TBase<updateOutput_args, updateOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateOutput_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateOutput_args");
+  public static class updateAngularObject_args implements org.apache.thrift.TBase<updateAngularObject_args, updateAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_args");
 
-    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateOutput_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateOutput_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAngularObject_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAngularObject_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable OutputUpdateEvent event; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EVENT((short)1, "event");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      JSON((short)2, "json");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -3881,8 +11114,10 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // EVENT
-            return EVENT;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // JSON
+            return JSON;
           default:
             return null;
         }
@@ -3927,72 +11162,113 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OutputUpdateEvent.class)));
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateOutput_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_args.class, metaDataMap);
+    }
+
+    public updateAngularObject_args() {
+    }
+
+    public updateAngularObject_args(
+      java.lang.String intpGroupId,
+      java.lang.String json)
+    {
+      this();
+      this.intpGroupId = intpGroupId;
+      this.json = json;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateAngularObject_args(updateAngularObject_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetJson()) {
+        this.json = other.json;
+      }
+    }
+
+    public updateAngularObject_args deepCopy() {
+      return new updateAngularObject_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.intpGroupId = null;
+      this.json = null;
     }
 
-    public updateOutput_args() {
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
     }
 
-    public updateOutput_args(
-      OutputUpdateEvent event)
-    {
-      this();
-      this.event = event;
+    public updateAngularObject_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
+      return this;
     }
 
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public updateOutput_args(updateOutput_args other) {
-      if (other.isSetEvent()) {
-        this.event = new OutputUpdateEvent(other.event);
-      }
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    public updateOutput_args deepCopy() {
-      return new updateOutput_args(this);
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
     }
 
-    @Override
-    public void clear() {
-      this.event = null;
+    public void setIntpGroupIdIsSet(boolean value) {
+      if (!value) {
+        this.intpGroupId = null;
+      }
     }
 
     @org.apache.thrift.annotation.Nullable
-    public OutputUpdateEvent getEvent() {
-      return this.event;
+    public java.lang.String getJson() {
+      return this.json;
     }
 
-    public updateOutput_args setEvent(@org.apache.thrift.annotation.Nullable OutputUpdateEvent event) {
-      this.event = event;
+    public updateAngularObject_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
+      this.json = json;
       return this;
     }
 
-    public void unsetEvent() {
-      this.event = null;
+    public void unsetJson() {
+      this.json = null;
     }
 
-    /** Returns true if field event is set (has been assigned a value) and false otherwise */
-    public boolean isSetEvent() {
-      return this.event != null;
+    /** Returns true if field json is set (has been assigned a value) and false otherwise */
+    public boolean isSetJson() {
+      return this.json != null;
     }
 
-    public void setEventIsSet(boolean value) {
+    public void setJsonIsSet(boolean value) {
       if (!value) {
-        this.event = null;
+        this.json = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case EVENT:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetEvent();
+          unsetIntpGroupId();
         } else {
-          setEvent((OutputUpdateEvent)value);
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      case JSON:
+        if (value == null) {
+          unsetJson();
+        } else {
+          setJson((java.lang.String)value);
         }
         break;
 
@@ -4002,8 +11278,11 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case EVENT:
-        return getEvent();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case JSON:
+        return getJson();
 
       }
       throw new java.lang.IllegalStateException();
@@ -4016,8 +11295,10 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case EVENT:
-        return isSetEvent();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case JSON:
+        return isSetJson();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -4026,23 +11307,32 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateOutput_args)
-        return this.equals((updateOutput_args)that);
+      if (that instanceof updateAngularObject_args)
+        return this.equals((updateAngularObject_args)that);
       return false;
     }
 
-    public boolean equals(updateOutput_args that) {
+    public boolean equals(updateAngularObject_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_event = true && this.isSetEvent();
-      boolean that_present_event = true && that.isSetEvent();
-      if (this_present_event || that_present_event) {
-        if (!(this_present_event && that_present_event))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
           return false;
-        if (!this.event.equals(that.event))
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_json = true && this.isSetJson();
+      boolean that_present_json = true && that.isSetJson();
+      if (this_present_json || that_present_json) {
+        if (!(this_present_json && that_present_json))
+          return false;
+        if (!this.json.equals(that.json))
           return false;
       }
 
@@ -4053,27 +11343,41 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
-      if (isSetEvent())
-        hashCode = hashCode * 8191 + event.hashCode();
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetJson()) ? 131071 : 524287);
+      if (isSetJson())
+        hashCode = hashCode * 8191 + json.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(updateOutput_args other) {
+    public int compareTo(updateAngularObject_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEvent()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -4096,14 +11400,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateOutput_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAngularObject_args(");
       boolean first = true;
 
-      sb.append("event:");
-      if (this.event == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.event);
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("json:");
+      if (this.json == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.json);
       }
       first = false;
       sb.append(")");
@@ -4113,9 +11425,6 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (event != null) {
-        event.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -4134,15 +11443,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateOutput_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateOutput_argsStandardScheme getScheme() {
-        return new updateOutput_argsStandardScheme();
+    private static class updateAngularObject_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObject_argsStandardScheme getScheme() {
+        return new updateAngularObject_argsStandardScheme();
       }
     }
 
-    private static class updateOutput_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateOutput_args> {
+    private static class updateAngularObject_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAngularObject_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4152,11 +11461,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EVENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.event = new OutputUpdateEvent();
-                struct.event.read(iprot);
-                struct.setEventIsSet(true);
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.json = iprot.readString();
+                struct.setJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -4172,13 +11488,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.event != null) {
-          oprot.writeFieldBegin(EVENT_FIELD_DESC);
-          struct.event.write(oprot);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.json != null) {
+          oprot.writeFieldBegin(JSON_FIELD_DESC);
+          oprot.writeString(struct.json);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -4187,35 +11508,44 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateOutput_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateOutput_argsTupleScheme getScheme() {
-        return new updateOutput_argsTupleScheme();
+    private static class updateAngularObject_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObject_argsTupleScheme getScheme() {
+        return new updateAngularObject_argsTupleScheme();
       }
     }
 
-    private static class updateOutput_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateOutput_args> {
+    private static class updateAngularObject_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAngularObject_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetEvent()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEvent()) {
-          struct.event.write(oprot);
+        if (struct.isSetJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetJson()) {
+          oprot.writeString(struct.json);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.event = new OutputUpdateEvent();
-          struct.event.read(iprot);
-          struct.setEventIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.json = iprot.readString();
+          struct.setJsonIsSet(true);
         }
       }
     }
@@ -4225,12 +11555,12 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class updateOutput_result implements org.apache.thrift.TBase<updateOutput_result, updateOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateOutput_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateOutput_result");
+  public static class updateAngularObject_result implements org.apache.thrift.TBase<updateAngularObject_result, updateAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateOutput_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateOutput_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAngularObject_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAngularObject_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -4294,20 +11624,20 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateOutput_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_result.class, metaDataMap);
     }
 
-    public updateOutput_result() {
+    public updateAngularObject_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateOutput_result(updateOutput_result other) {
+    public updateAngularObject_result(updateAngularObject_result other) {
     }
 
-    public updateOutput_result deepCopy() {
-      return new updateOutput_result(this);
+    public updateAngularObject_result deepCopy() {
+      return new updateAngularObject_result(this);
     }
 
     @Override
@@ -4341,12 +11671,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateOutput_result)
-        return this.equals((updateOutput_result)that);
+      if (that instanceof updateAngularObject_result)
+        return this.equals((updateAngularObject_result)that);
       return false;
     }
 
-    public boolean equals(updateOutput_result that) {
+    public boolean equals(updateAngularObject_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -4363,7 +11693,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(updateOutput_result other) {
+    public int compareTo(updateAngularObject_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -4388,7 +11718,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateOutput_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAngularObject_result(");
       boolean first = true;
 
       sb.append(")");
@@ -4416,15 +11746,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateOutput_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateOutput_resultStandardScheme getScheme() {
-        return new updateOutput_resultStandardScheme();
+    private static class updateAngularObject_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObject_resultStandardScheme getScheme() {
+        return new updateAngularObject_resultStandardScheme();
       }
     }
 
-    private static class updateOutput_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateOutput_result> {
+    private static class updateAngularObject_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAngularObject_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4445,7 +11775,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -4455,21 +11785,21 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateOutput_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateOutput_resultTupleScheme getScheme() {
-        return new updateOutput_resultTupleScheme();
+    private static class updateAngularObject_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateAngularObject_resultTupleScheme getScheme() {
+        return new updateAngularObject_resultTupleScheme();
       }
     }
 
-    private static class updateOutput_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateOutput_result> {
+    private static class updateAngularObject_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAngularObject_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -4479,19 +11809,28 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class updateAllOutput_args implements org.apache.thrift.TBase<updateAllOutput_args, updateAllOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAllOutput_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAllOutput_args");
+  public static class removeAngularObject_args implements org.apache.thrift.TBase<removeAngularObject_args, removeAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeAngularObject_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeAngularObject_args");
 
-    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)3);
+    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)4);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAllOutput_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAllOutput_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeAngularObject_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeAngularObject_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable OutputUpdateAllEvent event; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String noteId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String name; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EVENT((short)1, "event");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      NOTE_ID((short)2, "noteId"),
+      PARAGRAPH_ID((short)3, "paragraphId"),
+      NAME((short)4, "name");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -4507,8 +11846,14 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // EVENT
-            return EVENT;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // NOTE_ID
+            return NOTE_ID;
+          case 3: // PARAGRAPH_ID
+            return PARAGRAPH_ID;
+          case 4: // NAME
+            return NAME;
           default:
             return null;
         }
@@ -4553,72 +11898,195 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, OutputUpdateAllEvent.class)));
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAllOutput_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeAngularObject_args.class, metaDataMap);
     }
 
-    public updateAllOutput_args() {
+    public removeAngularObject_args() {
     }
 
-    public updateAllOutput_args(
-      OutputUpdateAllEvent event)
+    public removeAngularObject_args(
+      java.lang.String intpGroupId,
+      java.lang.String noteId,
+      java.lang.String paragraphId,
+      java.lang.String name)
     {
       this();
-      this.event = event;
+      this.intpGroupId = intpGroupId;
+      this.noteId = noteId;
+      this.paragraphId = paragraphId;
+      this.name = name;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAllOutput_args(updateAllOutput_args other) {
-      if (other.isSetEvent()) {
-        this.event = new OutputUpdateAllEvent(other.event);
+    public removeAngularObject_args(removeAngularObject_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetNoteId()) {
+        this.noteId = other.noteId;
+      }
+      if (other.isSetParagraphId()) {
+        this.paragraphId = other.paragraphId;
+      }
+      if (other.isSetName()) {
+        this.name = other.name;
       }
     }
 
-    public updateAllOutput_args deepCopy() {
-      return new updateAllOutput_args(this);
+    public removeAngularObject_args deepCopy() {
+      return new removeAngularObject_args(this);
     }
 
     @Override
     public void clear() {
-      this.event = null;
+      this.intpGroupId = null;
+      this.noteId = null;
+      this.paragraphId = null;
+      this.name = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public OutputUpdateAllEvent getEvent() {
-      return this.event;
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
     }
 
-    public updateAllOutput_args setEvent(@org.apache.thrift.annotation.Nullable OutputUpdateAllEvent event) {
-      this.event = event;
+    public removeAngularObject_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
       return this;
     }
 
-    public void unsetEvent() {
-      this.event = null;
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    /** Returns true if field event is set (has been assigned a value) and false otherwise */
-    public boolean isSetEvent() {
-      return this.event != null;
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
     }
 
-    public void setEventIsSet(boolean value) {
+    public void setIntpGroupIdIsSet(boolean value) {
       if (!value) {
-        this.event = null;
+        this.intpGroupId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getNoteId() {
+      return this.noteId;
+    }
+
+    public removeAngularObject_args setNoteId(@org.apache.thrift.annotation.Nullable java.lang.String noteId) {
+      this.noteId = noteId;
+      return this;
+    }
+
+    public void unsetNoteId() {
+      this.noteId = null;
+    }
+
+    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
+    public boolean isSetNoteId() {
+      return this.noteId != null;
+    }
+
+    public void setNoteIdIsSet(boolean value) {
+      if (!value) {
+        this.noteId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getParagraphId() {
+      return this.paragraphId;
+    }
+
+    public removeAngularObject_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
+      this.paragraphId = paragraphId;
+      return this;
+    }
+
+    public void unsetParagraphId() {
+      this.paragraphId = null;
+    }
+
+    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
+    public boolean isSetParagraphId() {
+      return this.paragraphId != null;
+    }
+
+    public void setParagraphIdIsSet(boolean value) {
+      if (!value) {
+        this.paragraphId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getName() {
+      return this.name;
+    }
+
+    public removeAngularObject_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
+      this.name = name;
+      return this;
+    }
+
+    public void unsetName() {
+      this.name = null;
+    }
+
+    /** Returns true if field name is set (has been assigned a value) and false otherwise */
+    public boolean isSetName() {
+      return this.name != null;
+    }
+
+    public void setNameIsSet(boolean value) {
+      if (!value) {
+        this.name = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case EVENT:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetEvent();
+          unsetIntpGroupId();
         } else {
-          setEvent((OutputUpdateAllEvent)value);
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      case NOTE_ID:
+        if (value == null) {
+          unsetNoteId();
+        } else {
+          setNoteId((java.lang.String)value);
+        }
+        break;
+
+      case PARAGRAPH_ID:
+        if (value == null) {
+          unsetParagraphId();
+        } else {
+          setParagraphId((java.lang.String)value);
+        }
+        break;
+
+      case NAME:
+        if (value == null) {
+          unsetName();
+        } else {
+          setName((java.lang.String)value);
         }
         break;
 
@@ -4628,8 +12096,17 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case EVENT:
-        return getEvent();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case NOTE_ID:
+        return getNoteId();
+
+      case PARAGRAPH_ID:
+        return getParagraphId();
+
+      case NAME:
+        return getName();
 
       }
       throw new java.lang.IllegalStateException();
@@ -4642,8 +12119,14 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case EVENT:
-        return isSetEvent();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case NOTE_ID:
+        return isSetNoteId();
+      case PARAGRAPH_ID:
+        return isSetParagraphId();
+      case NAME:
+        return isSetName();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -4652,23 +12135,50 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAllOutput_args)
-        return this.equals((updateAllOutput_args)that);
+      if (that instanceof removeAngularObject_args)
+        return this.equals((removeAngularObject_args)that);
       return false;
     }
 
-    public boolean equals(updateAllOutput_args that) {
+    public boolean equals(removeAngularObject_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_event = true && this.isSetEvent();
-      boolean that_present_event = true && that.isSetEvent();
-      if (this_present_event || that_present_event) {
-        if (!(this_present_event && that_present_event))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
           return false;
-        if (!this.event.equals(that.event))
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_noteId = true && this.isSetNoteId();
+      boolean that_present_noteId = true && that.isSetNoteId();
+      if (this_present_noteId || that_present_noteId) {
+        if (!(this_present_noteId && that_present_noteId))
+          return false;
+        if (!this.noteId.equals(that.noteId))
+          return false;
+      }
+
+      boolean this_present_paragraphId = true && this.isSetParagraphId();
+      boolean that_present_paragraphId = true && that.isSetParagraphId();
+      if (this_present_paragraphId || that_present_paragraphId) {
+        if (!(this_present_paragraphId && that_present_paragraphId))
+          return false;
+        if (!this.paragraphId.equals(that.paragraphId))
+          return false;
+      }
+
+      boolean this_present_name = true && this.isSetName();
+      boolean that_present_name = true && that.isSetName();
+      if (this_present_name || that_present_name) {
+        if (!(this_present_name && that_present_name))
+          return false;
+        if (!this.name.equals(that.name))
           return false;
       }
 
@@ -4679,27 +12189,69 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
-      if (isSetEvent())
-        hashCode = hashCode * 8191 + event.hashCode();
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetNoteId()) ? 131071 : 524287);
+      if (isSetNoteId())
+        hashCode = hashCode * 8191 + noteId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetParagraphId()) ? 131071 : 524287);
+      if (isSetParagraphId())
+        hashCode = hashCode * 8191 + paragraphId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetName()) ? 131071 : 524287);
+      if (isSetName())
+        hashCode = hashCode * 8191 + name.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(updateAllOutput_args other) {
+    public int compareTo(removeAngularObject_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEvent()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNoteId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParagraphId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetName()).compareTo(other.isSetName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -4722,14 +12274,38 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAllOutput_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeAngularObject_args(");
       boolean first = true;
 
-      sb.append("event:");
-      if (this.event == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.event);
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("noteId:");
+      if (this.noteId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.noteId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("paragraphId:");
+      if (this.paragraphId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paragraphId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("name:");
+      if (this.name == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.name);
       }
       first = false;
       sb.append(")");
@@ -4739,9 +12315,6 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (event != null) {
-        event.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -4760,15 +12333,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAllOutput_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAllOutput_argsStandardScheme getScheme() {
-        return new updateAllOutput_argsStandardScheme();
+    private static class removeAngularObject_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeAngularObject_argsStandardScheme getScheme() {
+        return new removeAngularObject_argsStandardScheme();
       }
     }
 
-    private static class updateAllOutput_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAllOutput_args> {
+    private static class removeAngularObject_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeAngularObject_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4778,11 +12351,34 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EVENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.event = new OutputUpdateAllEvent();
-                struct.event.read(iprot);
-                struct.setEventIsSet(true);
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // NOTE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.noteId = iprot.readString();
+                struct.setNoteIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PARAGRAPH_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.name = iprot.readString();
+                struct.setNameIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -4798,13 +12394,28 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeAngularObject_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.event != null) {
-          oprot.writeFieldBegin(EVENT_FIELD_DESC);
-          struct.event.write(oprot);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.noteId != null) {
+          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
+          oprot.writeString(struct.noteId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.paragraphId != null) {
+          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
+          oprot.writeString(struct.paragraphId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.name != null) {
+          oprot.writeFieldBegin(NAME_FIELD_DESC);
+          oprot.writeString(struct.name);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -4813,35 +12424,64 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAllOutput_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAllOutput_argsTupleScheme getScheme() {
-        return new updateAllOutput_argsTupleScheme();
+    private static class removeAngularObject_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeAngularObject_argsTupleScheme getScheme() {
+        return new removeAngularObject_argsTupleScheme();
       }
     }
 
-    private static class updateAllOutput_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAllOutput_args> {
+    private static class removeAngularObject_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeAngularObject_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetEvent()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEvent()) {
-          struct.event.write(oprot);
+        if (struct.isSetNoteId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetParagraphId()) {
+          optionals.set(2);
+        }
+        if (struct.isSetName()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetNoteId()) {
+          oprot.writeString(struct.noteId);
+        }
+        if (struct.isSetParagraphId()) {
+          oprot.writeString(struct.paragraphId);
+        }
+        if (struct.isSetName()) {
+          oprot.writeString(struct.name);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
-          struct.event = new OutputUpdateAllEvent();
-          struct.event.read(iprot);
-          struct.setEventIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.noteId = iprot.readString();
+          struct.setNoteIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.paragraphId = iprot.readString();
+          struct.setParagraphIdIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.name = iprot.readString();
+          struct.setNameIsSet(true);
         }
       }
     }
@@ -4851,12 +12491,12 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class updateAllOutput_result implements org.apache.thrift.TBase<updateAllOutput_result, updateAllOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAllOutput_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAllOutput_result");
+  public static class removeAngularObject_result implements org.apache.thrift.TBase<removeAngularObject_result, removeAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeAngularObject_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeAngularObject_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAllOutput_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAllOutput_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeAngularObject_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeAngularObject_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -4920,20 +12560,20 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAllOutput_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeAngularObject_result.class, metaDataMap);
     }
 
-    public updateAllOutput_result() {
+    public removeAngularObject_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAllOutput_result(updateAllOutput_result other) {
+    public removeAngularObject_result(removeAngularObject_result other) {
     }
 
-    public updateAllOutput_result deepCopy() {
-      return new updateAllOutput_result(this);
+    public removeAngularObject_result deepCopy() {
+      return new removeAngularObject_result(this);
     }
 
     @Override
@@ -4967,12 +12607,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAllOutput_result)
-        return this.equals((updateAllOutput_result)that);
+      if (that instanceof removeAngularObject_result)
+        return this.equals((removeAngularObject_result)that);
       return false;
     }
 
-    public boolean equals(updateAllOutput_result that) {
+    public boolean equals(removeAngularObject_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -4989,7 +12629,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(updateAllOutput_result other) {
+    public int compareTo(removeAngularObject_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5014,7 +12654,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAllOutput_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeAngularObject_result(");
       boolean first = true;
 
       sb.append(")");
@@ -5042,15 +12682,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAllOutput_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAllOutput_resultStandardScheme getScheme() {
-        return new updateAllOutput_resultStandardScheme();
+    private static class removeAngularObject_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeAngularObject_resultStandardScheme getScheme() {
+        return new removeAngularObject_resultStandardScheme();
       }
     }
 
-    private static class updateAllOutput_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAllOutput_result> {
+    private static class removeAngularObject_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeAngularObject_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5071,7 +12711,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeAngularObject_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -5081,21 +12721,21 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAllOutput_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAllOutput_resultTupleScheme getScheme() {
-        return new updateAllOutput_resultTupleScheme();
+    private static class removeAngularObject_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeAngularObject_resultTupleScheme getScheme() {
+        return new removeAngularObject_resultTupleScheme();
       }
     }
 
-    private static class updateAllOutput_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAllOutput_result> {
+    private static class removeAngularObject_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeAngularObject_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAllOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -5105,19 +12745,25 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class appendAppOutput_args implements org.apache.thrift.TBase<appendAppOutput_args, appendAppOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<appendAppOutput_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendAppOutput_args");
+  public static class patchAngularObject_args implements org.apache.thrift.TBase<patchAngularObject_args, patchAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<patchAngularObject_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("patchAngularObject_args");
 
-    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField ANGULAR_OBJECT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("angularObjectId", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField PATCH_FIELD_DESC = new org.apache.thrift.protocol.TField("patch", org.apache.thrift.protocol.TType.STRING, (short)3);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new appendAppOutput_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new appendAppOutput_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new patchAngularObject_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new patchAngularObject_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable AppOutputAppendEvent event; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable AngularObjectId angularObjectId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String patch; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EVENT((short)1, "event");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      ANGULAR_OBJECT_ID((short)2, "angularObjectId"),
+      PATCH((short)3, "patch");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -5133,8 +12779,12 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // EVENT
-            return EVENT;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // ANGULAR_OBJECT_ID
+            return ANGULAR_OBJECT_ID;
+          case 3: // PATCH
+            return PATCH;
           default:
             return null;
         }
@@ -5179,72 +12829,154 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, AppOutputAppendEvent.class)));
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.ANGULAR_OBJECT_ID, new org.apache.thrift.meta_data.FieldMetaData("angularObjectId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, AngularObjectId.class)));
+      tmpMap.put(_Fields.PATCH, new org.apache.thrift.meta_data.FieldMetaData("patch", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendAppOutput_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(patchAngularObject_args.class, metaDataMap);
     }
 
-    public appendAppOutput_args() {
+    public patchAngularObject_args() {
     }
 
-    public appendAppOutput_args(
-      AppOutputAppendEvent event)
+    public patchAngularObject_args(
+      java.lang.String intpGroupId,
+      AngularObjectId angularObjectId,
+      java.lang.String patch)
     {
       this();
-      this.event = event;
+      this.intpGroupId = intpGroupId;
+      this.angularObjectId = angularObjectId;
+      this.patch = patch;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public appendAppOutput_args(appendAppOutput_args other) {
-      if (other.isSetEvent()) {
-        this.event = new AppOutputAppendEvent(other.event);
+    public patchAngularObject_args(patchAngularObject_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetAngularObjectId()) {
+        this.angularObjectId = new AngularObjectId(other.angularObjectId);
+      }
+      if (other.isSetPatch()) {
+        this.patch = other.patch;
       }
     }
 
-    public appendAppOutput_args deepCopy() {
-      return new appendAppOutput_args(this);
+    public patchAngularObject_args deepCopy() {
+      return new patchAngularObject_args(this);
     }
 
     @Override
     public void clear() {
-      this.event = null;
+      this.intpGroupId = null;
+      this.angularObjectId = null;
+      this.patch = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public AppOutputAppendEvent getEvent() {
-      return this.event;
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
     }
 
-    public appendAppOutput_args setEvent(@org.apache.thrift.annotation.Nullable AppOutputAppendEvent event) {
-      this.event = event;
+    public patchAngularObject_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
       return this;
     }
 
-    public void unsetEvent() {
-      this.event = null;
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    /** Returns true if field event is set (has been assigned a value) and false otherwise */
-    public boolean isSetEvent() {
-      return this.event != null;
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
     }
 
-    public void setEventIsSet(boolean value) {
+    public void setIntpGroupIdIsSet(boolean value) {
       if (!value) {
-        this.event = null;
+        this.intpGroupId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public AngularObjectId getAngularObjectId() {
+      return this.angularObjectId;
+    }
+
+    public patchAngularObject_args setAngularObjectId(@org.apache.thrift.annotation.Nullable AngularObjectId angularObjectId) {
+      this.angularObjectId = angularObjectId;
+      return this;
+    }
+
+    public void unsetAngularObjectId() {
+      this.angularObjectId = null;
+    }
+
+    /** Returns true if field angularObjectId is set (has been assigned a value) and false otherwise */
+    public boolean isSetAngularObjectId() {
+      return this.angularObjectId != null;
+    }
+
+    public void setAngularObjectIdIsSet(boolean value) {
+      if (!value) {
+        this.angularObjectId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getPatch() {
+      return this.patch;
+    }
+
+    public patchAngularObject_args setPatch(@org.apache.thrift.annotation.Nullable java.lang.String patch) {
+      this.patch = patch;
+      return this;
+    }
+
+    public void unsetPatch() {
+      this.patch = null;
+    }
+
+    /** Returns true if field patch is set (has been assigned a value) and false otherwise */
+    public boolean isSetPatch() {
+      return this.patch != null;
+    }
+
+    public void setPatchIsSet(boolean value) {
+      if (!value) {
+        this.patch = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case EVENT:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetEvent();
+          unsetIntpGroupId();
         } else {
-          setEvent((AppOutputAppendEvent)value);
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      case ANGULAR_OBJECT_ID:
+        if (value == null) {
+          unsetAngularObjectId();
+        } else {
+          setAngularObjectId((AngularObjectId)value);
+        }
+        break;
+
+      case PATCH:
+        if (value == null) {
+          unsetPatch();
+        } else {
+          setPatch((java.lang.String)value);
         }
         break;
 
@@ -5254,8 +12986,14 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case EVENT:
-        return getEvent();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case ANGULAR_OBJECT_ID:
+        return getAngularObjectId();
+
+      case PATCH:
+        return getPatch();
 
       }
       throw new java.lang.IllegalStateException();
@@ -5268,8 +13006,12 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case EVENT:
-        return isSetEvent();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case ANGULAR_OBJECT_ID:
+        return isSetAngularObjectId();
+      case PATCH:
+        return isSetPatch();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -5278,23 +13020,41 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof appendAppOutput_args)
-        return this.equals((appendAppOutput_args)that);
+      if (that instanceof patchAngularObject_args)
+        return this.equals((patchAngularObject_args)that);
       return false;
     }
 
-    public boolean equals(appendAppOutput_args that) {
+    public boolean equals(patchAngularObject_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_event = true && this.isSetEvent();
-      boolean that_present_event = true && that.isSetEvent();
-      if (this_present_event || that_present_event) {
-        if (!(this_present_event && that_present_event))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
           return false;
-        if (!this.event.equals(that.event))
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_angularObjectId = true && this.isSetAngularObjectId();
+      boolean that_present_angularObjectId = true && that.isSetAngularObjectId();
+      if (this_present_angularObjectId || that_present_angularObjectId) {
+        if (!(this_present_angularObjectId && that_present_angularObjectId))
+          return false;
+        if (!this.angularObjectId.equals(that.angularObjectId))
+          return false;
+      }
+
+      boolean this_present_patch = true && this.isSetPatch();
+      boolean that_present_patch = true && that.isSetPatch();
+      if (this_present_patch || that_present_patch) {
+        if (!(this_present_patch && that_present_patch))
+          return false;
+        if (!this.patch.equals(that.patch))
           return false;
       }
 
@@ -5305,27 +13065,55 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
-      if (isSetEvent())
-        hashCode = hashCode * 8191 + event.hashCode();
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetAngularObjectId()) ? 131071 : 524287);
+      if (isSetAngularObjectId())
+        hashCode = hashCode * 8191 + angularObjectId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetPatch()) ? 131071 : 524287);
+      if (isSetPatch())
+        hashCode = hashCode * 8191 + patch.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(appendAppOutput_args other) {
+    public int compareTo(patchAngularObject_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEvent()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetAngularObjectId()).compareTo(other.isSetAngularObjectId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetAngularObjectId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.angularObjectId, other.angularObjectId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetPatch()).compareTo(other.isSetPatch());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPatch()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.patch, other.patch);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5348,14 +13136,30 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("appendAppOutput_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("patchAngularObject_args(");
       boolean first = true;
 
-      sb.append("event:");
-      if (this.event == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.event);
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("angularObjectId:");
+      if (this.angularObjectId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.angularObjectId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("patch:");
+      if (this.patch == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.patch);
       }
       first = false;
       sb.append(")");
@@ -5365,8 +13169,8 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (event != null) {
-        event.validate();
+      if (angularObjectId != null) {
+        angularObjectId.validate();
       }
     }
 
@@ -5386,15 +13190,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class appendAppOutput_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public appendAppOutput_argsStandardScheme getScheme() {
-        return new appendAppOutput_argsStandardScheme();
+    private static class patchAngularObject_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public patchAngularObject_argsStandardScheme getScheme() {
+        return new patchAngularObject_argsStandardScheme();
       }
     }
 
-    private static class appendAppOutput_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<appendAppOutput_args> {
+    private static class patchAngularObject_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<patchAngularObject_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, patchAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5404,11 +13208,27 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EVENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.event = new AppOutputAppendEvent();
-                struct.event.read(iprot);
-                struct.setEventIsSet(true);
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // ANGULAR_OBJECT_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.angularObjectId = new AngularObjectId();
+                struct.angularObjectId.read(iprot);
+                struct.setAngularObjectIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PATCH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.patch = iprot.readString();
+                struct.setPatchIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -5424,13 +13244,23 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, patchAngularObject_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.event != null) {
-          oprot.writeFieldBegin(EVENT_FIELD_DESC);
-          struct.event.write(oprot);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.angularObjectId != null) {
+          oprot.writeFieldBegin(ANGULAR_OBJECT_ID_FIELD_DESC);
+          struct.angularObjectId.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.patch != null) {
+          oprot.writeFieldBegin(PATCH_FIELD_DESC);
+          oprot.writeString(struct.patch);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -5439,35 +13269,55 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class appendAppOutput_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public appendAppOutput_argsTupleScheme getScheme() {
-        return new appendAppOutput_argsTupleScheme();
+    private static class patchAngularObject_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public patchAngularObject_argsTupleScheme getScheme() {
+        return new patchAngularObject_argsTupleScheme();
       }
     }
 
-    private static class appendAppOutput_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<appendAppOutput_args> {
+    private static class patchAngularObject_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<patchAngularObject_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, patchAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetEvent()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEvent()) {
-          struct.event.write(oprot);
+        if (struct.isSetAngularObjectId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetPatch()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetAngularObjectId()) {
+          struct.angularObjectId.write(oprot);
+        }
+        if (struct.isSetPatch()) {
+          oprot.writeString(struct.patch);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, patchAngularObject_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.event = new AppOutputAppendEvent();
-          struct.event.read(iprot);
-          struct.setEventIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.angularObjectId = new AngularObjectId();
+          struct.angularObjectId.read(iprot);
+          struct.setAngularObjectIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.patch = iprot.readString();
+          struct.setPatchIsSet(true);
         }
       }
     }
@@ -5477,17 +13327,19 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class appendAppOutput_result implements org.apache.thrift.TBase<appendAppOutput_result, appendAppOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<appendAppOutput_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("appendAppOutput_result");
+  public static class patchAngularObject_result implements org.apache.thrift.TBase<patchAngularObject_result, patchAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<patchAngularObject_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("patchAngularObject_result");
 
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new appendAppOutput_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new appendAppOutput_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new patchAngularObject_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new patchAngularObject_resultTupleSchemeFactory();
 
+    public @org.apache.thrift.annotation.Nullable ServiceException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      E((short)1, "e");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -5503,6 +13355,8 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // E
+            return E;
           default:
             return null;
         }
@@ -5542,38 +13396,89 @@ public class RemoteInterpreterEventService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ServiceException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(appendAppOutput_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(patchAngularObject_result.class, metaDataMap);
     }
 
-    public appendAppOutput_result() {
+    public patchAngularObject_result() {
+    }
+
+    public patchAngularObject_result(
+      ServiceException e)
+    {
+      this();
+      this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public appendAppOutput_result(appendAppOutput_result other) {
+    public patchAngularObject_result(patchAngularObject_result other) {
+      if (other.isSetE()) {
+        this.e = new ServiceException(other.e);
+      }
     }
 
-    public appendAppOutput_result deepCopy() {
-      return new appendAppOutput_result(this);
+    public patchAngularObject_result deepCopy() {
+      return new patchAngularObject_result(this);
     }
 
     @Override
     public void clear() {
+      this.e = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ServiceException getE() {
+      return this.e;
+    }
+
+    public patchAngularObject_result setE(@org.apache.thrift.annotation.Nullable ServiceException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((ServiceException)value);
+        }
+        break;
+
       }
     }
 
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case E:
+        return getE();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -5585,6 +13490,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
+      case E:
+        return isSetE();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -5593,17 +13500,26 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof appendAppOutput_result)
-        return this.equals((appendAppOutput_result)that);
+      if (that instanceof patchAngularObject_result)
+        return this.equals((patchAngularObject_result)that);
       return false;
     }
 
-    public boolean equals(appendAppOutput_result that) {
+    public boolean equals(patchAngularObject_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
       return true;
     }
 
@@ -5611,17 +13527,31 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetE()) ? 131071 : 524287);
+      if (isSetE())
+        hashCode = hashCode * 8191 + e.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(appendAppOutput_result other) {
+    public int compareTo(patchAngularObject_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -5640,9 +13570,16 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("appendAppOutput_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("patchAngularObject_result(");
       boolean first = true;
 
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -5668,15 +13605,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class appendAppOutput_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public appendAppOutput_resultStandardScheme getScheme() {
-        return new appendAppOutput_resultStandardScheme();
+    private static class patchAngularObject_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public patchAngularObject_resultStandardScheme getScheme() {
+        return new patchAngularObject_resultStandardScheme();
       }
     }
 
-    private static class appendAppOutput_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<appendAppOutput_result> {
+    private static class patchAngularObject_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<patchAngularObject_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, patchAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5686,6 +13623,15 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new ServiceException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -5697,32 +13643,51 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, patchAngularObject_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class appendAppOutput_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public appendAppOutput_resultTupleScheme getScheme() {
-        return new appendAppOutput_resultTupleScheme();
+    private static class patchAngularObject_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public patchAngularObject_resultTupleScheme getScheme() {
+        return new patchAngularObject_resultTupleScheme();
       }
     }
 
-    private static class appendAppOutput_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<appendAppOutput_result> {
+    private static class patchAngularObject_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<patchAngularObject_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, patchAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, appendAppOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, patchAngularObject_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.e = new ServiceException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
       }
     }
 
@@ -5731,19 +13696,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class updateAppOutput_args implements org.apache.thrift.TBase<updateAppOutput_args, updateAppOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppOutput_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppOutput_args");
+  public static class sendParagraphInfo_args implements org.apache.thrift.TBase<sendParagraphInfo_args, sendParagraphInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<sendParagraphInfo_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendParagraphInfo_args");
 
-    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAppOutput_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAppOutput_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new sendParagraphInfo_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new sendParagraphInfo_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable AppOutputUpdateEvent event; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EVENT((short)1, "event");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      JSON((short)2, "json");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -5759,8 +13727,10 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // EVENT
-            return EVENT;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // JSON
+            return JSON;
           default:
             return null;
         }
@@ -5805,72 +13775,113 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, AppOutputUpdateEvent.class)));
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppOutput_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendParagraphInfo_args.class, metaDataMap);
     }
 
-    public updateAppOutput_args() {
+    public sendParagraphInfo_args() {
     }
 
-    public updateAppOutput_args(
-      AppOutputUpdateEvent event)
+    public sendParagraphInfo_args(
+      java.lang.String intpGroupId,
+      java.lang.String json)
     {
       this();
-      this.event = event;
+      this.intpGroupId = intpGroupId;
+      this.json = json;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAppOutput_args(updateAppOutput_args other) {
-      if (other.isSetEvent()) {
-        this.event = new AppOutputUpdateEvent(other.event);
+    public sendParagraphInfo_args(sendParagraphInfo_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetJson()) {
+        this.json = other.json;
       }
     }
 
-    public updateAppOutput_args deepCopy() {
-      return new updateAppOutput_args(this);
+    public sendParagraphInfo_args deepCopy() {
+      return new sendParagraphInfo_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.intpGroupId = null;
+      this.json = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
+    }
+
+    public sendParagraphInfo_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
+      return this;
+    }
+
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    @Override
-    public void clear() {
-      this.event = null;
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
+    }
+
+    public void setIntpGroupIdIsSet(boolean value) {
+      if (!value) {
+        this.intpGroupId = null;
+      }
     }
 
     @org.apache.thrift.annotation.Nullable
-    public AppOutputUpdateEvent getEvent() {
-      return this.event;
+    public java.lang.String getJson() {
+      return this.json;
     }
 
-    public updateAppOutput_args setEvent(@org.apache.thrift.annotation.Nullable AppOutputUpdateEvent event) {
-      this.event = event;
+    public sendParagraphInfo_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
+      this.json = json;
       return this;
     }
 
-    public void unsetEvent() {
-      this.event = null;
+    public void unsetJson() {
+      this.json = null;
     }
 
-    /** Returns true if field event is set (has been assigned a value) and false otherwise */
-    public boolean isSetEvent() {
-      return this.event != null;
+    /** Returns true if field json is set (has been assigned a value) and false otherwise */
+    public boolean isSetJson() {
+      return this.json != null;
     }
 
-    public void setEventIsSet(boolean value) {
+    public void setJsonIsSet(boolean value) {
       if (!value) {
-        this.event = null;
+        this.json = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case EVENT:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetEvent();
+          unsetIntpGroupId();
         } else {
-          setEvent((AppOutputUpdateEvent)value);
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      case JSON:
+        if (value == null) {
+          unsetJson();
+        } else {
+          setJson((java.lang.String)value);
         }
         break;
 
@@ -5880,8 +13891,11 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case EVENT:
-        return getEvent();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case JSON:
+        return getJson();
 
       }
       throw new java.lang.IllegalStateException();
@@ -5894,8 +13908,10 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case EVENT:
-        return isSetEvent();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case JSON:
+        return isSetJson();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -5904,23 +13920,32 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAppOutput_args)
-        return this.equals((updateAppOutput_args)that);
+      if (that instanceof sendParagraphInfo_args)
+        return this.equals((sendParagraphInfo_args)that);
       return false;
     }
 
-    public boolean equals(updateAppOutput_args that) {
+    public boolean equals(sendParagraphInfo_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_event = true && this.isSetEvent();
-      boolean that_present_event = true && that.isSetEvent();
-      if (this_present_event || that_present_event) {
-        if (!(this_present_event && that_present_event))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
           return false;
-        if (!this.event.equals(that.event))
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_json = true && this.isSetJson();
+      boolean that_present_json = true && that.isSetJson();
+      if (this_present_json || that_present_json) {
+        if (!(this_present_json && that_present_json))
+          return false;
+        if (!this.json.equals(that.json))
           return false;
       }
 
@@ -5931,27 +13956,41 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
-      if (isSetEvent())
-        hashCode = hashCode * 8191 + event.hashCode();
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetJson()) ? 131071 : 524287);
+      if (isSetJson())
+        hashCode = hashCode * 8191 + json.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(updateAppOutput_args other) {
+    public int compareTo(sendParagraphInfo_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEvent()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5974,14 +14013,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAppOutput_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("sendParagraphInfo_args(");
       boolean first = true;
 
-      sb.append("event:");
-      if (this.event == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.event);
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("json:");
+      if (this.json == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.json);
       }
       first = false;
       sb.append(")");
@@ -5991,9 +14038,6 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (event != null) {
-        event.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -6012,15 +14056,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAppOutput_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAppOutput_argsStandardScheme getScheme() {
-        return new updateAppOutput_argsStandardScheme();
+    private static class sendParagraphInfo_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public sendParagraphInfo_argsStandardScheme getScheme() {
+        return new sendParagraphInfo_argsStandardScheme();
       }
     }
 
-    private static class updateAppOutput_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAppOutput_args> {
+    private static class sendParagraphInfo_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<sendParagraphInfo_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6030,11 +14074,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EVENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.event = new AppOutputUpdateEvent();
-                struct.event.read(iprot);
-                struct.setEventIsSet(true);
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.json = iprot.readString();
+                struct.setJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -6050,13 +14101,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.event != null) {
-          oprot.writeFieldBegin(EVENT_FIELD_DESC);
-          struct.event.write(oprot);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.json != null) {
+          oprot.writeFieldBegin(JSON_FIELD_DESC);
+          oprot.writeString(struct.json);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -6065,35 +14121,44 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAppOutput_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAppOutput_argsTupleScheme getScheme() {
-        return new updateAppOutput_argsTupleScheme();
+    private static class sendParagraphInfo_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public sendParagraphInfo_argsTupleScheme getScheme() {
+        return new sendParagraphInfo_argsTupleScheme();
       }
     }
 
-    private static class updateAppOutput_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAppOutput_args> {
+    private static class sendParagraphInfo_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<sendParagraphInfo_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetEvent()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEvent()) {
-          struct.event.write(oprot);
+        if (struct.isSetJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetJson()) {
+          oprot.writeString(struct.json);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.event = new AppOutputUpdateEvent();
-          struct.event.read(iprot);
-          struct.setEventIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.json = iprot.readString();
+          struct.setJsonIsSet(true);
         }
       }
     }
@@ -6103,12 +14168,12 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class updateAppOutput_result implements org.apache.thrift.TBase<updateAppOutput_result, updateAppOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppOutput_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppOutput_result");
+  public static class sendParagraphInfo_result implements org.apache.thrift.TBase<sendParagraphInfo_result, sendParagraphInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<sendParagraphInfo_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendParagraphInfo_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAppOutput_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAppOutput_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new sendParagraphInfo_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new sendParagraphInfo_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -6172,20 +14237,20 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppOutput_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendParagraphInfo_result.class, metaDataMap);
     }
 
-    public updateAppOutput_result() {
+    public sendParagraphInfo_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAppOutput_result(updateAppOutput_result other) {
+    public sendParagraphInfo_result(sendParagraphInfo_result other) {
     }
 
-    public updateAppOutput_result deepCopy() {
-      return new updateAppOutput_result(this);
+    public sendParagraphInfo_result deepCopy() {
+      return new sendParagraphInfo_result(this);
     }
 
     @Override
@@ -6219,12 +14284,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAppOutput_result)
-        return this.equals((updateAppOutput_result)that);
+      if (that instanceof sendParagraphInfo_result)
+        return this.equals((sendParagraphInfo_result)that);
       return false;
     }
 
-    public boolean equals(updateAppOutput_result that) {
+    public boolean equals(sendParagraphInfo_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -6241,7 +14306,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(updateAppOutput_result other) {
+    public int compareTo(sendParagraphInfo_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6266,7 +14331,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAppOutput_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("sendParagraphInfo_result(");
       boolean first = true;
 
       sb.append(")");
@@ -6294,15 +14359,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAppOutput_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAppOutput_resultStandardScheme getScheme() {
-        return new updateAppOutput_resultStandardScheme();
+    private static class sendParagraphInfo_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public sendParagraphInfo_resultStandardScheme getScheme() {
+        return new sendParagraphInfo_resultStandardScheme();
       }
     }
 
-    private static class updateAppOutput_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAppOutput_result> {
+    private static class sendParagraphInfo_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<sendParagraphInfo_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6323,7 +14388,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6333,21 +14398,21 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAppOutput_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAppOutput_resultTupleScheme getScheme() {
-        return new updateAppOutput_resultTupleScheme();
+    private static class sendParagraphInfo_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public sendParagraphInfo_resultTupleScheme getScheme() {
+        return new sendParagraphInfo_resultTupleScheme();
       }
     }
 
-    private static class updateAppOutput_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAppOutput_result> {
+    private static class sendParagraphInfo_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<sendParagraphInfo_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -6357,19 +14422,19 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class updateAppStatus_args implements org.apache.thrift.TBase<updateAppStatus_args, updateAppStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppStatus_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppStatus_args");
+  public static class getAllResources_args implements org.apache.thrift.TBase<getAllResources_args, getAllResources_args._Fields>, java.io.Serializable, Cloneable, Comparable<getAllResources_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllResources_args");
 
-    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAppStatus_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAppStatus_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllResources_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllResources_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable AppStatusUpdateEvent event; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EVENT((short)1, "event");
+      INTP_GROUP_ID((short)1, "intpGroupId");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -6385,8 +14450,8 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // EVENT
-            return EVENT;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
           default:
             return null;
         }
@@ -6431,72 +14496,72 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, AppStatusUpdateEvent.class)));
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppStatus_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllResources_args.class, metaDataMap);
     }
 
-    public updateAppStatus_args() {
+    public getAllResources_args() {
     }
 
-    public updateAppStatus_args(
-      AppStatusUpdateEvent event)
+    public getAllResources_args(
+      java.lang.String intpGroupId)
     {
       this();
-      this.event = event;
+      this.intpGroupId = intpGroupId;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAppStatus_args(updateAppStatus_args other) {
-      if (other.isSetEvent()) {
-        this.event = new AppStatusUpdateEvent(other.event);
+    public getAllResources_args(getAllResources_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
       }
     }
 
-    public updateAppStatus_args deepCopy() {
-      return new updateAppStatus_args(this);
+    public getAllResources_args deepCopy() {
+      return new getAllResources_args(this);
     }
 
     @Override
     public void clear() {
-      this.event = null;
+      this.intpGroupId = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public AppStatusUpdateEvent getEvent() {
-      return this.event;
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
     }
 
-    public updateAppStatus_args setEvent(@org.apache.thrift.annotation.Nullable AppStatusUpdateEvent event) {
-      this.event = event;
+    public getAllResources_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
       return this;
     }
 
-    public void unsetEvent() {
-      this.event = null;
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    /** Returns true if field event is set (has been assigned a value) and false otherwise */
-    public boolean isSetEvent() {
-      return this.event != null;
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
     }
 
-    public void setEventIsSet(boolean value) {
+    public void setIntpGroupIdIsSet(boolean value) {
       if (!value) {
-        this.event = null;
+        this.intpGroupId = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case EVENT:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetEvent();
+          unsetIntpGroupId();
         } else {
-          setEvent((AppStatusUpdateEvent)value);
+          setIntpGroupId((java.lang.String)value);
         }
         break;
 
@@ -6506,8 +14571,8 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case EVENT:
-        return getEvent();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
 
       }
       throw new java.lang.IllegalStateException();
@@ -6520,8 +14585,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case EVENT:
-        return isSetEvent();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -6530,23 +14595,23 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAppStatus_args)
-        return this.equals((updateAppStatus_args)that);
+      if (that instanceof getAllResources_args)
+        return this.equals((getAllResources_args)that);
       return false;
     }
 
-    public boolean equals(updateAppStatus_args that) {
+    public boolean equals(getAllResources_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_event = true && this.isSetEvent();
-      boolean that_present_event = true && that.isSetEvent();
-      if (this_present_event || that_present_event) {
-        if (!(this_present_event && that_present_event))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
           return false;
-        if (!this.event.equals(that.event))
+        if (!this.intpGroupId.equals(that.intpGroupId))
           return false;
       }
 
@@ -6557,27 +14622,27 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
-      if (isSetEvent())
-        hashCode = hashCode * 8191 + event.hashCode();
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(updateAppStatus_args other) {
+    public int compareTo(getAllResources_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEvent()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -6600,14 +14665,14 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAppStatus_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllResources_args(");
       boolean first = true;
 
-      sb.append("event:");
-      if (this.event == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.event);
+        sb.append(this.intpGroupId);
       }
       first = false;
       sb.append(")");
@@ -6617,9 +14682,6 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (event != null) {
-        event.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -6638,15 +14700,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAppStatus_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAppStatus_argsStandardScheme getScheme() {
-        return new updateAppStatus_argsStandardScheme();
+    private static class getAllResources_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllResources_argsStandardScheme getScheme() {
+        return new getAllResources_argsStandardScheme();
       }
     }
 
-    private static class updateAppStatus_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAppStatus_args> {
+    private static class getAllResources_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllResources_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllResources_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6656,11 +14718,10 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EVENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.event = new AppStatusUpdateEvent();
-                struct.event.read(iprot);
-                struct.setEventIsSet(true);
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -6676,13 +14737,13 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllResources_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.event != null) {
-          oprot.writeFieldBegin(EVENT_FIELD_DESC);
-          struct.event.write(oprot);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -6691,35 +14752,34 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAppStatus_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAppStatus_argsTupleScheme getScheme() {
-        return new updateAppStatus_argsTupleScheme();
+    private static class getAllResources_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllResources_argsTupleScheme getScheme() {
+        return new getAllResources_argsTupleScheme();
       }
     }
 
-    private static class updateAppStatus_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAppStatus_args> {
+    private static class getAllResources_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllResources_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getAllResources_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetEvent()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEvent()) {
-          struct.event.write(oprot);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getAllResources_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.event = new AppStatusUpdateEvent();
-          struct.event.read(iprot);
-          struct.setEventIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
         }
       }
     }
@@ -6729,17 +14789,19 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class updateAppStatus_result implements org.apache.thrift.TBase<updateAppStatus_result, updateAppStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAppStatus_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAppStatus_result");
+  public static class getAllResources_result implements org.apache.thrift.TBase<getAllResources_result, getAllResources_result._Fields>, java.io.Serializable, Cloneable, Comparable<getAllResources_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllResources_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAppStatus_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAppStatus_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllResources_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllResources_resultTupleSchemeFactory();
 
+    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -6755,6 +14817,8 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -6794,38 +14858,107 @@ public class RemoteInterpreterEventService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAppStatus_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllResources_result.class, metaDataMap);
     }
 
-    public updateAppStatus_result() {
+    public getAllResources_result() {
+    }
+
+    public getAllResources_result(
+      java.util.List<java.lang.String> success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAppStatus_result(updateAppStatus_result other) {
+    public getAllResources_result(getAllResources_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>(other.success);
+        this.success = __this__success;
+      }
+    }
+
+    public getAllResources_result deepCopy() {
+      return new getAllResources_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<java.lang.String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(java.lang.String elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<java.lang.String>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<java.lang.String> getSuccess() {
+      return this.success;
+    }
+
+    public getAllResources_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    public updateAppStatus_result deepCopy() {
-      return new updateAppStatus_result(this);
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    @Override
-    public void clear() {
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<java.lang.String>)value);
+        }
+        break;
+
       }
     }
 
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -6837,6 +14970,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -6845,17 +14980,26 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAppStatus_result)
-        return this.equals((updateAppStatus_result)that);
+      if (that instanceof getAllResources_result)
+        return this.equals((getAllResources_result)that);
       return false;
     }
 
-    public boolean equals(updateAppStatus_result that) {
+    public boolean equals(getAllResources_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -6863,17 +15007,31 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(updateAppStatus_result other) {
+    public int compareTo(getAllResources_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -6892,9 +15050,16 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAppStatus_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllResources_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -6920,15 +15085,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAppStatus_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAppStatus_resultStandardScheme getScheme() {
-        return new updateAppStatus_resultStandardScheme();
+    private static class getAllResources_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllResources_resultStandardScheme getScheme() {
+        return new getAllResources_resultStandardScheme();
       }
     }
 
-    private static class updateAppStatus_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAppStatus_result> {
+    private static class getAllResources_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllResources_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllResources_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6938,6 +15103,24 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list32 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<java.lang.String>(_list32.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _elem33;
+                  for (int _i34 = 0; _i34 < _list32.size; ++_i34)
+                  {
+                    _elem33 = iprot.readString();
+                    struct.success.add(_elem33);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -6949,32 +15132,72 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllResources_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (java.lang.String _iter35 : struct.success)
+            {
+              oprot.writeString(_iter35);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class updateAppStatus_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAppStatus_resultTupleScheme getScheme() {
-        return new updateAppStatus_resultTupleScheme();
+    private static class getAllResources_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getAllResources_resultTupleScheme getScheme() {
+        return new getAllResources_resultTupleScheme();
       }
     }
 
-    private static class updateAppStatus_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAppStatus_result> {
+    private static class getAllResources_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllResources_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getAllResources_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (java.lang.String _iter36 : struct.success)
+            {
+              oprot.writeString(_iter36);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAppStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getAllResources_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list37 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new java.util.ArrayList<java.lang.String>(_list37.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _elem38;
+            for (int _i39 = 0; _i39 < _list37.size; ++_i39)
+            {
+              _elem38 = iprot.readString();
+              struct.success.add(_elem38);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
@@ -6983,22 +15206,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class checkpointOutput_args implements org.apache.thrift.TBase<checkpointOutput_args, checkpointOutput_args._Fields>, java.io.Serializable, Cloneable, Comparable<checkpointOutput_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkpointOutput_args");
+  public static class getResourcesByName_args implements org.apache.thrift.TBase<getResourcesByName_args, getResourcesByName_args._Fields>, java.io.Serializable, Cloneable, Comparable<getResourcesByName_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResourcesByName_args");
 
-    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new checkpointOutput_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new checkpointOutput_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResourcesByName_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResourcesByName_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.lang.String noteId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String name; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      NOTE_ID((short)1, "noteId"),
-      PARAGRAPH_ID((short)2, "paragraphId");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      NAME((short)2, "name");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -7014,10 +15237,10 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // NOTE_ID
-            return NOTE_ID;
-          case 2: // PARAGRAPH_ID
-            return PARAGRAPH_ID;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // NAME
+            return NAME;
           default:
             return null;
         }
@@ -7062,113 +15285,113 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkpointOutput_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResourcesByName_args.class, metaDataMap);
     }
 
-    public checkpointOutput_args() {
+    public getResourcesByName_args() {
     }
 
-    public checkpointOutput_args(
-      java.lang.String noteId,
-      java.lang.String paragraphId)
+    public getResourcesByName_args(
+      java.lang.String intpGroupId,
+      java.lang.String name)
     {
       this();
-      this.noteId = noteId;
-      this.paragraphId = paragraphId;
+      this.intpGroupId = intpGroupId;
+      this.name = name;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public checkpointOutput_args(checkpointOutput_args other) {
-      if (other.isSetNoteId()) {
-        this.noteId = other.noteId;
+    public getResourcesByName_args(getResourcesByName_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
       }
-      if (other.isSetParagraphId()) {
-        this.paragraphId = other.paragraphId;
+      if (other.isSetName()) {
+        this.name = other.name;
       }
     }
 
-    public checkpointOutput_args deepCopy() {
-      return new checkpointOutput_args(this);
+    public getResourcesByName_args deepCopy() {
+      return new getResourcesByName_args(this);
     }
 
     @Override
     public void clear() {
-      this.noteId = null;
-      this.paragraphId = null;
+      this.intpGroupId = null;
+      this.name = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getNoteId() {
-      return this.noteId;
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
     }
 
-    public checkpointOutput_args setNoteId(@org.apache.thrift.annotation.Nullable java.lang.String noteId) {
-      this.noteId = noteId;
+    public getResourcesByName_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
       return this;
     }
 
-    public void unsetNoteId() {
-      this.noteId = null;
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
-    public boolean isSetNoteId() {
-      return this.noteId != null;
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
     }
 
-    public void setNoteIdIsSet(boolean value) {
+    public void setIntpGroupIdIsSet(boolean value) {
       if (!value) {
-        this.noteId = null;
+        this.intpGroupId = null;
       }
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getParagraphId() {
-      return this.paragraphId;
+    public java.lang.String getName() {
+      return this.name;
     }
 
-    public checkpointOutput_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
-      this.paragraphId = paragraphId;
+    public getResourcesByName_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
+      this.name = name;
       return this;
     }
 
-    public void unsetParagraphId() {
-      this.paragraphId = null;
+    public void unsetName() {
+      this.name = null;
     }
 
-    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
-    public boolean isSetParagraphId() {
-      return this.paragraphId != null;
+    /** Returns true if field name is set (has been assigned a value) and false otherwise */
+    public boolean isSetName() {
+      return this.name != null;
     }
 
-    public void setParagraphIdIsSet(boolean value) {
+    public void setNameIsSet(boolean value) {
       if (!value) {
-        this.paragraphId = null;
+        this.name = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case NOTE_ID:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetNoteId();
+          unsetIntpGroupId();
         } else {
-          setNoteId((java.lang.String)value);
+          setIntpGroupId((java.lang.String)value);
         }
         break;
 
-      case PARAGRAPH_ID:
+      case NAME:
         if (value == null) {
-          unsetParagraphId();
+          unsetName();
         } else {
-          setParagraphId((java.lang.String)value);
+          setName((java.lang.String)value);
         }
         break;
 
@@ -7178,11 +15401,11 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case NOTE_ID:
-        return getNoteId();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
 
-      case PARAGRAPH_ID:
-        return getParagraphId();
+      case NAME:
+        return getName();
 
       }
       throw new java.lang.IllegalStateException();
@@ -7193,12 +15416,12 @@ public class RemoteInterpreterEventService {
       if (field == null) {
         throw new java.lang.IllegalArgumentException();
       }
-
-      switch (field) {
-      case NOTE_ID:
-        return isSetNoteId();
-      case PARAGRAPH_ID:
-        return isSetParagraphId();
+
+      switch (field) {
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case NAME:
+        return isSetName();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -7207,32 +15430,32 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof checkpointOutput_args)
-        return this.equals((checkpointOutput_args)that);
+      if (that instanceof getResourcesByName_args)
+        return this.equals((getResourcesByName_args)that);
       return false;
     }
 
-    public boolean equals(checkpointOutput_args that) {
+    public boolean equals(getResourcesByName_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_noteId = true && this.isSetNoteId();
-      boolean that_present_noteId = true && that.isSetNoteId();
-      if (this_present_noteId || that_present_noteId) {
-        if (!(this_present_noteId && that_present_noteId))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
           return false;
-        if (!this.noteId.equals(that.noteId))
+        if (!this.intpGroupId.equals(that.intpGroupId))
           return false;
       }
 
-      boolean this_present_paragraphId = true && this.isSetParagraphId();
-      boolean that_present_paragraphId = true && that.isSetParagraphId();
-      if (this_present_paragraphId || that_present_paragraphId) {
-        if (!(this_present_paragraphId && that_present_paragraphId))
+      boolean this_present_name = true && this.isSetName();
+      boolean that_present_name = true && that.isSetName();
+      if (this_present_name || that_present_name) {
+        if (!(this_present_name && that_present_name))
           return false;
-        if (!this.paragraphId.equals(that.paragraphId))
+        if (!this.name.equals(that.name))
           return false;
       }
 
@@ -7243,41 +15466,41 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetNoteId()) ? 131071 : 524287);
-      if (isSetNoteId())
-        hashCode = hashCode * 8191 + noteId.hashCode();
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetParagraphId()) ? 131071 : 524287);
-      if (isSetParagraphId())
-        hashCode = hashCode * 8191 + paragraphId.hashCode();
+      hashCode = hashCode * 8191 + ((isSetName()) ? 131071 : 524287);
+      if (isSetName())
+        hashCode = hashCode * 8191 + name.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(checkpointOutput_args other) {
+    public int compareTo(getResourcesByName_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetNoteId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      lastComparison = java.lang.Boolean.valueOf(isSetName()).compareTo(other.isSetName());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetParagraphId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+      if (isSetName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -7300,22 +15523,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("checkpointOutput_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResourcesByName_args(");
       boolean first = true;
 
-      sb.append("noteId:");
-      if (this.noteId == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.noteId);
+        sb.append(this.intpGroupId);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("paragraphId:");
-      if (this.paragraphId == null) {
+      sb.append("name:");
+      if (this.name == null) {
         sb.append("null");
       } else {
-        sb.append(this.paragraphId);
+        sb.append(this.name);
       }
       first = false;
       sb.append(")");
@@ -7343,15 +15566,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class checkpointOutput_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public checkpointOutput_argsStandardScheme getScheme() {
-        return new checkpointOutput_argsStandardScheme();
+    private static class getResourcesByName_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResourcesByName_argsStandardScheme getScheme() {
+        return new getResourcesByName_argsStandardScheme();
       }
     }
 
-    private static class checkpointOutput_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<checkpointOutput_args> {
+    private static class getResourcesByName_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResourcesByName_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, checkpointOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResourcesByName_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7361,18 +15584,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // NOTE_ID
+            case 1: // INTP_GROUP_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.noteId = iprot.readString();
-                struct.setNoteIdIsSet(true);
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // PARAGRAPH_ID
+            case 2: // NAME
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.paragraphId = iprot.readString();
-                struct.setParagraphIdIsSet(true);
+                struct.name = iprot.readString();
+                struct.setNameIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -7388,18 +15611,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, checkpointOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResourcesByName_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.noteId != null) {
-          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
-          oprot.writeString(struct.noteId);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
           oprot.writeFieldEnd();
         }
-        if (struct.paragraphId != null) {
-          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
-          oprot.writeString(struct.paragraphId);
+        if (struct.name != null) {
+          oprot.writeFieldBegin(NAME_FIELD_DESC);
+          oprot.writeString(struct.name);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -7408,44 +15631,44 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class checkpointOutput_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public checkpointOutput_argsTupleScheme getScheme() {
-        return new checkpointOutput_argsTupleScheme();
+    private static class getResourcesByName_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResourcesByName_argsTupleScheme getScheme() {
+        return new getResourcesByName_argsTupleScheme();
       }
     }
 
-    private static class checkpointOutput_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<checkpointOutput_args> {
+    private static class getResourcesByName_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResourcesByName_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResourcesByName_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetNoteId()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        if (struct.isSetParagraphId()) {
+        if (struct.isSetName()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetNoteId()) {
-          oprot.writeString(struct.noteId);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
         }
-        if (struct.isSetParagraphId()) {
-          oprot.writeString(struct.paragraphId);
+        if (struct.isSetName()) {
+          oprot.writeString(struct.name);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResourcesByName_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.noteId = iprot.readString();
-          struct.setNoteIdIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.paragraphId = iprot.readString();
-          struct.setParagraphIdIsSet(true);
+          struct.name = iprot.readString();
+          struct.setNameIsSet(true);
         }
       }
     }
@@ -7455,17 +15678,19 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class checkpointOutput_result implements org.apache.thrift.TBase<checkpointOutput_result, checkpointOutput_result._Fields>, java.io.Serializable, Cloneable, Comparable<checkpointOutput_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkpointOutput_result");
+  public static class getResourcesByName_result implements org.apache.thrift.TBase<getResourcesByName_result, getResourcesByName_result._Fields>, java.io.Serializable, Cloneable, Comparable<getResourcesByName_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResourcesByName_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new checkpointOutput_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new checkpointOutput_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResourcesByName_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResourcesByName_resultTupleSchemeFactory();
 
+    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -7481,6 +15706,8 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -7520,38 +15747,107 @@ public class RemoteInterpreterEventService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkpointOutput_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResourcesByName_result.class, metaDataMap);
     }
 
-    public checkpointOutput_result() {
+    public getResourcesByName_result() {
+    }
+
+    public getResourcesByName_result(
+      java.util.List<java.lang.String> success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public checkpointOutput_result(checkpointOutput_result other) {
+    public getResourcesByName_result(getResourcesByName_result other) {
+      if (other.isSetSuccess()) {
+        java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>(other.success);
+        this.success = __this__success;
+      }
     }
 
-    public checkpointOutput_result deepCopy() {
-      return new checkpointOutput_result(this);
+    public getResourcesByName_result deepCopy() {
+      return new getResourcesByName_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<java.lang.String> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(java.lang.String elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<java.lang.String>();
+      }
+      this.success.add(elem);
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<java.lang.String> getSuccess() {
+      return this.success;
+    }
+
+    public getResourcesByName_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.util.List<java.lang.String>)value);
+        }
+        break;
+
       }
     }
 
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -7563,6 +15859,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -7571,17 +15869,26 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof checkpointOutput_result)
-        return this.equals((checkpointOutput_result)that);
+      if (that instanceof getResourcesByName_result)
+        return this.equals((getResourcesByName_result)that);
       return false;
     }
 
-    public boolean equals(checkpointOutput_result that) {
+    public boolean equals(getResourcesByName_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -7589,17 +15896,31 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(checkpointOutput_result other) {
+    public int compareTo(getResourcesByName_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -7618,9 +15939,16 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("checkpointOutput_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResourcesByName_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -7646,15 +15974,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class checkpointOutput_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public checkpointOutput_resultStandardScheme getScheme() {
-        return new checkpointOutput_resultStandardScheme();
+    private static class getResourcesByName_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResourcesByName_resultStandardScheme getScheme() {
+        return new getResourcesByName_resultStandardScheme();
       }
     }
 
-    private static class checkpointOutput_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<checkpointOutput_result> {
+    private static class getResourcesByName_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResourcesByName_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, checkpointOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResourcesByName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7664,6 +15992,24 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list40 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<java.lang.String>(_list40.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _elem41;
+                  for (int _i42 = 0; _i42 < _list40.size; ++_i42)
+                  {
+                    _elem41 = iprot.readString();
+                    struct.success.add(_elem41);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -7675,32 +16021,72 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, checkpointOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResourcesByName_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (java.lang.String _iter43 : struct.success)
+            {
+              oprot.writeString(_iter43);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class checkpointOutput_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public checkpointOutput_resultTupleScheme getScheme() {
-        return new checkpointOutput_resultTupleScheme();
+    private static class getResourcesByName_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResourcesByName_resultTupleScheme getScheme() {
+        return new getResourcesByName_resultTupleScheme();
       }
     }
 
-    private static class checkpointOutput_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<checkpointOutput_result> {
+    private static class getResourcesByName_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResourcesByName_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResourcesByName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (java.lang.String _iter44 : struct.success)
+            {
+              oprot.writeString(_iter44);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, checkpointOutput_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResourcesByName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list45 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new java.util.ArrayList<java.lang.String>(_list45.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _elem46;
+            for (int _i47 = 0; _i47 < _list45.size; ++_i47)
+            {
+              _elem46 = iprot.readString();
+              struct.success.add(_elem46);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
@@ -7709,19 +16095,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class runParagraphs_args implements org.apache.thrift.TBase<runParagraphs_args, runParagraphs_args._Fields>, java.io.Serializable, Cloneable, Comparable<runParagraphs_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("runParagraphs_args");
+  public static class addResource_args implements org.apache.thrift.TBase<addResource_args, addResource_args._Fields>, java.io.Serializable, Cloneable, Comparable<addResource_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addResource_args");
 
-    private static final org.apache.thrift.protocol.TField EVENT_FIELD_DESC = new org.apache.thrift.protocol.TField("event", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField RESOURCE_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceJson", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new runParagraphs_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new runParagraphs_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addResource_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addResource_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable RunParagraphsEvent event; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String resourceJson; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      EVENT((short)1, "event");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      RESOURCE_JSON((short)2, "resourceJson");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -7737,8 +16126,10 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // EVENT
-            return EVENT;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // RESOURCE_JSON
+            return RESOURCE_JSON;
           default:
             return null;
         }
@@ -7783,72 +16174,113 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.EVENT, new org.apache.thrift.meta_data.FieldMetaData("event", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RunParagraphsEvent.class)));
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RESOURCE_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(runParagraphs_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addResource_args.class, metaDataMap);
     }
 
-    public runParagraphs_args() {
+    public addResource_args() {
     }
 
-    public runParagraphs_args(
-      RunParagraphsEvent event)
+    public addResource_args(
+      java.lang.String intpGroupId,
+      java.lang.String resourceJson)
     {
       this();
-      this.event = event;
+      this.intpGroupId = intpGroupId;
+      this.resourceJson = resourceJson;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public runParagraphs_args(runParagraphs_args other) {
-      if (other.isSetEvent()) {
-        this.event = new RunParagraphsEvent(other.event);
+    public addResource_args(addResource_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetResourceJson()) {
+        this.resourceJson = other.resourceJson;
       }
     }
 
-    public runParagraphs_args deepCopy() {
-      return new runParagraphs_args(this);
+    public addResource_args deepCopy() {
+      return new addResource_args(this);
     }
 
     @Override
     public void clear() {
-      this.event = null;
+      this.intpGroupId = null;
+      this.resourceJson = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public RunParagraphsEvent getEvent() {
-      return this.event;
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
     }
 
-    public runParagraphs_args setEvent(@org.apache.thrift.annotation.Nullable RunParagraphsEvent event) {
-      this.event = event;
+    public addResource_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
       return this;
     }
 
-    public void unsetEvent() {
-      this.event = null;
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    /** Returns true if field event is set (has been assigned a value) and false otherwise */
-    public boolean isSetEvent() {
-      return this.event != null;
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
     }
 
-    public void setEventIsSet(boolean value) {
+    public void setIntpGroupIdIsSet(boolean value) {
       if (!value) {
-        this.event = null;
+        this.intpGroupId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getResourceJson() {
+      return this.resourceJson;
+    }
+
+    public addResource_args setResourceJson(@org.apache.thrift.annotation.Nullable java.lang.String resourceJson) {
+      this.resourceJson = resourceJson;
+      return this;
+    }
+
+    public void unsetResourceJson() {
+      this.resourceJson = null;
+    }
+
+    /** Returns true if field resourceJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceJson() {
+      return this.resourceJson != null;
+    }
+
+    public void setResourceJsonIsSet(boolean value) {
+      if (!value) {
+        this.resourceJson = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case EVENT:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetEvent();
+          unsetIntpGroupId();
         } else {
-          setEvent((RunParagraphsEvent)value);
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      case RESOURCE_JSON:
+        if (value == null) {
+          unsetResourceJson();
+        } else {
+          setResourceJson((java.lang.String)value);
         }
         break;
 
@@ -7858,8 +16290,11 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case EVENT:
-        return getEvent();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case RESOURCE_JSON:
+        return getResourceJson();
 
       }
       throw new java.lang.IllegalStateException();
@@ -7872,8 +16307,10 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case EVENT:
-        return isSetEvent();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case RESOURCE_JSON:
+        return isSetResourceJson();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -7882,23 +16319,32 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof runParagraphs_args)
-        return this.equals((runParagraphs_args)that);
+      if (that instanceof addResource_args)
+        return this.equals((addResource_args)that);
       return false;
     }
 
-    public boolean equals(runParagraphs_args that) {
+    public boolean equals(addResource_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_event = true && this.isSetEvent();
-      boolean that_present_event = true && that.isSetEvent();
-      if (this_present_event || that_present_event) {
-        if (!(this_present_event && that_present_event))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
           return false;
-        if (!this.event.equals(that.event))
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_resourceJson = true && this.isSetResourceJson();
+      boolean that_present_resourceJson = true && that.isSetResourceJson();
+      if (this_present_resourceJson || that_present_resourceJson) {
+        if (!(this_present_resourceJson && that_present_resourceJson))
+          return false;
+        if (!this.resourceJson.equals(that.resourceJson))
           return false;
       }
 
@@ -7909,27 +16355,41 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetEvent()) ? 131071 : 524287);
-      if (isSetEvent())
-        hashCode = hashCode * 8191 + event.hashCode();
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetResourceJson()) ? 131071 : 524287);
+      if (isSetResourceJson())
+        hashCode = hashCode * 8191 + resourceJson.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(runParagraphs_args other) {
+    public int compareTo(addResource_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetEvent()).compareTo(other.isSetEvent());
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEvent()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.event, other.event);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetResourceJson()).compareTo(other.isSetResourceJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResourceJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceJson, other.resourceJson);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -7952,14 +16412,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("runParagraphs_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("addResource_args(");
       boolean first = true;
 
-      sb.append("event:");
-      if (this.event == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.event);
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("resourceJson:");
+      if (this.resourceJson == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.resourceJson);
       }
       first = false;
       sb.append(")");
@@ -7969,9 +16437,6 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (event != null) {
-        event.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -7990,15 +16455,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class runParagraphs_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public runParagraphs_argsStandardScheme getScheme() {
-        return new runParagraphs_argsStandardScheme();
+    private static class addResource_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addResource_argsStandardScheme getScheme() {
+        return new addResource_argsStandardScheme();
       }
     }
 
-    private static class runParagraphs_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<runParagraphs_args> {
+    private static class addResource_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<addResource_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, runParagraphs_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8008,11 +16473,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // EVENT
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.event = new RunParagraphsEvent();
-                struct.event.read(iprot);
-                struct.setEventIsSet(true);
+            case 1: // INTP_GROUP_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // RESOURCE_JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.resourceJson = iprot.readString();
+                struct.setResourceJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -8028,13 +16500,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, runParagraphs_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addResource_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.event != null) {
-          oprot.writeFieldBegin(EVENT_FIELD_DESC);
-          struct.event.write(oprot);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.resourceJson != null) {
+          oprot.writeFieldBegin(RESOURCE_JSON_FIELD_DESC);
+          oprot.writeString(struct.resourceJson);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -8043,35 +16520,44 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class runParagraphs_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public runParagraphs_argsTupleScheme getScheme() {
-        return new runParagraphs_argsTupleScheme();
+    private static class addResource_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addResource_argsTupleScheme getScheme() {
+        return new addResource_argsTupleScheme();
       }
     }
 
-    private static class runParagraphs_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<runParagraphs_args> {
+    private static class addResource_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<addResource_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, runParagraphs_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, addResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetEvent()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetEvent()) {
-          struct.event.write(oprot);
+        if (struct.isSetResourceJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetResourceJson()) {
+          oprot.writeString(struct.resourceJson);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, runParagraphs_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, addResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.event = new RunParagraphsEvent();
-          struct.event.read(iprot);
-          struct.setEventIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.resourceJson = iprot.readString();
+          struct.setResourceJsonIsSet(true);
         }
       }
     }
@@ -8081,12 +16567,12 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class runParagraphs_result implements org.apache.thrift.TBase<runParagraphs_result, runParagraphs_result._Fields>, java.io.Serializable, Cloneable, Comparable<runParagraphs_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("runParagraphs_result");
+  public static class addResource_result implements org.apache.thrift.TBase<addResource_result, addResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<addResource_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addResource_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new runParagraphs_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new runParagraphs_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addResource_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addResource_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -8150,20 +16636,20 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(runParagraphs_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addResource_result.class, metaDataMap);
     }
 
-    public runParagraphs_result() {
+    public addResource_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public runParagraphs_result(runParagraphs_result other) {
+    public addResource_result(addResource_result other) {
     }
 
-    public runParagraphs_result deepCopy() {
-      return new runParagraphs_result(this);
+    public addResource_result deepCopy() {
+      return new addResource_result(this);
     }
 
     @Override
@@ -8197,12 +16683,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof runParagraphs_result)
-        return this.equals((runParagraphs_result)that);
+      if (that instanceof addResource_result)
+        return this.equals((addResource_result)that);
       return false;
     }
 
-    public boolean equals(runParagraphs_result that) {
+    public boolean equals(addResource_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -8219,7 +16705,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(runParagraphs_result other) {
+    public int compareTo(addResource_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8244,7 +16730,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("runParagraphs_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("addResource_result(");
       boolean first = true;
 
       sb.append(")");
@@ -8270,17 +16756,17 @@ public class RemoteInterpreterEventService {
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
-    }
-
-    private static class runParagraphs_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public runParagraphs_resultStandardScheme getScheme() {
-        return new runParagraphs_resultStandardScheme();
+    }
+
+    private static class addResource_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addResource_resultStandardScheme getScheme() {
+        return new addResource_resultStandardScheme();
       }
     }
 
-    private static class runParagraphs_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<runParagraphs_result> {
+    private static class addResource_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<addResource_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, runParagraphs_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8301,7 +16787,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, runParagraphs_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addResource_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8311,21 +16797,21 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class runParagraphs_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public runParagraphs_resultTupleScheme getScheme() {
-        return new runParagraphs_resultTupleScheme();
+    private static class addResource_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public addResource_resultTupleScheme getScheme() {
+        return new addResource_resultTupleScheme();
       }
     }
 
-    private static class runParagraphs_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<runParagraphs_result> {
+    private static class addResource_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<addResource_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, runParagraphs_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, addResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, runParagraphs_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, addResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -8335,22 +16821,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class addAngularObject_args implements org.apache.thrift.TBase<addAngularObject_args, addAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<addAngularObject_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addAngularObject_args");
+  public static class removeResource_args implements org.apache.thrift.TBase<removeResource_args, removeResource_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeResource_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeResource_args");
 
     private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField RESOURCE_ID_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceIdJson", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addAngularObject_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addAngularObject_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeResource_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeResource_argsTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       INTP_GROUP_ID((short)1, "intpGroupId"),
-      JSON((short)2, "json");
+      RESOURCE_ID_JSON((short)2, "resourceIdJson");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -8368,8 +16854,8 @@ public class RemoteInterpreterEventService {
         switch(fieldId) {
           case 1: // INTP_GROUP_ID
             return INTP_GROUP_ID;
-          case 2: // JSON
-            return JSON;
+          case 2: // RESOURCE_ID_JSON
+            return RESOURCE_ID_JSON;
           default:
             return null;
         }
@@ -8416,44 +16902,44 @@ public class RemoteInterpreterEventService {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.RESOURCE_ID_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceIdJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addAngularObject_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeResource_args.class, metaDataMap);
     }
 
-    public addAngularObject_args() {
+    public removeResource_args() {
     }
 
-    public addAngularObject_args(
+    public removeResource_args(
       java.lang.String intpGroupId,
-      java.lang.String json)
+      java.lang.String resourceIdJson)
     {
       this();
       this.intpGroupId = intpGroupId;
-      this.json = json;
+      this.resourceIdJson = resourceIdJson;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public addAngularObject_args(addAngularObject_args other) {
+    public removeResource_args(removeResource_args other) {
       if (other.isSetIntpGroupId()) {
         this.intpGroupId = other.intpGroupId;
       }
-      if (other.isSetJson()) {
-        this.json = other.json;
+      if (other.isSetResourceIdJson()) {
+        this.resourceIdJson = other.resourceIdJson;
       }
     }
 
-    public addAngularObject_args deepCopy() {
-      return new addAngularObject_args(this);
+    public removeResource_args deepCopy() {
+      return new removeResource_args(this);
     }
 
     @Override
     public void clear() {
       this.intpGroupId = null;
-      this.json = null;
+      this.resourceIdJson = null;
     }
 
     @org.apache.thrift.annotation.Nullable
@@ -8461,7 +16947,7 @@ public class RemoteInterpreterEventService {
       return this.intpGroupId;
     }
 
-    public addAngularObject_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+    public removeResource_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
       this.intpGroupId = intpGroupId;
       return this;
     }
@@ -8482,27 +16968,27 @@ public class RemoteInterpreterEventService {
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getJson() {
-      return this.json;
+    public java.lang.String getResourceIdJson() {
+      return this.resourceIdJson;
     }
 
-    public addAngularObject_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
-      this.json = json;
+    public removeResource_args setResourceIdJson(@org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson) {
+      this.resourceIdJson = resourceIdJson;
       return this;
     }
 
-    public void unsetJson() {
-      this.json = null;
+    public void unsetResourceIdJson() {
+      this.resourceIdJson = null;
     }
 
-    /** Returns true if field json is set (has been assigned a value) and false otherwise */
-    public boolean isSetJson() {
-      return this.json != null;
+    /** Returns true if field resourceIdJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceIdJson() {
+      return this.resourceIdJson != null;
     }
 
-    public void setJsonIsSet(boolean value) {
+    public void setResourceIdJsonIsSet(boolean value) {
       if (!value) {
-        this.json = null;
+        this.resourceIdJson = null;
       }
     }
 
@@ -8516,11 +17002,11 @@ public class RemoteInterpreterEventService {
         }
         break;
 
-      case JSON:
+      case RESOURCE_ID_JSON:
         if (value == null) {
-          unsetJson();
+          unsetResourceIdJson();
         } else {
-          setJson((java.lang.String)value);
+          setResourceIdJson((java.lang.String)value);
         }
         break;
 
@@ -8533,8 +17019,8 @@ public class RemoteInterpreterEventService {
       case INTP_GROUP_ID:
         return getIntpGroupId();
 
-      case JSON:
-        return getJson();
+      case RESOURCE_ID_JSON:
+        return getResourceIdJson();
 
       }
       throw new java.lang.IllegalStateException();
@@ -8549,8 +17035,8 @@ public class RemoteInterpreterEventService {
       switch (field) {
       case INTP_GROUP_ID:
         return isSetIntpGroupId();
-      case JSON:
-        return isSetJson();
+      case RESOURCE_ID_JSON:
+        return isSetResourceIdJson();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -8559,12 +17045,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof addAngularObject_args)
-        return this.equals((addAngularObject_args)that);
+      if (that instanceof removeResource_args)
+        return this.equals((removeResource_args)that);
       return false;
     }
 
-    public boolean equals(addAngularObject_args that) {
+    public boolean equals(removeResource_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -8579,12 +17065,12 @@ public class RemoteInterpreterEventService {
           return false;
       }
 
-      boolean this_present_json = true && this.isSetJson();
-      boolean that_present_json = true && that.isSetJson();
-      if (this_present_json || that_present_json) {
-        if (!(this_present_json && that_present_json))
+      boolean this_present_resourceIdJson = true && this.isSetResourceIdJson();
+      boolean that_present_resourceIdJson = true && that.isSetResourceIdJson();
+      if (this_present_resourceIdJson || that_present_resourceIdJson) {
+        if (!(this_present_resourceIdJson && that_present_resourceIdJson))
           return false;
-        if (!this.json.equals(that.json))
+        if (!this.resourceIdJson.equals(that.resourceIdJson))
           return false;
       }
 
@@ -8599,15 +17085,15 @@ public class RemoteInterpreterEventService {
       if (isSetIntpGroupId())
         hashCode = hashCode * 8191 + intpGroupId.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetJson()) ? 131071 : 524287);
-      if (isSetJson())
-        hashCode = hashCode * 8191 + json.hashCode();
+      hashCode = hashCode * 8191 + ((isSetResourceIdJson()) ? 131071 : 524287);
+      if (isSetResourceIdJson())
+        hashCode = hashCode * 8191 + resourceIdJson.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(addAngularObject_args other) {
+    public int compareTo(removeResource_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8624,12 +17110,12 @@ public class RemoteInterpreterEventService {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      lastComparison = java.lang.Boolean.valueOf(isSetResourceIdJson()).compareTo(other.isSetResourceIdJson());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetJson()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
+      if (isSetResourceIdJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceIdJson, other.resourceIdJson);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -8652,7 +17138,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("addAngularObject_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeResource_args(");
       boolean first = true;
 
       sb.append("intpGroupId:");
@@ -8663,11 +17149,11 @@ public class RemoteInterpreterEventService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("json:");
-      if (this.json == null) {
+      sb.append("resourceIdJson:");
+      if (this.resourceIdJson == null) {
         sb.append("null");
       } else {
-        sb.append(this.json);
+        sb.append(this.resourceIdJson);
       }
       first = false;
       sb.append(")");
@@ -8695,15 +17181,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class addAngularObject_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addAngularObject_argsStandardScheme getScheme() {
-        return new addAngularObject_argsStandardScheme();
+    private static class removeResource_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeResource_argsStandardScheme getScheme() {
+        return new removeResource_argsStandardScheme();
       }
     }
 
-    private static class addAngularObject_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<addAngularObject_args> {
+    private static class removeResource_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeResource_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, addAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8721,10 +17207,10 @@ public class RemoteInterpreterEventService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // JSON
+            case 2: // RESOURCE_ID_JSON
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.json = iprot.readString();
-                struct.setJsonIsSet(true);
+                struct.resourceIdJson = iprot.readString();
+                struct.setResourceIdJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -8740,7 +17226,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, addAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeResource_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8749,9 +17235,9 @@ public class RemoteInterpreterEventService {
           oprot.writeString(struct.intpGroupId);
           oprot.writeFieldEnd();
         }
-        if (struct.json != null) {
-          oprot.writeFieldBegin(JSON_FIELD_DESC);
-          oprot.writeString(struct.json);
+        if (struct.resourceIdJson != null) {
+          oprot.writeFieldBegin(RESOURCE_ID_JSON_FIELD_DESC);
+          oprot.writeString(struct.resourceIdJson);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -8760,35 +17246,35 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class addAngularObject_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addAngularObject_argsTupleScheme getScheme() {
-        return new addAngularObject_argsTupleScheme();
+    private static class removeResource_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeResource_argsTupleScheme getScheme() {
+        return new removeResource_argsTupleScheme();
       }
     }
 
-    private static class addAngularObject_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<addAngularObject_args> {
+    private static class removeResource_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeResource_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, addAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        if (struct.isSetJson()) {
+        if (struct.isSetResourceIdJson()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetIntpGroupId()) {
           oprot.writeString(struct.intpGroupId);
         }
-        if (struct.isSetJson()) {
-          oprot.writeString(struct.json);
+        if (struct.isSetResourceIdJson()) {
+          oprot.writeString(struct.resourceIdJson);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, addAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -8796,8 +17282,8 @@ public class RemoteInterpreterEventService {
           struct.setIntpGroupIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.json = iprot.readString();
-          struct.setJsonIsSet(true);
+          struct.resourceIdJson = iprot.readString();
+          struct.setResourceIdJsonIsSet(true);
         }
       }
     }
@@ -8807,12 +17293,12 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class addAngularObject_result implements org.apache.thrift.TBase<addAngularObject_result, addAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<addAngularObject_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addAngularObject_result");
+  public static class removeResource_result implements org.apache.thrift.TBase<removeResource_result, removeResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeResource_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeResource_result");
 
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new addAngularObject_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new addAngularObject_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeResource_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeResource_resultTupleSchemeFactory();
 
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -8876,20 +17362,20 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addAngularObject_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeResource_result.class, metaDataMap);
     }
 
-    public addAngularObject_result() {
+    public removeResource_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public addAngularObject_result(addAngularObject_result other) {
+    public removeResource_result(removeResource_result other) {
     }
 
-    public addAngularObject_result deepCopy() {
-      return new addAngularObject_result(this);
+    public removeResource_result deepCopy() {
+      return new removeResource_result(this);
     }
 
     @Override
@@ -8923,12 +17409,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof addAngularObject_result)
-        return this.equals((addAngularObject_result)that);
+      if (that instanceof removeResource_result)
+        return this.equals((removeResource_result)that);
       return false;
     }
 
-    public boolean equals(addAngularObject_result that) {
+    public boolean equals(removeResource_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -8945,7 +17431,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(addAngularObject_result other) {
+    public int compareTo(removeResource_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8970,7 +17456,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("addAngularObject_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeResource_result(");
       boolean first = true;
 
       sb.append(")");
@@ -8998,15 +17484,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class addAngularObject_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addAngularObject_resultStandardScheme getScheme() {
-        return new addAngularObject_resultStandardScheme();
+    private static class removeResource_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeResource_resultStandardScheme getScheme() {
+        return new removeResource_resultStandardScheme();
       }
     }
 
-    private static class addAngularObject_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<addAngularObject_result> {
+    private static class removeResource_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeResource_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, addAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, removeResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9027,7 +17513,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, addAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, removeResource_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9037,21 +17523,21 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class addAngularObject_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public addAngularObject_resultTupleScheme getScheme() {
-        return new addAngularObject_resultTupleScheme();
+    private static class removeResource_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public removeResource_resultTupleScheme getScheme() {
+        return new removeResource_resultTupleScheme();
       }
     }
 
-    private static class addAngularObject_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<addAngularObject_result> {
+    private static class removeResource_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeResource_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, addAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, removeResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, addAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, removeResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
     }
@@ -9061,22 +17547,19 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class updateAngularObject_args implements org.apache.thrift.TBase<updateAngularObject_args, updateAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_args");
+  public static class getResource_args implements org.apache.thrift.TBase<getResource_args, getResource_args._Fields>, java.io.Serializable, Cloneable, Comparable<getResource_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResource_args");
 
-    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField RESOURCE_ID_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceIdJson", org.apache.thrift.protocol.TType.STRING, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAngularObject_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAngularObject_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResource_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResource_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      INTP_GROUP_ID((short)1, "intpGroupId"),
-      JSON((short)2, "json");
+      RESOURCE_ID_JSON((short)1, "resourceIdJson");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -9092,10 +17575,8 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // INTP_GROUP_ID
-            return INTP_GROUP_ID;
-          case 2: // JSON
-            return JSON;
+          case 1: // RESOURCE_ID_JSON
+            return RESOURCE_ID_JSON;
           default:
             return null;
         }
@@ -9140,113 +17621,72 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.RESOURCE_ID_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceIdJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResource_args.class, metaDataMap);
     }
 
-    public updateAngularObject_args() {
+    public getResource_args() {
     }
 
-    public updateAngularObject_args(
-      java.lang.String intpGroupId,
-      java.lang.String json)
+    public getResource_args(
+      java.lang.String resourceIdJson)
     {
       this();
-      this.intpGroupId = intpGroupId;
-      this.json = json;
+      this.resourceIdJson = resourceIdJson;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAngularObject_args(updateAngularObject_args other) {
-      if (other.isSetIntpGroupId()) {
-        this.intpGroupId = other.intpGroupId;
-      }
-      if (other.isSetJson()) {
-        this.json = other.json;
+    public getResource_args(getResource_args other) {
+      if (other.isSetResourceIdJson()) {
+        this.resourceIdJson = other.resourceIdJson;
       }
     }
 
-    public updateAngularObject_args deepCopy() {
-      return new updateAngularObject_args(this);
+    public getResource_args deepCopy() {
+      return new getResource_args(this);
     }
 
     @Override
     public void clear() {
-      this.intpGroupId = null;
-      this.json = null;
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getIntpGroupId() {
-      return this.intpGroupId;
-    }
-
-    public updateAngularObject_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
-      this.intpGroupId = intpGroupId;
-      return this;
-    }
-
-    public void unsetIntpGroupId() {
-      this.intpGroupId = null;
-    }
-
-    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
-    public boolean isSetIntpGroupId() {
-      return this.intpGroupId != null;
-    }
-
-    public void setIntpGroupIdIsSet(boolean value) {
-      if (!value) {
-        this.intpGroupId = null;
-      }
+      this.resourceIdJson = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getJson() {
-      return this.json;
+    public java.lang.String getResourceIdJson() {
+      return this.resourceIdJson;
     }
 
-    public updateAngularObject_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
-      this.json = json;
+    public getResource_args setResourceIdJson(@org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson) {
+      this.resourceIdJson = resourceIdJson;
       return this;
     }
 
-    public void unsetJson() {
-      this.json = null;
+    public void unsetResourceIdJson() {
+      this.resourceIdJson = null;
     }
 
-    /** Returns true if field json is set (has been assigned a value) and false otherwise */
-    public boolean isSetJson() {
-      return this.json != null;
+    /** Returns true if field resourceIdJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceIdJson() {
+      return this.resourceIdJson != null;
     }
 
-    public void setJsonIsSet(boolean value) {
+    public void setResourceIdJsonIsSet(boolean value) {
       if (!value) {
-        this.json = null;
+        this.resourceIdJson = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case INTP_GROUP_ID:
-        if (value == null) {
-          unsetIntpGroupId();
-        } else {
-          setIntpGroupId((java.lang.String)value);
-        }
-        break;
-
-      case JSON:
+      case RESOURCE_ID_JSON:
         if (value == null) {
-          unsetJson();
+          unsetResourceIdJson();
         } else {
-          setJson((java.lang.String)value);
+          setResourceIdJson((java.lang.String)value);
         }
         break;
 
@@ -9256,11 +17696,8 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case INTP_GROUP_ID:
-        return getIntpGroupId();
-
-      case JSON:
-        return getJson();
+      case RESOURCE_ID_JSON:
+        return getResourceIdJson();
 
       }
       throw new java.lang.IllegalStateException();
@@ -9273,10 +17710,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case INTP_GROUP_ID:
-        return isSetIntpGroupId();
-      case JSON:
-        return isSetJson();
+      case RESOURCE_ID_JSON:
+        return isSetResourceIdJson();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -9285,32 +17720,23 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAngularObject_args)
-        return this.equals((updateAngularObject_args)that);
+      if (that instanceof getResource_args)
+        return this.equals((getResource_args)that);
       return false;
     }
 
-    public boolean equals(updateAngularObject_args that) {
+    public boolean equals(getResource_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
-      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
-      if (this_present_intpGroupId || that_present_intpGroupId) {
-        if (!(this_present_intpGroupId && that_present_intpGroupId))
-          return false;
-        if (!this.intpGroupId.equals(that.intpGroupId))
-          return false;
-      }
-
-      boolean this_present_json = true && this.isSetJson();
-      boolean that_present_json = true && that.isSetJson();
-      if (this_present_json || that_present_json) {
-        if (!(this_present_json && that_present_json))
+      boolean this_present_resourceIdJson = true && this.isSetResourceIdJson();
+      boolean that_present_resourceIdJson = true && that.isSetResourceIdJson();
+      if (this_present_resourceIdJson || that_present_resourceIdJson) {
+        if (!(this_present_resourceIdJson && that_present_resourceIdJson))
           return false;
-        if (!this.json.equals(that.json))
+        if (!this.resourceIdJson.equals(that.resourceIdJson))
           return false;
       }
 
@@ -9321,41 +17747,27 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
-      if (isSetIntpGroupId())
-        hashCode = hashCode * 8191 + intpGroupId.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetJson()) ? 131071 : 524287);
-      if (isSetJson())
-        hashCode = hashCode * 8191 + json.hashCode();
+      hashCode = hashCode * 8191 + ((isSetResourceIdJson()) ? 131071 : 524287);
+      if (isSetResourceIdJson())
+        hashCode = hashCode * 8191 + resourceIdJson.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(updateAngularObject_args other) {
+    public int compareTo(getResource_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetIntpGroupId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      lastComparison = java.lang.Boolean.valueOf(isSetResourceIdJson()).compareTo(other.isSetResourceIdJson());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetJson()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
+      if (isSetResourceIdJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceIdJson, other.resourceIdJson);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -9378,22 +17790,14 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAngularObject_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResource_args(");
       boolean first = true;
 
-      sb.append("intpGroupId:");
-      if (this.intpGroupId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.intpGroupId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("json:");
-      if (this.json == null) {
+      sb.append("resourceIdJson:");
+      if (this.resourceIdJson == null) {
         sb.append("null");
       } else {
-        sb.append(this.json);
+        sb.append(this.resourceIdJson);
       }
       first = false;
       sb.append(")");
@@ -9421,15 +17825,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAngularObject_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAngularObject_argsStandardScheme getScheme() {
-        return new updateAngularObject_argsStandardScheme();
+    private static class getResource_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResource_argsStandardScheme getScheme() {
+        return new getResource_argsStandardScheme();
       }
     }
 
-    private static class updateAngularObject_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAngularObject_args> {
+    private static class getResource_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResource_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9439,18 +17843,10 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // INTP_GROUP_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.intpGroupId = iprot.readString();
-                struct.setIntpGroupIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // JSON
+            case 1: // RESOURCE_ID_JSON
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.json = iprot.readString();
-                struct.setJsonIsSet(true);
+                struct.resourceIdJson = iprot.readString();
+                struct.setResourceIdJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -9466,18 +17862,13 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.intpGroupId != null) {
-          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
-          oprot.writeString(struct.intpGroupId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.json != null) {
-          oprot.writeFieldBegin(JSON_FIELD_DESC);
-          oprot.writeString(struct.json);
+        if (struct.resourceIdJson != null) {
+          oprot.writeFieldBegin(RESOURCE_ID_JSON_FIELD_DESC);
+          oprot.writeString(struct.resourceIdJson);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -9486,44 +17877,34 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class updateAngularObject_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAngularObject_argsTupleScheme getScheme() {
-        return new updateAngularObject_argsTupleScheme();
+    private static class getResource_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResource_argsTupleScheme getScheme() {
+        return new getResource_argsTupleScheme();
       }
     }
 
-    private static class updateAngularObject_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAngularObject_args> {
+    private static class getResource_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResource_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetIntpGroupId()) {
+        if (struct.isSetResourceIdJson()) {
           optionals.set(0);
         }
-        if (struct.isSetJson()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetIntpGroupId()) {
-          oprot.writeString(struct.intpGroupId);
-        }
-        if (struct.isSetJson()) {
-          oprot.writeString(struct.json);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetResourceIdJson()) {
+          oprot.writeString(struct.resourceIdJson);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.intpGroupId = iprot.readString();
-          struct.setIntpGroupIdIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.json = iprot.readString();
-          struct.setJsonIsSet(true);
+          struct.resourceIdJson = iprot.readString();
+          struct.setResourceIdJsonIsSet(true);
         }
       }
     }
@@ -9533,17 +17914,19 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class updateAngularObject_result implements org.apache.thrift.TBase<updateAngularObject_result, updateAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateAngularObject_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateAngularObject_result");
+  public static class getResource_result implements org.apache.thrift.TBase<getResource_result, getResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<getResource_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResource_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateAngularObject_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateAngularObject_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResource_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResource_resultTupleSchemeFactory();
 
+    public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -9559,6 +17942,8 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -9598,38 +17983,102 @@ public class RemoteInterpreterEventService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateAngularObject_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResource_result.class, metaDataMap);
     }
 
-    public updateAngularObject_result() {
+    public getResource_result() {
+    }
+
+    public getResource_result(
+      java.nio.ByteBuffer success)
+    {
+      this();
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public updateAngularObject_result(updateAngularObject_result other) {
+    public getResource_result(getResource_result other) {
+      if (other.isSetSuccess()) {
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+      }
     }
 
-    public updateAngularObject_result deepCopy() {
-      return new updateAngularObject_result(this);
+    public getResource_result deepCopy() {
+      return new getResource_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
+    }
+
+    public java.nio.ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    public getResource_result setSuccess(byte[] success) {
+      this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
+      return this;
+    }
+
+    public getResource_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          if (value instanceof byte[]) {
+            setSuccess((byte[])value);
+          } else {
+            setSuccess((java.nio.ByteBuffer)value);
+          }
+        }
+        break;
+
       }
     }
 
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -9641,6 +18090,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -9649,17 +18100,26 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof updateAngularObject_result)
-        return this.equals((updateAngularObject_result)that);
+      if (that instanceof getResource_result)
+        return this.equals((getResource_result)that);
       return false;
     }
 
-    public boolean equals(updateAngularObject_result that) {
+    public boolean equals(getResource_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -9667,17 +18127,31 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(updateAngularObject_result other) {
+    public int compareTo(getResource_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -9696,9 +18170,16 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateAngularObject_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResource_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -9724,15 +18205,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class updateAngularObject_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAngularObject_resultStandardScheme getScheme() {
-        return new updateAngularObject_resultStandardScheme();
+    private static class getResource_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResource_resultStandardScheme getScheme() {
+        return new getResource_resultStandardScheme();
       }
     }
 
-    private static class updateAngularObject_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateAngularObject_result> {
+    private static class getResource_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResource_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9742,6 +18223,14 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -9753,32 +18242,50 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBinary(struct.success);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class updateAngularObject_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public updateAngularObject_resultTupleScheme getScheme() {
-        return new updateAngularObject_resultTupleScheme();
+    private static class getResource_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getResource_resultTupleScheme getScheme() {
+        return new getResource_resultTupleScheme();
       }
     }
 
-    private static class updateAngularObject_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateAngularObject_result> {
+    private static class getResource_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResource_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBinary(struct.success);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, updateAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBinary();
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
@@ -9787,28 +18294,19 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class removeAngularObject_args implements org.apache.thrift.TBase<removeAngularObject_args, removeAngularObject_args._Fields>, java.io.Serializable, Cloneable, Comparable<removeAngularObject_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeAngularObject_args");
+  public static class openResourceTransfer_args implements org.apache.thrift.TBase<openResourceTransfer_args, openResourceTransfer_args._Fields>, java.io.Serializable, Cloneable, Comparable<openResourceTransfer_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("openResourceTransfer_args");
 
-    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)3);
-    private static final org.apache.thrift.protocol.TField NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("name", org.apache.thrift.protocol.TType.STRING, (short)4);
+    private static final org.apache.thrift.protocol.TField RESOURCE_ID_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceIdJson", org.apache.thrift.protocol.TType.STRING, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeAngularObject_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeAngularObject_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new openResourceTransfer_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new openResourceTransfer_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String noteId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String name; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      INTP_GROUP_ID((short)1, "intpGroupId"),
-      NOTE_ID((short)2, "noteId"),
-      PARAGRAPH_ID((short)3, "paragraphId"),
-      NAME((short)4, "name");
+      RESOURCE_ID_JSON((short)1, "resourceIdJson");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -9824,14 +18322,8 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // INTP_GROUP_ID
-            return INTP_GROUP_ID;
-          case 2: // NOTE_ID
-            return NOTE_ID;
-          case 3: // PARAGRAPH_ID
-            return PARAGRAPH_ID;
-          case 4: // NAME
-            return NAME;
+          case 1: // RESOURCE_ID_JSON
+            return RESOURCE_ID_JSON;
           default:
             return null;
         }
@@ -9876,195 +18368,72 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.NAME, new org.apache.thrift.meta_data.FieldMetaData("name", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.RESOURCE_ID_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceIdJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeAngularObject_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(openResourceTransfer_args.class, metaDataMap);
     }
 
-    public removeAngularObject_args() {
+    public openResourceTransfer_args() {
     }
 
-    public removeAngularObject_args(
-      java.lang.String intpGroupId,
-      java.lang.String noteId,
-      java.lang.String paragraphId,
-      java.lang.String name)
+    public openResourceTransfer_args(
+      java.lang.String resourceIdJson)
     {
       this();
-      this.intpGroupId = intpGroupId;
-      this.noteId = noteId;
-      this.paragraphId = paragraphId;
-      this.name = name;
+      this.resourceIdJson = resourceIdJson;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public removeAngularObject_args(removeAngularObject_args other) {
-      if (other.isSetIntpGroupId()) {
-        this.intpGroupId = other.intpGroupId;
-      }
-      if (other.isSetNoteId()) {
-        this.noteId = other.noteId;
-      }
-      if (other.isSetParagraphId()) {
-        this.paragraphId = other.paragraphId;
-      }
-      if (other.isSetName()) {
-        this.name = other.name;
+    public openResourceTransfer_args(openResourceTransfer_args other) {
+      if (other.isSetResourceIdJson()) {
+        this.resourceIdJson = other.resourceIdJson;
       }
     }
 
-    public removeAngularObject_args deepCopy() {
-      return new removeAngularObject_args(this);
+    public openResourceTransfer_args deepCopy() {
+      return new openResourceTransfer_args(this);
     }
 
     @Override
     public void clear() {
-      this.intpGroupId = null;
-      this.noteId = null;
-      this.paragraphId = null;
-      this.name = null;
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getIntpGroupId() {
-      return this.intpGroupId;
-    }
-
-    public removeAngularObject_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
-      this.intpGroupId = intpGroupId;
-      return this;
-    }
-
-    public void unsetIntpGroupId() {
-      this.intpGroupId = null;
-    }
-
-    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
-    public boolean isSetIntpGroupId() {
-      return this.intpGroupId != null;
-    }
-
-    public void setIntpGroupIdIsSet(boolean value) {
-      if (!value) {
-        this.intpGroupId = null;
-      }
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getNoteId() {
-      return this.noteId;
-    }
-
-    public removeAngularObject_args setNoteId(@org.apache.thrift.annotation.Nullable java.lang.String noteId) {
-      this.noteId = noteId;
-      return this;
-    }
-
-    public void unsetNoteId() {
-      this.noteId = null;
-    }
-
-    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
-    public boolean isSetNoteId() {
-      return this.noteId != null;
-    }
-
-    public void setNoteIdIsSet(boolean value) {
-      if (!value) {
-        this.noteId = null;
-      }
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getParagraphId() {
-      return this.paragraphId;
-    }
-
-    public removeAngularObject_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
-      this.paragraphId = paragraphId;
-      return this;
-    }
-
-    public void unsetParagraphId() {
-      this.paragraphId = null;
-    }
-
-    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
-    public boolean isSetParagraphId() {
-      return this.paragraphId != null;
-    }
-
-    public void setParagraphIdIsSet(boolean value) {
-      if (!value) {
-        this.paragraphId = null;
-      }
+      this.resourceIdJson = null;
     }
 
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getName() {
-      return this.name;
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getResourceIdJson() {
+      return this.resourceIdJson;
     }
 
-    public removeAngularObject_args setName(@org.apache.thrift.annotation.Nullable java.lang.String name) {
-      this.name = name;
+    public openResourceTransfer_args setResourceIdJson(@org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson) {
+      this.resourceIdJson = resourceIdJson;
       return this;
     }
 
-    public void unsetName() {
-      this.name = null;
+    public void unsetResourceIdJson() {
+      this.resourceIdJson = null;
     }
 
-    /** Returns true if field name is set (has been assigned a value) and false otherwise */
-    public boolean isSetName() {
-      return this.name != null;
+    /** Returns true if field resourceIdJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceIdJson() {
+      return this.resourceIdJson != null;
     }
 
-    public void setNameIsSet(boolean value) {
+    public void setResourceIdJsonIsSet(boolean value) {
       if (!value) {
-        this.name = null;
+        this.resourceIdJson = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case INTP_GROUP_ID:
-        if (value == null) {
-          unsetIntpGroupId();
-        } else {
-          setIntpGroupId((java.lang.String)value);
-        }
-        break;
-
-      case NOTE_ID:
-        if (value == null) {
-          unsetNoteId();
-        } else {
-          setNoteId((java.lang.String)value);
-        }
-        break;
-
-      case PARAGRAPH_ID:
-        if (value == null) {
-          unsetParagraphId();
-        } else {
-          setParagraphId((java.lang.String)value);
-        }
-        break;
-
-      case NAME:
+      case RESOURCE_ID_JSON:
         if (value == null) {
-          unsetName();
+          unsetResourceIdJson();
         } else {
-          setName((java.lang.String)value);
+          setResourceIdJson((java.lang.String)value);
         }
         break;
 
@@ -10074,17 +18443,8 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case INTP_GROUP_ID:
-        return getIntpGroupId();
-
-      case NOTE_ID:
-        return getNoteId();
-
-      case PARAGRAPH_ID:
-        return getParagraphId();
-
-      case NAME:
-        return getName();
+      case RESOURCE_ID_JSON:
+        return getResourceIdJson();
 
       }
       throw new java.lang.IllegalStateException();
@@ -10097,14 +18457,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case INTP_GROUP_ID:
-        return isSetIntpGroupId();
-      case NOTE_ID:
-        return isSetNoteId();
-      case PARAGRAPH_ID:
-        return isSetParagraphId();
-      case NAME:
-        return isSetName();
+      case RESOURCE_ID_JSON:
+        return isSetResourceIdJson();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10113,50 +18467,23 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof removeAngularObject_args)
-        return this.equals((removeAngularObject_args)that);
+      if (that instanceof openResourceTransfer_args)
+        return this.equals((openResourceTransfer_args)that);
       return false;
     }
 
-    public boolean equals(removeAngularObject_args that) {
+    public boolean equals(openResourceTransfer_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
-      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
-      if (this_present_intpGroupId || that_present_intpGroupId) {
-        if (!(this_present_intpGroupId && that_present_intpGroupId))
-          return false;
-        if (!this.intpGroupId.equals(that.intpGroupId))
-          return false;
-      }
-
-      boolean this_present_noteId = true && this.isSetNoteId();
-      boolean that_present_noteId = true && that.isSetNoteId();
-      if (this_present_noteId || that_present_noteId) {
-        if (!(this_present_noteId && that_present_noteId))
-          return false;
-        if (!this.noteId.equals(that.noteId))
-          return false;
-      }
-
-      boolean this_present_paragraphId = true && this.isSetParagraphId();
-      boolean that_present_paragraphId = true && that.isSetParagraphId();
-      if (this_present_paragraphId || that_present_paragraphId) {
-        if (!(this_present_paragraphId && that_present_paragraphId))
-          return false;
-        if (!this.paragraphId.equals(that.paragraphId))
-          return false;
-      }
-
-      boolean this_present_name = true && this.isSetName();
-      boolean that_present_name = true && that.isSetName();
-      if (this_present_name || that_present_name) {
-        if (!(this_present_name && that_present_name))
+      boolean this_present_resourceIdJson = true && this.isSetResourceIdJson();
+      boolean that_present_resourceIdJson = true && that.isSetResourceIdJson();
+      if (this_present_resourceIdJson || that_present_resourceIdJson) {
+        if (!(this_present_resourceIdJson && that_present_resourceIdJson))
           return false;
-        if (!this.name.equals(that.name))
+        if (!this.resourceIdJson.equals(that.resourceIdJson))
           return false;
       }
 
@@ -10167,69 +18494,27 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
-      if (isSetIntpGroupId())
-        hashCode = hashCode * 8191 + intpGroupId.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetNoteId()) ? 131071 : 524287);
-      if (isSetNoteId())
-        hashCode = hashCode * 8191 + noteId.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetParagraphId()) ? 131071 : 524287);
-      if (isSetParagraphId())
-        hashCode = hashCode * 8191 + paragraphId.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetName()) ? 131071 : 524287);
-      if (isSetName())
-        hashCode = hashCode * 8191 + name.hashCode();
+      hashCode = hashCode * 8191 + ((isSetResourceIdJson()) ? 131071 : 524287);
+      if (isSetResourceIdJson())
+        hashCode = hashCode * 8191 + resourceIdJson.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(removeAngularObject_args other) {
+    public int compareTo(openResourceTransfer_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetIntpGroupId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetNoteId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetParagraphId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetName()).compareTo(other.isSetName());
+      lastComparison = java.lang.Boolean.valueOf(isSetResourceIdJson()).compareTo(other.isSetResourceIdJson());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetName()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.name, other.name);
+      if (isSetResourceIdJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceIdJson, other.resourceIdJson);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -10252,38 +18537,14 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeAngularObject_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("openResourceTransfer_args(");
       boolean first = true;
 
-      sb.append("intpGroupId:");
-      if (this.intpGroupId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.intpGroupId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("noteId:");
-      if (this.noteId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.noteId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("paragraphId:");
-      if (this.paragraphId == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.paragraphId);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("name:");
-      if (this.name == null) {
+      sb.append("resourceIdJson:");
+      if (this.resourceIdJson == null) {
         sb.append("null");
       } else {
-        sb.append(this.name);
+        sb.append(this.resourceIdJson);
       }
       first = false;
       sb.append(")");
@@ -10311,15 +18572,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class removeAngularObject_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeAngularObject_argsStandardScheme getScheme() {
-        return new removeAngularObject_argsStandardScheme();
+    private static class openResourceTransfer_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public openResourceTransfer_argsStandardScheme getScheme() {
+        return new openResourceTransfer_argsStandardScheme();
       }
     }
 
-    private static class removeAngularObject_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeAngularObject_args> {
+    private static class openResourceTransfer_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<openResourceTransfer_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, removeAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, openResourceTransfer_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10329,34 +18590,10 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // INTP_GROUP_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.intpGroupId = iprot.readString();
-                struct.setIntpGroupIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // NOTE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.noteId = iprot.readString();
-                struct.setNoteIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // PARAGRAPH_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.paragraphId = iprot.readString();
-                struct.setParagraphIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 4: // NAME
+            case 1: // RESOURCE_ID_JSON
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.name = iprot.readString();
-                struct.setNameIsSet(true);
+                struct.resourceIdJson = iprot.readString();
+                struct.setResourceIdJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -10372,28 +18609,13 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, removeAngularObject_args struct) throws org.apache.thrift.TException {
-        struct.validate();
-
-        oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.intpGroupId != null) {
-          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
-          oprot.writeString(struct.intpGroupId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.noteId != null) {
-          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
-          oprot.writeString(struct.noteId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.paragraphId != null) {
-          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
-          oprot.writeString(struct.paragraphId);
-          oprot.writeFieldEnd();
-        }
-        if (struct.name != null) {
-          oprot.writeFieldBegin(NAME_FIELD_DESC);
-          oprot.writeString(struct.name);
+      public void write(org.apache.thrift.protocol.TProtocol oprot, openResourceTransfer_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.resourceIdJson != null) {
+          oprot.writeFieldBegin(RESOURCE_ID_JSON_FIELD_DESC);
+          oprot.writeString(struct.resourceIdJson);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -10402,64 +18624,34 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class removeAngularObject_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeAngularObject_argsTupleScheme getScheme() {
-        return new removeAngularObject_argsTupleScheme();
+    private static class openResourceTransfer_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public openResourceTransfer_argsTupleScheme getScheme() {
+        return new openResourceTransfer_argsTupleScheme();
       }
     }
 
-    private static class removeAngularObject_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeAngularObject_args> {
+    private static class openResourceTransfer_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<openResourceTransfer_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, openResourceTransfer_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetIntpGroupId()) {
+        if (struct.isSetResourceIdJson()) {
           optionals.set(0);
         }
-        if (struct.isSetNoteId()) {
-          optionals.set(1);
-        }
-        if (struct.isSetParagraphId()) {
-          optionals.set(2);
-        }
-        if (struct.isSetName()) {
-          optionals.set(3);
-        }
-        oprot.writeBitSet(optionals, 4);
-        if (struct.isSetIntpGroupId()) {
-          oprot.writeString(struct.intpGroupId);
-        }
-        if (struct.isSetNoteId()) {
-          oprot.writeString(struct.noteId);
-        }
-        if (struct.isSetParagraphId()) {
-          oprot.writeString(struct.paragraphId);
-        }
-        if (struct.isSetName()) {
-          oprot.writeString(struct.name);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetResourceIdJson()) {
+          oprot.writeString(struct.resourceIdJson);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, openResourceTransfer_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(4);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.intpGroupId = iprot.readString();
-          struct.setIntpGroupIdIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.noteId = iprot.readString();
-          struct.setNoteIdIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.paragraphId = iprot.readString();
-          struct.setParagraphIdIsSet(true);
-        }
-        if (incoming.get(3)) {
-          struct.name = iprot.readString();
-          struct.setNameIsSet(true);
+          struct.resourceIdJson = iprot.readString();
+          struct.setResourceIdJsonIsSet(true);
         }
       }
     }
@@ -10469,17 +18661,19 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class removeAngularObject_result implements org.apache.thrift.TBase<removeAngularObject_result, removeAngularObject_result._Fields>, java.io.Serializable, Cloneable, Comparable<removeAngularObject_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("removeAngularObject_result");
+  public static class openResourceTransfer_result implements org.apache.thrift.TBase<openResourceTransfer_result, openResourceTransfer_result._Fields>, java.io.Serializable, Cloneable, Comparable<openResourceTransfer_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("openResourceTransfer_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new removeAngularObject_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new removeAngularObject_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new openResourceTransfer_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new openResourceTransfer_resultTupleSchemeFactory();
 
+    public @org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.ResourceTransfer success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -10495,6 +18689,8 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -10534,38 +18730,89 @@ public class RemoteInterpreterEventService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, org.apache.zeppelin.interpreter.thrift.ResourceTransfer.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(removeAngularObject_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(openResourceTransfer_result.class, metaDataMap);
     }
 
-    public removeAngularObject_result() {
+    public openResourceTransfer_result() {
+    }
+
+    public openResourceTransfer_result(
+      org.apache.zeppelin.interpreter.thrift.ResourceTransfer success)
+    {
+      this();
+      this.success = success;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public removeAngularObject_result(removeAngularObject_result other) {
+    public openResourceTransfer_result(openResourceTransfer_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new org.apache.zeppelin.interpreter.thrift.ResourceTransfer(other.success);
+      }
     }
 
-    public removeAngularObject_result deepCopy() {
-      return new removeAngularObject_result(this);
+    public openResourceTransfer_result deepCopy() {
+      return new openResourceTransfer_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public org.apache.zeppelin.interpreter.thrift.ResourceTransfer getSuccess() {
+      return this.success;
+    }
+
+    public openResourceTransfer_result setSuccess(@org.apache.thrift.annotation.Nullable org.apache.zeppelin.interpreter.thrift.ResourceTransfer success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((org.apache.zeppelin.interpreter.thrift.ResourceTransfer)value);
+        }
+        break;
+
       }
     }
 
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10577,6 +18824,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10585,17 +18834,26 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof removeAngularObject_result)
-        return this.equals((removeAngularObject_result)that);
+      if (that instanceof openResourceTransfer_result)
+        return this.equals((openResourceTransfer_result)that);
       return false;
     }
 
-    public boolean equals(removeAngularObject_result that) {
+    public boolean equals(openResourceTransfer_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -10603,17 +18861,31 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(removeAngularObject_result other) {
+    public int compareTo(openResourceTransfer_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -10632,9 +18904,16 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("removeAngularObject_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("openResourceTransfer_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10642,6 +18921,9 @@ public class RemoteInterpreterEventService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -10660,15 +18942,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class removeAngularObject_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeAngularObject_resultStandardScheme getScheme() {
-        return new removeAngularObject_resultStandardScheme();
+    private static class openResourceTransfer_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public openResourceTransfer_resultStandardScheme getScheme() {
+        return new openResourceTransfer_resultStandardScheme();
       }
     }
 
-    private static class removeAngularObject_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<removeAngularObject_result> {
+    private static class openResourceTransfer_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<openResourceTransfer_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, openResourceTransfer_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10678,6 +18960,15 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new org.apache.zeppelin.interpreter.thrift.ResourceTransfer();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -10689,32 +18980,51 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, openResourceTransfer_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class removeAngularObject_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public removeAngularObject_resultTupleScheme getScheme() {
-        return new removeAngularObject_resultTupleScheme();
+    private static class openResourceTransfer_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public openResourceTransfer_resultTupleScheme getScheme() {
+        return new openResourceTransfer_resultTupleScheme();
       }
     }
 
-    private static class removeAngularObject_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<removeAngularObject_result> {
+    private static class openResourceTransfer_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<openResourceTransfer_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, openResourceTransfer_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, removeAngularObject_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, openResourceTransfer_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new org.apache.zeppelin.interpreter.thrift.ResourceTransfer();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
@@ -10723,22 +19033,28 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class sendParagraphInfo_args implements org.apache.thrift.TBase<sendParagraphInfo_args, sendParagraphInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<sendParagraphInfo_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendParagraphInfo_args");
+  public static class readResourceTransfer_args implements org.apache.thrift.TBase<readResourceTransfer_args, readResourceTransfer_args._Fields>, java.io.Serializable, Cloneable, Comparable<readResourceTransfer_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readResourceTransfer_args");
 
-    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("json", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField RESOURCE_POOL_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("resourcePoolId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField TRANSFER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("transferId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("length", org.apache.thrift.protocol.TType.I32, (short)4);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new sendParagraphInfo_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new sendParagraphInfo_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new readResourceTransfer_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new readResourceTransfer_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String json; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String resourcePoolId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String transferId; // required
+    public long offset; // required
+    public int length; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      INTP_GROUP_ID((short)1, "intpGroupId"),
-      JSON((short)2, "json");
+      RESOURCE_POOL_ID((short)1, "resourcePoolId"),
+      TRANSFER_ID((short)2, "transferId"),
+      OFFSET((short)3, "offset"),
+      LENGTH((short)4, "length");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -10754,10 +19070,14 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // INTP_GROUP_ID
-            return INTP_GROUP_ID;
-          case 2: // JSON
-            return JSON;
+          case 1: // RESOURCE_POOL_ID
+            return RESOURCE_POOL_ID;
+          case 2: // TRANSFER_ID
+            return TRANSFER_ID;
+          case 3: // OFFSET
+            return OFFSET;
+          case 4: // LENGTH
+            return LENGTH;
           default:
             return null;
         }
@@ -10799,116 +19119,198 @@ public class RemoteInterpreterEventService {
     }
 
     // isset id assignments
+    private static final int __OFFSET_ISSET_ID = 0;
+    private static final int __LENGTH_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.RESOURCE_POOL_ID, new org.apache.thrift.meta_data.FieldMetaData("resourcePoolId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.JSON, new org.apache.thrift.meta_data.FieldMetaData("json", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.TRANSFER_ID, new org.apache.thrift.meta_data.FieldMetaData("transferId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.LENGTH, new org.apache.thrift.meta_data.FieldMetaData("length", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendParagraphInfo_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readResourceTransfer_args.class, metaDataMap);
     }
 
-    public sendParagraphInfo_args() {
+    public readResourceTransfer_args() {
     }
 
-    public sendParagraphInfo_args(
-      java.lang.String intpGroupId,
-      java.lang.String json)
+    public readResourceTransfer_args(
+      java.lang.String resourcePoolId,
+      java.lang.String transferId,
+      long offset,
+      int length)
     {
       this();
-      this.intpGroupId = intpGroupId;
-      this.json = json;
+      this.resourcePoolId = resourcePoolId;
+      this.transferId = transferId;
+      this.offset = offset;
+      setOffsetIsSet(true);
+      this.length = length;
+      setLengthIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public sendParagraphInfo_args(sendParagraphInfo_args other) {
-      if (other.isSetIntpGroupId()) {
-        this.intpGroupId = other.intpGroupId;
+    public readResourceTransfer_args(readResourceTransfer_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetResourcePoolId()) {
+        this.resourcePoolId = other.resourcePoolId;
       }
-      if (other.isSetJson()) {
-        this.json = other.json;
+      if (other.isSetTransferId()) {
+        this.transferId = other.transferId;
       }
+      this.offset = other.offset;
+      this.length = other.length;
     }
 
-    public sendParagraphInfo_args deepCopy() {
-      return new sendParagraphInfo_args(this);
+    public readResourceTransfer_args deepCopy() {
+      return new readResourceTransfer_args(this);
     }
 
     @Override
     public void clear() {
-      this.intpGroupId = null;
-      this.json = null;
+      this.resourcePoolId = null;
+      this.transferId = null;
+      setOffsetIsSet(false);
+      this.offset = 0;
+      setLengthIsSet(false);
+      this.length = 0;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getIntpGroupId() {
-      return this.intpGroupId;
+    public java.lang.String getResourcePoolId() {
+      return this.resourcePoolId;
     }
 
-    public sendParagraphInfo_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
-      this.intpGroupId = intpGroupId;
+    public readResourceTransfer_args setResourcePoolId(@org.apache.thrift.annotation.Nullable java.lang.String resourcePoolId) {
+      this.resourcePoolId = resourcePoolId;
       return this;
     }
 
-    public void unsetIntpGroupId() {
-      this.intpGroupId = null;
+    public void unsetResourcePoolId() {
+      this.resourcePoolId = null;
     }
 
-    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
-    public boolean isSetIntpGroupId() {
-      return this.intpGroupId != null;
+    /** Returns true if field resourcePoolId is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourcePoolId() {
+      return this.resourcePoolId != null;
     }
 
-    public void setIntpGroupIdIsSet(boolean value) {
+    public void setResourcePoolIdIsSet(boolean value) {
       if (!value) {
-        this.intpGroupId = null;
+        this.resourcePoolId = null;
       }
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getJson() {
-      return this.json;
+    public java.lang.String getTransferId() {
+      return this.transferId;
     }
 
-    public sendParagraphInfo_args setJson(@org.apache.thrift.annotation.Nullable java.lang.String json) {
-      this.json = json;
+    public readResourceTransfer_args setTransferId(@org.apache.thrift.annotation.Nullable java.lang.String transferId) {
+      this.transferId = transferId;
+      return this;
+    }
+
+    public void unsetTransferId() {
+      this.transferId = null;
+    }
+
+    /** Returns true if field transferId is set (has been assigned a value) and false otherwise */
+    public boolean isSetTransferId() {
+      return this.transferId != null;
+    }
+
+    public void setTransferIdIsSet(boolean value) {
+      if (!value) {
+        this.transferId = null;
+      }
+    }
+
+    public long getOffset() {
+      return this.offset;
+    }
+
+    public readResourceTransfer_args setOffset(long offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
+      return this;
+    }
+
+    public void unsetOffset() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
+    }
+
+    public int getLength() {
+      return this.length;
+    }
+
+    public readResourceTransfer_args setLength(int length) {
+      this.length = length;
+      setLengthIsSet(true);
       return this;
     }
 
-    public void unsetJson() {
-      this.json = null;
+    public void unsetLength() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __LENGTH_ISSET_ID);
     }
 
-    /** Returns true if field json is set (has been assigned a value) and false otherwise */
-    public boolean isSetJson() {
-      return this.json != null;
+    /** Returns true if field length is set (has been assigned a value) and false otherwise */
+    public boolean isSetLength() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __LENGTH_ISSET_ID);
     }
 
-    public void setJsonIsSet(boolean value) {
-      if (!value) {
-        this.json = null;
-      }
+    public void setLengthIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __LENGTH_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case INTP_GROUP_ID:
+      case RESOURCE_POOL_ID:
         if (value == null) {
-          unsetIntpGroupId();
+          unsetResourcePoolId();
         } else {
-          setIntpGroupId((java.lang.String)value);
+          setResourcePoolId((java.lang.String)value);
         }
         break;
 
-      case JSON:
+      case TRANSFER_ID:
         if (value == null) {
-          unsetJson();
+          unsetTransferId();
         } else {
-          setJson((java.lang.String)value);
+          setTransferId((java.lang.String)value);
+        }
+        break;
+
+      case OFFSET:
+        if (value == null) {
+          unsetOffset();
+        } else {
+          setOffset((java.lang.Long)value);
+        }
+        break;
+
+      case LENGTH:
+        if (value == null) {
+          unsetLength();
+        } else {
+          setLength((java.lang.Integer)value);
         }
         break;
 
@@ -10918,11 +19320,17 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case INTP_GROUP_ID:
-        return getIntpGroupId();
+      case RESOURCE_POOL_ID:
+        return getResourcePoolId();
 
-      case JSON:
-        return getJson();
+      case TRANSFER_ID:
+        return getTransferId();
+
+      case OFFSET:
+        return getOffset();
+
+      case LENGTH:
+        return getLength();
 
       }
       throw new java.lang.IllegalStateException();
@@ -10935,10 +19343,14 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case INTP_GROUP_ID:
-        return isSetIntpGroupId();
-      case JSON:
-        return isSetJson();
+      case RESOURCE_POOL_ID:
+        return isSetResourcePoolId();
+      case TRANSFER_ID:
+        return isSetTransferId();
+      case OFFSET:
+        return isSetOffset();
+      case LENGTH:
+        return isSetLength();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10947,32 +19359,50 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof sendParagraphInfo_args)
-        return this.equals((sendParagraphInfo_args)that);
+      if (that instanceof readResourceTransfer_args)
+        return this.equals((readResourceTransfer_args)that);
       return false;
     }
 
-    public boolean equals(sendParagraphInfo_args that) {
+    public boolean equals(readResourceTransfer_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
-      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
-      if (this_present_intpGroupId || that_present_intpGroupId) {
-        if (!(this_present_intpGroupId && that_present_intpGroupId))
+      boolean this_present_resourcePoolId = true && this.isSetResourcePoolId();
+      boolean that_present_resourcePoolId = true && that.isSetResourcePoolId();
+      if (this_present_resourcePoolId || that_present_resourcePoolId) {
+        if (!(this_present_resourcePoolId && that_present_resourcePoolId))
           return false;
-        if (!this.intpGroupId.equals(that.intpGroupId))
+        if (!this.resourcePoolId.equals(that.resourcePoolId))
           return false;
       }
 
-      boolean this_present_json = true && this.isSetJson();
-      boolean that_present_json = true && that.isSetJson();
-      if (this_present_json || that_present_json) {
-        if (!(this_present_json && that_present_json))
+      boolean this_present_transferId = true && this.isSetTransferId();
+      boolean that_present_transferId = true && that.isSetTransferId();
+      if (this_present_transferId || that_present_transferId) {
+        if (!(this_present_transferId && that_present_transferId))
           return false;
-        if (!this.json.equals(that.json))
+        if (!this.transferId.equals(that.transferId))
+          return false;
+      }
+
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
+          return false;
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      boolean this_present_length = true;
+      boolean that_present_length = true;
+      if (this_present_length || that_present_length) {
+        if (!(this_present_length && that_present_length))
+          return false;
+        if (this.length != that.length)
           return false;
       }
 
@@ -10983,41 +19413,65 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
-      if (isSetIntpGroupId())
-        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+      hashCode = hashCode * 8191 + ((isSetResourcePoolId()) ? 131071 : 524287);
+      if (isSetResourcePoolId())
+        hashCode = hashCode * 8191 + resourcePoolId.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetJson()) ? 131071 : 524287);
-      if (isSetJson())
-        hashCode = hashCode * 8191 + json.hashCode();
+      hashCode = hashCode * 8191 + ((isSetTransferId()) ? 131071 : 524287);
+      if (isSetTransferId())
+        hashCode = hashCode * 8191 + transferId.hashCode();
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(offset);
+
+      hashCode = hashCode * 8191 + length;
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(sendParagraphInfo_args other) {
+    public int compareTo(readResourceTransfer_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
+      lastComparison = java.lang.Boolean.valueOf(isSetResourcePoolId()).compareTo(other.isSetResourcePoolId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetIntpGroupId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+      if (isSetResourcePoolId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourcePoolId, other.resourcePoolId);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetJson()).compareTo(other.isSetJson());
+      lastComparison = java.lang.Boolean.valueOf(isSetTransferId()).compareTo(other.isSetTransferId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetJson()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.json, other.json);
+      if (isSetTransferId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transferId, other.transferId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetLength()).compareTo(other.isSetLength());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLength()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.length, other.length);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -11040,24 +19494,32 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("sendParagraphInfo_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("readResourceTransfer_args(");
       boolean first = true;
 
-      sb.append("intpGroupId:");
-      if (this.intpGroupId == null) {
+      sb.append("resourcePoolId:");
+      if (this.resourcePoolId == null) {
         sb.append("null");
       } else {
-        sb.append(this.intpGroupId);
+        sb.append(this.resourcePoolId);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("json:");
-      if (this.json == null) {
+      sb.append("transferId:");
+      if (this.transferId == null) {
         sb.append("null");
       } else {
-        sb.append(this.json);
+        sb.append(this.transferId);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("length:");
+      sb.append(this.length);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -11077,21 +19539,23 @@ public class RemoteInterpreterEventService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class sendParagraphInfo_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public sendParagraphInfo_argsStandardScheme getScheme() {
-        return new sendParagraphInfo_argsStandardScheme();
+    private static class readResourceTransfer_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public readResourceTransfer_argsStandardScheme getScheme() {
+        return new readResourceTransfer_argsStandardScheme();
       }
     }
 
-    private static class sendParagraphInfo_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<sendParagraphInfo_args> {
+    private static class readResourceTransfer_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<readResourceTransfer_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readResourceTransfer_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11101,18 +19565,34 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // INTP_GROUP_ID
+            case 1: // RESOURCE_POOL_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.intpGroupId = iprot.readString();
-                struct.setIntpGroupIdIsSet(true);
+                struct.resourcePoolId = iprot.readString();
+                struct.setResourcePoolIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // JSON
+            case 2: // TRANSFER_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.json = iprot.readString();
-                struct.setJsonIsSet(true);
+                struct.transferId = iprot.readString();
+                struct.setTransferIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.offset = iprot.readI64();
+                struct.setOffsetIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // LENGTH
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.length = iprot.readI32();
+                struct.setLengthIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -11128,64 +19608,90 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readResourceTransfer_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.intpGroupId != null) {
-          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
-          oprot.writeString(struct.intpGroupId);
+        if (struct.resourcePoolId != null) {
+          oprot.writeFieldBegin(RESOURCE_POOL_ID_FIELD_DESC);
+          oprot.writeString(struct.resourcePoolId);
           oprot.writeFieldEnd();
         }
-        if (struct.json != null) {
-          oprot.writeFieldBegin(JSON_FIELD_DESC);
-          oprot.writeString(struct.json);
+        if (struct.transferId != null) {
+          oprot.writeFieldBegin(TRANSFER_ID_FIELD_DESC);
+          oprot.writeString(struct.transferId);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI64(struct.offset);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(LENGTH_FIELD_DESC);
+        oprot.writeI32(struct.length);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class sendParagraphInfo_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public sendParagraphInfo_argsTupleScheme getScheme() {
-        return new sendParagraphInfo_argsTupleScheme();
+    private static class readResourceTransfer_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public readResourceTransfer_argsTupleScheme getScheme() {
+        return new readResourceTransfer_argsTupleScheme();
       }
     }
 
-    private static class sendParagraphInfo_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<sendParagraphInfo_args> {
+    private static class readResourceTransfer_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<readResourceTransfer_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, readResourceTransfer_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetIntpGroupId()) {
+        if (struct.isSetResourcePoolId()) {
           optionals.set(0);
         }
-        if (struct.isSetJson()) {
+        if (struct.isSetTransferId()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetIntpGroupId()) {
-          oprot.writeString(struct.intpGroupId);
+        if (struct.isSetOffset()) {
+          optionals.set(2);
         }
-        if (struct.isSetJson()) {
-          oprot.writeString(struct.json);
+        if (struct.isSetLength()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetResourcePoolId()) {
+          oprot.writeString(struct.resourcePoolId);
+        }
+        if (struct.isSetTransferId()) {
+          oprot.writeString(struct.transferId);
+        }
+        if (struct.isSetOffset()) {
+          oprot.writeI64(struct.offset);
+        }
+        if (struct.isSetLength()) {
+          oprot.writeI32(struct.length);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, readResourceTransfer_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
-          struct.intpGroupId = iprot.readString();
-          struct.setIntpGroupIdIsSet(true);
+          struct.resourcePoolId = iprot.readString();
+          struct.setResourcePoolIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.json = iprot.readString();
-          struct.setJsonIsSet(true);
+          struct.transferId = iprot.readString();
+          struct.setTransferIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.offset = iprot.readI64();
+          struct.setOffsetIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.length = iprot.readI32();
+          struct.setLengthIsSet(true);
         }
       }
     }
@@ -11195,17 +19701,19 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class sendParagraphInfo_result implements org.apache.thrift.TBase<sendParagraphInfo_result, sendParagraphInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<sendParagraphInfo_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("sendParagraphInfo_result");
+  public static class readResourceTransfer_result implements org.apache.thrift.TBase<readResourceTransfer_result, readResourceTransfer_result._Fields>, java.io.Serializable, Cloneable, Comparable<readResourceTransfer_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readResourceTransfer_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new sendParagraphInfo_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new sendParagraphInfo_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new readResourceTransfer_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new readResourceTransfer_resultTupleSchemeFactory();
 
+    public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -11221,6 +19729,8 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -11260,38 +19770,102 @@ public class RemoteInterpreterEventService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(sendParagraphInfo_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readResourceTransfer_result.class, metaDataMap);
     }
 
-    public sendParagraphInfo_result() {
+    public readResourceTransfer_result() {
+    }
+
+    public readResourceTransfer_result(
+      java.nio.ByteBuffer success)
+    {
+      this();
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public sendParagraphInfo_result(sendParagraphInfo_result other) {
+    public readResourceTransfer_result(readResourceTransfer_result other) {
+      if (other.isSetSuccess()) {
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+      }
     }
 
-    public sendParagraphInfo_result deepCopy() {
-      return new sendParagraphInfo_result(this);
+    public readResourceTransfer_result deepCopy() {
+      return new readResourceTransfer_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+    }
+
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
+    }
+
+    public java.nio.ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    public readResourceTransfer_result setSuccess(byte[] success) {
+      this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
+      return this;
+    }
+
+    public readResourceTransfer_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          if (value instanceof byte[]) {
+            setSuccess((byte[])value);
+          } else {
+            setSuccess((java.nio.ByteBuffer)value);
+          }
+        }
+        break;
+
       }
     }
 
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -11303,6 +19877,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -11311,17 +19887,26 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof sendParagraphInfo_result)
-        return this.equals((sendParagraphInfo_result)that);
+      if (that instanceof readResourceTransfer_result)
+        return this.equals((readResourceTransfer_result)that);
       return false;
     }
 
-    public boolean equals(sendParagraphInfo_result that) {
+    public boolean equals(readResourceTransfer_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       return true;
     }
 
@@ -11329,17 +19914,31 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(sendParagraphInfo_result other) {
+    public int compareTo(readResourceTransfer_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -11358,9 +19957,16 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("sendParagraphInfo_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("readResourceTransfer_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -11386,15 +19992,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class sendParagraphInfo_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public sendParagraphInfo_resultStandardScheme getScheme() {
-        return new sendParagraphInfo_resultStandardScheme();
+    private static class readResourceTransfer_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public readResourceTransfer_resultStandardScheme getScheme() {
+        return new readResourceTransfer_resultStandardScheme();
       }
     }
 
-    private static class sendParagraphInfo_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<sendParagraphInfo_result> {
+    private static class readResourceTransfer_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<readResourceTransfer_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readResourceTransfer_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11404,6 +20010,14 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -11415,32 +20029,50 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readResourceTransfer_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBinary(struct.success);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class sendParagraphInfo_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public sendParagraphInfo_resultTupleScheme getScheme() {
-        return new sendParagraphInfo_resultTupleScheme();
+    private static class readResourceTransfer_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public readResourceTransfer_resultTupleScheme getScheme() {
+        return new readResourceTransfer_resultTupleScheme();
       }
     }
 
-    private static class sendParagraphInfo_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<sendParagraphInfo_result> {
+    private static class readResourceTransfer_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<readResourceTransfer_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, readResourceTransfer_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBinary(struct.success);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, sendParagraphInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, readResourceTransfer_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBinary();
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
@@ -11449,19 +20081,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class getAllResources_args implements org.apache.thrift.TBase<getAllResources_args, getAllResources_args._Fields>, java.io.Serializable, Cloneable, Comparable<getAllResources_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllResources_args");
+  public static class closeResourceTransfer_args implements org.apache.thrift.TBase<closeResourceTransfer_args, closeResourceTransfer_args._Fields>, java.io.Serializable, Cloneable, Comparable<closeResourceTransfer_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("closeResourceTransfer_args");
 
-    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField RESOURCE_POOL_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("resourcePoolId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField TRANSFER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("transferId", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllResources_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllResources_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new closeResourceTransfer_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new closeResourceTransfer_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String resourcePoolId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String transferId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      INTP_GROUP_ID((short)1, "intpGroupId");
+      RESOURCE_POOL_ID((short)1, "resourcePoolId"),
+      TRANSFER_ID((short)2, "transferId");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -11477,8 +20112,10 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // INTP_GROUP_ID
-            return INTP_GROUP_ID;
+          case 1: // RESOURCE_POOL_ID
+            return RESOURCE_POOL_ID;
+          case 2: // TRANSFER_ID
+            return TRANSFER_ID;
           default:
             return null;
         }
@@ -11523,72 +20160,113 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.RESOURCE_POOL_ID, new org.apache.thrift.meta_data.FieldMetaData("resourcePoolId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.TRANSFER_ID, new org.apache.thrift.meta_data.FieldMetaData("transferId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllResources_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(closeResourceTransfer_args.class, metaDataMap);
     }
 
-    public getAllResources_args() {
+    public closeResourceTransfer_args() {
     }
 
-    public getAllResources_args(
-      java.lang.String intpGroupId)
+    public closeResourceTransfer_args(
+      java.lang.String resourcePoolId,
+      java.lang.String transferId)
     {
       this();
-      this.intpGroupId = intpGroupId;
+      this.resourcePoolId = resourcePoolId;
+      this.transferId = transferId;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getAllResources_args(getAllResources_args other) {
-      if (other.isSetIntpGroupId()) {
-        this.intpGroupId = other.intpGroupId;
+    public closeResourceTransfer_args(closeResourceTransfer_args other) {
+      if (other.isSetResourcePoolId()) {
+        this.resourcePoolId = other.resourcePoolId;
+      }
+      if (other.isSetTransferId()) {
+        this.transferId = other.transferId;
       }
     }
 
-    public getAllResources_args deepCopy() {
-      return new getAllResources_args(this);
+    public closeResourceTransfer_args deepCopy() {
+      return new closeResourceTransfer_args(this);
     }
 
     @Override
     public void clear() {
-      this.intpGroupId = null;
+      this.resourcePoolId = null;
+      this.transferId = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getIntpGroupId() {
-      return this.intpGroupId;
+    public java.lang.String getResourcePoolId() {
+      return this.resourcePoolId;
     }
 
-    public getAllResources_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
-      this.intpGroupId = intpGroupId;
+    public closeResourceTransfer_args setResourcePoolId(@org.apache.thrift.annotation.Nullable java.lang.String resourcePoolId) {
+      this.resourcePoolId = resourcePoolId;
       return this;
     }
 
-    public void unsetIntpGroupId() {
-      this.intpGroupId = null;
+    public void unsetResourcePoolId() {
+      this.resourcePoolId = null;
     }
 
-    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
-    public boolean isSetIntpGroupId() {
-      return this.intpGroupId != null;
+    /** Returns true if field resourcePoolId is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourcePoolId() {
+      return this.resourcePoolId != null;
     }
 
-    public void setIntpGroupIdIsSet(boolean value) {
+    public void setResourcePoolIdIsSet(boolean value) {
       if (!value) {
-        this.intpGroupId = null;
+        this.resourcePoolId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getTransferId() {
+      return this.transferId;
+    }
+
+    public closeResourceTransfer_args setTransferId(@org.apache.thrift.annotation.Nullable java.lang.String transferId) {
+      this.transferId = transferId;
+      return this;
+    }
+
+    public void unsetTransferId() {
+      this.transferId = null;
+    }
+
+    /** Returns true if field transferId is set (has been assigned a value) and false otherwise */
+    public boolean isSetTransferId() {
+      return this.transferId != null;
+    }
+
+    public void setTransferIdIsSet(boolean value) {
+      if (!value) {
+        this.transferId = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case INTP_GROUP_ID:
+      case RESOURCE_POOL_ID:
         if (value == null) {
-          unsetIntpGroupId();
+          unsetResourcePoolId();
         } else {
-          setIntpGroupId((java.lang.String)value);
+          setResourcePoolId((java.lang.String)value);
+        }
+        break;
+
+      case TRANSFER_ID:
+        if (value == null) {
+          unsetTransferId();
+        } else {
+          setTransferId((java.lang.String)value);
         }
         break;
 
@@ -11598,8 +20276,11 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case INTP_GROUP_ID:
-        return getIntpGroupId();
+      case RESOURCE_POOL_ID:
+        return getResourcePoolId();
+
+      case TRANSFER_ID:
+        return getTransferId();
 
       }
       throw new java.lang.IllegalStateException();
@@ -11612,8 +20293,10 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case INTP_GROUP_ID:
-        return isSetIntpGroupId();
+      case RESOURCE_POOL_ID:
+        return isSetResourcePoolId();
+      case TRANSFER_ID:
+        return isSetTransferId();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -11622,23 +20305,32 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getAllResources_args)
-        return this.equals((getAllResources_args)that);
+      if (that instanceof closeResourceTransfer_args)
+        return this.equals((closeResourceTransfer_args)that);
       return false;
     }
 
-    public boolean equals(getAllResources_args that) {
+    public boolean equals(closeResourceTransfer_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
-      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
-      if (this_present_intpGroupId || that_present_intpGroupId) {
-        if (!(this_present_intpGroupId && that_present_intpGroupId))
+      boolean this_present_resourcePoolId = true && this.isSetResourcePoolId();
+      boolean that_present_resourcePoolId = true && that.isSetResourcePoolId();
+      if (this_present_resourcePoolId || that_present_resourcePoolId) {
+        if (!(this_present_resourcePoolId && that_present_resourcePoolId))
           return false;
-        if (!this.intpGroupId.equals(that.intpGroupId))
+        if (!this.resourcePoolId.equals(that.resourcePoolId))
+          return false;
+      }
+
+      boolean this_present_transferId = true && this.isSetTransferId();
+      boolean that_present_transferId = true && that.isSetTransferId();
+      if (this_present_transferId || that_present_transferId) {
+        if (!(this_present_transferId && that_present_transferId))
+          return false;
+        if (!this.transferId.equals(that.transferId))
           return false;
       }
 
@@ -11649,27 +20341,41 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
-      if (isSetIntpGroupId())
-        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+      hashCode = hashCode * 8191 + ((isSetResourcePoolId()) ? 131071 : 524287);
+      if (isSetResourcePoolId())
+        hashCode = hashCode * 8191 + resourcePoolId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetTransferId()) ? 131071 : 524287);
+      if (isSetTransferId())
+        hashCode = hashCode * 8191 + transferId.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(getAllResources_args other) {
+    public int compareTo(closeResourceTransfer_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
+      lastComparison = java.lang.Boolean.valueOf(isSetResourcePoolId()).compareTo(other.isSetResourcePoolId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetIntpGroupId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+      if (isSetResourcePoolId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourcePoolId, other.resourcePoolId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetTransferId()).compareTo(other.isSetTransferId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTransferId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transferId, other.transferId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -11692,14 +20398,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllResources_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("closeResourceTransfer_args(");
       boolean first = true;
 
-      sb.append("intpGroupId:");
-      if (this.intpGroupId == null) {
+      sb.append("resourcePoolId:");
+      if (this.resourcePoolId == null) {
         sb.append("null");
       } else {
-        sb.append(this.intpGroupId);
+        sb.append(this.resourcePoolId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("transferId:");
+      if (this.transferId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.transferId);
       }
       first = false;
       sb.append(")");
@@ -11727,15 +20441,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class getAllResources_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getAllResources_argsStandardScheme getScheme() {
-        return new getAllResources_argsStandardScheme();
+    private static class closeResourceTransfer_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public closeResourceTransfer_argsStandardScheme getScheme() {
+        return new closeResourceTransfer_argsStandardScheme();
       }
     }
 
-    private static class getAllResources_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllResources_args> {
+    private static class closeResourceTransfer_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<closeResourceTransfer_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllResources_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, closeResourceTransfer_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11745,10 +20459,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // INTP_GROUP_ID
+            case 1: // RESOURCE_POOL_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.intpGroupId = iprot.readString();
-                struct.setIntpGroupIdIsSet(true);
+                struct.resourcePoolId = iprot.readString();
+                struct.setResourcePoolIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // TRANSFER_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.transferId = iprot.readString();
+                struct.setTransferIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -11764,13 +20486,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllResources_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, closeResourceTransfer_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.intpGroupId != null) {
-          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
-          oprot.writeString(struct.intpGroupId);
+        if (struct.resourcePoolId != null) {
+          oprot.writeFieldBegin(RESOURCE_POOL_ID_FIELD_DESC);
+          oprot.writeString(struct.resourcePoolId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.transferId != null) {
+          oprot.writeFieldBegin(TRANSFER_ID_FIELD_DESC);
+          oprot.writeString(struct.transferId);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -11779,34 +20506,44 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class getAllResources_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getAllResources_argsTupleScheme getScheme() {
-        return new getAllResources_argsTupleScheme();
+    private static class closeResourceTransfer_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public closeResourceTransfer_argsTupleScheme getScheme() {
+        return new closeResourceTransfer_argsTupleScheme();
       }
     }
 
-    private static class getAllResources_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllResources_args> {
+    private static class closeResourceTransfer_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<closeResourceTransfer_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getAllResources_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, closeResourceTransfer_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetIntpGroupId()) {
+        if (struct.isSetResourcePoolId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetIntpGroupId()) {
-          oprot.writeString(struct.intpGroupId);
+        if (struct.isSetTransferId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetResourcePoolId()) {
+          oprot.writeString(struct.resourcePoolId);
+        }
+        if (struct.isSetTransferId()) {
+          oprot.writeString(struct.transferId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getAllResources_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, closeResourceTransfer_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.intpGroupId = iprot.readString();
-          struct.setIntpGroupIdIsSet(true);
+          struct.resourcePoolId = iprot.readString();
+          struct.setResourcePoolIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.transferId = iprot.readString();
+          struct.setTransferIdIsSet(true);
         }
       }
     }
@@ -11816,19 +20553,17 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class getAllResources_result implements org.apache.thrift.TBase<getAllResources_result, getAllResources_result._Fields>, java.io.Serializable, Cloneable, Comparable<getAllResources_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getAllResources_result");
+  public static class closeResourceTransfer_result implements org.apache.thrift.TBase<closeResourceTransfer_result, closeResourceTransfer_result._Fields>, java.io.Serializable, Cloneable, Comparable<closeResourceTransfer_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("closeResourceTransfer_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getAllResources_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getAllResources_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new closeResourceTransfer_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new closeResourceTransfer_resultTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+;
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -11844,8 +20579,6 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           default:
             return null;
         }
@@ -11885,107 +20618,38 @@ public class RemoteInterpreterEventService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getAllResources_result.class, metaDataMap);
-    }
-
-    public getAllResources_result() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(closeResourceTransfer_result.class, metaDataMap);
     }
 
-    public getAllResources_result(
-      java.util.List<java.lang.String> success)
-    {
-      this();
-      this.success = success;
+    public closeResourceTransfer_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getAllResources_result(getAllResources_result other) {
-      if (other.isSetSuccess()) {
-        java.util.List<java.lang.String> __this__success = new java.util.ArrayList<java.lang.String>(other.success);
-        this.success = __this__success;
-      }
-    }
-
-    public getAllResources_result deepCopy() {
-      return new getAllResources_result(this);
-    }
-
-    @Override
-    public void clear() {
-      this.success = null;
-    }
-
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.util.Iterator<java.lang.String> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(java.lang.String elem) {
-      if (this.success == null) {
-        this.success = new java.util.ArrayList<java.lang.String>();
-      }
-      this.success.add(elem);
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.util.List<java.lang.String> getSuccess() {
-      return this.success;
-    }
-
-    public getAllResources_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<java.lang.String> success) {
-      this.success = success;
-      return this;
-    }
-
-    public void unsetSuccess() {
-      this.success = null;
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
+    public closeResourceTransfer_result(closeResourceTransfer_result other) {
     }
 
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+    public closeResourceTransfer_result deepCopy() {
+      return new closeResourceTransfer_result(this);
+    }
+
+    @Override
+    public void clear() {
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((java.util.List<java.lang.String>)value);
-        }
-        break;
-
       }
     }
 
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       }
       throw new java.lang.IllegalStateException();
     }
@@ -11997,8 +20661,6 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -12007,26 +20669,17 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getAllResources_result)
-        return this.equals((getAllResources_result)that);
+      if (that instanceof closeResourceTransfer_result)
+        return this.equals((closeResourceTransfer_result)that);
       return false;
     }
 
-    public boolean equals(getAllResources_result that) {
+    public boolean equals(closeResourceTransfer_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
       return true;
     }
 
@@ -12034,31 +20687,17 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
-
       return hashCode;
     }
 
     @Override
-    public int compareTo(getAllResources_result other) {
+    public int compareTo(closeResourceTransfer_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -12077,16 +20716,9 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getAllResources_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("closeResourceTransfer_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -12112,15 +20744,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class getAllResources_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getAllResources_resultStandardScheme getScheme() {
-        return new getAllResources_resultStandardScheme();
+    private static class closeResourceTransfer_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public closeResourceTransfer_resultStandardScheme getScheme() {
+        return new closeResourceTransfer_resultStandardScheme();
       }
     }
 
-    private static class getAllResources_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getAllResources_result> {
+    private static class closeResourceTransfer_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<closeResourceTransfer_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getAllResources_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, closeResourceTransfer_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12130,24 +20762,6 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<java.lang.String>(_list24.size);
-                  @org.apache.thrift.annotation.Nullable java.lang.String _elem25;
-                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
-                  {
-                    _elem25 = iprot.readString();
-                    struct.success.add(_elem25);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -12159,72 +20773,32 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getAllResources_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, closeResourceTransfer_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
-            for (java.lang.String _iter27 : struct.success)
-            {
-              oprot.writeString(_iter27);
-            }
-            oprot.writeListEnd();
-          }
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getAllResources_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getAllResources_resultTupleScheme getScheme() {
-        return new getAllResources_resultTupleScheme();
+    private static class closeResourceTransfer_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public closeResourceTransfer_resultTupleScheme getScheme() {
+        return new closeResourceTransfer_resultTupleScheme();
       }
     }
 
-    private static class getAllResources_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getAllResources_result> {
+    private static class closeResourceTransfer_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<closeResourceTransfer_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getAllResources_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, closeResourceTransfer_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (java.lang.String _iter28 : struct.success)
-            {
-              oprot.writeString(_iter28);
-            }
-          }
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getAllResources_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, closeResourceTransfer_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
-        if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.success = new java.util.ArrayList<java.lang.String>(_list29.size);
-            @org.apache.thrift.annotation.Nullable java.lang.String _elem30;
-            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
-            {
-              _elem30 = iprot.readString();
-              struct.success.add(_elem30);
-            }
-          }
-          struct.setSuccessIsSet(true);
-        }
       }
     }
 
@@ -12233,19 +20807,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class getResource_args implements org.apache.thrift.TBase<getResource_args, getResource_args._Fields>, java.io.Serializable, Cloneable, Comparable<getResource_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResource_args");
+  public static class invokeMethod_args implements org.apache.thrift.TBase<invokeMethod_args, invokeMethod_args._Fields>, java.io.Serializable, Cloneable, Comparable<invokeMethod_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("invokeMethod_args");
 
-    private static final org.apache.thrift.protocol.TField RESOURCE_ID_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceIdJson", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField INVOKE_METHOD_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("invokeMethodJson", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResource_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResource_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new invokeMethod_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new invokeMethod_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String invokeMethodJson; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      RESOURCE_ID_JSON((short)1, "resourceIdJson");
+      INTP_GROUP_ID((short)1, "intpGroupId"),
+      INVOKE_METHOD_JSON((short)2, "invokeMethodJson");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -12261,8 +20838,10 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // RESOURCE_ID_JSON
-            return RESOURCE_ID_JSON;
+          case 1: // INTP_GROUP_ID
+            return INTP_GROUP_ID;
+          case 2: // INVOKE_METHOD_JSON
+            return INVOKE_METHOD_JSON;
           default:
             return null;
         }
@@ -12307,72 +20886,113 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.RESOURCE_ID_JSON, new org.apache.thrift.meta_data.FieldMetaData("resourceIdJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.INVOKE_METHOD_JSON, new org.apache.thrift.meta_data.FieldMetaData("invokeMethodJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResource_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(invokeMethod_args.class, metaDataMap);
     }
 
-    public getResource_args() {
+    public invokeMethod_args() {
     }
 
-    public getResource_args(
-      java.lang.String resourceIdJson)
+    public invokeMethod_args(
+      java.lang.String intpGroupId,
+      java.lang.String invokeMethodJson)
     {
       this();
-      this.resourceIdJson = resourceIdJson;
+      this.intpGroupId = intpGroupId;
+      this.invokeMethodJson = invokeMethodJson;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getResource_args(getResource_args other) {
-      if (other.isSetResourceIdJson()) {
-        this.resourceIdJson = other.resourceIdJson;
+    public invokeMethod_args(invokeMethod_args other) {
+      if (other.isSetIntpGroupId()) {
+        this.intpGroupId = other.intpGroupId;
+      }
+      if (other.isSetInvokeMethodJson()) {
+        this.invokeMethodJson = other.invokeMethodJson;
       }
     }
 
-    public getResource_args deepCopy() {
-      return new getResource_args(this);
+    public invokeMethod_args deepCopy() {
+      return new invokeMethod_args(this);
     }
 
     @Override
     public void clear() {
-      this.resourceIdJson = null;
+      this.intpGroupId = null;
+      this.invokeMethodJson = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getResourceIdJson() {
-      return this.resourceIdJson;
+    public java.lang.String getIntpGroupId() {
+      return this.intpGroupId;
     }
 
-    public getResource_args setResourceIdJson(@org.apache.thrift.annotation.Nullable java.lang.String resourceIdJson) {
-      this.resourceIdJson = resourceIdJson;
+    public invokeMethod_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
+      this.intpGroupId = intpGroupId;
       return this;
     }
 
-    public void unsetResourceIdJson() {
-      this.resourceIdJson = null;
+    public void unsetIntpGroupId() {
+      this.intpGroupId = null;
     }
 
-    /** Returns true if field resourceIdJson is set (has been assigned a value) and false otherwise */
-    public boolean isSetResourceIdJson() {
-      return this.resourceIdJson != null;
+    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
+    public boolean isSetIntpGroupId() {
+      return this.intpGroupId != null;
     }
 
-    public void setResourceIdJsonIsSet(boolean value) {
+    public void setIntpGroupIdIsSet(boolean value) {
       if (!value) {
-        this.resourceIdJson = null;
+        this.intpGroupId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getInvokeMethodJson() {
+      return this.invokeMethodJson;
+    }
+
+    public invokeMethod_args setInvokeMethodJson(@org.apache.thrift.annotation.Nullable java.lang.String invokeMethodJson) {
+      this.invokeMethodJson = invokeMethodJson;
+      return this;
+    }
+
+    public void unsetInvokeMethodJson() {
+      this.invokeMethodJson = null;
+    }
+
+    /** Returns true if field invokeMethodJson is set (has been assigned a value) and false otherwise */
+    public boolean isSetInvokeMethodJson() {
+      return this.invokeMethodJson != null;
+    }
+
+    public void setInvokeMethodJsonIsSet(boolean value) {
+      if (!value) {
+        this.invokeMethodJson = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case RESOURCE_ID_JSON:
+      case INTP_GROUP_ID:
         if (value == null) {
-          unsetResourceIdJson();
+          unsetIntpGroupId();
         } else {
-          setResourceIdJson((java.lang.String)value);
+          setIntpGroupId((java.lang.String)value);
+        }
+        break;
+
+      case INVOKE_METHOD_JSON:
+        if (value == null) {
+          unsetInvokeMethodJson();
+        } else {
+          setInvokeMethodJson((java.lang.String)value);
         }
         break;
 
@@ -12382,8 +21002,11 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case RESOURCE_ID_JSON:
-        return getResourceIdJson();
+      case INTP_GROUP_ID:
+        return getIntpGroupId();
+
+      case INVOKE_METHOD_JSON:
+        return getInvokeMethodJson();
 
       }
       throw new java.lang.IllegalStateException();
@@ -12396,8 +21019,10 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case RESOURCE_ID_JSON:
-        return isSetResourceIdJson();
+      case INTP_GROUP_ID:
+        return isSetIntpGroupId();
+      case INVOKE_METHOD_JSON:
+        return isSetInvokeMethodJson();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -12406,23 +21031,32 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getResource_args)
-        return this.equals((getResource_args)that);
+      if (that instanceof invokeMethod_args)
+        return this.equals((invokeMethod_args)that);
       return false;
     }
 
-    public boolean equals(getResource_args that) {
+    public boolean equals(invokeMethod_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_resourceIdJson = true && this.isSetResourceIdJson();
-      boolean that_present_resourceIdJson = true && that.isSetResourceIdJson();
-      if (this_present_resourceIdJson || that_present_resourceIdJson) {
-        if (!(this_present_resourceIdJson && that_present_resourceIdJson))
+      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
+      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
+      if (this_present_intpGroupId || that_present_intpGroupId) {
+        if (!(this_present_intpGroupId && that_present_intpGroupId))
+          return false;
+        if (!this.intpGroupId.equals(that.intpGroupId))
+          return false;
+      }
+
+      boolean this_present_invokeMethodJson = true && this.isSetInvokeMethodJson();
+      boolean that_present_invokeMethodJson = true && that.isSetInvokeMethodJson();
+      if (this_present_invokeMethodJson || that_present_invokeMethodJson) {
+        if (!(this_present_invokeMethodJson && that_present_invokeMethodJson))
           return false;
-        if (!this.resourceIdJson.equals(that.resourceIdJson))
+        if (!this.invokeMethodJson.equals(that.invokeMethodJson))
           return false;
       }
 
@@ -12433,27 +21067,41 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetResourceIdJson()) ? 131071 : 524287);
-      if (isSetResourceIdJson())
-        hashCode = hashCode * 8191 + resourceIdJson.hashCode();
+      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
+      if (isSetIntpGroupId())
+        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetInvokeMethodJson()) ? 131071 : 524287);
+      if (isSetInvokeMethodJson())
+        hashCode = hashCode * 8191 + invokeMethodJson.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(getResource_args other) {
+    public int compareTo(invokeMethod_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetResourceIdJson()).compareTo(other.isSetResourceIdJson());
+      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetResourceIdJson()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceIdJson, other.resourceIdJson);
+      if (isSetIntpGroupId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetInvokeMethodJson()).compareTo(other.isSetInvokeMethodJson());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetInvokeMethodJson()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.invokeMethodJson, other.invokeMethodJson);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -12476,14 +21124,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResource_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("invokeMethod_args(");
       boolean first = true;
 
-      sb.append("resourceIdJson:");
-      if (this.resourceIdJson == null) {
+      sb.append("intpGroupId:");
+      if (this.intpGroupId == null) {
         sb.append("null");
       } else {
-        sb.append(this.resourceIdJson);
+        sb.append(this.intpGroupId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("invokeMethodJson:");
+      if (this.invokeMethodJson == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.invokeMethodJson);
       }
       first = false;
       sb.append(")");
@@ -12511,15 +21167,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class getResource_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getResource_argsStandardScheme getScheme() {
-        return new getResource_argsStandardScheme();
+    private static class invokeMethod_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invokeMethod_argsStandardScheme getScheme() {
+        return new invokeMethod_argsStandardScheme();
       }
     }
 
-    private static class getResource_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResource_args> {
+    private static class invokeMethod_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<invokeMethod_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, invokeMethod_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12529,10 +21185,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // RESOURCE_ID_JSON
+            case 1: // INTP_GROUP_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.resourceIdJson = iprot.readString();
-                struct.setResourceIdJsonIsSet(true);
+                struct.intpGroupId = iprot.readString();
+                struct.setIntpGroupIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // INVOKE_METHOD_JSON
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.invokeMethodJson = iprot.readString();
+                struct.setInvokeMethodJsonIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -12548,13 +21212,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, invokeMethod_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.resourceIdJson != null) {
-          oprot.writeFieldBegin(RESOURCE_ID_JSON_FIELD_DESC);
-          oprot.writeString(struct.resourceIdJson);
+        if (struct.intpGroupId != null) {
+          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
+          oprot.writeString(struct.intpGroupId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.invokeMethodJson != null) {
+          oprot.writeFieldBegin(INVOKE_METHOD_JSON_FIELD_DESC);
+          oprot.writeString(struct.invokeMethodJson);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -12563,34 +21232,44 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class getResource_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getResource_argsTupleScheme getScheme() {
-        return new getResource_argsTupleScheme();
+    private static class invokeMethod_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invokeMethod_argsTupleScheme getScheme() {
+        return new invokeMethod_argsTupleScheme();
       }
     }
 
-    private static class getResource_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResource_args> {
+    private static class invokeMethod_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<invokeMethod_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, invokeMethod_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetResourceIdJson()) {
+        if (struct.isSetIntpGroupId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetResourceIdJson()) {
-          oprot.writeString(struct.resourceIdJson);
+        if (struct.isSetInvokeMethodJson()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetIntpGroupId()) {
+          oprot.writeString(struct.intpGroupId);
+        }
+        if (struct.isSetInvokeMethodJson()) {
+          oprot.writeString(struct.invokeMethodJson);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, invokeMethod_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.resourceIdJson = iprot.readString();
-          struct.setResourceIdJsonIsSet(true);
+          struct.intpGroupId = iprot.readString();
+          struct.setIntpGroupIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.invokeMethodJson = iprot.readString();
+          struct.setInvokeMethodJsonIsSet(true);
         }
       }
     }
@@ -12600,13 +21279,13 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class getResource_result implements org.apache.thrift.TBase<getResource_result, getResource_result._Fields>, java.io.Serializable, Cloneable, Comparable<getResource_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getResource_result");
+  public static class invokeMethod_result implements org.apache.thrift.TBase<invokeMethod_result, invokeMethod_result._Fields>, java.io.Serializable, Cloneable, Comparable<invokeMethod_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("invokeMethod_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getResource_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getResource_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new invokeMethod_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new invokeMethod_resultTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
 
@@ -12677,13 +21356,13 @@ public class RemoteInterpreterEventService {
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getResource_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(invokeMethod_result.class, metaDataMap);
     }
 
-    public getResource_result() {
+    public invokeMethod_result() {
     }
 
-    public getResource_result(
+    public invokeMethod_result(
       java.nio.ByteBuffer success)
     {
       this();
@@ -12693,14 +21372,14 @@ public class RemoteInterpreterEventService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getResource_result(getResource_result other) {
+    public invokeMethod_result(invokeMethod_result other) {
       if (other.isSetSuccess()) {
         this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
       }
     }
 
-    public getResource_result deepCopy() {
-      return new getResource_result(this);
+    public invokeMethod_result deepCopy() {
+      return new invokeMethod_result(this);
     }
 
     @Override
@@ -12717,12 +21396,12 @@ public class RemoteInterpreterEventService {
       return org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
-    public getResource_result setSuccess(byte[] success) {
+    public invokeMethod_result setSuccess(byte[] success) {
       this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
       return this;
     }
 
-    public getResource_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
+    public invokeMethod_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
       this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
       return this;
     }
@@ -12786,12 +21465,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getResource_result)
-        return this.equals((getResource_result)that);
+      if (that instanceof invokeMethod_result)
+        return this.equals((invokeMethod_result)that);
       return false;
     }
 
-    public boolean equals(getResource_result that) {
+    public boolean equals(invokeMethod_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -12821,7 +21500,7 @@ public class RemoteInterpreterEventService {
     }
 
     @Override
-    public int compareTo(getResource_result other) {
+    public int compareTo(invokeMethod_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -12856,7 +21535,7 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getResource_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("invokeMethod_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -12891,15 +21570,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class getResource_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getResource_resultStandardScheme getScheme() {
-        return new getResource_resultStandardScheme();
+    private static class invokeMethod_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invokeMethod_resultStandardScheme getScheme() {
+        return new invokeMethod_resultStandardScheme();
       }
     }
 
-    private static class getResource_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getResource_result> {
+    private static class invokeMethod_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<invokeMethod_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getResource_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, invokeMethod_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12928,7 +21607,7 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getResource_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, invokeMethod_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -12943,16 +21622,16 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class getResource_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getResource_resultTupleScheme getScheme() {
-        return new getResource_resultTupleScheme();
+    private static class invokeMethod_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public invokeMethod_resultTupleScheme getScheme() {
+        return new invokeMethod_resultTupleScheme();
       }
     }
 
-    private static class getResource_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getResource_result> {
+    private static class invokeMethod_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<invokeMethod_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, invokeMethod_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -12965,7 +21644,7 @@ public class RemoteInterpreterEventService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getResource_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, invokeMethod_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -12980,22 +21659,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class invokeMethod_args implements org.apache.thrift.TBase<invokeMethod_args, invokeMethod_args._Fields>, java.io.Serializable, Cloneable, Comparable<invokeMethod_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("invokeMethod_args");
+  public static class getParagraphList_args implements org.apache.thrift.TBase<getParagraphList_args, getParagraphList_args._Fields>, java.io.Serializable, Cloneable, Comparable<getParagraphList_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getParagraphList_args");
 
-    private static final org.apache.thrift.protocol.TField INTP_GROUP_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("intpGroupId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField INVOKE_METHOD_JSON_FIELD_DESC = new org.apache.thrift.protocol.TField("invokeMethodJson", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField USER_FIELD_DESC = new org.apache.thrift.protocol.TField("user", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new invokeMethod_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new invokeMethod_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getParagraphList_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getParagraphList_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.lang.String intpGroupId; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String invokeMethodJson; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String user; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String noteId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      INTP_GROUP_ID((short)1, "intpGroupId"),
-      INVOKE_METHOD_JSON((short)2, "invokeMethodJson");
+      USER((short)1, "user"),
+      NOTE_ID((short)2, "noteId");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -13011,10 +21690,10 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // INTP_GROUP_ID
-            return INTP_GROUP_ID;
-          case 2: // INVOKE_METHOD_JSON
-            return INVOKE_METHOD_JSON;
+          case 1: // USER
+            return USER;
+          case 2: // NOTE_ID
+            return NOTE_ID;
           default:
             return null;
         }
@@ -13059,113 +21738,113 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.INTP_GROUP_ID, new org.apache.thrift.meta_data.FieldMetaData("intpGroupId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.USER, new org.apache.thrift.meta_data.FieldMetaData("user", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.INVOKE_METHOD_JSON, new org.apache.thrift.meta_data.FieldMetaData("invokeMethodJson", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(invokeMethod_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getParagraphList_args.class, metaDataMap);
     }
 
-    public invokeMethod_args() {
+    public getParagraphList_args() {
     }
 
-    public invokeMethod_args(
-      java.lang.String intpGroupId,
-      java.lang.String invokeMethodJson)
+    public getParagraphList_args(
+      java.lang.String user,
+      java.lang.String noteId)
     {
       this();
-      this.intpGroupId = intpGroupId;
-      this.invokeMethodJson = invokeMethodJson;
+      this.user = user;
+      this.noteId = noteId;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public invokeMethod_args(invokeMethod_args other) {
-      if (other.isSetIntpGroupId()) {
-        this.intpGroupId = other.intpGroupId;
+    public getParagraphList_args(getParagraphList_args other) {
+      if (other.isSetUser()) {
+        this.user = other.user;
       }
-      if (other.isSetInvokeMethodJson()) {
-        this.invokeMethodJson = other.invokeMethodJson;
+      if (other.isSetNoteId()) {
+        this.noteId = other.noteId;
       }
     }
 
-    public invokeMethod_args deepCopy() {
-      return new invokeMethod_args(this);
+    public getParagraphList_args deepCopy() {
+      return new getParagraphList_args(this);
     }
 
     @Override
     public void clear() {
-      this.intpGroupId = null;
-      this.invokeMethodJson = null;
+      this.user = null;
+      this.noteId = null;
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getIntpGroupId() {
-      return this.intpGroupId;
+    public java.lang.String getUser() {
+      return this.user;
     }
 
-    public invokeMethod_args setIntpGroupId(@org.apache.thrift.annotation.Nullable java.lang.String intpGroupId) {
-      this.intpGroupId = intpGroupId;
+    public getParagraphList_args setUser(@org.apache.thrift.annotation.Nullable java.lang.String user) {
+      this.user = user;
       return this;
     }
 
-    public void unsetIntpGroupId() {
-      this.intpGroupId = null;
+    public void unsetUser() {
+      this.user = null;
     }
 
-    /** Returns true if field intpGroupId is set (has been assigned a value) and false otherwise */
-    public boolean isSetIntpGroupId() {
-      return this.intpGroupId != null;
+    /** Returns true if field user is set (has been assigned a value) and false otherwise */
+    public boolean isSetUser() {
+      return this.user != null;
     }
 
-    public void setIntpGroupIdIsSet(boolean value) {
+    public void setUserIsSet(boolean value) {
       if (!value) {
-        this.intpGroupId = null;
+        this.user = null;
       }
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getInvokeMethodJson() {
-      return this.invokeMethodJson;
+    public java.lang.String getNoteId() {
+      return this.noteId;
     }
 
-    public invokeMethod_args setInvokeMethodJson(@org.apache.thrift.annotation.Nullable java.lang.String invokeMethodJson) {
-      this.invokeMethodJson = invokeMethodJson;
+    public getParagraphList_args setNoteId(@org.apache.thrift.annotation.Nullable java.lang.String noteId) {
+      this.noteId = noteId;
       return this;
     }
 
-    public void unsetInvokeMethodJson() {
-      this.invokeMethodJson = null;
+    public void unsetNoteId() {
+      this.noteId = null;
     }
 
-    /** Returns true if field invokeMethodJson is set (has been assigned a value) and false otherwise */
-    public boolean isSetInvokeMethodJson() {
-      return this.invokeMethodJson != null;
+    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
+    public boolean isSetNoteId() {
+      return this.noteId != null;
     }
 
-    public void setInvokeMethodJsonIsSet(boolean value) {
+    public void setNoteIdIsSet(boolean value) {
       if (!value) {
-        this.invokeMethodJson = null;
+        this.noteId = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case INTP_GROUP_ID:
+      case USER:
         if (value == null) {
-          unsetIntpGroupId();
+          unsetUser();
         } else {
-          setIntpGroupId((java.lang.String)value);
+          setUser((java.lang.String)value);
         }
         break;
 
-      case INVOKE_METHOD_JSON:
+      case NOTE_ID:
         if (value == null) {
-          unsetInvokeMethodJson();
+          unsetNoteId();
         } else {
-          setInvokeMethodJson((java.lang.String)value);
+          setNoteId((java.lang.String)value);
         }
         break;
 
@@ -13175,11 +21854,11 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case INTP_GROUP_ID:
-        return getIntpGroupId();
+      case USER:
+        return getUser();
 
-      case INVOKE_METHOD_JSON:
-        return getInvokeMethodJson();
+      case NOTE_ID:
+        return getNoteId();
 
       }
       throw new java.lang.IllegalStateException();
@@ -13192,10 +21871,10 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case INTP_GROUP_ID:
-        return isSetIntpGroupId();
-      case INVOKE_METHOD_JSON:
-        return isSetInvokeMethodJson();
+      case USER:
+        return isSetUser();
+      case NOTE_ID:
+        return isSetNoteId();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -13204,32 +21883,32 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof invokeMethod_args)
-        return this.equals((invokeMethod_args)that);
+      if (that instanceof getParagraphList_args)
+        return this.equals((getParagraphList_args)that);
       return false;
     }
 
-    public boolean equals(invokeMethod_args that) {
+    public boolean equals(getParagraphList_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_intpGroupId = true && this.isSetIntpGroupId();
-      boolean that_present_intpGroupId = true && that.isSetIntpGroupId();
-      if (this_present_intpGroupId || that_present_intpGroupId) {
-        if (!(this_present_intpGroupId && that_present_intpGroupId))
+      boolean this_present_user = true && this.isSetUser();
+      boolean that_present_user = true && that.isSetUser();
+      if (this_present_user || that_present_user) {
+        if (!(this_present_user && that_present_user))
           return false;
-        if (!this.intpGroupId.equals(that.intpGroupId))
+        if (!this.user.equals(that.user))
           return false;
       }
 
-      boolean this_present_invokeMethodJson = true && this.isSetInvokeMethodJson();
-      boolean that_present_invokeMethodJson = true && that.isSetInvokeMethodJson();
-      if (this_present_invokeMethodJson || that_present_invokeMethodJson) {
-        if (!(this_present_invokeMethodJson && that_present_invokeMethodJson))
+      boolean this_present_noteId = true && this.isSetNoteId();
+      boolean that_present_noteId = true && that.isSetNoteId();
+      if (this_present_noteId || that_present_noteId) {
+        if (!(this_present_noteId && that_present_noteId))
           return false;
-        if (!this.invokeMethodJson.equals(that.invokeMethodJson))
+        if (!this.noteId.equals(that.noteId))
           return false;
       }
 
@@ -13240,41 +21919,41 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetIntpGroupId()) ? 131071 : 524287);
-      if (isSetIntpGroupId())
-        hashCode = hashCode * 8191 + intpGroupId.hashCode();
+      hashCode = hashCode * 8191 + ((isSetUser()) ? 131071 : 524287);
+      if (isSetUser())
+        hashCode = hashCode * 8191 + user.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetInvokeMethodJson()) ? 131071 : 524287);
-      if (isSetInvokeMethodJson())
-        hashCode = hashCode * 8191 + invokeMethodJson.hashCode();
+      hashCode = hashCode * 8191 + ((isSetNoteId()) ? 131071 : 524287);
+      if (isSetNoteId())
+        hashCode = hashCode * 8191 + noteId.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(invokeMethod_args other) {
+    public int compareTo(getParagraphList_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetIntpGroupId()).compareTo(other.isSetIntpGroupId());
+      lastComparison = java.lang.Boolean.valueOf(isSetUser()).compareTo(other.isSetUser());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetIntpGroupId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.intpGroupId, other.intpGroupId);
+      if (isSetUser()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.user, other.user);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetInvokeMethodJson()).compareTo(other.isSetInvokeMethodJson());
+      lastComparison = java.lang.Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetInvokeMethodJson()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.invokeMethodJson, other.invokeMethodJson);
+      if (isSetNoteId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -13297,22 +21976,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("invokeMethod_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getParagraphList_args(");
       boolean first = true;
 
-      sb.append("intpGroupId:");
-      if (this.intpGroupId == null) {
+      sb.append("user:");
+      if (this.user == null) {
         sb.append("null");
       } else {
-        sb.append(this.intpGroupId);
+        sb.append(this.user);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("invokeMethodJson:");
-      if (this.invokeMethodJson == null) {
+      sb.append("noteId:");
+      if (this.noteId == null) {
         sb.append("null");
       } else {
-        sb.append(this.invokeMethodJson);
+        sb.append(this.noteId);
       }
       first = false;
       sb.append(")");
@@ -13340,15 +22019,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class invokeMethod_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public invokeMethod_argsStandardScheme getScheme() {
-        return new invokeMethod_argsStandardScheme();
+    private static class getParagraphList_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getParagraphList_argsStandardScheme getScheme() {
+        return new getParagraphList_argsStandardScheme();
       }
     }
 
-    private static class invokeMethod_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<invokeMethod_args> {
+    private static class getParagraphList_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getParagraphList_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, invokeMethod_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getParagraphList_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13358,18 +22037,18 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // INTP_GROUP_ID
+            case 1: // USER
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.intpGroupId = iprot.readString();
-                struct.setIntpGroupIdIsSet(true);
+                struct.user = iprot.readString();
+                struct.setUserIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // INVOKE_METHOD_JSON
+            case 2: // NOTE_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.invokeMethodJson = iprot.readString();
-                struct.setInvokeMethodJsonIsSet(true);
+                struct.noteId = iprot.readString();
+                struct.setNoteIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -13385,18 +22064,18 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, invokeMethod_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getParagraphList_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.intpGroupId != null) {
-          oprot.writeFieldBegin(INTP_GROUP_ID_FIELD_DESC);
-          oprot.writeString(struct.intpGroupId);
+        if (struct.user != null) {
+          oprot.writeFieldBegin(USER_FIELD_DESC);
+          oprot.writeString(struct.user);
           oprot.writeFieldEnd();
         }
-        if (struct.invokeMethodJson != null) {
-          oprot.writeFieldBegin(INVOKE_METHOD_JSON_FIELD_DESC);
-          oprot.writeString(struct.invokeMethodJson);
+        if (struct.noteId != null) {
+          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
+          oprot.writeString(struct.noteId);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -13405,44 +22084,44 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class invokeMethod_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public invokeMethod_argsTupleScheme getScheme() {
-        return new invokeMethod_argsTupleScheme();
+    private static class getParagraphList_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getParagraphList_argsTupleScheme getScheme() {
+        return new getParagraphList_argsTupleScheme();
       }
     }
 
-    private static class invokeMethod_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<invokeMethod_args> {
+    private static class getParagraphList_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getParagraphList_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, invokeMethod_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getParagraphList_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetIntpGroupId()) {
+        if (struct.isSetUser()) {
           optionals.set(0);
         }
-        if (struct.isSetInvokeMethodJson()) {
+        if (struct.isSetNoteId()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetIntpGroupId()) {
-          oprot.writeString(struct.intpGroupId);
+        if (struct.isSetUser()) {
+          oprot.writeString(struct.user);
         }
-        if (struct.isSetInvokeMethodJson()) {
-          oprot.writeString(struct.invokeMethodJson);
+        if (struct.isSetNoteId()) {
+          oprot.writeString(struct.noteId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, invokeMethod_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getParagraphList_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.intpGroupId = iprot.readString();
-          struct.setIntpGroupIdIsSet(true);
+          struct.user = iprot.readString();
+          struct.setUserIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.invokeMethodJson = iprot.readString();
-          struct.setInvokeMethodJsonIsSet(true);
+          struct.noteId = iprot.readString();
+          struct.setNoteIdIsSet(true);
         }
       }
     }
@@ -13452,19 +22131,22 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class invokeMethod_result implements org.apache.thrift.TBase<invokeMethod_result, invokeMethod_result._Fields>, java.io.Serializable, Cloneable, Comparable<invokeMethod_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("invokeMethod_result");
+  public static class getParagraphList_result implements org.apache.thrift.TBase<getParagraphList_result, getParagraphList_result._Fields>, java.io.Serializable, Cloneable, Comparable<getParagraphList_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getParagraphList_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new invokeMethod_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new invokeMethod_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getParagraphList_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getParagraphList_resultTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
+    public @org.apache.thrift.annotation.Nullable java.util.List<ParagraphInfo> success; // required
+    public @org.apache.thrift.annotation.Nullable ServiceException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -13482,6 +22164,8 @@ public class RemoteInterpreterEventService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
+          case 1: // E
+            return E;
           default:
             return null;
         }
@@ -13527,55 +22211,75 @@ public class RemoteInterpreterEventService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ParagraphInfo.class))));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ServiceException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(invokeMethod_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getParagraphList_result.class, metaDataMap);
     }
 
-    public invokeMethod_result() {
+    public getParagraphList_result() {
     }
 
-    public invokeMethod_result(
-      java.nio.ByteBuffer success)
+    public getParagraphList_result(
+      java.util.List<ParagraphInfo> success,
+      ServiceException e)
     {
       this();
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      this.success = success;
+      this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public invokeMethod_result(invokeMethod_result other) {
+    public getParagraphList_result(getParagraphList_result other) {
       if (other.isSetSuccess()) {
-        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+        java.util.List<ParagraphInfo> __this__success = new java.util.ArrayList<ParagraphInfo>(other.success.size());
+        for (ParagraphInfo other_element : other.success) {
+          __this__success.add(new ParagraphInfo(other_element));
+        }
+        this.success = __this__success;
+      }
+      if (other.isSetE()) {
+        this.e = new ServiceException(other.e);
       }
     }
 
-    public invokeMethod_result deepCopy() {
-      return new invokeMethod_result(this);
+    public getParagraphList_result deepCopy() {
+      return new getParagraphList_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
+      this.e = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
     }
 
-    public byte[] getSuccess() {
-      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
-      return success == null ? null : success.array();
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<ParagraphInfo> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
     }
 
-    public java.nio.ByteBuffer bufferForSuccess() {
-      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    public void addToSuccess(ParagraphInfo elem) {
+      if (this.success == null) {
+        this.success = new java.util.ArrayList<ParagraphInfo>();
+      }
+      this.success.add(elem);
     }
 
-    public invokeMethod_result setSuccess(byte[] success) {
-      this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
-      return this;
+    @org.apache.thrift.annotation.Nullable
+    public java.util.List<ParagraphInfo> getSuccess() {
+      return this.success;
     }
 
-    public invokeMethod_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+    public getParagraphList_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<ParagraphInfo> success) {
+      this.success = success;
       return this;
     }
 
@@ -13594,17 +22298,46 @@ public class RemoteInterpreterEventService {
       }
     }
 
+    @org.apache.thrift.annotation.Nullable
+    public ServiceException getE() {
+      return this.e;
+    }
+
+    public getParagraphList_result setE(@org.apache.thrift.annotation.Nullable ServiceException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          if (value instanceof byte[]) {
-            setSuccess((byte[])value);
-          } else {
-            setSuccess((java.nio.ByteBuffer)value);
-          }
+          setSuccess((java.util.List<ParagraphInfo>)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((ServiceException)value);
         }
         break;
 
@@ -13617,6 +22350,9 @@ public class RemoteInterpreterEventService {
       case SUCCESS:
         return getSuccess();
 
+      case E:
+        return getE();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -13630,6 +22366,8 @@ public class RemoteInterpreterEventService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case E:
+        return isSetE();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -13638,12 +22376,12 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof invokeMethod_result)
-        return this.equals((invokeMethod_result)that);
+      if (that instanceof getParagraphList_result)
+        return this.equals((getParagraphList_result)that);
       return false;
     }
 
-    public boolean equals(invokeMethod_result that) {
+    public boolean equals(getParagraphList_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -13658,6 +22396,15 @@ public class RemoteInterpreterEventService {
           return false;
       }
 
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
       return true;
     }
 
@@ -13669,11 +22416,15 @@ public class RemoteInterpreterEventService {
       if (isSetSuccess())
         hashCode = hashCode * 8191 + success.hashCode();
 
+      hashCode = hashCode * 8191 + ((isSetE()) ? 131071 : 524287);
+      if (isSetE())
+        hashCode = hashCode * 8191 + e.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(invokeMethod_result other) {
+    public int compareTo(getParagraphList_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -13690,6 +22441,16 @@ public class RemoteInterpreterEventService {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -13708,14 +22469,22 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("invokeMethod_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getParagraphList_result(");
       boolean first = true;
 
       sb.append("success:");
       if (this.success == null) {
         sb.append("null");
       } else {
-        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
       }
       first = false;
       sb.append(")");
@@ -13743,15 +22512,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class invokeMethod_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public invokeMethod_resultStandardScheme getScheme() {
-        return new invokeMethod_resultStandardScheme();
+    private static class getParagraphList_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getParagraphList_resultStandardScheme getScheme() {
+        return new getParagraphList_resultStandardScheme();
       }
     }
 
-    private static class invokeMethod_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<invokeMethod_result> {
+    private static class getParagraphList_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getParagraphList_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, invokeMethod_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getParagraphList_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13762,13 +22531,33 @@ public class RemoteInterpreterEventService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readBinary();
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list48 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<ParagraphInfo>(_list48.size);
+                  @org.apache.thrift.annotation.Nullable ParagraphInfo _elem49;
+                  for (int _i50 = 0; _i50 < _list48.size; ++_i50)
+                  {
+                    _elem49 = new ParagraphInfo();
+                    _elem49.read(iprot);
+                    struct.success.add(_elem49);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new ServiceException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -13780,13 +22569,25 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, invokeMethod_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getParagraphList_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBinary(struct.success);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (ParagraphInfo _iter51 : struct.success)
+            {
+              _iter51.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -13795,35 +22596,62 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class invokeMethod_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public invokeMethod_resultTupleScheme getScheme() {
-        return new invokeMethod_resultTupleScheme();
+    private static class getParagraphList_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getParagraphList_resultTupleScheme getScheme() {
+        return new getParagraphList_resultTupleScheme();
       }
     }
 
-    private static class invokeMethod_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<invokeMethod_result> {
+    private static class getParagraphList_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getParagraphList_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, invokeMethod_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getParagraphList_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeBinary(struct.success);
+          {
+            oprot.writeI32(struct.success.size());
+            for (ParagraphInfo _iter52 : struct.success)
+            {
+              _iter52.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, invokeMethod_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getParagraphList_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readBinary();
+          {
+            org.apache.thrift.protocol.TList _list53 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<ParagraphInfo>(_list53.size);
+            @org.apache.thrift.annotation.Nullable ParagraphInfo _elem54;
+            for (int _i55 = 0; _i55 < _list53.size; ++_i55)
+            {
+              _elem54 = new ParagraphInfo();
+              _elem54.read(iprot);
+              struct.success.add(_elem54);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.e = new ServiceException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
       }
     }
 
@@ -13832,22 +22660,19 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class getParagraphList_args implements org.apache.thrift.TBase<getParagraphList_args, getParagraphList_args._Fields>, java.io.Serializable, Cloneable, Comparable<getParagraphList_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getParagraphList_args");
+  public static class updateParagraphProgress_args implements org.apache.thrift.TBase<updateParagraphProgress_args, updateParagraphProgress_args._Fields>, java.io.Serializable, Cloneable, Comparable<updateParagraphProgress_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateParagraphProgress_args");
 
-    private static final org.apache.thrift.protocol.TField USER_FIELD_DESC = new org.apache.thrift.protocol.TField("user", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField NOTE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("noteId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField EVENTS_FIELD_DESC = new org.apache.thrift.protocol.TField("events", org.apache.thrift.protocol.TType.LIST, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getParagraphList_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getParagraphList_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateParagraphProgress_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateParagraphProgress_argsTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.lang.String user; // required
-    public @org.apache.thrift.annotation.Nullable java.lang.String noteId; // required
+    public @org.apache.thrift.annotation.Nullable java.util.List<ParagraphProgressEvent> events; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      USER((short)1, "user"),
-      NOTE_ID((short)2, "noteId");
+      EVENTS((short)1, "events");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -13863,10 +22688,8 @@ public class RemoteInterpreterEventService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // USER
-            return USER;
-          case 2: // NOTE_ID
-            return NOTE_ID;
+          case 1: // EVENTS
+            return EVENTS;
           default:
             return null;
         }
@@ -13911,113 +22734,93 @@ public class RemoteInterpreterEventService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.USER, new org.apache.thrift.meta_data.FieldMetaData("user", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.NOTE_ID, new org.apache.thrift.meta_data.FieldMetaData("noteId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.EVENTS, new org.apache.thrift.meta_data.FieldMetaData("events", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ParagraphProgressEvent.class))));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getParagraphList_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateParagraphProgress_args.class, metaDataMap);
     }
 
-    public getParagraphList_args() {
+    public updateParagraphProgress_args() {
     }
 
-    public getParagraphList_args(
-      java.lang.String user,
-      java.lang.String noteId)
+    public updateParagraphProgress_args(
+      java.util.List<ParagraphProgressEvent> events)
     {
       this();
-      this.user = user;
-      this.noteId = noteId;
+      this.events = events;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getParagraphList_args(getParagraphList_args other) {
-      if (other.isSetUser()) {
-        this.user = other.user;
-      }
-      if (other.isSetNoteId()) {
-        this.noteId = other.noteId;
+    public updateParagraphProgress_args(updateParagraphProgress_args other) {
+      if (other.isSetEvents()) {
+        java.util.List<ParagraphProgressEvent> __this__events = new java.util.ArrayList<ParagraphProgressEvent>(other.events.size());
+        for (ParagraphProgressEvent other_element : other.events) {
+          __this__events.add(new ParagraphProgressEvent(other_element));
+        }
+        this.events = __this__events;
       }
     }
 
-    public getParagraphList_args deepCopy() {
-      return new getParagraphList_args(this);
+    public updateParagraphProgress_args deepCopy() {
+      return new updateParagraphProgress_args(this);
     }
 
     @Override
     public void clear() {
-      this.user = null;
-      this.noteId = null;
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.lang.String getUser() {
-      return this.user;
-    }
-
-    public getParagraphList_args setUser(@org.apache.thrift.annotation.Nullable java.lang.String user) {
-      this.user = user;
-      return this;
+      this.events = null;
     }
 
-    public void unsetUser() {
-      this.user = null;
+    public int getEventsSize() {
+      return (this.events == null) ? 0 : this.events.size();
     }
 
-    /** Returns true if field user is set (has been assigned a value) and false otherwise */
-    public boolean isSetUser() {
-      return this.user != null;
+    @org.apache.thrift.annotation.Nullable
+    public java.util.Iterator<ParagraphProgressEvent> getEventsIterator() {
+      return (this.events == null) ? null : this.events.iterator();
     }
 
-    public void setUserIsSet(boolean value) {
-      if (!value) {
-        this.user = null;
+    public void addToEvents(ParagraphProgressEvent elem) {
+      if (this.events == null) {
+        this.events = new java.util.ArrayList<ParagraphProgressEvent>();
       }
+      this.events.add(elem);
     }
 
     @org.apache.thrift.annotation.Nullable
-    public java.lang.String getNoteId() {
-      return this.noteId;
+    public java.util.List<ParagraphProgressEvent> getEvents() {
+      return this.events;
     }
 
-    public getParagraphList_args setNoteId(@org.apache.thrift.annotation.Nullable java.lang.String noteId) {
-      this.noteId = noteId;
+    public updateParagraphProgress_args setEvents(@org.apache.thrift.annotation.Nullable java.util.List<ParagraphProgressEvent> events) {
+      this.events = events;
       return this;
     }
 
-    public void unsetNoteId() {
-      this.noteId = null;
+    public void unsetEvents() {
+      this.events = null;
     }
 
-    /** Returns true if field noteId is set (has been assigned a value) and false otherwise */
-    public boolean isSetNoteId() {
-      return this.noteId != null;
+    /** Returns true if field events is set (has been assigned a value) and false otherwise */
+    public boolean isSetEvents() {
+      return this.events != null;
     }
 
-    public void setNoteIdIsSet(boolean value) {
+    public void setEventsIsSet(boolean value) {
       if (!value) {
-        this.noteId = null;
+        this.events = null;
       }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case USER:
-        if (value == null) {
-          unsetUser();
-        } else {
-          setUser((java.lang.String)value);
-        }
-        break;
-
-      case NOTE_ID:
+      case EVENTS:
         if (value == null) {
-          unsetNoteId();
+          unsetEvents();
         } else {
-          setNoteId((java.lang.String)value);
+          setEvents((java.util.List<ParagraphProgressEvent>)value);
         }
         break;
 
@@ -14027,11 +22830,8 @@ public class RemoteInterpreterEventService {
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case USER:
-        return getUser();
-
-      case NOTE_ID:
-        return getNoteId();
+      case EVENTS:
+        return getEvents();
 
       }
       throw new java.lang.IllegalStateException();
@@ -14044,10 +22844,8 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case USER:
-        return isSetUser();
-      case NOTE_ID:
-        return isSetNoteId();
+      case EVENTS:
+        return isSetEvents();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -14056,32 +22854,23 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getParagraphList_args)
-        return this.equals((getParagraphList_args)that);
+      if (that instanceof updateParagraphProgress_args)
+        return this.equals((updateParagraphProgress_args)that);
       return false;
     }
 
-    public boolean equals(getParagraphList_args that) {
+    public boolean equals(updateParagraphProgress_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_user = true && this.isSetUser();
-      boolean that_present_user = true && that.isSetUser();
-      if (this_present_user || that_present_user) {
-        if (!(this_present_user && that_present_user))
-          return false;
-        if (!this.user.equals(that.user))
-          return false;
-      }
-
-      boolean this_present_noteId = true && this.isSetNoteId();
-      boolean that_present_noteId = true && that.isSetNoteId();
-      if (this_present_noteId || that_present_noteId) {
-        if (!(this_present_noteId && that_present_noteId))
+      boolean this_present_events = true && this.isSetEvents();
+      boolean that_present_events = true && that.isSetEvents();
+      if (this_present_events || that_present_events) {
+        if (!(this_present_events && that_present_events))
           return false;
-        if (!this.noteId.equals(that.noteId))
+        if (!this.events.equals(that.events))
           return false;
       }
 
@@ -14092,41 +22881,27 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetUser()) ? 131071 : 524287);
-      if (isSetUser())
-        hashCode = hashCode * 8191 + user.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetNoteId()) ? 131071 : 524287);
-      if (isSetNoteId())
-        hashCode = hashCode * 8191 + noteId.hashCode();
+      hashCode = hashCode * 8191 + ((isSetEvents()) ? 131071 : 524287);
+      if (isSetEvents())
+        hashCode = hashCode * 8191 + events.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(getParagraphList_args other) {
+    public int compareTo(updateParagraphProgress_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetUser()).compareTo(other.isSetUser());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetUser()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.user, other.user);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetNoteId()).compareTo(other.isSetNoteId());
+      lastComparison = java.lang.Boolean.valueOf(isSetEvents()).compareTo(other.isSetEvents());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetNoteId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.noteId, other.noteId);
+      if (isSetEvents()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.events, other.events);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -14149,22 +22924,14 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getParagraphList_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateParagraphProgress_args(");
       boolean first = true;
 
-      sb.append("user:");
-      if (this.user == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.user);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("noteId:");
-      if (this.noteId == null) {
+      sb.append("events:");
+      if (this.events == null) {
         sb.append("null");
       } else {
-        sb.append(this.noteId);
+        sb.append(this.events);
       }
       first = false;
       sb.append(")");
@@ -14192,15 +22959,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class getParagraphList_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getParagraphList_argsStandardScheme getScheme() {
-        return new getParagraphList_argsStandardScheme();
+    private static class updateParagraphProgress_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateParagraphProgress_argsStandardScheme getScheme() {
+        return new updateParagraphProgress_argsStandardScheme();
       }
     }
 
-    private static class getParagraphList_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getParagraphList_args> {
+    private static class updateParagraphProgress_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateParagraphProgress_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getParagraphList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateParagraphProgress_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14210,18 +22977,21 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // USER
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.user = iprot.readString();
-                struct.setUserIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // NOTE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.noteId = iprot.readString();
-                struct.setNoteIdIsSet(true);
+            case 1: // EVENTS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list56 = iprot.readListBegin();
+                  struct.events = new java.util.ArrayList<ParagraphProgressEvent>(_list56.size);
+                  @org.apache.thrift.annotation.Nullable ParagraphProgressEvent _elem57;
+                  for (int _i58 = 0; _i58 < _list56.size; ++_i58)
+                  {
+                    _elem57 = new ParagraphProgressEvent();
+                    _elem57.read(iprot);
+                    struct.events.add(_elem57);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setEventsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -14237,18 +23007,20 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getParagraphList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateParagraphProgress_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.user != null) {
-          oprot.writeFieldBegin(USER_FIELD_DESC);
-          oprot.writeString(struct.user);
-          oprot.writeFieldEnd();
-        }
-        if (struct.noteId != null) {
-          oprot.writeFieldBegin(NOTE_ID_FIELD_DESC);
-          oprot.writeString(struct.noteId);
+        if (struct.events != null) {
+          oprot.writeFieldBegin(EVENTS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.events.size()));
+            for (ParagraphProgressEvent _iter59 : struct.events)
+            {
+              _iter59.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -14257,44 +23029,50 @@ public class RemoteInterpreterEventService {
 
     }
 
-    private static class getParagraphList_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getParagraphList_argsTupleScheme getScheme() {
-        return new getParagraphList_argsTupleScheme();
+    private static class updateParagraphProgress_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateParagraphProgress_argsTupleScheme getScheme() {
+        return new updateParagraphProgress_argsTupleScheme();
       }
     }
 
-    private static class getParagraphList_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getParagraphList_args> {
+    private static class updateParagraphProgress_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateParagraphProgress_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getParagraphList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateParagraphProgress_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetUser()) {
+        if (struct.isSetEvents()) {
           optionals.set(0);
         }
-        if (struct.isSetNoteId()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetUser()) {
-          oprot.writeString(struct.user);
-        }
-        if (struct.isSetNoteId()) {
-          oprot.writeString(struct.noteId);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEvents()) {
+          {
+            oprot.writeI32(struct.events.size());
+            for (ParagraphProgressEvent _iter60 : struct.events)
+            {
+              _iter60.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getParagraphList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateParagraphProgress_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.user = iprot.readString();
-          struct.setUserIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.noteId = iprot.readString();
-          struct.setNoteIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list61 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.events = new java.util.ArrayList<ParagraphProgressEvent>(_list61.size);
+            @org.apache.thrift.annotation.Nullable ParagraphProgressEvent _elem62;
+            for (int _i63 = 0; _i63 < _list61.size; ++_i63)
+            {
+              _elem62 = new ParagraphProgressEvent();
+              _elem62.read(iprot);
+              struct.events.add(_elem62);
+            }
+          }
+          struct.setEventsIsSet(true);
         }
       }
     }
@@ -14304,22 +23082,17 @@ public class RemoteInterpreterEventService {
     }
   }
 
-  public static class getParagraphList_result implements org.apache.thrift.TBase<getParagraphList_result, getParagraphList_result._Fields>, java.io.Serializable, Cloneable, Comparable<getParagraphList_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getParagraphList_result");
+  public static class updateParagraphProgress_result implements org.apache.thrift.TBase<updateParagraphProgress_result, updateParagraphProgress_result._Fields>, java.io.Serializable, Cloneable, Comparable<updateParagraphProgress_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("updateParagraphProgress_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getParagraphList_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getParagraphList_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new updateParagraphProgress_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new updateParagraphProgress_resultTupleSchemeFactory();
 
-    public @org.apache.thrift.annotation.Nullable java.util.List<ParagraphInfo> success; // required
-    public @org.apache.thrift.annotation.Nullable ServiceException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      E((short)1, "e");
+;
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -14333,199 +23106,79 @@ public class RemoteInterpreterEventService {
        * Find the _Fields constant that matches fieldId, or null if its not found.
        */
       @org.apache.thrift.annotation.Nullable
-      public static _Fields findByThriftId(int fieldId) {
-        switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
-          case 1: // E
-            return E;
-          default:
-            return null;
-        }
-      }
-
-      /**
-       * Find the _Fields constant that matches fieldId, throwing an exception
-       * if it is not found.
-       */
-      public static _Fields findByThriftIdOrThrow(int fieldId) {
-        _Fields fields = findByThriftId(fieldId);
-        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
-        return fields;
-      }
-
-      /**
-       * Find the _Fields constant that matches name, or null if its not found.
-       */
-      @org.apache.thrift.annotation.Nullable
-      public static _Fields findByName(java.lang.String name) {
-        return byName.get(name);
-      }
-
-      private final short _thriftId;
-      private final java.lang.String _fieldName;
-
-      _Fields(short thriftId, java.lang.String fieldName) {
-        _thriftId = thriftId;
-        _fieldName = fieldName;
-      }
-
-      public short getThriftFieldId() {
-        return _thriftId;
-      }
-
-      public java.lang.String getFieldName() {
-        return _fieldName;
-      }
-    }
-
-    // isset id assignments
-    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-    static {
-      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ParagraphInfo.class))));
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ServiceException.class)));
-      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getParagraphList_result.class, metaDataMap);
-    }
-
-    public getParagraphList_result() {
-    }
-
-    public getParagraphList_result(
-      java.util.List<ParagraphInfo> success,
-      ServiceException e)
-    {
-      this();
-      this.success = success;
-      this.e = e;
-    }
-
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public getParagraphList_result(getParagraphList_result other) {
-      if (other.isSetSuccess()) {
-        java.util.List<ParagraphInfo> __this__success = new java.util.ArrayList<ParagraphInfo>(other.success.size());
-        for (ParagraphInfo other_element : other.success) {
-          __this__success.add(new ParagraphInfo(other_element));
-        }
-        this.success = __this__success;
-      }
-      if (other.isSetE()) {
-        this.e = new ServiceException(other.e);
-      }
-    }
-
-    public getParagraphList_result deepCopy() {
-      return new getParagraphList_result(this);
-    }
-
-    @Override
-    public void clear() {
-      this.success = null;
-      this.e = null;
-    }
-
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    @org.apache.thrift.annotation.Nullable
-    public java.util.Iterator<ParagraphInfo> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
 
-    public void addToSuccess(ParagraphInfo elem) {
-      if (this.success == null) {
-        this.success = new java.util.ArrayList<ParagraphInfo>();
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
       }
-      this.success.add(elem);
-    }
 
-    @org.apache.thrift.annotation.Nullable
-    public java.util.List<ParagraphInfo> getSuccess() {
-      return this.success;
-    }
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
 
-    public getParagraphList_result setSuccess(@org.apache.thrift.annotation.Nullable java.util.List<ParagraphInfo> success) {
-      this.success = success;
-      return this;
-    }
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
 
-    public void unsetSuccess() {
-      this.success = null;
-    }
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
-    }
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
 
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
+      public java.lang.String getFieldName() {
+        return _fieldName;
       }
     }
-
-    @org.apache.thrift.annotation.Nullable
-    public ServiceException getE() {
-      return this.e;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(updateParagraphProgress_result.class, metaDataMap);
     }
 
-    public getParagraphList_result setE(@org.apache.thrift.annotation.Nullable ServiceException e) {
-      this.e = e;
-      return this;
+    public updateParagraphProgress_result() {
     }
 
-    public void unsetE() {
-      this.e = null;
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public updateParagraphProgress_result(updateParagraphProgress_result other) {
     }
 
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
+    public updateParagraphProgress_result deepCopy() {
+      return new updateParagraphProgress_result(this);
     }
 
-    public void setEIsSet(boolean value) {
-      if (!value) {
-        this.e = null;
-      }
+    @Override
+    public void clear() {
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((java.util.List<ParagraphInfo>)value);
-        }
-        break;
-
-      case E:
-        if (value == null) {
-          unsetE();
-        } else {
-          setE((ServiceException)value);
-        }
-        break;
-
       }
     }
 
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
-      case E:
-        return getE();
-
       }
       throw new java.lang.IllegalStateException();
     }
@@ -14537,10 +23190,6 @@ public class RemoteInterpreterEventService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
-      case E:
-        return isSetE();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -14549,35 +23198,17 @@ public class RemoteInterpreterEventService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getParagraphList_result)
-        return this.equals((getParagraphList_result)that);
+      if (that instanceof updateParagraphProgress_result)
+        return this.equals((updateParagraphProgress_result)that);
       return false;
     }
 
-    public boolean equals(getParagraphList_result that) {
+    public boolean equals(updateParagraphProgress_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
-      boolean this_present_e = true && this.isSetE();
-      boolean that_present_e = true && that.isSetE();
-      if (this_present_e || that_present_e) {
-        if (!(this_present_e && that_present_e))
-          return false;
-        if (!this.e.equals(that.e))
-          return false;
-      }
-
       return true;
     }
 
@@ -14585,45 +23216,17 @@ public class RemoteInterpreterEventService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
-
-      hashCode = hashCode * 8191 + ((isSetE()) ? 131071 : 524287);
-      if (isSetE())
-        hashCode = hashCode * 8191 + e.hashCode();
-
       return hashCode;
     }
 
     @Override
-    public int compareTo(getParagraphList_result other) {
+    public int compareTo(updateParagraphProgress_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = java.lang.Boolean.valueOf(isSetE()).compareTo(other.isSetE());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -14642,24 +23245,9 @@ public class RemoteInterpreterEventService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getParagraphList_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("updateParagraphProgress_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("e:");
-      if (this.e == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.e);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -14685,15 +23273,15 @@ public class RemoteInterpreterEventService {
       }
     }
 
-    private static class getParagraphList_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getParagraphList_resultStandardScheme getScheme() {
-        return new getParagraphList_resultStandardScheme();
+    private static class updateParagraphProgress_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateParagraphProgress_resultStandardScheme getScheme() {
+        return new updateParagraphProgress_resultStandardScheme();
       }
     }
 
-    private static class getParagraphList_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getParagraphList_result> {
+    private static class updateParagraphProgress_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<updateParagraphProgress_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getParagraphList_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, updateParagraphProgress_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14703,34 +23291,6 @@ public class RemoteInterpreterEventService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list32 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<ParagraphInfo>(_list32.size);
-                  @org.apache.thrift.annotation.Nullable ParagraphInfo _elem33;
-                  for (int _i34 = 0; _i34 < _list32.size; ++_i34)
-                  {
-                    _elem33 = new ParagraphInfo();
-                    _elem33.read(iprot);
-                    struct.success.add(_elem33);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 1: // E
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new ServiceException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -14742,89 +23302,32 @@ public class RemoteInterpreterEventService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getParagraphList_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, updateParagraphProgress_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (ParagraphInfo _iter35 : struct.success)
-            {
-              _iter35.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
-          oprot.writeFieldEnd();
-        }
-        if (struct.e != null) {
-          oprot.writeFieldBegin(E_FIELD_DESC);
-          struct.e.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getParagraphList_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getParagraphList_resultTupleScheme getScheme() {
-        return new getParagraphList_resultTupleScheme();
+    private static class updateParagraphProgress_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public updateParagraphProgress_resultTupleScheme getScheme() {
+        return new updateParagraphProgress_resultTupleScheme();
       }
     }
 
-    private static class getParagraphList_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getParagraphList_result> {
+    private static class updateParagraphProgress_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<updateParagraphProgress_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getParagraphList_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, updateParagraphProgress_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
-        if (struct.isSetE()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (ParagraphInfo _iter36 : struct.success)
-            {
-              _iter36.write(oprot);
-            }
-          }
-        }
-        if (struct.isSetE()) {
-          struct.e.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getParagraphList_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, updateParagraphProgress_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
-        if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list37 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new java.util.ArrayList<ParagraphInfo>(_list37.size);
-            @org.apache.thrift.annotation.Nullable ParagraphInfo _elem38;
-            for (int _i39 = 0; _i39 < _list37.size; ++_i39)
-            {
-              _elem38 = new ParagraphInfo();
-              _elem38.read(iprot);
-              struct.success.add(_elem38);
-            }
-          }
-          struct.setSuccessIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.e = new ServiceException();
-          struct.e.read(iprot);
-          struct.setEIsSet(true);
-        }
       }
     }
 
@@ -24,7 +24,7 @@
 package org.apache.zeppelin.interpreter.thrift;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2020-01-07")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2026-10-19")
 public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteInterpreterResult, RemoteInterpreterResult._Fields>, java.io.Serializable, Cloneable, Comparable<RemoteInterpreterResult> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("RemoteInterpreterResult");
 
@@ -681,14 +681,14 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
           case 2: // MSG
             if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
               {
-                org.apache.thrift.protocol.TList _list10 = iprot.readListBegin();
-                struct.msg = new java.util.ArrayList<RemoteInterpreterResultMessage>(_list10.size);
-                @org.apache.thrift.annotation.Nullable RemoteInterpreterResultMessage _elem11;
-                for (int _i12 = 0; _i12 < _list10.size; ++_i12)
+                org.apache.thrift.protocol.TList _list20 = iprot.readListBegin();
+                struct.msg = new java.util.ArrayList<RemoteInterpreterResultMessage>(_list20.size);
+                @org.apache.thrift.annotation.Nullable RemoteInterpreterResultMessage _elem21;
+                for (int _i22 = 0; _i22 < _list20.size; ++_i22)
                 {
-                  _elem11 = new RemoteInterpreterResultMessage();
-                  _elem11.read(iprot);
-                  struct.msg.add(_elem11);
+                  _elem21 = new RemoteInterpreterResultMessage();
+                  _elem21.read(iprot);
+                  struct.msg.add(_elem21);
                 }
                 iprot.readListEnd();
               }
@@ -745,9 +745,9 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
         oprot.writeFieldBegin(MSG_FIELD_DESC);
         {
           oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.msg.size()));
-          for (RemoteInterpreterResultMessage _iter13 : struct.msg)
+          for (RemoteInterpreterResultMessage _iter23 : struct.msg)
           {
-            _iter13.write(oprot);
+            _iter23.write(oprot);
           }
           oprot.writeListEnd();
         }
@@ -808,9 +808,9 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
       if (struct.isSetMsg()) {
         {
           oprot.writeI32(struct.msg.size());
-          for (RemoteInterpreterResultMessage _iter14 : struct.msg)
+          for (RemoteInterpreterResultMessage _iter24 : struct.msg)
           {
-            _iter14.write(oprot);
+            _iter24.write(oprot);
           }
         }
       }
@@ -835,14 +835,14 @@ public class RemoteInterpreterResult implements org.apache.thrift.TBase<RemoteIn
       }
       if (incoming.get(1)) {
         {
-          org.apache.thrift.protocol.TList _list15 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-          struct.msg = new java.util.ArrayList<RemoteInterpreterResultMessage>(_list15.size);
-          @org.apache.thrift.annotation.Nullable RemoteInterpreterResultMessage _elem16;
-          for (int _i17 = 0; _i17 < _list15.size; ++_i17)
+          org.apache.thrift.protocol.TList _list25 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+          struct.msg = new java.util.ArrayList<RemoteInterpreterResultMessage>(_list25.size);
+          @org.apache.thrift.annotation.Nullable RemoteInterpreterResultMessage _elem26;
+          for (int _i27 = 0; _i27 < _list25.size; ++_i27)
           {
-            _elem16 = new RemoteInterpreterResultMessage();
-            _elem16.read(iprot);
-            struct.msg.add(_elem16);
+            _elem26 = new RemoteInterpreterResultMessage();
+            _elem26.read(iprot);
+            struct.msg.add(_elem26);
           }
         }
         struct.setMsgIsSet(true);
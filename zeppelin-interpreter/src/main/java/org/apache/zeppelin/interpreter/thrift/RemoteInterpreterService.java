@@ -24,7 +24,7 @@
 package org.apache.zeppelin.interpreter.thrift;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked", "unused"})
-@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2020-01-07")
+@javax.annotation.Generated(value = "Autogenerated by Thrift Compiler (0.13.0)", date = "2026-10-19")
 public class RemoteInterpreterService {
 
   public interface Iface {
@@ -35,15 +35,15 @@ public class RemoteInterpreterService {
 
     public void close(java.lang.String sessionId, java.lang.String className) throws org.apache.thrift.TException;
 
-    public RemoteInterpreterResult interpret(java.lang.String sessionId, java.lang.String className, java.lang.String st, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException;
+    public RemoteInterpreterResult interpret(java.lang.String sessionId, java.lang.String className, java.lang.String st, RemoteInterpreterContext interpreterContext) throws ContextSegmentNotFoundException, org.apache.thrift.TException;
 
-    public void cancel(java.lang.String sessionId, java.lang.String className, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException;
+    public void cancel(java.lang.String sessionId, java.lang.String className, RemoteInterpreterContext interpreterContext) throws ContextSegmentNotFoundException, org.apache.thrift.TException;
 
-    public int getProgress(java.lang.String sessionId, java.lang.String className, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException;
+    public int getProgress(java.lang.String sessionId, java.lang.String className, RemoteInterpreterContext interpreterContext) throws ContextSegmentNotFoundException, org.apache.thrift.TException;
 
     public java.lang.String getFormType(java.lang.String sessionId, java.lang.String className) throws org.apache.thrift.TException;
 
-    public java.util.List<InterpreterCompletion> completion(java.lang.String sessionId, java.lang.String className, java.lang.String buf, int cursor, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException;
+    public java.util.List<InterpreterCompletion> completion(java.lang.String sessionId, java.lang.String className, java.lang.String buf, int cursor, RemoteInterpreterContext interpreterContext) throws ContextSegmentNotFoundException, org.apache.thrift.TException;
 
     public void shutdown() throws org.apache.thrift.TException;
 
@@ -57,6 +57,14 @@ public class RemoteInterpreterService {
 
     public java.nio.ByteBuffer resourceInvokeMethod(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, java.lang.String invokeMessage) throws org.apache.thrift.TException;
 
+    public ResourceTransfer resourceOpenTransfer(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName) throws org.apache.thrift.TException;
+
+    public java.nio.ByteBuffer resourceReadTransfer(java.lang.String transferId, long offset, int length) throws org.apache.thrift.TException;
+
+    public void resourceCloseTransfer(java.lang.String transferId) throws org.apache.thrift.TException;
+
+    public void resourceInvalidate(java.lang.String resourceName) throws org.apache.thrift.TException;
+
     public void angularObjectUpdate(java.lang.String name, java.lang.String sessionId, java.lang.String paragraphId, java.lang.String object) throws org.apache.thrift.TException;
 
     public void angularObjectAdd(java.lang.String name, java.lang.String sessionId, java.lang.String paragraphId, java.lang.String object) throws org.apache.thrift.TException;
@@ -103,6 +111,14 @@ public class RemoteInterpreterService {
 
     public void resourceInvokeMethod(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, java.lang.String invokeMessage, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException;
 
+    public void resourceOpenTransfer(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, org.apache.thrift.async.AsyncMethodCallback<ResourceTransfer> resultHandler) throws org.apache.thrift.TException;
+
+    public void resourceReadTransfer(java.lang.String transferId, long offset, int length, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException;
+
+    public void resourceCloseTransfer(java.lang.String transferId, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
+    public void resourceInvalidate(java.lang.String resourceName, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
     public void angularObjectUpdate(java.lang.String name, java.lang.String sessionId, java.lang.String paragraphId, java.lang.String object, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
     public void angularObjectAdd(java.lang.String name, java.lang.String sessionId, java.lang.String paragraphId, java.lang.String object, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
@@ -205,7 +221,7 @@ public class RemoteInterpreterService {
       return;
     }
 
-    public RemoteInterpreterResult interpret(java.lang.String sessionId, java.lang.String className, java.lang.String st, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException
+    public RemoteInterpreterResult interpret(java.lang.String sessionId, java.lang.String className, java.lang.String st, RemoteInterpreterContext interpreterContext) throws ContextSegmentNotFoundException, org.apache.thrift.TException
     {
       send_interpret(sessionId, className, st, interpreterContext);
       return recv_interpret();
@@ -221,17 +237,20 @@ public class RemoteInterpreterService {
       sendBase("interpret", args);
     }
 
-    public RemoteInterpreterResult recv_interpret() throws org.apache.thrift.TException
+    public RemoteInterpreterResult recv_interpret() throws ContextSegmentNotFoundException, org.apache.thrift.TException
     {
       interpret_result result = new interpret_result();
       receiveBase(result, "interpret");
       if (result.isSetSuccess()) {
         return result.success;
       }
+      if (result.e != null) {
+        throw result.e;
+      }
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "interpret failed: unknown result");
     }
 
-    public void cancel(java.lang.String sessionId, java.lang.String className, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException
+    public void cancel(java.lang.String sessionId, java.lang.String className, RemoteInterpreterContext interpreterContext) throws ContextSegmentNotFoundException, org.apache.thrift.TException
     {
       send_cancel(sessionId, className, interpreterContext);
       recv_cancel();
@@ -246,14 +265,17 @@ public class RemoteInterpreterService {
       sendBase("cancel", args);
     }
 
-    public void recv_cancel() throws org.apache.thrift.TException
+    public void recv_cancel() throws ContextSegmentNotFoundException, org.apache.thrift.TException
     {
       cancel_result result = new cancel_result();
       receiveBase(result, "cancel");
+      if (result.e != null) {
+        throw result.e;
+      }
       return;
     }
 
-    public int getProgress(java.lang.String sessionId, java.lang.String className, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException
+    public int getProgress(java.lang.String sessionId, java.lang.String className, RemoteInterpreterContext interpreterContext) throws ContextSegmentNotFoundException, org.apache.thrift.TException
     {
       send_getProgress(sessionId, className, interpreterContext);
       return recv_getProgress();
@@ -268,13 +290,16 @@ public class RemoteInterpreterService {
       sendBase("getProgress", args);
     }
 
-    public int recv_getProgress() throws org.apache.thrift.TException
+    public int recv_getProgress() throws ContextSegmentNotFoundException, org.apache.thrift.TException
     {
       getProgress_result result = new getProgress_result();
       receiveBase(result, "getProgress");
       if (result.isSetSuccess()) {
         return result.success;
       }
+      if (result.e != null) {
+        throw result.e;
+      }
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getProgress failed: unknown result");
     }
 
@@ -302,7 +327,7 @@ public class RemoteInterpreterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getFormType failed: unknown result");
     }
 
-    public java.util.List<InterpreterCompletion> completion(java.lang.String sessionId, java.lang.String className, java.lang.String buf, int cursor, RemoteInterpreterContext interpreterContext) throws org.apache.thrift.TException
+    public java.util.List<InterpreterCompletion> completion(java.lang.String sessionId, java.lang.String className, java.lang.String buf, int cursor, RemoteInterpreterContext interpreterContext) throws ContextSegmentNotFoundException, org.apache.thrift.TException
     {
       send_completion(sessionId, className, buf, cursor, interpreterContext);
       return recv_completion();
@@ -319,13 +344,16 @@ public class RemoteInterpreterService {
       sendBase("completion", args);
     }
 
-    public java.util.List<InterpreterCompletion> recv_completion() throws org.apache.thrift.TException
+    public java.util.List<InterpreterCompletion> recv_completion() throws ContextSegmentNotFoundException, org.apache.thrift.TException
     {
       completion_result result = new completion_result();
       receiveBase(result, "completion");
       if (result.isSetSuccess()) {
         return result.success;
       }
+      if (result.e != null) {
+        throw result.e;
+      }
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "completion failed: unknown result");
     }
 
@@ -470,6 +498,96 @@ public class RemoteInterpreterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "resourceInvokeMethod failed: unknown result");
     }
 
+    public ResourceTransfer resourceOpenTransfer(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName) throws org.apache.thrift.TException
+    {
+      send_resourceOpenTransfer(sessionId, paragraphId, resourceName);
+      return recv_resourceOpenTransfer();
+    }
+
+    public void send_resourceOpenTransfer(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName) throws org.apache.thrift.TException
+    {
+      resourceOpenTransfer_args args = new resourceOpenTransfer_args();
+      args.setSessionId(sessionId);
+      args.setParagraphId(paragraphId);
+      args.setResourceName(resourceName);
+      sendBase("resourceOpenTransfer", args);
+    }
+
+    public ResourceTransfer recv_resourceOpenTransfer() throws org.apache.thrift.TException
+    {
+      resourceOpenTransfer_result result = new resourceOpenTransfer_result();
+      receiveBase(result, "resourceOpenTransfer");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "resourceOpenTransfer failed: unknown result");
+    }
+
+    public java.nio.ByteBuffer resourceReadTransfer(java.lang.String transferId, long offset, int length) throws org.apache.thrift.TException
+    {
+      send_resourceReadTransfer(transferId, offset, length);
+      return recv_resourceReadTransfer();
+    }
+
+    public void send_resourceReadTransfer(java.lang.String transferId, long offset, int length) throws org.apache.thrift.TException
+    {
+      resourceReadTransfer_args args = new resourceReadTransfer_args();
+      args.setTransferId(transferId);
+      args.setOffset(offset);
+      args.setLength(length);
+      sendBase("resourceReadTransfer", args);
+    }
+
+    public java.nio.ByteBuffer recv_resourceReadTransfer() throws org.apache.thrift.TException
+    {
+      resourceReadTransfer_result result = new resourceReadTransfer_result();
+      receiveBase(result, "resourceReadTransfer");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "resourceReadTransfer failed: unknown result");
+    }
+
+    public void resourceCloseTransfer(java.lang.String transferId) throws org.apache.thrift.TException
+    {
+      send_resourceCloseTransfer(transferId);
+      recv_resourceCloseTransfer();
+    }
+
+    public void send_resourceCloseTransfer(java.lang.String transferId) throws org.apache.thrift.TException
+    {
+      resourceCloseTransfer_args args = new resourceCloseTransfer_args();
+      args.setTransferId(transferId);
+      sendBase("resourceCloseTransfer", args);
+    }
+
+    public void recv_resourceCloseTransfer() throws org.apache.thrift.TException
+    {
+      resourceCloseTransfer_result result = new resourceCloseTransfer_result();
+      receiveBase(result, "resourceCloseTransfer");
+      return;
+    }
+
+    public void resourceInvalidate(java.lang.String resourceName) throws org.apache.thrift.TException
+    {
+      send_resourceInvalidate(resourceName);
+      recv_resourceInvalidate();
+    }
+
+    public void send_resourceInvalidate(java.lang.String resourceName) throws org.apache.thrift.TException
+    {
+      resourceInvalidate_args args = new resourceInvalidate_args();
+      args.setResourceName(resourceName);
+      sendBase("resourceInvalidate", args);
+    }
+
+    public void recv_resourceInvalidate() throws org.apache.thrift.TException
+    {
+      resourceInvalidate_result result = new resourceInvalidate_result();
+      receiveBase(result, "resourceInvalidate");
+      return;
+    }
+
     public void angularObjectUpdate(java.lang.String name, java.lang.String sessionId, java.lang.String paragraphId, java.lang.String object) throws org.apache.thrift.TException
     {
       send_angularObjectUpdate(name, sessionId, paragraphId, object);
@@ -793,7 +911,7 @@ public class RemoteInterpreterService {
         prot.writeMessageEnd();
       }
 
-      public RemoteInterpreterResult getResult() throws org.apache.thrift.TException {
+      public RemoteInterpreterResult getResult() throws ContextSegmentNotFoundException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new java.lang.IllegalStateException("Method call not finished!");
         }
@@ -831,7 +949,7 @@ public class RemoteInterpreterService {
         prot.writeMessageEnd();
       }
 
-      public Void getResult() throws org.apache.thrift.TException {
+      public Void getResult() throws ContextSegmentNotFoundException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new java.lang.IllegalStateException("Method call not finished!");
         }
@@ -869,7 +987,7 @@ public class RemoteInterpreterService {
         prot.writeMessageEnd();
       }
 
-      public java.lang.Integer getResult() throws org.apache.thrift.TException {
+      public java.lang.Integer getResult() throws ContextSegmentNotFoundException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new java.lang.IllegalStateException("Method call not finished!");
         }
@@ -948,7 +1066,7 @@ public class RemoteInterpreterService {
         prot.writeMessageEnd();
       }
 
-      public java.util.List<InterpreterCompletion> getResult() throws org.apache.thrift.TException {
+      public java.util.List<InterpreterCompletion> getResult() throws ContextSegmentNotFoundException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new java.lang.IllegalStateException("Method call not finished!");
         }
@@ -1168,6 +1286,146 @@ public class RemoteInterpreterService {
       }
     }
 
+    public void resourceOpenTransfer(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, org.apache.thrift.async.AsyncMethodCallback<ResourceTransfer> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      resourceOpenTransfer_call method_call = new resourceOpenTransfer_call(sessionId, paragraphId, resourceName, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class resourceOpenTransfer_call extends org.apache.thrift.async.TAsyncMethodCall<ResourceTransfer> {
+      private java.lang.String sessionId;
+      private java.lang.String paragraphId;
+      private java.lang.String resourceName;
+      public resourceOpenTransfer_call(java.lang.String sessionId, java.lang.String paragraphId, java.lang.String resourceName, org.apache.thrift.async.AsyncMethodCallback<ResourceTransfer> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.sessionId = sessionId;
+        this.paragraphId = paragraphId;
+        this.resourceName = resourceName;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("resourceOpenTransfer", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        resourceOpenTransfer_args args = new resourceOpenTransfer_args();
+        args.setSessionId(sessionId);
+        args.setParagraphId(paragraphId);
+        args.setResourceName(resourceName);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ResourceTransfer getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_resourceOpenTransfer();
+      }
+    }
+
+    public void resourceReadTransfer(java.lang.String transferId, long offset, int length, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      resourceReadTransfer_call method_call = new resourceReadTransfer_call(transferId, offset, length, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class resourceReadTransfer_call extends org.apache.thrift.async.TAsyncMethodCall<java.nio.ByteBuffer> {
+      private java.lang.String transferId;
+      private long offset;
+      private int length;
+      public resourceReadTransfer_call(java.lang.String transferId, long offset, int length, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.transferId = transferId;
+        this.offset = offset;
+        this.length = length;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("resourceReadTransfer", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        resourceReadTransfer_args args = new resourceReadTransfer_args();
+        args.setTransferId(transferId);
+        args.setOffset(offset);
+        args.setLength(length);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.nio.ByteBuffer getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_resourceReadTransfer();
+      }
+    }
+
+    public void resourceCloseTransfer(java.lang.String transferId, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      resourceCloseTransfer_call method_call = new resourceCloseTransfer_call(transferId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class resourceCloseTransfer_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.lang.String transferId;
+      public resourceCloseTransfer_call(java.lang.String transferId, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.transferId = transferId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("resourceCloseTransfer", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        resourceCloseTransfer_args args = new resourceCloseTransfer_args();
+        args.setTransferId(transferId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
+    public void resourceInvalidate(java.lang.String resourceName, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      resourceInvalidate_call method_call = new resourceInvalidate_call(resourceName, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class resourceInvalidate_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private java.lang.String resourceName;
+      public resourceInvalidate_call(java.lang.String resourceName, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.resourceName = resourceName;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("resourceInvalidate", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        resourceInvalidate_args args = new resourceInvalidate_args();
+        args.setResourceName(resourceName);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
     public void angularObjectUpdate(java.lang.String name, java.lang.String sessionId, java.lang.String paragraphId, java.lang.String object, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       angularObjectUpdate_call method_call = new angularObjectUpdate_call(name, sessionId, paragraphId, object, resultHandler, this, ___protocolFactory, ___transport);
@@ -1452,6 +1710,10 @@ public class RemoteInterpreterService {
       processMap.put("resourceGet", new resourceGet());
       processMap.put("resourceRemove", new resourceRemove());
       processMap.put("resourceInvokeMethod", new resourceInvokeMethod());
+      processMap.put("resourceOpenTransfer", new resourceOpenTransfer());
+      processMap.put("resourceReadTransfer", new resourceReadTransfer());
+      processMap.put("resourceCloseTransfer", new resourceCloseTransfer());
+      processMap.put("resourceInvalidate", new resourceInvalidate());
       processMap.put("angularObjectUpdate", new angularObjectUpdate());
       processMap.put("angularObjectAdd", new angularObjectAdd());
       processMap.put("angularObjectRemove", new angularObjectRemove());
@@ -1557,7 +1819,11 @@ public class RemoteInterpreterService {
 
       public interpret_result getResult(I iface, interpret_args args) throws org.apache.thrift.TException {
         interpret_result result = new interpret_result();
-        result.success = iface.interpret(args.sessionId, args.className, args.st, args.interpreterContext);
+        try {
+          result.success = iface.interpret(args.sessionId, args.className, args.st, args.interpreterContext);
+        } catch (ContextSegmentNotFoundException e) {
+          result.e = e;
+        }
         return result;
       }
     }
@@ -1582,7 +1848,11 @@ public class RemoteInterpreterService {
 
       public cancel_result getResult(I iface, cancel_args args) throws org.apache.thrift.TException {
         cancel_result result = new cancel_result();
-        iface.cancel(args.sessionId, args.className, args.interpreterContext);
+        try {
+          iface.cancel(args.sessionId, args.className, args.interpreterContext);
+        } catch (ContextSegmentNotFoundException e) {
+          result.e = e;
+        }
         return result;
       }
     }
@@ -1607,8 +1877,12 @@ public class RemoteInterpreterService {
 
       public getProgress_result getResult(I iface, getProgress_args args) throws org.apache.thrift.TException {
         getProgress_result result = new getProgress_result();
-        result.success = iface.getProgress(args.sessionId, args.className, args.interpreterContext);
-        result.setSuccessIsSet(true);
+        try {
+          result.success = iface.getProgress(args.sessionId, args.className, args.interpreterContext);
+          result.setSuccessIsSet(true);
+        } catch (ContextSegmentNotFoundException e) {
+          result.e = e;
+        }
         return result;
       }
     }
@@ -1658,7 +1932,11 @@ public class RemoteInterpreterService {
 
       public completion_result getResult(I iface, completion_args args) throws org.apache.thrift.TException {
         completion_result result = new completion_result();
-        result.success = iface.completion(args.sessionId, args.className, args.buf, args.cursor, args.interpreterContext);
+        try {
+          result.success = iface.completion(args.sessionId, args.className, args.buf, args.cursor, args.interpreterContext);
+        } catch (ContextSegmentNotFoundException e) {
+          result.e = e;
+        }
         return result;
       }
     }
@@ -1814,6 +2092,106 @@ public class RemoteInterpreterService {
       }
     }
 
+    public static class resourceOpenTransfer<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceOpenTransfer_args> {
+      public resourceOpenTransfer() {
+        super("resourceOpenTransfer");
+      }
+
+      public resourceOpenTransfer_args getEmptyArgsInstance() {
+        return new resourceOpenTransfer_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public resourceOpenTransfer_result getResult(I iface, resourceOpenTransfer_args args) throws org.apache.thrift.TException {
+        resourceOpenTransfer_result result = new resourceOpenTransfer_result();
+        result.success = iface.resourceOpenTransfer(args.sessionId, args.paragraphId, args.resourceName);
+        return result;
+      }
+    }
+
+    public static class resourceReadTransfer<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceReadTransfer_args> {
+      public resourceReadTransfer() {
+        super("resourceReadTransfer");
+      }
+
+      public resourceReadTransfer_args getEmptyArgsInstance() {
+        return new resourceReadTransfer_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public resourceReadTransfer_result getResult(I iface, resourceReadTransfer_args args) throws org.apache.thrift.TException {
+        resourceReadTransfer_result result = new resourceReadTransfer_result();
+        result.success = iface.resourceReadTransfer(args.transferId, args.offset, args.length);
+        return result;
+      }
+    }
+
+    public static class resourceCloseTransfer<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceCloseTransfer_args> {
+      public resourceCloseTransfer() {
+        super("resourceCloseTransfer");
+      }
+
+      public resourceCloseTransfer_args getEmptyArgsInstance() {
+        return new resourceCloseTransfer_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public resourceCloseTransfer_result getResult(I iface, resourceCloseTransfer_args args) throws org.apache.thrift.TException {
+        resourceCloseTransfer_result result = new resourceCloseTransfer_result();
+        iface.resourceCloseTransfer(args.transferId);
+        return result;
+      }
+    }
+
+    public static class resourceInvalidate<I extends Iface> extends org.apache.thrift.ProcessFunction<I, resourceInvalidate_args> {
+      public resourceInvalidate() {
+        super("resourceInvalidate");
+      }
+
+      public resourceInvalidate_args getEmptyArgsInstance() {
+        return new resourceInvalidate_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean rethrowUnhandledExceptions() {
+        return false;
+      }
+
+      public resourceInvalidate_result getResult(I iface, resourceInvalidate_args args) throws org.apache.thrift.TException {
+        resourceInvalidate_result result = new resourceInvalidate_result();
+        iface.resourceInvalidate(args.resourceName);
+        return result;
+      }
+    }
+
     public static class angularObjectUpdate<I extends Iface> extends org.apache.thrift.ProcessFunction<I, angularObjectUpdate_args> {
       public angularObjectUpdate() {
         super("angularObjectUpdate");
@@ -2016,6 +2394,10 @@ public class RemoteInterpreterService {
       processMap.put("resourceGet", new resourceGet());
       processMap.put("resourceRemove", new resourceRemove());
       processMap.put("resourceInvokeMethod", new resourceInvokeMethod());
+      processMap.put("resourceOpenTransfer", new resourceOpenTransfer());
+      processMap.put("resourceReadTransfer", new resourceReadTransfer());
+      processMap.put("resourceCloseTransfer", new resourceCloseTransfer());
+      processMap.put("resourceInvalidate", new resourceInvalidate());
       processMap.put("angularObjectUpdate", new angularObjectUpdate());
       processMap.put("angularObjectAdd", new angularObjectAdd());
       processMap.put("angularObjectRemove", new angularObjectRemove());
@@ -2235,7 +2617,11 @@ public class RemoteInterpreterService {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
             interpret_result result = new interpret_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
+            if (e instanceof ContextSegmentNotFoundException) {
+              result.e = (ContextSegmentNotFoundException) e;
+              result.setEIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
               return;
@@ -2295,7 +2681,11 @@ public class RemoteInterpreterService {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
             cancel_result result = new cancel_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
+            if (e instanceof ContextSegmentNotFoundException) {
+              result.e = (ContextSegmentNotFoundException) e;
+              result.setEIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
               return;
@@ -2357,7 +2747,11 @@ public class RemoteInterpreterService {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
             getProgress_result result = new getProgress_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
+            if (e instanceof ContextSegmentNotFoundException) {
+              result.e = (ContextSegmentNotFoundException) e;
+              result.setEIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
               return;
@@ -2479,7 +2873,11 @@ public class RemoteInterpreterService {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
             completion_result result = new completion_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
+            if (e instanceof ContextSegmentNotFoundException) {
+              result.e = (ContextSegmentNotFoundException) e;
+              result.setEIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
               return;
@@ -2877,20 +3275,21 @@ public class RemoteInterpreterService {
       }
     }
 
-    public static class angularObjectUpdate<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, angularObjectUpdate_args, Void> {
-      public angularObjectUpdate() {
-        super("angularObjectUpdate");
+    public static class resourceOpenTransfer<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceOpenTransfer_args, ResourceTransfer> {
+      public resourceOpenTransfer() {
+        super("resourceOpenTransfer");
       }
 
-      public angularObjectUpdate_args getEmptyArgsInstance() {
-        return new angularObjectUpdate_args();
+      public resourceOpenTransfer_args getEmptyArgsInstance() {
+        return new resourceOpenTransfer_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<ResourceTransfer> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            angularObjectUpdate_result result = new angularObjectUpdate_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<ResourceTransfer>() { 
+          public void onComplete(ResourceTransfer o) {
+            resourceOpenTransfer_result result = new resourceOpenTransfer_result();
+            result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
             } catch (org.apache.thrift.transport.TTransportException e) {
@@ -2904,7 +3303,7 @@ public class RemoteInterpreterService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            angularObjectUpdate_result result = new angularObjectUpdate_result();
+            resourceOpenTransfer_result result = new resourceOpenTransfer_result();
             if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
@@ -2932,17 +3331,258 @@ public class RemoteInterpreterService {
         return false;
       }
 
-      public void start(I iface, angularObjectUpdate_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
-        iface.angularObjectUpdate(args.name, args.sessionId, args.paragraphId, args.object,resultHandler);
+      public void start(I iface, resourceOpenTransfer_args args, org.apache.thrift.async.AsyncMethodCallback<ResourceTransfer> resultHandler) throws org.apache.thrift.TException {
+        iface.resourceOpenTransfer(args.sessionId, args.paragraphId, args.resourceName,resultHandler);
       }
     }
 
-    public static class angularObjectAdd<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, angularObjectAdd_args, Void> {
-      public angularObjectAdd() {
-        super("angularObjectAdd");
+    public static class resourceReadTransfer<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceReadTransfer_args, java.nio.ByteBuffer> {
+      public resourceReadTransfer() {
+        super("resourceReadTransfer");
       }
 
-      public angularObjectAdd_args getEmptyArgsInstance() {
+      public resourceReadTransfer_args getEmptyArgsInstance() {
+        return new resourceReadTransfer_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer>() { 
+          public void onComplete(java.nio.ByteBuffer o) {
+            resourceReadTransfer_result result = new resourceReadTransfer_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            resourceReadTransfer_result result = new resourceReadTransfer_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, resourceReadTransfer_args args, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
+        iface.resourceReadTransfer(args.transferId, args.offset, args.length,resultHandler);
+      }
+    }
+
+    public static class resourceCloseTransfer<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceCloseTransfer_args, Void> {
+      public resourceCloseTransfer() {
+        super("resourceCloseTransfer");
+      }
+
+      public resourceCloseTransfer_args getEmptyArgsInstance() {
+        return new resourceCloseTransfer_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            resourceCloseTransfer_result result = new resourceCloseTransfer_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            resourceCloseTransfer_result result = new resourceCloseTransfer_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, resourceCloseTransfer_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.resourceCloseTransfer(args.transferId,resultHandler);
+      }
+    }
+
+    public static class resourceInvalidate<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, resourceInvalidate_args, Void> {
+      public resourceInvalidate() {
+        super("resourceInvalidate");
+      }
+
+      public resourceInvalidate_args getEmptyArgsInstance() {
+        return new resourceInvalidate_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            resourceInvalidate_result result = new resourceInvalidate_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            resourceInvalidate_result result = new resourceInvalidate_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, resourceInvalidate_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.resourceInvalidate(args.resourceName,resultHandler);
+      }
+    }
+
+    public static class angularObjectUpdate<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, angularObjectUpdate_args, Void> {
+      public angularObjectUpdate() {
+        super("angularObjectUpdate");
+      }
+
+      public angularObjectUpdate_args getEmptyArgsInstance() {
+        return new angularObjectUpdate_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            angularObjectUpdate_result result = new angularObjectUpdate_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            angularObjectUpdate_result result = new angularObjectUpdate_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, angularObjectUpdate_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.angularObjectUpdate(args.name, args.sessionId, args.paragraphId, args.object,resultHandler);
+      }
+    }
+
+    public static class angularObjectAdd<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, angularObjectAdd_args, Void> {
+      public angularObjectAdd() {
+        super("angularObjectAdd");
+      }
+
+      public angularObjectAdd_args getEmptyArgsInstance() {
         return new angularObjectAdd_args();
       }
 
@@ -3967,15 +4607,15 @@ public class RemoteInterpreterService {
             case 4: // PROPERTIES
               if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
                 {
-                  org.apache.thrift.protocol.TMap _map18 = iprot.readMapBegin();
-                  struct.properties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map18.size);
-                  @org.apache.thrift.annotation.Nullable java.lang.String _key19;
-                  @org.apache.thrift.annotation.Nullable java.lang.String _val20;
-                  for (int _i21 = 0; _i21 < _map18.size; ++_i21)
+                  org.apache.thrift.protocol.TMap _map28 = iprot.readMapBegin();
+                  struct.properties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map28.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _key29;
+                  @org.apache.thrift.annotation.Nullable java.lang.String _val30;
+                  for (int _i31 = 0; _i31 < _map28.size; ++_i31)
                   {
-                    _key19 = iprot.readString();
-                    _val20 = iprot.readString();
-                    struct.properties.put(_key19, _val20);
+                    _key29 = iprot.readString();
+                    _val30 = iprot.readString();
+                    struct.properties.put(_key29, _val30);
                   }
                   iprot.readMapEnd();
                 }
@@ -4026,10 +4666,10 @@ public class RemoteInterpreterService {
           oprot.writeFieldBegin(PROPERTIES_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, struct.properties.size()));
-            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter22 : struct.properties.entrySet())
+            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter32 : struct.properties.entrySet())
             {
-              oprot.writeString(_iter22.getKey());
-              oprot.writeString(_iter22.getValue());
+              oprot.writeString(_iter32.getKey());
+              oprot.writeString(_iter32.getValue());
             }
             oprot.writeMapEnd();
           }
@@ -4086,10 +4726,10 @@ public class RemoteInterpreterService {
         if (struct.isSetProperties()) {
           {
             oprot.writeI32(struct.properties.size());
-            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter23 : struct.properties.entrySet())
+            for (java.util.Map.Entry<java.lang.String, java.lang.String> _iter33 : struct.properties.entrySet())
             {
-              oprot.writeString(_iter23.getKey());
-              oprot.writeString(_iter23.getValue());
+              oprot.writeString(_iter33.getKey());
+              oprot.writeString(_iter33.getValue());
             }
           }
         }
@@ -4116,15 +4756,15 @@ public class RemoteInterpreterService {
         }
         if (incoming.get(3)) {
           {
-            org.apache.thrift.protocol.TMap _map24 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.properties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map24.size);
-            @org.apache.thrift.annotation.Nullable java.lang.String _key25;
-            @org.apache.thrift.annotation.Nullable java.lang.String _val26;
-            for (int _i27 = 0; _i27 < _map24.size; ++_i27)
+            org.apache.thrift.protocol.TMap _map34 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.properties = new java.util.HashMap<java.lang.String,java.lang.String>(2*_map34.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _key35;
+            @org.apache.thrift.annotation.Nullable java.lang.String _val36;
+            for (int _i37 = 0; _i37 < _map34.size; ++_i37)
             {
-              _key25 = iprot.readString();
-              _val26 = iprot.readString();
-              struct.properties.put(_key25, _val26);
+              _key35 = iprot.readString();
+              _val36 = iprot.readString();
+              struct.properties.put(_key35, _val36);
             }
           }
           struct.setPropertiesIsSet(true);
@@ -6538,15 +7178,18 @@ public class RemoteInterpreterService {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("interpret_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new interpret_resultStandardSchemeFactory();
     private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new interpret_resultTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable RemoteInterpreterResult success; // required
+    public @org.apache.thrift.annotation.Nullable ContextSegmentNotFoundException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -6564,6 +7207,8 @@ public class RemoteInterpreterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
+          case 1: // E
+            return E;
           default:
             return null;
         }
@@ -6610,6 +7255,8 @@ public class RemoteInterpreterService {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RemoteInterpreterResult.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ContextSegmentNotFoundException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(interpret_result.class, metaDataMap);
     }
@@ -6618,10 +7265,12 @@ public class RemoteInterpreterService {
     }
 
     public interpret_result(
-      RemoteInterpreterResult success)
+      RemoteInterpreterResult success,
+      ContextSegmentNotFoundException e)
     {
       this();
       this.success = success;
+      this.e = e;
     }
 
     /**
@@ -6631,6 +7280,9 @@ public class RemoteInterpreterService {
       if (other.isSetSuccess()) {
         this.success = new RemoteInterpreterResult(other.success);
       }
+      if (other.isSetE()) {
+        this.e = new ContextSegmentNotFoundException(other.e);
+      }
     }
 
     public interpret_result deepCopy() {
@@ -6640,6 +7292,7 @@ public class RemoteInterpreterService {
     @Override
     public void clear() {
       this.success = null;
+      this.e = null;
     }
 
     @org.apache.thrift.annotation.Nullable
@@ -6667,6 +7320,31 @@ public class RemoteInterpreterService {
       }
     }
 
+    @org.apache.thrift.annotation.Nullable
+    public ContextSegmentNotFoundException getE() {
+      return this.e;
+    }
+
+    public interpret_result setE(@org.apache.thrift.annotation.Nullable ContextSegmentNotFoundException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
       case SUCCESS:
@@ -6677,6 +7355,14 @@ public class RemoteInterpreterService {
         }
         break;
 
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((ContextSegmentNotFoundException)value);
+        }
+        break;
+
       }
     }
 
@@ -6686,6 +7372,9 @@ public class RemoteInterpreterService {
       case SUCCESS:
         return getSuccess();
 
+      case E:
+        return getE();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -6699,6 +7388,8 @@ public class RemoteInterpreterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case E:
+        return isSetE();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -6727,6 +7418,15 @@ public class RemoteInterpreterService {
           return false;
       }
 
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
       return true;
     }
 
@@ -6738,6 +7438,10 @@ public class RemoteInterpreterService {
       if (isSetSuccess())
         hashCode = hashCode * 8191 + success.hashCode();
 
+      hashCode = hashCode * 8191 + ((isSetE()) ? 131071 : 524287);
+      if (isSetE())
+        hashCode = hashCode * 8191 + e.hashCode();
+
       return hashCode;
     }
 
@@ -6759,6 +7463,16 @@ public class RemoteInterpreterService {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -6787,10 +7501,18 @@ public class RemoteInterpreterService {
         sb.append(this.success);
       }
       first = false;
-      sb.append(")");
-      return sb.toString();
-    }
-
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
@@ -6842,6 +7564,15 @@ public class RemoteInterpreterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new ContextSegmentNotFoundException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -6862,6 +7593,11 @@ public class RemoteInterpreterService {
           struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
@@ -6883,21 +7619,32 @@ public class RemoteInterpreterService {
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
           struct.success.write(oprot);
         }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
       }
 
       @Override
       public void read(org.apache.thrift.protocol.TProtocol prot, interpret_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.success = new RemoteInterpreterResult();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.e = new ContextSegmentNotFoundException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
       }
     }
 
@@ -7491,14 +8238,16 @@ public class RemoteInterpreterService {
   public static class cancel_result implements org.apache.thrift.TBase<cancel_result, cancel_result._Fields>, java.io.Serializable, Cloneable, Comparable<cancel_result>   {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancel_result");
 
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new cancel_resultStandardSchemeFactory();
     private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new cancel_resultTupleSchemeFactory();
 
+    public @org.apache.thrift.annotation.Nullable ContextSegmentNotFoundException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      E((short)1, "e");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -7514,6 +8263,8 @@ public class RemoteInterpreterService {
       @org.apache.thrift.annotation.Nullable
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // E
+            return E;
           default:
             return null;
         }
@@ -7553,9 +8304,13 @@ public class RemoteInterpreterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ContextSegmentNotFoundException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancel_result.class, metaDataMap);
     }
@@ -7563,10 +8318,20 @@ public class RemoteInterpreterService {
     public cancel_result() {
     }
 
+    public cancel_result(
+      ContextSegmentNotFoundException e)
+    {
+      this();
+      this.e = e;
+    }
+
     /**
      * Performs a deep copy on <i>other</i>.
      */
     public cancel_result(cancel_result other) {
+      if (other.isSetE()) {
+        this.e = new ContextSegmentNotFoundException(other.e);
+      }
     }
 
     public cancel_result deepCopy() {
@@ -7575,16 +8340,53 @@ public class RemoteInterpreterService {
 
     @Override
     public void clear() {
+      this.e = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ContextSegmentNotFoundException getE() {
+      return this.e;
+    }
+
+    public cancel_result setE(@org.apache.thrift.annotation.Nullable ContextSegmentNotFoundException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
     }
 
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((ContextSegmentNotFoundException)value);
+        }
+        break;
+
       }
     }
 
     @org.apache.thrift.annotation.Nullable
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case E:
+        return getE();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -7596,6 +8398,8 @@ public class RemoteInterpreterService {
       }
 
       switch (field) {
+      case E:
+        return isSetE();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -7615,6 +8419,15 @@ public class RemoteInterpreterService {
       if (this == that)
         return true;
 
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
       return true;
     }
 
@@ -7622,6 +8435,10 @@ public class RemoteInterpreterService {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetE()) ? 131071 : 524287);
+      if (isSetE())
+        hashCode = hashCode * 8191 + e.hashCode();
+
       return hashCode;
     }
 
@@ -7633,6 +8450,16 @@ public class RemoteInterpreterService {
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -7654,6 +8481,13 @@ public class RemoteInterpreterService {
       java.lang.StringBuilder sb = new java.lang.StringBuilder("cancel_result(");
       boolean first = true;
 
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -7697,6 +8531,15 @@ public class RemoteInterpreterService {
             break;
           }
           switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new ContextSegmentNotFoundException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -7712,6 +8555,11 @@ public class RemoteInterpreterService {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
@@ -7729,11 +8577,25 @@ public class RemoteInterpreterService {
       @Override
       public void write(org.apache.thrift.protocol.TProtocol prot, cancel_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
       }
 
       @Override
       public void read(org.apache.thrift.protocol.TProtocol prot, cancel_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.e = new ContextSegmentNotFoundException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
       }
     }
 
@@ -8328,15 +9190,18 @@ public class RemoteInterpreterService {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getProgress_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getProgress_resultStandardSchemeFactory();
     private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getProgress_resultTupleSchemeFactory();
 
     public int success; // required
+    public @org.apache.thrift.annotation.Nullable ContextSegmentNotFoundException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -8354,6 +9219,8 @@ public class RemoteInterpreterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
+          case 1: // E
+            return E;
           default:
             return null;
         }
@@ -8402,6 +9269,8 @@ public class RemoteInterpreterService {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ContextSegmentNotFoundException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getProgress_result.class, metaDataMap);
     }
@@ -8410,11 +9279,13 @@ public class RemoteInterpreterService {
     }
 
     public getProgress_result(
-      int success)
+      int success,
+      ContextSegmentNotFoundException e)
     {
       this();
       this.success = success;
       setSuccessIsSet(true);
+      this.e = e;
     }
 
     /**
@@ -8423,6 +9294,9 @@ public class RemoteInterpreterService {
     public getProgress_result(getProgress_result other) {
       __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
+      if (other.isSetE()) {
+        this.e = new ContextSegmentNotFoundException(other.e);
+      }
     }
 
     public getProgress_result deepCopy() {
@@ -8433,6 +9307,7 @@ public class RemoteInterpreterService {
     public void clear() {
       setSuccessIsSet(false);
       this.success = 0;
+      this.e = null;
     }
 
     public int getSuccess() {
@@ -8458,6 +9333,31 @@ public class RemoteInterpreterService {
       __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
+    @org.apache.thrift.annotation.Nullable
+    public ContextSegmentNotFoundException getE() {
+      return this.e;
+    }
+
+    public getProgress_result setE(@org.apache.thrift.annotation.Nullable ContextSegmentNotFoundException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
       case SUCCESS:
@@ -8468,6 +9368,14 @@ public class RemoteInterpreterService {
         }
         break;
 
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((ContextSegmentNotFoundException)value);
+        }
+        break;
+
       }
     }
 
@@ -8477,6 +9385,9 @@ public class RemoteInterpreterService {
       case SUCCESS:
         return getSuccess();
 
+      case E:
+        return getE();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -8490,6 +9401,8 @@ public class RemoteInterpreterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case E:
+        return isSetE();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -8518,6 +9431,15 @@ public class RemoteInterpreterService {
           return false;
       }
 
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
       return true;
     }
 
@@ -8527,6 +9449,10 @@ public class RemoteInterpreterService {
 
       hashCode = hashCode * 8191 + success;
 
+      hashCode = hashCode * 8191 + ((isSetE()) ? 131071 : 524287);
+      if (isSetE())
+        hashCode = hashCode * 8191 + e.hashCode();
+
       return hashCode;
     }
 
@@ -8548,6 +9474,16 @@ public class RemoteInterpreterService {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -8572,6 +9508,14 @@ public class RemoteInterpreterService {
       sb.append("success:");
       sb.append(this.success);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -8625,6 +9569,15 @@ public class RemoteInterpreterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new ContextSegmentNotFoundException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8645,6 +9598,11 @@ public class RemoteInterpreterService {
           oprot.writeI32(struct.success);
           oprot.writeFieldEnd();
         }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
@@ -8666,20 +9624,31 @@ public class RemoteInterpreterService {
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
           oprot.writeI32(struct.success);
         }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
       }
 
       @Override
       public void read(org.apache.thrift.protocol.TProtocol prot, getProgress_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.success = iprot.readI32();
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.e = new ContextSegmentNotFoundException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
       }
     }
 
@@ -10318,15 +11287,18 @@ public class RemoteInterpreterService {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completion_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new completion_resultStandardSchemeFactory();
     private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new completion_resultTupleSchemeFactory();
 
     public @org.apache.thrift.annotation.Nullable java.util.List<InterpreterCompletion> success; // required
+    public @org.apache.thrift.annotation.Nullable ContextSegmentNotFoundException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -10344,6 +11316,8 @@ public class RemoteInterpreterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
+          case 1: // E
+            return E;
           default:
             return null;
         }
@@ -10391,6 +11365,8 @@ public class RemoteInterpreterService {
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
               new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, InterpreterCompletion.class))));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ContextSegmentNotFoundException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
       org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completion_result.class, metaDataMap);
     }
@@ -10399,10 +11375,12 @@ public class RemoteInterpreterService {
     }
 
     public completion_result(
-      java.util.List<InterpreterCompletion> success)
+      java.util.List<InterpreterCompletion> success,
+      ContextSegmentNotFoundException e)
     {
       this();
       this.success = success;
+      this.e = e;
     }
 
     /**
@@ -10416,6 +11394,9 @@ public class RemoteInterpreterService {
         }
         this.success = __this__success;
       }
+      if (other.isSetE()) {
+        this.e = new ContextSegmentNotFoundException(other.e);
+      }
     }
 
     public completion_result deepCopy() {
@@ -10425,6 +11406,7 @@ public class RemoteInterpreterService {
     @Override
     public void clear() {
       this.success = null;
+      this.e = null;
     }
 
     public int getSuccessSize() {
@@ -10468,6 +11450,31 @@ public class RemoteInterpreterService {
       }
     }
 
+    @org.apache.thrift.annotation.Nullable
+    public ContextSegmentNotFoundException getE() {
+      return this.e;
+    }
+
+    public completion_result setE(@org.apache.thrift.annotation.Nullable ContextSegmentNotFoundException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
       switch (field) {
       case SUCCESS:
@@ -10478,6 +11485,14 @@ public class RemoteInterpreterService {
         }
         break;
 
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((ContextSegmentNotFoundException)value);
+        }
+        break;
+
       }
     }
 
@@ -10487,6 +11502,9 @@ public class RemoteInterpreterService {
       case SUCCESS:
         return getSuccess();
 
+      case E:
+        return getE();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10500,6 +11518,8 @@ public class RemoteInterpreterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case E:
+        return isSetE();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10528,6 +11548,15 @@ public class RemoteInterpreterService {
           return false;
       }
 
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
       return true;
     }
 
@@ -10539,6 +11568,10 @@ public class RemoteInterpreterService {
       if (isSetSuccess())
         hashCode = hashCode * 8191 + success.hashCode();
 
+      hashCode = hashCode * 8191 + ((isSetE()) ? 131071 : 524287);
+      if (isSetE())
+        hashCode = hashCode * 8191 + e.hashCode();
+
       return hashCode;
     }
 
@@ -10560,6 +11593,16 @@ public class RemoteInterpreterService {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -10588,6 +11631,14 @@ public class RemoteInterpreterService {
         sb.append(this.success);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10634,14 +11685,14 @@ public class RemoteInterpreterService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list28 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<InterpreterCompletion>(_list28.size);
-                  @org.apache.thrift.annotation.Nullable InterpreterCompletion _elem29;
-                  for (int _i30 = 0; _i30 < _list28.size; ++_i30)
+                  org.apache.thrift.protocol.TList _list38 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<InterpreterCompletion>(_list38.size);
+                  @org.apache.thrift.annotation.Nullable InterpreterCompletion _elem39;
+                  for (int _i40 = 0; _i40 < _list38.size; ++_i40)
                   {
-                    _elem29 = new InterpreterCompletion();
-                    _elem29.read(iprot);
-                    struct.success.add(_elem29);
+                    _elem39 = new InterpreterCompletion();
+                    _elem39.read(iprot);
+                    struct.success.add(_elem39);
                   }
                   iprot.readListEnd();
                 }
@@ -10650,6 +11701,15 @@ public class RemoteInterpreterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new ContextSegmentNotFoundException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -10669,14 +11729,19 @@ public class RemoteInterpreterService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (InterpreterCompletion _iter31 : struct.success)
+            for (InterpreterCompletion _iter41 : struct.success)
             {
-              _iter31.write(oprot);
+              _iter41.write(oprot);
             }
             oprot.writeListEnd();
           }
           oprot.writeFieldEnd();
         }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
@@ -10698,36 +11763,47 @@ public class RemoteInterpreterService {
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (InterpreterCompletion _iter32 : struct.success)
+            for (InterpreterCompletion _iter42 : struct.success)
             {
-              _iter32.write(oprot);
+              _iter42.write(oprot);
             }
           }
         }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
       }
 
       @Override
       public void read(org.apache.thrift.protocol.TProtocol prot, completion_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list33 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new java.util.ArrayList<InterpreterCompletion>(_list33.size);
-            @org.apache.thrift.annotation.Nullable InterpreterCompletion _elem34;
-            for (int _i35 = 0; _i35 < _list33.size; ++_i35)
+            org.apache.thrift.protocol.TList _list43 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new java.util.ArrayList<InterpreterCompletion>(_list43.size);
+            @org.apache.thrift.annotation.Nullable InterpreterCompletion _elem44;
+            for (int _i45 = 0; _i45 < _list43.size; ++_i45)
             {
-              _elem34 = new InterpreterCompletion();
-              _elem34.read(iprot);
-              struct.success.add(_elem34);
+              _elem44 = new InterpreterCompletion();
+              _elem44.read(iprot);
+              struct.success.add(_elem44);
             }
           }
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.e = new ContextSegmentNotFoundException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
       }
     }
 
@@ -12654,13 +13730,13 @@ public class RemoteInterpreterService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list36 = iprot.readListBegin();
-                  struct.success = new java.util.ArrayList<java.lang.String>(_list36.size);
-                  @org.apache.thrift.annotation.Nullable java.lang.String _elem37;
-                  for (int _i38 = 0; _i38 < _list36.size; ++_i38)
+                  org.apache.thrift.protocol.TList _list46 = iprot.readListBegin();
+                  struct.success = new java.util.ArrayList<java.lang.String>(_list46.size);
+                  @org.apache.thrift.annotation.Nullable java.lang.String _elem47;
+                  for (int _i48 = 0; _i48 < _list46.size; ++_i48)
                   {
-                    _elem37 = iprot.readString();
-                    struct.success.add(_elem37);
+                    _elem47 = iprot.readString();
+                    struct.success.add(_elem47);
                   }
                   iprot.readListEnd();
                 }
@@ -12688,9 +13764,9 @@ public class RemoteInterpreterService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.success.size()));
-            for (java.lang.String _iter39 : struct.success)
+            for (java.lang.String _iter49 : struct.success)
             {
-              oprot.writeString(_iter39);
+              oprot.writeString(_iter49);
             }
             oprot.writeListEnd();
           }
@@ -12721,9 +13797,9 @@ public class RemoteInterpreterService {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (java.lang.String _iter40 : struct.success)
+            for (java.lang.String _iter50 : struct.success)
             {
-              oprot.writeString(_iter40);
+              oprot.writeString(_iter50);
             }
           }
         }
@@ -12735,13 +13811,13 @@ public class RemoteInterpreterService {
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list41 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.success = new java.util.ArrayList<java.lang.String>(_list41.size);
-            @org.apache.thrift.annotation.Nullable java.lang.String _elem42;
-            for (int _i43 = 0; _i43 < _list41.size; ++_i43)
+            org.apache.thrift.protocol.TList _list51 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new java.util.ArrayList<java.lang.String>(_list51.size);
+            @org.apache.thrift.annotation.Nullable java.lang.String _elem52;
+            for (int _i53 = 0; _i53 < _list51.size; ++_i53)
             {
-              _elem42 = iprot.readString();
-              struct.success.add(_elem42);
+              _elem52 = iprot.readString();
+              struct.success.add(_elem52);
             }
           }
           struct.setSuccessIsSet(true);
@@ -15714,6 +16790,3140 @@ public class RemoteInterpreterService {
     }
   }
 
+  public static class resourceOpenTransfer_args implements org.apache.thrift.TBase<resourceOpenTransfer_args, resourceOpenTransfer_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceOpenTransfer_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceOpenTransfer_args");
+
+    private static final org.apache.thrift.protocol.TField SESSION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sessionId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField PARAGRAPH_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("paragraphId", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)3);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceOpenTransfer_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceOpenTransfer_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String sessionId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String paragraphId; // required
+    public @org.apache.thrift.annotation.Nullable java.lang.String resourceName; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SESSION_ID((short)1, "sessionId"),
+      PARAGRAPH_ID((short)2, "paragraphId"),
+      RESOURCE_NAME((short)3, "resourceName");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // SESSION_ID
+            return SESSION_ID;
+          case 2: // PARAGRAPH_ID
+            return PARAGRAPH_ID;
+          case 3: // RESOURCE_NAME
+            return RESOURCE_NAME;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SESSION_ID, new org.apache.thrift.meta_data.FieldMetaData("sessionId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARAGRAPH_ID, new org.apache.thrift.meta_data.FieldMetaData("paragraphId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceOpenTransfer_args.class, metaDataMap);
+    }
+
+    public resourceOpenTransfer_args() {
+    }
+
+    public resourceOpenTransfer_args(
+      java.lang.String sessionId,
+      java.lang.String paragraphId,
+      java.lang.String resourceName)
+    {
+      this();
+      this.sessionId = sessionId;
+      this.paragraphId = paragraphId;
+      this.resourceName = resourceName;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceOpenTransfer_args(resourceOpenTransfer_args other) {
+      if (other.isSetSessionId()) {
+        this.sessionId = other.sessionId;
+      }
+      if (other.isSetParagraphId()) {
+        this.paragraphId = other.paragraphId;
+      }
+      if (other.isSetResourceName()) {
+        this.resourceName = other.resourceName;
+      }
+    }
+
+    public resourceOpenTransfer_args deepCopy() {
+      return new resourceOpenTransfer_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.sessionId = null;
+      this.paragraphId = null;
+      this.resourceName = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getSessionId() {
+      return this.sessionId;
+    }
+
+    public resourceOpenTransfer_args setSessionId(@org.apache.thrift.annotation.Nullable java.lang.String sessionId) {
+      this.sessionId = sessionId;
+      return this;
+    }
+
+    public void unsetSessionId() {
+      this.sessionId = null;
+    }
+
+    /** Returns true if field sessionId is set (has been assigned a value) and false otherwise */
+    public boolean isSetSessionId() {
+      return this.sessionId != null;
+    }
+
+    public void setSessionIdIsSet(boolean value) {
+      if (!value) {
+        this.sessionId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getParagraphId() {
+      return this.paragraphId;
+    }
+
+    public resourceOpenTransfer_args setParagraphId(@org.apache.thrift.annotation.Nullable java.lang.String paragraphId) {
+      this.paragraphId = paragraphId;
+      return this;
+    }
+
+    public void unsetParagraphId() {
+      this.paragraphId = null;
+    }
+
+    /** Returns true if field paragraphId is set (has been assigned a value) and false otherwise */
+    public boolean isSetParagraphId() {
+      return this.paragraphId != null;
+    }
+
+    public void setParagraphIdIsSet(boolean value) {
+      if (!value) {
+        this.paragraphId = null;
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getResourceName() {
+      return this.resourceName;
+    }
+
+    public resourceOpenTransfer_args setResourceName(@org.apache.thrift.annotation.Nullable java.lang.String resourceName) {
+      this.resourceName = resourceName;
+      return this;
+    }
+
+    public void unsetResourceName() {
+      this.resourceName = null;
+    }
+
+    /** Returns true if field resourceName is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceName() {
+      return this.resourceName != null;
+    }
+
+    public void setResourceNameIsSet(boolean value) {
+      if (!value) {
+        this.resourceName = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SESSION_ID:
+        if (value == null) {
+          unsetSessionId();
+        } else {
+          setSessionId((java.lang.String)value);
+        }
+        break;
+
+      case PARAGRAPH_ID:
+        if (value == null) {
+          unsetParagraphId();
+        } else {
+          setParagraphId((java.lang.String)value);
+        }
+        break;
+
+      case RESOURCE_NAME:
+        if (value == null) {
+          unsetResourceName();
+        } else {
+          setResourceName((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SESSION_ID:
+        return getSessionId();
+
+      case PARAGRAPH_ID:
+        return getParagraphId();
+
+      case RESOURCE_NAME:
+        return getResourceName();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SESSION_ID:
+        return isSetSessionId();
+      case PARAGRAPH_ID:
+        return isSetParagraphId();
+      case RESOURCE_NAME:
+        return isSetResourceName();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceOpenTransfer_args)
+        return this.equals((resourceOpenTransfer_args)that);
+      return false;
+    }
+
+    public boolean equals(resourceOpenTransfer_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_sessionId = true && this.isSetSessionId();
+      boolean that_present_sessionId = true && that.isSetSessionId();
+      if (this_present_sessionId || that_present_sessionId) {
+        if (!(this_present_sessionId && that_present_sessionId))
+          return false;
+        if (!this.sessionId.equals(that.sessionId))
+          return false;
+      }
+
+      boolean this_present_paragraphId = true && this.isSetParagraphId();
+      boolean that_present_paragraphId = true && that.isSetParagraphId();
+      if (this_present_paragraphId || that_present_paragraphId) {
+        if (!(this_present_paragraphId && that_present_paragraphId))
+          return false;
+        if (!this.paragraphId.equals(that.paragraphId))
+          return false;
+      }
+
+      boolean this_present_resourceName = true && this.isSetResourceName();
+      boolean that_present_resourceName = true && that.isSetResourceName();
+      if (this_present_resourceName || that_present_resourceName) {
+        if (!(this_present_resourceName && that_present_resourceName))
+          return false;
+        if (!this.resourceName.equals(that.resourceName))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSessionId()) ? 131071 : 524287);
+      if (isSetSessionId())
+        hashCode = hashCode * 8191 + sessionId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetParagraphId()) ? 131071 : 524287);
+      if (isSetParagraphId())
+        hashCode = hashCode * 8191 + paragraphId.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetResourceName()) ? 131071 : 524287);
+      if (isSetResourceName())
+        hashCode = hashCode * 8191 + resourceName.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(resourceOpenTransfer_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSessionId()).compareTo(other.isSetSessionId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSessionId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sessionId, other.sessionId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetParagraphId()).compareTo(other.isSetParagraphId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParagraphId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paragraphId, other.paragraphId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetResourceName()).compareTo(other.isSetResourceName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResourceName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceName, other.resourceName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceOpenTransfer_args(");
+      boolean first = true;
+
+      sb.append("sessionId:");
+      if (this.sessionId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.sessionId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("paragraphId:");
+      if (this.paragraphId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paragraphId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("resourceName:");
+      if (this.resourceName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.resourceName);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceOpenTransfer_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceOpenTransfer_argsStandardScheme getScheme() {
+        return new resourceOpenTransfer_argsStandardScheme();
+      }
+    }
+
+    private static class resourceOpenTransfer_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceOpenTransfer_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceOpenTransfer_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // SESSION_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.sessionId = iprot.readString();
+                struct.setSessionIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PARAGRAPH_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.paragraphId = iprot.readString();
+                struct.setParagraphIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // RESOURCE_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.resourceName = iprot.readString();
+                struct.setResourceNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceOpenTransfer_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.sessionId != null) {
+          oprot.writeFieldBegin(SESSION_ID_FIELD_DESC);
+          oprot.writeString(struct.sessionId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.paragraphId != null) {
+          oprot.writeFieldBegin(PARAGRAPH_ID_FIELD_DESC);
+          oprot.writeString(struct.paragraphId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.resourceName != null) {
+          oprot.writeFieldBegin(RESOURCE_NAME_FIELD_DESC);
+          oprot.writeString(struct.resourceName);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceOpenTransfer_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceOpenTransfer_argsTupleScheme getScheme() {
+        return new resourceOpenTransfer_argsTupleScheme();
+      }
+    }
+
+    private static class resourceOpenTransfer_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceOpenTransfer_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceOpenTransfer_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSessionId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetParagraphId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetResourceName()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetSessionId()) {
+          oprot.writeString(struct.sessionId);
+        }
+        if (struct.isSetParagraphId()) {
+          oprot.writeString(struct.paragraphId);
+        }
+        if (struct.isSetResourceName()) {
+          oprot.writeString(struct.resourceName);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceOpenTransfer_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.sessionId = iprot.readString();
+          struct.setSessionIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.paragraphId = iprot.readString();
+          struct.setParagraphIdIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.resourceName = iprot.readString();
+          struct.setResourceNameIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class resourceOpenTransfer_result implements org.apache.thrift.TBase<resourceOpenTransfer_result, resourceOpenTransfer_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceOpenTransfer_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceOpenTransfer_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceOpenTransfer_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceOpenTransfer_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable ResourceTransfer success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ResourceTransfer.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceOpenTransfer_result.class, metaDataMap);
+    }
+
+    public resourceOpenTransfer_result() {
+    }
+
+    public resourceOpenTransfer_result(
+      ResourceTransfer success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceOpenTransfer_result(resourceOpenTransfer_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ResourceTransfer(other.success);
+      }
+    }
+
+    public resourceOpenTransfer_result deepCopy() {
+      return new resourceOpenTransfer_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public ResourceTransfer getSuccess() {
+      return this.success;
+    }
+
+    public resourceOpenTransfer_result setSuccess(@org.apache.thrift.annotation.Nullable ResourceTransfer success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ResourceTransfer)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceOpenTransfer_result)
+        return this.equals((resourceOpenTransfer_result)that);
+      return false;
+    }
+
+    public boolean equals(resourceOpenTransfer_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(resourceOpenTransfer_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceOpenTransfer_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceOpenTransfer_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceOpenTransfer_resultStandardScheme getScheme() {
+        return new resourceOpenTransfer_resultStandardScheme();
+      }
+    }
+
+    private static class resourceOpenTransfer_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceOpenTransfer_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceOpenTransfer_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new ResourceTransfer();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceOpenTransfer_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceOpenTransfer_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceOpenTransfer_resultTupleScheme getScheme() {
+        return new resourceOpenTransfer_resultTupleScheme();
+      }
+    }
+
+    private static class resourceOpenTransfer_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceOpenTransfer_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceOpenTransfer_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceOpenTransfer_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new ResourceTransfer();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class resourceReadTransfer_args implements org.apache.thrift.TBase<resourceReadTransfer_args, resourceReadTransfer_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceReadTransfer_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceReadTransfer_args");
+
+    private static final org.apache.thrift.protocol.TField TRANSFER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("transferId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("length", org.apache.thrift.protocol.TType.I32, (short)3);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceReadTransfer_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceReadTransfer_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String transferId; // required
+    public long offset; // required
+    public int length; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      TRANSFER_ID((short)1, "transferId"),
+      OFFSET((short)2, "offset"),
+      LENGTH((short)3, "length");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // TRANSFER_ID
+            return TRANSFER_ID;
+          case 2: // OFFSET
+            return OFFSET;
+          case 3: // LENGTH
+            return LENGTH;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __OFFSET_ISSET_ID = 0;
+    private static final int __LENGTH_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TRANSFER_ID, new org.apache.thrift.meta_data.FieldMetaData("transferId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.LENGTH, new org.apache.thrift.meta_data.FieldMetaData("length", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceReadTransfer_args.class, metaDataMap);
+    }
+
+    public resourceReadTransfer_args() {
+    }
+
+    public resourceReadTransfer_args(
+      java.lang.String transferId,
+      long offset,
+      int length)
+    {
+      this();
+      this.transferId = transferId;
+      this.offset = offset;
+      setOffsetIsSet(true);
+      this.length = length;
+      setLengthIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceReadTransfer_args(resourceReadTransfer_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetTransferId()) {
+        this.transferId = other.transferId;
+      }
+      this.offset = other.offset;
+      this.length = other.length;
+    }
+
+    public resourceReadTransfer_args deepCopy() {
+      return new resourceReadTransfer_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.transferId = null;
+      setOffsetIsSet(false);
+      this.offset = 0;
+      setLengthIsSet(false);
+      this.length = 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getTransferId() {
+      return this.transferId;
+    }
+
+    public resourceReadTransfer_args setTransferId(@org.apache.thrift.annotation.Nullable java.lang.String transferId) {
+      this.transferId = transferId;
+      return this;
+    }
+
+    public void unsetTransferId() {
+      this.transferId = null;
+    }
+
+    /** Returns true if field transferId is set (has been assigned a value) and false otherwise */
+    public boolean isSetTransferId() {
+      return this.transferId != null;
+    }
+
+    public void setTransferIdIsSet(boolean value) {
+      if (!value) {
+        this.transferId = null;
+      }
+    }
+
+    public long getOffset() {
+      return this.offset;
+    }
+
+    public resourceReadTransfer_args setOffset(long offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
+      return this;
+    }
+
+    public void unsetOffset() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
+    }
+
+    public int getLength() {
+      return this.length;
+    }
+
+    public resourceReadTransfer_args setLength(int length) {
+      this.length = length;
+      setLengthIsSet(true);
+      return this;
+    }
+
+    public void unsetLength() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    /** Returns true if field length is set (has been assigned a value) and false otherwise */
+    public boolean isSetLength() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    public void setLengthIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __LENGTH_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case TRANSFER_ID:
+        if (value == null) {
+          unsetTransferId();
+        } else {
+          setTransferId((java.lang.String)value);
+        }
+        break;
+
+      case OFFSET:
+        if (value == null) {
+          unsetOffset();
+        } else {
+          setOffset((java.lang.Long)value);
+        }
+        break;
+
+      case LENGTH:
+        if (value == null) {
+          unsetLength();
+        } else {
+          setLength((java.lang.Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case TRANSFER_ID:
+        return getTransferId();
+
+      case OFFSET:
+        return getOffset();
+
+      case LENGTH:
+        return getLength();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case TRANSFER_ID:
+        return isSetTransferId();
+      case OFFSET:
+        return isSetOffset();
+      case LENGTH:
+        return isSetLength();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceReadTransfer_args)
+        return this.equals((resourceReadTransfer_args)that);
+      return false;
+    }
+
+    public boolean equals(resourceReadTransfer_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_transferId = true && this.isSetTransferId();
+      boolean that_present_transferId = true && that.isSetTransferId();
+      if (this_present_transferId || that_present_transferId) {
+        if (!(this_present_transferId && that_present_transferId))
+          return false;
+        if (!this.transferId.equals(that.transferId))
+          return false;
+      }
+
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
+          return false;
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      boolean this_present_length = true;
+      boolean that_present_length = true;
+      if (this_present_length || that_present_length) {
+        if (!(this_present_length && that_present_length))
+          return false;
+        if (this.length != that.length)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetTransferId()) ? 131071 : 524287);
+      if (isSetTransferId())
+        hashCode = hashCode * 8191 + transferId.hashCode();
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(offset);
+
+      hashCode = hashCode * 8191 + length;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(resourceReadTransfer_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetTransferId()).compareTo(other.isSetTransferId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTransferId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transferId, other.transferId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetLength()).compareTo(other.isSetLength());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLength()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.length, other.length);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceReadTransfer_args(");
+      boolean first = true;
+
+      sb.append("transferId:");
+      if (this.transferId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.transferId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("length:");
+      sb.append(this.length);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceReadTransfer_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceReadTransfer_argsStandardScheme getScheme() {
+        return new resourceReadTransfer_argsStandardScheme();
+      }
+    }
+
+    private static class resourceReadTransfer_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceReadTransfer_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceReadTransfer_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // TRANSFER_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.transferId = iprot.readString();
+                struct.setTransferIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.offset = iprot.readI64();
+                struct.setOffsetIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // LENGTH
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.length = iprot.readI32();
+                struct.setLengthIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceReadTransfer_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.transferId != null) {
+          oprot.writeFieldBegin(TRANSFER_ID_FIELD_DESC);
+          oprot.writeString(struct.transferId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI64(struct.offset);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(LENGTH_FIELD_DESC);
+        oprot.writeI32(struct.length);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceReadTransfer_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceReadTransfer_argsTupleScheme getScheme() {
+        return new resourceReadTransfer_argsTupleScheme();
+      }
+    }
+
+    private static class resourceReadTransfer_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceReadTransfer_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceReadTransfer_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetTransferId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOffset()) {
+          optionals.set(1);
+        }
+        if (struct.isSetLength()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetTransferId()) {
+          oprot.writeString(struct.transferId);
+        }
+        if (struct.isSetOffset()) {
+          oprot.writeI64(struct.offset);
+        }
+        if (struct.isSetLength()) {
+          oprot.writeI32(struct.length);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceReadTransfer_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.transferId = iprot.readString();
+          struct.setTransferIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.offset = iprot.readI64();
+          struct.setOffsetIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.length = iprot.readI32();
+          struct.setLengthIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class resourceReadTransfer_result implements org.apache.thrift.TBase<resourceReadTransfer_result, resourceReadTransfer_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceReadTransfer_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceReadTransfer_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceReadTransfer_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceReadTransfer_resultTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceReadTransfer_result.class, metaDataMap);
+    }
+
+    public resourceReadTransfer_result() {
+    }
+
+    public resourceReadTransfer_result(
+      java.nio.ByteBuffer success)
+    {
+      this();
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceReadTransfer_result(resourceReadTransfer_result other) {
+      if (other.isSetSuccess()) {
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+      }
+    }
+
+    public resourceReadTransfer_result deepCopy() {
+      return new resourceReadTransfer_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
+    }
+
+    public java.nio.ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    public resourceReadTransfer_result setSuccess(byte[] success) {
+      this.success = success == null ? (java.nio.ByteBuffer)null     : java.nio.ByteBuffer.wrap(success.clone());
+      return this;
+    }
+
+    public resourceReadTransfer_result setSuccess(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          if (value instanceof byte[]) {
+            setSuccess((byte[])value);
+          } else {
+            setSuccess((java.nio.ByteBuffer)value);
+          }
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceReadTransfer_result)
+        return this.equals((resourceReadTransfer_result)that);
+      return false;
+    }
+
+    public boolean equals(resourceReadTransfer_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(resourceReadTransfer_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceReadTransfer_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceReadTransfer_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceReadTransfer_resultStandardScheme getScheme() {
+        return new resourceReadTransfer_resultStandardScheme();
+      }
+    }
+
+    private static class resourceReadTransfer_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceReadTransfer_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceReadTransfer_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceReadTransfer_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBinary(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceReadTransfer_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceReadTransfer_resultTupleScheme getScheme() {
+        return new resourceReadTransfer_resultTupleScheme();
+      }
+    }
+
+    private static class resourceReadTransfer_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceReadTransfer_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceReadTransfer_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBinary(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceReadTransfer_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBinary();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class resourceCloseTransfer_args implements org.apache.thrift.TBase<resourceCloseTransfer_args, resourceCloseTransfer_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceCloseTransfer_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceCloseTransfer_args");
+
+    private static final org.apache.thrift.protocol.TField TRANSFER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("transferId", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceCloseTransfer_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceCloseTransfer_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String transferId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      TRANSFER_ID((short)1, "transferId");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // TRANSFER_ID
+            return TRANSFER_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TRANSFER_ID, new org.apache.thrift.meta_data.FieldMetaData("transferId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceCloseTransfer_args.class, metaDataMap);
+    }
+
+    public resourceCloseTransfer_args() {
+    }
+
+    public resourceCloseTransfer_args(
+      java.lang.String transferId)
+    {
+      this();
+      this.transferId = transferId;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceCloseTransfer_args(resourceCloseTransfer_args other) {
+      if (other.isSetTransferId()) {
+        this.transferId = other.transferId;
+      }
+    }
+
+    public resourceCloseTransfer_args deepCopy() {
+      return new resourceCloseTransfer_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.transferId = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getTransferId() {
+      return this.transferId;
+    }
+
+    public resourceCloseTransfer_args setTransferId(@org.apache.thrift.annotation.Nullable java.lang.String transferId) {
+      this.transferId = transferId;
+      return this;
+    }
+
+    public void unsetTransferId() {
+      this.transferId = null;
+    }
+
+    /** Returns true if field transferId is set (has been assigned a value) and false otherwise */
+    public boolean isSetTransferId() {
+      return this.transferId != null;
+    }
+
+    public void setTransferIdIsSet(boolean value) {
+      if (!value) {
+        this.transferId = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case TRANSFER_ID:
+        if (value == null) {
+          unsetTransferId();
+        } else {
+          setTransferId((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case TRANSFER_ID:
+        return getTransferId();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case TRANSFER_ID:
+        return isSetTransferId();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceCloseTransfer_args)
+        return this.equals((resourceCloseTransfer_args)that);
+      return false;
+    }
+
+    public boolean equals(resourceCloseTransfer_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_transferId = true && this.isSetTransferId();
+      boolean that_present_transferId = true && that.isSetTransferId();
+      if (this_present_transferId || that_present_transferId) {
+        if (!(this_present_transferId && that_present_transferId))
+          return false;
+        if (!this.transferId.equals(that.transferId))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetTransferId()) ? 131071 : 524287);
+      if (isSetTransferId())
+        hashCode = hashCode * 8191 + transferId.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(resourceCloseTransfer_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetTransferId()).compareTo(other.isSetTransferId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTransferId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.transferId, other.transferId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceCloseTransfer_args(");
+      boolean first = true;
+
+      sb.append("transferId:");
+      if (this.transferId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.transferId);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceCloseTransfer_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceCloseTransfer_argsStandardScheme getScheme() {
+        return new resourceCloseTransfer_argsStandardScheme();
+      }
+    }
+
+    private static class resourceCloseTransfer_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceCloseTransfer_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceCloseTransfer_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // TRANSFER_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.transferId = iprot.readString();
+                struct.setTransferIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceCloseTransfer_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.transferId != null) {
+          oprot.writeFieldBegin(TRANSFER_ID_FIELD_DESC);
+          oprot.writeString(struct.transferId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceCloseTransfer_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceCloseTransfer_argsTupleScheme getScheme() {
+        return new resourceCloseTransfer_argsTupleScheme();
+      }
+    }
+
+    private static class resourceCloseTransfer_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceCloseTransfer_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceCloseTransfer_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetTransferId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetTransferId()) {
+          oprot.writeString(struct.transferId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceCloseTransfer_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.transferId = iprot.readString();
+          struct.setTransferIdIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class resourceCloseTransfer_result implements org.apache.thrift.TBase<resourceCloseTransfer_result, resourceCloseTransfer_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceCloseTransfer_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceCloseTransfer_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceCloseTransfer_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceCloseTransfer_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceCloseTransfer_result.class, metaDataMap);
+    }
+
+    public resourceCloseTransfer_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceCloseTransfer_result(resourceCloseTransfer_result other) {
+    }
+
+    public resourceCloseTransfer_result deepCopy() {
+      return new resourceCloseTransfer_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceCloseTransfer_result)
+        return this.equals((resourceCloseTransfer_result)that);
+      return false;
+    }
+
+    public boolean equals(resourceCloseTransfer_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(resourceCloseTransfer_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceCloseTransfer_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceCloseTransfer_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceCloseTransfer_resultStandardScheme getScheme() {
+        return new resourceCloseTransfer_resultStandardScheme();
+      }
+    }
+
+    private static class resourceCloseTransfer_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceCloseTransfer_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceCloseTransfer_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceCloseTransfer_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceCloseTransfer_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceCloseTransfer_resultTupleScheme getScheme() {
+        return new resourceCloseTransfer_resultTupleScheme();
+      }
+    }
+
+    private static class resourceCloseTransfer_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceCloseTransfer_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceCloseTransfer_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceCloseTransfer_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class resourceInvalidate_args implements org.apache.thrift.TBase<resourceInvalidate_args, resourceInvalidate_args._Fields>, java.io.Serializable, Cloneable, Comparable<resourceInvalidate_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceInvalidate_args");
+
+    private static final org.apache.thrift.protocol.TField RESOURCE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("resourceName", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceInvalidate_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceInvalidate_argsTupleSchemeFactory();
+
+    public @org.apache.thrift.annotation.Nullable java.lang.String resourceName; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      RESOURCE_NAME((short)1, "resourceName");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // RESOURCE_NAME
+            return RESOURCE_NAME;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.RESOURCE_NAME, new org.apache.thrift.meta_data.FieldMetaData("resourceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceInvalidate_args.class, metaDataMap);
+    }
+
+    public resourceInvalidate_args() {
+    }
+
+    public resourceInvalidate_args(
+      java.lang.String resourceName)
+    {
+      this();
+      this.resourceName = resourceName;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceInvalidate_args(resourceInvalidate_args other) {
+      if (other.isSetResourceName()) {
+        this.resourceName = other.resourceName;
+      }
+    }
+
+    public resourceInvalidate_args deepCopy() {
+      return new resourceInvalidate_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.resourceName = null;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.String getResourceName() {
+      return this.resourceName;
+    }
+
+    public resourceInvalidate_args setResourceName(@org.apache.thrift.annotation.Nullable java.lang.String resourceName) {
+      this.resourceName = resourceName;
+      return this;
+    }
+
+    public void unsetResourceName() {
+      this.resourceName = null;
+    }
+
+    /** Returns true if field resourceName is set (has been assigned a value) and false otherwise */
+    public boolean isSetResourceName() {
+      return this.resourceName != null;
+    }
+
+    public void setResourceNameIsSet(boolean value) {
+      if (!value) {
+        this.resourceName = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      case RESOURCE_NAME:
+        if (value == null) {
+          unsetResourceName();
+        } else {
+          setResourceName((java.lang.String)value);
+        }
+        break;
+
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case RESOURCE_NAME:
+        return getResourceName();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case RESOURCE_NAME:
+        return isSetResourceName();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceInvalidate_args)
+        return this.equals((resourceInvalidate_args)that);
+      return false;
+    }
+
+    public boolean equals(resourceInvalidate_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_resourceName = true && this.isSetResourceName();
+      boolean that_present_resourceName = true && that.isSetResourceName();
+      if (this_present_resourceName || that_present_resourceName) {
+        if (!(this_present_resourceName && that_present_resourceName))
+          return false;
+        if (!this.resourceName.equals(that.resourceName))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetResourceName()) ? 131071 : 524287);
+      if (isSetResourceName())
+        hashCode = hashCode * 8191 + resourceName.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(resourceInvalidate_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetResourceName()).compareTo(other.isSetResourceName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetResourceName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.resourceName, other.resourceName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceInvalidate_args(");
+      boolean first = true;
+
+      sb.append("resourceName:");
+      if (this.resourceName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.resourceName);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceInvalidate_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvalidate_argsStandardScheme getScheme() {
+        return new resourceInvalidate_argsStandardScheme();
+      }
+    }
+
+    private static class resourceInvalidate_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceInvalidate_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceInvalidate_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // RESOURCE_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.resourceName = iprot.readString();
+                struct.setResourceNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceInvalidate_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.resourceName != null) {
+          oprot.writeFieldBegin(RESOURCE_NAME_FIELD_DESC);
+          oprot.writeString(struct.resourceName);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceInvalidate_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvalidate_argsTupleScheme getScheme() {
+        return new resourceInvalidate_argsTupleScheme();
+      }
+    }
+
+    private static class resourceInvalidate_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceInvalidate_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceInvalidate_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetResourceName()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetResourceName()) {
+          oprot.writeString(struct.resourceName);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceInvalidate_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.resourceName = iprot.readString();
+          struct.setResourceNameIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class resourceInvalidate_result implements org.apache.thrift.TBase<resourceInvalidate_result, resourceInvalidate_result._Fields>, java.io.Serializable, Cloneable, Comparable<resourceInvalidate_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("resourceInvalidate_result");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new resourceInvalidate_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new resourceInvalidate_resultTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      @org.apache.thrift.annotation.Nullable
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(resourceInvalidate_result.class, metaDataMap);
+    }
+
+    public resourceInvalidate_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public resourceInvalidate_result(resourceInvalidate_result other) {
+    }
+
+    public resourceInvalidate_result deepCopy() {
+      return new resourceInvalidate_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
+      switch (field) {
+      }
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof resourceInvalidate_result)
+        return this.equals((resourceInvalidate_result)that);
+      return false;
+    }
+
+    public boolean equals(resourceInvalidate_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(resourceInvalidate_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    @org.apache.thrift.annotation.Nullable
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("resourceInvalidate_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class resourceInvalidate_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvalidate_resultStandardScheme getScheme() {
+        return new resourceInvalidate_resultStandardScheme();
+      }
+    }
+
+    private static class resourceInvalidate_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<resourceInvalidate_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, resourceInvalidate_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, resourceInvalidate_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class resourceInvalidate_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public resourceInvalidate_resultTupleScheme getScheme() {
+        return new resourceInvalidate_resultTupleScheme();
+      }
+    }
+
+    private static class resourceInvalidate_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<resourceInvalidate_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, resourceInvalidate_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, resourceInvalidate_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
   public static class angularObjectUpdate_args implements org.apache.thrift.TBase<angularObjectUpdate_args, angularObjectUpdate_args._Fields>, java.io.Serializable, Cloneable, Comparable<angularObjectUpdate_args>   {
     private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("angularObjectUpdate_args");
 
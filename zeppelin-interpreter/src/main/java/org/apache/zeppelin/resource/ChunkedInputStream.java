@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * InputStream which reads data of known size chunk by chunk, so that the data doesn't need to be
+ * in memory as a whole.
+ */
+public class ChunkedInputStream extends InputStream {
+
+  /**
+   * Reads one chunk.
+   */
+  public interface ChunkReader {
+    /**
+     * @param offset
+     * @param length
+     * @return at most length bytes from offset
+     * @throws IOException
+     */
+    ByteBuffer read(long offset, int length) throws IOException;
+  }
+
+  private final ChunkReader reader;
+  private final long size;
+  private final int chunkSize;
+  private long position = 0;
+  private ByteBuffer chunk = ByteBuffer.allocate(0);
+
+  public ChunkedInputStream(ChunkReader reader, long size, int chunkSize) {
+    this.reader = reader;
+    this.size = size;
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!fill()) {
+      return -1;
+    }
+    return chunk.get() & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (!fill()) {
+      return -1;
+    }
+    len = Math.min(len, chunk.remaining());
+    chunk.get(b, off, len);
+    return len;
+  }
+
+  @Override
+  public int available() {
+    return chunk.remaining();
+  }
+
+  private boolean fill() throws IOException {
+    if (chunk.hasRemaining()) {
+      return true;
+    }
+    if (position >= size) {
+      return false;
+    }
+    chunk = reader.read(position, (int) Math.min(chunkSize, size - position));
+    if (chunk == null || !chunk.hasRemaining()) {
+      throw new IOException("Unexpected end of data at " + position + " of " + size);
+    }
+    position += chunk.remaining();
+    return true;
+  }
+}
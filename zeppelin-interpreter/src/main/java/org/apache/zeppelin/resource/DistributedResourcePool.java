@@ -16,16 +16,40 @@
  */
 package org.apache.zeppelin.resource;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * distributed resource pool
+ *
+ * Resources which are not in the local pool are looked up by name from the resource index of
+ * zeppelin server. Lookups are cached for cacheTtlMs, and zeppelin server invalidates the cached
+ * lookups of a name when a resource with that name is put or removed in another pool.
  */
 public class DistributedResourcePool extends LocalResourcePool {
 
+  public static final long DEFAULT_CACHE_TTL_MS = 1000;
+
   private final ResourcePoolConnector connector;
+  private final long cacheTtlMs;
+  private final Map<String, CachedLookup> remoteLookups = new ConcurrentHashMap<>();
+  // increased on every invalidation, so a lookup which races with one is not cached
+  private final AtomicLong invalidations = new AtomicLong();
 
   public DistributedResourcePool(String id, ResourcePoolConnector connector) {
+    this(id, connector, DEFAULT_CACHE_TTL_MS);
+  }
+
+  /**
+   * @param id
+   * @param connector
+   * @param cacheTtlMs how long remote lookups are cached, 0 to disable
+   */
+  public DistributedResourcePool(String id, ResourcePoolConnector connector, long cacheTtlMs) {
     super(id);
     this.connector = connector;
+    this.cacheTtlMs = cacheTtlMs;
   }
 
   @Override
@@ -52,7 +76,7 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
 
     if (remote) {
-      ResourceSet resources = connector.getAllResources().filterByName(name);
+      ResourceSet resources = getRemote(name);
       if (resources.isEmpty()) {
         return null;
       } else {
@@ -79,10 +103,9 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
 
     if (remote) {
-      ResourceSet resources = connector.getAllResources()
+      ResourceSet resources = getRemote(name)
           .filterByNoteId(noteId)
-          .filterByParagraphId(paragraphId)
-          .filterByName(name);
+          .filterByParagraphId(paragraphId);
 
       if (resources.isEmpty()) {
         return null;
@@ -94,6 +117,67 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
   }
 
+  private ResourceSet getRemote(String name) {
+    long now = System.currentTimeMillis();
+    CachedLookup cached = remoteLookups.get(name);
+    if (cached != null && cached.expireTime > now) {
+      return cached.resources;
+    }
+
+    long invalidationsBefore = invalidations.get();
+    ResourceSet resources = connector.getResourcesByName(name);
+    if (resources == null) {
+      return new ResourceSet();
+    }
+    if (cacheTtlMs > 0 && invalidations.get() == invalidationsBefore) {
+      remoteLookups.put(name, new CachedLookup(resources, now + cacheTtlMs));
+    }
+    return resources;
+  }
+
+  /**
+   * Drop the cached remote lookups of resources with the given name.
+   * @param name
+   */
+  public void invalidate(String name) {
+    invalidations.incrementAndGet();
+    remoteLookups.remove(name);
+  }
+
+  @Override
+  public void put(String name, Object object) {
+    super.put(name, object);
+    if (connector != null) {
+      connector.onResourcePut(super.get(name));
+    }
+  }
+
+  @Override
+  public void put(String noteId, String paragraphId, String name, Object object) {
+    super.put(noteId, paragraphId, name, object);
+    if (connector != null) {
+      connector.onResourcePut(super.get(noteId, paragraphId, name));
+    }
+  }
+
+  @Override
+  public Resource remove(String name) {
+    Resource resource = super.remove(name);
+    if (resource != null && connector != null) {
+      connector.onResourceRemove(resource.getResourceId());
+    }
+    return resource;
+  }
+
+  @Override
+  public Resource remove(String noteId, String paragraphId, String name) {
+    Resource resource = super.remove(noteId, paragraphId, name);
+    if (resource != null && connector != null) {
+      connector.onResourceRemove(resource.getResourceId());
+    }
+    return resource;
+  }
+
   @Override
   public ResourceSet getAll() {
     return getAll(true);
@@ -111,4 +195,14 @@ public class DistributedResourcePool extends LocalResourcePool {
     }
     return all;
   }
+
+  private static class CachedLookup {
+    private final ResourceSet resources;
+    private final long expireTime;
+
+    CachedLookup(ResourceSet resources, long expireTime) {
+      this.resources = resources;
+      this.expireTime = expireTime;
+    }
+  }
 }
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+
+/**
+ * ResourceSerializer using java serialization. Its output has no header, so it is the same as
+ * the one of previous versions.
+ */
+public class JavaResourceSerializer implements ResourceSerializer {
+
+  public static final String NAME = "java";
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public boolean accept(Object o) {
+    return o instanceof Serializable;
+  }
+
+  @Override
+  public void serialize(Object o, OutputStream out) throws IOException {
+    ObjectOutputStream oos = new ObjectOutputStream(out);
+    oos.writeObject(o);
+    oos.flush();
+  }
+
+  @Override
+  public Object deserialize(InputStream in) throws IOException, ClassNotFoundException {
+    return new ObjectInputStream(in).readObject();
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryo.serializers.JavaSerializer;
+import org.objenesis.strategy.StdInstantiatorStrategy;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * ResourceSerializer using Kryo. It is smaller and faster than java serialization for plain
+ * data classes. Classes which customize their java serialization (writeObject, readObject,
+ * writeReplace, readResolve or Externalizable) are still written by java serialization, inside
+ * the Kryo stream. Registered through META-INF/services, so it is preferred to
+ * JavaResourceSerializer.
+ */
+public class KryoResourceSerializer implements ResourceSerializer {
+
+  public static final String NAME = "kryo";
+
+  private static final ThreadLocal<Kryo> KRYO = new ThreadLocal<Kryo>() {
+    @Override
+    protected Kryo initialValue() {
+      return createKryo();
+    }
+  };
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public boolean accept(Object o) {
+    // lambdas are Serializable only through writeReplace of their target interface,
+    // Kryo can't restore them without a ClosureSerializer
+    return o instanceof Serializable && !o.getClass().isSynthetic();
+  }
+
+  @Override
+  public void serialize(Object o, OutputStream out) throws IOException {
+    Output output = new Output(out);
+    try {
+      kryo().writeClassAndObject(output, o);
+      output.flush();
+    } catch (KryoException e) {
+      throw new IOException("Fail to serialize " + o.getClass().getName(), e);
+    }
+  }
+
+  @Override
+  public Object deserialize(InputStream in) throws IOException, ClassNotFoundException {
+    try {
+      return kryo().readClassAndObject(new Input(in));
+    } catch (KryoException e) {
+      if (e.getCause() instanceof ClassNotFoundException) {
+        throw (ClassNotFoundException) e.getCause();
+      }
+      throw new IOException("Fail to deserialize", e);
+    }
+  }
+
+  private static Kryo kryo() {
+    Kryo kryo = KRYO.get();
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    kryo.setClassLoader(classLoader != null ?
+        classLoader : KryoResourceSerializer.class.getClassLoader());
+    return kryo;
+  }
+
+  private static Kryo createKryo() {
+    Kryo kryo = new Kryo() {
+      @Override
+      public Serializer getDefaultSerializer(Class type) {
+        if (needsJavaSerializer(type)) {
+          return new JavaSerializer();
+        }
+        return super.getDefaultSerializer(type);
+      }
+    };
+    kryo.setRegistrationRequired(false);
+    kryo.setReferences(true);
+    kryo.setInstantiatorStrategy(
+        new Kryo.DefaultInstantiatorStrategy(new StdInstantiatorStrategy()));
+    return kryo;
+  }
+
+  /**
+   * Kryo rebuilds collections and maps by calling add/put on a new instance, which fails for
+   * e.g. Arrays.asList or Collections.unmodifiableMap. Such classes and the ones customizing
+   * their java serialization are written by java serialization.
+   */
+  private static boolean needsJavaSerializer(Class<?> type) {
+    if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+      return !hasPublicNoArgConstructor(type);
+    }
+    if (Externalizable.class.isAssignableFrom(type)) {
+      return true;
+    }
+    for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      if (hasMethod(c, "writeObject", ObjectOutputStream.class)
+          || hasMethod(c, "readObject", ObjectInputStream.class)
+          || hasMethod(c, "writeReplace")
+          || hasMethod(c, "readResolve")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean hasPublicNoArgConstructor(Class<?> type) {
+    if (!Modifier.isPublic(type.getModifiers())) {
+      return false;
+    }
+    try {
+      return Modifier.isPublic(type.getConstructor().getModifiers());
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static boolean hasMethod(Class<?> c, String name, Class<?>... parameterTypes) {
+    try {
+      c.getDeclaredMethod(name, parameterTypes);
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+}
@@ -25,11 +25,8 @@ import org.apache.zeppelin.common.JsonSerializable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
@@ -58,7 +55,7 @@ public class Resource implements JsonSerializable, Serializable {
     this.r = r;
     this.pool = pool;
     this.resourceId = resourceId;
-    this.serializable = r instanceof Serializable;
+    this.serializable = ResourceSerializers.canSerialize(r);
     this.className = r.getClass().getName();
   }
 
@@ -386,22 +383,22 @@ public class Resource implements JsonSerializable, Serializable {
     }
   }
 
+  /**
+   * Serialize o with the ResourceSerializer for it.
+   *
+   * @param o
+   * @return null if o can't be serialized
+   * @throws IOException
+   */
   public static ByteBuffer serializeObject(Object o) throws IOException {
-    if (o == null || !(o instanceof Serializable)) {
+    if (!ResourceSerializers.canSerialize(o)) {
       return null;
     }
 
-    ByteArrayOutputStream out = new ByteArrayOutputStream();
-    try {
-      ObjectOutputStream oos;
-      oos = new ObjectOutputStream(out);
-      oos.writeObject(o);
-      oos.close();
-      out.close();
-    } catch (Exception e) {
-      e.printStackTrace();
-    }
-    return ByteBuffer.wrap(out.toByteArray());
+    SpillableBuffer.ExposedByteArrayOutputStream out =
+        new SpillableBuffer.ExposedByteArrayOutputStream();
+    ResourceSerializers.serialize(o, out);
+    return out.toByteBuffer();
   }
 
   public static Object deserializeObject(ByteBuffer buf)
@@ -409,16 +406,9 @@ public class Resource implements JsonSerializable, Serializable {
     if (buf == null) {
       return null;
     }
-    InputStream ins = ByteBufferInputStream.get(buf);
-    ObjectInputStream oin;
-    Object object = null;
-
-    oin = new ObjectInputStream(ins);
-    object = oin.readObject();
-    oin.close();
-    ins.close();
-
-    return object;
+    try (InputStream ins = ByteBufferInputStream.get(buf)) {
+      return ResourceSerializers.deserialize(ins);
+    }
   }
 
   private void logException(Exception e) {
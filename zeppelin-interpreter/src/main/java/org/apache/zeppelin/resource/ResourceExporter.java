@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes resources for transfer to other interpreter processes.
+ *
+ * A resource up to inlineThreshold bytes is returned as a whole. A bigger one is kept until the
+ * reader closes the transfer (or it is idle for idleTimeoutMs), and is read in chunks. Data over
+ * spillThreshold bytes is written to a temporary file in spillDir instead of memory, which a reader
+ * on the same host can map instead of reading it through zeppelin server.
+ */
+public class ResourceExporter {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ResourceExporter.class);
+  private static final String HOST_NAME = resolveHostName();
+
+  private final int inlineThreshold;
+  private final int spillThreshold;
+  private final File spillDir;
+  private final long idleTimeoutMs;
+  private final Map<String, Transfer> transfers = new ConcurrentHashMap<>();
+  private ScheduledExecutorService timer;
+
+  public ResourceExporter(int inlineThreshold, int spillThreshold, File spillDir,
+                          long idleTimeoutMs) {
+    this.inlineThreshold = inlineThreshold;
+    this.spillThreshold = spillThreshold;
+    this.spillDir = spillDir;
+    this.idleTimeoutMs = idleTimeoutMs;
+  }
+
+  /**
+   * @param o
+   * @return null if o can't be serialized
+   * @throws IOException
+   */
+  public Export export(Object o) throws IOException {
+    if (!ResourceSerializers.canSerialize(o)) {
+      return null;
+    }
+    SpillableBuffer buffer = new SpillableBuffer(spillThreshold, spillDir);
+    try {
+      ResourceSerializers.serialize(o, buffer);
+      buffer.close();
+    } catch (IOException | RuntimeException e) {
+      buffer.delete();
+      throw e;
+    }
+
+    if (buffer.size() <= inlineThreshold && buffer.getFile() == null) {
+      return new Export(null, buffer.size(), buffer.toByteBuffer(), null);
+    }
+    String transferId = UUID.randomUUID().toString();
+    transfers.put(transferId, new Transfer(buffer));
+    startTimer();
+    String path = buffer.getFile() == null ? null : buffer.getFile().getAbsolutePath();
+    return new Export(transferId, buffer.size(), null, path);
+  }
+
+  public ByteBuffer read(String transferId, long offset, int length) throws IOException {
+    Transfer transfer = transfers.get(transferId);
+    if (transfer == null) {
+      throw new IOException("No such transfer: " + transferId);
+    }
+    transfer.lastAccessTime = System.currentTimeMillis();
+    return transfer.buffer.read(offset, length);
+  }
+
+  public void close(String transferId) {
+    Transfer transfer = transfers.remove(transferId);
+    if (transfer != null) {
+      transfer.buffer.delete();
+    }
+  }
+
+  public void closeAll() {
+    synchronized (this) {
+      if (timer != null) {
+        timer.shutdownNow();
+        timer = null;
+      }
+    }
+    for (String transferId : transfers.keySet()) {
+      close(transferId);
+    }
+  }
+
+  int getNumTransfers() {
+    return transfers.size();
+  }
+
+  /**
+   * Transfers are expired in the background, so that the files of abandoned transfers don't stay
+   * until the next export.
+   */
+  private synchronized void startTimer() {
+    if (timer == null) {
+      timer = Executors.newSingleThreadScheduledExecutor(
+          new SchedulerThreadFactory("ResourceExporter-"));
+      long period = Math.max(1, idleTimeoutMs / 2);
+      timer.scheduleWithFixedDelay(this::expireIdleTransfers, period, period,
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void expireIdleTransfers() {
+    long now = System.currentTimeMillis();
+    Iterator<Map.Entry<String, Transfer>> it = transfers.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<String, Transfer> entry = it.next();
+      if (now - entry.getValue().lastAccessTime > idleTimeoutMs) {
+        LOGGER.warn("Resource transfer {} is not closed in time, remove it", entry.getKey());
+        it.remove();
+        entry.getValue().buffer.delete();
+      }
+    }
+  }
+
+  /**
+   * Name of this host, to tell whether the file of a transfer is accessible.
+   *
+   * @return
+   */
+  public static String getHostName() {
+    return HOST_NAME;
+  }
+
+  private static String resolveHostName() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Result of export.
+   */
+  public static class Export {
+    private final String transferId;
+    private final long size;
+    private final ByteBuffer data;
+    private final String path;
+
+    Export(String transferId, long size, ByteBuffer data, String path) {
+      this.transferId = transferId;
+      this.size = size;
+      this.data = data;
+      this.path = path;
+    }
+
+    /**
+     * @return null when data has the whole resource
+     */
+    public String getTransferId() {
+      return transferId;
+    }
+
+    public long getSize() {
+      return size;
+    }
+
+    public ByteBuffer getData() {
+      return data;
+    }
+
+    /**
+     * @return file of the serialized resource, null when it is in memory
+     */
+    public String getPath() {
+      return path;
+    }
+  }
+
+  private static class Transfer {
+    private final SpillableBuffer buffer;
+    private volatile long lastAccessTime = System.currentTimeMillis();
+
+    Transfer(SpillableBuffer buffer) {
+      this.buffer = buffer;
+    }
+  }
+}
@@ -26,6 +26,27 @@ public interface ResourcePoolConnector {
    */
   ResourceSet getAllResources();
 
+  /**
+   * Get list of resources with the given name from all other resource pools in remote processes
+   * @return
+   */
+  default ResourceSet getResourcesByName(String name) {
+    ResourceSet resources = getAllResources();
+    return resources == null ? null : resources.filterByName(name);
+  }
+
+  /**
+   * Called after a resource is put into the local resource pool
+   */
+  default void onResourcePut(Resource resource) {
+  }
+
+  /**
+   * Called after a resource is removed from the local resource pool
+   */
+  default void onResourceRemove(ResourceId resourceId) {
+  }
+
   /**
    * Read remote object
    * @return
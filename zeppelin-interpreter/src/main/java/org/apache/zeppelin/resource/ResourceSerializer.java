@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Serializes the objects of resources which are transferred between interpreter processes.
+ *
+ * Implementations are found with java.util.ServiceLoader, or registered by
+ * ResourceSerializers.register, e.g. a Kryo or Arrow based serializer for the data frames of an
+ * interpreter. The first serializer which accepts an object is used, java serialization is the
+ * fallback. The name of the serializer is written before the data, so the same serializer must
+ * be available in the process which reads the resource.
+ */
+public interface ResourceSerializer {
+
+  /**
+   * @return unique name of this serializer
+   */
+  String getName();
+
+  /**
+   * @param o
+   * @return true if this serializer can serialize o
+   */
+  boolean accept(Object o);
+
+  void serialize(Object o, OutputStream out) throws IOException;
+
+  Object deserialize(InputStream in) throws IOException, ClassNotFoundException;
+}
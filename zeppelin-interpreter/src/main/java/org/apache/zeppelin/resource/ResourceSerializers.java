@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of ResourceSerializers.
+ *
+ * Data written by a serializer other than java serialization starts with MAGIC and the name of
+ * the serializer. Java serialization data starts with its own stream header (0xACED) instead.
+ */
+public class ResourceSerializers {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ResourceSerializers.class);
+
+  private static final byte[] MAGIC = {'Z', 'R'};
+  private static final ResourceSerializer JAVA_SERIALIZER = new JavaResourceSerializer();
+  private static final List<ResourceSerializer> serializers = new CopyOnWriteArrayList<>();
+  private static volatile boolean loaded = false;
+
+  private ResourceSerializers() {
+  }
+
+  /**
+   * Register a serializer, it is preferred to the ones registered before.
+   *
+   * @param serializer
+   */
+  public static synchronized void register(ResourceSerializer serializer) {
+    load();
+    unregister(serializer.getName());
+    serializers.add(0, serializer);
+  }
+
+  public static synchronized void unregister(String name) {
+    for (ResourceSerializer serializer : serializers) {
+      if (serializer.getName().equals(name)) {
+        serializers.remove(serializer);
+      }
+    }
+  }
+
+  /**
+   * @param o
+   * @return serializer for o, null if o can't be serialized
+   */
+  public static ResourceSerializer get(Object o) {
+    if (o == null) {
+      return null;
+    }
+    load();
+    for (ResourceSerializer serializer : serializers) {
+      try {
+        if (serializer.accept(o)) {
+          return serializer;
+        }
+      } catch (RuntimeException e) {
+        LOGGER.warn("ResourceSerializer {} fails to check {}", serializer.getName(),
+            o.getClass().getName(), e);
+      }
+    }
+    return JAVA_SERIALIZER.accept(o) ? JAVA_SERIALIZER : null;
+  }
+
+  public static boolean canSerialize(Object o) {
+    return get(o) != null;
+  }
+
+  public static void serialize(Object o, OutputStream out) throws IOException {
+    ResourceSerializer serializer = get(o);
+    if (serializer == null) {
+      throw new NotSerializableException(o == null ? "null" : o.getClass().getName());
+    }
+    if (serializer != JAVA_SERIALIZER) {
+      DataOutputStream dataOut = new DataOutputStream(out);
+      dataOut.write(MAGIC);
+      dataOut.writeUTF(serializer.getName());
+      dataOut.flush();
+    }
+    serializer.serialize(o, out);
+  }
+
+  public static Object deserialize(InputStream in) throws IOException, ClassNotFoundException {
+    if (!in.markSupported()) {
+      in = new BufferedInputStream(in);
+    }
+    in.mark(MAGIC.length);
+    if (in.read() == MAGIC[0] && in.read() == MAGIC[1]) {
+      String name = new DataInputStream(in).readUTF();
+      return find(name).deserialize(in);
+    }
+    in.reset();
+    return JAVA_SERIALIZER.deserialize(in);
+  }
+
+  private static ResourceSerializer find(String name) throws IOException {
+    load();
+    for (ResourceSerializer serializer : serializers) {
+      if (serializer.getName().equals(name)) {
+        return serializer;
+      }
+    }
+    throw new IOException("No ResourceSerializer found: " + name);
+  }
+
+  private static void load() {
+    if (loaded) {
+      return;
+    }
+    synchronized (ResourceSerializers.class) {
+      if (loaded) {
+        return;
+      }
+      try {
+        for (ResourceSerializer serializer : ServiceLoader.load(ResourceSerializer.class)) {
+          LOGGER.info("Load ResourceSerializer {}", serializer.getName());
+          serializers.add(serializer);
+        }
+      } catch (ServiceConfigurationError e) {
+        LOGGER.warn("Fail to load ResourceSerializers", e);
+      }
+      loaded = true;
+    }
+  }
+}
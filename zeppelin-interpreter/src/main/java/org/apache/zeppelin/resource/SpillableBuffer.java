@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.apache.zeppelin.util.OwnerOnlyFiles;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+
+/**
+ * OutputStream which keeps the data in memory up to spillThreshold bytes, and moves it to a
+ * temporary file when it grows beyond that. The data can be read back in chunks after close.
+ */
+public class SpillableBuffer extends OutputStream {
+
+  private final int spillThreshold;
+  private final File spillDir;
+  private ExposedByteArrayOutputStream memory = new ExposedByteArrayOutputStream();
+  private File file;
+  private OutputStream fileOut;
+  private FileChannel fileChannel;
+  private long size = 0;
+
+  /**
+   * @param spillThreshold max bytes kept in memory
+   * @param spillDir directory of the temporary file, which is only accessible by the owner
+   */
+  public SpillableBuffer(int spillThreshold, File spillDir) {
+    this.spillThreshold = spillThreshold;
+    this.spillDir = spillDir;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    spillIfNeeded(1);
+    out().write(b);
+    size++;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    spillIfNeeded(len);
+    out().write(b, off, len);
+    size += len;
+  }
+
+  private OutputStream out() {
+    return file == null ? memory : fileOut;
+  }
+
+  private void spillIfNeeded(int len) throws IOException {
+    if (file != null || size + len <= spillThreshold) {
+      return;
+    }
+    file = OwnerOnlyFiles.createTempFile(spillDir.toPath(), "zeppelin-resource-", ".bin")
+        .toFile();
+    fileOut = new BufferedOutputStream(new FileOutputStream(file), 64 * 1024);
+    memory.writeTo(fileOut);
+    memory = null;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (fileOut != null) {
+      fileOut.close();
+    }
+  }
+
+  public long size() {
+    return size;
+  }
+
+  /**
+   * @return the temporary file, null when the data is in memory
+   */
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * @return all data, null when it is spilled to disk
+   */
+  public ByteBuffer toByteBuffer() {
+    return memory == null ? null : memory.toByteBuffer();
+  }
+
+  /**
+   * Read data after the buffer is closed.
+   *
+   * @param offset
+   * @param length
+   * @return at most length bytes from offset, empty at the end
+   * @throws IOException
+   */
+  public synchronized ByteBuffer read(long offset, int length) throws IOException {
+    if (offset < 0 || length < 0) {
+      throw new IOException("Invalid offset " + offset + " or length " + length);
+    }
+    if (memory == null && file == null) {
+      throw new IOException("Buffer is deleted");
+    }
+    int len = (int) Math.max(0, Math.min(length, size - offset));
+    if (memory != null) {
+      ByteBuffer buffer = memory.toByteBuffer();
+      buffer.position((int) Math.min(offset, size));
+      buffer.limit(buffer.position() + len);
+      return buffer.slice();
+    }
+    if (fileChannel == null) {
+      fileChannel = new RandomAccessFile(file, "r").getChannel();
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(len);
+    while (buffer.hasRemaining()) {
+      if (fileChannel.read(buffer, offset + buffer.position()) < 0) {
+        throw new IOException("Unexpected end of " + file);
+      }
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * Release memory and delete the temporary file.
+   */
+  public synchronized void delete() {
+    memory = null;
+    size = 0;
+    try {
+      close();
+      if (fileChannel != null) {
+        fileChannel.close();
+      }
+    } catch (IOException e) {
+      // ignore
+    }
+    if (file != null) {
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (IOException e) {
+        // ignore
+      }
+    }
+  }
+
+  /**
+   * ByteArrayOutputStream whose data can be read without copying it.
+   */
+  static class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+    ByteBuffer toByteBuffer() {
+      return ByteBuffer.wrap(buf, 0, count);
+    }
+  }
+}
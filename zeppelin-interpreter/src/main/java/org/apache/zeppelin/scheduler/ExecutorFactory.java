@@ -16,6 +16,10 @@
  */
 package org.apache.zeppelin.scheduler;
 
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
@@ -23,15 +27,46 @@ import java.util.concurrent.Executors;
 
 /**
  * Factory class for Executor
+ *
+ * Besides the usual thread pools, it provides threads for tasks that spend most of their time
+ * blocked, like scheduler loops and pollers. They are virtual threads when
+ * zeppelin.scheduler.thread.backend is virtual, or auto (default) and the JVM supports virtual
+ * threads, so that thousands of idle schedulers don't hold thousands of platform threads.
+ * Otherwise they are platform threads as before.
  */
 public class ExecutorFactory {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ExecutorFactory.class);
+
   private static ExecutorFactory instance;
   private static Long _executorLock = new Long(0);
 
   private Map<String, ExecutorService> executors = new HashMap<>();
+  private final boolean virtualThreadEnabled;
 
   private ExecutorFactory() {
+    this(ZeppelinConfiguration.create().getSchedulerThreadBackend());
+  }
 
+  ExecutorFactory(String threadBackend) {
+    switch (threadBackend.toLowerCase()) {
+      case "platform":
+        virtualThreadEnabled = false;
+        break;
+      case "virtual":
+        if (!VirtualThreads.isSupported()) {
+          LOGGER.warn("Virtual threads are not supported in this JVM, use platform threads");
+        }
+        virtualThreadEnabled = VirtualThreads.isSupported();
+        break;
+      case "auto":
+        virtualThreadEnabled = VirtualThreads.isSupported();
+        break;
+      default:
+        throw new IllegalArgumentException("Invalid thread backend: " + threadBackend
+            + ", it should be one of auto, virtual, platform");
+    }
+    LOGGER.info("Use {} threads for schedulers and pollers",
+        virtualThreadEnabled ? "virtual" : "platform");
   }
 
   public static ExecutorFactory singleton() {
@@ -55,6 +90,46 @@ public class ExecutorFactory {
     }
   }
 
+  /**
+   * Executor for tasks that mostly wait, e.g. scheduler loops. With virtual threads every task
+   * runs in its own virtual thread and numThread is ignored, otherwise it is the same as
+   * createOrGet.
+   *
+   * @param name
+   * @param numThread
+   * @return
+   */
+  public ExecutorService createOrGetLightweight(String name, int numThread) {
+    if (!virtualThreadEnabled) {
+      return createOrGet(name, numThread);
+    }
+    synchronized (executors) {
+      if (!executors.containsKey(name)) {
+        executors.put(name, VirtualThreads.newThreadPerTaskExecutor(
+            VirtualThreads.newThreadFactory(name + "-")));
+      }
+      return executors.get(name);
+    }
+  }
+
+  /**
+   * Create a thread for a task that mostly waits, e.g. a poller. It is not started yet.
+   *
+   * @param name
+   * @param runnable
+   * @return
+   */
+  public Thread newLightweightThread(String name, Runnable runnable) {
+    if (!virtualThreadEnabled) {
+      return new Thread(runnable, name);
+    }
+    return VirtualThreads.newThread(name, runnable);
+  }
+
+  public boolean isVirtualThreadEnabled() {
+    return virtualThreadEnabled;
+  }
+
   public void shutdown(String name) {
     synchronized (executors) {
       if (executors.containsKey(name)) {
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Function;
+
+/**
+ * Pending jobs of a scheduler, queued per user (or per note) and dispatched by weighted fair
+ * queuing. Every queue has a virtual time which advances by 1 / weight for each job dispatched
+ * from it, and the non-empty queue with the smallest virtual time goes next. At most
+ * maxConcurrency dispatched jobs are running at the same time, and at most
+ * maxConcurrencyPerQueue of them from the same queue.
+ *
+ * Used by FairScheduler in the interpreter process and by RemoteScheduler in ZeppelinServer,
+ * which is where the order of the jobs sent to a remote interpreter is decided.
+ */
+public class FairJobQueue {
+
+  private final int maxConcurrency;
+  private final int maxConcurrencyPerQueue;
+  private final Map<String, Double> weights;
+  private final Function<Job, String> queueKeyFunction;
+
+  // all below are guarded by this
+  private final Map<String, JobQueue> queues = new HashMap<>();
+  // queue of the dispatched jobs which are not finished yet. Identity based, because equals and
+  // hashCode of some jobs (e.g. Paragraph) change when they run.
+  private final Map<Job, JobQueue> runningJobs = new IdentityHashMap<>();
+  private double virtualTime = 0;
+  private boolean closed = false;
+
+  public FairJobQueue(int maxConcurrency,
+                      int maxConcurrencyPerQueue,
+                      Map<String, Double> weights,
+                      Function<Job, String> queueKeyFunction) {
+    this.maxConcurrency = maxConcurrency;
+    this.maxConcurrencyPerQueue = maxConcurrencyPerQueue;
+    this.weights = weights;
+    this.queueKeyFunction = queueKeyFunction;
+  }
+
+  public synchronized void add(Job job) {
+    String key = queueKeyFunction.apply(job);
+    JobQueue jobQueue = queues.computeIfAbsent(key, k -> new JobQueue(k));
+    if (jobQueue.pending.isEmpty()) {
+      // a queue that was idle doesn't get credit for the time it was idle
+      jobQueue.virtualTime = Math.max(jobQueue.virtualTime, virtualTime);
+    }
+    jobQueue.pending.add(job);
+    notifyAll();
+  }
+
+  /**
+   * Wait until a job can be dispatched. The job counts as running until {@link #done(Job)}.
+   *
+   * @return next job, or null if this queue is closed
+   * @throws InterruptedException
+   */
+  public synchronized Job take() throws InterruptedException {
+    JobQueue next = null;
+    while (!closed && (next = nextQueue()) == null) {
+      wait();
+    }
+    if (next == null) {
+      return null;
+    }
+    Job job = next.pending.poll();
+    next.running++;
+    runningJobs.put(job, next);
+    virtualTime = next.virtualTime;
+    next.virtualTime += 1.0 / weights.getOrDefault(next.key, 1.0);
+    return job;
+  }
+
+  public synchronized void done(Job job) {
+    JobQueue jobQueue = runningJobs.remove(job);
+    if (jobQueue == null) {
+      return;
+    }
+    jobQueue.running--;
+    if (jobQueue.running == 0 && jobQueue.pending.isEmpty()) {
+      queues.remove(jobQueue.key);
+    }
+    notifyAll();
+  }
+
+  /**
+   * Close this queue, so that {@link #take()} returns null.
+   *
+   * @return jobs which are not dispatched yet
+   */
+  public synchronized List<Job> close() {
+    closed = true;
+    List<Job> pendingJobs = new ArrayList<>();
+    for (JobQueue jobQueue : queues.values()) {
+      pendingJobs.addAll(jobQueue.pending);
+      jobQueue.pending.clear();
+    }
+    notifyAll();
+    return pendingJobs;
+  }
+
+  private JobQueue nextQueue() {
+    if (runningJobs.size() >= maxConcurrency) {
+      return null;
+    }
+    JobQueue next = null;
+    for (JobQueue jobQueue : queues.values()) {
+      if (!jobQueue.pending.isEmpty() && jobQueue.running < maxConcurrencyPerQueue
+          && (next == null || jobQueue.virtualTime < next.virtualTime)) {
+        next = jobQueue;
+      }
+    }
+    return next;
+  }
+
+  private static class JobQueue {
+    final String key;
+    final Queue<Job> pending = new ArrayDeque<>();
+    int running = 0;
+    double virtualTime = 0;
+
+    JobQueue(String key) {
+      this.key = key;
+    }
+  }
+}
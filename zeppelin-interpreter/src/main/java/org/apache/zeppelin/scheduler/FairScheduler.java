@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.zeppelin.interpreter.Interpreter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * FairScheduler shares the capacity of one scheduler among users (or notes).
+ *
+ * Each user has its own queue, and jobs are picked by weighted fair queuing (see FairJobQueue).
+ * So a user who submits many paragraphs only gets their share instead of starving everyone else.
+ * At most maxConcurrency jobs run at the same time, and at most maxConcurrencyPerQueue of them
+ * from the same queue.
+ *
+ * For remote interpreters the order in which jobs are sent to the interpreter process is decided
+ * by RemoteScheduler in ZeppelinServer, which uses the same FairJobQueue when it is enabled.
+ * FairScheduler in the interpreter process then only enforces the concurrency caps.
+ */
+public class FairScheduler extends AbstractScheduler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(FairScheduler.class);
+
+  // interpreter properties to enable and configure FairScheduler per interpreter setting
+  public static final String ENABLED_PROPERTY = "zeppelin.scheduler.fair.enabled";
+  // user or note
+  public static final String QUEUE_BY_PROPERTY = "zeppelin.scheduler.fair.queueBy";
+  public static final String WEIGHTS_PROPERTY = "zeppelin.scheduler.fair.weights";
+  public static final String MAX_CONCURRENCY_PROPERTY = "zeppelin.scheduler.fair.maxConcurrency";
+  public static final String MAX_CONCURRENCY_PER_QUEUE_PROPERTY =
+      "zeppelin.scheduler.fair.maxConcurrencyPerQueue";
+
+  private final ExecutorService executor;
+  private final FairJobQueue fairJobQueue;
+
+  FairScheduler(String name,
+                int maxConcurrency,
+                int maxConcurrencyPerQueue,
+                Map<String, Double> weights,
+                Function<Job, String> queueKeyFunction) {
+    super(name);
+    this.fairJobQueue = new FairJobQueue(maxConcurrency, maxConcurrencyPerQueue, weights,
+        queueKeyFunction);
+    this.executor = Executors.newFixedThreadPool(maxConcurrency,
+        new SchedulerThreadFactory("FairScheduler-" + name + "-Worker-"));
+  }
+
+  public static boolean isEnabled(Interpreter intp) {
+    return Boolean.parseBoolean(intp.getProperty(ENABLED_PROPERTY, "false"));
+  }
+
+  public static boolean isQueueByNote(Interpreter intp) {
+    return "note".equalsIgnoreCase(intp.getProperty(QUEUE_BY_PROPERTY, "user"));
+  }
+
+  public static int getMaxConcurrency(Interpreter intp) {
+    return Integer.parseInt(intp.getProperty(MAX_CONCURRENCY_PROPERTY, "1"));
+  }
+
+  public static int getMaxConcurrencyPerQueue(Interpreter intp) {
+    return Integer.parseInt(intp.getProperty(MAX_CONCURRENCY_PER_QUEUE_PROPERTY,
+        getMaxConcurrency(intp) + ""));
+  }
+
+  public static Map<String, Double> getWeights(Interpreter intp) {
+    return parseWeights(intp.getProperty(WEIGHTS_PROPERTY));
+  }
+
+  /**
+   * Parse weights like "user1:2,user2:0.5". Queues that are not specified have weight 1.
+   *
+   * @param weights
+   * @return
+   */
+  public static Map<String, Double> parseWeights(String weights) {
+    Map<String, Double> result = new HashMap<>();
+    if (StringUtils.isBlank(weights)) {
+      return result;
+    }
+    for (String weight : weights.split(",")) {
+      String[] keyValue = weight.trim().split(":");
+      if (keyValue.length != 2) {
+        throw new IllegalArgumentException("Invalid weight: " + weight);
+      }
+      double value = Double.parseDouble(keyValue[1].trim());
+      if (value <= 0) {
+        throw new IllegalArgumentException("Weight must be positive: " + weight);
+      }
+      result.put(keyValue[0].trim(), value);
+    }
+    return result;
+  }
+
+  @Override
+  public void submit(Job job) {
+    job.setStatus(Job.Status.PENDING);
+    jobs.put(job.getId(), job);
+    fairJobQueue.add(job);
+  }
+
+  @Override
+  public void run() {
+    while (!terminate) {
+      Job job;
+      try {
+        job = fairJobQueue.take();
+      } catch (InterruptedException e) {
+        LOGGER.warn("{} is interrupted", getClass().getSimpleName(), e);
+        break;
+      }
+      if (job == null) {
+        break;
+      }
+      executor.execute(() -> {
+        try {
+          runJob(job);
+        } finally {
+          fairJobQueue.done(job);
+        }
+      });
+    }
+  }
+
+  @Override
+  public void runJobInScheduler(Job job) {
+    executor.execute(() -> runJob(job));
+  }
+
+  @Override
+  public void stop() {
+    super.stop();
+    for (Job job : fairJobQueue.close()) {
+      job.aborted = true;
+      job.jobAbort();
+    }
+    executor.shutdownNow();
+  }
+}
@@ -20,23 +20,51 @@ package org.apache.zeppelin.scheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * Polls job progress with given interval
  *
+ * All pollers share one timer thread instead of running a thread per job, and the listener is
+ * only notified when the progress of the job changed since the last poll. The timer thread only
+ * triggers the polls, getting the progress (e.g. a getProgress RPC to an interpreter process)
+ * runs in a worker thread, so a slow or hung interpreter only delays the progress of its own job.
+ * A job is not polled again while its previous poll is still running.
+ *
  * @see Job#progress()
  * @see JobListener#onProgressUpdate(org.apache.zeppelin.scheduler.Job, int)
- *
- * TODO(moon) : add description.
  */
-public class JobProgressPoller extends Thread {
+public class JobProgressPoller {
   public static final long DEFAULT_INTERVAL_MSEC = 500;
   private static final Logger logger = LoggerFactory.getLogger(JobProgressPoller.class);
 
+  private static final ScheduledExecutorService TIMER =
+      Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "JobProgressPoller");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  private static final ExecutorService WORKERS =
+      Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "JobProgressPoller-worker");
+        thread.setDaemon(true);
+        return thread;
+      });
+
   private Job job;
   private long intervalMs;
+  private ScheduledFuture<?> future;
+  private volatile int lastProgress = -1;
+  private final AtomicBoolean polling = new AtomicBoolean(false);
 
   public JobProgressPoller(Job job, long intervalMs) {
-    super("JobProgressPoller, jobId=" + job.getId());
     this.job = job;
     if (intervalMs < 0) {
       throw new IllegalArgumentException("polling interval can't be " + intervalMs);
@@ -44,24 +72,54 @@ public class JobProgressPoller extends Thread {
     this.intervalMs = intervalMs == 0 ? DEFAULT_INTERVAL_MSEC : intervalMs;
   }
 
-  @Override
-  public void run() {
+  public synchronized void start() {
+    if (future == null) {
+      future = TIMER.scheduleWithFixedDelay(this::schedulePoll, 0, intervalMs,
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  public synchronized void stop() {
+    if (future != null) {
+      future.cancel(false);
+      future = null;
+    }
+  }
+
+  private void schedulePoll() {
+    if (!polling.compareAndSet(false, true)) {
+      // the previous poll of this job is still waiting for its progress
+      return;
+    }
+    try {
+      WORKERS.execute(() -> {
+        try {
+          poll();
+        } finally {
+          polling.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      polling.set(false);
+      logger.warn("Fail to poll progress of job {}", job.getId(), e);
+    }
+  }
+
+  void poll() {
+    JobListener listener = job.getListener();
+    if (listener == null) {
+      return;
+    }
     try {
-      while (!Thread.interrupted()) {
-        JobListener listener = job.getListener();
-        if (listener != null) {
-          try {
-            if (job.isRunning()) {
-              listener.onProgressUpdate(job, job.progress());
-            }
-          } catch (Exception e) {
-            logger.error("Can not get or update progress", e);
-          }
+      if (job.isRunning()) {
+        int progress = job.progress();
+        if (progress != lastProgress) {
+          lastProgress = progress;
+          listener.onProgressUpdate(job, progress);
         }
-        Thread.sleep(intervalMs);
       }
-    } catch (InterruptedException ignored) {
-      // just ignore this exception
+    } catch (Exception e) {
+      logger.error("Can not get or update progress", e);
     }
   }
 }
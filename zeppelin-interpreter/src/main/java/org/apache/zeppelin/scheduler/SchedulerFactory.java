@@ -24,6 +24,7 @@ import org.slf4j.LoggerFactory;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 
 /**
  * Factory class for creating schedulers except RemoteScheduler as RemoteScheduler runs in
@@ -33,8 +34,12 @@ import java.util.concurrent.ExecutorService;
 public class SchedulerFactory {
   private static final Logger LOGGER = LoggerFactory.getLogger(SchedulerFactory.class);
   private static final String SCHEDULER_EXECUTOR_NAME = "SchedulerFactory";
+  private static final String SCHEDULER_LOOP_EXECUTOR_NAME = "SchedulerFactory-Loop";
 
+  // runs jobs, e.g. the job runners of RemoteScheduler which run Paragraph.jobRun
   protected ExecutorService executor;
+  // runs the loops of schedulers, which only wait for the next job
+  protected ExecutorService loopExecutor;
   protected Map<String, Scheduler> schedulers = new HashMap<>();
 
   private static SchedulerFactory singleton;
@@ -60,14 +65,27 @@ public class SchedulerFactory {
     int threadPoolSize =
         zConf.getInt(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_SCHEDULER_POOL_SIZE);
     LOGGER.info("Scheduler Thread Pool Size: " + threadPoolSize);
+    // Jobs stay on platform threads (at most zeppelin.scheduler.threadpool.size of them),
+    // because they run interpreter and notebook code that may rely on thread locals or pin
+    // the carrier thread. Scheduler loops mostly wait, so they run in virtual threads when
+    // available, otherwise they share the same pool as before.
     executor = ExecutorFactory.singleton().createOrGet(SCHEDULER_EXECUTOR_NAME, threadPoolSize);
+    if (ExecutorFactory.singleton().isVirtualThreadEnabled()) {
+      loopExecutor = ExecutorFactory.singleton().createOrGetLightweight(
+          SCHEDULER_LOOP_EXECUTOR_NAME, threadPoolSize);
+    } else {
+      loopExecutor = executor;
+    }
   }
 
   public void destroy() {
     LOGGER.info("Destroy all executors");
     ExecutorFactory.singleton().shutdown(SCHEDULER_EXECUTOR_NAME);
+    ExecutorFactory.singleton().shutdown(SCHEDULER_LOOP_EXECUTOR_NAME);
     this.executor.shutdownNow();
     this.executor = null;
+    this.loopExecutor.shutdownNow();
+    this.loopExecutor = null;
     singleton = null;
   }
 
@@ -76,7 +94,7 @@ public class SchedulerFactory {
       if (!schedulers.containsKey(name)) {
         FIFOScheduler s = new FIFOScheduler(name);
         schedulers.put(name, s);
-        executor.execute(s);
+        loopExecutor.execute(s);
       }
       return schedulers.get(name);
     }
@@ -87,18 +105,33 @@ public class SchedulerFactory {
       if (!schedulers.containsKey(name)) {
         ParallelScheduler s = new ParallelScheduler(name, maxConcurrency);
         schedulers.put(name, s);
-        executor.execute(s);
+        loopExecutor.execute(s);
+      }
+      return schedulers.get(name);
+    }
+  }
+
+  public Scheduler createOrGetFairScheduler(String name,
+                                            int maxConcurrency,
+                                            int maxConcurrencyPerQueue,
+                                            Map<String, Double> weights,
+                                            Function<Job, String> queueKeyFunction) {
+    synchronized (schedulers) {
+      if (!schedulers.containsKey(name)) {
+        FairScheduler s = new FairScheduler(name, maxConcurrency, maxConcurrencyPerQueue,
+            weights, queueKeyFunction);
+        schedulers.put(name, s);
+        loopExecutor.execute(s);
       }
       return schedulers.get(name);
     }
   }
 
-  
   public Scheduler createOrGetScheduler(Scheduler scheduler) {
     synchronized (schedulers) {
       if (!schedulers.containsKey(scheduler.getName())) {
         schedulers.put(scheduler.getName(), scheduler);
-        executor.execute(scheduler);
+        loopExecutor.execute(scheduler);
       }
       return schedulers.get(scheduler.getName());
     }
@@ -113,6 +146,11 @@ public class SchedulerFactory {
     }
   }
 
+  /**
+   * Executor of jobs, always platform threads.
+   *
+   * @return
+   */
   public ExecutorService getExecutor() {
     return executor;
   }
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads (JDK 21+) via reflection, since zeppelin is still built for JDK 8.
+ * Virtual threads are only reported as supported when one can actually be created, so JDKs where
+ * they are a preview feature that is not enabled fall back to platform threads as well.
+ */
+final class VirtualThreads {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreads.class);
+
+  private static final Method OF_VIRTUAL;
+  private static final Method BUILDER_NAME;
+  private static final Method BUILDER_NAME_WITH_COUNTER;
+  private static final Method BUILDER_FACTORY;
+  private static final Method BUILDER_UNSTARTED;
+  private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+  private static final boolean SUPPORTED;
+
+  static {
+    Method ofVirtual = null;
+    Method builderName = null;
+    Method builderNameWithCounter = null;
+    Method builderFactory = null;
+    Method builderUnstarted = null;
+    Method newThreadPerTaskExecutor = null;
+    boolean supported = false;
+    try {
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      builderName = builderClass.getMethod("name", String.class);
+      builderNameWithCounter = builderClass.getMethod("name", String.class, long.class);
+      builderFactory = builderClass.getMethod("factory");
+      builderUnstarted = builderClass.getMethod("unstarted", Runnable.class);
+      newThreadPerTaskExecutor = Class.forName("java.util.concurrent.Executors")
+          .getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+      // throws UnsupportedOperationException when virtual threads are a disabled preview feature
+      ((ThreadFactory) builderFactory.invoke(ofVirtual.invoke(null))).newThread(() -> { });
+      supported = true;
+    } catch (NoSuchMethodException | ClassNotFoundException e) {
+      LOGGER.debug("Virtual threads are not available in this JVM");
+    } catch (Throwable e) {
+      LOGGER.info("Virtual threads are not usable in this JVM: {}", e.toString());
+    }
+    OF_VIRTUAL = ofVirtual;
+    BUILDER_NAME = builderName;
+    BUILDER_NAME_WITH_COUNTER = builderNameWithCounter;
+    BUILDER_FACTORY = builderFactory;
+    BUILDER_UNSTARTED = builderUnstarted;
+    NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    SUPPORTED = supported;
+  }
+
+  private VirtualThreads() {
+  }
+
+  static boolean isSupported() {
+    return SUPPORTED;
+  }
+
+  /**
+   * @param namePrefix threads are named namePrefix followed by a counter starting from 1
+   * @return ThreadFactory creating virtual threads
+   */
+  static ThreadFactory newThreadFactory(String namePrefix) {
+    checkSupported();
+    try {
+      Object builder = BUILDER_NAME_WITH_COUNTER.invoke(OF_VIRTUAL.invoke(null), namePrefix, 1L);
+      return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Fail to create virtual thread factory", e);
+    }
+  }
+
+  /**
+   * @param name
+   * @param runnable
+   * @return virtual thread which is not started yet
+   */
+  static Thread newThread(String name, Runnable runnable) {
+    checkSupported();
+    try {
+      Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), name);
+      return (Thread) BUILDER_UNSTARTED.invoke(builder, runnable);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Fail to create virtual thread", e);
+    }
+  }
+
+  /**
+   * @param threadFactory
+   * @return ExecutorService which starts a new thread for every task
+   */
+  static ExecutorService newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+    checkSupported();
+    try {
+      return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Fail to create virtual thread executor", e);
+    }
+  }
+
+  private static void checkSupported() {
+    if (!SUPPORTED) {
+      throw new UnsupportedOperationException("Virtual threads are not supported in this JVM");
+    }
+  }
+}
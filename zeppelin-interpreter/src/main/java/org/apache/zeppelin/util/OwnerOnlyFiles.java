@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.util;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+
+/**
+ * Creates files and directories which only the owner can access, for data of users which is
+ * kept on local disk. Permissions are not changed on file systems without posix attributes.
+ */
+public class OwnerOnlyFiles {
+  private static final boolean POSIX =
+      FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+  private static final Set<PosixFilePermission> DIR_PERMISSIONS =
+      PosixFilePermissions.fromString("rwx------");
+  private static final Set<PosixFilePermission> FILE_PERMISSIONS =
+      PosixFilePermissions.fromString("rw-------");
+
+  private OwnerOnlyFiles() {
+  }
+
+  /**
+   * Create dir and its parents if they don't exist, restricted to the owner. The permissions of
+   * an existing dir are left as they are, as it may be shared on purpose.
+   *
+   * @param dir
+   * @return dir
+   * @throws IOException
+   */
+  public static Path createDirectories(Path dir) throws IOException {
+    if (Files.isDirectory(dir)) {
+      return dir;
+    }
+    if (POSIX) {
+      Files.createDirectories(dir, PosixFilePermissions.asFileAttribute(DIR_PERMISSIONS));
+      // the attribute is masked by umask
+      Files.setPosixFilePermissions(dir, DIR_PERMISSIONS);
+    } else {
+      Files.createDirectories(dir);
+    }
+    return dir;
+  }
+
+  /**
+   * Create a new empty file in dir, which is created if it doesn't exist.
+   *
+   * @param dir
+   * @param prefix
+   * @param suffix
+   * @return
+   * @throws IOException
+   */
+  public static Path createTempFile(Path dir, String prefix, String suffix) throws IOException {
+    createDirectories(dir);
+    return Files.createTempFile(dir, prefix, suffix, fileAttributes());
+  }
+
+  /**
+   * Create file with owner only permissions, which must not exist.
+   *
+   * @param file
+   * @return
+   * @throws IOException
+   */
+  public static Path createFile(Path file) throws IOException {
+    return Files.createFile(file, fileAttributes());
+  }
+
+  private static FileAttribute<?>[] fileAttributes() {
+    return POSIX ? new FileAttribute<?>[]{PosixFilePermissions.asFileAttribute(FILE_PERMISSIONS)}
+        : new FileAttribute<?>[0];
+  }
+}
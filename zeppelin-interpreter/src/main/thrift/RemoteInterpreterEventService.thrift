@@ -93,6 +93,12 @@ struct ParagraphInfo {
   4: string paragraphText
 }
 
+struct ParagraphProgressEvent {
+  1: string noteId,
+  2: string paragraphId,
+  3: i32 progress
+}
+
 exception ServiceException{
   1: required string message;
 }
@@ -100,6 +106,8 @@ exception ServiceException{
 service RemoteInterpreterEventService {
   void registerInterpreterProcess(1: RegisterInfo registerInfo);
   void appendOutput(1: OutputAppendEvent event);
+  // appends of several outputs in the order they happened, each one is applied like appendOutput
+  void appendOutputBatch(1: list<OutputAppendEvent> events);
   void updateOutput(1: OutputUpdateEvent event);
   void updateAllOutput(1: OutputUpdateAllEvent event);
 
@@ -114,12 +122,25 @@ service RemoteInterpreterEventService {
   void addAngularObject(1: string intpGroupId, 2: string json);
   void updateAngularObject(1: string intpGroupId, 2: string json);
   void removeAngularObject(1: string intpGroupId, 2: string noteId, 3: string paragraphId, 4: string name);
+  // patch is a JsonPatch against the value sent before, ServiceException when it can't be applied
+  void patchAngularObject(1: string intpGroupId, 2: AngularObjectId angularObjectId, 3: string patch) throws (1: ServiceException e);
 
   void sendParagraphInfo(1: string intpGroupId, 2: string json);
 
   list<string> getAllResources(1: string intpGroupId);
+  // resources named name in all resource pools except intpGroupId, served from the resource index
+  list<string> getResourcesByName(1: string intpGroupId, 2: string name);
+  // keep the resource index up to date
+  void addResource(1: string intpGroupId, 2: string resourceJson);
+  void removeResource(1: string intpGroupId, 2: string resourceIdJson);
   binary getResource(1: string resourceIdJson);
+  // chunked version of getResource, transfers are read from the interpreter process of resourcePoolId
+  RemoteInterpreterService.ResourceTransfer openResourceTransfer(1: string resourceIdJson);
+  binary readResourceTransfer(1: string resourcePoolId, 2: string transferId, 3: i64 offset, 4: i32 length);
+  void closeResourceTransfer(1: string resourcePoolId, 2: string transferId);
   binary invokeMethod(1: string intpGroupId, 2: string invokeMethodJson);
 
   list<ParagraphInfo> getParagraphList(1: string user, 2: string noteId) throws (1: ServiceException e);
+
+  void updateParagraphProgress(1: list<ParagraphProgressEvent> events);
 }
\ No newline at end of file
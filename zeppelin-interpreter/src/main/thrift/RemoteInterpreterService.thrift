@@ -29,7 +29,8 @@ struct RemoteInterpreterContext {
   8: string config,   // json serialized config
   9: string gui,      // json serialized gui
   10: string noteGui,      // json serialized note gui
-  11: map<string, string> localProperties
+  11: map<string, string> localProperties,
+  12: map<string, string> segmentIds      // segment name -> id, see RemoteInterpreterContextRegistry
 }
 
 struct RemoteInterpreterResultMessage {
@@ -86,6 +87,29 @@ struct InterpreterCompletion {
   3: string meta
 }
 
+/*
+ * A context segment referenced by id is not in the RemoteInterpreterContextRegistry of the
+ * interpreter process (e.g. it was evicted), zeppelin server then sends the full context again.
+ */
+exception ContextSegmentNotFoundException {
+  1: required string message;
+}
+
+/*
+ * Serialized resource to transfer between interpreter processes.
+ *
+ * Small resources are returned in data. Bigger ones are read in chunks with transferId, which
+ * must be closed after that. path is the file which holds the serialized resource on host, when
+ * it is big enough to be spilled to disk, so a reader on the same host can map it directly.
+ */
+struct ResourceTransfer {
+  1: string transferId,
+  2: i64 size,
+  3: binary data,
+  4: string host,
+  5: string path
+}
+
 
 
 service RemoteInterpreterService {
@@ -93,11 +117,11 @@ service RemoteInterpreterService {
   void createInterpreter(1: string intpGroupId, 2: string sessionId, 3: string className, 4: map<string, string> properties, 5: string userName);
   void open(1: string sessionId, 2: string className);
   void close(1: string sessionId, 2: string className);
-  RemoteInterpreterResult interpret(1: string sessionId, 2: string className, 3: string st, 4: RemoteInterpreterContext interpreterContext);
-  void cancel(1: string sessionId, 2: string className, 3: RemoteInterpreterContext interpreterContext);
-  i32 getProgress(1: string sessionId, 2: string className, 3: RemoteInterpreterContext interpreterContext);
+  RemoteInterpreterResult interpret(1: string sessionId, 2: string className, 3: string st, 4: RemoteInterpreterContext interpreterContext) throws (1: ContextSegmentNotFoundException e);
+  void cancel(1: string sessionId, 2: string className, 3: RemoteInterpreterContext interpreterContext) throws (1: ContextSegmentNotFoundException e);
+  i32 getProgress(1: string sessionId, 2: string className, 3: RemoteInterpreterContext interpreterContext) throws (1: ContextSegmentNotFoundException e);
   string getFormType(1: string sessionId, 2: string className);
-  list<InterpreterCompletion> completion(1: string sessionId, 2: string className, 3: string buf, 4: i32 cursor, 5: RemoteInterpreterContext interpreterContext);
+  list<InterpreterCompletion> completion(1: string sessionId, 2: string className, 3: string buf, 4: i32 cursor, 5: RemoteInterpreterContext interpreterContext) throws (1: ContextSegmentNotFoundException e);
   void shutdown();
 
   string getStatus(1: string sessionId, 2:string jobId);
@@ -109,6 +133,12 @@ service RemoteInterpreterService {
   bool resourceRemove(1: string sessionId, 2: string paragraphId, 3:string resourceName);
   // invoke method on resource
   binary resourceInvokeMethod(1: string sessionId, 2: string paragraphId, 3:string resourceName, 4:string invokeMessage);
+  // serialize resource for transfer, size is -1 when it doesn't exist or is not serializable
+  ResourceTransfer resourceOpenTransfer(1: string sessionId, 2: string paragraphId, 3: string resourceName);
+  binary resourceReadTransfer(1: string transferId, 2: i64 offset, 3: i32 length);
+  void resourceCloseTransfer(1: string transferId);
+  // drop the cached lookups of resources named resourceName, they are changed in other resource pools
+  void resourceInvalidate(1: string resourceName);
 
   void angularObjectUpdate(1: string name, 2: string sessionId, 3: string paragraphId, 4: string object);
   void angularObjectAdd(1: string name, 2: string sessionId, 3: string paragraphId, 4: string object);
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.cluster.placement;
+
+import org.apache.zeppelin.cluster.meta.ClusterMeta;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ClusterPlacementEngineTest {
+  private static final long GB = 1024L * 1024 * 1024;
+
+  @Test
+  public void testParseResourceRequest() {
+    Properties properties = new Properties();
+    ResourceRequest request = ResourceRequest.fromProperties(properties);
+    assertEquals(ResourceRequest.DEFAULT_MEMORY, request.getMemory());
+    assertEquals(ResourceRequest.DEFAULT_CPU, request.getCpu());
+
+    properties.setProperty(ResourceRequest.MEMORY_PROPERTY, "512m");
+    properties.setProperty(ResourceRequest.CPU_PROPERTY, "1.5");
+    request = ResourceRequest.fromProperties(properties);
+    assertEquals(512L * 1024 * 1024, request.getMemory());
+    assertEquals(150, request.getCpu());
+
+    assertEquals(2 * GB, ResourceRequest.parseMemory("2G"));
+    assertEquals(1000, ResourceRequest.parseMemory("1000"));
+  }
+
+  @Test
+  public void testSpreadBurstWithinHeartbeat() {
+    ClusterPlacementEngine engine = new ClusterPlacementEngine(PlacementPolicy.SPREAD, 60000);
+    List<NodeResource> nodes = createNodes(4, 16 * GB, 0);
+
+    // 10 launches before the next heartbeat, the usage of the nodes never changes
+    Map<String, Integer> placed = simulateBurst(engine, nodes, 10, new ResourceRequest(GB, 100));
+
+    assertEquals(4, placed.size());
+    for (int count : placed.values()) {
+      assertTrue("unbalanced placement " + placed, count >= 2 && count <= 3);
+    }
+    assertEquals(10, engine.getReservationCount());
+  }
+
+  @Test
+  public void testBinpackBurstWithinHeartbeat() {
+    ClusterPlacementEngine engine = new ClusterPlacementEngine(PlacementPolicy.BINPACK, 60000);
+    List<NodeResource> nodes = createNodes(3, 8 * GB, 0);
+
+    // each node can hold 3 processes of 2g after 2g used by the os
+    Map<String, Integer> placed = simulateBurst(engine, nodes, 7, new ResourceRequest(2 * GB, 0));
+
+    assertEquals(3, placed.size());
+    List<Integer> counts = new ArrayList<>(placed.values());
+    counts.sort(null);
+    assertEquals(1, (int) counts.get(0));
+    assertEquals(3, (int) counts.get(1));
+    assertEquals(3, (int) counts.get(2));
+  }
+
+  @Test
+  public void testRequestDoesNotFit() {
+    ClusterPlacementEngine engine = new ClusterPlacementEngine(PlacementPolicy.SPREAD, 60000);
+    List<NodeResource> nodes = createNodes(2, 4 * GB, 0);
+
+    assertNotNull(engine.place("intp-1", new ResourceRequest(2 * GB, 0), nodes, 0));
+    assertNotNull(engine.place("intp-2", new ResourceRequest(2 * GB, 0), nodes, 0));
+    // 2g used on every node and 2g reserved
+    assertNull(engine.place("intp-3", new ResourceRequest(2 * GB, 0), nodes, 0));
+
+    engine.release("intp-1");
+    assertNotNull(engine.place("intp-3", new ResourceRequest(2 * GB, 0), nodes, 0));
+  }
+
+  @Test
+  public void testReservationExpire() {
+    ClusterPlacementEngine engine = new ClusterPlacementEngine(PlacementPolicy.SPREAD, 1000);
+    List<NodeResource> nodes = createNodes(1, 4 * GB, 0);
+
+    assertNotNull(engine.place("intp-1", new ResourceRequest(2 * GB, 0), nodes, 0));
+    assertNull(engine.place("intp-2", new ResourceRequest(2 * GB, 0), nodes, 500));
+    // reservation of intp-1 is expired
+    assertNotNull(engine.place("intp-2", new ResourceRequest(2 * GB, 0), nodes, 1000));
+    assertEquals(1, engine.getReservationCount());
+  }
+
+  @Test
+  public void testPlaceFromClusterMeta() {
+    ClusterPlacementEngine engine = new ClusterPlacementEngine(PlacementPolicy.SPREAD, 60000);
+
+    Map<String, HashMap<String, Object>> serverMeta = new HashMap<>();
+    serverMeta.put("node1", createServerMeta("node1", 16 * GB, 4 * GB, ClusterMeta.ONLINE_STATUS));
+    serverMeta.put("node2", createServerMeta("node2", 16 * GB, 4 * GB, ClusterMeta.ONLINE_STATUS));
+    serverMeta.put("node3", createServerMeta("node3", 64 * GB, 0, ClusterMeta.OFFLINE_STATUS));
+
+    // node1 already runs 2 processes
+    Map<String, HashMap<String, Object>> intpMeta = new HashMap<>();
+    intpMeta.put("intp-a", createIntpMeta("node1"));
+    intpMeta.put("intp-b", createIntpMeta("node1"));
+
+    HashMap<String, Object> meta = engine.place("intp-1",
+        new ResourceRequest(GB, 0), serverMeta, intpMeta);
+    assertEquals("node2", meta.get(ClusterMeta.NODE_NAME));
+  }
+
+  /**
+   * Simulates bursty launches arriving between two heartbeats and returns
+   * the number of processes placed on each node.
+   */
+  private Map<String, Integer> simulateBurst(ClusterPlacementEngine engine,
+                                            List<NodeResource> nodes,
+                                            int launches,
+                                            ResourceRequest request) {
+    Map<String, Integer> placed = new HashMap<>();
+    for (int i = 0; i < launches; i++) {
+      NodeResource node = engine.place("intp-" + i, request, nodes, 0);
+      assertNotNull(node);
+      placed.merge(node.getNodeName(), 1, Integer::sum);
+    }
+    return placed;
+  }
+
+  private List<NodeResource> createNodes(int count, long memoryCapacity, int processCount) {
+    List<NodeResource> nodes = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      String nodeName = "node" + i;
+      // every node uses 2g memory and 1 core for the os
+      nodes.add(new NodeResource(nodeName, memoryCapacity, 2 * GB, 800, 100, processCount,
+          createServerMeta(nodeName, memoryCapacity, 2 * GB, ClusterMeta.ONLINE_STATUS)));
+    }
+    return nodes;
+  }
+
+  private HashMap<String, Object> createServerMeta(String nodeName, long memoryCapacity,
+                                                   long memoryUsed, String status) {
+    HashMap<String, Object> meta = new HashMap<>();
+    meta.put(ClusterMeta.NODE_NAME, nodeName);
+    meta.put(ClusterMeta.MEMORY_CAPACITY, memoryCapacity);
+    meta.put(ClusterMeta.MEMORY_USED, memoryUsed);
+    meta.put(ClusterMeta.CPU_CAPACITY, 800L);
+    meta.put(ClusterMeta.CPU_USED, 100L);
+    meta.put(ClusterMeta.STATUS, status);
+    return meta;
+  }
+
+  private HashMap<String, Object> createIntpMeta(String nodeName) {
+    HashMap<String, Object> meta = new HashMap<>();
+    meta.put(ClusterMeta.NODE_NAME, nodeName);
+    meta.put(ClusterMeta.STATUS, ClusterMeta.ONLINE_STATUS);
+    return meta;
+  }
+}
@@ -20,10 +20,19 @@ package org.apache.zeppelin.display;
 import org.apache.thrift.TException;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 public class AngularObjectRegistryTest {
 
@@ -114,4 +123,103 @@ public class AngularObjectRegistryTest {
     assertEquals(5, registry.getAllWithGlobal("noteId1").size());
   }
 
+  @Test
+  public void testRemoveAll() {
+    final AtomicInteger onRemove = new AtomicInteger(0);
+    AngularObjectRegistry registry = new AngularObjectRegistry("intpId",
+        new AngularObjectRegistryListener() {
+          @Override
+          public void onAdd(String interpreterGroupId, AngularObject object) {
+          }
+
+          @Override
+          public void onUpdate(String interpreterGroupId, AngularObject object) {
+          }
+
+          @Override
+          public void onRemove(String interpreterGroupId, String name, String noteId,
+                               String paragraphId) {
+            onRemove.incrementAndGet();
+          }
+        });
+    for (int i = 0; i < 100; i++) {
+      registry.add("name" + i, "o", "noteId1", "paragraphId1");
+    }
+    registry.add("name1", "o", "noteId1", "paragraphId2");
+    registry.add("name1", "o", "noteId1", null);
+    registry.add("name1", "o", null, null);
+
+    registry.removeAll("noteId1", "paragraphId1");
+    assertEquals(100, onRemove.get());
+    assertEquals(0, registry.getAll("noteId1", "paragraphId1").size());
+    assertEquals(1, registry.getAll("noteId1", "paragraphId2").size());
+    assertEquals(3, registry.getAllWithGlobal("noteId1").size());
+
+    // scopes that don't exist
+    registry.removeAll("noteId2", null);
+    registry.removeAll("noteId1", "paragraphId3");
+    assertEquals(100, onRemove.get());
+  }
+
+  @Test
+  public void testGetAllView() {
+    AngularObjectRegistry registry = new AngularObjectRegistry("intpId", null);
+    assertTrue(registry.getAllView("noteId1", "paragraphId1").isEmpty());
+
+    registry.add("name1", "o", "noteId1", "paragraphId1");
+    Collection<AngularObject> view = registry.getAllView("noteId1", "paragraphId1");
+    assertEquals(1, view.size());
+    // view reflects later changes and iterating it doesn't fail on concurrent modification
+    registry.add("name2", "o", "noteId1", "paragraphId1");
+    for (AngularObject ao : view) {
+      registry.remove(ao.getName(), "noteId1", "paragraphId1");
+    }
+    assertTrue(view.isEmpty());
+  }
+
+  @Test
+  public void testGetAndSetRegistry() {
+    AngularObjectRegistry registry = new AngularObjectRegistry("intpId", null);
+    registry.add("name1", "o1", "noteId1", "paragraphId1");
+    registry.add("name2", "o2", "noteId1", null);
+    registry.add("name3", "o3", null, null);
+
+    Map<String, Map<String, AngularObject>> snapshot = registry.getRegistry();
+    assertEquals(3, snapshot.size());
+    assertTrue(snapshot.containsKey("noteId1_paragraphId1"));
+
+    AngularObjectRegistry registry2 = new AngularObjectRegistry("intpId", null);
+    registry2.setRegistry(snapshot);
+    assertEquals("o1", registry2.get("name1", "noteId1", "paragraphId1").get());
+    assertEquals("o2", registry2.get("name2", "noteId1", null).get());
+    assertEquals("o3", registry2.get("name3", null, null).get());
+  }
+
+  @Test
+  public void testConcurrentAccess() throws InterruptedException {
+    final AngularObjectRegistry registry = new AngularObjectRegistry("intpId", null);
+    final int numThreads = 8;
+    final int numObjects = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+    for (int t = 0; t < numThreads; t++) {
+      final String paragraphId = "paragraphId" + t;
+      executor.submit(() -> {
+        try {
+          for (int i = 0; i < numObjects; i++) {
+            registry.add("name" + i, i, "noteId1", paragraphId);
+            assertEquals(i, registry.get("name" + i, "noteId1", paragraphId).get());
+            registry.getAllWithGlobal("noteId1");
+          }
+          registry.removeAll("noteId1", paragraphId);
+        } catch (Throwable e) {
+          errors.add(e);
+        }
+      });
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+    assertTrue(errors.toString(), errors.isEmpty());
+    assertEquals(0, registry.getAllWithGlobal("noteId1").size());
+  }
 }
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.display;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class JsonPatchTest {
+
+  private final JsonParser parser = new JsonParser();
+
+  private void assertRoundTrip(String base, String target) {
+    JsonPatch patch = JsonPatch.diff(parser.parse(base), parser.parse(target));
+    // send it over the wire
+    JsonPatch received = JsonPatch.fromJson(patch.toJson());
+    assertEquals(parser.parse(target), received.apply(parser.parse(base)));
+  }
+
+  @Test
+  public void testDiffAndApply() {
+    assertRoundTrip("{\"a\":1,\"b\":\"x\"}", "{\"a\":2,\"b\":\"x\"}");
+    assertRoundTrip("{\"a\":1,\"b\":\"x\"}", "{\"a\":1,\"c\":[1,2]}");
+    assertRoundTrip("{\"a/b\":1,\"c~d\":2}", "{\"a/b\":3,\"c~d\":4}");
+    assertRoundTrip("[1,2,3]", "[1,2,3,4,5]");
+    assertRoundTrip("[1,2,3]", "[1]");
+    assertRoundTrip("[1,2,3]", "[1,5,3]");
+    assertRoundTrip("[{\"x\":[1]},{\"x\":[2]}]", "[{\"x\":[1,10]},{\"x\":[2],\"y\":true}]");
+    assertRoundTrip("{\"a\":{\"b\":{\"c\":null}}}", "{\"a\":{\"b\":{\"c\":\"d\"}}}");
+    assertRoundTrip("1", "\"one\"");
+    assertRoundTrip("[1]", "{\"a\":1}");
+  }
+
+  @Test
+  public void testAppendIsSmall() {
+    StringBuilder base = new StringBuilder("[");
+    for (int i = 0; i < 1000; i++) {
+      base.append(i > 0 ? "," : "").append("{\"x\":").append(i).append(",\"y\":").append(i * 2)
+          .append("}");
+    }
+    String target = base + ",{\"x\":1000,\"y\":2000}]";
+    base.append("]");
+
+    JsonPatch patch = JsonPatch.diff(parser.parse(base.toString()), parser.parse(target));
+    assertTrue(patch.toJson(), patch.toJson().length() < 120);
+    assertEquals(parser.parse(target), patch.apply(parser.parse(base.toString())));
+  }
+
+  @Test
+  public void testEmptyPatch() {
+    JsonElement value = parser.parse("{\"a\":[1,2]}");
+    assertTrue(JsonPatch.diff(value, parser.parse("{\"a\":[1,2]}")).isEmpty());
+  }
+
+  @Test
+  public void testKnownChecksums() {
+    JsonElement base = parser.parse("{\"a\":[1,2]}");
+    JsonElement target = parser.parse("{\"a\":[1,2,3]}");
+    JsonPatch patch = JsonPatch.fromJson(JsonPatch.diff(base, JsonPatch.checksum(base),
+        target, JsonPatch.checksum(target)).toJson());
+    assertEquals(JsonPatch.checksum(target), patch.getTargetChecksum());
+    assertEquals(target, patch.apply(base, JsonPatch.checksum(base)));
+    try {
+      patch.apply(parser.parse("{\"a\":[1,2]}"), JsonPatch.checksum(target));
+      fail("Should fail to apply patch to a value of another checksum");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testBaseMismatch() {
+    JsonPatch patch = JsonPatch.diff(parser.parse("[1,2]"), parser.parse("[1,2,3]"));
+    try {
+      patch.apply(parser.parse("[1,5]"));
+      fail("Should fail to apply patch to a different value");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+}
@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import org.apache.zeppelin.display.AngularObject;
+import org.apache.zeppelin.display.JsonPatch;
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AngularObjectUpdateThrottlerTest {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(AngularObjectUpdateThrottlerTest.class);
+
+  private final Gson gson = new Gson();
+  private AngularObjectUpdateThrottler throttler;
+
+  @After
+  public void tearDown() {
+    if (throttler != null) {
+      throttler.shutdown();
+    }
+  }
+
+  /**
+   * Mimics zeppelin server: keeps the value of the object and applies the patches to it.
+   */
+  private class RecordingSender implements AngularObjectUpdateThrottler.UpdateSender {
+    private final List<String> updates = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> patches = Collections.synchronizedList(new ArrayList<>());
+    private volatile JsonElement value;
+    private volatile boolean rejectPatch = false;
+
+    @Override
+    public void sendUpdate(AngularObject object, String json) {
+      JsonElement sentValue = new JsonParser().parse(json).getAsJsonObject().get("object");
+      if (sentValue == null) {
+        sentValue = JsonNull.INSTANCE;
+      }
+      updates.add(sentValue.toString());
+      value = sentValue;
+    }
+
+    @Override
+    public void sendPatch(AngularObject object, JsonPatch patch) {
+      if (rejectPatch) {
+        throw new IllegalStateException("reject");
+      }
+      patches.add(patch.toJson());
+      value = JsonPatch.fromJson(patch.toJson()).apply(value);
+    }
+  }
+
+  @Test
+  public void testNoLimit() {
+    RecordingSender sender = new RecordingSender();
+    throttler = new AngularObjectUpdateThrottler(sender, 0, -1);
+    AngularObject<Integer> object = new AngularObject<>("name", 0, "note1", null, null);
+    for (int i = 1; i <= 100; i++) {
+      object.set(i, false);
+      throttler.update(object);
+    }
+    assertEquals(100, sender.updates.size());
+    assertEquals("100", sender.updates.get(99));
+  }
+
+  @Test
+  public void testCoalesce() throws InterruptedException {
+    RecordingSender sender = new RecordingSender();
+    throttler = new AngularObjectUpdateThrottler(sender, 10, -1);
+    AngularObject<Integer> object1 = new AngularObject<>("name", 0, "note1", null, null);
+    AngularObject<Integer> object2 = new AngularObject<>("name", 0, "note2", null, null);
+
+    // first update is sent immediately
+    object1.set(1, false);
+    throttler.update(object1);
+    assertEquals(1, sender.updates.size());
+
+    // the others are coalesced into one update with the latest value
+    for (int i = 2; i <= 10; i++) {
+      object1.set(i, false);
+      throttler.update(object1);
+    }
+    // objects are limited independently
+    object2.set(1, false);
+    throttler.update(object2);
+    assertEquals(2, sender.updates.size());
+
+    Thread.sleep(300);
+    assertEquals(3, sender.updates.size());
+    assertEquals("10", sender.updates.get(2));
+  }
+
+  @Test
+  public void testForgetDropsPendingUpdate() throws InterruptedException {
+    RecordingSender sender = new RecordingSender();
+    throttler = new AngularObjectUpdateThrottler(sender, 10, -1);
+    AngularObject<Integer> object = new AngularObject<>("name", 0, "note1", "paragraph1", null);
+    throttler.update(object);
+    throttler.update(object);
+    throttler.forget("note1", "paragraph1", "name");
+    Thread.sleep(300);
+    assertEquals(1, sender.updates.size());
+  }
+
+  @Test
+  public void testPatch() {
+    RecordingSender sender = new RecordingSender();
+    throttler = new AngularObjectUpdateThrottler(sender, 0, 1024);
+    List<Integer> points = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      points.add(i);
+    }
+    AngularObject<List<Integer>> object =
+        new AngularObject<>("points", points, "note1", null, null);
+    throttler.update(object);
+    assertEquals(1, sender.updates.size());
+
+    // append a point
+    points.add(1000);
+    throttler.update(object);
+    assertEquals(1, sender.updates.size());
+    assertEquals(1, sender.patches.size());
+    assertTrue(sender.patches.get(0).length() < 100);
+    assertEquals(gson.toJsonTree(points), sender.value);
+
+    // unchanged value is not sent
+    throttler.update(object);
+    assertEquals(1, sender.patches.size());
+
+    // too many changes are sent as full value
+    Collections.reverse(points);
+    throttler.update(object);
+    assertEquals(2, sender.updates.size());
+    assertEquals(gson.toJsonTree(points), sender.value);
+
+    // rejected patch falls back to full value
+    sender.rejectPatch = true;
+    points.add(1001);
+    throttler.update(object);
+    assertEquals(3, sender.updates.size());
+    assertEquals(gson.toJsonTree(points), sender.value);
+  }
+
+  @Test
+  public void testUpdateByServerIsPatchBase() {
+    RecordingSender sender = new RecordingSender();
+    throttler = new AngularObjectUpdateThrottler(sender, 0, 1024);
+    List<Integer> points = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      points.add(i);
+    }
+    AngularObject<List<Integer>> object =
+        new AngularObject<>("points", new ArrayList<>(points), "note1", null, null);
+    throttler.update(object);
+    assertEquals(1, sender.updates.size());
+
+    // zeppelin server sets another value
+    List<Integer> serverPoints = new ArrayList<>(points);
+    serverPoints.set(0, -1);
+    object.set(new ArrayList<>(serverPoints), false);
+    sender.value = gson.toJsonTree(serverPoints);
+    throttler.updatedByServer(object);
+
+    // setting the value sent before is not an unchanged value any more
+    object.set(new ArrayList<>(points), false);
+    throttler.update(object);
+    assertEquals(1, sender.patches.size());
+    assertEquals(gson.toJsonTree(points), sender.value);
+  }
+
+  @Test
+  public void testSendOutsideOfLock() throws InterruptedException {
+    CountDownLatch sending = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingSender sender = new RecordingSender() {
+      @Override
+      public void sendUpdate(AngularObject object, String json) {
+        if ("slow".equals(object.getName())) {
+          sending.countDown();
+          try {
+            release.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        super.sendUpdate(object, json);
+      }
+    };
+    throttler = new AngularObjectUpdateThrottler(sender, 0, -1);
+    AngularObject<Integer> slow = new AngularObject<>("slow", 1, "note1", null, null);
+    Thread thread = new Thread(() -> throttler.update(slow));
+    thread.start();
+    try {
+      assertTrue(sending.await(10, TimeUnit.SECONDS));
+      // value sent is the one when the update is taken
+      slow.set(2, false);
+      // other objects are not blocked by a slow RPC
+      throttler.update(new AngularObject<>("fast", 1, "note1", null, null));
+      assertEquals(1, sender.updates.size());
+    } finally {
+      release.countDown();
+      thread.join();
+    }
+    assertEquals(Arrays.asList("1", "1"), sender.updates);
+  }
+
+  @Test
+  public void testSmallObjectIsNotPatched() {
+    RecordingSender sender = new RecordingSender();
+    throttler = new AngularObjectUpdateThrottler(sender, 0, 1024);
+    AngularObject<String> object = new AngularObject<>("name", "a", null, null, null);
+    throttler.update(object);
+    object.set("b", false);
+    throttler.update(object);
+    assertEquals(2, sender.updates.size());
+    assertEquals(0, sender.patches.size());
+  }
+
+  /**
+   * A dashboard updating bound objects in a tight loop. Measures the messages per second sent to
+   * zeppelin server with and without rate limit.
+   */
+  @Test
+  public void testMessageRate() throws InterruptedException {
+    int maxUpdateRate = 20;
+    long duration = 1000;
+    for (int rate : new int[]{0, maxUpdateRate}) {
+      RecordingSender sender = new RecordingSender();
+      throttler = new AngularObjectUpdateThrottler(sender, rate, 1024);
+      List<AngularObject<Integer>> objects = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        objects.add(new AngularObject<>("counter" + i, 0, "note1", null, null));
+      }
+      long start = System.currentTimeMillis();
+      int count = 0;
+      while (System.currentTimeMillis() - start < duration) {
+        for (AngularObject<Integer> object : objects) {
+          object.set(count, false);
+          throttler.update(object);
+        }
+        count++;
+      }
+      Thread.sleep(200);
+      throttler.shutdown();
+      LOGGER.info("maxUpdateRate: {}, {} updates/s, {} messages/s", rate,
+          count * objects.size() * 1000 / duration,
+          sender.updates.size() * 1000 / duration);
+      if (rate > 0) {
+        // one more update per object, sent when the pending ones are flushed
+        assertTrue(sender.updates.size() <= (duration / 1000 * rate + 2) * objects.size());
+        assertEquals(String.valueOf(count - 1),
+            sender.updates.get(sender.updates.size() - 1));
+      } else {
+        assertEquals(count * objects.size(), sender.updates.size());
+      }
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.zeppelin.interpreter.thrift.OutputAppendEvent;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class OutputAppendBatcherTest {
+
+  private final List<List<OutputAppendEvent>> batches =
+      Collections.synchronizedList(new ArrayList<>());
+  private OutputAppendBatcher batcher;
+
+  @After
+  public void tearDown() {
+    if (batcher != null) {
+      batcher.shutdown();
+    }
+  }
+
+  @Test
+  public void testBatchByTime() throws InterruptedException {
+    batcher = new OutputAppendBatcher(batches::add, 200, 1024);
+    batcher.append("note1", "p1", 0, "line1\n");
+    batcher.append("note1", "p1", 0, "line2\n");
+    batcher.append("note1", "p1", 1, "line3\n");
+    batcher.append("note1", "p1", 0, "line4\n");
+    assertEquals(0, batches.size());
+
+    long start = System.currentTimeMillis();
+    while (batches.isEmpty() && System.currentTimeMillis() - start < 5000) {
+      Thread.sleep(10);
+    }
+    assertEquals(1, batches.size());
+    // consecutive appends of the same output are merged, the order is kept
+    List<OutputAppendEvent> batch = batches.get(0);
+    assertEquals(3, batch.size());
+    assertEquals(0, batch.get(0).getIndex());
+    assertEquals("line1\nline2\n", batch.get(0).getData());
+    assertEquals(1, batch.get(1).getIndex());
+    assertEquals("line3\n", batch.get(1).getData());
+    assertEquals(0, batch.get(2).getIndex());
+    assertEquals("line4\n", batch.get(2).getData());
+  }
+
+  @Test
+  public void testBatchBySize() {
+    batcher = new OutputAppendBatcher(batches::add, 60 * 1000, 10);
+    batcher.append("note1", "p1", 0, "12345");
+    assertEquals(0, batches.size());
+    batcher.append("note1", "p2", 0, "67890");
+    // sent in the caller thread as soon as the batch is full
+    assertEquals(1, batches.size());
+    assertEquals(2, batches.get(0).size());
+    assertEquals("p1", batches.get(0).get(0).getParagraphId());
+    assertEquals("p2", batches.get(0).get(1).getParagraphId());
+  }
+
+  @Test
+  public void testFlush() {
+    batcher = new OutputAppendBatcher(batches::add, 60 * 1000, 1024);
+    batcher.flush();
+    assertEquals(0, batches.size());
+    batcher.append("note1", "p1", 0, "line1\n");
+    batcher.flush();
+    assertEquals(1, batches.size());
+    assertEquals("line1\n", batches.get(0).get(0).getData());
+
+    batcher.append("note1", "p1", 0, "line2\n");
+    batcher.shutdown();
+    assertEquals(2, batches.size());
+    assertEquals("line2\n", batches.get(1).get(0).getData());
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessageOutput;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class OutputUpdateThrottlerTest {
+
+  private final List<String> updates = Collections.synchronizedList(new ArrayList<>());
+  private OutputUpdateThrottler throttler;
+
+  @After
+  public void tearDown() {
+    if (throttler != null) {
+      throttler.shutdown();
+    }
+  }
+
+  private void send(String noteId, String paragraphId, int index,
+                    InterpreterResultMessageOutput out) throws IOException {
+    updates.add(paragraphId + ":" + index + ":" + new String(out.toByteArray()));
+  }
+
+  @Test
+  public void testNoLimit() throws IOException {
+    throttler = new OutputUpdateThrottler(this::send, 0);
+    InterpreterResultMessageOutput out =
+        new InterpreterResultMessageOutput(InterpreterResult.Type.HTML, null);
+    for (int i = 0; i < 3; i++) {
+      out.write("<p>" + i + "</p>\n");
+      out.flush();
+      throttler.update("note1", "p1", 0, out);
+    }
+    assertEquals(3, updates.size());
+  }
+
+  @Test
+  public void testCoalesce() throws IOException, InterruptedException {
+    throttler = new OutputUpdateThrottler(this::send, 300);
+    InterpreterResultMessageOutput out =
+        new InterpreterResultMessageOutput(InterpreterResult.Type.HTML, null);
+    out.write("<p>0</p>\n");
+    out.flush();
+    throttler.update("note1", "p1", 0, out);
+    // the first update is sent immediately
+    assertEquals(1, updates.size());
+    assertEquals("p1:0:<p>0</p>\n", updates.get(0));
+
+    for (int i = 1; i < 10; i++) {
+      out.write("<p>" + i + "</p>\n");
+      out.flush();
+      throttler.update("note1", "p1", 0, out);
+    }
+    assertEquals(1, updates.size());
+
+    // the updates in between are sent as one update with the latest content
+    long start = System.currentTimeMillis();
+    while (updates.size() < 2 && System.currentTimeMillis() - start < 5000) {
+      Thread.sleep(10);
+    }
+    Thread.sleep(500);
+    assertEquals(2, updates.size());
+    assertEquals("p1:0:" + new String(out.toByteArray()), updates.get(1));
+  }
+
+  @Test
+  public void testFlush() throws IOException {
+    throttler = new OutputUpdateThrottler(this::send, 60 * 1000);
+    InterpreterResultMessageOutput out1 =
+        new InterpreterResultMessageOutput(InterpreterResult.Type.HTML, null);
+    InterpreterResultMessageOutput out2 =
+        new InterpreterResultMessageOutput(InterpreterResult.Type.ANGULAR, null);
+    throttler.update("note1", "p1", 0, out1);
+    throttler.update("note1", "p1", 1, out2);
+    assertEquals(2, updates.size());
+
+    out1.write("a\n");
+    out1.flush();
+    throttler.update("note1", "p1", 0, out1);
+    out1.write("b\n");
+    out1.flush();
+    throttler.update("note1", "p1", 0, out1);
+    assertEquals(2, updates.size());
+
+    throttler.flush();
+    assertEquals(3, updates.size());
+    assertEquals("p1:0:a\nb\n", updates.get(2));
+
+    // the outputs are forgotten after flush, so the next update is sent immediately
+    throttler.update("note1", "p1", 1, out2);
+    assertEquals(4, updates.size());
+  }
+}
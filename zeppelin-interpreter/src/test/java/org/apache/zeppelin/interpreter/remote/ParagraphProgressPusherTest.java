@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.zeppelin.interpreter.Interpreter;
+import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.InterpreterException;
+import org.apache.zeppelin.interpreter.thrift.ParagraphProgressEvent;
+import org.apache.zeppelin.scheduler.Job;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ParagraphProgressPusherTest {
+
+  private RemoteInterpreterEventClient intpEventClient;
+  private Map<String, Integer> progressMap;
+  private ParagraphProgressPusher pusher;
+  private Job job;
+  private Interpreter interpreter;
+  private InterpreterContext context;
+
+  @Before
+  public void setUp() {
+    intpEventClient = mock(RemoteInterpreterEventClient.class);
+    progressMap = new ConcurrentHashMap<>();
+    // long interval so that only the explicit pushProgress calls of the tests do anything
+    pusher = new ParagraphProgressPusher(intpEventClient, progressMap, 60 * 1000);
+    job = mock(Job.class);
+    interpreter = mock(Interpreter.class);
+    context = InterpreterContext.builder()
+        .setNoteId("note_1")
+        .setParagraphId("paragraph_1")
+        .build();
+    pusher.add(job, interpreter, context);
+  }
+
+  @After
+  public void tearDown() {
+    pusher.shutdown();
+  }
+
+  @Test
+  public void testPushOnlyChangedProgress() throws InterpreterException {
+    when(job.isRunning()).thenReturn(true);
+    when(interpreter.getProgress(context)).thenReturn(10);
+
+    pusher.pushProgress();
+    List<ParagraphProgressEvent> events = captureEvents();
+    assertEquals(1, events.size());
+    assertEquals("note_1", events.get(0).getNoteId());
+    assertEquals("paragraph_1", events.get(0).getParagraphId());
+    assertEquals(10, events.get(0).getProgress());
+
+    // nothing changed, nothing is sent
+    reset(intpEventClient);
+    pusher.pushProgress();
+    verify(intpEventClient, never()).updateParagraphProgress(anyList());
+
+    when(interpreter.getProgress(context)).thenReturn(50);
+    pusher.pushProgress();
+    events = captureEvents();
+    assertEquals(1, events.size());
+    assertEquals(50, events.get(0).getProgress());
+  }
+
+  @Test
+  public void testManuallyProvidedProgress() throws InterpreterException {
+    when(job.isRunning()).thenReturn(true);
+    when(interpreter.getProgress(context)).thenReturn(10);
+    progressMap.put("paragraph_1", 80);
+
+    pusher.pushProgress();
+    assertEquals(80, captureEvents().get(0).getProgress());
+  }
+
+  @Test
+  public void testJobNotRunning() throws InterpreterException {
+    when(job.isRunning()).thenReturn(false);
+
+    pusher.pushProgress();
+    assertEquals(0, captureEvents().get(0).getProgress());
+    verify(interpreter, never()).getProgress(context);
+  }
+
+  @Test
+  public void testRemove() {
+    pusher.remove("paragraph_1");
+    pusher.pushProgress();
+    verify(intpEventClient, never()).updateParagraphProgress(anyList());
+  }
+
+  private List<ParagraphProgressEvent> captureEvents() {
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(intpEventClient, times(1)).updateParagraphProgress(captor.capture());
+    return captor.getValue();
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.zeppelin.interpreter.thrift.ContextSegmentNotFoundException;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterContext;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class RemoteInterpreterContextRegistryTest {
+
+  @Test
+  public void testResolve() throws ContextSegmentNotFoundException {
+    RemoteInterpreterContextRegistry registry = new RemoteInterpreterContextRegistry();
+
+    RemoteInterpreterContext full = new RemoteInterpreterContext();
+    full.setGui("{\"forms\":{}}");
+    full.setConfig("{}");
+    Map<String, String> segmentIds = new HashMap<>();
+    segmentIds.put("gui", "id_1");
+    full.setSegmentIds(segmentIds);
+    registry.resolve(full);
+    assertEquals(1, registry.size());
+    assertEquals("{\"forms\":{}}", full.getGui());
+
+    RemoteInterpreterContext reference = new RemoteInterpreterContext();
+    reference.setConfig("{}");
+    reference.setSegmentIds(segmentIds);
+    registry.resolve(reference);
+    assertEquals("{\"forms\":{}}", reference.getGui());
+    assertEquals("{}", reference.getConfig());
+    assertNull(reference.getNoteGui());
+  }
+
+  @Test
+  public void testWithoutSegmentIds() throws ContextSegmentNotFoundException {
+    RemoteInterpreterContextRegistry registry = new RemoteInterpreterContextRegistry();
+    RemoteInterpreterContext ric = new RemoteInterpreterContext();
+    ric.setGui("{}");
+    registry.resolve(ric);
+    assertEquals("{}", ric.getGui());
+    assertEquals(0, registry.size());
+  }
+
+  @Test
+  public void testUnknownSegment() throws ContextSegmentNotFoundException {
+    RemoteInterpreterContextRegistry registry = new RemoteInterpreterContextRegistry(1);
+    Map<String, String> segmentIds = new HashMap<>();
+    segmentIds.put("gui", "id_1");
+    RemoteInterpreterContext full = new RemoteInterpreterContext();
+    full.setGui("{}");
+    full.setSegmentIds(segmentIds);
+    registry.resolve(full);
+
+    // evict id_1
+    Map<String, String> otherSegmentIds = new HashMap<>();
+    otherSegmentIds.put("gui", "id_2");
+    RemoteInterpreterContext other = new RemoteInterpreterContext();
+    other.setGui("{\"params\":{}}");
+    other.setSegmentIds(otherSegmentIds);
+    registry.resolve(other);
+
+    RemoteInterpreterContext reference = new RemoteInterpreterContext();
+    reference.setSegmentIds(segmentIds);
+    try {
+      registry.resolve(reference);
+      fail("id_1 should not be registered anymore");
+    } catch (ContextSegmentNotFoundException e) {
+      // expected
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RemoteInterpreterTransportTest {
+
+  @Test
+  public void testBlockingTransport() throws Exception {
+    RemoteInterpreterTransport transport =
+        new RemoteInterpreterTransport(RemoteInterpreterTransport.Mode.BLOCKING);
+    TServer server = startServer(transport);
+    assertTrue(server instanceof TThreadPoolServer);
+  }
+
+  @Test
+  public void testNonBlockingTransport() throws Exception {
+    RemoteInterpreterTransport transport =
+        new RemoteInterpreterTransport(RemoteInterpreterTransport.Mode.NONBLOCKING);
+    TServer server = startServer(transport);
+    assertTrue(server instanceof TThreadedSelectorServer);
+  }
+
+  private TServer startServer(RemoteInterpreterTransport transport) throws Exception {
+    RemoteInterpreterService.Iface iface = mock(RemoteInterpreterService.Iface.class);
+    when(iface.getStatus(anyString(), anyString())).thenReturn("RUNNING");
+
+    TServerTransport serverTransport = transport.createServerTransport(":");
+    int port = RemoteInterpreterTransport.getLocalPort(serverTransport);
+    TServer server = transport.createServer(serverTransport,
+        RemoteInterpreterTransport.INTERPRETER_SERVICE,
+        new RemoteInterpreterService.Processor<>(iface), "RemoteInterpreterTransportTest-");
+    new Thread(server::serve).start();
+    try {
+      long start = System.currentTimeMillis();
+      while (!server.isServing() && System.currentTimeMillis() - start < 10 * 1000) {
+        Thread.sleep(100);
+      }
+      assertTrue(server.isServing());
+
+      // concurrent calls through separate connections
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      List<Future<String>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> {
+          TProtocol protocol = transport.openClientProtocol("localhost", port,
+              RemoteInterpreterTransport.INTERPRETER_SERVICE);
+          try {
+            RemoteInterpreterService.Client client = new RemoteInterpreterService.Client(protocol);
+            String status = null;
+            for (int j = 0; j < 10; j++) {
+              status = client.getStatus("session", "job");
+            }
+            return status;
+          } finally {
+            protocol.getTransport().close();
+          }
+        }));
+      }
+      for (Future<String> future : futures) {
+        assertEquals("RUNNING", future.get());
+      }
+      executor.shutdown();
+    } finally {
+      server.stop();
+    }
+    return server;
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for KryoResourceSerializer
+ */
+public class KryoResourceSerializerTest {
+
+  @Test
+  public void testLoadedFromServiceLoader() {
+    assertTrue(ResourceSerializers.get(new Data("a", 1)) instanceof KryoResourceSerializer);
+    assertFalse(ResourceSerializers.canSerialize(new Object()));
+  }
+
+  @Test
+  public void testRoundTrip() throws IOException, ClassNotFoundException {
+    Data data = new Data("hello", 3);
+    data.children.add(new Data("child", 4));
+    data.children.add(data.children.get(0));
+    data.props.put("key", Arrays.asList(1L, 2L));
+    data.props.put("empty", Collections.<Long>emptyList());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ResourceSerializers.serialize(data, out);
+    byte[] bytes = out.toByteArray();
+    assertEquals('Z', bytes[0]);
+    assertEquals('R', bytes[1]);
+
+    Data restored = (Data) ResourceSerializers.deserialize(new ByteArrayInputStream(bytes));
+    assertEquals("hello", restored.name);
+    assertEquals(3, restored.value);
+    assertEquals(2, restored.children.size());
+    assertEquals("child", restored.children.get(0).name);
+    assertSame(restored.children.get(0), restored.children.get(1));
+    assertEquals(Arrays.asList(1L, 2L), restored.props.get("key"));
+    assertTrue(restored.props.get("empty").isEmpty());
+  }
+
+  @Test
+  public void testJavaSerializationHook() throws IOException, ClassNotFoundException {
+    ByteBuffer buffer = Resource.serializeObject(new Hooked("hello"));
+    assertEquals("hello!", ((Hooked) Resource.deserializeObject(buffer)).value);
+  }
+
+  @Test
+  public void testNonSerializable() throws IOException {
+    KryoResourceSerializer serializer = new KryoResourceSerializer();
+    assertFalse(serializer.accept(new Object()));
+    assertNull(Resource.serializeObject(new Object()));
+  }
+
+  /**
+   * Plain data class.
+   */
+  public static class Data implements Serializable {
+    String name;
+    int value;
+    List<Data> children = new ArrayList<>();
+    Map<String, List<Long>> props = new HashMap<>();
+
+    public Data(String name, int value) {
+      this.name = name;
+      this.value = value;
+    }
+  }
+
+  /**
+   * Class with readResolve, must go through java serialization.
+   */
+  public static class Hooked implements Serializable {
+    String value;
+
+    public Hooked(String value) {
+      this.value = value;
+    }
+
+    private Object readResolve() {
+      return new Hooked(value + "!");
+    }
+  }
+}
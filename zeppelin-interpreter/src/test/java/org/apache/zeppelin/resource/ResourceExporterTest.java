@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.resource;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ResourceExporterTest {
+
+  private File spillDir;
+  private ResourceExporter exporter;
+
+  @Before
+  public void setUp() throws IOException {
+    spillDir = new File(Files.createTempDirectory("ResourceExporterTest").toFile(), "spill");
+    exporter = new ResourceExporter(1024, 64 * 1024, spillDir, 60 * 1000);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    exporter.closeAll();
+    FileUtils.deleteDirectory(spillDir.getParentFile());
+  }
+
+  @Test
+  public void testSmallResourceIsInline() throws IOException, ClassNotFoundException {
+    ResourceExporter.Export export = exporter.export("hello");
+    assertNull(export.getTransferId());
+    assertNull(export.getPath());
+    assertEquals(export.getSize(), export.getData().remaining());
+    assertEquals("hello", Resource.deserializeObject(export.getData()));
+    assertEquals(0, exporter.getNumTransfers());
+
+    assertNull(exporter.export(new Object()));
+  }
+
+  @Test
+  public void testChunkedTransfer() throws IOException, ClassNotFoundException {
+    // bigger than inlineThreshold, smaller than spillThreshold
+    ArrayList<Integer> list = newList(1000);
+    ResourceExporter.Export export = exporter.export(list);
+    assertNotNull(export.getTransferId());
+    assertNull(export.getPath());
+    assertNull(export.getData());
+
+    assertEquals(list, read(export, 100));
+    exporter.close(export.getTransferId());
+    assertEquals(0, exporter.getNumTransfers());
+    try {
+      exporter.read(export.getTransferId(), 0, 100);
+      fail("Should fail on closed transfer");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testSpilledTransfer() throws IOException, ClassNotFoundException {
+    ArrayList<Integer> list = newList(20000);
+    ResourceExporter.Export export = exporter.export(list);
+    assertNotNull(export.getTransferId());
+    File file = new File(export.getPath());
+    assertTrue(file.exists());
+    assertEquals(spillDir, file.getParentFile());
+    assertEquals(export.getSize(), file.length());
+    assertEquals("rwx------",
+        PosixFilePermissions.toString(Files.getPosixFilePermissions(spillDir.toPath())));
+    assertEquals("rw-------",
+        PosixFilePermissions.toString(Files.getPosixFilePermissions(file.toPath())));
+
+    assertEquals(list, read(export, 4096));
+    exporter.close(export.getTransferId());
+    assertFalse(file.exists());
+  }
+
+  @Test
+  public void testIdleTransferIsExpired() throws IOException, InterruptedException {
+    exporter.closeAll();
+    exporter = new ResourceExporter(1024, 1024, spillDir, 100);
+    ResourceExporter.Export export = exporter.export(newList(1000));
+    assertEquals(1, exporter.getNumTransfers());
+    File file = new File(export.getPath());
+    assertTrue(file.exists());
+    // expired without another export
+    long start = System.currentTimeMillis();
+    while (exporter.getNumTransfers() > 0 && System.currentTimeMillis() - start < 10 * 1000) {
+      Thread.sleep(50);
+    }
+    assertEquals(0, exporter.getNumTransfers());
+    assertFalse(file.exists());
+  }
+
+  private Object read(ResourceExporter.Export export, int chunkSize)
+      throws IOException, ClassNotFoundException {
+    final List<Integer> chunkSizes = new ArrayList<>();
+    Object o = ResourceSerializers.deserialize(new ChunkedInputStream((offset, length) -> {
+      chunkSizes.add(length);
+      return exporter.read(export.getTransferId(), offset, length);
+    }, export.getSize(), chunkSize));
+    // every chunk is read once
+    assertEquals((export.getSize() + chunkSize - 1) / chunkSize, chunkSizes.size());
+    return o;
+  }
+
+  private static ArrayList<Integer> newList(int size) {
+    ArrayList<Integer> list = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      list.add(i);
+    }
+    return list;
+  }
+}
@@ -21,10 +21,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import org.junit.Test;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
 
 /**
  * Test for Resource
@@ -36,6 +43,34 @@ public class ResourceTest {
     assertEquals("hello", Resource.deserializeObject(buffer));
   }
 
+  @Test
+  public void testSerializeWithResourceSerializer() throws IOException, ClassNotFoundException {
+    ResourceSerializers.register(new StringBuilderSerializer());
+    try {
+      // StringBuilder is Serializable, but the registered serializer is preferred
+      ByteBuffer buffer = Resource.serializeObject(new StringBuilder("hello"));
+      assertEquals('Z', buffer.get(buffer.position()));
+      assertEquals("hello", Resource.deserializeObject(buffer).toString());
+      // other objects still use the serializers loaded from META-INF/services
+      assertEquals("hello", Resource.deserializeObject(Resource.serializeObject("hello")));
+    } finally {
+      ResourceSerializers.unregister("stringBuilder");
+    }
+    try {
+      Resource.deserializeObject(ByteBuffer.wrap(new byte[]{'Z', 'R', 0, 1, 'x'}));
+      fail("Should fail on unknown serializer");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testSerializeNonSerializable() throws IOException {
+    assertNull(Resource.serializeObject(new Object()));
+    Resource r = new Resource(null, new ResourceId("pool1", "name1"), new Object());
+    assertFalse(r.isSerializable());
+  }
+
   @Test
   public void testInvokeMethod_shouldAbleToInvokeMethodWithNoParams() {
     Resource r = new Resource(null, new ResourceId("pool1", "name1"), "object");
@@ -79,4 +114,26 @@ public class ResourceTest {
     Resource r = new Resource(null, new ResourceId("pool1", "name1"), "object");
     assertEquals(true, r.invokeMethod("startsWith", new Class[]{ java.lang.String.class }, new Object[]{"obj"}));
   }
+
+  private static class StringBuilderSerializer implements ResourceSerializer {
+    @Override
+    public String getName() {
+      return "stringBuilder";
+    }
+
+    @Override
+    public boolean accept(Object o) {
+      return o instanceof StringBuilder;
+    }
+
+    @Override
+    public void serialize(Object o, OutputStream out) throws IOException {
+      new DataOutputStream(out).writeUTF(o.toString());
+    }
+
+    @Override
+    public Object deserialize(InputStream in) throws IOException {
+      return new StringBuilder(new DataInputStream(in).readUTF());
+    }
+  }
 }
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ExecutorFactoryTest {
+
+  @Test
+  public void testPlatformBackend() throws InterruptedException {
+    ExecutorFactory executorFactory = new ExecutorFactory("platform");
+    assertFalse(executorFactory.isVirtualThreadEnabled());
+
+    ExecutorService executor = executorFactory.createOrGetLightweight("test", 2);
+    assertSame(executor, executorFactory.createOrGet("test", 2));
+    AtomicReference<String> threadName = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    executor.execute(() -> {
+      threadName.set(Thread.currentThread().getName());
+      latch.countDown();
+    });
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+    assertTrue(threadName.get().startsWith("test"));
+    executorFactory.shutdown("test");
+  }
+
+  @Test
+  public void testLightweightThread() throws InterruptedException {
+    // virtual threads if the JVM running the test supports them, platform threads otherwise
+    for (String backend : new String[]{"platform", "auto", "virtual"}) {
+      ExecutorFactory executorFactory = new ExecutorFactory(backend);
+      assertEquals(!backend.equals("platform") && VirtualThreads.isSupported(),
+          executorFactory.isVirtualThreadEnabled());
+
+      AtomicReference<String> threadName = new AtomicReference<>();
+      Thread thread = executorFactory.newLightweightThread("poller-" + backend,
+          () -> threadName.set(Thread.currentThread().getName()));
+      thread.start();
+      thread.join(10 * 1000);
+      assertEquals("poller-" + backend, threadName.get());
+
+      // scheduler loops never finish, so there must be at least as many threads as loops
+      ExecutorService executor = executorFactory.createOrGetLightweight("test-" + backend, 2);
+      CountDownLatch latch = new CountDownLatch(2);
+      for (int i = 0; i < 2; i++) {
+        executor.execute(() -> {
+          latch.countDown();
+          try {
+            latch.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+      }
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+      executorFactory.shutdown("test-" + backend);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidBackend() {
+    new ExecutorFactory("green");
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import junit.framework.TestCase;
+import org.apache.zeppelin.scheduler.Job.Status;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+
+public class FairSchedulerTest extends TestCase {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(FairSchedulerTest.class);
+
+  // job name is <user>-<n>
+  private static final Function<Job, String> USER_OF_JOB =
+      job -> job.getJobName().substring(0, job.getJobName().indexOf('-'));
+
+  private SchedulerFactory schedulerSvc;
+  private List<String> startOrder;
+
+  @Override
+  public void setUp() throws Exception {
+    schedulerSvc = new SchedulerFactory();
+    startOrder = Collections.synchronizedList(new ArrayList<>());
+  }
+
+  @Override
+  public void tearDown() {
+    schedulerSvc.destroy();
+  }
+
+  @Test
+  public void testFairShare() throws InterruptedException {
+    Scheduler s = schedulerSvc.createOrGetFairScheduler("test", 1, 1,
+        new HashMap<>(), USER_OF_JOB);
+
+    CountDownLatch latch = new CountDownLatch(1);
+    RecordingJob blocker = new RecordingJob("blocker-1", 0, latch);
+    s.submit(blocker);
+    RecordingJob lastHeavy = null;
+    for (int i = 1; i <= 4; i++) {
+      lastHeavy = new RecordingJob("heavy-" + i, 10, null);
+      s.submit(lastHeavy);
+    }
+    RecordingJob light1 = new RecordingJob("light-1", 10, null);
+    RecordingJob light2 = new RecordingJob("light-2", 10, null);
+    s.submit(light1);
+    s.submit(light2);
+    latch.countDown();
+
+    waitFor(light2);
+    waitFor(lastHeavy);
+    // heavy and light alternate, so light doesn't wait until all heavy jobs are done
+    assertTrue(startOrder.toString(), startOrder.indexOf("light-2") < 5);
+    assertTrue(startOrder.toString(),
+        startOrder.indexOf("light-2") < startOrder.indexOf("heavy-4"));
+  }
+
+  @Test
+  public void testWeight() throws InterruptedException {
+    Map<String, Double> weights = FairScheduler.parseWeights("light:3");
+    Scheduler s = schedulerSvc.createOrGetFairScheduler("test", 1, 1, weights, USER_OF_JOB);
+
+    CountDownLatch latch = new CountDownLatch(1);
+    s.submit(new RecordingJob("blocker-1", 0, latch));
+    RecordingJob lastHeavy = null;
+    for (int i = 1; i <= 3; i++) {
+      lastHeavy = new RecordingJob("heavy-" + i, 10, null);
+      s.submit(lastHeavy);
+    }
+    for (int i = 1; i <= 6; i++) {
+      s.submit(new RecordingJob("light-" + i, 10, null));
+    }
+    latch.countDown();
+
+    waitFor(lastHeavy);
+    // light gets 3 slots for each slot of heavy
+    assertTrue(startOrder.toString(),
+        startOrder.indexOf("light-6") < startOrder.indexOf("heavy-3"));
+  }
+
+  @Test
+  public void testMaxConcurrencyPerQueue() throws InterruptedException {
+    Scheduler s = schedulerSvc.createOrGetFairScheduler("test", 2, 1,
+        new HashMap<>(), USER_OF_JOB);
+
+    Job job1 = new SleepingJob("user1-1", null, 500);
+    Job job2 = new SleepingJob("user1-2", null, 500);
+    Job job3 = new SleepingJob("user2-1", null, 500);
+    s.submit(job1);
+    s.submit(job2);
+    s.submit(job3);
+    Thread.sleep(200);
+
+    assertEquals(Status.RUNNING, job1.getStatus());
+    assertEquals(Status.PENDING, job2.getStatus());
+    assertEquals(Status.RUNNING, job3.getStatus());
+
+    Thread.sleep(500);
+    assertEquals(Status.FINISHED, job1.getStatus());
+    assertEquals(Status.RUNNING, job2.getStatus());
+    assertEquals(Status.FINISHED, job3.getStatus());
+  }
+
+  @Test
+  public void testParseWeights() {
+    Map<String, Double> weights = FairScheduler.parseWeights(" user1:2, user2 : 0.5");
+    assertEquals(2, weights.size());
+    assertEquals(2.0, weights.get("user1"));
+    assertEquals(0.5, weights.get("user2"));
+    assertTrue(FairScheduler.parseWeights("").isEmpty());
+    assertTrue(FairScheduler.parseWeights(null).isEmpty());
+
+    try {
+      FairScheduler.parseWeights("user1");
+      fail("Should fail on missing weight");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+    try {
+      FairScheduler.parseWeights("user1:0");
+      fail("Should fail on non positive weight");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  /**
+   * One user submits a burst of paragraphs while other users run a few ones each. Compare the
+   * queue wait of the light users with ParallelScheduler, which runs jobs in submission order.
+   */
+  @Test
+  public void testMixedLoad() throws InterruptedException {
+    Scheduler fair = schedulerSvc.createOrGetFairScheduler("fair", 2, 2,
+        new HashMap<>(), USER_OF_JOB);
+    Scheduler parallel = schedulerSvc.createOrGetParallelScheduler("parallel", 2);
+
+    Map<String, List<Long>> fairWaits = runMixedLoad(fair);
+    Map<String, List<Long>> parallelWaits = runMixedLoad(parallel);
+
+    for (String user : fairWaits.keySet()) {
+      LOGGER.info("{} queue wait, FairScheduler p50: {}ms, p99: {}ms, " +
+              "ParallelScheduler p50: {}ms, p99: {}ms", user,
+          percentile(fairWaits.get(user), 50), percentile(fairWaits.get(user), 99),
+          percentile(parallelWaits.get(user), 50), percentile(parallelWaits.get(user), 99));
+    }
+    for (String user : new String[]{"light1", "light2", "light3"}) {
+      assertTrue(percentile(fairWaits.get(user), 99) * 2
+          < percentile(parallelWaits.get(user), 99));
+    }
+  }
+
+  private Map<String, List<Long>> runMixedLoad(Scheduler s) throws InterruptedException {
+    List<RecordingJob> jobs = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      jobs.add(new RecordingJob("heavy-" + i, 20, null));
+    }
+    for (int i = 0; i < 2; i++) {
+      for (String user : new String[]{"light1", "light2", "light3"}) {
+        jobs.add(new RecordingJob(user + "-" + i, 20, null));
+      }
+    }
+    for (RecordingJob job : jobs) {
+      job.submitted = System.currentTimeMillis();
+      s.submit(job);
+    }
+    Map<String, List<Long>> waits = new HashMap<>();
+    for (RecordingJob job : jobs) {
+      waitFor(job);
+      waits.computeIfAbsent(USER_OF_JOB.apply(job), k -> new ArrayList<>())
+          .add(job.started - job.submitted);
+    }
+    return waits;
+  }
+
+  private static long percentile(List<Long> values, int percentile) {
+    List<Long> sorted = new ArrayList<>(values);
+    Collections.sort(sorted);
+    int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+    return sorted.get(Math.max(0, index));
+  }
+
+  private static void waitFor(Job job) throws InterruptedException {
+    long start = System.currentTimeMillis();
+    while (!job.isTerminated() && System.currentTimeMillis() - start < 30 * 1000) {
+      Thread.sleep(10);
+    }
+    assertEquals(Status.FINISHED, job.getStatus());
+  }
+
+  private class RecordingJob extends Job {
+
+    private final int time;
+    private final CountDownLatch latch;
+    private volatile long submitted;
+    private volatile long started;
+    private Object result;
+
+    RecordingJob(String jobName, int time, CountDownLatch latch) {
+      super(jobName, null);
+      this.time = time;
+      this.latch = latch;
+    }
+
+    @Override
+    protected Object jobRun() throws Throwable {
+      started = System.currentTimeMillis();
+      startOrder.add(getJobName());
+      if (latch != null) {
+        latch.await();
+      }
+      Thread.sleep(time);
+      return null;
+    }
+
+    @Override
+    protected boolean jobAbort() {
+      return false;
+    }
+
+    @Override
+    public void setResult(Object result) {
+      this.result = result;
+    }
+
+    @Override
+    public Object getReturn() {
+      return result;
+    }
+
+    @Override
+    public int progress() {
+      return 0;
+    }
+
+    @Override
+    public Map<String, Object> info() {
+      return null;
+    }
+  }
+}
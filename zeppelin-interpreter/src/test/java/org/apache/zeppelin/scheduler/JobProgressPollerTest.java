@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.scheduler;
+
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JobProgressPollerTest {
+
+  @Test
+  public void testHungJobDoesNotBlockOtherJobs() throws InterruptedException {
+    CountDownLatch hung = new CountDownLatch(1);
+    CountDownLatch hungPolled = new CountDownLatch(1);
+    AtomicInteger hungPolls = new AtomicInteger(0);
+    ProgressJob hungJob = new ProgressJob("hung", new JobListener() {
+      @Override
+      public void onProgressUpdate(Job job, int progress) {
+      }
+
+      @Override
+      public void onStatusChange(Job job, Job.Status before, Job.Status after) {
+      }
+    }) {
+      @Override
+      public int progress() {
+        hungPolls.incrementAndGet();
+        hungPolled.countDown();
+        try {
+          hung.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return 0;
+      }
+    };
+
+    CountDownLatch updated = new CountDownLatch(3);
+    AtomicInteger progress = new AtomicInteger(0);
+    ProgressJob job = new ProgressJob("job", new JobListener() {
+      @Override
+      public void onProgressUpdate(Job job, int progress) {
+        updated.countDown();
+      }
+
+      @Override
+      public void onStatusChange(Job job, Job.Status before, Job.Status after) {
+      }
+    }) {
+      @Override
+      public int progress() {
+        return progress.incrementAndGet();
+      }
+    };
+
+    JobProgressPoller hungPoller = new JobProgressPoller(hungJob, 10);
+    JobProgressPoller poller = new JobProgressPoller(job, 10);
+    try {
+      hungPoller.start();
+      assertTrue(hungPolled.await(10, TimeUnit.SECONDS));
+      poller.start();
+      assertTrue(updated.await(10, TimeUnit.SECONDS));
+      // the hung job is not polled again until its previous poll returns
+      assertEquals(1, hungPolls.get());
+    } finally {
+      hung.countDown();
+      hungPoller.stop();
+      poller.stop();
+    }
+  }
+
+  private abstract static class ProgressJob extends Job<Object> {
+
+    ProgressJob(String jobName, JobListener listener) {
+      super(jobName, listener);
+      setStatusWithoutNotification(Status.RUNNING);
+    }
+
+    @Override
+    public Object getReturn() {
+      return null;
+    }
+
+    @Override
+    public Map<String, Object> info() {
+      return null;
+    }
+
+    @Override
+    protected Object jobRun() {
+      return null;
+    }
+
+    @Override
+    protected boolean jobAbort() {
+      return false;
+    }
+
+    @Override
+    public void setResult(Object result) {
+    }
+  }
+}
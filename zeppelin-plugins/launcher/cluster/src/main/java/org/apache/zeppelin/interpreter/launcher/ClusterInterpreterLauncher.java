@@ -23,6 +23,7 @@ import org.apache.zeppelin.cluster.ClusterCallback;
 import org.apache.zeppelin.cluster.ClusterManagerServer;
 import org.apache.zeppelin.cluster.event.ClusterEvent;
 import org.apache.zeppelin.cluster.event.ClusterEventListener;
+import org.apache.zeppelin.cluster.placement.ResourceRequest;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.InterpreterOption;
 import org.apache.zeppelin.interpreter.InterpreterRunner;
@@ -93,9 +94,24 @@ public class ClusterInterpreterLauncher extends StandardInterpreterLauncher
     }
 
     // No process was found for the InterpreterGroup ID
+    HashMap<String, Object> meta = clusterServer.getIdleNodeMeta(
+        intpGroupId, ResourceRequest.fromProperties(context.getProperties()));
+    try {
+      return launchOnNode(context, meta, connectTimeout);
+    } catch (IOException | RuntimeException e) {
+      // Nothing runs on the node. A running process keeps its reservation until it expires,
+      // the heartbeat usage is an average over many samples and shows the process only slowly.
+      clusterServer.releaseNodeReservation(intpGroupId);
+      throw e;
+    }
+  }
+
+  private InterpreterClient launchOnNode(InterpreterLaunchContext context,
+                                         HashMap<String, Object> meta,
+                                         int connectTimeout) throws IOException {
+    String intpGroupId = context.getInterpreterGroupId();
     String srvHost = null;
     int srvPort = 0;
-    HashMap<String, Object> meta = clusterServer.getIdleNodeMeta();
     if (null == meta) {
       LOGGER.error("Don't get idle node meta, launch interpreter on local.");
       InterpreterClient clusterIntpProcess = createInterpreterProcess(context);
@@ -139,7 +155,7 @@ public class ClusterInterpreterLauncher extends StandardInterpreterLauncher
     // through the cluster metadata
     String finalSrvHost = srvHost;
     int finalSrvPort = srvPort;
-    intpClient = clusterServer.getIntpProcessStatus(intpGroupId, connectTimeout,
+    InterpreterClient intpClient = clusterServer.getIntpProcessStatus(intpGroupId, connectTimeout,
         new ClusterCallback<HashMap<String, Object>>() {
           @Override
           public InterpreterClient online(HashMap<String, Object> result) {
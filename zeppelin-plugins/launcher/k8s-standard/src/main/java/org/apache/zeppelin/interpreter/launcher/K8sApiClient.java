@@ -0,0 +1,535 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.launcher;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+
+/**
+ * Talks to the Kubernetes API server over http instead of forking kubectl.
+ *
+ * Resources of a spec are created with one request each, and waits are done with watches on
+ * the pod, so a launch doesn't spawn processes or poll.
+ */
+public class K8sApiClient implements K8sClient {
+  private static final Logger LOGGER = LoggerFactory.getLogger(K8sApiClient.class);
+  private static final String SERVICE_ACCOUNT_DIR = "/var/run/secrets/kubernetes.io/serviceaccount";
+  private static final int CONNECT_TIMEOUT_MS = 10 * 1000;
+  private static final int READ_TIMEOUT_MS = 60 * 1000;
+  private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+  private static final String FIELD_MANAGER = "zeppelin";
+  // kinds which don't belong to a namespace
+  private static final Set<String> CLUSTER_SCOPED_KINDS = new HashSet<>(Arrays.asList(
+      "Namespace", "Node", "PersistentVolume", "StorageClass", "ClusterRole",
+      "ClusterRoleBinding", "CustomResourceDefinition", "PriorityClass"));
+  // kind -> resource name in the api path, the plural of a kind isn't always kind + "s"
+  private static final Map<String, String> RESOURCES = new HashMap<>();
+
+  static {
+    String[][] resources = {
+        {"Pod", "pods"}, {"Service", "services"}, {"Endpoints", "endpoints"},
+        {"ConfigMap", "configmaps"}, {"Secret", "secrets"},
+        {"ServiceAccount", "serviceaccounts"},
+        {"PersistentVolumeClaim", "persistentvolumeclaims"}, {"Deployment", "deployments"},
+        {"Role", "roles"}, {"RoleBinding", "rolebindings"}, {"Namespace", "namespaces"},
+        {"Node", "nodes"}, {"PersistentVolume", "persistentvolumes"},
+        {"StorageClass", "storageclasses"}, {"ClusterRole", "clusterroles"},
+        {"ClusterRoleBinding", "clusterrolebindings"},
+        {"CustomResourceDefinition", "customresourcedefinitions"},
+        {"PriorityClass", "priorityclasses"}};
+    for (String[] resource : resources) {
+      RESOURCES.put(resource[0], resource[1]);
+    }
+  }
+
+  private final String apiUrl;
+  private final File tokenFile;
+  private final SSLSocketFactory sslSocketFactory;
+  private final Gson gson = new Gson();
+  private String namespace;
+
+  /**
+   * @param apiUrl url of the api server, e.g. https://kubernetes.default.svc
+   * @param tokenFile file of the bearer token, read on every request because it can be rotated.
+   *                  null to send no token, e.g. to kubectl proxy
+   * @param sslSocketFactory to trust the certificate of the api server, null for the default
+   */
+  public K8sApiClient(String apiUrl, File tokenFile, SSLSocketFactory sslSocketFactory) {
+    this.apiUrl = apiUrl.endsWith("/") ? apiUrl.substring(0, apiUrl.length() - 1) : apiUrl;
+    this.tokenFile = tokenFile;
+    this.sslSocketFactory = sslSocketFactory;
+  }
+
+  /**
+   * Client of the api server of the cluster this process runs in, with the service account of
+   * the pod.
+   */
+  public static K8sApiClient inCluster() throws IOException {
+    String host = System.getenv("KUBERNETES_SERVICE_HOST");
+    String port = System.getenv("KUBERNETES_SERVICE_PORT");
+    if (host == null || port == null) {
+      throw new IOException("KUBERNETES_SERVICE_HOST and KUBERNETES_SERVICE_PORT are not set");
+    }
+    if (host.contains(":")) {
+      // ipv6
+      host = "[" + host + "]";
+    }
+    return new K8sApiClient(String.format("https://%s:%s", host, port),
+        new File(SERVICE_ACCOUNT_DIR, "token"),
+        createSSLSocketFactory(new File(SERVICE_ACCOUNT_DIR, "ca.crt")));
+  }
+
+  static SSLSocketFactory createSSLSocketFactory(File caCert) throws IOException {
+    try (InputStream in = new FileInputStream(caCert)) {
+      KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+      keyStore.load(null, null);
+      int i = 0;
+      for (Certificate cert : CertificateFactory.getInstance("X.509").generateCertificates(in)) {
+        keyStore.setCertificateEntry("ca-" + i++, cert);
+      }
+      TrustManagerFactory trustManagerFactory =
+          TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+      trustManagerFactory.init(keyStore);
+      SSLContext sslContext = SSLContext.getInstance("TLS");
+      sslContext.init(null, trustManagerFactory.getTrustManagers(), null);
+      return sslContext.getSocketFactory();
+    } catch (GeneralSecurityException e) {
+      throw new IOException("Fail to load certificate " + caCert, e);
+    }
+  }
+
+  /**
+   * Override namespace. Otherwise use namespace provided in schema
+   * @param namespace
+   */
+  public void setNamespace(String namespace) {
+    this.namespace = namespace;
+  }
+
+  @Override
+  public String getNamespace() {
+    return namespace;
+  }
+
+  @Override
+  public String apply(String spec) throws IOException {
+    StringBuilder output = new StringBuilder();
+    for (Map<String, Object> resource : parse(spec)) {
+      String path = getCollectionPath(resource);
+      String name = getName(resource);
+      String body = gson.toJson(resource);
+      ApiResponse response = request("POST", path, body);
+      String action = "created";
+      if (response.code == HttpURLConnection.HTTP_CONFLICT) {
+        response = patch(path + "/" + name, body);
+        action = "configured";
+      }
+      response.check("apply " + resource.get("kind") + "/" + name);
+      output.append(String.format("%s/%s %s\n", resource.get("kind"), name, action));
+    }
+    return output.toString();
+  }
+
+  /**
+   * Update an existing resource with server-side apply, like kubectl apply. It needs no
+   * resourceVersion and keeps the fields set by the api server, e.g. clusterIP of a service.
+   * Falls back to a json merge patch when the api server doesn't support server-side apply.
+   */
+  private ApiResponse patch(String resourcePath, String body) throws IOException {
+    ApiResponse response = request("PATCH", resourcePath + "?fieldManager=" + FIELD_MANAGER
+        + "&force=true", "application/apply-patch+yaml", body);
+    if (response.code == HttpURLConnection.HTTP_UNSUPPORTED_TYPE) {
+      response = request("PATCH", resourcePath, "application/merge-patch+json", body);
+    }
+    return response;
+  }
+
+  @Override
+  public String delete(String spec) throws IOException {
+    List<Map<String, Object>> resources = parse(spec);
+    Collections.reverse(resources);
+    StringBuilder output = new StringBuilder();
+    for (Map<String, Object> resource : resources) {
+      String name = getName(resource);
+      ApiResponse response = request("DELETE", getCollectionPath(resource) + "/" + name, null);
+      if (response.code == HttpURLConnection.HTTP_NOT_FOUND) {
+        LOGGER.info("{}/{} Not found. Maybe already deleted.", resource.get("kind"), name);
+        continue;
+      }
+      response.check("delete " + resource.get("kind") + "/" + name);
+      output.append(String.format("%s/%s deleted\n", resource.get("kind"), name));
+    }
+    return output.toString();
+  }
+
+  @Override
+  public void waitForPodReady(String podName, int timeoutSec) throws IOException {
+    long deadline = System.currentTimeMillis() + timeoutSec * 1000L;
+    while (true) {
+      Map<String, Object> pod = getPod(podName);
+      if (pod != null) {
+        checkPodNotFailed(podName, pod);
+        if (isPodReady(pod)) {
+          return;
+        }
+      }
+      int remainingSec = (int) ((deadline - System.currentTimeMillis()) / 1000);
+      if (remainingSec <= 0) {
+        throw new IOException("timed out waiting for the condition on pods/" + podName);
+      }
+      boolean ready = watchPod(podName, getResourceVersion(pod), remainingSec, (type, p) -> {
+        if ("DELETED".equals(type)) {
+          throw new IOException("pods/" + podName + " is deleted");
+        }
+        checkPodNotFailed(podName, p);
+        return isPodReady(p);
+      });
+      if (ready) {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public void waitForPodDeleted(String podName, int timeoutSec) throws IOException {
+    long deadline = System.currentTimeMillis() + timeoutSec * 1000L;
+    while (true) {
+      Map<String, Object> pod = getPod(podName);
+      if (pod == null) {
+        return;
+      }
+      int remainingSec = (int) ((deadline - System.currentTimeMillis()) / 1000);
+      if (remainingSec <= 0) {
+        throw new IOException("timed out waiting for the deletion of pods/" + podName);
+      }
+      if (watchPod(podName, getResourceVersion(pod), remainingSec,
+          (type, p) -> "DELETED".equals(type))) {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public String getPodPhase(String podName) throws IOException {
+    Map<String, Object> pod = getPod(podName);
+    if (pod == null) {
+      return null;
+    }
+    Map<String, Object> status = (Map<String, Object>) pod.get("status");
+    return status == null ? null : (String) status.get("phase");
+  }
+
+  /**
+   * @return the pod, null if there's no such pod
+   */
+  private Map<String, Object> getPod(String podName) throws IOException {
+    ApiResponse response = request("GET", getPodsPath() + "/" + podName, null);
+    if (response.code == HttpURLConnection.HTTP_NOT_FOUND) {
+      return null;
+    }
+    response.check("get pods/" + podName);
+    return gson.fromJson(response.body, MAP_TYPE);
+  }
+
+  /**
+   * Handles a watch event of a pod.
+   */
+  interface PodEventHandler {
+    /**
+     * @param type ADDED, MODIFIED or DELETED
+     * @return true to stop watching
+     */
+    boolean onEvent(String type, Map<String, Object> pod) throws IOException;
+  }
+
+  /**
+   * Watch a pod until the handler returns true or the watch times out.
+   *
+   * @param resourceVersion watch the changes after this version, null for the current state
+   * @return true if the handler returned true
+   */
+  @VisibleForTesting
+  boolean watchPod(String podName, String resourceVersion, int timeoutSec,
+                   PodEventHandler handler) throws IOException {
+    StringBuilder path = new StringBuilder(getPodsPath())
+        .append("?watch=true&fieldSelector=")
+        .append(URLEncoder.encode("metadata.name=" + podName, "UTF-8"))
+        .append("&timeoutSeconds=").append(timeoutSec);
+    if (resourceVersion != null) {
+      path.append("&resourceVersion=").append(resourceVersion);
+    }
+    HttpURLConnection conn = open("GET", path.toString());
+    // the server ends the watch after timeoutSeconds
+    conn.setReadTimeout((timeoutSec + 10) * 1000);
+    try {
+      if (conn.getResponseCode() != HttpURLConnection.HTTP_OK) {
+        throw new IOException(String.format("watch pods/%s failed (%d). %s", podName,
+            conn.getResponseCode(), readError(conn)));
+      }
+      try (BufferedReader reader = new BufferedReader(
+          new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (line.trim().isEmpty()) {
+            continue;
+          }
+          Map<String, Object> event = gson.fromJson(line, MAP_TYPE);
+          String type = (String) event.get("type");
+          if ("ERROR".equals(type)) {
+            // e.g. resourceVersion is too old, the caller starts over from the current state
+            LOGGER.debug("Watch of pods/{} ends with {}", podName, event.get("object"));
+            return false;
+          }
+          if (handler.onEvent(type, (Map<String, Object>) event.get("object"))) {
+            return true;
+          }
+        }
+      }
+      return false;
+    } finally {
+      conn.disconnect();
+    }
+  }
+
+  private static boolean isPodReady(Map<String, Object> pod) {
+    Map<String, Object> status = (Map<String, Object>) pod.get("status");
+    if (status == null || !(status.get("conditions") instanceof List)) {
+      return false;
+    }
+    for (Object condition : (List<Object>) status.get("conditions")) {
+      Map<String, Object> c = (Map<String, Object>) condition;
+      if ("Ready".equals(c.get("type")) && "True".equals(c.get("status"))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void checkPodNotFailed(String podName, Map<String, Object> pod)
+      throws IOException {
+    Map<String, Object> status = (Map<String, Object>) pod.get("status");
+    if (status != null && ("Failed".equals(status.get("phase"))
+        || "Succeeded".equals(status.get("phase")))) {
+      throw new IOException(String.format("pods/%s is %s. %s", podName, status.get("phase"),
+          status.getOrDefault("message", "")));
+    }
+  }
+
+  private static String getResourceVersion(Map<String, Object> resource) {
+    if (resource == null) {
+      return null;
+    }
+    Map<String, Object> metadata = (Map<String, Object>) resource.get("metadata");
+    return metadata == null ? null : (String) metadata.get("resourceVersion");
+  }
+
+  @VisibleForTesting
+  List<Map<String, Object>> parse(String spec) throws IOException {
+    List<Map<String, Object>> resources = new ArrayList<>();
+    // the spec is rendered from user properties, only construct plain yaml types from it
+    List<Object> docs = new ArrayList<>();
+    try {
+      new Yaml(new SafeConstructor(new LoaderOptions())).loadAll(spec).forEach(docs::add);
+    } catch (YAMLException e) {
+      throw new IOException("Invalid spec: " + e.getMessage(), e);
+    }
+    for (Object doc : docs) {
+      if (doc == null) {
+        continue;
+      }
+      if (!(doc instanceof Map)) {
+        throw new IOException("Invalid spec, a resource should be a map: " + doc);
+      }
+      Map<String, Object> resource = (Map<String, Object>) doc;
+      if (!(resource.get("metadata") instanceof Map) || getName(resource) == null
+          || resource.get("kind") == null || resource.get("apiVersion") == null) {
+        throw new IOException("Invalid spec, apiVersion, kind and metadata.name are required: "
+            + doc);
+      }
+      if (!RESOURCES.containsKey(resource.get("kind"))) {
+        throw new IOException("Invalid spec, unsupported kind " + resource.get("kind")
+            + ", supported kinds are " + RESOURCES.keySet());
+      }
+      if (namespace != null && !CLUSTER_SCOPED_KINDS.contains(resource.get("kind"))) {
+        ((Map<String, Object>) resource.get("metadata")).put("namespace", namespace);
+      }
+      resources.add(resource);
+    }
+    return resources;
+  }
+
+  private static String getName(Map<String, Object> resource) {
+    return (String) ((Map<String, Object>) resource.get("metadata")).get("name");
+  }
+
+  /**
+   * @return path of the resources of the same kind, e.g. /api/v1/namespaces/default/pods
+   */
+  @VisibleForTesting
+  String getCollectionPath(Map<String, Object> resource) {
+    String apiVersion = (String) resource.get("apiVersion");
+    String kind = (String) resource.get("kind");
+    StringBuilder path = new StringBuilder(apiVersion.contains("/") ? "/apis/" : "/api/")
+        .append(apiVersion);
+    if (!CLUSTER_SCOPED_KINDS.contains(kind)) {
+      Object ns = ((Map<String, Object>) resource.get("metadata")).get("namespace");
+      path.append("/namespaces/").append(ns == null ? "default" : ns);
+    }
+    return path.append("/").append(RESOURCES.get(kind)).toString();
+  }
+
+  private String getPodsPath() {
+    return String.format("/api/v1/namespaces/%s/pods", namespace == null ? "default" : namespace);
+  }
+
+  private HttpURLConnection open(String method, String path) throws IOException {
+    HttpURLConnection conn = (HttpURLConnection) new URL(apiUrl + path).openConnection();
+    if (sslSocketFactory != null && conn instanceof HttpsURLConnection) {
+      ((HttpsURLConnection) conn).setSSLSocketFactory(sslSocketFactory);
+    }
+    if ("PATCH".equals(method)) {
+      setPatchMethod(conn);
+    } else {
+      conn.setRequestMethod(method);
+    }
+    conn.setConnectTimeout(CONNECT_TIMEOUT_MS);
+    conn.setReadTimeout(READ_TIMEOUT_MS);
+    conn.setRequestProperty("Accept", "application/json");
+    if (tokenFile != null) {
+      String token = new String(Files.readAllBytes(tokenFile.toPath()), StandardCharsets.UTF_8);
+      conn.setRequestProperty("Authorization", "Bearer " + token.trim());
+    }
+    return conn;
+  }
+
+  /**
+   * HttpURLConnection refuses PATCH, set its method field directly. An https connection
+   * delegates to another HttpURLConnection, which is set as well.
+   */
+  private static void setPatchMethod(HttpURLConnection conn) throws IOException {
+    try {
+      Field methodField = HttpURLConnection.class.getDeclaredField("method");
+      methodField.setAccessible(true);
+      methodField.set(conn, "PATCH");
+      for (Class<?> c = conn.getClass(); c != null; c = c.getSuperclass()) {
+        try {
+          Field delegateField = c.getDeclaredField("delegate");
+          delegateField.setAccessible(true);
+          Object delegate = delegateField.get(conn);
+          if (delegate instanceof HttpURLConnection) {
+            methodField.set(delegate, "PATCH");
+          }
+          break;
+        } catch (NoSuchFieldException e) {
+          // not declared by this class
+        }
+      }
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      throw new IOException("Fail to send PATCH request", e);
+    }
+  }
+
+  private ApiResponse request(String method, String path, String body) throws IOException {
+    return request(method, path, "application/json", body);
+  }
+
+  private ApiResponse request(String method, String path, String contentType, String body)
+      throws IOException {
+    LOGGER.debug("{} {}", method, path);
+    HttpURLConnection conn = open(method, path);
+    try {
+      if (body != null) {
+        conn.setDoOutput(true);
+        conn.setRequestProperty("Content-Type", contentType);
+        try (OutputStream out = conn.getOutputStream()) {
+          out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+      }
+      int code = conn.getResponseCode();
+      if (code >= 400) {
+        return new ApiResponse(code, readError(conn));
+      }
+      try (InputStream in = conn.getInputStream()) {
+        return new ApiResponse(code, IOUtils.toString(in, StandardCharsets.UTF_8));
+      }
+    } finally {
+      conn.disconnect();
+    }
+  }
+
+  private static String readError(HttpURLConnection conn) throws IOException {
+    try (InputStream in = conn.getErrorStream()) {
+      return in == null ? "" : IOUtils.toString(in, StandardCharsets.UTF_8);
+    }
+  }
+
+  private static class ApiResponse {
+    private final int code;
+    private final String body;
+
+    ApiResponse(int code, String body) {
+      this.code = code;
+      this.body = body;
+    }
+
+    void check(String operation) throws IOException {
+      if (code >= 400) {
+        throw new IOException(String.format("%s failed (%d). %s", operation, code, body));
+      }
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.launcher;
+
+import java.io.IOException;
+
+/**
+ * Operations the launcher needs from Kubernetes. Implemented by forking kubectl (Kubectl) or by
+ * calling the API server directly (K8sApiClient).
+ */
+public interface K8sClient {
+  /**
+   * @return namespace which overrides the namespace of the specs, can be null
+   */
+  String getNamespace();
+
+  /**
+   * Create or update the resources of a (multi document) yaml spec.
+   */
+  String apply(String spec) throws IOException;
+
+  /**
+   * Delete the resources of a (multi document) yaml spec.
+   */
+  String delete(String spec) throws IOException;
+
+  /**
+   * Wait until the pod is ready.
+   * @throws IOException when the pod is not ready in time, or it failed
+   */
+  void waitForPodReady(String podName, int timeoutSec) throws IOException;
+
+  /**
+   * Wait until the pod is deleted. Returns immediately if there's no such pod.
+   */
+  void waitForPodDeleted(String podName, int timeoutSec) throws IOException;
+
+  /**
+   * @return phase of the pod, e.g. Running, null if there's no such pod
+   */
+  String getPodPhase(String podName) throws IOException;
+}
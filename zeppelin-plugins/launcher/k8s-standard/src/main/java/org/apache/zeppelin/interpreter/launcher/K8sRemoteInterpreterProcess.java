@@ -2,23 +2,30 @@ package org.apache.zeppelin.interpreter.launcher;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Maps;
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.exec.ExecuteWatchdog;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
+import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
   private static final Logger LOGGER = LoggerFactory.getLogger(K8sStandardInterpreterLauncher.class);
   private static final int K8S_INTERPRETER_SERVICE_PORT = 12321;
+  // renders the spec files of a launch concurrently
+  private static final ExecutorService RENDER_EXECUTOR =
+      Executors.newCachedThreadPool(new SchedulerThreadFactory("K8sSpecTemplate-render-"));
+  private final K8sClient client;
+  // only used for port-forward
   private final Kubectl kubectl;
   private final String interpreterGroupId;
   private final String interpreterGroupName;
@@ -30,7 +37,6 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
   private final String zeppelinServiceHost;
   private final String zeppelinServiceRpcPort;
 
-  private final Gson gson = new Gson();
   private final String podName;
   private final boolean portForward;
   private final String sparkImage;
@@ -53,8 +59,30 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
           boolean portForward,
           String sparkImage,
           int connectTimeout
+  ) {
+    this(kubectl, kubectl, specTemplates, containerImage, interpreterGroupId,
+        interpreterGroupName, interpreterSettingName, properties, envs, zeppelinServiceHost,
+        zeppelinServiceRpcPort, portForward, sparkImage, connectTimeout);
+  }
+
+  public K8sRemoteInterpreterProcess(
+          K8sClient client,
+          Kubectl kubectl,
+          File specTemplates,
+          String containerImage,
+          String interpreterGroupId,
+          String interpreterGroupName,
+          String interpreterSettingName,
+          Properties properties,
+          Map<String, String> envs,
+          String zeppelinServiceHost,
+          String zeppelinServiceRpcPort,
+          boolean portForward,
+          String sparkImage,
+          int connectTimeout
   ) {
     super(connectTimeout);
+    this.client = client;
     this.kubectl = kubectl;
     this.specTempaltes = specTemplates;
     this.containerImage = containerImage;
@@ -89,7 +117,7 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
   public void start(String userName) throws IOException {
     // create new pod
     apply(specTempaltes, false);
-    kubectl.wait(String.format("pod/%s", getPodName()), "condition=Ready", getConnectTimeout()/1000);
+    client.waitForPodReady(getPodName(), getConnectTimeout()/1000);
 
     if (portForward) {
       podPort = RemoteInterpreterUtils.findRandomAvailablePortOnAllLocalInterfaces();
@@ -142,7 +170,7 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
     }
 
     try {
-      kubectl.wait(String.format("pod/%s", getPodName()), "delete", 60);
+      client.waitForPodDeleted(getPodName(), 60);
     } catch (IOException e) {
       LOGGER.debug("Error on waiting pod delete", e);
     }
@@ -174,28 +202,7 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
         return true;
       }
 
-      String ret = kubectl.execAndGet(new String[]{
-              "get",
-              String.format("pods/%s", getPodName()),
-              "-o",
-              "json"
-      });
-
-      if (ret == null) {
-        return false;
-      }
-
-      Map<String, Object> pod = gson.fromJson(ret, new TypeToken<Map<String, Object>>() {}.getType());
-      if (pod == null || !pod.containsKey("status")) {
-        return false;
-      }
-
-      Map<String, Object> status = (Map<String, Object>) pod.get("status");
-      if (status == null || !status.containsKey("phase")) {
-        return false;
-      }
-
-      return "Running".equals(status.get("phase")) && started.get();
+      return "Running".equals(client.getPodPhase(getPodName())) && started.get();
     } catch (Exception e) {
       LOGGER.error("Can't get pod status", e);
       return false;
@@ -204,45 +211,87 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
 
   /**
    * Apply spec file(s) in the path.
+   * The files are rendered concurrently, and applied one by one in the order of their names
+   * (reverse order on delete).
    * @param path
    */
   void apply(File path, boolean delete) throws IOException {
+    List<File> templateFiles = new ArrayList<>();
+    collectTemplateFiles(path, templateFiles);
+    if (delete) {
+      Collections.reverse(templateFiles);
+    }
+
+    List<String> specs = render(templateFiles, getTemplateBindings());
+    for (int i = 0; i < templateFiles.size(); i++) {
+      LOGGER.info("Apply " + templateFiles.get(i).getAbsolutePath());
+      if (delete) {
+        client.delete(specs.get(i));
+      } else {
+        client.apply(specs.get(i));
+      }
+    }
+  }
+
+  private void collectTemplateFiles(File path, List<File> templateFiles) {
     if (path.getName().startsWith(".") || path.isHidden() || path.getName().endsWith("~")) {
       LOGGER.info("Skip " + path.getAbsolutePath());
+      return;
     }
 
     if (path.isDirectory()) {
       File[] files = path.listFiles();
       Arrays.sort(files);
-      if (delete) {
-        ArrayUtils.reverse(files);
-      }
-
       for (File f : files) {
-        apply(f, delete);
+        collectTemplateFiles(f, templateFiles);
       }
     } else if (path.isFile()) {
-      LOGGER.info("Apply " + path.getAbsolutePath());
-      K8sSpecTemplate specTemplate = new K8sSpecTemplate();
-      specTemplate.loadProperties(getTemplateBindings());
-
-      String spec = specTemplate.render(path);
-      if (delete) {
-        kubectl.delete(spec);
-      } else {
-        kubectl.apply(spec);
-      }
+      templateFiles.add(path);
     } else {
       LOGGER.error("Can't apply " + path.getAbsolutePath());
     }
   }
 
+  @VisibleForTesting
+  static List<String> render(List<File> templateFiles, Properties bindings) throws IOException {
+    List<String> specs = new ArrayList<>();
+    if (templateFiles.size() == 1) {
+      specs.add(render(templateFiles.get(0), bindings));
+      return specs;
+    }
+
+    List<Future<String>> futures = new ArrayList<>();
+    for (File templateFile : templateFiles) {
+      futures.add(RENDER_EXECUTOR.submit(() -> render(templateFile, bindings)));
+    }
+    for (int i = 0; i < futures.size(); i++) {
+      try {
+        specs.add(futures.get(i).get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while rendering " + templateFiles.get(i), e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof IOException) {
+          throw (IOException) e.getCause();
+        }
+        throw new IOException("Fail to render " + templateFiles.get(i), e.getCause());
+      }
+    }
+    return specs;
+  }
+
+  private static String render(File templateFile, Properties bindings) throws IOException {
+    K8sSpecTemplate specTemplate = new K8sSpecTemplate();
+    specTemplate.loadProperties(bindings);
+    return specTemplate.render(templateFile);
+  }
+
   @VisibleForTesting
   Properties getTemplateBindings() throws IOException {
     Properties k8sProperties = new Properties();
 
     // k8s template properties
-    k8sProperties.put("zeppelin.k8s.namespace", kubectl.getNamespace());
+    k8sProperties.put("zeppelin.k8s.namespace", client.getNamespace());
     k8sProperties.put("zeppelin.k8s.interpreter.pod.name", getPodName());
     k8sProperties.put("zeppelin.k8s.interpreter.container.name", interpreterGroupName.toLowerCase());
     k8sProperties.put("zeppelin.k8s.interpreter.container.image", containerImage);
@@ -308,7 +357,7 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
     if (properties.containsKey("spark.driver.memory")) {
       options.append(" --driver-memory " + properties.get("spark.driver.memory"));
     }
-    options.append(" --conf spark.kubernetes.namespace=" + kubectl.getNamespace());
+    options.append(" --conf spark.kubernetes.namespace=" + client.getNamespace());
     options.append(" --conf spark.executor.instances=1");
     options.append(" --conf spark.kubernetes.driver.pod.name=" + getPodName());
     options.append(" --conf spark.kubernetes.container.image=" + sparkImage);
@@ -323,7 +372,7 @@ public class K8sRemoteInterpreterProcess extends RemoteInterpreterProcess {
   private String getInterpreterPodDnsName() {
     return String.format("%s.%s.svc",
         getPodName(), // service name and pod name is the same
-        kubectl.getNamespace());
+        client.getNamespace());
   }
 
   /**
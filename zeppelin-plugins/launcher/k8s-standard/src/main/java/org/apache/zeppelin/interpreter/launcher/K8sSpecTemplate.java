@@ -16,34 +16,146 @@
  */
 package org.apache.zeppelin.interpreter.launcher;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.interpret.Context;
+import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.TemplateError;
+import com.hubspot.jinjava.tree.Node;
 import org.apache.commons.io.FileUtils;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class K8sSpecTemplate extends HashMap<String, Object> {
+  // Jinjava is thread safe and expensive to create, so it is shared by all renders
+  private static volatile Jinjava jinjava;
+  // parsed template files, by absolute path
+  private static final Map<String, ParsedTemplate> parsedTemplates = new ConcurrentHashMap<>();
+
+  /**
+   * Render a template file. The file is parsed once and parsed again only when it is modified.
+   */
   public String render(File templateFile) throws IOException {
-    String template = FileUtils.readFileToString(templateFile, Charset.defaultCharset());
-    return render(template);
+    ParsedTemplate parsed = parse(templateFile);
+    return render(parsed.template, parsed.root, parsed.errors);
   }
 
   public String render(String template) {
     ClassLoader oldCl = Thread.currentThread().getContextClassLoader();
     try {
       Thread.currentThread().setContextClassLoader(this.getClass().getClassLoader());
-      Jinjava jinja = new Jinjava();
-      return jinja.render(template, this);
+      return getJinjava().render(template, this);
     } finally {
       Thread.currentThread().setContextClassLoader(oldCl);
     }
   }
 
+  private String render(String template, Node root, List<TemplateError> parseErrors) {
+    ClassLoader oldCl = Thread.currentThread().getContextClassLoader();
+    try {
+      Thread.currentThread().setContextClassLoader(this.getClass().getClassLoader());
+      Jinjava jinja = getJinjava();
+      JinjavaInterpreter interpreter = new JinjavaInterpreter(jinja,
+          new Context(jinja.getGlobalContext(), this), jinja.getGlobalConfig());
+      interpreter.addAllErrors(parseErrors);
+      JinjavaInterpreter.pushCurrent(interpreter);
+      String output;
+      try {
+        output = interpreter.render(root);
+      } finally {
+        JinjavaInterpreter.popCurrent();
+      }
+      // same as Jinjava.render(), fail on fatal errors
+      List<TemplateError> fatalErrors = new ArrayList<>();
+      for (TemplateError error : interpreter.getErrorsCopy()) {
+        if (error.getSeverity() == TemplateError.ErrorType.FATAL) {
+          fatalErrors.add(error);
+        }
+      }
+      if (!fatalErrors.isEmpty()) {
+        throw new FatalTemplateErrorsException(template, fatalErrors);
+      }
+      return output;
+    } finally {
+      Thread.currentThread().setContextClassLoader(oldCl);
+    }
+  }
+
+  private ParsedTemplate parse(File templateFile) throws IOException {
+    String key = templateFile.getAbsolutePath();
+    long lastModified = templateFile.lastModified();
+    long length = templateFile.length();
+    ParsedTemplate parsed = parsedTemplates.get(key);
+    if (parsed != null && parsed.lastModified == lastModified && parsed.length == length) {
+      return parsed;
+    }
+
+    String template = FileUtils.readFileToString(templateFile, Charset.defaultCharset());
+    ClassLoader oldCl = Thread.currentThread().getContextClassLoader();
+    try {
+      Thread.currentThread().setContextClassLoader(this.getClass().getClassLoader());
+      JinjavaInterpreter interpreter = getJinjava().newInterpreter();
+      JinjavaInterpreter.pushCurrent(interpreter);
+      try {
+        parsed = new ParsedTemplate(template, interpreter.parse(template),
+            interpreter.getErrorsCopy(), lastModified, length);
+      } finally {
+        JinjavaInterpreter.popCurrent();
+      }
+    } finally {
+      Thread.currentThread().setContextClassLoader(oldCl);
+    }
+    parsedTemplates.put(key, parsed);
+    return parsed;
+  }
+
+  @VisibleForTesting
+  static void clearCache() {
+    parsedTemplates.clear();
+  }
+
+  private Jinjava getJinjava() {
+    if (jinjava == null) {
+      synchronized (K8sSpecTemplate.class) {
+        if (jinjava == null) {
+          jinjava = new Jinjava();
+        }
+      }
+    }
+    return jinjava;
+  }
+
+  /**
+   * Template file parsed into a tree, which can be rendered many times, also concurrently.
+   */
+  private static class ParsedTemplate {
+    private final String template;
+    private final Node root;
+    private final List<TemplateError> errors;
+    // to find out whether the file is modified
+    private final long lastModified;
+    private final long length;
+
+    ParsedTemplate(String template, Node root, List<TemplateError> errors, long lastModified,
+                   long length) {
+      this.template = template;
+      this.root = root;
+      this.errors = errors;
+      this.lastModified = lastModified;
+      this.length = length;
+    }
+  }
+
   public void loadProperties(Properties properties) {
     Set<Entry<Object, Object>> entries = properties.entrySet();
     for (Entry entry : entries) {
@@ -25,8 +25,10 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 
 import com.google.common.annotations.VisibleForTesting;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.recovery.RecoveryStorage;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterTransport;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +44,7 @@ public class K8sStandardInterpreterLauncher extends InterpreterLauncher {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(K8sStandardInterpreterLauncher.class);
   private final Kubectl kubectl;
+  private final K8sClient k8sClient;
   private InterpreterLaunchContext context;
 
 
@@ -49,12 +52,31 @@ public class K8sStandardInterpreterLauncher extends InterpreterLauncher {
     super(zConf, recoveryStorage);
     kubectl = new Kubectl(zConf.getK8sKubectlCmd());
     kubectl.setNamespace(getNamespace());
+    if ("api".equalsIgnoreCase(zConf.getK8sClient())) {
+      K8sApiClient apiClient = createApiClient();
+      apiClient.setNamespace(getNamespace());
+      k8sClient = apiClient;
+    } else {
+      k8sClient = kubectl;
+    }
   }
 
   @VisibleForTesting
   K8sStandardInterpreterLauncher(ZeppelinConfiguration zConf, RecoveryStorage recoveryStorage, Kubectl kubectl) {
     super(zConf, recoveryStorage);
     this.kubectl = kubectl;
+    this.k8sClient = kubectl;
+  }
+
+  private K8sApiClient createApiClient() throws IOException {
+    if (!StringUtils.isBlank(zConf.getK8sApiUrl())) {
+      return new K8sApiClient(zConf.getK8sApiUrl(), null, null);
+    } else if (isRunningOnKubernetes()) {
+      return K8sApiClient.inCluster();
+    } else {
+      throw new IOException("zeppelin.k8s.api.url is required when zeppelin is not running on "
+          + "kubernetes");
+    }
   }
 
 
@@ -138,6 +160,7 @@ public class K8sStandardInterpreterLauncher extends InterpreterLauncher {
     int connectTimeout = getConnectTimeout();
 
     return new K8sRemoteInterpreterProcess(
+            k8sClient,
             kubectl,
             new File(zConf.getK8sTemplatesDir(), "interpreter"),
             zConf.getK8sContainerImage(),
@@ -167,6 +190,11 @@ public class K8sStandardInterpreterLauncher extends InterpreterLauncher {
       }
     }
     env.put("INTERPRETER_GROUP_ID", context.getInterpreterGroupId());
+    // interpreter process must use the same thrift transport as zeppelin server
+    if (RemoteInterpreterTransport.create(zConf).isNonBlocking()) {
+      env.put(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_TRANSPORT.name(),
+          zConf.getInterpreterRpcTransport());
+    }
     return env;
   }
 
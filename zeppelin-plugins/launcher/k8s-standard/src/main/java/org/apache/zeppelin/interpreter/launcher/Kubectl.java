@@ -19,8 +19,10 @@ package org.apache.zeppelin.interpreter.launcher;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Map;
 
 import org.apache.commons.exec.*;
 import org.apache.commons.io.IOUtils;
@@ -30,7 +32,7 @@ import java.io.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class Kubectl {
+public class Kubectl implements K8sClient {
   private final Logger LOGGER = LoggerFactory.getLogger(Kubectl.class);
   private final String kubectlCmd;
   private final Gson gson = new Gson();
@@ -48,14 +50,17 @@ public class Kubectl {
     this.namespace = namespace;
   }
 
+  @Override
   public String getNamespace() {
     return namespace;
   }
 
+  @Override
   public String apply(String spec) throws IOException {
     return execAndGet(new String[]{"apply", "-f", "-"}, spec);
   }
 
+  @Override
   public String delete(String spec) throws IOException {
     return execAndGet(new String[]{"delete", "-f", "-"}, spec);
   }
@@ -77,6 +82,40 @@ public class Kubectl {
     }
   }
 
+  @Override
+  public void waitForPodReady(String podName, int timeoutSec) throws IOException {
+    wait(String.format("pod/%s", podName), "condition=Ready", timeoutSec);
+  }
+
+  @Override
+  public void waitForPodDeleted(String podName, int timeoutSec) throws IOException {
+    wait(String.format("pod/%s", podName), "delete", timeoutSec);
+  }
+
+  @Override
+  public String getPodPhase(String podName) throws IOException {
+    String ret = execAndGet(new String[]{
+        "get",
+        String.format("pods/%s", podName),
+        "-o",
+        "json"
+    });
+    if (ret == null) {
+      return null;
+    }
+
+    Map<String, Object> pod = gson.fromJson(ret, new TypeToken<Map<String, Object>>() {}.getType());
+    if (pod == null || !pod.containsKey("status")) {
+      return null;
+    }
+
+    Map<String, Object> status = (Map<String, Object>) pod.get("status");
+    if (status == null) {
+      return null;
+    }
+    return (String) status.get("phase");
+  }
+
   public ExecuteWatchdog portForward(String resource, String [] ports) throws IOException {
     DefaultExecutor executor = new DefaultExecutor();
     CommandLine cmd = new CommandLine(kubectlCmd);
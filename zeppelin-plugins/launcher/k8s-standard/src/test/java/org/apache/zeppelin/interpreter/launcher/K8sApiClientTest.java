@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.interpreter.launcher;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Runs K8sApiClient against a fake API server.
+ */
+public class K8sApiClientTest {
+
+  private static final String SPEC = "kind: Pod\n" +
+      "apiVersion: v1\n" +
+      "metadata:\n" +
+      "  name: intp-abc\n" +
+      "  namespace: other\n" +
+      "spec:\n" +
+      "  containers:\n" +
+      "  - name: intp\n" +
+      "    image: apache/zeppelin\n" +
+      "---\n" +
+      "kind: RoleBinding\n" +
+      "apiVersion: rbac.authorization.k8s.io/v1\n" +
+      "metadata:\n" +
+      "  name: intp-abc-binding\n";
+
+  private HttpServer server;
+  private K8sApiClient client;
+  // "METHOD path?query" of the received requests
+  private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+  private final Map<String, String> bodies = Collections.synchronizedMap(new HashMap<>());
+  private final Map<String, String> contentTypes = Collections.synchronizedMap(new HashMap<>());
+  // "METHOD path" -> status code and response
+  private final Map<String, Object[]> responses = Collections.synchronizedMap(new HashMap<>());
+
+  @Before
+  public void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/", this::handle);
+    server.start();
+    client = new K8sApiClient("http://localhost:" + server.getAddress().getPort() + "/", null,
+        null);
+    client.setNamespace("zeppelin");
+  }
+
+  @After
+  public void tearDown() {
+    server.stop(0);
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    String method = exchange.getRequestMethod();
+    String path = exchange.getRequestURI().getPath();
+    String query = exchange.getRequestURI().getQuery();
+    requests.add(method + " " + path + (query == null ? "" : "?" + query));
+    bodies.put(method + " " + path,
+        IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8));
+    contentTypes.put(method + " " + path, exchange.getRequestHeaders().getFirst("Content-Type"));
+    Object[] response = responses.getOrDefault(method + " " + path, new Object[]{200, "{}"});
+    byte[] body = ((String) response[1]).getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders((int) response[0], body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  private static String pod(String resourceVersion, String phase, boolean ready) {
+    return String.format("{\"metadata\": {\"name\": \"intp-abc\", \"resourceVersion\": \"%s\"}, " +
+        "\"status\": {\"phase\": \"%s\", \"conditions\": [{\"type\": \"Ready\", " +
+        "\"status\": \"%s\"}]}}", resourceVersion, phase, ready ? "True" : "False");
+  }
+
+  private static String event(String type, String object) {
+    return String.format("{\"type\": \"%s\", \"object\": %s}\n", type, object);
+  }
+
+  @Test
+  public void testApply() throws IOException {
+    responses.put("POST /apis/rbac.authorization.k8s.io/v1/namespaces/zeppelin/rolebindings",
+        new Object[]{409, "{\"reason\": \"AlreadyExists\"}"});
+
+    client.apply(SPEC);
+
+    // the namespace of the client overrides the namespace of the spec
+    assertEquals("POST /api/v1/namespaces/zeppelin/pods", requests.get(0));
+    assertTrue(bodies.get("POST /api/v1/namespaces/zeppelin/pods")
+        .contains("\"namespace\":\"zeppelin\""));
+    assertTrue(bodies.get("POST /api/v1/namespaces/zeppelin/pods")
+        .contains("\"image\":\"apache/zeppelin\""));
+    // an existing resource is updated by server-side apply
+    assertEquals("POST /apis/rbac.authorization.k8s.io/v1/namespaces/zeppelin/rolebindings",
+        requests.get(1));
+    assertEquals("PATCH /apis/rbac.authorization.k8s.io/v1/namespaces/zeppelin/rolebindings/"
+        + "intp-abc-binding?fieldManager=zeppelin&force=true", requests.get(2));
+    assertEquals("application/apply-patch+yaml", contentTypes.get(
+        "PATCH /apis/rbac.authorization.k8s.io/v1/namespaces/zeppelin/rolebindings/"
+            + "intp-abc-binding"));
+    assertEquals(3, requests.size());
+  }
+
+  @Test
+  public void testApplyWithMergePatch() throws IOException {
+    String path = "/apis/rbac.authorization.k8s.io/v1/namespaces/zeppelin/rolebindings";
+    responses.put("POST " + path, new Object[]{409, "{\"reason\": \"AlreadyExists\"}"});
+    // api server without server-side apply
+    responses.put("PATCH " + path + "/intp-abc-binding",
+        new Object[]{415, "{\"reason\": \"UnsupportedMediaType\"}"});
+    try {
+      client.apply(SPEC);
+      fail("merge patch gets 415 too");
+    } catch (IOException e) {
+      assertTrue(e.getMessage().contains("(415)"));
+    }
+    assertEquals("PATCH " + path + "/intp-abc-binding", requests.get(3));
+    assertEquals("application/merge-patch+json",
+        contentTypes.get("PATCH " + path + "/intp-abc-binding"));
+    assertTrue(bodies.get("PATCH " + path + "/intp-abc-binding")
+        .contains("\"name\":\"intp-abc-binding\""));
+  }
+
+  @Test
+  public void testResourcePath() throws IOException {
+    Map<String, Object> resource = client.parse(
+        "kind: Endpoints\napiVersion: v1\nmetadata:\n  name: intp-abc\n").get(0);
+    assertEquals("/api/v1/namespaces/zeppelin/endpoints", client.getCollectionPath(resource));
+    resource = client.parse(
+        "kind: StorageClass\napiVersion: storage.k8s.io/v1\nmetadata:\n  name: sc\n").get(0);
+    assertEquals("/apis/storage.k8s.io/v1/storageclasses", client.getCollectionPath(resource));
+    try {
+      client.parse("kind: Unknown\napiVersion: v1\nmetadata:\n  name: intp-abc\n");
+      fail("parse should refuse unknown kinds");
+    } catch (IOException e) {
+      assertTrue(e.getMessage().contains("unsupported kind Unknown"));
+    }
+  }
+
+  @Test
+  public void testApplyFailure() {
+    responses.put("POST /api/v1/namespaces/zeppelin/pods",
+        new Object[]{403, "{\"reason\": \"Forbidden\"}"});
+    try {
+      client.apply(SPEC);
+      fail("apply should fail");
+    } catch (IOException e) {
+      assertTrue(e.getMessage().contains("(403)"));
+    }
+  }
+
+  @Test
+  public void testParseOnlyPlainYaml() {
+    // global tags would construct arbitrary java objects
+    try {
+      client.parse("apiVersion: v1\nkind: Pod\nmetadata:\n  name: !!java.util.Date {}\n");
+      fail("parse should refuse java types");
+    } catch (IOException e) {
+      assertTrue(e.getMessage().startsWith("Invalid spec"));
+    }
+    assertTrue(requests.isEmpty());
+  }
+
+  @Test
+  public void testDelete() throws IOException {
+    responses.put("DELETE /api/v1/namespaces/zeppelin/pods/intp-abc",
+        new Object[]{404, "{\"reason\": \"NotFound\"}"});
+
+    client.delete(SPEC);
+
+    // in the reverse order, and a resource which doesn't exist is ignored
+    assertEquals(2, requests.size());
+    assertEquals("DELETE /apis/rbac.authorization.k8s.io/v1/namespaces/zeppelin/rolebindings/"
+        + "intp-abc-binding", requests.get(0));
+    assertEquals("DELETE /api/v1/namespaces/zeppelin/pods/intp-abc", requests.get(1));
+  }
+
+  @Test
+  public void testWaitForPodReady() throws IOException {
+    responses.put("GET /api/v1/namespaces/zeppelin/pods/intp-abc",
+        new Object[]{200, pod("10", "Pending", false)});
+    responses.put("GET /api/v1/namespaces/zeppelin/pods",
+        new Object[]{200, event("MODIFIED", pod("11", "Pending", false))
+            + event("MODIFIED", pod("12", "Running", true))});
+
+    client.waitForPodReady("intp-abc", 10);
+
+    assertEquals(2, requests.size());
+    // watches the changes after the pod it got
+    assertTrue(requests.get(1).startsWith("GET /api/v1/namespaces/zeppelin/pods?watch=true&" +
+        "fieldSelector=metadata.name=intp-abc&timeoutSeconds="));
+    assertTrue(requests.get(1).endsWith("&resourceVersion=10"));
+  }
+
+  @Test
+  public void testWaitForPodReadyFailed() {
+    responses.put("GET /api/v1/namespaces/zeppelin/pods/intp-abc",
+        new Object[]{200, pod("10", "Pending", false)});
+    responses.put("GET /api/v1/namespaces/zeppelin/pods",
+        new Object[]{200, event("MODIFIED", pod("11", "Failed", false))});
+    try {
+      client.waitForPodReady("intp-abc", 10);
+      fail("pod is failed");
+    } catch (IOException e) {
+      assertTrue(e.getMessage().contains("Failed"));
+    }
+  }
+
+  @Test
+  public void testWaitForPodDeleted() throws IOException {
+    responses.put("GET /api/v1/namespaces/zeppelin/pods/intp-abc",
+        new Object[]{200, pod("10", "Running", true)});
+    responses.put("GET /api/v1/namespaces/zeppelin/pods",
+        new Object[]{200, event("MODIFIED", pod("11", "Running", false))
+            + event("DELETED", pod("12", "Running", false))});
+    client.waitForPodDeleted("intp-abc", 10);
+    assertEquals(2, requests.size());
+
+    // no watch when there's no such pod
+    requests.clear();
+    responses.put("GET /api/v1/namespaces/zeppelin/pods/intp-abc",
+        new Object[]{404, "{\"reason\": \"NotFound\"}"});
+    client.waitForPodDeleted("intp-abc", 10);
+    assertEquals(1, requests.size());
+  }
+
+  @Test
+  public void testGetPodPhase() throws IOException {
+    responses.put("GET /api/v1/namespaces/zeppelin/pods/intp-abc",
+        new Object[]{200, pod("10", "Running", true)});
+    assertEquals("Running", client.getPodPhase("intp-abc"));
+
+    responses.put("GET /api/v1/namespaces/zeppelin/pods/intp-abc",
+        new Object[]{404, "{\"reason\": \"NotFound\"}"});
+    assertNull(client.getPodPhase("intp-abc"));
+  }
+}
@@ -17,19 +17,34 @@
 
 package org.apache.zeppelin.interpreter.launcher;
 
+import org.apache.commons.io.FileUtils;
 import org.junit.Test;
+import org.mockito.InOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Properties;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class K8sRemoteInterpreterProcessTest {
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(K8sRemoteInterpreterProcessTest.class);
 
   @Test
   public void testGetHostPort() {
@@ -193,4 +208,92 @@ public class K8sRemoteInterpreterProcessTest {
     assertTrue(sparkSubmitOptions.contains("spark.driver.port=" + intp.getSparkDriverPort()));
     assertTrue(sparkSubmitOptions.contains("spark.blockManager.port=" + intp.getSparkBlockmanagerPort()));
   }
+
+  private K8sRemoteInterpreterProcess createProcess(K8sClient client, File specTemplates) {
+    return new K8sRemoteInterpreterProcess(
+        client,
+        mock(Kubectl.class),
+        specTemplates,
+        "interpreter-container:1.0",
+        "shared_process",
+        "sh",
+        "shell",
+        new Properties(),
+        new HashMap<>(),
+        "zeppelin.server.hostname",
+        "12320",
+        false,
+        "spark-container:1.0",
+        10);
+  }
+
+  @Test
+  public void testApply() throws IOException {
+    // given
+    K8sClient client = mock(K8sClient.class);
+    when(client.getNamespace()).thenReturn("default");
+    File dir = Files.createTempDirectory("K8sRemoteInterpreterProcessTest").toFile();
+    try {
+      FileUtils.writeStringToFile(new File(dir, "200-b.yaml"),
+          "b: {{zeppelin.k8s.interpreter.pod.name}}", StandardCharsets.UTF_8);
+      FileUtils.writeStringToFile(new File(dir, "100-a.yaml"),
+          "a: {{zeppelin.k8s.interpreter.pod.name}}", StandardCharsets.UTF_8);
+      FileUtils.writeStringToFile(new File(dir, ".hidden.yaml"), "hidden",
+          StandardCharsets.UTF_8);
+      K8sRemoteInterpreterProcess intp = createProcess(client, dir);
+
+      // when
+      intp.apply(dir, false);
+      intp.apply(dir, true);
+
+      // then files are applied in order, and deleted in reverse order
+      InOrder inOrder = inOrder(client);
+      inOrder.verify(client).apply("a: " + intp.getPodName());
+      inOrder.verify(client).apply("b: " + intp.getPodName());
+      inOrder.verify(client).delete("b: " + intp.getPodName());
+      inOrder.verify(client).delete("a: " + intp.getPodName());
+      verify(client, times(2)).apply(anyString());
+    } finally {
+      FileUtils.deleteDirectory(dir);
+    }
+  }
+
+  /**
+   * Measures the time to prepare the specs of a pod from the templates of the distribution,
+   * i.e. bindings and rendering, without and with parsed templates cached.
+   */
+  @Test
+  public void testLaunchPreparationTime() throws IOException {
+    File templates = new File("../../../k8s/interpreter");
+    assumeTrue(templates.isDirectory());
+    K8sClient client = mock(K8sClient.class);
+    when(client.getNamespace()).thenReturn("default");
+    List<File> templateFiles = new ArrayList<>();
+    for (File f : templates.listFiles()) {
+      if (f.isFile()) {
+        templateFiles.add(f);
+      }
+    }
+
+    int pods = 50;
+    long uncachedNanos = 0;
+    long cachedNanos = 0;
+    for (int i = 0; i < pods; i++) {
+      K8sRemoteInterpreterProcess intp = createProcess(client, templates);
+      K8sSpecTemplate.clearCache();
+      long start = System.nanoTime();
+      List<String> uncached = K8sRemoteInterpreterProcess.render(templateFiles,
+          intp.getTemplateBindings());
+      uncachedNanos += System.nanoTime() - start;
+
+      start = System.nanoTime();
+      List<String> cached = K8sRemoteInterpreterProcess.render(templateFiles,
+          intp.getTemplateBindings());
+      cachedNanos += System.nanoTime() - start;
+      assertEquals(uncached, cached);
+      assertTrue(cached.get(0).contains(intp.getPodName()));
+    }
+    LOGGER.info("Launch preparation per pod: {} ms without cache, {} ms with cache",
+        uncachedNanos / pods / 1000000.0, cachedNanos / pods / 1000000.0);
+  }
 }
@@ -17,8 +17,12 @@
 package org.apache.zeppelin.interpreter.launcher;
 
 import com.google.common.collect.ImmutableMap;
+import org.apache.commons.io.FileUtils;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Properties;
 
@@ -38,6 +42,29 @@ public class K8sSpecTemplateTest {
     assertEquals("Hello world", spec);
   }
 
+  @Test
+  public void testRenderFile() throws IOException {
+    File templateFile = File.createTempFile("K8sSpecTemplateTest", ".yaml");
+    try {
+      FileUtils.writeStringToFile(templateFile, "Hello {{name}}", StandardCharsets.UTF_8);
+      K8sSpecTemplate template = new K8sSpecTemplate();
+      template.put("name", "world");
+      assertEquals("Hello world", template.render(templateFile));
+
+      // parsed template is reused with other variables
+      K8sSpecTemplate template2 = new K8sSpecTemplate();
+      template2.put("name", "zeppelin");
+      assertEquals("Hello zeppelin", template2.render(templateFile));
+
+      // modified file is parsed again
+      FileUtils.writeStringToFile(templateFile, "Bye {{name}}", StandardCharsets.UTF_8);
+      templateFile.setLastModified(templateFile.lastModified() + 2000);
+      assertEquals("Bye world", template.render(templateFile));
+    } finally {
+      templateFile.delete();
+    }
+  }
+
   @Test
   public void testObject() {
     K8sSpecTemplate template = new K8sSpecTemplate();
@@ -66,6 +66,7 @@ public class LoginRestApi {
   private static final Gson GSON = new Gson();
   private final ZeppelinConfiguration zConf;
 
+  private final Notebook notebook;
   private final AuthenticationService authenticationService;
   private final AuthorizationService authorizationService;
 
@@ -74,6 +75,7 @@ public class LoginRestApi {
                       AuthenticationService authenticationService,
                       AuthorizationService authorizationService) {
     this.zConf = notebook.getConf();
+    this.notebook = notebook;
     this.authenticationService = authenticationService;
     this.authorizationService = authorizationService;
   }
@@ -239,7 +241,12 @@ public class LoginRestApi {
   @Path("logout")
   @ZeppelinApi
   public Response logout() {
+    String principal = authenticationService.getPrincipal();
     logoutCurrentUser();
+    if (!"anonymous".equals(principal)) {
+      // the ticket of the user is removed, so the notes the user still watches are done as well
+      notebook.removeUserParagraphs(principal, note -> true);
+    }
     Status status;
     Map<String, String> data = new HashMap<>();
     if (zConf.isAuthorizationHeaderClear()) {
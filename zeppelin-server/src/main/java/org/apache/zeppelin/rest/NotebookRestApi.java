@@ -27,6 +27,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.ws.rs.DELETE;
@@ -58,7 +61,9 @@ import org.apache.zeppelin.rest.message.NewNoteRequest;
 import org.apache.zeppelin.rest.message.NewParagraphRequest;
 import org.apache.zeppelin.rest.message.RenameNoteRequest;
 import org.apache.zeppelin.rest.message.RunParagraphWithParametersRequest;
+import org.apache.zeppelin.rest.message.RunParagraphsRequest;
 import org.apache.zeppelin.rest.message.UpdateParagraphRequest;
+import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
 import org.apache.zeppelin.search.SearchService;
 import org.apache.zeppelin.server.JsonResponse;
 import org.apache.zeppelin.service.AuthenticationService;
@@ -67,6 +72,7 @@ import org.apache.zeppelin.service.NotebookService;
 import org.apache.zeppelin.service.ServiceContext;
 import org.apache.zeppelin.socket.NotebookServer;
 import org.apache.zeppelin.user.AuthenticationInfo;
+import org.glassfish.jersey.server.ChunkedOutput;
 import org.quartz.CronExpression;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -90,6 +96,12 @@ public class NotebookRestApi extends AbstractRestApi {
   private JobManagerService jobManagerService;
   private AuthenticationService authenticationService;
   private SchedulerService schedulerService;
+  // submits paragraphs and writes the events of streaming requests
+  private final ExecutorService streamExecutor =
+      Executors.newCachedThreadPool(new SchedulerThreadFactory("ParagraphEventStream-"));
+  // ends streaming requests which are not done in time
+  private final ScheduledExecutorService streamTimer = Executors.newSingleThreadScheduledExecutor(
+      new SchedulerThreadFactory("ParagraphEventStreamTimer-"));
 
   @Inject
   public NotebookRestApi(
@@ -833,6 +845,90 @@ public class NotebookRestApi extends AbstractRestApi {
     }
   }
 
+  /**
+   * Run a paragraph and stream its status, progress and output as server-sent events.
+   * The request thread is released as soon as the paragraph is submitted.
+   *
+   * @param noteId      - noteId
+   * @param paragraphId - paragraphId
+   * @param message     - JSON with params if user wants to update dynamic form's value
+   *                    null, empty string, empty json if user doesn't want to update
+   * @return stream of events, see {@link ParagraphEventStream}
+   * @throws IOException
+   * @throws IllegalArgumentException
+   */
+  @POST
+  @Path("run/{noteId}/{paragraphId}/stream")
+  @Produces(ParagraphEventStream.MEDIA_TYPE)
+  @ZeppelinApi
+  public ChunkedOutput<String> runParagraphStreaming(@PathParam("noteId") String noteId,
+                                                     @PathParam("paragraphId") String paragraphId,
+                                                     String message)
+      throws IOException, IllegalArgumentException {
+    LOG.info("run paragraph streaming {} {} {}", noteId, paragraphId, message);
+
+    Note note = notebook.getNote(noteId);
+    checkIfNoteIsNotNull(note);
+    checkIfUserCanRun(noteId, "Insufficient privileges you cannot run paragraph in this note");
+    checkIfParagraphIsNotNull(note.getParagraph(paragraphId));
+
+    Map<String, Object> params = new HashMap<>();
+    if (!StringUtils.isEmpty(message)) {
+      RunParagraphWithParametersRequest request =
+          RunParagraphWithParametersRequest.fromJson(message);
+      params = request.getParams();
+    }
+    List<RunParagraphsRequest.ParagraphRun> runs = new LinkedList<>();
+    runs.add(new RunParagraphsRequest.ParagraphRun(paragraphId, params));
+    return new ParagraphEventStream(notebook, notebookService, notebookServer,
+        getServiceContext(), streamExecutor, streamTimer, zConf.getParagraphStreamTimeout(),
+        noteId, runs).start();
+  }
+
+  /**
+   * Run many paragraphs of a note one after another in one request, and stream their events as
+   * server-sent events. It stops at the first paragraph which doesn't finish successfully.
+   *
+   * @param noteId  - noteId
+   * @param message - JSON with the paragraphs to run and their params,
+   *                null or empty string to run all paragraphs of the note
+   * @return stream of events, see {@link ParagraphEventStream}
+   * @throws IOException
+   * @throws IllegalArgumentException
+   */
+  @POST
+  @Path("run/{noteId}/stream")
+  @Produces(ParagraphEventStream.MEDIA_TYPE)
+  @ZeppelinApi
+  public ChunkedOutput<String> runParagraphsStreaming(@PathParam("noteId") String noteId,
+                                                      String message)
+      throws IOException, IllegalArgumentException {
+    LOG.info("run paragraphs streaming {} {}", noteId, message);
+
+    Note note = notebook.getNote(noteId);
+    checkIfNoteIsNotNull(note);
+    checkIfUserCanRun(noteId, "Insufficient privileges you cannot run paragraph in this note");
+
+    List<RunParagraphsRequest.ParagraphRun> runs = new LinkedList<>();
+    if (!StringUtils.isEmpty(message)) {
+      RunParagraphsRequest request = RunParagraphsRequest.fromJson(message);
+      if (request.getParagraphs() != null) {
+        runs.addAll(request.getParagraphs());
+      }
+    }
+    if (runs.isEmpty()) {
+      for (Paragraph p : note.getParagraphs()) {
+        runs.add(new RunParagraphsRequest.ParagraphRun(p.getId(), new HashMap<>()));
+      }
+    }
+    for (RunParagraphsRequest.ParagraphRun run : runs) {
+      checkIfParagraphIsNotNull(note.getParagraph(run.getId()));
+    }
+    return new ParagraphEventStream(notebook, notebookService, notebookServer,
+        getServiceContext(), streamExecutor, streamTimer, zConf.getParagraphStreamTimeout(),
+        noteId, runs).start();
+  }
+
   /**
    * Stop(delete) paragraph job REST API.
    *
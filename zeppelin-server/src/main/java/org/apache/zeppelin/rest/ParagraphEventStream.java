@@ -0,0 +1,345 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.rest;
+
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Notebook;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.rest.message.RunParagraphsRequest.ParagraphRun;
+import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.service.NotebookService;
+import org.apache.zeppelin.service.ServiceContext;
+import org.apache.zeppelin.service.SimpleServiceCallback;
+import org.apache.zeppelin.socket.NotebookServer;
+import org.apache.zeppelin.socket.ParagraphEventListener;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs paragraphs of a note one after another and streams their events to a REST client as
+ * server-sent events. No request thread is held while the paragraphs run: paragraphs are
+ * submitted without blocking, and events are written by the executor.
+ *
+ * Events are status, progress, append and update while a paragraph runs, result when it is
+ * done, and end after the last paragraph or after the first paragraph which doesn't finish
+ * successfully. The data of every event is a json object with the paragraphId. Disabled
+ * paragraphs are not run, their result has skipped set to true.
+ *
+ * The stream ends with timeout set to true in the end event when the paragraphs are not done
+ * within the timeout, the paragraphs which are submitted keep running.
+ */
+public class ParagraphEventStream implements ParagraphEventListener {
+  private static final Logger LOG = LoggerFactory.getLogger(ParagraphEventStream.class);
+  private static final Gson gson = new Gson();
+
+  public static final String MEDIA_TYPE = "text/event-stream";
+
+  private final Notebook notebook;
+  private final NotebookService notebookService;
+  private final NotebookServer notebookServer;
+  private final ServiceContext context;
+  private final ExecutorService executor;
+  private final ScheduledExecutorService timer;
+  private final long timeout;
+  private final String noteId;
+  private final LinkedList<ParagraphRun> pending;
+  private final ChunkedOutput<String> output;
+  // paragraph whose events are streamed now, null between two paragraphs
+  private String currentParagraphId;
+  private ScheduledFuture<?> timeoutFuture;
+
+  // events not written yet, in order
+  private final Queue<String> events = new ArrayDeque<>();
+  private boolean writing = false;
+  private boolean ended = false;
+
+  public ParagraphEventStream(Notebook notebook, NotebookService notebookService,
+                              NotebookServer notebookServer, ServiceContext context,
+                              ExecutorService executor, ScheduledExecutorService timer,
+                              long timeout, String noteId, List<ParagraphRun> paragraphs) {
+    this(notebook, notebookService, notebookServer, context, executor, timer, timeout, noteId,
+        paragraphs, new ChunkedOutput<>(String.class));
+  }
+
+  ParagraphEventStream(Notebook notebook, NotebookService notebookService,
+                       NotebookServer notebookServer, ServiceContext context,
+                       ExecutorService executor, ScheduledExecutorService timer, long timeout,
+                       String noteId, List<ParagraphRun> paragraphs,
+                       ChunkedOutput<String> output) {
+    this.notebook = notebook;
+    this.notebookService = notebookService;
+    this.notebookServer = notebookServer;
+    this.context = context;
+    this.executor = executor;
+    this.timer = timer;
+    this.timeout = timeout;
+    this.noteId = noteId;
+    this.pending = new LinkedList<>(paragraphs);
+    this.output = output;
+  }
+
+  /**
+   * Run the first paragraph.
+   *
+   * @return output to return from the resource method
+   */
+  public synchronized ChunkedOutput<String> start() {
+    notebookServer.addParagraphEventListener(this);
+    timeoutFuture = timer.schedule(this::timeout, timeout, TimeUnit.MILLISECONDS);
+    executor.execute(this::runNext);
+    return output;
+  }
+
+  private synchronized void timeout() {
+    LOG.warn("Stop streaming events of note {} after {} ms", noteId, timeout);
+    currentParagraphId = null;
+    pending.clear();
+    Map<String, Object> data = new HashMap<>();
+    data.put("timeout", true);
+    end(data);
+  }
+
+  private synchronized void runNext() {
+    ParagraphRun run = pending.poll();
+    if (run == null) {
+      end(new HashMap<>());
+      return;
+    }
+    currentParagraphId = run.getId();
+    String failure = null;
+    try {
+      Note note = notebook.getNote(noteId);
+      Paragraph p = note == null ? null : note.getParagraph(run.getId());
+      if (p == null) {
+        failure = "paragraph " + run.getId() + " not found";
+      } else if (!p.isEnabled()) {
+        skip(p);
+      } else {
+        FailureCallback callback = new FailureCallback();
+        boolean submitted = notebookService.runParagraph(noteId, p.getId(), p.getTitle(),
+            p.getText(), run.getParams(), new HashMap<>(), false, false, context, callback);
+        if (callback.failure != null) {
+          failure = callback.failure;
+        } else if (!submitted || p.getStatus().isCompleted()) {
+          // failed or finished (e.g. blank paragraph) before it was submitted
+          finish(p.getId(), p.getStatus(), p.getReturn());
+        }
+      }
+    } catch (Exception e) {
+      LOG.warn("Fail to run paragraph " + run.getId(), e);
+      failure = e.getMessage();
+    }
+    if (failure != null) {
+      finish(run.getId(), Job.Status.ERROR,
+          new InterpreterResult(InterpreterResult.Code.ERROR, failure));
+    }
+  }
+
+  private synchronized void skip(Paragraph p) {
+    currentParagraphId = null;
+    Map<String, Object> data = data(p.getId());
+    data.put("status", p.getStatus());
+    data.put("skipped", true);
+    send("result", data);
+    executor.execute(this::runNext);
+  }
+
+  private synchronized void finish(String paragraphId, Job.Status status,
+                                   InterpreterResult result) {
+    if (!paragraphId.equals(currentParagraphId)) {
+      return;
+    }
+    currentParagraphId = null;
+    Map<String, Object> data = data(paragraphId);
+    data.put("status", status);
+    data.put("result", result);
+    send("result", data);
+    if (status == Job.Status.FINISHED) {
+      executor.execute(this::runNext);
+    } else {
+      end(new HashMap<>());
+    }
+  }
+
+  private void end(Map<String, Object> data) {
+    stopListening();
+    synchronized (events) {
+      if (ended) {
+        return;
+      }
+      ended = true;
+      events.add(format("end", data));
+      if (writing) {
+        return;
+      }
+      writing = true;
+    }
+    executor.execute(this::writeEvents);
+  }
+
+  private synchronized boolean isCurrent(String noteId, String paragraphId) {
+    return this.noteId.equals(noteId) && paragraphId.equals(currentParagraphId);
+  }
+
+  @Override
+  public void onStatusChange(Paragraph p, Job.Status before, Job.Status after) {
+    if (!isCurrent(p.getNote().getId(), p.getId())) {
+      return;
+    }
+    Map<String, Object> data = data(p.getId());
+    data.put("status", after);
+    send("status", data);
+    if (after.isCompleted()) {
+      finish(p.getId(), after, p.getReturn());
+    }
+  }
+
+  @Override
+  public void onProgress(String noteId, String paragraphId, int progress) {
+    if (!isCurrent(noteId, paragraphId)) {
+      return;
+    }
+    Map<String, Object> data = data(paragraphId);
+    data.put("progress", progress);
+    send("progress", data);
+  }
+
+  @Override
+  public void onOutputAppend(String noteId, String paragraphId, int index, String output) {
+    if (!isCurrent(noteId, paragraphId)) {
+      return;
+    }
+    Map<String, Object> data = data(paragraphId);
+    data.put("index", index);
+    data.put("data", output);
+    send("append", data);
+  }
+
+  @Override
+  public void onOutputUpdated(String noteId, String paragraphId, int index,
+                              InterpreterResult.Type type, String output) {
+    if (!isCurrent(noteId, paragraphId)) {
+      return;
+    }
+    Map<String, Object> data = data(paragraphId);
+    data.put("index", index);
+    data.put("type", type);
+    data.put("data", output);
+    send("update", data);
+  }
+
+  private Map<String, Object> data(String paragraphId) {
+    Map<String, Object> data = new HashMap<>();
+    data.put("noteId", noteId);
+    data.put("paragraphId", paragraphId);
+    return data;
+  }
+
+  private static String format(String event, Map<String, Object> data) {
+    // json has no line breaks, so it fits in one data line
+    return "event: " + event + "\ndata: " + gson.toJson(data) + "\n\n";
+  }
+
+  /**
+   * Queue the event, it is written by the executor so that a slow client doesn't hold up the
+   * thread which delivers the event.
+   */
+  private void send(String event, Map<String, Object> data) {
+    synchronized (events) {
+      if (ended) {
+        return;
+      }
+      events.add(format(event, data));
+      if (writing) {
+        return;
+      }
+      writing = true;
+    }
+    executor.execute(this::writeEvents);
+  }
+
+  private void writeEvents() {
+    while (true) {
+      String event;
+      synchronized (events) {
+        event = events.poll();
+        if (event == null) {
+          writing = false;
+          if (ended) {
+            closeOutput();
+          }
+          return;
+        }
+      }
+      try {
+        output.write(event);
+      } catch (IOException e) {
+        // the client is gone, the paragraphs which are submitted keep running
+        LOG.info("Stop streaming events of note {}: {}", noteId, e.getMessage());
+        stopListening();
+        synchronized (events) {
+          ended = true;
+          events.clear();
+        }
+      }
+    }
+  }
+
+  private synchronized void stopListening() {
+    notebookServer.removeParagraphEventListener(this);
+    if (timeoutFuture != null) {
+      timeoutFuture.cancel(false);
+    }
+  }
+
+  private void closeOutput() {
+    try {
+      output.close();
+    } catch (IOException e) {
+      LOG.debug("Fail to close event stream of note " + noteId, e);
+    }
+  }
+
+  /**
+   * Keeps the failure of running a paragraph, to send it as result instead of failing the
+   * request.
+   */
+  private static class FailureCallback extends SimpleServiceCallback<Paragraph> {
+    private String failure;
+
+    @Override
+    public void onFailure(Exception ex, ServiceContext context) throws IOException {
+      super.onFailure(ex, context);
+      failure = ex.getMessage();
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.rest.message;
+
+import com.google.gson.Gson;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.zeppelin.common.JsonSerializable;
+
+/**
+ * RunParagraphsRequest rest api request message.
+ */
+public class RunParagraphsRequest implements JsonSerializable {
+  private static final Gson gson = new Gson();
+
+  List<ParagraphRun> paragraphs;
+
+  public RunParagraphsRequest() {
+  }
+
+  public List<ParagraphRun> getParagraphs() {
+    return paragraphs;
+  }
+
+  public String toJson() {
+    return gson.toJson(this);
+  }
+
+  public static RunParagraphsRequest fromJson(String json) {
+    return gson.fromJson(json, RunParagraphsRequest.class);
+  }
+
+  /**
+   * Paragraph to run, with the params of its dynamic forms.
+   */
+  public static class ParagraphRun {
+    String id;
+    Map<String, Object> params;
+
+    public ParagraphRun() {
+    }
+
+    public ParagraphRun(String id, Map<String, Object> params) {
+      this.id = id;
+      this.params = params;
+    }
+
+    public String getId() {
+      return id;
+    }
+
+    public Map<String, Object> getParams() {
+      return params == null ? new HashMap<>() : params;
+    }
+  }
+}
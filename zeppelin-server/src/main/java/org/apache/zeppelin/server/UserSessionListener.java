@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.server;
+
+import org.apache.shiro.session.Session;
+import org.apache.shiro.session.SessionListenerAdapter;
+import org.apache.shiro.subject.PrincipalCollection;
+import org.apache.shiro.subject.support.DefaultSubjectContext;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.http.HttpSessionEvent;
+import javax.servlet.http.HttpSessionListener;
+import java.security.Principal;
+import java.util.function.Consumer;
+
+/**
+ * Tells when the session of a user ends, by logout or expiry, so that the state kept for the
+ * user can be dropped. It listens to shiro native sessions as well as servlet container
+ * sessions, depending on the session manager configured in shiro.ini.
+ */
+public class UserSessionListener extends SessionListenerAdapter
+    implements HttpSessionListener {
+  private static final Logger LOG = LoggerFactory.getLogger(UserSessionListener.class);
+
+  private final ZeppelinConfiguration conf;
+  private final Consumer<String> onSessionEnded;
+
+  /**
+   * @param conf
+   * @param onSessionEnded called with the principal of the ended session
+   */
+  public UserSessionListener(ZeppelinConfiguration conf, Consumer<String> onSessionEnded) {
+    this.conf = conf;
+    this.onSessionEnded = onSessionEnded;
+  }
+
+  @Override
+  public void onStop(Session session) {
+    sessionEnded(session.getAttribute(DefaultSubjectContext.PRINCIPALS_SESSION_KEY));
+  }
+
+  @Override
+  public void onExpiration(Session session) {
+    sessionEnded(session.getAttribute(DefaultSubjectContext.PRINCIPALS_SESSION_KEY));
+  }
+
+  @Override
+  public void sessionCreated(HttpSessionEvent event) {
+  }
+
+  @Override
+  public void sessionDestroyed(HttpSessionEvent event) {
+    sessionEnded(event.getSession().getAttribute(DefaultSubjectContext.PRINCIPALS_SESSION_KEY));
+  }
+
+  private void sessionEnded(Object principals) {
+    String user = getUser(principals);
+    if (user == null) {
+      return;
+    }
+    LOG.debug("Session of user {} ended", user);
+    try {
+      onSessionEnded.accept(user);
+    } catch (RuntimeException e) {
+      LOG.warn("Fail to handle end of session of user " + user, e);
+    }
+  }
+
+  /**
+   * @return name of the user as ShiroAuthenticationService tells it, null when the session
+   *         doesn't belong to an authenticated user
+   */
+  private String getUser(Object principals) {
+    if (!(principals instanceof PrincipalCollection)
+        || ((PrincipalCollection) principals).isEmpty()) {
+      return null;
+    }
+    Object principal = ((PrincipalCollection) principals).getPrimaryPrincipal();
+    String user = principal instanceof Principal ?
+        ((Principal) principal).getName() : String.valueOf(principal);
+    return conf.isUsernameForceLowerCase() ? user.toLowerCase() : user;
+  }
+}
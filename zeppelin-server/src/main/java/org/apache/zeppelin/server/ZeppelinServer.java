@@ -19,6 +19,7 @@ package org.apache.zeppelin.server;
 import java.io.File;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.EnumSet;
 import java.util.Objects;
@@ -30,8 +31,14 @@ import javax.servlet.DispatcherType;
 import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
 import org.apache.commons.lang.StringUtils;
+import org.apache.shiro.mgt.SessionsSecurityManager;
+import org.apache.shiro.session.SessionListener;
+import org.apache.shiro.session.mgt.AbstractNativeSessionManager;
+import org.apache.shiro.session.mgt.SessionManager;
 import org.apache.shiro.web.env.EnvironmentLoaderListener;
+import org.apache.shiro.web.env.WebEnvironment;
 import org.apache.shiro.web.servlet.ShiroFilter;
+import org.apache.shiro.web.util.WebUtils;
 import org.apache.zeppelin.cluster.ClusterManagerServer;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
@@ -413,16 +420,56 @@ public class ZeppelinServer extends ResourceConfig {
     servletHolder.setInitParameter("javax.ws.rs.Application", ZeppelinServer.class.getName());
     servletHolder.setName("rest");
     servletHolder.setForcedPath("rest");
-    webapp.setSessionHandler(new SessionHandler());
+    // streaming responses release the request thread while a paragraph runs
+    servletHolder.setAsyncSupported(true);
+    // personalized paragraphs of a user are kept until the session of the user ends
+    UserSessionListener sessionListener = new UserSessionListener(conf,
+        user -> sharedServiceLocator.getService(NotebookServer.class).onUserSessionEnded(user));
+    SessionHandler sessionHandler = new SessionHandler();
+    sessionHandler.addEventListener(sessionListener);
+    webapp.setSessionHandler(sessionHandler);
     webapp.addServlet(servletHolder, "/api/*");
 
     String shiroIniPath = conf.getShiroPath();
     if (!StringUtils.isBlank(shiroIniPath)) {
       webapp.setInitParameter("shiroConfigLocations", new File(shiroIniPath).toURI().toString());
-      webapp
-          .addFilter(ShiroFilter.class, "/api/*", EnumSet.allOf(DispatcherType.class))
-          .setInitParameter("staticSecurityManagerEnabled", "true");
+      FilterHolder shiroFilter =
+          webapp.addFilter(ShiroFilter.class, "/api/*", EnumSet.allOf(DispatcherType.class));
+      shiroFilter.setInitParameter("staticSecurityManagerEnabled", "true");
+      shiroFilter.setAsyncSupported(true);
       webapp.addEventListener(new EnvironmentLoaderListener());
+      webapp.addEventListener(new ServletContextListener() {
+        @Override
+        public void contextInitialized(ServletContextEvent event) {
+          addShiroSessionListener(event, sessionListener);
+        }
+
+        @Override
+        public void contextDestroyed(ServletContextEvent event) {}
+      });
+    }
+  }
+
+  /**
+   * Shiro native sessions, e.g. of DefaultWebSessionManager, are not servlet container sessions,
+   * listen to them in the session manager. Must be called after the shiro environment is loaded.
+   */
+  private static void addShiroSessionListener(ServletContextEvent event,
+                                              SessionListener sessionListener) {
+    WebEnvironment environment = WebUtils.getWebEnvironment(event.getServletContext());
+    if (environment == null
+        || !(environment.getSecurityManager() instanceof SessionsSecurityManager)) {
+      return;
+    }
+    SessionManager sessionManager =
+        ((SessionsSecurityManager) environment.getSecurityManager()).getSessionManager();
+    if (sessionManager instanceof AbstractNativeSessionManager) {
+      AbstractNativeSessionManager nativeSessionManager =
+          (AbstractNativeSessionManager) sessionManager;
+      List<SessionListener> listeners =
+          new ArrayList<>(nativeSessionManager.getSessionListeners());
+      listeners.add(sessionListener);
+      nativeSessionManager.setSessionListeners(listeners);
     }
   }
 
@@ -450,7 +497,9 @@ public class ZeppelinServer extends ResourceConfig {
     webApp.addServlet(new ServletHolder(new DefaultServlet()), "/*");
     contexts.addHandler(webApp);
 
-    webApp.addFilter(new FilterHolder(CorsFilter.class), "/*", EnumSet.allOf(DispatcherType.class));
+    FilterHolder corsFilter = new FilterHolder(CorsFilter.class);
+    corsFilter.setAsyncSupported(true);
+    webApp.addFilter(corsFilter, "/*", EnumSet.allOf(DispatcherType.class));
 
     webApp.setInitParameter(
         "org.eclipse.jetty.servlet.Default.dirAllowed",
@@ -29,6 +29,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import org.apache.commons.lang.StringUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
@@ -234,6 +235,7 @@ public class NotebookService {
         }
       }
       notebook.moveNote(noteId, newNotePath, context.getAutheInfo());
+      schedulerService.refreshCron(noteId);
       callback.onSuccess(note, context);
     } else {
       callback.onFailure(new NoteNotFoundException(noteId), context);
@@ -489,6 +491,7 @@ public class NotebookService {
     try {
       String destNotePath = note.getPath().replace("/" + NoteManager.TRASH_FOLDER, "");
       notebook.moveNote(noteId, destNotePath, context.getAutheInfo());
+      schedulerService.refreshCron(noteId);
       callback.onSuccess(note, context);
     } catch (IOException e) {
       callback.onFailure(new IOException("Fail to restore note: " + noteId, e), context);
@@ -508,6 +511,7 @@ public class NotebookService {
     try {
       String destFolderPath = folderPath.replace("/" + NoteManager.TRASH_FOLDER, "");
       notebook.moveFolder(folderPath, destFolderPath, context.getAutheInfo());
+      refreshCronOfFolder(destFolderPath);
       callback.onSuccess(null, context);
     } catch (IOException e) {
       callback.onFailure(new IOException("Fail to restore folder: " + folderPath, e), context);
@@ -520,7 +524,12 @@ public class NotebookService {
                          ServiceCallback callback) throws IOException {
 
     try {
+      List<String> trashNoteIds = notebook.getNotesInfo().stream()
+          .filter(noteInfo -> noteInfo.getPath().startsWith("/" + NoteManager.TRASH_FOLDER + "/"))
+          .map(NoteInfo::getId)
+          .collect(Collectors.toList());
       notebook.restoreAll(context.getAutheInfo());
+      schedulerService.refreshCron(trashNoteIds);
       callback.onSuccess(null, context);
     } catch (IOException e) {
       callback.onFailure(new IOException("Fail to restore all", e), context);
@@ -767,6 +776,7 @@ public class NotebookService {
     try {
       Note resultNote = notebook.setNoteRevision(noteId, note.getPath(), revisionId,
           context.getAutheInfo());
+      schedulerService.refreshCron(noteId);
       callback.onSuccess(resultNote, context);
       return resultNote;
     } catch (Exception e) {
@@ -908,6 +918,7 @@ public class NotebookService {
       destNotePath = destNotePath + " " + TRASH_CONFLICT_TIMESTAMP_FORMATTER.print(new DateTime());
     }
     notebook.moveNote(noteId, destNotePath, context.getAutheInfo());
+    schedulerService.refreshCron(noteId);
     callback.onSuccess(note, context);
   }
 
@@ -926,6 +937,7 @@ public class NotebookService {
     }
 
     notebook.moveFolder("/" + folderPath, destFolderPath, context.getAutheInfo());
+    refreshCronOfFolder(destFolderPath);
     callback.onSuccess(null, context);
   }
 
@@ -965,6 +977,7 @@ public class NotebookService {
     try {
       notebook.moveFolder(normalizeNotePath(folderPath),
               normalizeNotePath(newFolderPath), context.getAutheInfo());
+      refreshCronOfFolder(normalizeNotePath(newFolderPath));
       List<NoteInfo> notesInfo = notebook.getNotesInfo(
               noteId -> authorizationService.isReader(noteId, context.getUserAndRoles()));
       callback.onSuccess(notesInfo, context);
@@ -1030,6 +1043,16 @@ public class NotebookService {
 
   }
 
+  /**
+   * Cron of a note depends on its path (trash, cron folders), so refresh it after moving.
+   */
+  private void refreshCronOfFolder(String folderPath) {
+    schedulerService.refreshCron(notebook.getNotesInfo().stream()
+        .filter(noteInfo -> noteInfo.getPath().startsWith(folderPath + "/"))
+        .map(NoteInfo::getId)
+        .collect(Collectors.toList()));
+  }
+
   private void addNewParagraphIfLastParagraphIsExecuted(Note note, Paragraph p) {
     // if it's the last paragraph and not empty, let's add a new one
     boolean isTheLastParagraph = note.isLastParagraph(p.getId());
@@ -170,6 +170,20 @@ public class ConnectionManager {
     return associatedNoteId;
   }
 
+  public boolean isUserConnectedToNote(String noteId, String user) {
+    synchronized (noteSocketMap) {
+      List<NotebookSocket> sockets = noteSocketMap.get(noteId);
+      if (sockets != null) {
+        for (NotebookSocket socket : sockets) {
+          if (user.equals(socket.getUser())) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
   public void removeConnectionFromAllNote(NotebookSocket socket) {
     synchronized (noteSocketMap) {
       Set<String> noteIds = noteSocketMap.keySet();
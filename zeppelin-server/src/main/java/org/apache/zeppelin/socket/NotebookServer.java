@@ -33,6 +33,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
@@ -58,6 +59,7 @@ import org.apache.zeppelin.interpreter.InterpreterGroup;
 import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
+import org.apache.zeppelin.interpreter.InterpreterSettingManager;
 import org.apache.zeppelin.interpreter.remote.RemoteAngularObjectRegistry;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcessListener;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
@@ -142,6 +144,8 @@ public class NotebookServer extends WebSocketServlet
   private ConnectionManager connectionManager;
 
   private ExecutorService executorService = Executors.newFixedThreadPool(10);
+  private final List<ParagraphEventListener> paragraphEventListeners =
+      new CopyOnWriteArrayList<>();
 
   private Provider<Notebook> notebookProvider;
   private Provider<NotebookService> notebookServiceProvider;
@@ -155,6 +159,14 @@ public class NotebookServer extends WebSocketServlet
     LOG.info("NotebookServer instantiated: {}", this);
   }
 
+  public void addParagraphEventListener(ParagraphEventListener listener) {
+    paragraphEventListeners.add(listener);
+  }
+
+  public void removeParagraphEventListener(ParagraphEventListener listener) {
+    paragraphEventListeners.remove(listener);
+  }
+
   @Inject
   public void setServiceLocator(ServiceLocator serviceLocator) {
     LOG.info("Injected ServiceLocator: {}", serviceLocator);
@@ -464,6 +476,18 @@ public class NotebookServer extends WebSocketServlet
     connectionManager.removeUserConnection(conn.getUser(), conn);
   }
 
+  /**
+   * Drop the personalized paragraphs of a user whose session ended by expiry or logout. A
+   * closed connection doesn't end them, the user may reconnect. Notes which the user still
+   * watches, e.g. from another session, are skipped.
+   *
+   * @param user
+   */
+  public void onUserSessionEnded(String user) {
+    getNotebook().removeUserParagraphs(user,
+        note -> !connectionManager.isUserConnectedToNote(note.getId(), user));
+  }
+
   public ConnectionManager getConnectionManager() {
     return connectionManager;
   }
@@ -810,10 +834,65 @@ public class NotebookServer extends WebSocketServlet
             conn.send(serializeMessage(new Message(OP.NOTE).put("note", note)));
             updateAngularObjectRegistry(conn, note);
             sendAllAngularObjects(note, context.getAutheInfo().getUser(), conn);
+            sendRunningParagraphOutput(conn, note, context.getAutheInfo().getUser());
+            warmUpInterpreters(note, context);
           }
         });
   }
 
+  /**
+   * The note only has the output of running paragraphs up to the last checkpoint, send the
+   * output streamed since then.
+   */
+  private void sendRunningParagraphOutput(NotebookSocket conn, Note note, String user)
+      throws IOException {
+    for (Paragraph paragraph : note.getParagraphs()) {
+      List<InterpreterResultMessage> messages = getRunningOutput(note, paragraph, user);
+      if (messages == null) {
+        continue;
+      }
+      for (int i = 0; i < messages.size(); i++) {
+        conn.send(serializeMessage(new Message(OP.PARAGRAPH_UPDATE_OUTPUT)
+            .put("noteId", note.getId()).put("paragraphId", paragraph.getId()).put("index", i)
+            .put("type", messages.get(i).getType()).put("data", messages.get(i).getData())));
+      }
+    }
+  }
+
+  /**
+   * @return output of the paragraph if it is running and the user can see its output
+   */
+  private List<InterpreterResultMessage> getRunningOutput(Note note, Paragraph paragraph,
+                                                          String user) throws IOException {
+    if (paragraph == null) {
+      return null;
+    }
+    // in personalized mode the output is only sent to the user who runs the paragraph
+    if (note.isPersonalizedMode() && !StringUtils.equals(user, paragraph.getUser())) {
+      return null;
+    }
+    return paragraph.getRunningOutput();
+  }
+
+  /**
+   * Warm up the interpreters of the note, only for users who are allowed to run it, as the
+   * warm up starts interpreter processes on behalf of the user.
+   */
+  private void warmUpInterpreters(Note note, ServiceContext context) {
+    InterpreterSettingManager interpreterSettingManager =
+        getNotebook().getInterpreterSettingManager();
+    if (interpreterSettingManager == null
+        || interpreterSettingManager.getInterpreterWarmUpService() == null
+        || !interpreterSettingManager.getInterpreterWarmUpService().isEnabled()) {
+      return;
+    }
+    if (!getNotebookAuthorizationService().isRunner(note.getId(), context.getUserAndRoles())) {
+      return;
+    }
+    interpreterSettingManager.getInterpreterWarmUpService()
+        .warmUp(note, context.getAutheInfo().getUser());
+  }
+
   /**
    * Update the AngularObject object in the note to InterpreterGroup and AngularObjectRegistry.
    */
@@ -1638,7 +1717,19 @@ public class NotebookServer extends WebSocketServlet
   public void onOutputAppend(String noteId, String paragraphId, int index, String output) {
     Message msg = new Message(OP.PARAGRAPH_APPEND_OUTPUT).put("noteId", noteId)
         .put("paragraphId", paragraphId).put("index", index).put("data", output);
+    try {
+      Note note = getNotebook().getNote(noteId);
+      Paragraph paragraph = note == null ? null : note.getParagraph(paragraphId);
+      if (paragraph != null) {
+        paragraph.appendOutputBuffer(index, output);
+      }
+    } catch (IOException e) {
+      LOG.warn("Fail to record output of paragraph " + paragraphId, e);
+    }
     connectionManager.broadcast(noteId, msg);
+    for (ParagraphEventListener listener : paragraphEventListeners) {
+      listener.onOutputAppend(noteId, paragraphId, index, output);
+    }
   }
 
   /**
@@ -1667,6 +1758,9 @@ public class NotebookServer extends WebSocketServlet
       } else {
         connectionManager.broadcast(noteId, msg);
       }
+      for (ParagraphEventListener listener : paragraphEventListeners) {
+        listener.onOutputUpdated(noteId, paragraphId, index, type, output);
+      }
     } catch (IOException e) {
       LOG.warn("Fail to call onOutputUpdated", e);
     }
@@ -1872,6 +1966,9 @@ public class NotebookServer extends WebSocketServlet
   public void onProgressUpdate(Paragraph p, int progress) {
     connectionManager.broadcast(p.getNote().getId(),
         new Message(OP.PROGRESS).put("id", p.getId()).put("progress", progress));
+    for (ParagraphEventListener listener : paragraphEventListeners) {
+      listener.onProgress(p.getNote().getId(), p.getId(), progress);
+    }
   }
 
   @Override
@@ -1904,6 +2001,9 @@ public class NotebookServer extends WebSocketServlet
 
     p.setStatusToUserParagraph(p.getStatus());
     broadcastParagraph(p.getNote(), p);
+    for (ParagraphEventListener listener : paragraphEventListeners) {
+      listener.onStatusChange(p, before, after);
+    }
     try {
       broadcastUpdateNoteJobInfo(System.currentTimeMillis() - 5000);
     } catch (IOException e) {
@@ -1921,6 +2021,25 @@ public class NotebookServer extends WebSocketServlet
     }
   }
 
+  @Override
+  public void onParagraphProgressUpdate(String noteId, String paragraphId, int progress) {
+    try {
+      Note note = getNotebook().getNote(noteId);
+      if (note == null) {
+        return;
+      }
+      Paragraph paragraph = note.getParagraph(paragraphId);
+      if (paragraph != null) {
+        paragraph.setRemoteProgress(progress);
+        for (ParagraphEventListener listener : paragraphEventListeners) {
+          listener.onProgress(noteId, paragraphId, progress);
+        }
+      }
+    } catch (IOException e) {
+      LOG.warn("Fail to get note: " + noteId, e);
+    }
+  }
+
   @Override
   public void noteRunningStatusChange(String noteId, boolean newStatus) {
     connectionManager.broadcast(
@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.socket;
+
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.scheduler.Job;
+
+/**
+ * Listener of the paragraph events NotebookServer receives, e.g. to stream them to REST clients.
+ */
+public interface ParagraphEventListener {
+  void onStatusChange(Paragraph p, Job.Status before, Job.Status after);
+
+  void onProgress(String noteId, String paragraphId, int progress);
+
+  void onOutputAppend(String noteId, String paragraphId, int index, String output);
+
+  void onOutputUpdated(String noteId, String paragraphId, int index,
+                       InterpreterResult.Type type, String output);
+}
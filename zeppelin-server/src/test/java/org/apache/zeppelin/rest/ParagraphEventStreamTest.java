@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.rest;
+
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Notebook;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.rest.message.RunParagraphsRequest.ParagraphRun;
+import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.service.NotebookService;
+import org.apache.zeppelin.service.ServiceContext;
+import org.apache.zeppelin.service.ServiceCallback;
+import org.apache.zeppelin.socket.NotebookServer;
+import org.glassfish.jersey.server.ChunkedOutput;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyMap;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ParagraphEventStreamTest {
+
+  private ExecutorService executor;
+  private ScheduledExecutorService timer;
+  private NotebookService notebookService;
+  private NotebookServer notebookServer;
+  private Note note;
+  private Paragraph p1;
+  private Paragraph p2;
+  private EventOutput output;
+
+  @Before
+  public void setUp() throws IOException {
+    executor = Executors.newCachedThreadPool();
+    timer = Executors.newSingleThreadScheduledExecutor();
+    notebookService = mock(NotebookService.class);
+    notebookServer = mock(NotebookServer.class);
+    note = mock(Note.class);
+    when(note.getId()).thenReturn("note1");
+    p1 = mockParagraph("p1");
+    p2 = mockParagraph("p2");
+    when(notebookService.runParagraph(anyString(), anyString(), anyString(), anyString(),
+        anyMap(), anyMap(), anyBoolean(), anyBoolean(), any(ServiceContext.class),
+        any(ServiceCallback.class))).thenReturn(true);
+    output = new EventOutput();
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+    timer.shutdownNow();
+  }
+
+  private Paragraph mockParagraph(String id) {
+    Paragraph p = mock(Paragraph.class);
+    when(p.getId()).thenReturn(id);
+    when(p.getNote()).thenReturn(note);
+    when(p.getTitle()).thenReturn("");
+    when(p.getText()).thenReturn("%sh echo " + id);
+    when(p.getStatus()).thenReturn(Job.Status.PENDING);
+    when(p.isEnabled()).thenReturn(true);
+    when(note.getParagraph(id)).thenReturn(p);
+    return p;
+  }
+
+  private ParagraphEventStream createStream(String... paragraphIds) throws IOException {
+    return createStream(60000, paragraphIds);
+  }
+
+  private ParagraphEventStream createStream(long timeout, String... paragraphIds)
+      throws IOException {
+    Notebook notebook = mock(Notebook.class);
+    when(notebook.getNote("note1")).thenReturn(note);
+    List<ParagraphRun> runs = new ArrayList<>();
+    for (String id : paragraphIds) {
+      runs.add(new ParagraphRun(id, new HashMap<>()));
+    }
+    return new ParagraphEventStream(notebook, notebookService, notebookServer,
+        mock(ServiceContext.class), executor, timer, timeout, "note1", runs, output);
+  }
+
+  private void verifyRun(String paragraphId) throws IOException {
+    verify(notebookService, timeout(5000)).runParagraph(eq("note1"), eq(paragraphId),
+        anyString(), anyString(), anyMap(), anyMap(), eq(false), eq(false),
+        any(ServiceContext.class), any(ServiceCallback.class));
+  }
+
+  @Test
+  public void testRunParagraphs() throws IOException, InterruptedException {
+    ParagraphEventStream stream = createStream("p1", "p2");
+    assertTrue(output == stream.start());
+    verify(notebookServer).addParagraphEventListener(stream);
+
+    verifyRun("p1");
+    stream.onStatusChange(p1, Job.Status.PENDING, Job.Status.RUNNING);
+    stream.onOutputAppend("note1", "p1", 0, "line1\n");
+    // events of other paragraphs are not streamed
+    stream.onOutputAppend("note1", "p2", 0, "other\n");
+    stream.onOutputAppend("note2", "p1", 0, "other\n");
+    stream.onProgress("note1", "p1", 50);
+    when(p1.getReturn()).thenReturn(
+        new InterpreterResult(InterpreterResult.Code.SUCCESS, "line1\n"));
+    stream.onStatusChange(p1, Job.Status.RUNNING, Job.Status.FINISHED);
+
+    // the next paragraph runs after the first one is finished
+    verifyRun("p2");
+    stream.onStatusChange(p2, Job.Status.PENDING, Job.Status.RUNNING);
+    stream.onOutputUpdated("note1", "p2", 0, InterpreterResult.Type.HTML, "<p>2</p>");
+    when(p2.getReturn()).thenReturn(
+        new InterpreterResult(InterpreterResult.Code.SUCCESS, "<p>2</p>"));
+    stream.onStatusChange(p2, Job.Status.RUNNING, Job.Status.FINISHED);
+
+    output.waitForClose();
+    verify(notebookServer).removeParagraphEventListener(stream);
+    assertEquals(Arrays.asList("status", "append", "progress", "status", "result",
+        "status", "update", "status", "result", "end"), output.getEventNames());
+    assertTrue(output.events.get(1).contains("\"data\":\"line1\\n\""));
+    assertTrue(output.events.get(4).contains("\"paragraphId\":\"p1\""));
+    assertTrue(output.events.get(4).contains("\"status\":\"FINISHED\""));
+  }
+
+  @Test
+  public void testStopAtError() throws IOException, InterruptedException {
+    ParagraphEventStream stream = createStream("p1", "p2");
+    stream.start();
+
+    verifyRun("p1");
+    when(p1.getReturn()).thenReturn(
+        new InterpreterResult(InterpreterResult.Code.ERROR, "failed"));
+    stream.onStatusChange(p1, Job.Status.RUNNING, Job.Status.ERROR);
+
+    output.waitForClose();
+    assertEquals(Arrays.asList("status", "result", "end"), output.getEventNames());
+    assertTrue(output.events.get(1).contains("\"status\":\"ERROR\""));
+    verify(notebookService, timeout(5000).times(0)).runParagraph(anyString(), eq("p2"),
+        anyString(), anyString(), anyMap(), anyMap(), anyBoolean(), anyBoolean(),
+        any(ServiceContext.class), any(ServiceCallback.class));
+  }
+
+  @Test
+  public void testParagraphNotFound() throws IOException, InterruptedException {
+    ParagraphEventStream stream = createStream("p3");
+    stream.start();
+
+    output.waitForClose();
+    assertEquals(Arrays.asList("result", "end"), output.getEventNames());
+    assertTrue(output.events.get(0).contains("paragraph p3 not found"));
+  }
+
+  @Test
+  public void testSkipDisabledParagraph() throws IOException, InterruptedException {
+    when(p1.isEnabled()).thenReturn(false);
+    when(p1.getStatus()).thenReturn(Job.Status.READY);
+    ParagraphEventStream stream = createStream("p1", "p2");
+    stream.start();
+
+    verifyRun("p2");
+    when(p2.getReturn()).thenReturn(
+        new InterpreterResult(InterpreterResult.Code.SUCCESS, "p2"));
+    stream.onStatusChange(p2, Job.Status.RUNNING, Job.Status.FINISHED);
+
+    output.waitForClose();
+    assertEquals(Arrays.asList("result", "status", "result", "end"), output.getEventNames());
+    assertTrue(output.events.get(0).contains("\"paragraphId\":\"p1\""));
+    assertTrue(output.events.get(0).contains("\"skipped\":true"));
+    verify(notebookService, times(0)).runParagraph(anyString(), eq("p1"),
+        anyString(), anyString(), anyMap(), anyMap(), anyBoolean(), anyBoolean(),
+        any(ServiceContext.class), any(ServiceCallback.class));
+  }
+
+  @Test
+  public void testTimeout() throws IOException, InterruptedException {
+    ParagraphEventStream stream = createStream(500, "p1", "p2");
+    stream.start();
+
+    verifyRun("p1");
+    // p1 never finishes
+    output.waitForClose();
+    verify(notebookServer).removeParagraphEventListener(stream);
+    assertEquals(Arrays.asList("end"), output.getEventNames());
+    assertTrue(output.events.get(0).contains("\"timeout\":true"));
+
+    // events after the timeout are dropped
+    stream.onStatusChange(p1, Job.Status.RUNNING, Job.Status.FINISHED);
+    assertEquals(1, output.events.size());
+  }
+
+  /**
+   * Keeps the written events instead of sending them to a client.
+   */
+  private static class EventOutput extends ChunkedOutput<String> {
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+    private boolean closed = false;
+
+    EventOutput() {
+      super(String.class);
+    }
+
+    @Override
+    public void write(String chunk) {
+      events.add(chunk);
+    }
+
+    @Override
+    public synchronized void close() {
+      closed = true;
+      notifyAll();
+    }
+
+    synchronized void waitForClose() throws InterruptedException {
+      long start = System.currentTimeMillis();
+      while (!closed && System.currentTimeMillis() - start < 5000) {
+        wait(100);
+      }
+      assertTrue("stream should be closed", closed);
+    }
+
+    List<String> getEventNames() {
+      List<String> names = new ArrayList<>();
+      for (String event : events) {
+        assertTrue(event.endsWith("\n\n"));
+        names.add(event.substring("event: ".length(), event.indexOf('\n')));
+      }
+      return names;
+    }
+  }
+}
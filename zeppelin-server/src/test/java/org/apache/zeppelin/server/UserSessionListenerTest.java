@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.zeppelin.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.shiro.session.mgt.SimpleSession;
+import org.apache.shiro.subject.SimplePrincipalCollection;
+import org.apache.shiro.subject.support.DefaultSubjectContext;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpSessionEvent;
+
+public class UserSessionListenerTest {
+
+  @Test
+  public void testSessionEnded() {
+    List<String> users = new ArrayList<>();
+    UserSessionListener listener =
+        new UserSessionListener(ZeppelinConfiguration.create(), users::add);
+
+    // shiro native sessions
+    SimpleSession session = new SimpleSession();
+    session.setAttribute(DefaultSubjectContext.PRINCIPALS_SESSION_KEY,
+        new SimplePrincipalCollection("user1", "realm"));
+    listener.onStop(session);
+    listener.onExpiration(session);
+    // not logged in
+    listener.onExpiration(new SimpleSession());
+
+    // servlet container sessions
+    HttpSession httpSession = mock(HttpSession.class);
+    when(httpSession.getAttribute(DefaultSubjectContext.PRINCIPALS_SESSION_KEY))
+        .thenReturn(new SimplePrincipalCollection("user2", "realm"));
+    listener.sessionDestroyed(new HttpSessionEvent(httpSession));
+    listener.sessionDestroyed(new HttpSessionEvent(mock(HttpSession.class)));
+
+    assertEquals(Arrays.asList("user1", "user1", "user2"), users);
+  }
+}
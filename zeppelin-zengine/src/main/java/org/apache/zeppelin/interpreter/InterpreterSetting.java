@@ -524,8 +524,20 @@ public class InterpreterSetting {
     }
   }
 
+  /**
+   * Drop the cached paragraph results of this interpreter setting, they depend on the state of
+   * interpreters which are closed.
+   */
+  void invalidateParagraphResults() {
+    if (interpreterSettingManager != null
+        && interpreterSettingManager.getParagraphResultCache() != null) {
+      interpreterSettingManager.getParagraphResultCache().invalidateInterpreterSetting(id);
+    }
+  }
+
   public void close() {
     LOGGER.info("Close InterpreterSetting: " + name);
+    invalidateParagraphResults();
     List<Thread> closeThreads = interpreterGroups.values().stream()
             .map(g -> new Thread(g::close, name + "-close"))
             .peek(t -> t.setUncaughtExceptionHandler((th, e) ->
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import org.apache.commons.io.IOUtils;
+import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Finds interpreter-setting.json of every interpreter under the interpreter directory.
+ *
+ * The json is read from {interpreter_dir}/interpreter-setting.json, or else from the first jar
+ * under {interpreter_dir} which contains it, without creating a class loader. Interpreter
+ * directories are scanned in parallel, and the result is saved in an index file together with the
+ * fingerprint (number, size and modification time of the files) of each interpreter directory,
+ * so a restart only reads the json again for interpreters which are changed.
+ */
+public class InterpreterSettingDiscovery {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(InterpreterSettingDiscovery.class);
+
+  private final String interpreterJson;
+  // null to disable the index
+  private final Path indexPath;
+  private final Gson gson = new Gson();
+
+  /**
+   * @param interpreterJson name of the json file, interpreter-setting.json by default
+   * @param indexPath file of the index, null to disable it
+   */
+  public InterpreterSettingDiscovery(String interpreterJson, Path indexPath) {
+    this.interpreterJson = interpreterJson;
+    this.indexPath = indexPath;
+  }
+
+  /**
+   * @param interpreterDirPath
+   * @return interpreter directory -> content of its interpreter-setting.json, or null if it
+   *         doesn't have one. Sorted by interpreter directory.
+   * @throws IOException
+   */
+  public Map<String, String> discover(Path interpreterDirPath) throws IOException {
+    List<Path> interpreterDirs = new ArrayList<>();
+    try (DirectoryStream<Path> stream =
+             Files.newDirectoryStream(interpreterDirPath, Files::isDirectory)) {
+      for (Path interpreterDir : stream) {
+        interpreterDirs.add(interpreterDir);
+      }
+    }
+
+    Index index = loadIndex();
+    Index newIndex = new Index();
+    newIndex.interpreterJson = interpreterJson;
+    Map<String, Future<IndexEntry>> futures = new TreeMap<>();
+    ExecutorService executor = Executors.newFixedThreadPool(
+        Math.max(1, Math.min(interpreterDirs.size(), Runtime.getRuntime().availableProcessors())),
+        new SchedulerThreadFactory("InterpreterSettingDiscovery-"));
+    try {
+      for (Path interpreterDir : interpreterDirs) {
+        String dir = interpreterDir.toString();
+        IndexEntry cached = index.entries.get(dir);
+        futures.put(dir, executor.submit(() -> {
+          String fingerprint = fingerprint(interpreterDir.toFile());
+          if (cached != null && fingerprint.equals(cached.fingerprint)) {
+            return cached;
+          }
+          IndexEntry entry = new IndexEntry();
+          entry.fingerprint = fingerprint;
+          entry.json = readInterpreterJson(interpreterDir.toFile());
+          return entry;
+        }));
+      }
+
+      Map<String, String> result = new TreeMap<>();
+      for (Map.Entry<String, Future<IndexEntry>> future : futures.entrySet()) {
+        try {
+          IndexEntry entry = future.getValue().get();
+          newIndex.entries.put(future.getKey(), entry);
+          result.put(future.getKey(), entry.json);
+        } catch (ExecutionException e) {
+          throw new IOException("Fail to read " + interpreterJson + " in " + future.getKey(),
+              e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("Interrupted while discovering interpreters", e);
+        }
+      }
+      if (!newIndex.entries.equals(index.entries)) {
+        saveIndex(newIndex);
+      }
+      return result;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Read interpreter-setting.json from the interpreter directory, or else from the jars in it, in
+   * the same order as the class loader of the interpreter would find it.
+   *
+   * @param interpreterDir
+   * @return null if it is not found
+   * @throws IOException
+   */
+  String readInterpreterJson(File interpreterDir) throws IOException {
+    File jsonFile = new File(interpreterDir, interpreterJson);
+    if (jsonFile.exists()) {
+      LOGGER.debug("Reading {} from file {}", interpreterJson, jsonFile);
+      return new String(Files.readAllBytes(jsonFile.toPath()), StandardCharsets.UTF_8);
+    }
+    for (File file : listFiles(interpreterDir)) {
+      try (ZipFile zipFile = new ZipFile(file)) {
+        ZipEntry entry = zipFile.getEntry(interpreterJson);
+        if (entry != null) {
+          LOGGER.debug("Reading {} from jar {}", interpreterJson, file);
+          try (InputStream in = zipFile.getInputStream(entry)) {
+            return IOUtils.toString(in, StandardCharsets.UTF_8);
+          }
+        }
+      } catch (IOException e) {
+        // not a jar
+        LOGGER.trace("Skip {}", file, e);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @param path
+   * @return all files under path, skipping hidden ones
+   */
+  private static List<File> listFiles(File path) {
+    List<File> result = new ArrayList<>();
+    if (path.getName().startsWith(".")) {
+      return result;
+    }
+    if (path.isDirectory()) {
+      File[] files = path.listFiles();
+      if (files != null) {
+        Arrays.sort(files);
+        for (File file : files) {
+          result.addAll(listFiles(file));
+        }
+      }
+    } else if (path.isFile()) {
+      result.add(path);
+    }
+    return result;
+  }
+
+  static String fingerprint(File interpreterDir) {
+    long count = 0;
+    long size = 0;
+    long lastModified = interpreterDir.lastModified();
+    for (File file : listFiles(interpreterDir)) {
+      count++;
+      size += file.length();
+      lastModified = Math.max(lastModified, file.lastModified());
+    }
+    return count + ":" + size + ":" + lastModified;
+  }
+
+  private Index loadIndex() {
+    if (indexPath == null || !Files.exists(indexPath)) {
+      return new Index();
+    }
+    try {
+      Index index = gson.fromJson(
+          new String(Files.readAllBytes(indexPath), StandardCharsets.UTF_8), Index.class);
+      if (index != null && index.entries != null && interpreterJson.equals(index.interpreterJson)) {
+        return index;
+      }
+    } catch (IOException | JsonSyntaxException e) {
+      LOGGER.warn("Fail to read interpreter discovery index {}, ignore it", indexPath, e);
+    }
+    return new Index();
+  }
+
+  private void saveIndex(Index index) {
+    if (indexPath == null) {
+      return;
+    }
+    try {
+      Path tmpPath = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+      Files.write(tmpPath, gson.toJson(index).getBytes(StandardCharsets.UTF_8));
+      Files.move(tmpPath, indexPath, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOGGER.warn("Fail to save interpreter discovery index {}", indexPath, e);
+    }
+  }
+
+  private static class Index {
+    private String interpreterJson;
+    private Map<String, IndexEntry> entries = new HashMap<>();
+  }
+
+  private static class IndexEntry {
+    private String fingerprint;
+    private String json;
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof IndexEntry)) {
+        return false;
+      }
+      IndexEntry that = (IndexEntry) o;
+      return fingerprint.equals(that.fingerprint)
+          && (json == null ? that.json == null : json.equals(that.json));
+    }
+
+    @Override
+    public int hashCode() {
+      return fingerprint.hashCode();
+    }
+  }
+}
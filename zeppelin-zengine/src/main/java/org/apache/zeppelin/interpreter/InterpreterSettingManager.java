@@ -31,7 +31,6 @@ import java.util.Set;
 import javax.inject.Inject;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.hadoop.yarn.webapp.hamlet.Hamlet;
 import org.apache.zeppelin.cluster.ClusterManagerServer;
@@ -56,6 +55,7 @@ import org.apache.zeppelin.notebook.Note;
 import org.apache.zeppelin.notebook.NoteEventListener;
 import org.apache.zeppelin.notebook.Notebook;
 import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.notebook.ParagraphResultCache;
 import org.apache.zeppelin.notebook.ParagraphTextParser;
 import org.apache.zeppelin.resource.Resource;
 import org.apache.zeppelin.resource.ResourcePool;
@@ -73,15 +73,8 @@ import org.sonatype.aether.repository.RemoteRepository;
 import org.sonatype.aether.repository.Authentication;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.lang.reflect.Type;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
-import java.nio.file.DirectoryStream.Filter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -140,6 +133,8 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
   private RecoveryStorage recoveryStorage;
   private ConfigStorage configStorage;
   private RemoteInterpreterEventServer interpreterEventServer;
+  private ParagraphResultCache paragraphResultCache;
+  private InterpreterWarmUpService interpreterWarmUpService;
   private Map<String, String> jupyterKernelLanguageMap = new HashMap<>();
 
   @Inject
@@ -191,6 +186,9 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
     LOGGER.info("Using LifecycleManager: " + this.lifecycleManager.getClass().getName());
 
     this.configStorage = configStorage;
+    this.paragraphResultCache = new ParagraphResultCache(conf.getParagraphResultCacheTtl(),
+        conf.getParagraphResultCacheMaxSize());
+    this.interpreterWarmUpService = new InterpreterWarmUpService(conf);
     this.interpreterEventServer = new RemoteInterpreterEventServer(conf, this);
     this.interpreterEventServer.start();
     init();
@@ -337,30 +335,25 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
   private void loadInterpreterSettingFromDefaultDir(boolean override) throws IOException {
     // 1. detect interpreter setting via interpreter-setting.json in each interpreter folder
     // 2. detect interpreter setting in interpreter.json that is saved before
-    String interpreterJson = conf.getInterpreterJson();
-    ClassLoader cl = Thread.currentThread().getContextClassLoader();
     if (Files.exists(interpreterDirPath)) {
-      for (Path interpreterDir : Files
-          .newDirectoryStream(interpreterDirPath, new Filter<Path>() {
-            @Override
-            public boolean accept(Path entry) throws IOException {
-              return Files.exists(entry) && Files.isDirectory(entry);
-            }
-          })) {
-        String interpreterDirString = interpreterDir.toString();
-        /**
-         * Register interpreter by the following ordering
-         * 1. Register it from path {ZEPPELIN_HOME}/interpreter/{interpreter_name}/
-         *    interpreter-setting.json
-         * 2. Register it from interpreter-setting.json in classpath
-         *    {ZEPPELIN_HOME}/interpreter/{interpreter_name}
-         */
-        if (!registerInterpreterFromPath(interpreterDirString, interpreterJson, override)) {
-          if (!registerInterpreterFromResource(cl, interpreterDirString, interpreterJson,
-              override)) {
-            LOGGER.warn("No interpreter-setting.json found in " + interpreterDirString);
-          }
+      /**
+       * Register interpreter by the following ordering
+       * 1. Register it from path {ZEPPELIN_HOME}/interpreter/{interpreter_name}/
+       *    interpreter-setting.json
+       * 2. Register it from interpreter-setting.json in the jars under
+       *    {ZEPPELIN_HOME}/interpreter/{interpreter_name}
+       */
+      String indexPath = conf.getInterpreterDiscoveryIndexPath();
+      Map<String, String> interpreterJsons = new InterpreterSettingDiscovery(
+          conf.getInterpreterJson(), indexPath == null ? null : Paths.get(indexPath))
+          .discover(interpreterDirPath);
+      for (Map.Entry<String, String> entry : interpreterJsons.entrySet()) {
+        if (entry.getValue() == null) {
+          LOGGER.warn("No interpreter-setting.json found in " + entry.getKey());
+          continue;
         }
+        registerInterpreterSetting(getInterpreterListFromJson(entry.getValue()), entry.getKey(),
+            override);
       }
     } else {
       LOGGER.warn("InterpreterDir {} doesn't exist", interpreterDirPath);
@@ -379,41 +372,10 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
     return appEventListener;
   }
 
-  private boolean registerInterpreterFromResource(ClassLoader cl, String interpreterDir,
-      String interpreterJson, boolean override) throws IOException {
-    URL[] urls = recursiveBuildLibList(new File(interpreterDir));
-    ClassLoader tempClassLoader = new URLClassLoader(urls, null);
-
-    URL url = tempClassLoader.getResource(interpreterJson);
-    if (url == null) {
-      return false;
-    }
-
-    LOGGER.debug("Reading interpreter-setting.json from {} as Resource", url);
-    List<RegisteredInterpreter> registeredInterpreterList =
-        getInterpreterListFromJson(url.openStream());
-    registerInterpreterSetting(registeredInterpreterList, interpreterDir, override);
-    return true;
-  }
-
-  private boolean registerInterpreterFromPath(String interpreterDir, String interpreterJson,
-      boolean override) throws IOException {
-
-    Path interpreterJsonPath = Paths.get(interpreterDir, interpreterJson);
-    if (Files.exists(interpreterJsonPath)) {
-      LOGGER.debug("Reading interpreter-setting.json from file {}", interpreterJsonPath);
-      List<RegisteredInterpreter> registeredInterpreterList =
-          getInterpreterListFromJson(new FileInputStream(interpreterJsonPath.toFile()));
-      registerInterpreterSetting(registeredInterpreterList, interpreterDir, override);
-      return true;
-    }
-    return false;
-  }
-
-  private List<RegisteredInterpreter> getInterpreterListFromJson(InputStream stream) {
+  private List<RegisteredInterpreter> getInterpreterListFromJson(String json) {
     Type registeredInterpreterListType = new TypeToken<List<RegisteredInterpreter>>() {
     }.getType();
-    return gson.fromJson(new InputStreamReader(stream), registeredInterpreterListType);
+    return gson.fromJson(json, registeredInterpreterListType);
   }
 
   private void registerInterpreterSetting(List<RegisteredInterpreter> registeredInterpreters,
@@ -633,6 +595,14 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
     return recoveryStorage;
   }
 
+  public ParagraphResultCache getParagraphResultCache() {
+    return paragraphResultCache;
+  }
+
+  public InterpreterWarmUpService getInterpreterWarmUpService() {
+    return interpreterWarmUpService;
+  }
+
   public void removeResourcesBelongsToParagraph(String noteId, String paragraphId) {
     for (ManagedInterpreterGroup intpGroup : getAllInterpreterGroup()) {
       ResourceSet resourceSet = new ResourceSet();
@@ -791,25 +761,6 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
     return interpreterSettingTemplates;
   }
 
-  private URL[] recursiveBuildLibList(File path) throws MalformedURLException {
-    URL[] urls = new URL[0];
-    if (path == null || !path.exists()) {
-      return urls;
-    } else if (path.getName().startsWith(".")) {
-      return urls;
-    } else if (path.isDirectory()) {
-      File[] files = path.listFiles();
-      if (files != null) {
-        for (File f : files) {
-          urls = (URL[]) ArrayUtils.addAll(urls, recursiveBuildLibList(f));
-        }
-      }
-      return urls;
-    } else {
-      return new URL[]{path.toURI().toURL()};
-    }
-  }
-
   public List<RemoteRepository> getRepositories() {
     return this.interpreterRepositories;
   }
@@ -985,6 +936,7 @@ public class InterpreterSettingManager implements NoteEventListener, ClusterEven
   }
 
   public void close() {
+    interpreterWarmUpService.close();
     List<Thread> closeThreads = interpreterSettings.values().stream()
             .map(intpSetting-> new Thread(intpSetting::close, intpSetting.getId() + "-close"))
             .peek(t -> t.setUncaughtExceptionHandler((th, e) ->
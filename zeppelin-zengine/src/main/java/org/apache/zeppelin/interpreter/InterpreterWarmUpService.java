@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.scheduler.SchedulerThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the interpreter processes and opens the interpreters of a note in the background when
+ * the note is opened, so that the first paragraph run doesn't pay for it. This is enabled by
+ * zeppelin.interpreter.warmUp.enabled.
+ *
+ * A user has at most maxPerUser interpreter sessions warmed up at the same time. A warmed up
+ * session which is not used by any paragraph within timeout ms is closed again, and its
+ * interpreter process is stopped if no other session uses it.
+ */
+public class InterpreterWarmUpService {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(InterpreterWarmUpService.class);
+
+  private final boolean enabled;
+  private final int maxPerUser;
+  private final long timeout;
+  private ExecutorService executor;
+  private ScheduledExecutorService timer;
+  // user -> warm ups of the user which are not expired yet
+  private final Map<String, List<WarmUp>> warmUps = new HashMap<>();
+
+  public InterpreterWarmUpService(ZeppelinConfiguration conf) {
+    this.enabled = conf.getBoolean(ConfVars.ZEPPELIN_INTERPRETER_WARMUP_ENABLED);
+    this.maxPerUser = conf.getInt(ConfVars.ZEPPELIN_INTERPRETER_WARMUP_MAX_PER_USER);
+    this.timeout = conf.getLong(ConfVars.ZEPPELIN_INTERPRETER_WARMUP_TIMEOUT);
+    if (enabled) {
+      this.executor = Executors.newCachedThreadPool(
+          new SchedulerThreadFactory("InterpreterWarmUp-"));
+      this.timer = Executors.newSingleThreadScheduledExecutor(
+          new SchedulerThreadFactory("InterpreterWarmUpTimer-"));
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Warm up the interpreters which the paragraphs of the note are bound to, for the user who
+   * opens the note. Interpreters which are already opened are skipped.
+   *
+   * @param note
+   * @param user
+   */
+  public void warmUp(Note note, String user) {
+    if (!enabled || user == null) {
+      return;
+    }
+    // check the cap before resolving the interpreters, which creates their sessions
+    int available;
+    synchronized (this) {
+      List<WarmUp> userWarmUps = warmUps.get(user);
+      available = maxPerUser - (userWarmUps == null ? 0 : userWarmUps.size());
+    }
+    if (available <= 0) {
+      LOGGER.info("Skip warm up of note {} for user {}, {} sessions are warmed up already",
+          note.getId(), user, maxPerUser);
+      return;
+    }
+    for (List<RemoteInterpreter> interpreters :
+        getInterpretersToWarmUp(note, user, available).values()) {
+      synchronized (this) {
+        List<WarmUp> userWarmUps = warmUps.computeIfAbsent(user, k -> new ArrayList<>());
+        WarmUp warmUp = new WarmUp(user, interpreters);
+        if (userWarmUps.stream().anyMatch(w -> w.isSameSession(warmUp))) {
+          continue;
+        }
+        if (userWarmUps.size() >= maxPerUser) {
+          LOGGER.info("Skip warm up of InterpreterGroup {} for user {}, {} sessions are warmed "
+              + "up already", warmUp.interpreterGroup.getId(), user, userWarmUps.size());
+          return;
+        }
+        userWarmUps.add(warmUp);
+        warmUp.future = executor.submit(() -> run(warmUp));
+        timer.schedule(() -> expire(warmUp), timeout, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  /**
+   * @return interpreters which the paragraphs of the note use and which are not opened yet,
+   *         by interpreter session, of at most maxSessions sessions
+   */
+  private Map<String, List<RemoteInterpreter>> getInterpretersToWarmUp(Note note, String user,
+                                                                       int maxSessions) {
+    Map<String, List<RemoteInterpreter>> interpreters = new LinkedHashMap<>();
+    for (Paragraph paragraph : note.getParagraphs()) {
+      String intpText = paragraph.getIntpText() == null ? "" : paragraph.getIntpText();
+      try {
+        Interpreter interpreter = note.getInterpreterFactory().getInterpreter(user,
+            note.getId(), intpText, note.getDefaultInterpreterGroup());
+        if (!(interpreter instanceof RemoteInterpreter)
+            || ((RemoteInterpreter) interpreter).isOpened()) {
+          continue;
+        }
+        RemoteInterpreter remoteInterpreter = (RemoteInterpreter) interpreter;
+        String sessionKey = remoteInterpreter.getInterpreterGroup().getId() + ":"
+            + remoteInterpreter.getSessionId();
+        if (!interpreters.containsKey(sessionKey) && interpreters.size() >= maxSessions) {
+          // don't resolve the rest of the paragraphs, no more sessions are warmed up
+          break;
+        }
+        List<RemoteInterpreter> session =
+            interpreters.computeIfAbsent(sessionKey, k -> new ArrayList<>());
+        if (!session.contains(remoteInterpreter)) {
+          session.add(remoteInterpreter);
+        }
+      } catch (InterpreterNotFoundException e) {
+        LOGGER.debug("No interpreter to warm up for paragraph {}", paragraph.getId());
+      }
+    }
+    return interpreters;
+  }
+
+  private void run(WarmUp warmUp) {
+    for (RemoteInterpreter interpreter : warmUp.interpreters) {
+      try {
+        LOGGER.info("Warm up interpreter {} of session {} for user {}",
+            interpreter.getClassName(), warmUp.sessionId, warmUp.user);
+        interpreter.warmUp();
+      } catch (Exception e) {
+        LOGGER.warn("Fail to warm up interpreter " + interpreter.getClassName(), e);
+        return;
+      }
+    }
+  }
+
+  private void expire(WarmUp warmUp) {
+    synchronized (this) {
+      List<WarmUp> userWarmUps = warmUps.get(warmUp.user);
+      if (userWarmUps == null || !userWarmUps.remove(warmUp)) {
+        return;
+      }
+      if (userWarmUps.isEmpty()) {
+        warmUps.remove(warmUp.user);
+      }
+    }
+    List<Interpreter> session = warmUp.interpreterGroup.get(warmUp.sessionId);
+    // the session may be closed and created again in the meantime, then it is not ours
+    if (session == null || !session.contains(warmUp.interpreters.get(0))
+        || isUsed(warmUp, session)) {
+      return;
+    }
+    warmUp.future.cancel(true);
+    LOGGER.info("Close warmed up session {} of InterpreterGroup {}, it is not used",
+        warmUp.sessionId, warmUp.interpreterGroup.getId());
+    warmUp.interpreterGroup.close(warmUp.sessionId);
+  }
+
+  /**
+   * @return whether any interpreter in the session did interpret since the warm up
+   */
+  private boolean isUsed(WarmUp warmUp, List<Interpreter> session) {
+    for (Interpreter interpreter : session) {
+      if (interpreter instanceof RemoteInterpreter
+          && ((RemoteInterpreter) interpreter).getLastInterpretTime() >= warmUp.startTime) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @VisibleForTesting
+  synchronized int getNumWarmUps(String user) {
+    List<WarmUp> userWarmUps = warmUps.get(user);
+    return userWarmUps == null ? 0 : userWarmUps.size();
+  }
+
+  public void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+    if (timer != null) {
+      timer.shutdownNow();
+    }
+  }
+
+  private static class WarmUp {
+    private final String user;
+    private final List<RemoteInterpreter> interpreters;
+    private final ManagedInterpreterGroup interpreterGroup;
+    private final String sessionId;
+    private final long startTime = System.currentTimeMillis();
+    private Future<?> future;
+
+    WarmUp(String user, List<RemoteInterpreter> interpreters) {
+      this.user = user;
+      this.interpreters = interpreters;
+      this.interpreterGroup = interpreters.get(0).getInterpreterGroup();
+      this.sessionId = interpreters.get(0).getSessionId();
+    }
+
+    boolean isSameSession(WarmUp other) {
+      return interpreterGroup == other.interpreterGroup && sessionId.equals(other.sessionId);
+    }
+  }
+}
@@ -97,6 +97,9 @@ public class ManagedInterpreterGroup extends InterpreterGroup {
     LOGGER.info("Close Session: " + sessionId + " for interpreter setting: " +
             interpreterSetting.getName());
     close(sessions.remove(sessionId));
+    if (interpreterSetting != null) {
+      interpreterSetting.invalidateParagraphResults();
+    }
     //TODO(zjffdu) whether close InterpreterGroup if there's no session left in Zeppelin Server
     if (sessions.isEmpty() && interpreterSetting != null) {
       LOGGER.info("Remove this InterpreterGroup: {} as all the sessions are closed", id);
@@ -18,23 +18,30 @@
 package org.apache.zeppelin.interpreter;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import org.apache.thrift.TException;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.display.AngularObject;
+import org.apache.zeppelin.display.JsonPatch;
 import org.apache.zeppelin.helium.ApplicationEventListener;
 import org.apache.zeppelin.interpreter.remote.AppendOutputRunner;
 import org.apache.zeppelin.interpreter.remote.InvokeResourceMethodEventMessage;
 import org.apache.zeppelin.interpreter.remote.RemoteAngularObject;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcessListener;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterTransport;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
+import org.apache.zeppelin.interpreter.thrift.AngularObjectId;
 import org.apache.zeppelin.interpreter.thrift.AppOutputAppendEvent;
 import org.apache.zeppelin.interpreter.thrift.AppOutputUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.AppStatusUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.ParagraphInfo;
+import org.apache.zeppelin.interpreter.thrift.ParagraphProgressEvent;
 import org.apache.zeppelin.interpreter.thrift.RegisterInfo;
 import org.apache.zeppelin.interpreter.thrift.OutputAppendEvent;
 import org.apache.zeppelin.interpreter.thrift.OutputUpdateAllEvent;
@@ -42,6 +49,7 @@ import org.apache.zeppelin.interpreter.thrift.OutputUpdateEvent;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterEventService;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResultMessage;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
+import org.apache.zeppelin.interpreter.thrift.ResourceTransfer;
 import org.apache.zeppelin.interpreter.thrift.RunParagraphsEvent;
 import org.apache.zeppelin.interpreter.thrift.ServiceException;
 import org.apache.zeppelin.resource.RemoteResource;
@@ -54,9 +62,12 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -69,7 +80,8 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
   private String portRange;
   private int port;
   private String host;
-  private TThreadPoolServer thriftServer;
+  private TServer thriftServer;
+  private RemoteInterpreterTransport transport;
   private InterpreterSettingManager interpreterSettingManager;
 
   private final ScheduledExecutorService appendService =
@@ -79,10 +91,17 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
   private final RemoteInterpreterProcessListener listener;
   private final ApplicationEventListener appListener;
   private final Gson gson = new Gson();
+  private final JsonParser jsonParser = new JsonParser();
+  private final int angularObjectPatchThreshold;
+  private final ResourceDirectory resourceDirectory = new ResourceDirectory();
+  private final ExecutorService resourceInvalidateService =
+      Executors.newSingleThreadExecutor();
 
   public RemoteInterpreterEventServer(ZeppelinConfiguration zConf,
                                       InterpreterSettingManager interpreterSettingManager) {
     this.portRange = zConf.getZeppelinServerRPCPortRange();
+    this.angularObjectPatchThreshold = zConf.getAngularObjectPatchThreshold();
+    this.transport = RemoteInterpreterTransport.create(zConf);
     this.interpreterSettingManager = interpreterSettingManager;
     this.listener = interpreterSettingManager.getRemoteInterpreterProcessListener();
     this.appListener = interpreterSettingManager.getAppEventListener();
@@ -92,20 +111,21 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     Thread startingThread = new Thread() {
       @Override
       public void run() {
-        TServerSocket tSocket = null;
+        TServerTransport tSocket = null;
         try {
-          tSocket = RemoteInterpreterUtils.createTServerSocket(portRange);
-          port = tSocket.getServerSocket().getLocalPort();
+          tSocket = transport.createServerTransport(portRange);
+          port = RemoteInterpreterTransport.getLocalPort(tSocket);
           host = RemoteInterpreterUtils.findAvailableHostAddress();
         } catch (IOException e1) {
           throw new RuntimeException(e1);
         }
 
-        LOGGER.info("InterpreterEventServer is starting at {}:{}", host, port);
+        LOGGER.info("InterpreterEventServer is starting at {}:{}, transport: {}",
+            host, port, transport.getMode());
         RemoteInterpreterEventService.Processor processor =
             new RemoteInterpreterEventService.Processor(RemoteInterpreterEventServer.this);
-        thriftServer = new TThreadPoolServer(
-            new TThreadPoolServer.Args(tSocket).processor(processor));
+        thriftServer = transport.createServer(tSocket, RemoteInterpreterTransport.EVENT_SERVICE,
+            processor, "RemoteInterpreterEventServer-");
         thriftServer.serve();
       }
     };
@@ -140,6 +160,7 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
       appendFuture.cancel(true);
     }
     appendService.shutdownNow();
+    resourceInvalidateService.shutdownNow();
     LOGGER.info("RemoteInterpreterEventServer is stopped");
   }
 
@@ -167,6 +188,8 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
           registerInfo.getInterpreterGroupId());
     }
 
+    // resources of the previous process of this interpreter group are gone
+    resourceDirectory.removePool(registerInfo.getInterpreterGroupId());
     interpreterProcess.processStarted(registerInfo.port, registerInfo.host);
   }
 
@@ -181,6 +204,13 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     }
   }
 
+  @Override
+  public void appendOutputBatch(List<OutputAppendEvent> events) throws TException {
+    for (OutputAppendEvent event : events) {
+      appendOutput(event);
+    }
+  }
+
   @Override
   public void updateOutput(OutputUpdateEvent event) throws TException {
     if (event.getAppId() == null) {
@@ -224,6 +254,14 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     listener.checkpointOutput(noteId, paragraphId);
   }
 
+  @Override
+  public void updateParagraphProgress(List<ParagraphProgressEvent> events) throws TException {
+    for (ParagraphProgressEvent event : events) {
+      listener.onParagraphProgressUpdate(event.getNoteId(), event.getParagraphId(),
+          event.getProgress());
+    }
+  }
+
   @Override
   public void runParagraphs(RunParagraphsEvent event) throws TException {
     try {
@@ -255,7 +293,8 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
 
   @Override
   public void updateAngularObject(String intpGroupId, String json) throws TException {
-    AngularObject angularObject = AngularObject.fromJson(json);
+    JsonObject jsonObject = jsonParser.parse(json).getAsJsonObject();
+    AngularObject angularObject = gson.fromJson(jsonObject, AngularObject.class);
     InterpreterGroup interpreterGroup =
         interpreterSettingManager.getInterpreterGroupById(intpGroupId);
     if (interpreterGroup == null) {
@@ -264,14 +303,47 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     AngularObject localAngularObject = interpreterGroup.getAngularObjectRegistry().get(
         angularObject.getName(), angularObject.getNoteId(), angularObject.getParagraphId());
     if (localAngularObject instanceof RemoteAngularObject) {
+      RemoteAngularObject remoteAngularObject = (RemoteAngularObject) localAngularObject;
+      // keep the value of big objects, interpreter sends a patch against it for the next update
+      if (angularObjectPatchThreshold >= 0 && json.length() >= angularObjectPatchThreshold) {
+        remoteAngularObject.setRemoteValue(jsonObject.get("object"));
+      } else {
+        remoteAngularObject.setRemoteValue(null);
+      }
       // to avoid ping-pong loop
-      ((RemoteAngularObject) localAngularObject).set(
-          angularObject.get(), true, false);
+      remoteAngularObject.set(angularObject.get(), true, false);
     } else {
       localAngularObject.set(angularObject.get());
     }
   }
 
+  @Override
+  public void patchAngularObject(String intpGroupId,
+                                 AngularObjectId angularObjectId,
+                                 String patch) throws ServiceException, TException {
+    InterpreterGroup interpreterGroup =
+        interpreterSettingManager.getInterpreterGroupById(intpGroupId);
+    if (interpreterGroup == null) {
+      throw new TException("Invalid InterpreterGroupId: " + intpGroupId);
+    }
+    AngularObject localAngularObject = interpreterGroup.getAngularObjectRegistry().get(
+        angularObjectId.getName(), angularObjectId.getNoteId(), angularObjectId.getParagraphId());
+    if (!(localAngularObject instanceof RemoteAngularObject)
+        || ((RemoteAngularObject) localAngularObject).getRemoteValue() == null) {
+      throw new ServiceException("No base value to patch AngularObject: " + angularObjectId);
+    }
+    RemoteAngularObject remoteAngularObject = (RemoteAngularObject) localAngularObject;
+    JsonElement value;
+    try {
+      value = remoteAngularObject.applyRemotePatch(JsonPatch.fromJson(patch));
+    } catch (RuntimeException e) {
+      throw new ServiceException("Fail to patch AngularObject " + angularObjectId + ", "
+          + e.getMessage());
+    }
+    // to avoid ping-pong loop
+    remoteAngularObject.set(gson.fromJson(value, Object.class), true, false);
+  }
+
   @Override
   public void removeAngularObject(String intpGroupId,
                                   String noteId,
@@ -315,23 +387,195 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     return resourceList;
   }
 
+  @Override
+  public List<String> getResourcesByName(String intpGroupId, String name) throws TException {
+    ResourceSet resourceSet = new ResourceSet();
+    List<String> resourcePoolIds = new ArrayList<>();
+    for (ManagedInterpreterGroup intpGroup : interpreterSettingManager.getAllInterpreterGroup()) {
+      RemoteInterpreterProcess remoteInterpreterProcess = intpGroup.getRemoteInterpreterProcess();
+      if (remoteInterpreterProcess == null) {
+        ResourcePool localPool = intpGroup.getResourcePool();
+        if (localPool != null && !intpGroup.getId().equals(intpGroupId)) {
+          resourceSet.addAll(localPool.getAll().filterByName(name));
+        }
+      } else if (remoteInterpreterProcess.isRunning()) {
+        resourcePoolIds.add(intpGroup.getId());
+        if (!intpGroup.getId().equals(intpGroupId)) {
+          indexResourcePool(intpGroup.getId(), remoteInterpreterProcess);
+        }
+      }
+    }
+    resourceDirectory.retainPools(resourcePoolIds);
+    resourceSet.addAll(resourceDirectory.get(name, intpGroupId));
+
+    List<String> resourceList = new LinkedList<>();
+    for (Resource r : resourceSet) {
+      resourceList.add(r.toJson());
+    }
+    return resourceList;
+  }
+
+  @Override
+  public void addResource(String intpGroupId, String resourceJson) throws TException {
+    Resource resource = RemoteResource.fromJson(resourceJson);
+    Set<String> lookedUpBy = resourceDirectory.put(resource);
+    invalidateResourceLookups(resource.getResourceId().getName(), lookedUpBy);
+  }
+
+  @Override
+  public void removeResource(String intpGroupId, String resourceIdJson) throws TException {
+    ResourceId resourceId = ResourceId.fromJson(resourceIdJson);
+    Set<String> lookedUpBy = resourceDirectory.remove(resourceId);
+    invalidateResourceLookups(resourceId.getName(), lookedUpBy);
+  }
+
+  /**
+   * Load all resources of the resource pool into resourceDirectory, unless it is indexed already.
+   */
+  private void indexResourcePool(String resourcePoolId,
+                                 RemoteInterpreterProcess remoteInterpreterProcess) {
+    try {
+      if (!resourceDirectory.beginIndexing(resourcePoolId)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    try {
+      List<String> resourceList = remoteInterpreterProcess.callRemoteFunction(
+          new RemoteInterpreterProcess.RemoteFunction<List<String>>() {
+            @Override
+            public List<String> call(RemoteInterpreterService.Client client) throws Exception {
+              return client.resourcePoolGetAll();
+            }
+          }
+      );
+      ResourceSet resourceSet = new ResourceSet();
+      for (String res : resourceList) {
+        resourceSet.add(RemoteResource.fromJson(res));
+      }
+      resourceDirectory.finishIndexing(resourcePoolId, resourceSet);
+    } catch (RuntimeException e) {
+      LOGGER.warn("Fail to index resources of " + resourcePoolId, e);
+      resourceDirectory.abortIndexing(resourcePoolId);
+    }
+  }
+
+  private void invalidateResourceLookups(final String name, Set<String> resourcePoolIds) {
+    for (final String resourcePoolId : resourcePoolIds) {
+      resourceInvalidateService.execute(() -> {
+        ManagedInterpreterGroup intpGroup =
+            interpreterSettingManager.getInterpreterGroupById(resourcePoolId);
+        if (intpGroup == null) {
+          return;
+        }
+        RemoteInterpreterProcess remoteInterpreterProcess =
+            intpGroup.getRemoteInterpreterProcess();
+        if (remoteInterpreterProcess == null || !remoteInterpreterProcess.isRunning()) {
+          return;
+        }
+        try {
+          remoteInterpreterProcess.callRemoteFunction(
+              new RemoteInterpreterProcess.RemoteFunction<Void>() {
+                @Override
+                public Void call(RemoteInterpreterService.Client client) throws Exception {
+                  client.resourceInvalidate(name);
+                  return null;
+                }
+              }
+          );
+        } catch (RuntimeException e) {
+          LOGGER.warn("Fail to invalidate resource lookups of " + resourcePoolId, e);
+        }
+      });
+    }
+  }
+
   @Override
   public ByteBuffer getResource(String resourceIdJson) throws TException {
     ResourceId resourceId = ResourceId.fromJson(resourceIdJson);
-    Object o = getResource(resourceId);
-    ByteBuffer obj;
-    if (o == null) {
+    // pass the serialized resource through, zeppelin server may not even have its classes
+    ByteBuffer obj = getResource(resourceId);
+    if (obj == null) {
       obj = ByteBuffer.allocate(0);
-    } else {
-      try {
-        obj = Resource.serializeObject(o);
-      } catch (IOException e) {
-        throw new TException(e);
-      }
     }
     return obj;
   }
 
+  @Override
+  public ResourceTransfer openResourceTransfer(String resourceIdJson) throws TException {
+    final ResourceId resourceId = ResourceId.fromJson(resourceIdJson);
+    RemoteInterpreterProcess remoteInterpreterProcess =
+        getRunningInterpreterProcess(resourceId.getResourcePoolId());
+    if (remoteInterpreterProcess == null) {
+      ResourceTransfer transfer = new ResourceTransfer();
+      transfer.setSize(-1);
+      return transfer;
+    }
+    return remoteInterpreterProcess.callRemoteFunction(
+        new RemoteInterpreterProcess.RemoteFunction<ResourceTransfer>() {
+          @Override
+          public ResourceTransfer call(RemoteInterpreterService.Client client) throws Exception {
+            return client.resourceOpenTransfer(
+                resourceId.getNoteId(),
+                resourceId.getParagraphId(),
+                resourceId.getName());
+          }
+        }
+    );
+  }
+
+  @Override
+  public ByteBuffer readResourceTransfer(String resourcePoolId, final String transferId,
+                                         final long offset, final int length) throws TException {
+    RemoteInterpreterProcess remoteInterpreterProcess =
+        getRunningInterpreterProcess(resourcePoolId);
+    if (remoteInterpreterProcess == null) {
+      throw new TException("Interpreter process of " + resourcePoolId + " is not running");
+    }
+    return remoteInterpreterProcess.callRemoteFunction(
+        new RemoteInterpreterProcess.RemoteFunction<ByteBuffer>() {
+          @Override
+          public ByteBuffer call(RemoteInterpreterService.Client client) throws Exception {
+            return client.resourceReadTransfer(transferId, offset, length);
+          }
+        }
+    );
+  }
+
+  @Override
+  public void closeResourceTransfer(String resourcePoolId, final String transferId)
+      throws TException {
+    RemoteInterpreterProcess remoteInterpreterProcess =
+        getRunningInterpreterProcess(resourcePoolId);
+    if (remoteInterpreterProcess == null) {
+      return;
+    }
+    remoteInterpreterProcess.callRemoteFunction(
+        new RemoteInterpreterProcess.RemoteFunction<Void>() {
+          @Override
+          public Void call(RemoteInterpreterService.Client client) throws Exception {
+            client.resourceCloseTransfer(transferId);
+            return null;
+          }
+        }
+    );
+  }
+
+  private RemoteInterpreterProcess getRunningInterpreterProcess(String interpreterGroupId) {
+    ManagedInterpreterGroup intpGroup =
+        interpreterSettingManager.getInterpreterGroupById(interpreterGroupId);
+    if (intpGroup == null) {
+      return null;
+    }
+    RemoteInterpreterProcess remoteInterpreterProcess = intpGroup.getRemoteInterpreterProcess();
+    if (remoteInterpreterProcess == null || !remoteInterpreterProcess.isRunning()) {
+      return null;
+    }
+    return remoteInterpreterProcess;
+  }
+
   /**
    *
    * @param intpGroupId caller interpreter group id
@@ -435,14 +679,13 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
     return null;
   }
 
-  private Object getResource(final ResourceId resourceId) {
-    ManagedInterpreterGroup intpGroup = interpreterSettingManager
-        .getInterpreterGroupById(resourceId.getResourcePoolId());
-    if (intpGroup == null) {
+  private ByteBuffer getResource(final ResourceId resourceId) {
+    RemoteInterpreterProcess remoteInterpreterProcess =
+        getRunningInterpreterProcess(resourceId.getResourcePoolId());
+    if (remoteInterpreterProcess == null) {
       return null;
     }
-    RemoteInterpreterProcess remoteInterpreterProcess = intpGroup.getRemoteInterpreterProcess();
-    ByteBuffer buffer = remoteInterpreterProcess.callRemoteFunction(
+    return remoteInterpreterProcess.callRemoteFunction(
         new RemoteInterpreterProcess.RemoteFunction<ByteBuffer>() {
           @Override
           public ByteBuffer call(RemoteInterpreterService.Client client) throws Exception {
@@ -453,14 +696,6 @@ public class RemoteInterpreterEventServer implements RemoteInterpreterEventServi
           }
         }
     );
-
-    try {
-      Object o = Resource.deserializeObject(buffer);
-      return o;
-    } catch (Exception e) {
-      LOGGER.error(e.getMessage(), e);
-    }
-    return null;
   }
 
   private ResourceSet getAllResourcePoolExcept(String interpreterGroupId) {
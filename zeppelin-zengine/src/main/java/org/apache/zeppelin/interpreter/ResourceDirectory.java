@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import org.apache.zeppelin.resource.Resource;
+import org.apache.zeppelin.resource.ResourceId;
+import org.apache.zeppelin.resource.ResourceSet;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the resources in the resource pools of all interpreter processes, by name.
+ *
+ * Interpreter processes report every put and remove of their resource pool, so a lookup by name
+ * doesn't need to ask every interpreter process for all of its resources. A resource pool is only
+ * used for lookups after it is indexed, i.e. after its resources were loaded once. That covers
+ * the resources which were put before the index knew about the pool, e.g. after recovery.
+ *
+ * The index also remembers which resource pools looked up a name, so they can be told to drop
+ * their cached lookups when a resource with that name changes.
+ */
+public class ResourceDirectory {
+
+  // resource pool id -> state of the pool
+  private final Map<String, PoolState> pools = new HashMap<>();
+  // resource name -> resources with that name
+  private final Map<String, Map<ResourceId, Resource>> resourcesByName = new HashMap<>();
+  // resource name -> ids of resource pools which looked up that name
+  private final Map<String, Set<String>> lookups = new HashMap<>();
+
+  /**
+   * @param resource resource which is put into its resource pool
+   * @return ids of other resource pools which looked up resources with the same name
+   */
+  public synchronized Set<String> put(Resource resource) {
+    ResourceId resourceId = resource.getResourceId();
+    getPoolState(resourceId.getResourcePoolId()).removedWhileIndexing.remove(resourceId);
+    resourcesByName.computeIfAbsent(resourceId.getName(), k -> new LinkedHashMap<>())
+        .put(resourceId, resource);
+    return takeLookups(resourceId);
+  }
+
+  /**
+   * @param resourceId resource which is removed from its resource pool
+   * @return ids of other resource pools which looked up resources with the same name
+   */
+  public synchronized Set<String> remove(ResourceId resourceId) {
+    PoolState pool = getPoolState(resourceId.getResourcePoolId());
+    if (pool.indexing) {
+      pool.removedWhileIndexing.add(resourceId);
+    }
+    removeFromIndex(resourceId);
+    return takeLookups(resourceId);
+  }
+
+  /**
+   * Forget all resources of the resource pool, e.g. because its interpreter process is
+   * restarted. The pool needs to be indexed again.
+   *
+   * @param resourcePoolId
+   */
+  public synchronized void removePool(String resourcePoolId) {
+    pools.remove(resourcePoolId);
+    Iterator<Map<ResourceId, Resource>> it = resourcesByName.values().iterator();
+    while (it.hasNext()) {
+      Map<ResourceId, Resource> resources = it.next();
+      resources.keySet().removeIf(id -> resourcePoolId.equals(id.getResourcePoolId()));
+      if (resources.isEmpty()) {
+        it.remove();
+      }
+    }
+    for (Set<String> poolIds : lookups.values()) {
+      poolIds.remove(resourcePoolId);
+    }
+  }
+
+  /**
+   * Forget all resource pools except the given ones.
+   *
+   * @param resourcePoolIds
+   */
+  public synchronized void retainPools(Collection<String> resourcePoolIds) {
+    Set<String> removed = new HashSet<>(pools.keySet());
+    removed.removeAll(resourcePoolIds);
+    for (String resourcePoolId : removed) {
+      removePool(resourcePoolId);
+    }
+  }
+
+  public synchronized boolean isIndexed(String resourcePoolId) {
+    PoolState pool = pools.get(resourcePoolId);
+    return pool != null && pool.indexed;
+  }
+
+  /**
+   * Start to index the resource pool. When it returns true the caller must load the resources
+   * of the pool and call finishIndexing or abortIndexing. When another thread is indexing the
+   * pool, this waits until it is done.
+   *
+   * @param resourcePoolId
+   * @return false if the pool is already indexed
+   * @throws InterruptedException
+   */
+  public synchronized boolean beginIndexing(String resourcePoolId) throws InterruptedException {
+    PoolState pool = getPoolState(resourcePoolId);
+    while (pool.indexing) {
+      wait();
+      pool = getPoolState(resourcePoolId);
+    }
+    if (pool.indexed) {
+      return false;
+    }
+    pool.indexing = true;
+    return true;
+  }
+
+  /**
+   * @param resourcePoolId
+   * @param resources all resources of the pool, loaded after beginIndexing
+   */
+  public synchronized void finishIndexing(String resourcePoolId, ResourceSet resources) {
+    PoolState pool = getPoolState(resourcePoolId);
+    for (Resource resource : resources) {
+      ResourceId resourceId = resource.getResourceId();
+      if (!resourcePoolId.equals(resourceId.getResourcePoolId())
+          || pool.removedWhileIndexing.contains(resourceId)) {
+        continue;
+      }
+      // a resource put while indexing is newer than the loaded one
+      resourcesByName.computeIfAbsent(resourceId.getName(), k -> new LinkedHashMap<>())
+          .putIfAbsent(resourceId, resource);
+    }
+    pool.indexing = false;
+    pool.indexed = true;
+    pool.removedWhileIndexing.clear();
+    notifyAll();
+  }
+
+  public synchronized void abortIndexing(String resourcePoolId) {
+    PoolState pool = getPoolState(resourcePoolId);
+    pool.indexing = false;
+    pool.removedWhileIndexing.clear();
+    notifyAll();
+  }
+
+  /**
+   * Get the resources with the given name in indexed pools, except the requesting pool.
+   * The requesting pool is remembered, so that it is returned by put and remove of resources
+   * with this name.
+   *
+   * @param name
+   * @param requestingPoolId
+   * @return
+   */
+  public synchronized ResourceSet get(String name, String requestingPoolId) {
+    ResourceSet result = new ResourceSet();
+    Map<ResourceId, Resource> resources = resourcesByName.get(name);
+    if (resources != null) {
+      for (Resource resource : resources.values()) {
+        String resourcePoolId = resource.getResourceId().getResourcePoolId();
+        if (!resourcePoolId.equals(requestingPoolId) && isIndexed(resourcePoolId)) {
+          result.add(resource);
+        }
+      }
+    }
+    if (requestingPoolId != null) {
+      lookups.computeIfAbsent(name, k -> new HashSet<>()).add(requestingPoolId);
+    }
+    return result;
+  }
+
+  private void removeFromIndex(ResourceId resourceId) {
+    Map<ResourceId, Resource> resources = resourcesByName.get(resourceId.getName());
+    if (resources != null) {
+      resources.remove(resourceId);
+      if (resources.isEmpty()) {
+        resourcesByName.remove(resourceId.getName());
+      }
+    }
+  }
+
+  private Set<String> takeLookups(ResourceId resourceId) {
+    Set<String> poolIds = lookups.remove(resourceId.getName());
+    if (poolIds == null) {
+      return Collections.emptySet();
+    }
+    // lookups of the pool which changed the resource are not affected, keep it
+    if (poolIds.remove(resourceId.getResourcePoolId())) {
+      Set<String> remaining = new HashSet<>();
+      remaining.add(resourceId.getResourcePoolId());
+      lookups.put(resourceId.getName(), remaining);
+    }
+    return poolIds;
+  }
+
+  private PoolState getPoolState(String resourcePoolId) {
+    return pools.computeIfAbsent(resourcePoolId, k -> new PoolState());
+  }
+
+  private static class PoolState {
+    private boolean indexing = false;
+    private boolean indexed = false;
+    private final Set<ResourceId> removedWhileIndexing = new HashSet<>();
+  }
+}
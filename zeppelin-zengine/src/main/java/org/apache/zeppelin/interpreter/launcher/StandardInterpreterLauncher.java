@@ -24,6 +24,7 @@ import org.apache.zeppelin.interpreter.InterpreterRunner;
 import org.apache.zeppelin.interpreter.recovery.RecoveryStorage;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterManagedProcess;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterRunningProcess;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreterTransport;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -96,6 +97,17 @@ public class StandardInterpreterLauncher extends InterpreterLauncher {
       }
     }
     env.put("INTERPRETER_GROUP_ID", context.getInterpreterGroupId());
+    // interpreter process must use the same thrift transport as zeppelin server
+    if (RemoteInterpreterTransport.create(zConf).isNonBlocking()) {
+      env.put(ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_RPC_TRANSPORT.name(),
+          zConf.getInterpreterRpcTransport());
+    }
+    // interpreter process uses the same thread backend as zeppelin server if it is set explicitly
+    ZeppelinConfiguration.ConfVars threadBackend =
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_SCHEDULER_THREAD_BACKEND;
+    if (!threadBackend.getStringValue().equals(zConf.getSchedulerThreadBackend())) {
+      env.put(threadBackend.name(), zConf.getSchedulerThreadBackend());
+    }
     return env;
   }
 }
@@ -23,9 +23,8 @@ import java.util.Map;
 import org.apache.commons.pool2.BasePooledObjectFactory;
 import org.apache.commons.pool2.PooledObject;
 import org.apache.commons.pool2.impl.DefaultPooledObject;
-import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.zeppelin.interpreter.InterpreterException;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService;
@@ -37,34 +36,40 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
 public class ClientFactory extends BasePooledObjectFactory<Client>{
   private String host;
   private int port;
-  Map<Client, TSocket> clientSocketMap = new HashMap<>();
+  private RemoteInterpreterTransport transport;
+  Map<Client, TTransport> clientSocketMap = new HashMap<>();
 
   public ClientFactory(String host, int port) {
+    this(host, port, new RemoteInterpreterTransport(RemoteInterpreterTransport.Mode.BLOCKING));
+  }
+
+  public ClientFactory(String host, int port, RemoteInterpreterTransport transport) {
     this.host = host;
     this.port = port;
+    this.transport = transport;
   }
 
   public void close() {
     //Close transfer
-    for (TSocket eachTransfer: clientSocketMap.values()) {
+    for (TTransport eachTransfer: clientSocketMap.values()) {
       eachTransfer.close();
     }
   }
 
   @Override
   public Client create() throws Exception {
-    TSocket transport = new TSocket(host, port);
+    TProtocol protocol;
     try {
-      transport.open();
+      protocol = transport.openClientProtocol(
+          host, port, RemoteInterpreterTransport.INTERPRETER_SERVICE);
     } catch (TTransportException e) {
       throw new InterpreterException(e);
     }
 
-    TProtocol protocol = new  TBinaryProtocol(transport);
     Client client = new RemoteInterpreterService.Client(protocol);
 
     synchronized (clientSocketMap) {
-      clientSocketMap.put(client, transport);
+      clientSocketMap.put(client, protocol.getTransport());
     }
     return client;
   }
@@ -17,8 +17,11 @@
 
 package org.apache.zeppelin.interpreter.remote;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.display.AngularObjectListener;
+import org.apache.zeppelin.display.JsonPatch;
 import org.apache.zeppelin.interpreter.InterpreterGroup;
 import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
 
@@ -27,7 +30,13 @@ import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
  */
 public class RemoteAngularObject extends AngularObject {
 
+  private static final Gson GSON = new Gson();
+
   private transient ManagedInterpreterGroup interpreterGroup;
+  // json of the value the remote interpreter process has, the base of the JsonPatch it sends
+  // for the next update. null when it is not kept.
+  private transient JsonElement remoteValue;
+  private transient long remoteChecksum;
 
   RemoteAngularObject(String name, Object o, String noteId, String paragraphId,
                       ManagedInterpreterGroup interpreterGroup,
@@ -41,10 +50,51 @@ public class RemoteAngularObject extends AngularObject {
     set(o,  emit, true);
   }
 
+  public synchronized JsonElement getRemoteValue() {
+    return remoteValue;
+  }
+
+  /**
+   * @param remoteValue value received from the remote interpreter process, null to not keep it
+   */
+  public synchronized void setRemoteValue(JsonElement remoteValue) {
+    this.remoteValue = remoteValue;
+    this.remoteChecksum = remoteValue == null ? 0 : JsonPatch.checksum(remoteValue);
+  }
+
+  /**
+   * Apply a patch received from the remote interpreter process to the kept value.
+   *
+   * @return the patched value, which is kept as the base of the next patch
+   * @throws IllegalStateException when no value is kept
+   * @throws IllegalArgumentException when the patch doesn't match the kept value, which is
+   *                                  dropped then
+   */
+  public synchronized JsonElement applyRemotePatch(JsonPatch patch) {
+    if (remoteValue == null) {
+      throw new IllegalStateException("No base value to patch");
+    }
+    try {
+      remoteValue = patch.apply(remoteValue, remoteChecksum);
+      remoteChecksum = patch.getTargetChecksum();
+      return remoteValue;
+    } catch (RuntimeException e) {
+      // base may be modified partially, so drop it and wait for the full value
+      remoteValue = null;
+      throw e;
+    }
+  }
+
   public void set(Object o, boolean emitWeb, boolean emitRemoteProcess) {
     super.set(o, emitWeb);
 
     if (emitRemoteProcess) {
+      // e.g. changed in the web UI, the remote interpreter process patches this value next time
+      synchronized (this) {
+        if (remoteValue != null) {
+          setRemoteValue(GSON.toJsonTree(o));
+        }
+      }
       // send updated value to remote interpreter
       interpreterGroup.getRemoteInterpreterProcess().
           updateRemoteAngularObject(
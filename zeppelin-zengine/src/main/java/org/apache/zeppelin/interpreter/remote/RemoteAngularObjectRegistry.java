@@ -28,8 +28,6 @@ import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
-
 /**
  * Proxy for AngularObjectRegistry that exists in remote interpreter process
  */
@@ -110,8 +108,7 @@ public class RemoteAngularObjectRegistry extends AngularObjectRegistry {
   }
   
   public void removeAllAndNotifyRemoteProcess(String noteId, String paragraphId) {
-    List<AngularObject> all = getAll(noteId, paragraphId);
-    for (AngularObject ao : all) {
+    for (AngularObject ao : getAllView(noteId, paragraphId)) {
       removeAndNotifyRemoteProcess(ao.getName(), noteId, paragraphId);
     }
   }
@@ -34,14 +34,17 @@ import org.apache.zeppelin.interpreter.InterpreterResult;
 import org.apache.zeppelin.interpreter.LifecycleManager;
 import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
 import org.apache.zeppelin.interpreter.thrift.InterpreterCompletion;
-import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterContext;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResult;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterResultMessage;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.scheduler.FairJobQueue;
+import org.apache.zeppelin.scheduler.FairScheduler;
 import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.scheduler.RemoteScheduler;
 import org.apache.zeppelin.scheduler.Scheduler;
 import org.apache.zeppelin.scheduler.SchedulerFactory;
+import org.apache.zeppelin.user.AuthenticationInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,6 +69,8 @@ public class RemoteInterpreter extends Interpreter {
   private RemoteInterpreterProcess interpreterProcess;
   private volatile boolean isOpened = false;
   private volatile boolean isCreated = false;
+  // time of the last call of interpret, 0 if it is never called
+  private volatile long lastInterpretTime = 0;
 
   private LifecycleManager lifecycleManager;
 
@@ -157,6 +162,29 @@ public class RemoteInterpreter extends Interpreter {
     }
   }
 
+  /**
+   * Open this interpreter, and also the interpreter in the interpreter process, which is
+   * otherwise only opened by the first interpret. So a paragraph which runs afterwards doesn't
+   * need to wait for the interpreter process to start and the interpreter to open,
+   * e.g. SparkContext to be created.
+   *
+   * @throws InterpreterException
+   */
+  public void warmUp() throws InterpreterException {
+    open();
+    interpreterProcess.callRemoteFunction(new RemoteInterpreterProcess.RemoteFunction<Void>() {
+      @Override
+      public Void call(Client client) throws Exception {
+        client.open(sessionId, className);
+        return null;
+      }
+    });
+  }
+
+  public long getLastInterpretTime() {
+    return lastInterpretTime;
+  }
+
   private void internal_create() throws IOException {
     synchronized (this) {
       if (!isCreated) {
@@ -221,14 +249,16 @@ public class RemoteInterpreter extends Interpreter {
       throw new InterpreterException("Interpreter process is not running:\n" +
               interpreterProcess.getErrorMessage());
     }
+    this.lastInterpretTime = System.currentTimeMillis();
     this.lifecycleManager.onInterpreterUse(this.getInterpreterGroup(), sessionId);
+    final RemoteInterpreterContextEncoder contextEncoder = interpreterProcess.getContextEncoder();
     return interpreterProcess.callRemoteFunction(
         new RemoteInterpreterProcess.RemoteFunction<InterpreterResult>() {
           @Override
           public InterpreterResult call(Client client) throws Exception {
 
-            RemoteInterpreterResult remoteResult = client.interpret(
-                sessionId, className, st, convert(context));
+            RemoteInterpreterResult remoteResult = contextEncoder.call(context,
+                ric -> client.interpret(sessionId, className, st, ric));
             Map<String, Object> remoteConfig = (Map<String, Object>) gson.fromJson(
                 remoteResult.getConfig(), new TypeToken<Map<String, Object>>() {
                 }.getType());
@@ -277,10 +307,14 @@ public class RemoteInterpreter extends Interpreter {
       throw new InterpreterException(e);
     }
     this.lifecycleManager.onInterpreterUse(this.getInterpreterGroup(), sessionId);
+    final RemoteInterpreterContextEncoder contextEncoder = interpreterProcess.getContextEncoder();
     interpreterProcess.callRemoteFunction(new RemoteInterpreterProcess.RemoteFunction<Void>() {
       @Override
       public Void call(Client client) throws Exception {
-        client.cancel(sessionId, className, convert(context));
+        contextEncoder.call(context, ric -> {
+          client.cancel(sessionId, className, ric);
+          return null;
+        });
         return null;
       }
     });
@@ -331,11 +365,13 @@ public class RemoteInterpreter extends Interpreter {
       throw new InterpreterException(e);
     }
     this.lifecycleManager.onInterpreterUse(this.getInterpreterGroup(), sessionId);
+    final RemoteInterpreterContextEncoder contextEncoder = interpreterProcess.getContextEncoder();
     return interpreterProcess.callRemoteFunction(
         new RemoteInterpreterProcess.RemoteFunction<Integer>() {
           @Override
           public Integer call(Client client) throws Exception {
-            return client.getProgress(sessionId, className, convert(context));
+            return contextEncoder.call(context,
+                ric -> client.getProgress(sessionId, className, ric));
           }
         });
   }
@@ -355,12 +391,13 @@ public class RemoteInterpreter extends Interpreter {
       throw new InterpreterException(e);
     }
     this.lifecycleManager.onInterpreterUse(this.getInterpreterGroup(), sessionId);
+    final RemoteInterpreterContextEncoder contextEncoder = interpreterProcess.getContextEncoder();
     return interpreterProcess.callRemoteFunction(
         new RemoteInterpreterProcess.RemoteFunction<List<InterpreterCompletion>>() {
           @Override
           public List<InterpreterCompletion> call(Client client) throws Exception {
-            return client.completion(sessionId, className, buf, cursor,
-                convert(interpreterContext));
+            return contextEncoder.call(interpreterContext,
+                ric -> client.completion(sessionId, className, buf, cursor, ric));
           }
         });
   }
@@ -394,16 +431,33 @@ public class RemoteInterpreter extends Interpreter {
     Scheduler s = new RemoteScheduler(
         RemoteInterpreter.class.getSimpleName() + "-" + getInterpreterGroup().getId() + "-" + sessionId,
         SchedulerFactory.singleton().getExecutor(),
-        this);
+        this,
+        FairScheduler.isEnabled(this) ? createFairJobQueue() : null);
     return SchedulerFactory.singleton().createOrGetScheduler(s);
   }
 
-  private RemoteInterpreterContext convert(InterpreterContext ic) {
-    return new RemoteInterpreterContext(ic.getNoteId(), ic.getNoteName(), ic.getParagraphId(),
-        ic.getReplName(), ic.getParagraphTitle(), ic.getParagraphText(),
-        gson.toJson(ic.getAuthenticationInfo()), gson.toJson(ic.getConfig()), ic.getGui().toJson(),
-        gson.toJson(ic.getNoteGui()),
-        ic.getLocalProperties());
+  /**
+   * RemoteScheduler sends one job at a time to the interpreter process, so the fair order
+   * has to be decided here. The concurrency of the interpreter process itself is capped by
+   * its FairScheduler, so only the per queue cap applies here.
+   */
+  private FairJobQueue createFairJobQueue() {
+    boolean queueByNote = FairScheduler.isQueueByNote(this);
+    return new FairJobQueue(Integer.MAX_VALUE,
+        FairScheduler.getMaxConcurrencyPerQueue(this),
+        FairScheduler.getWeights(this),
+        job -> {
+          if (!(job instanceof Paragraph)) {
+            return "anonymous";
+          }
+          Paragraph paragraph = (Paragraph) job;
+          if (queueByNote) {
+            return paragraph.getNote() == null ? "" : paragraph.getNote().getId();
+          }
+          AuthenticationInfo authInfo = paragraph.getAuthenticationInfo();
+          return authInfo == null || authInfo.getUser() == null ?
+              "anonymous" : authInfo.getUser();
+        });
   }
 
   private InterpreterResult convert(RemoteInterpreterResult result) {
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.thrift.ContextSegmentNotFoundException;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Converts InterpreterContext to RemoteInterpreterContext for one interpreter process.
+ *
+ * Big segments of the context (authenticationInfo, config, gui, noteGui and paragraphText) are
+ * identified by a digest of their content. A segment that the interpreter process has already
+ * received is only referenced by its id, the interpreter process fills it in from its
+ * RemoteInterpreterContextRegistry. So e.g. the forms of a paragraph are not sent again on every
+ * completion request.
+ *
+ * A segment only counts as received after a call carrying it succeeded. Any failed call forgets
+ * all segments, so the next call sends the full context again. When the interpreter process
+ * doesn't have a referenced segment any more (ContextSegmentNotFoundException), the call is
+ * retried right away with the full context.
+ */
+public class RemoteInterpreterContextEncoder {
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(RemoteInterpreterContextEncoder.class);
+
+  // must stay below RemoteInterpreterContextRegistry.DEFAULT_CAPACITY, so that the interpreter
+  // process doesn't evict segments that zeppelin server still references
+  public static final int DEFAULT_CAPACITY = 1024;
+  // referencing shorter segments doesn't save anything
+  public static final int MIN_SEGMENT_LENGTH = 64;
+
+  private static final RemoteInterpreterContext._Fields[] SEGMENTS = {
+      RemoteInterpreterContext._Fields.AUTHENTICATION_INFO,
+      RemoteInterpreterContext._Fields.CONFIG,
+      RemoteInterpreterContext._Fields.GUI,
+      RemoteInterpreterContext._Fields.NOTE_GUI,
+      RemoteInterpreterContext._Fields.PARAGRAPH_TEXT
+  };
+
+  private final Gson gson = new Gson();
+  private final Map<String, Boolean> registeredSegments;
+
+  public RemoteInterpreterContextEncoder() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public RemoteInterpreterContextEncoder(final int capacity) {
+    this.registeredSegments = Collections.synchronizedMap(
+        new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > capacity;
+          }
+        });
+  }
+
+  public RemoteInterpreterContext encode(InterpreterContext ic) {
+    RemoteInterpreterContext ric = new RemoteInterpreterContext();
+    ric.setNoteId(ic.getNoteId());
+    ric.setNoteName(ic.getNoteName());
+    ric.setParagraphId(ic.getParagraphId());
+    ric.setReplName(ic.getReplName());
+    ric.setParagraphTitle(ic.getParagraphTitle());
+    ric.setParagraphText(ic.getParagraphText());
+    ric.setAuthenticationInfo(gson.toJson(ic.getAuthenticationInfo()));
+    ric.setConfig(gson.toJson(ic.getConfig()));
+    ric.setGui(ic.getGui().toJson());
+    ric.setNoteGui(gson.toJson(ic.getNoteGui()));
+    ric.setLocalProperties(ic.getLocalProperties());
+
+    Map<String, String> segmentIds = new HashMap<>();
+    for (RemoteInterpreterContext._Fields field : SEGMENTS) {
+      String value = (String) ric.getFieldValue(field);
+      if (value == null || value.length() < MIN_SEGMENT_LENGTH) {
+        continue;
+      }
+      String id = Hashing.murmur3_128().hashString(value, StandardCharsets.UTF_8).toString();
+      segmentIds.put(field.getFieldName(), id);
+      if (registeredSegments.containsKey(id)) {
+        ric.setFieldValue(field, null);
+      }
+    }
+    ric.setSegmentIds(segmentIds);
+    return ric;
+  }
+
+  /**
+   * Invoked when the call carrying this context succeeded.
+   * @param ric
+   */
+  public void onDelivered(RemoteInterpreterContext ric) {
+    for (String id : ric.getSegmentIds().values()) {
+      registeredSegments.put(id, Boolean.TRUE);
+    }
+  }
+
+  /**
+   * Invoked when the call failed, or the interpreter process may have lost its registry.
+   */
+  public void reset() {
+    registeredSegments.clear();
+  }
+
+  /**
+   * Send the encoded context via given function and keep track of the delivered segments.
+   * @param ic
+   * @param func
+   * @param <T>
+   * @return
+   * @throws Exception
+   */
+  public <T> T call(InterpreterContext ic, ContextFunction<T> func) throws Exception {
+    try {
+      return deliver(encode(ic), func);
+    } catch (ContextSegmentNotFoundException e) {
+      // deliver forgot all segments, so every segment is sent inline this time.
+      // The interpreter process resolves the context before doing anything else, so the
+      // failed call had no effect and can be retried.
+      LOGGER.info("Interpreter process misses a context segment, resend the full context: {}",
+          e.getMessage());
+      return deliver(encode(ic), func);
+    }
+  }
+
+  private <T> T deliver(RemoteInterpreterContext ric, ContextFunction<T> func) throws Exception {
+    T result;
+    try {
+      result = func.call(ric);
+    } catch (Exception e) {
+      reset();
+      throw e;
+    }
+    onDelivered(ric);
+    return result;
+  }
+
+  /**
+   *
+   * @param <T>
+   */
+  public interface ContextFunction<T> {
+    T call(RemoteInterpreterContext ric) throws Exception;
+  }
+}
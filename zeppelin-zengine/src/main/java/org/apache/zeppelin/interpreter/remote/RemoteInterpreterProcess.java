@@ -19,6 +19,7 @@ package org.apache.zeppelin.interpreter.remote;
 import com.google.gson.Gson;
 import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.thrift.TException;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.launcher.InterpreterClient;
 import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterService.Client;
 import org.slf4j.Logger;
@@ -33,6 +34,8 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient {
   private GenericObjectPool<Client> clientPool;
   private int connectTimeout;
   private ClientFactory clientFactory = null;
+  private final RemoteInterpreterContextEncoder contextEncoder =
+      new RemoteInterpreterContextEncoder();
 
   public RemoteInterpreterProcess(
       int connectTimeout) {
@@ -45,12 +48,19 @@ public abstract class RemoteInterpreterProcess implements InterpreterClient {
 
   public synchronized Client getClient() throws Exception {
     if (clientPool == null || clientPool.isClosed()) {
-      clientFactory = new ClientFactory(getHost(), getPort());
+      clientFactory = new ClientFactory(getHost(), getPort(),
+          RemoteInterpreterTransport.create(ZeppelinConfiguration.create()));
       clientPool = new GenericObjectPool<>(clientFactory);
+      // new connection, the interpreter process may not know any context segment
+      contextEncoder.reset();
     }
     return clientPool.borrowObject();
   }
 
+  public RemoteInterpreterContextEncoder getContextEncoder() {
+    return contextEncoder;
+  }
+
   public void shutdown() {
 
     // Close client socket connection
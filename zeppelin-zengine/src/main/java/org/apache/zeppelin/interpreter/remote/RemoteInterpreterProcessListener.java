@@ -93,4 +93,12 @@ public interface RemoteInterpreterProcessListener {
    * @param paragraphId
    */
   void checkpointOutput(String noteId, String paragraphId);
+
+  /**
+   * Invoked when the progress of paragraph is pushed from interpreter process.
+   * @param noteId
+   * @param paragraphId
+   * @param progress
+   */
+  void onParagraphProgressUpdate(String noteId, String paragraphId, int progress);
 }
@@ -204,6 +204,20 @@ public class Note implements JsonSerializable {
     }
   }
 
+  /**
+   * Drop the personalized paragraphs of a user which are not running, they are created again
+   * from the base paragraphs when the user opens the note.
+   *
+   * @param user
+   */
+  public void removeUserParagraphs(String user) {
+    synchronized (paragraphs) {
+      for (Paragraph p : paragraphs) {
+        p.removeUserParagraph(user);
+      }
+    }
+  }
+
   public String getId() {
     return id;
   }
@@ -390,14 +404,24 @@ public class Note implements JsonSerializable {
   }
 
   public Boolean isCronSupported(ZeppelinConfiguration config) {
+    return isCronSupported(config, getName());
+  }
+
+  /**
+   * Whether cron is supported for the note with this name, so that it can be checked
+   * without loading the note.
+   * @param config
+   * @param noteName
+   * @return
+   */
+  public static boolean isCronSupported(ZeppelinConfiguration config, String noteName) {
     if (config.isZeppelinNotebookCronEnable()) {
-      config.getZeppelinNotebookCronFolders();
       if (config.getZeppelinNotebookCronFolders() == null) {
         return true;
       } else {
         for (String folder : config.getZeppelinNotebookCronFolders().split(",")) {
           folder = folder.replaceAll("\\*", "\\.*").replaceAll("\\?", "\\.");
-          if (getName().matches(folder)) {
+          if (noteName.matches(folder)) {
             return true;
           }
         }
@@ -620,6 +644,7 @@ public class Note implements JsonSerializable {
   public Paragraph removeParagraph(String user, String paragraphId) {
     removeAllAngularObjectInParagraph(user, paragraphId);
     interpreterSettingManager.removeResourcesBelongsToParagraph(getId(), paragraphId);
+    invalidateCachedResult(paragraphId);
     synchronized (paragraphs) {
       Iterator<Paragraph> i = paragraphs.iterator();
       while (i.hasNext()) {
@@ -642,6 +667,15 @@ public class Note implements JsonSerializable {
     p.setReturn(null, null);
     p.cleanRuntimeInfos();
     p.cleanOutputBuffer();
+    invalidateCachedResult(p.getId());
+  }
+
+  // a cleared output means the paragraph should really run next time
+  private void invalidateCachedResult(String paragraphId) {
+    if (interpreterSettingManager != null
+        && interpreterSettingManager.getParagraphResultCache() != null) {
+      interpreterSettingManager.getParagraphResultCache().invalidateParagraph(paragraphId);
+    }
   }
 
   public Paragraph clearPersonalizedParagraphOutput(String paragraphId, String user) {
@@ -651,7 +685,7 @@ public class Note implements JsonSerializable {
           continue;
         }
 
-        p = p.getUserParagraphMap().get(user);
+        p = p.getUserParagraph(user);
         clearParagraphOutputFields(p);
         return p;
       }
@@ -686,6 +720,7 @@ public class Note implements JsonSerializable {
     synchronized (paragraphs) {
       for (Paragraph p : paragraphs) {
         p.setReturn(null, null);
+        invalidateCachedResult(p.getId());
       }
     }
   }
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cron settings of Note: cron expression, executing user/roles and release resource flag.
+ * Kept in the notebook cron index next to NoteInfo, so that cron jobs can be registered
+ * without loading the note.
+ */
+public class NoteCronInfo {
+  private String cron;
+  private String cronExecutingUser;
+  private String cronExecutingRoles;
+  private boolean releaseResource;
+
+  public NoteCronInfo(String cron, String cronExecutingUser, String cronExecutingRoles,
+                      boolean releaseResource) {
+    this.cron = cron;
+    this.cronExecutingUser = cronExecutingUser;
+    this.cronExecutingRoles = cronExecutingRoles;
+    this.releaseResource = releaseResource;
+  }
+
+  /**
+   * @param note
+   * @return cron settings of note, or null when note has no cron expression
+   */
+  public static NoteCronInfo fromNote(Note note) {
+    Map<String, Object> config = note.getConfig();
+    if (config == null) {
+      return null;
+    }
+    String cron = (String) config.get("cron");
+    if (cron == null || cron.trim().length() == 0) {
+      return null;
+    }
+    Object releaseResource = config.get("releaseresource");
+    return new NoteCronInfo(cron,
+        (String) config.get("cronExecutingUser"),
+        (String) config.get("cronExecutingRoles"),
+        releaseResource instanceof Boolean && (Boolean) releaseResource);
+  }
+
+  public String getCron() {
+    return cron;
+  }
+
+  public String getCronExecutingUser() {
+    return cronExecutingUser;
+  }
+
+  public String getCronExecutingRoles() {
+    return cronExecutingRoles;
+  }
+
+  public boolean isReleaseResource() {
+    return releaseResource;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    NoteCronInfo that = (NoteCronInfo) o;
+    return releaseResource == that.releaseResource &&
+        Objects.equals(cron, that.cron) &&
+        Objects.equals(cronExecutingUser, that.cronExecutingUser) &&
+        Objects.equals(cronExecutingRoles, that.cronExecutingRoles);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(cron, cronExecutingUser, cronExecutingRoles, releaseResource);
+  }
+}
@@ -95,6 +95,24 @@ public class NoteManager {
     return notes;
   }
 
+  /**
+   * @return notes which are loaded from NotebookRepo already, without loading the others
+   */
+  public List<Note> getLoadedNotes() {
+    List<Note> notes = new ArrayList<>();
+    for (String notePath : notesInfo.values()) {
+      try {
+        NoteNode noteNode = getNoteNode(notePath);
+        if (noteNode.isLoaded()) {
+          notes.add(noteNode.getNote());
+        }
+      } catch (IOException e) {
+        LOGGER.warn("Fail to get note: " + notePath, e);
+      }
+    }
+    return notes;
+  }
+
   /**
    *
    * @throws IOException
@@ -515,6 +533,10 @@ public class NoteManager {
      * @return
      * @throws IOException
      */
+    public synchronized boolean isLoaded() {
+      return note.isLoaded();
+    }
+
     public synchronized Note getNote() throws IOException {
       if (!note.isLoaded()) {
         note = notebookRepo.get(note.getId(), note.getPath(), AuthenticationInfo.ANONYMOUS);
@@ -501,6 +501,22 @@ public class Notebook {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Drop the personalized paragraphs of a user in the loaded notes which func accepts, e.g.
+   * when the session of the user ends. Notes which are not loaded have no personalized
+   * paragraphs.
+   *
+   * @param user
+   * @param func
+   */
+  public void removeUserParagraphs(String user, Function<Note, Boolean> func) {
+    for (Note note : noteManager.getLoadedNotes()) {
+      if (note.isPersonalizedMode() && func.apply(note)) {
+        note.removeUserParagraphs(user);
+      }
+    }
+  }
+
   public List<NoteInfo> getNotesInfo(Function<String, Boolean> func) {
     String homescreenNoteId = conf.getString(ConfVars.ZEPPELIN_NOTEBOOK_HOMESCREEN);
     boolean hideHomeScreenNotebookFromList =
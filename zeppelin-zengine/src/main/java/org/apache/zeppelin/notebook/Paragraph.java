@@ -17,6 +17,7 @@
 
 package org.apache.zeppelin.notebook;
 
+import java.io.File;
 import java.io.IOException;
 import java.security.SecureRandom;
 import java.util.ArrayList;
@@ -28,12 +29,14 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.zeppelin.common.JsonSerializable;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.display.AngularObjectRegistry;
 import org.apache.zeppelin.display.GUI;
@@ -98,11 +101,25 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
   private transient Note note;
   private transient AuthenticationInfo subject;
   // personalized
-  private transient Map<String, Paragraph> userParagraphMap = new HashMap<>();
+  private transient Map<String, Paragraph> userParagraphMap = new ConcurrentHashMap<>();
   private transient Map<String, String> localProperties = new HashMap<>();
+  // base paragraph of a personalized paragraph, null for the base paragraph itself.
+  // A personalized paragraph shares text, config and forms with its base paragraph until
+  // it changes them, see cloneParagraphForUser
+  private transient Paragraph parent;
+  private transient boolean configShared = false;
+  private transient boolean localPropertiesShared = false;
   // serialize runtimeInfos to frontend but not to note file (via gson's ExclusionStrategy)
   private Map<String, ParagraphRuntimeInfo> runtimeInfos = new HashMap<>();
-  private transient List<InterpreterResultMessage> outputBuffer = new ArrayList<>();
+  // output streamed while the paragraph is running, null when it is not running
+  private transient volatile ParagraphOutputJournal outputJournal;
+  // output streamed while the paragraph is running when the journal can't be used
+  private transient volatile List<InterpreterResultMessage> outputBuffer;
+  // progress pushed by the interpreter process, -1 until the first push of the current run
+  private transient volatile int remoteProgress = -1;
+  // runs of this paragraph which are served by / missed the ParagraphResultCache
+  private transient long resultCacheHits = 0;
+  private transient long resultCacheMisses = 0;
 
 
 
@@ -135,6 +152,12 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
     setStatus(p2.getStatus());
   }
 
+  // used for personalized paragraph, see newUserParagraph
+  private Paragraph(String paragraphId, Paragraph parent) {
+    super(paragraphId, null);
+    this.parent = parent;
+  }
+
   private static String generateId() {
     return "paragraph_" + System.currentTimeMillis() + "_" + new SecureRandom().nextInt();
   }
@@ -144,10 +167,7 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
   }
 
   public Paragraph getUserParagraph(String user) {
-    if (!userParagraphMap.containsKey(user)) {
-      cloneParagraphForUser(user);
-    }
-    return userParagraphMap.get(user);
+    return userParagraphMap.computeIfAbsent(user, u -> newUserParagraph());
   }
 
   @Override
@@ -156,13 +176,47 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
   }
 
   public Paragraph cloneParagraphForUser(String user) {
-    Paragraph p = new Paragraph(this);
+    Paragraph p = newUserParagraph();
+    addUser(p, user);
+    return p;
+  }
+
+  /**
+   * Create a personalized paragraph which only keeps what differs per user, i.e. status,
+   * results and form params. Text, title, config and forms are shared with this paragraph and
+   * only copied when the personalized paragraph changes them.
+   */
+  private Paragraph newUserParagraph() {
+    Paragraph p = new Paragraph(getId(), this);
+    p.note = note;
+    p.setAuthenticationInfo(getAuthenticationInfo());
+    p.title = title;
+    p.shareText();
+    p.config = config;
+    p.configShared = true;
+    p.settings.setParams(Maps.newHashMap(settings.getParams()));
+    p.settings.setForms(settings.getForms());
+    p.results = results;
     // reset status to READY when clone Paragraph for personalization.
     p.status = Status.READY;
-    addUser(p, user);
     return p;
   }
 
+  private void shareText() {
+    this.text = parent.text;
+    this.intpText = parent.intpText;
+    this.scriptText = parent.scriptText;
+    this.localProperties = parent.localProperties;
+    this.localPropertiesShared = true;
+  }
+
+  /**
+   * @return base paragraph of a personalized paragraph, null if this is not a personalized one
+   */
+  public Paragraph getParentParagraph() {
+    return parent;
+  }
+
   private void setIntpText(String newIntptext) {
     this.intpText = newIntptext;
   }
@@ -175,6 +229,20 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
     userParagraphMap.put(user, p);
   }
 
+  /**
+   * Drop the personalized paragraph of a user, e.g. when the user doesn't watch the note
+   * anymore. It is kept while it is running.
+   *
+   * @return true if it is dropped
+   */
+  public boolean removeUserParagraph(String user) {
+    Paragraph p = userParagraphMap.get(user);
+    if (p == null || p.isRunning() || p.getStatus() == Status.PENDING) {
+      return false;
+    }
+    return userParagraphMap.remove(user, p);
+  }
+
   public String getUser() {
     return user;
   }
@@ -184,8 +252,17 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
   }
 
   public void setText(String newText) {
-    this.text = newText;
     this.dateUpdated = new Date();
+    if (parent != null && StringUtils.equals(newText, parent.text)) {
+      // same text as the base paragraph, no need to keep a parsed copy of it
+      shareText();
+      return;
+    }
+    this.text = newText;
+    if (localPropertiesShared) {
+      this.localProperties = new HashMap<>();
+      this.localPropertiesShared = false;
+    }
     parseText();
   }
 
@@ -222,7 +299,9 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
         } else {
           this.scriptText = this.text.substring(headingSpace.length() + intpText.length() + 1).trim();
         }
-        config.putAll(localProperties);
+        if (!localProperties.isEmpty()) {
+          writableConfig().putAll(localProperties);
+        }
       } else {
         setIntpText("");
         this.scriptText = this.text.trim();
@@ -319,8 +398,64 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
     return results;
   }
 
+  @Override
+  public void onJobStarted() {
+    this.remoteProgress = -1;
+    openOutputJournal();
+    super.onJobStarted();
+  }
+
+  @Override
+  public void onJobEnded() {
+    super.onJobEnded();
+    cleanOutputBuffer();
+  }
+
+  private void openOutputJournal() {
+    cleanOutputBuffer();
+    String noteId = note == null ? "note" : note.getId();
+    try {
+      outputJournal = new ParagraphOutputJournal(
+          new File(ZeppelinConfiguration.create().getParagraphOutputJournalDir()),
+          noteId + "_" + getId());
+    } catch (IOException e) {
+      LOGGER.warn("Fail to create output journal of paragraph " + getId()
+          + ", streamed output is kept in memory", e);
+      outputBuffer = new ArrayList<>();
+    }
+  }
+
+  /**
+   * @return output streamed while the paragraph is running, null when it is not running
+   */
+  public List<InterpreterResultMessage> getRunningOutput() throws IOException {
+    ParagraphOutputJournal journal = outputJournal;
+    if (journal != null) {
+      return journal.toMessages();
+    }
+    List<InterpreterResultMessage> buffer = outputBuffer;
+    if (buffer == null) {
+      return null;
+    }
+    synchronized (buffer) {
+      return new ArrayList<>(buffer);
+    }
+  }
+
+  /**
+   * Invoked when the interpreter process pushes the progress of this paragraph.
+   * Once it is pushed, progress() doesn't need to ask the interpreter process anymore.
+   * @param progress
+   */
+  public void setRemoteProgress(int progress) {
+    this.remoteProgress = progress;
+  }
+
   @Override
   public int progress() {
+    if (this.remoteProgress >= 0) {
+      return this.remoteProgress;
+    }
     try {
       if (this.interpreter != null) {
         return this.interpreter.getProgress(getInterpreterContext());
@@ -361,7 +496,7 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
       }
       setStatus(Status.READY);
 
-      if (getConfig().get("enabled") == null || (Boolean) getConfig().get("enabled")) {
+      if (isEnabled()) {
         setAuthenticationInfo(getAuthenticationInfo());
         interpreter.getScheduler().submit(this);
       }
@@ -456,6 +591,27 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
         settings.clear();
       }
 
+      ParagraphResultCache resultCache = getResultCache();
+      String resultCacheKey = null;
+      if (resultCache != null) {
+        resultCacheKey = ParagraphResultCache.key(interpreterSetting.getId(), user, note.getId(),
+            getId(), intpText, script, localProperties, settings.getParams(),
+            note.getNoteParams());
+        InterpreterResult cachedResult = resultCache.get(resultCacheKey);
+        if (cachedResult != null) {
+          LOGGER.info("Use cached result of paragraph {}", getId());
+          resultCacheHits++;
+          updateResultCacheInfo(true, interpreterSetting.getId());
+          Paragraph p = getUserParagraph(getUser());
+          if (null != p) {
+            p.setResult(cachedResult);
+            p.settings.setParams(settings.getParams());
+          }
+          return cachedResult;
+        }
+        resultCacheMisses++;
+      }
+
       LOGGER.debug("RUN : " + script);
       try {
         InterpreterContext context = getInterpreterContext();
@@ -486,6 +642,13 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
           return getReturn();
         }
 
+        if (resultCacheKey != null) {
+          if (Code.SUCCESS == ret.code()) {
+            resultCache.put(resultCacheKey, interpreterSetting.getId(), getId(), ret);
+          }
+          updateResultCacheInfo(false, interpreterSetting.getId());
+        }
+
         Paragraph p = getUserParagraph(getUser());
         if (null != p) {
           p.setResult(ret);
@@ -501,6 +664,35 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
     }
   }
 
+  /**
+   * @return the result cache if it is enabled for this paragraph, otherwise null
+   */
+  private ParagraphResultCache getResultCache() {
+    Object cacheResult = config.get(ParagraphResultCache.PARAGRAPH_CONFIG_CACHE_RESULT);
+    // it is a String when it is set as local property, e.g. %jdbc(cacheResult=true)
+    if (cacheResult == null || !Boolean.parseBoolean(cacheResult.toString())
+        || note.getInterpreterSettingManager() == null) {
+      return null;
+    }
+    ParagraphResultCache resultCache =
+        note.getInterpreterSettingManager().getParagraphResultCache();
+    return resultCache != null && resultCache.isEnabled() ? resultCache : null;
+  }
+
+  private void updateResultCacheInfo(boolean hit, String intpSettingId) {
+    Map<String, String> infos = new HashMap<>();
+    infos.put("hit", String.valueOf(hit));
+    infos.put("hits", String.valueOf(resultCacheHits));
+    infos.put("misses", String.valueOf(resultCacheMisses));
+    infos.put("hitRate",
+        String.format("%.2f", (double) resultCacheHits / (resultCacheHits + resultCacheMisses)));
+    ParagraphRuntimeInfo info = new ParagraphRuntimeInfo(
+        "resultCache", "Result cache", "Hit rate of the result cache", "resultCache",
+        intpSettingId);
+    info.addValue(infos);
+    this.runtimeInfos.put("resultCache", info);
+  }
+
   @Override
   protected boolean jobAbort() {
     if (interpreter == null) {
@@ -541,7 +733,7 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
             .setParagraphText(text)
             .setAuthenticationInfo(subject)
             .setLocalProperties(localProperties)
-            .setConfig(config)
+            .setConfig(writableConfig())
             .setGUI(settings)
             .setNoteGUI(getNoteGui())
             .setAngularObjectRegistry(registry)
@@ -558,13 +750,24 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
   }
 
   public Map<String, Object> getConfig() {
-    return config;
+    // callers may change the returned config
+    return writableConfig();
   }
 
   // NOTE: function setConfig(...) will overwrite all configuration
   // Merge configuration, you need to use function mergeConfig(...)
   public void setConfig(Map<String, Object> config) {
     this.config = config;
+    this.configShared = parent != null && config == parent.config;
+  }
+
+  // copy the config shared with the base paragraph before it is changed
+  private Map<String, Object> writableConfig() {
+    if (configShared) {
+      config = new HashMap<>(config);
+      configShared = false;
+    }
+    return config;
   }
 
   // [ZEPPELIN-3919] Paragraph config default value can be customized
@@ -579,7 +782,10 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
   //    Need to delete the existing configuration of this paragraph,
   //    update with the specified interpreter configuration
   public void mergeConfig(Map<String, Object> newConfig) {
-    this.config.putAll(newConfig);
+    if (configShared && config.entrySet().containsAll(newConfig.entrySet())) {
+      return;
+    }
+    writableConfig().putAll(newConfig);
   }
 
   public void setReturn(InterpreterResult value, Throwable t) {
@@ -682,7 +888,12 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
   }
 
   public void cleanOutputBuffer() {
-    this.outputBuffer.clear();
+    ParagraphOutputJournal journal = outputJournal;
+    outputJournal = null;
+    outputBuffer = null;
+    if (journal != null) {
+      journal.close();
+    }
   }
 
   /**
@@ -691,9 +902,18 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
    */
   public void checkpointOutput() {
     LOGGER.info("Checkpoint Paragraph output for paragraph: " + getId());
-    this.results = new InterpreterResult(Code.SUCCESS);
-    for (InterpreterResultMessage buffer : outputBuffer) {
-      results.add(buffer);
+    try {
+      List<InterpreterResultMessage> messages = getRunningOutput();
+      if (messages == null) {
+        return;
+      }
+      InterpreterResult checkpoint = new InterpreterResult(Code.SUCCESS);
+      for (InterpreterResultMessage message : messages) {
+        checkpoint.add(message);
+      }
+      this.results = checkpoint;
+    } catch (IOException e) {
+      LOGGER.warn("Fail to read output journal of paragraph " + getId(), e);
     }
   }
 
@@ -766,14 +986,79 @@ public class Paragraph extends JobWithProgressPoller<InterpreterResult> implemen
   }
 
   public void updateOutputBuffer(int index, InterpreterResult.Type type, String output) {
-    InterpreterResultMessage interpreterResultMessage = new InterpreterResultMessage(type, output);;
-    if (outputBuffer.size() == index) {
-      outputBuffer.add(interpreterResultMessage);
-    } else if (outputBuffer.size() > index) {
-      outputBuffer.set(index, interpreterResultMessage);
-    } else {
-      LOGGER.warn("Get output of index: " + index + ", but there's only " +
-              outputBuffer.size() + " output in outputBuffer");
+    ParagraphOutputJournal journal = outputJournal;
+    if (journal != null) {
+      try {
+        journal.update(index, type, output);
+        return;
+      } catch (IOException e) {
+        switchToOutputBuffer(journal, e);
+      }
+    }
+    List<InterpreterResultMessage> buffer = outputBuffer;
+    if (buffer == null) {
+      return;
+    }
+    synchronized (buffer) {
+      InterpreterResultMessage message = new InterpreterResultMessage(type, output);
+      if (buffer.size() == index) {
+        buffer.add(message);
+      } else if (buffer.size() > index) {
+        buffer.set(index, message);
+      } else {
+        LOGGER.warn("Get output of index: " + index + ", but there's only "
+            + buffer.size() + " output in outputBuffer");
+      }
+    }
+  }
+
+  public void appendOutputBuffer(int index, String output) {
+    ParagraphOutputJournal journal = outputJournal;
+    if (journal != null) {
+      try {
+        journal.append(index, output);
+        return;
+      } catch (IOException e) {
+        switchToOutputBuffer(journal, e);
+      }
+    }
+    List<InterpreterResultMessage> buffer = outputBuffer;
+    if (buffer == null) {
+      return;
+    }
+    synchronized (buffer) {
+      if (buffer.size() == index) {
+        // appends are only sent for text and table, a new output is text by default
+        buffer.add(new InterpreterResultMessage(InterpreterResult.Type.TEXT, output));
+      } else if (buffer.size() > index) {
+        InterpreterResultMessage message = buffer.get(index);
+        buffer.set(index,
+            new InterpreterResultMessage(message.getType(), message.getData() + output));
+      } else {
+        LOGGER.warn("Get output of index: " + index + ", but there's only "
+            + buffer.size() + " output in outputBuffer");
+      }
+    }
+  }
+
+  /**
+   * Keep the output in memory from now on, starting with what the journal has so far.
+   */
+  private synchronized void switchToOutputBuffer(ParagraphOutputJournal journal,
+                                                 IOException e) {
+    if (outputJournal != journal) {
+      return;
+    }
+    LOGGER.warn("Fail to write output journal of paragraph " + getId()
+        + ", streamed output is kept in memory from now on", e);
+    List<InterpreterResultMessage> buffer = new ArrayList<>();
+    try {
+      buffer.addAll(journal.toMessages());
+    } catch (IOException ex) {
+      LOGGER.warn("Fail to read output journal of paragraph " + getId(), ex);
     }
+    outputBuffer = buffer;
+    outputJournal = null;
+    journal.close();
   }
 }
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.apache.zeppelin.util.OwnerOnlyFiles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Append only journal of the output of a running paragraph, kept in a file instead of the heap.
+ *
+ * Every output append and update is a record of the journal. The output of the paragraph so far
+ * is built by replaying the journal from the last update of every output. The journal file is
+ * only accessible by the owner, and is deleted when the journal is closed.
+ */
+public class ParagraphOutputJournal {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ParagraphOutputJournal.class);
+
+  private static final byte APPEND = 'A';
+  private static final byte UPDATE = 'U';
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+  private final Path path;
+  private final FileChannel channel;
+  private long offset = 0;
+  // offset of the record where every output starts, i.e. its first record or its last update
+  private final List<Long> outputStarts = new ArrayList<>();
+  private ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+  /**
+   * Create a journal file in dir.
+   *
+   * @param dir
+   * @param name prefix of the journal file name
+   * @throws IOException
+   */
+  public ParagraphOutputJournal(File dir, String name) throws IOException {
+    this.path = OwnerOnlyFiles.createTempFile(dir.toPath(), name + "_", ".journal");
+    this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+  }
+
+  public synchronized void append(int index, String data) throws IOException {
+    write(APPEND, index, null, data);
+  }
+
+  public synchronized void update(int index, InterpreterResult.Type type, String data)
+      throws IOException {
+    write(UPDATE, index, type, data);
+  }
+
+  private void write(byte kind, int index, InterpreterResult.Type type, String data)
+      throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length() + 32);
+    DataOutputStream out = new DataOutputStream(bytes);
+    byte[] dataBytes = data.getBytes(StandardCharsets.UTF_8);
+    out.writeByte(kind);
+    out.writeInt(index);
+    out.writeUTF(type == null ? "" : type.name());
+    out.writeInt(dataBytes.length);
+    out.write(dataBytes);
+    out.flush();
+    long start = offset;
+    ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+    while (buffer.hasRemaining()) {
+      offset += channel.write(buffer, offset);
+    }
+    if (index == outputStarts.size()) {
+      outputStarts.add(start);
+    } else if (index < outputStarts.size() && kind == UPDATE) {
+      outputStarts.set(index, start);
+    }
+  }
+
+  /**
+   * Replay the journal. Only the records since the last update of every output are read, older
+   * ones are replaced by that update.
+   *
+   * @return the output of the paragraph so far
+   */
+  public synchronized List<InterpreterResultMessage> toMessages() throws IOException {
+    int numOutputs = outputStarts.size();
+    InterpreterResult.Type[] types = new InterpreterResult.Type[numOutputs];
+    StringBuilder[] data = new StringBuilder[numOutputs];
+    RecordReader reader =
+        new RecordReader(numOutputs == 0 ? offset : Collections.min(outputStarts));
+    try {
+      while (reader.hasNext()) {
+        long start = reader.getPosition();
+        reader.readHeader();
+        int index = reader.index;
+        if (index >= numOutputs) {
+          LOGGER.warn("Get output of index: " + index + ", but there's only " + numOutputs
+              + " output in journal");
+          reader.skipData();
+        } else if (start < outputStarts.get(index)) {
+          // replaced by a later update
+          reader.skipData();
+        } else if (start == outputStarts.get(index)) {
+          // appends are only sent for text and table, a new output is text by default
+          types[index] = reader.kind == APPEND ? InterpreterResult.Type.TEXT : reader.type;
+          data[index] = new StringBuilder(reader.readData());
+        } else {
+          data[index].append(reader.readData());
+        }
+      }
+    } finally {
+      reader.close();
+    }
+    List<InterpreterResultMessage> messages = new ArrayList<>();
+    for (int i = 0; i < numOutputs; i++) {
+      messages.add(new InterpreterResultMessage(types[i], data[i].toString()));
+    }
+    return messages;
+  }
+
+  /**
+   * Close the journal and delete its file.
+   */
+  public synchronized void close() {
+    try {
+      channel.close();
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      LOGGER.warn("Fail to delete paragraph output journal " + path, e);
+    }
+  }
+
+  /**
+   * Reads the records from a position through readBuffer, a bounded chunk of the file at a
+   * time. The buffer only grows for a record which doesn't fit, and is shrunk again on close.
+   */
+  private class RecordReader {
+    // position in the journal of the start of readBuffer
+    private long bufferPosition;
+    private byte kind;
+    private int index;
+    private InterpreterResult.Type type;
+    private int dataLength;
+
+    RecordReader(long position) {
+      this.bufferPosition = position;
+      readBuffer.clear();
+      readBuffer.limit(0);
+    }
+
+    long getPosition() {
+      return bufferPosition + readBuffer.position();
+    }
+
+    boolean hasNext() {
+      return getPosition() < offset;
+    }
+
+    void readHeader() throws IOException {
+      fill(1 + 4 + 2);
+      kind = readBuffer.get();
+      index = readBuffer.getInt();
+      int typeLength = readBuffer.getShort() & 0xffff;
+      fill(typeLength + 4);
+      byte[] typeBytes = new byte[typeLength];
+      readBuffer.get(typeBytes);
+      String typeName = new String(typeBytes, StandardCharsets.UTF_8);
+      type = typeName.isEmpty() ? null : InterpreterResult.Type.valueOf(typeName);
+      dataLength = readBuffer.getInt();
+    }
+
+    String readData() throws IOException {
+      fill(dataLength);
+      String data = new String(readBuffer.array(), readBuffer.arrayOffset()
+          + readBuffer.position(), dataLength, StandardCharsets.UTF_8);
+      readBuffer.position(readBuffer.position() + dataLength);
+      return data;
+    }
+
+    void skipData() {
+      if (readBuffer.remaining() >= dataLength) {
+        readBuffer.position(readBuffer.position() + dataLength);
+      } else {
+        bufferPosition = getPosition() + dataLength;
+        readBuffer.clear();
+        readBuffer.limit(0);
+      }
+    }
+
+    /**
+     * Make sure readBuffer has at least length bytes remaining.
+     */
+    private void fill(int length) throws IOException {
+      if (readBuffer.remaining() >= length) {
+        return;
+      }
+      bufferPosition = getPosition();
+      if (readBuffer.capacity() < length) {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.put(readBuffer);
+        readBuffer = buffer;
+      } else {
+        readBuffer.compact();
+      }
+      long end = Math.min(offset, bufferPosition + readBuffer.capacity());
+      readBuffer.limit((int) (end - bufferPosition));
+      while (readBuffer.hasRemaining()) {
+        if (channel.read(readBuffer, bufferPosition + readBuffer.position()) < 0) {
+          break;
+        }
+      }
+      readBuffer.flip();
+      if (readBuffer.remaining() < length) {
+        throw new IOException("Unexpected end of journal " + path + " at "
+            + (bufferPosition + readBuffer.remaining()));
+      }
+    }
+
+    void close() {
+      if (readBuffer.capacity() > READ_BUFFER_SIZE) {
+        readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+      }
+    }
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Cache of paragraph results, for paragraphs which enable cacheResult in their config, e.g.
+ * %jdbc(cacheResult=true).
+ *
+ * A result is cached under the hash of everything which determines it: the interpreter setting,
+ * user, note and paragraph, the parsed paragraph text with its local properties, and the form
+ * params. Entries expire after ttl ms, and the least recently used entries are evicted when the
+ * total size of the results exceeds maxSize bytes. All results of an interpreter setting are
+ * dropped when its interpreters are closed, e.g. on restart, because the state they depend on
+ * is gone.
+ */
+public class ParagraphResultCache {
+
+  // paragraph config to enable the cache for the paragraph
+  public static final String PARAGRAPH_CONFIG_CACHE_RESULT = "cacheResult";
+
+  private final long ttl;
+  private final long maxSize;
+  // key -> entry, in access order
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long size = 0;
+
+  /**
+   * @param ttl time in ms an entry is used
+   * @param maxSize max total size of the results in bytes, 0 to disable the cache
+   */
+  public ParagraphResultCache(long ttl, long maxSize) {
+    this.ttl = ttl;
+    this.maxSize = maxSize;
+  }
+
+  public boolean isEnabled() {
+    return maxSize > 0 && ttl > 0;
+  }
+
+  /**
+   * @return the cached result, null if there's no result or it is expired
+   */
+  public synchronized InterpreterResult get(String key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expireTime <= System.currentTimeMillis()) {
+      remove(key);
+      return null;
+    }
+    return copy(entry.result);
+  }
+
+  public synchronized void put(String key, String interpreterSettingId, String paragraphId,
+                               InterpreterResult result) {
+    if (!isEnabled()) {
+      return;
+    }
+    long resultSize = sizeOf(result);
+    remove(key);
+    if (resultSize > maxSize) {
+      return;
+    }
+    Entry entry = new Entry(interpreterSettingId, paragraphId, copy(result), resultSize,
+        System.currentTimeMillis() + ttl);
+    entries.put(key, entry);
+    size += resultSize;
+    Iterator<Entry> it = entries.values().iterator();
+    while (size > maxSize && it.hasNext()) {
+      size -= it.next().size;
+      it.remove();
+    }
+  }
+
+  /**
+   * Drop all results of the interpreter setting.
+   */
+  public synchronized void invalidateInterpreterSetting(String interpreterSettingId) {
+    removeIf(entry -> entry.interpreterSettingId.equals(interpreterSettingId));
+  }
+
+  /**
+   * Drop all results of the paragraph, e.g. when its output is cleared.
+   */
+  public synchronized void invalidateParagraph(String paragraphId) {
+    removeIf(entry -> entry.paragraphId.equals(paragraphId));
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+    size = 0;
+  }
+
+  public synchronized int getNumEntries() {
+    return entries.size();
+  }
+
+  public synchronized long getSize() {
+    return size;
+  }
+
+  private void remove(String key) {
+    Entry entry = entries.remove(key);
+    if (entry != null) {
+      size -= entry.size;
+    }
+  }
+
+  private void removeIf(Predicate<Entry> predicate) {
+    Iterator<Entry> it = entries.values().iterator();
+    while (it.hasNext()) {
+      Entry entry = it.next();
+      if (predicate.test(entry)) {
+        size -= entry.size;
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * Build the cache key of a paragraph run.
+   *
+   * @param interpreterSettingId
+   * @param user
+   * @param noteId
+   * @param paragraphId
+   * @param intpText interpreter name of the paragraph text
+   * @param scriptText script of the paragraph text, with the form params substituted
+   * @param localProperties
+   * @param params params of the paragraph forms
+   * @param noteParams params of the note forms
+   * @return
+   */
+  public static String key(String interpreterSettingId, String user, String noteId,
+                           String paragraphId, String intpText, String scriptText,
+                           Map<String, String> localProperties, Map<String, Object> params,
+                           Map<String, Object> noteParams) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+    for (Object part : new Object[]{interpreterSettingId, user, noteId, paragraphId, intpText,
+        scriptText, sorted(localProperties), sorted(params), sorted(noteParams)}) {
+      byte[] bytes = String.valueOf(part).getBytes(StandardCharsets.UTF_8);
+      // prefix each part with its length, so the parts can't run into each other
+      digest.update((bytes.length + ":").getBytes(StandardCharsets.UTF_8));
+      digest.update(bytes);
+    }
+    StringBuilder key = new StringBuilder();
+    for (byte b : digest.digest()) {
+      key.append(String.format("%02x", b));
+    }
+    return key.toString();
+  }
+
+  private static Map<String, ?> sorted(Map<String, ?> map) {
+    return map == null ? null : new TreeMap<>(map);
+  }
+
+  private static long sizeOf(InterpreterResult result) {
+    // chars are 2 bytes, plus some overhead for each message
+    long resultSize = 64;
+    for (InterpreterResultMessage message : result.message()) {
+      resultSize += 64 + 2L * message.getData().length();
+    }
+    return resultSize;
+  }
+
+  private static InterpreterResult copy(InterpreterResult result) {
+    return new InterpreterResult(result.code(), result.message());
+  }
+
+  private static class Entry {
+    private final String interpreterSettingId;
+    private final String paragraphId;
+    private final InterpreterResult result;
+    private final long size;
+    private final long expireTime;
+
+    Entry(String interpreterSettingId, String paragraphId, InterpreterResult result, long size,
+          long expireTime) {
+      this.interpreterSettingId = interpreterSettingId;
+      this.paragraphId = paragraphId;
+      this.result = result;
+      this.size = size;
+      this.expireTime = expireTime;
+    }
+  }
+}
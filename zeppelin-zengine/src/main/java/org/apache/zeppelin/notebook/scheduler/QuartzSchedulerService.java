@@ -17,16 +17,35 @@
 
 package org.apache.zeppelin.notebook.scheduler;
 
+import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteCronInfo;
+import org.apache.zeppelin.notebook.NoteEventListener;
+import org.apache.zeppelin.notebook.NoteInfo;
+import org.apache.zeppelin.notebook.NoteManager;
 import org.apache.zeppelin.notebook.Notebook;
+import org.apache.zeppelin.notebook.NotebookCronInfoSaving;
+import org.apache.zeppelin.notebook.Paragraph;
+import org.apache.zeppelin.scheduler.Job;
+import org.apache.zeppelin.storage.ConfigStorage;
+import org.apache.zeppelin.user.AuthenticationInfo;
 import org.quartz.CronScheduleBuilder;
 import org.quartz.CronTrigger;
 import org.quartz.JobBuilder;
@@ -41,12 +60,32 @@ import org.quartz.impl.matchers.GroupMatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class QuartzSchedulerService implements SchedulerService {
+/**
+ * SchedulerService based on quartz.
+ *
+ * The cron settings of all notes are kept in a cron index (notebook-cron.json) so that the cron
+ * jobs can be registered at startup without loading every note. The index is updated whenever
+ * refreshCron is called and whenever a note is created, updated or removed, it is only written
+ * when an entry actually changed. At startup it is reconciled against the notes of the notebook repo: notes that are unknown to the index
+ * (e.g. restored by git or copied into the notebook dir) are loaded, notes that are gone are
+ * dropped. The index is built by loading all notes only when it doesn't exist yet.
+ */
+public class QuartzSchedulerService implements SchedulerService, NoteEventListener {
   private static final Logger LOGGER = LoggerFactory.getLogger(QuartzSchedulerService.class);
 
   private final ZeppelinConfiguration zeppelinConfiguration;
   private final Notebook notebook;
   private final Scheduler scheduler;
+  // noteId -> cron settings of all notes that have a cron expression
+  private final Map<String, NoteCronInfo> cronInfos = new ConcurrentHashMap<>();
+  // ids of all notes covered by the cron index, with or without cron expression
+  private final Set<String> indexedNoteIds = ConcurrentHashMap.newKeySet();
+  // notes refreshed while the cron jobs are being initialized, init must not overwrite them
+  private final Set<String> refreshedNoteIds = new HashSet<>();
+  private final CountDownLatch cronInitialized = new CountDownLatch(1);
+  // whether cronInfos or indexedNoteIds changed since the cron index was saved
+  private boolean cronInfosChanged = false;
+  private ConfigStorage configStorage;
 
   @Inject
   public QuartzSchedulerService(ZeppelinConfiguration zeppelinConfiguration, Notebook notebook)
@@ -55,22 +94,132 @@ public class QuartzSchedulerService implements SchedulerService {
     this.notebook = notebook;
     this.scheduler = new StdSchedulerFactory().getScheduler();
     this.scheduler.start();
+    try {
+      this.configStorage = ConfigStorage.getInstance(zeppelinConfiguration);
+    } catch (IOException e) {
+      LOGGER.warn("Fail to get ConfigStorage, cron index won't be persisted", e);
+    }
+    notebook.addNotebookEventListener(this);
 
     // Do in a separated thread because there may be many notes,
     // loop all notes in the main thread may block the restarting of Zeppelin server
     Thread loadingNotesThread = new Thread(() -> {
+      try {
         LOGGER.info("Starting init cronjobs");
-        notebook.getNotesInfo().stream()
-                .forEach(entry -> refreshCron(entry.getId()));
+        NotebookCronInfoSaving cronInfoSaving = loadCronInfos();
+        if (cronInfoSaving != null && cronInfoSaving.cronInfos != null
+            && cronInfoSaving.noteIds != null) {
+          initCronFromIndex(cronInfoSaving);
+        } else {
+          LOGGER.info("No cron index found, build it by loading all notes");
+          synchronized (this) {
+            cronInfosChanged = true;
+          }
+          for (NoteInfo noteInfo : notebook.getNotesInfo()) {
+            synchronized (this) {
+              if (!refreshedNoteIds.contains(noteInfo.getId())) {
+                refreshCron(noteInfo.getId(), false);
+              }
+            }
+          }
+        }
+        saveCronInfos();
         LOGGER.info("Complete init cronjobs");
+      } finally {
+        synchronized (this) {
+          cronInitialized.countDown();
+          refreshedNoteIds.clear();
+        }
+      }
     });
     loadingNotesThread.setName("Init CronJob Thread");
     loadingNotesThread.setDaemon(true);
     loadingNotesThread.start();
   }
 
+  /**
+   * Wait until the cron jobs of all notes are registered.
+   *
+   * @return false if the timeout elapsed before
+   */
+  @VisibleForTesting
+  boolean awaitCronInitialized(long timeout, TimeUnit unit) throws InterruptedException {
+    return cronInitialized.await(timeout, unit);
+  }
+
+  private void initCronFromIndex(NotebookCronInfoSaving cronInfoSaving) {
+    Map<String, NoteInfo> notesInfo = notebook.getNotesInfo().stream()
+        .collect(Collectors.toMap(NoteInfo::getId, Function.identity(), (a, b) -> a));
+    int unknownNotes = 0;
+    for (NoteInfo noteInfo : notesInfo.values()) {
+      String noteId = noteInfo.getId();
+      synchronized (this) {
+        // refreshCron of this note may already happen after the index was loaded
+        if (refreshedNoteIds.contains(noteId)) {
+          continue;
+        }
+        if (!cronInfoSaving.noteIds.contains(noteId)) {
+          // note is added outside of Zeppelin, its cron settings are only in the note itself
+          unknownNotes++;
+          refreshCron(noteId, false);
+          continue;
+        }
+        indexedNoteIds.add(noteId);
+        NoteCronInfo cronInfo = cronInfoSaving.cronInfos.get(noteId);
+        if (cronInfo == null) {
+          continue;
+        }
+        cronInfos.put(noteId, cronInfo);
+        if (noteInfo.getPath().startsWith("/" + NoteManager.TRASH_FOLDER)) {
+          LOGGER.warn("Skip cron of note: " + noteId + " because it is in trash");
+          continue;
+        }
+        if (!Note.isCronSupported(zeppelinConfiguration, noteInfo.getNoteName())) {
+          LOGGER.warn("Skip cron of note " + noteId + " because its cron is not enabled.");
+          continue;
+        }
+        removeCron(noteId);
+        scheduleCron(noteId, noteInfo.getNoteName(), cronInfo.getCron());
+      }
+    }
+    long removedNotes = cronInfoSaving.noteIds.stream()
+        .filter(id -> !notesInfo.containsKey(id)).count();
+    if (removedNotes > 0) {
+      synchronized (this) {
+        cronInfosChanged = true;
+      }
+    }
+    LOGGER.info("Loaded {} notes which are not in cron index, dropped {} removed notes",
+        unknownNotes, removedNotes);
+  }
+
+  @Override
+  public synchronized void refreshCron(String noteId) {
+    if (cronInitialized.getCount() > 0) {
+      refreshedNoteIds.add(noteId);
+    }
+    refreshCron(noteId, true);
+  }
+
+  /**
+   * Refresh the cron of several notes, e.g. all notes of a moved folder. The cron index is saved
+   * once for all of them.
+   */
   @Override
-  public void refreshCron(String noteId) {
+  public synchronized void refreshCron(Collection<String> noteIds) {
+    for (String noteId : noteIds) {
+      if (cronInitialized.getCount() > 0) {
+        refreshedNoteIds.add(noteId);
+      }
+      refreshCron(noteId, false);
+    }
+    saveCronInfos();
+  }
+
+  /**
+   * Must be called with the lock of this held, so that it is serialized with the cron init.
+   */
+  private void refreshCron(String noteId, boolean saveCronInfos) {
     removeCron(noteId);
     Note note = null;
     try {
@@ -81,8 +230,11 @@ public class QuartzSchedulerService implements SchedulerService {
     }
     if (note == null) {
       LOGGER.warn("Skip refresh cron of note: " + noteId + " because there's no such note");
+      updateCronInfo(noteId, false, null, saveCronInfos);
       return;
     }
+    updateCronInfo(noteId, true, NoteCronInfo.fromNote(note), saveCronInfos);
+
     if (note.isTrash()) {
       LOGGER.warn("Skip refresh cron of note: " + noteId + " because it is in trash");
       return;
@@ -105,6 +257,16 @@ public class QuartzSchedulerService implements SchedulerService {
       return;
     }
 
+    Map<String, Object> info = note.getInfo();
+    info.put("cron", scheduleCron(noteId, note.getName(), cronExpr));
+  }
+
+  /**
+   * Register the cron job of note.
+   *
+   * @return error message, null if the cron job is registered.
+   */
+  private String scheduleCron(String noteId, String noteName, String cronExpr) {
     JobDataMap jobDataMap =
         new JobDataMap() {
           {
@@ -118,9 +280,6 @@ public class QuartzSchedulerService implements SchedulerService {
             .setJobData(jobDataMap)
             .build();
 
-    Map<String, Object> info = note.getInfo();
-    info.put("cron", null);
-
     CronTrigger trigger = null;
     try {
       trigger =
@@ -130,19 +289,67 @@ public class QuartzSchedulerService implements SchedulerService {
               .forJob(noteId, "note")
               .build();
     } catch (Exception e) {
-      LOGGER.error("Fail to create cron trigger for note: " + note.getName(), e);
-      info.put("cron", e.getMessage());
+      LOGGER.error("Fail to create cron trigger for note: " + noteName, e);
+      return e.getMessage();
     }
 
     try {
-      if (trigger != null) {
-        LOGGER.info("Trigger cron for note: " + note.getName() + ", with cron expression: " + cronExpr);
-        scheduler.scheduleJob(newJob, trigger);
-      }
+      LOGGER.info("Trigger cron for note: " + noteName + ", with cron expression: " + cronExpr);
+      scheduler.scheduleJob(newJob, trigger);
     } catch (SchedulerException e) {
-      LOGGER.error("Fail to schedule cron job for note: " + note.getName(), e);
-      info.put("cron", "Scheduler Exception");
+      LOGGER.error("Fail to schedule cron job for note: " + noteName, e);
+      return "Scheduler Exception";
+    }
+    return null;
+  }
+
+  private void updateCronInfo(String noteId, boolean noteExists, NoteCronInfo cronInfo,
+                              boolean saveCronInfos) {
+    boolean changed = noteExists ? indexedNoteIds.add(noteId) : indexedNoteIds.remove(noteId);
+    NoteCronInfo oldCronInfo = cronInfo == null ?
+        cronInfos.remove(noteId) : cronInfos.put(noteId, cronInfo);
+    if (changed || !Objects.equals(oldCronInfo, cronInfo)) {
+      cronInfosChanged = true;
+    }
+    if (saveCronInfos) {
+      saveCronInfos();
+    }
+  }
+
+  private NotebookCronInfoSaving loadCronInfos() {
+    if (configStorage == null) {
+      return null;
+    }
+    try {
+      return configStorage.loadNotebookCronInfo();
+    } catch (Exception e) {
+      LOGGER.warn("Fail to load cron index, fallback to load all notes", e);
+      return null;
+    }
+  }
+
+  /**
+   * Write the cron index, only when it changed since it was written last time.
+   */
+  private synchronized void saveCronInfos() {
+    if (configStorage == null || !cronInfosChanged) {
+      return;
     }
+    cronInfosChanged = false;
+    NotebookCronInfoSaving cronInfoSaving = new NotebookCronInfoSaving();
+    cronInfoSaving.cronInfos = new HashMap<>(cronInfos);
+    cronInfoSaving.noteIds = new HashSet<>(indexedNoteIds);
+    try {
+      configStorage.save(cronInfoSaving);
+    } catch (IOException e) {
+      cronInfosChanged = true;
+      LOGGER.warn("Fail to save cron index", e);
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void setConfigStorage(ConfigStorage configStorage) {
+    this.configStorage = configStorage;
   }
 
   @Override
@@ -155,6 +362,54 @@ public class QuartzSchedulerService implements SchedulerService {
     }
   }
 
+  @Override
+  public synchronized void onNoteRemove(Note note, AuthenticationInfo subject) {
+    if (cronInitialized.getCount() > 0) {
+      refreshedNoteIds.add(note.getId());
+    }
+    removeCron(note.getId());
+    updateCronInfo(note.getId(), false, null, true);
+  }
+
+  @Override
+  public void onNoteCreate(Note note, AuthenticationInfo subject) {
+    refreshCronIfChanged(note);
+  }
+
+  @Override
+  public void onNoteUpdate(Note note, AuthenticationInfo subject) {
+    refreshCronIfChanged(note);
+  }
+
+  private synchronized void refreshCronIfChanged(Note note) {
+    // note is saved on every paragraph change, only refresh when its cron settings changed
+    if (indexedNoteIds.contains(note.getId())
+        && Objects.equals(cronInfos.get(note.getId()), NoteCronInfo.fromNote(note))) {
+      return;
+    }
+    refreshCron(note.getId());
+  }
+
+  @Override
+  public void onParagraphRemove(Paragraph p) {
+
+  }
+
+  @Override
+  public void onParagraphCreate(Paragraph p) {
+
+  }
+
+  @Override
+  public void onParagraphUpdate(Paragraph p) {
+
+  }
+
+  @Override
+  public void onParagraphStatusChange(Paragraph p, Job.Status status) {
+
+  }
+
   private void removeCron(String id) {
     try {
       scheduler.deleteJob(new JobKey(id, "note"));
@@ -17,9 +17,15 @@
 
 package org.apache.zeppelin.notebook.scheduler;
 
+import java.util.Collection;
 import java.util.Set;
 
 public interface SchedulerService {
   void refreshCron(String noteId);
+
+  default void refreshCron(Collection<String> noteIds) {
+    noteIds.forEach(this::refreshCron);
+  }
+
   Set<?> getJobs();
 }
@@ -22,25 +22,81 @@ import org.apache.zeppelin.scheduler.Job.Status;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * RemoteScheduler runs in ZeppelinServer and proxies Scheduler running on RemoteInterpreter.
  * It is some kind of FIFOScheduler, but only run the next job after the current job is submitted
- * to remote.
+ * to remote. When fair share is enabled for the interpreter, the next job is picked from a
+ * FairJobQueue instead of in submission order, since the remote scheduler never sees more than
+ * one pending job.
  */
 public class RemoteScheduler extends AbstractScheduler {
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteScheduler.class);
 
   private RemoteInterpreter remoteInterpreter;
   private ExecutorService executor;
+  // null when fair share is disabled
+  private FairJobQueue fairJobQueue;
 
   public RemoteScheduler(String name,
                          ExecutorService executor,
                          RemoteInterpreter remoteInterpreter) {
+    this(name, executor, remoteInterpreter, null);
+  }
+
+  public RemoteScheduler(String name,
+                         ExecutorService executor,
+                         RemoteInterpreter remoteInterpreter,
+                         FairJobQueue fairJobQueue) {
     super(name);
     this.executor = executor;
     this.remoteInterpreter = remoteInterpreter;
+    this.fairJobQueue = fairJobQueue;
+  }
+
+  @Override
+  public void submit(Job job) {
+    if (fairJobQueue == null) {
+      super.submit(job);
+      return;
+    }
+    job.setStatus(Status.PENDING);
+    jobs.put(job.getId(), job);
+    fairJobQueue.add(job);
+  }
+
+  @Override
+  public void run() {
+    if (fairJobQueue == null) {
+      super.run();
+      return;
+    }
+    while (!terminate) {
+      Job job;
+      try {
+        job = fairJobQueue.take();
+      } catch (InterruptedException e) {
+        LOGGER.warn("{} is interrupted", getClass().getSimpleName(), e);
+        break;
+      }
+      if (job == null) {
+        break;
+      }
+      runJobInScheduler(job);
+    }
+  }
+
+  @Override
+  public void stop() {
+    super.stop();
+    if (fairJobQueue != null) {
+      for (Job job : fairJobQueue.close()) {
+        job.abort();
+      }
+    }
   }
 
   @Override
@@ -61,10 +117,12 @@ public class RemoteScheduler extends AbstractScheduler {
   /**
    * Role of the class is getting status info from remote process from PENDING to
    * RUNNING status. This thread will exist after job is in RUNNING/FINISHED state.
+   * It mostly waits, so it runs in a virtual thread when they are enabled.
    */
-  private class JobStatusPoller extends Thread {
+  private class JobStatusPoller implements Runnable {
     private long checkIntervalMsec;
-    private volatile boolean terminate;
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final Thread thread;
     private JobListener listener;
     private Job job;
     private volatile Status lastStatus;
@@ -72,27 +130,31 @@ public class RemoteScheduler extends AbstractScheduler {
     public JobStatusPoller(Job job,
                            JobListener listener,
                            long checkIntervalMsec) {
-      setName("JobStatusPoller-" + job.getId());
       this.checkIntervalMsec = checkIntervalMsec;
       this.job = job;
       this.listener = listener;
-      this.terminate = false;
+      this.thread = ExecutorFactory.singleton()
+          .newLightweightThread("JobStatusPoller-" + job.getId(), this);
+    }
+
+    public void start() {
+      thread.start();
+    }
+
+    public void join() throws InterruptedException {
+      thread.join();
     }
 
     @Override
     public void run() {
-      while (terminate == false) {
-        synchronized (this) {
-          try {
-            this.wait(checkIntervalMsec);
-          } catch (InterruptedException e) {
-            LOGGER.error("Exception in RemoteScheduler while run this.wait", e);
+      while (true) {
+        try {
+          if (terminated.await(checkIntervalMsec, TimeUnit.MILLISECONDS)) {
+            // terminated by shutdown
+            break;
           }
-        }
-
-        if (terminate) {
-          // terminated by shutdown
-          break;
+        } catch (InterruptedException e) {
+          LOGGER.error("Exception in RemoteScheduler while waiting for next poll", e);
         }
 
         Status newStatus = getStatus();
@@ -104,14 +166,10 @@ public class RemoteScheduler extends AbstractScheduler {
           break;
         }
       }
-      terminate = true;
     }
 
     public void shutdown() {
-      terminate = true;
-      synchronized (this) {
-        this.notify();
-      }
+      terminated.countDown();
     }
 
     public Status getStatus() {
@@ -156,7 +214,13 @@ public class RemoteScheduler extends AbstractScheduler {
     public void run() {
       JobStatusPoller jobStatusPoller = new JobStatusPoller(job, this, 100);
       jobStatusPoller.start();
-      scheduler.runJob(job);
+      try {
+        scheduler.runJob(job);
+      } finally {
+        if (fairJobQueue != null) {
+          fairJobQueue.done(job);
+        }
+      }
       jobExecuted = true;
       jobSubmittedRemotely = true;
       jobStatusPoller.shutdown();
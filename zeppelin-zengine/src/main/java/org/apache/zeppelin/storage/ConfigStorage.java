@@ -26,6 +26,7 @@ import org.apache.zeppelin.helium.HeliumConf;
 import org.apache.zeppelin.interpreter.InterpreterInfoSaving;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
 import org.apache.zeppelin.notebook.NotebookAuthorizationInfoSaving;
+import org.apache.zeppelin.notebook.NotebookCronInfoSaving;
 import org.apache.zeppelin.user.Credentials;
 import org.apache.zeppelin.user.CredentialsInfoSaving;
 import org.apache.zeppelin.util.ReflectionUtils;
@@ -39,6 +40,7 @@ import java.io.IOException;
  * 2. helium.json
  * 3. notebook-authorization.json
  * 4. credentials.json
+ * 5. notebook-cron.json
  *
  */
 public abstract class ConfigStorage {
@@ -76,6 +78,10 @@ public abstract class ConfigStorage {
 
   public abstract NotebookAuthorizationInfoSaving loadNotebookAuthorization() throws IOException;
 
+  public abstract void save(NotebookCronInfoSaving cronInfoSaving) throws IOException;
+
+  public abstract NotebookCronInfoSaving loadNotebookCronInfo() throws IOException;
+
   public abstract String loadCredentials() throws IOException;
 
   public abstract void saveCredentials(String credentials) throws IOException;
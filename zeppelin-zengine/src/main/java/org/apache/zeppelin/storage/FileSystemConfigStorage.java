@@ -27,6 +27,7 @@ import org.apache.zeppelin.interpreter.InterpreterInfoSaving;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
 import org.apache.zeppelin.notebook.FileSystemStorage;
 import org.apache.zeppelin.notebook.NotebookAuthorizationInfoSaving;
+import org.apache.zeppelin.notebook.NotebookCronInfoSaving;
 import org.apache.zeppelin.user.CredentialsInfoSaving;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +46,7 @@ public class FileSystemConfigStorage extends ConfigStorage {
   private FileSystemStorage fs;
   private Path interpreterSettingPath;
   private Path authorizationPath;
+  private Path cronInfoPath;
   private Path credentialPath;
 
   public FileSystemConfigStorage(ZeppelinConfiguration zConf) throws IOException {
@@ -57,6 +59,7 @@ public class FileSystemConfigStorage extends ConfigStorage {
     LOGGER.info("Using folder {} to store Zeppelin Config", configPath);
     this.interpreterSettingPath = fs.makeQualified(new Path(zConf.getInterpreterSettingPath()));
     this.authorizationPath = fs.makeQualified(new Path(zConf.getNotebookAuthorizationPath()));
+    this.cronInfoPath = fs.makeQualified(new Path(zConf.getNotebookCronInfoPath()));
     this.credentialPath = fs.makeQualified(new Path(zConf.getCredentialsPath()));
   }
 
@@ -93,6 +96,23 @@ public class FileSystemConfigStorage extends ConfigStorage {
     return NotebookAuthorizationInfoSaving.fromJson(json);
   }
 
+  @Override
+  public void save(NotebookCronInfoSaving cronInfoSaving) throws IOException {
+    LOGGER.debug("Save notebook cron info to file: " + cronInfoPath);
+    fs.writeFile(cronInfoSaving.toJson(), cronInfoPath, false);
+  }
+
+  @Override
+  public NotebookCronInfoSaving loadNotebookCronInfo() throws IOException {
+    if (!fs.exists(cronInfoPath)) {
+      LOGGER.warn("Notebook cron info file {} is not existed", cronInfoPath);
+      return null;
+    }
+    LOGGER.info("Load notebook cron info from file: " + cronInfoPath);
+    String json = this.fs.readFile(cronInfoPath);
+    return NotebookCronInfoSaving.fromJson(json);
+  }
+
   @Override
   public String loadCredentials() throws IOException {
     if (!fs.exists(credentialPath)) {
@@ -22,6 +22,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.interpreter.InterpreterInfoSaving;
 import org.apache.zeppelin.notebook.NotebookAuthorizationInfoSaving;
+import org.apache.zeppelin.notebook.NotebookCronInfoSaving;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,12 +46,14 @@ public class LocalConfigStorage extends ConfigStorage {
 
   private File interpreterSettingPath;
   private File authorizationPath;
+  private File cronInfoPath;
   private File credentialPath;
 
   public LocalConfigStorage(ZeppelinConfiguration zConf) {
     super(zConf);
     this.interpreterSettingPath = new File(zConf.getInterpreterSettingPath());
     this.authorizationPath = new File(zConf.getNotebookAuthorizationPath());
+    this.cronInfoPath = new File(zConf.getNotebookCronInfoPath());
     this.credentialPath = new File(zConf.getCredentialsPath());
   }
 
@@ -88,6 +91,23 @@ public class LocalConfigStorage extends ConfigStorage {
     return NotebookAuthorizationInfoSaving.fromJson(json);
   }
 
+  @Override
+  public void save(NotebookCronInfoSaving cronInfoSaving) throws IOException {
+    LOGGER.debug("Save notebook cron info to file: " + cronInfoPath);
+    atomicWriteToFile(cronInfoSaving.toJson(), cronInfoPath);
+  }
+
+  @Override
+  public NotebookCronInfoSaving loadNotebookCronInfo() throws IOException {
+    if (!cronInfoPath.exists()) {
+      LOGGER.warn("Notebook cron info file {} is not existed", cronInfoPath);
+      return null;
+    }
+    LOGGER.info("Load notebook cron info from file: " + cronInfoPath);
+    String json = readFromFile(cronInfoPath);
+    return NotebookCronInfoSaving.fromJson(json);
+  }
+
   @Override
   public String loadCredentials() throws IOException {
     if (!credentialPath.exists()) {
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class InterpreterSettingDiscoveryTest {
+
+  private static final String INTERPRETER_JSON = "interpreter-setting.json";
+
+  private File rootDir;
+  private Path interpreterDir;
+  private Path indexPath;
+
+  @Before
+  public void setUp() throws IOException {
+    rootDir = Files.createTempDirectory("InterpreterSettingDiscoveryTest").toFile();
+    interpreterDir = new File(rootDir, "interpreter").toPath();
+    Files.createDirectories(interpreterDir);
+    indexPath = new File(rootDir, "index.json").toPath();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(rootDir);
+  }
+
+  @Test
+  public void testDiscover() throws IOException {
+    File fileDir = new File(interpreterDir.toFile(), "file");
+    fileDir.mkdirs();
+    FileUtils.write(new File(fileDir, INTERPRETER_JSON), "[\"file\"]", StandardCharsets.UTF_8);
+    File jarDir = new File(interpreterDir.toFile(), "jar");
+    new File(jarDir, "lib").mkdirs();
+    FileUtils.write(new File(jarDir, "README"), "not a jar", StandardCharsets.UTF_8);
+    writeJar(new File(jarDir, "lib/a.jar"), "other.json", "[]");
+    writeJar(new File(jarDir, "lib/b.jar"), INTERPRETER_JSON, "[\"jar\"]");
+    new File(interpreterDir.toFile(), "empty").mkdirs();
+
+    Map<String, String> jsons =
+        new InterpreterSettingDiscovery(INTERPRETER_JSON, null).discover(interpreterDir);
+    assertEquals(3, jsons.size());
+    assertEquals("[\"file\"]", jsons.get(fileDir.toString()));
+    assertEquals("[\"jar\"]", jsons.get(jarDir.toString()));
+    assertTrue(jsons.containsKey(new File(interpreterDir.toFile(), "empty").toString()));
+    assertNull(jsons.get(new File(interpreterDir.toFile(), "empty").toString()));
+  }
+
+  @Test
+  public void testIndex() throws IOException {
+    File fileDir = new File(interpreterDir.toFile(), "file");
+    fileDir.mkdirs();
+    File jsonFile = new File(fileDir, INTERPRETER_JSON);
+    FileUtils.write(jsonFile, "[\"v1\"]", StandardCharsets.UTF_8);
+
+    InterpreterSettingDiscovery discovery =
+        new InterpreterSettingDiscovery(INTERPRETER_JSON, indexPath);
+    assertEquals("[\"v1\"]", discovery.discover(interpreterDir).get(fileDir.toString()));
+    assertTrue(Files.exists(indexPath));
+
+    // the index is used as long as the interpreter directory is not changed
+    String index = new String(Files.readAllBytes(indexPath), StandardCharsets.UTF_8);
+    Files.write(indexPath, index.replace("v1", "cached").getBytes(StandardCharsets.UTF_8));
+    assertEquals("[\"cached\"]", discovery.discover(interpreterDir).get(fileDir.toString()));
+
+    // a changed interpreter directory is read again
+    FileUtils.write(jsonFile, "[\"v2\"]", StandardCharsets.UTF_8);
+    jsonFile.setLastModified(jsonFile.lastModified() + 10000);
+    assertEquals("[\"v2\"]", discovery.discover(interpreterDir).get(fileDir.toString()));
+
+    // a broken index is ignored
+    Files.write(indexPath, "{broken".getBytes(StandardCharsets.UTF_8));
+    assertEquals("[\"v2\"]", discovery.discover(interpreterDir).get(fileDir.toString()));
+  }
+
+  private void writeJar(File file, String entryName, String content) throws IOException {
+    try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file))) {
+      out.putNextEntry(new ZipEntry(entryName));
+      out.write(content.getBytes(StandardCharsets.UTF_8));
+      out.closeEntry();
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
+import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class InterpreterWarmUpServiceTest extends AbstractInterpreterTest {
+
+  @Override
+  public void setUp() throws Exception {
+    System.setProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_WARMUP_ENABLED.getVarName(), "true");
+    System.setProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_WARMUP_TIMEOUT.getVarName(), "5000");
+    System.setProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_WARMUP_MAX_PER_USER.getVarName(), "1");
+    super.setUp();
+  }
+
+  @Override
+  public void tearDown() throws Exception {
+    super.tearDown();
+    System.clearProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_WARMUP_ENABLED.getVarName());
+    System.clearProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_WARMUP_TIMEOUT.getVarName());
+    System.clearProperty(
+        ZeppelinConfiguration.ConfVars.ZEPPELIN_INTERPRETER_WARMUP_MAX_PER_USER.getVarName());
+  }
+
+  @Test
+  public void testUnusedWarmUpIsClosed() throws Exception {
+    Note note = createNote("%mock1 hello", "%mock2 hello");
+    InterpreterWarmUpService warmUpService = interpreterSettingManager.getInterpreterWarmUpService();
+    warmUpService.warmUp(note, "user1");
+    // mock2 is not warmed up, because user1 can only have 1 warmed up session
+    assertEquals(1, warmUpService.getNumWarmUps("user1"));
+    // user1 is at the cap, the interpreters of another note are not even resolved
+    Note note2 = createNote("%mock2 hello");
+    InterpreterFactory factory = spy(interpreterFactory);
+    note2.setInterpreterFactory(factory);
+    warmUpService.warmUp(note2, "user1");
+    verify(factory, never()).getInterpreter(anyString(), anyString(), anyString(), anyString());
+
+    RemoteInterpreter mock1 = (RemoteInterpreter)
+        interpreterFactory.getInterpreter("user1", note.getId(), "mock1", "test");
+    RemoteInterpreter mock2 = (RemoteInterpreter)
+        interpreterFactory.getInterpreter("user1", note.getId(), "mock2", "test");
+    waitForOpened(mock1);
+    assertTrue(mock1.getInterpreterGroup().getRemoteInterpreterProcess().isRunning());
+    assertFalse(mock2.isOpened());
+
+    // the warmed up session is not used, so it is closed after the timeout
+    InterpreterSetting mock1Setting = interpreterSettingManager.getInterpreterSettingByName("mock1");
+    long start = System.currentTimeMillis();
+    while (!mock1Setting.getAllInterpreterGroups().isEmpty()
+        && System.currentTimeMillis() - start < 30 * 1000) {
+      Thread.sleep(100);
+    }
+    assertTrue(mock1Setting.getAllInterpreterGroups().isEmpty());
+    assertFalse(mock1.isOpened());
+    assertEquals(0, warmUpService.getNumWarmUps("user1"));
+  }
+
+  @Test
+  public void testUsedWarmUpIsKept() throws Exception {
+    Note note = createNote("%mock1 hello");
+    InterpreterWarmUpService warmUpService = interpreterSettingManager.getInterpreterWarmUpService();
+    warmUpService.warmUp(note, "user1");
+    RemoteInterpreter mock1 = (RemoteInterpreter)
+        interpreterFactory.getInterpreter("user1", note.getId(), "mock1", "test");
+    waitForOpened(mock1);
+    mock1.interpret("hello", createDummyInterpreterContext());
+
+    Thread.sleep(7 * 1000);
+    assertEquals(0, warmUpService.getNumWarmUps("user1"));
+    assertTrue(mock1.isOpened());
+    assertEquals(1, interpreterSettingManager.getInterpreterSettingByName("mock1")
+        .getAllInterpreterGroups().size());
+  }
+
+  private Note createNote(String... texts) {
+    Note note = new Note("test", "test", interpreterFactory, interpreterSettingManager, null,
+        null, new ArrayList<>());
+    for (String text : texts) {
+      note.addNewParagraph(AuthenticationInfo.ANONYMOUS).setText(text);
+    }
+    return note;
+  }
+
+  private void waitForOpened(RemoteInterpreter interpreter) throws InterruptedException {
+    long start = System.currentTimeMillis();
+    while (!interpreter.isOpened() && System.currentTimeMillis() - start < 30 * 1000) {
+      Thread.sleep(100);
+    }
+    assertTrue(interpreter.isOpened());
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter;
+
+import org.apache.zeppelin.resource.LocalResourcePool;
+import org.apache.zeppelin.resource.ResourceSet;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ResourceDirectoryTest {
+
+  private ResourceDirectory directory;
+  private LocalResourcePool pool1;
+  private LocalResourcePool pool2;
+
+  @Before
+  public void setUp() {
+    directory = new ResourceDirectory();
+    pool1 = new LocalResourcePool("pool1");
+    pool2 = new LocalResourcePool("pool2");
+  }
+
+  @Test
+  public void testOnlyIndexedPoolsAreReturned() throws InterruptedException {
+    pool1.put("key1", "value1");
+    pool2.put("key1", "value2");
+    directory.put(pool2.get("key1"));
+    // pool2 is not indexed yet, its resources may be incomplete
+    assertTrue(directory.get("key1", null).isEmpty());
+
+    index(pool1);
+    index(pool2);
+    assertEquals(2, directory.get("key1", null).size());
+    // the requesting pool is excluded
+    ResourceSet resources = directory.get("key1", "pool1");
+    assertEquals(1, resources.size());
+    assertEquals("pool2", resources.get(0).getResourceId().getResourcePoolId());
+    assertTrue(directory.get("key2", null).isEmpty());
+  }
+
+  @Test
+  public void testPutAndRemove() throws InterruptedException {
+    index(pool1);
+    pool1.put("note1", "paragraph1", "key1", "value1");
+    directory.put(pool1.get("note1", "paragraph1", "key1"));
+    assertEquals(1, directory.get("key1", null).size());
+
+    directory.remove(pool1.remove("note1", "paragraph1", "key1").getResourceId());
+    assertTrue(directory.get("key1", null).isEmpty());
+  }
+
+  @Test
+  public void testRemoveWhileIndexing() throws InterruptedException {
+    pool1.put("key1", "value1");
+    pool1.put("key2", "value2");
+    assertTrue(directory.beginIndexing("pool1"));
+    // the resources are loaded, then key1 is removed before indexing is finished
+    ResourceSet loaded = pool1.getAll();
+    directory.remove(pool1.remove("key1").getResourceId());
+    directory.finishIndexing("pool1", loaded);
+
+    assertTrue(directory.isIndexed("pool1"));
+    assertFalse(directory.beginIndexing("pool1"));
+    assertTrue(directory.get("key1", null).isEmpty());
+    assertEquals(1, directory.get("key2", null).size());
+  }
+
+  @Test
+  public void testLookupsToInvalidate() throws InterruptedException {
+    index(pool1);
+    index(pool2);
+    directory.get("key1", "pool1");
+    directory.get("key1", "pool2");
+    directory.get("key2", "pool1");
+
+    pool2.put("key1", "value1");
+    // pool2 changed key1 itself, only pool1 needs to drop its lookup
+    assertEquals(Collections.singleton("pool1"), directory.put(pool2.get("key1")));
+    // pool2 still needs to know when key1 changes in another pool
+    pool1.put("key1", "value2");
+    assertEquals(Collections.singleton("pool2"), directory.put(pool1.get("key1")));
+    // nobody looked up key1 since then
+    assertTrue(directory.remove(pool1.remove("key1").getResourceId()).isEmpty());
+  }
+
+  @Test
+  public void testRemovePool() throws InterruptedException {
+    index(pool1);
+    index(pool2);
+    pool1.put("key1", "value1");
+    pool2.put("key1", "value2");
+    directory.put(pool1.get("key1"));
+    directory.put(pool2.get("key1"));
+
+    directory.retainPools(Arrays.asList("pool2"));
+    assertFalse(directory.isIndexed("pool1"));
+    ResourceSet resources = directory.get("key1", null);
+    assertEquals(1, resources.size());
+    assertEquals("pool2", resources.get(0).getResourceId().getResourcePoolId());
+  }
+
+  private void index(LocalResourcePool pool) throws InterruptedException {
+    assertTrue(directory.beginIndexing(pool.id()));
+    directory.finishIndexing(pool.id(), pool.getAll());
+  }
+}
@@ -17,9 +17,11 @@
 
 package org.apache.zeppelin.interpreter.remote;
 
+import com.google.gson.JsonParser;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.display.AngularObjectRegistry;
 import org.apache.zeppelin.display.AngularObjectRegistryListener;
+import org.apache.zeppelin.display.JsonPatch;
 import org.apache.zeppelin.interpreter.AbstractInterpreterTest;
 import org.apache.zeppelin.interpreter.InterpreterContext;
 import org.apache.zeppelin.interpreter.InterpreterException;
@@ -32,6 +34,8 @@ import org.junit.Test;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
 
 public class RemoteAngularObjectTest extends AbstractInterpreterTest
     implements AngularObjectRegistryListener {
@@ -146,6 +150,30 @@ public class RemoteAngularObjectTest extends AbstractInterpreterTest
     assertEquals("1", result[0]); // size of registry
   }
 
+  @Test
+  public void testRemoteValueFollowsServerUpdates() throws InterpreterException {
+    JsonParser parser = new JsonParser();
+    intp.interpret("get", context);
+    RemoteAngularObject ao = (RemoteAngularObject) localRegistry.addAndNotifyRemoteProcess(
+        "n1", "v1", "note", null);
+    ao.setRemoteValue(parser.parse("\"v1\""));
+
+    // e.g. changed in the web UI, the interpreter patches the new value next time
+    ao.set("v2", false);
+    assertEquals(parser.parse("\"v2\""), ao.getRemoteValue());
+    JsonPatch patch = JsonPatch.diff(parser.parse("\"v2\""), parser.parse("\"v3\""));
+    assertEquals(parser.parse("\"v3\""), ao.applyRemotePatch(patch));
+    assertEquals(parser.parse("\"v3\""), ao.getRemoteValue());
+
+    // a patch of a stale value drops the kept value
+    try {
+      ao.applyRemotePatch(JsonPatch.diff(parser.parse("\"v1\""), parser.parse("\"v4\"")));
+      fail("Should fail to apply patch of another value");
+    } catch (IllegalArgumentException e) {
+      assertNull(ao.getRemoteValue());
+    }
+  }
+
   @Override
   public void onAdd(String interpreterGroupId, AngularObject object) {
     onAdd.incrementAndGet();
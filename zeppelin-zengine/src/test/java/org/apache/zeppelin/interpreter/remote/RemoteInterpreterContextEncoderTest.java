@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.interpreter.remote;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.zeppelin.display.GUI;
+import org.apache.zeppelin.interpreter.InterpreterContext;
+import org.apache.zeppelin.interpreter.thrift.ContextSegmentNotFoundException;
+import org.apache.zeppelin.interpreter.thrift.RemoteInterpreterContext;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RemoteInterpreterContextEncoderTest {
+
+  private RemoteInterpreterContextEncoder encoder;
+  private RemoteInterpreterContextRegistry registry;
+  private InterpreterContext context;
+
+  @Before
+  public void setUp() {
+    encoder = new RemoteInterpreterContextEncoder();
+    registry = new RemoteInterpreterContextRegistry();
+    GUI gui = new GUI();
+    for (int i = 0; i < 100; i++) {
+      gui.textbox("form_" + i, "default value of form " + i);
+    }
+    context = InterpreterContext.builder()
+        .setNoteId("note_1")
+        .setParagraphId("paragraph_1")
+        .setParagraphText("%test select column_1, column_2, column_3 from table_1 where column_1 = '${form_1}'")
+        .setAuthenticationInfo(new AuthenticationInfo("user_1"))
+        .setConfig(new HashMap<>())
+        .setGUI(gui)
+        .setNoteGUI(new GUI())
+        .setLocalProperties(new HashMap<>())
+        .build();
+  }
+
+  @Test
+  public void testSegmentsAreSentOnce() throws TException {
+    RemoteInterpreterContext first = encoder.encode(context);
+    RemoteInterpreterContext expected = first.deepCopy();
+    assertNotNull(first.getGui());
+    assertTrue(first.getSegmentIds().containsKey("gui"));
+    registry.resolve(first);
+    encoder.onDelivered(first);
+
+    RemoteInterpreterContext second = encoder.encode(context);
+    assertNull(second.getGui());
+    assertNull(second.getParagraphText());
+    // small segments are always sent
+    assertNotNull(second.getConfig());
+
+    // round trip via the registry of interpreter process gives back the full context
+    TSerializer serializer = new TSerializer(new TBinaryProtocol.Factory());
+    int fullSize = serializer.serialize(first).length;
+    int referenceSize = serializer.serialize(second).length;
+    assertTrue("referenced context (" + referenceSize + " bytes) should be much smaller than "
+        + "the full context (" + fullSize + " bytes)", referenceSize * 5 < fullSize);
+    registry.resolve(second);
+    second.setSegmentIds(expected.getSegmentIds());
+    assertEquals(expected, second);
+  }
+
+  @Test
+  public void testChangedSegmentIsSentAgain() {
+    RemoteInterpreterContext first = encoder.encode(context);
+    encoder.onDelivered(first);
+
+    context.getGui().textbox("new_form", "new value");
+    RemoteInterpreterContext second = encoder.encode(context);
+    assertNotNull(second.getGui());
+    assertNull(second.getParagraphText());
+  }
+
+  @Test
+  public void testFailedCallResetsSegments() throws Exception {
+    encoder.call(context, ric -> registry.size());
+    try {
+      encoder.call(context, ric -> {
+        throw new IOException("fail");
+      });
+      fail("should fail");
+    } catch (IOException e) {
+      // expected
+    }
+    assertNotNull(encoder.encode(context).getGui());
+  }
+
+  @Test
+  public void testMissingSegmentIsResentInline() throws Exception {
+    encoder.call(context, ric -> {
+      registry.resolve(ric);
+      return null;
+    });
+
+    // the interpreter process lost its registry, e.g. all segments were evicted
+    RemoteInterpreterContextRegistry newRegistry = new RemoteInterpreterContextRegistry();
+    AtomicInteger calls = new AtomicInteger(0);
+    String gui = encoder.call(context, ric -> {
+      calls.incrementAndGet();
+      newRegistry.resolve(ric);
+      return ric.getGui();
+    });
+    assertEquals(2, calls.get());
+    assertEquals(context.getGui().toJson(), gui);
+  }
+
+  @Test
+  public void testMissingSegmentIsNotRetriedForever() throws Exception {
+    AtomicInteger calls = new AtomicInteger(0);
+    try {
+      encoder.call(context, ric -> {
+        calls.incrementAndGet();
+        throw new ContextSegmentNotFoundException("missing");
+      });
+      fail("should fail");
+    } catch (ContextSegmentNotFoundException e) {
+      // expected
+    }
+    assertEquals(2, calls.get());
+  }
+}
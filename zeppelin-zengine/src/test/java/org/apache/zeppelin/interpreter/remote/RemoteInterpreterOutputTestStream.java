@@ -152,4 +152,9 @@ public class RemoteInterpreterOutputTestStream extends AbstractInterpreterTest
   public void checkpointOutput(String noteId, String paragraphId) {
 
   }
+
+  @Override
+  public void onParagraphProgressUpdate(String noteId, String paragraphId, int progress) {
+
+  }
 }
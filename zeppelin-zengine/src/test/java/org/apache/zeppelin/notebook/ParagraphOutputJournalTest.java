@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResultMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParagraphOutputJournalTest {
+
+  private File dir;
+  private ParagraphOutputJournal journal;
+
+  @Before
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("ParagraphOutputJournalTest").toFile();
+    journal = new ParagraphOutputJournal(dir, "note1_p1");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    journal.close();
+    FileUtils.deleteDirectory(dir);
+  }
+
+  @Test
+  public void testReplay() throws IOException {
+    journal.update(0, InterpreterResult.Type.TEXT, "");
+    journal.append(0, "line1\n");
+    journal.append(0, "line2\n");
+    journal.update(1, InterpreterResult.Type.HTML, "<p>1</p>");
+    journal.update(1, InterpreterResult.Type.HTML, "<p>1</p><p>2</p>");
+    // an append to an output which doesn't exist yet creates a text output
+    journal.append(2, "ü\n");
+    // output out of range is ignored
+    journal.append(5, "lost");
+
+    List<InterpreterResultMessage> messages = journal.toMessages();
+    assertEquals(3, messages.size());
+    assertEquals(InterpreterResult.Type.TEXT, messages.get(0).getType());
+    assertEquals("line1\nline2\n", messages.get(0).getData());
+    assertEquals(InterpreterResult.Type.HTML, messages.get(1).getType());
+    assertEquals("<p>1</p><p>2</p>", messages.get(1).getData());
+    assertEquals("ü\n", messages.get(2).getData());
+  }
+
+  @Test
+  public void testReplayOnlyReadsLastUpdate() throws IOException {
+    for (int i = 0; i < 1000; i++) {
+      journal.update(0, InterpreterResult.Type.TEXT, "progress " + i + "\n");
+    }
+    journal.append(0, "done\n");
+    journal.update(1, InterpreterResult.Type.HTML, "<p>1</p>");
+
+    List<InterpreterResultMessage> messages = journal.toMessages();
+    assertEquals(2, messages.size());
+    assertEquals("progress 999\ndone\n", messages.get(0).getData());
+    assertEquals("<p>1</p>", messages.get(1).getData());
+  }
+
+  @Test
+  public void testFileIsOwnerOnly() throws IOException {
+    File journalDir = new File(dir, "journal");
+    ParagraphOutputJournal journal2 = new ParagraphOutputJournal(journalDir, "note1_p2");
+    try {
+      assertEquals("rwx------", PosixFilePermissions.toString(
+          Files.getPosixFilePermissions(journalDir.toPath())));
+      File file = journalDir.listFiles()[0];
+      assertEquals("rw-------", PosixFilePermissions.toString(
+          Files.getPosixFilePermissions(file.toPath())));
+    } finally {
+      journal2.close();
+    }
+  }
+
+  @Test
+  public void testClose() throws IOException {
+    journal.append(0, "line1\n");
+    assertEquals(1, dir.listFiles().length);
+    journal.close();
+    assertEquals(0, dir.listFiles().length);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook;
+
+import org.apache.zeppelin.interpreter.InterpreterResult;
+import org.apache.zeppelin.interpreter.InterpreterResult.Code;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class ParagraphResultCacheTest {
+
+  @Test
+  public void testKey() {
+    Map<String, String> properties1 = new HashMap<>();
+    properties1.put("a", "1");
+    properties1.put("b", "2");
+    Map<String, String> properties2 = new LinkedHashMap<>();
+    properties2.put("b", "2");
+    properties2.put("a", "1");
+    Map<String, Object> params = new HashMap<>();
+
+    String key = ParagraphResultCache.key("setting", "user", "note", "p1", "md", "text",
+        properties1, params, null);
+    // the order of the properties doesn't matter
+    assertEquals(key, ParagraphResultCache.key("setting", "user", "note", "p1", "md", "text",
+        properties2, params, null));
+    assertNotEquals(key, ParagraphResultCache.key("setting", "user", "note", "p1", "md", "text2",
+        properties1, params, null));
+    // the parts don't run into each other
+    assertNotEquals(ParagraphResultCache.key("setting", "user", "note", "p1", "md", "text",
+        properties1, params, null),
+        ParagraphResultCache.key("setting", "user", "note", "p1", "mdt", "ext",
+        properties1, params, null));
+    params.put("param", 1);
+    assertNotEquals(key, ParagraphResultCache.key("setting", "user", "note", "p1", "md", "text",
+        properties1, params, null));
+  }
+
+  @Test
+  public void testExpire() throws InterruptedException {
+    ParagraphResultCache cache = new ParagraphResultCache(100, 1024 * 1024);
+    cache.put("key", "setting", "p1", new InterpreterResult(Code.SUCCESS, "result"));
+    assertNotNull(cache.get("key"));
+    Thread.sleep(200);
+    assertNull(cache.get("key"));
+    assertEquals(0, cache.getSize());
+  }
+
+  @Test
+  public void testMaxSize() {
+    InterpreterResult result = new InterpreterResult(Code.SUCCESS, "result");
+    ParagraphResultCache cache = new ParagraphResultCache(60 * 1000, 600);
+    for (int i = 0; i < 10; i++) {
+      cache.put("key" + i, "setting", "p" + i, result);
+    }
+    assertEquals(4, cache.getNumEntries());
+    assertNull(cache.get("key5"));
+    assertNotNull(cache.get("key6"));
+    // key7 is the least recently used now
+    cache.put("key10", "setting", "p10", result);
+    assertNull(cache.get("key7"));
+    assertNotNull(cache.get("key6"));
+
+    // too big to be cached
+    StringBuilder big = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      big.append('x');
+    }
+    cache.put("big", "setting", "p1", new InterpreterResult(Code.SUCCESS, big.toString()));
+    assertNull(cache.get("big"));
+    assertEquals(4, cache.getNumEntries());
+  }
+
+  @Test
+  public void testInvalidate() {
+    ParagraphResultCache cache = new ParagraphResultCache(60 * 1000, 1024 * 1024);
+    InterpreterResult result = new InterpreterResult(Code.SUCCESS, "result");
+    cache.put("key1", "setting1", "p1", result);
+    cache.put("key2", "setting1", "p2", result);
+    cache.put("key3", "setting2", "p3", result);
+
+    cache.invalidateParagraph("p1");
+    assertNull(cache.get("key1"));
+    assertNotNull(cache.get("key2"));
+
+    cache.invalidateInterpreterSetting("setting1");
+    assertNull(cache.get("key2"));
+    assertNotNull(cache.get("key3"));
+    assertEquals(1, cache.getNumEntries());
+  }
+}
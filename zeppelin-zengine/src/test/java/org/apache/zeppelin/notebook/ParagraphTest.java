@@ -19,8 +19,13 @@ package org.apache.zeppelin.notebook;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
@@ -31,12 +36,15 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.tuple.Triple;
+import org.apache.zeppelin.conf.ZeppelinConfiguration;
 import org.apache.zeppelin.display.AngularObject;
 import org.apache.zeppelin.display.AngularObjectBuilder;
 import org.apache.zeppelin.display.AngularObjectRegistry;
@@ -53,8 +61,10 @@ import org.apache.zeppelin.interpreter.InterpreterResult.Type;
 import org.apache.zeppelin.interpreter.InterpreterResultMessage;
 import org.apache.zeppelin.interpreter.InterpreterSetting;
 import org.apache.zeppelin.interpreter.InterpreterSetting.Status;
+import org.apache.zeppelin.interpreter.InterpreterSettingManager;
 import org.apache.zeppelin.interpreter.ManagedInterpreterGroup;
 import org.apache.zeppelin.resource.ResourcePool;
+import org.apache.zeppelin.scheduler.Job;
 import org.apache.zeppelin.user.AuthenticationInfo;
 import org.apache.zeppelin.user.Credentials;
 import org.apache.zeppelin.user.UserCredentials;
@@ -259,6 +269,55 @@ public class ParagraphTest extends AbstractInterpreterTest {
     assertEquals(defaultValue, newUserParagraph.getReturn().message().get(0).getData());
   }
 
+  @Test
+  public void personalizedParagraphSharesBaseUntilChanged() {
+    Paragraph p = new Paragraph("para_1", null, null);
+    p.setText("%md(key=value) hello");
+    p.getConfig().put("colWidth", 12);
+    p.settings.getParams().put("name", "base");
+
+    Paragraph userParagraph = p.getUserParagraph("user1");
+    assertSame(userParagraph, p.getUserParagraph("user1"));
+    assertSame(p, userParagraph.getParentParagraph());
+    assertNull(p.getParentParagraph());
+    assertSame(p.getText(), userParagraph.getText());
+    assertEquals("md", userParagraph.getIntpText());
+    assertSame(p.getLocalProperties(), userParagraph.getLocalProperties());
+    // form params are per user
+    userParagraph.settings.getParams().put("name", "user1");
+    assertEquals("base", p.settings.getParams().get("name"));
+
+    // setting the same text keeps sharing it
+    userParagraph.setText("%md(key=value) hello");
+    assertSame(p.getLocalProperties(), userParagraph.getLocalProperties());
+
+    // the config is copied when the personalized paragraph changes it
+    userParagraph.getConfig().put("colWidth", 6);
+    assertEquals(12, p.getConfig().get("colWidth"));
+    assertEquals(6, userParagraph.getConfig().get("colWidth"));
+
+    userParagraph.setText("%sh(k=v) echo 1");
+    assertEquals("%md(key=value) hello", p.getText());
+    assertEquals("md", p.getIntpText());
+    assertEquals("value", p.getLocalProperties().get("key"));
+    assertEquals("v", userParagraph.getLocalProperties().get("k"));
+    assertNull(userParagraph.getLocalProperties().get("key"));
+  }
+
+  @Test
+  public void removeUserParagraph() {
+    Paragraph p = new Paragraph("para_1", null, null);
+    Paragraph userParagraph = p.getUserParagraph("user1");
+    assertTrue(p.removeUserParagraph("user1"));
+    assertFalse(p.removeUserParagraph("user1"));
+    assertNotSame(userParagraph, p.getUserParagraph("user1"));
+
+    // running paragraph is kept
+    p.getUserParagraph("user1").setStatus(Job.Status.RUNNING);
+    assertFalse(p.removeUserParagraph("user1"));
+    assertEquals(1, p.getUserParagraphMap().size());
+  }
+
   @Test
   public void returnUnchangedResultsWithDifferentUser() throws Throwable {
     Note mockNote = mock(Note.class);
@@ -325,6 +384,63 @@ public class ParagraphTest extends AbstractInterpreterTest {
     assertEquals(p1, spyParagraph.getUserParagraph(user1.getUser()));
   }
 
+  @Test
+  public void testResultCache() throws Throwable {
+    Note mockNote = mock(Note.class);
+    when(mockNote.getCredentials()).thenReturn(mock(Credentials.class));
+    when(mockNote.getId()).thenReturn("any_id");
+    InterpreterSettingManager mockInterpreterSettingManager = mock(InterpreterSettingManager.class);
+    ParagraphResultCache resultCache = new ParagraphResultCache(60 * 1000, 1024 * 1024);
+    when(mockNote.getInterpreterSettingManager()).thenReturn(mockInterpreterSettingManager);
+    when(mockInterpreterSettingManager.getParagraphResultCache()).thenReturn(resultCache);
+    Paragraph spyParagraph = spy(new Paragraph("para_1", mockNote, null));
+
+    Interpreter mockInterpreter = mock(Interpreter.class);
+    spyParagraph.setInterpreter(mockInterpreter);
+    doReturn(mockInterpreter).when(spyParagraph).getBindedInterpreter();
+
+    ManagedInterpreterGroup mockInterpreterGroup = mock(ManagedInterpreterGroup.class);
+    when(mockInterpreter.getInterpreterGroup()).thenReturn(mockInterpreterGroup);
+    when(mockInterpreterGroup.getAngularObjectRegistry()).thenReturn(mock(AngularObjectRegistry.class));
+    when(mockInterpreterGroup.getResourcePool()).thenReturn(mock(ResourcePool.class));
+    InterpreterSetting mockInterpreterSetting = mock(InterpreterSetting.class);
+    when(mockInterpreterGroup.getInterpreterSetting()).thenReturn(mockInterpreterSetting);
+    when(mockInterpreterSetting.getStatus()).thenReturn(Status.READY);
+    when(mockInterpreterSetting.getId()).thenReturn("mock_id_1");
+    when(mockInterpreterSetting.isUserAuthorized(any(List.class))).thenReturn(true);
+    when(mockInterpreter.getFormType()).thenReturn(FormType.NONE);
+    when(mockInterpreter.interpret(anyString(), Mockito.<InterpreterContext>any()))
+        .thenReturn(new InterpreterResult(Code.SUCCESS, "result1"))
+        .thenReturn(new InterpreterResult(Code.SUCCESS, "result2"));
+
+    spyParagraph.setAuthenticationInfo(new AuthenticationInfo("user1"));
+    // the cache is not used unless it is enabled for the paragraph
+    spyParagraph.setText("%test select 1");
+    assertEquals("result1", spyParagraph.jobRun().message().get(0).getData());
+    assertEquals(0, resultCache.getNumEntries());
+
+    spyParagraph.setText("%test(cacheResult=true) select 1");
+    assertEquals("result2", spyParagraph.jobRun().message().get(0).getData());
+    assertEquals(1, resultCache.getNumEntries());
+    assertEquals("result2", spyParagraph.jobRun().message().get(0).getData());
+    verify(mockInterpreter, Mockito.times(2)).interpret(anyString(),
+        Mockito.<InterpreterContext>any());
+    Map<String, String> info =
+        spyParagraph.getRuntimeInfos().get("resultCache").getValue().get(0);
+    assertEquals("true", info.get("hit"));
+    assertEquals("0.50", info.get("hitRate"));
+
+    // changed form params are a different key
+    spyParagraph.settings.getParams().put("param", "value");
+    spyParagraph.jobRun();
+    verify(mockInterpreter, Mockito.times(3)).interpret(anyString(),
+        Mockito.<InterpreterContext>any());
+    assertEquals(2, resultCache.getNumEntries());
+
+    resultCache.invalidateInterpreterSetting("mock_id_1");
+    assertEquals(0, resultCache.getNumEntries());
+  }
+
   @Test
   public void testCursorPosition() {
     Paragraph paragraph = spy(new Paragraph());
@@ -356,6 +472,56 @@ public class ParagraphTest extends AbstractInterpreterTest {
     }
   }
 
+  @Test
+  public void testCheckpointOutputFromJournal() throws IOException {
+    Note note = createNote();
+    Paragraph paragraph = new Paragraph(note, null);
+    // output is only recorded while the paragraph is running
+    paragraph.appendOutputBuffer(0, "lost\n");
+    assertNull(paragraph.getRunningOutput());
+
+    paragraph.onJobStarted();
+    assertEquals(0, paragraph.getRunningOutput().size());
+    paragraph.updateOutputBuffer(0, Type.TEXT, "");
+    paragraph.appendOutputBuffer(0, "line1\n");
+    paragraph.updateOutputBuffer(1, Type.HTML, "<p>1</p>");
+    paragraph.checkpointOutput();
+    assertEquals(2, paragraph.getReturn().message().size());
+    assertEquals("line1\n", paragraph.getReturn().message().get(0).getData());
+    assertEquals(Type.HTML, paragraph.getReturn().message().get(1).getType());
+
+    paragraph.onJobEnded();
+    assertNull(paragraph.getRunningOutput());
+  }
+
+  @Test
+  public void testCheckpointOutputWithoutJournal() throws IOException {
+    String journalDir = ZeppelinConfiguration.ConfVars.ZEPPELIN_PARAGRAPH_OUTPUT_JOURNAL_DIR
+        .getVarName();
+    File file = File.createTempFile("ParagraphTest", "");
+    System.setProperty(journalDir, file.getAbsolutePath());
+    try {
+      Note note = createNote();
+      Paragraph paragraph = new Paragraph(note, null);
+      // the journal can't be created in a regular file, the output is kept in memory
+      paragraph.onJobStarted();
+      paragraph.updateOutputBuffer(0, Type.TEXT, "");
+      paragraph.appendOutputBuffer(0, "line1\n");
+      paragraph.appendOutputBuffer(0, "line2\n");
+      paragraph.updateOutputBuffer(1, Type.HTML, "<p>1</p>");
+      paragraph.checkpointOutput();
+      assertEquals(2, paragraph.getReturn().message().size());
+      assertEquals("line1\nline2\n", paragraph.getReturn().message().get(0).getData());
+      assertEquals("<p>1</p>", paragraph.getReturn().message().get(1).getData());
+
+      paragraph.onJobEnded();
+      assertNull(paragraph.getRunningOutput());
+    } finally {
+      System.clearProperty(journalDir);
+      file.delete();
+    }
+  }
+
   //(TODO zjffdu) temporary disable it.
   //https://github.com/apache/zeppelin/pull/3416
   @Ignore
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.zeppelin.notebook.scheduler;
+
+import org.apache.zeppelin.conf.ZeppelinConfiguration.ConfVars;
+import org.apache.zeppelin.interpreter.AbstractInterpreterTest;
+import org.apache.zeppelin.notebook.Note;
+import org.apache.zeppelin.notebook.NoteCronInfo;
+import org.apache.zeppelin.notebook.Notebook;
+import org.apache.zeppelin.notebook.NotebookCronInfoSaving;
+import org.apache.zeppelin.notebook.repo.InMemoryNotebookRepo;
+import org.apache.zeppelin.search.SearchService;
+import org.apache.zeppelin.storage.ConfigStorage;
+import org.apache.zeppelin.user.AuthenticationInfo;
+import org.apache.zeppelin.user.Credentials;
+import org.junit.Before;
+import org.junit.Test;
+import org.quartz.JobKey;
+import org.quartz.impl.StdSchedulerFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class QuartzSchedulerServiceTest extends AbstractInterpreterTest {
+
+  private Notebook notebook;
+  private InMemoryNotebookRepo notebookRepo;
+  private QuartzSchedulerService schedulerService;
+  private AuthenticationInfo anonymous = AuthenticationInfo.ANONYMOUS;
+
+  @Before
+  public void setUp() throws Exception {
+    System.setProperty(ConfVars.ZEPPELIN_NOTEBOOK_CRON_ENABLE.getVarName(), "true");
+    super.setUp();
+
+    notebookRepo = new InMemoryNotebookRepo();
+    Credentials credentials =
+        new Credentials(conf.credentialsPersist(), conf.getCredentialsPath(), null);
+    notebook = new Notebook(conf, notebookRepo, interpreterFactory, interpreterSettingManager,
+        mock(SearchService.class), credentials, null);
+    schedulerService = new QuartzSchedulerService(conf, notebook);
+    assertTrue(schedulerService.awaitCronInitialized(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testCronIndex() throws Exception {
+    Note note = notebook.createNote("note1", anonymous);
+    setCron(note, "0 0 0 * * ?");
+    schedulerService.refreshCron(note.getId());
+
+    NotebookCronInfoSaving cronInfoSaving = loadCronIndex();
+    NoteCronInfo cronInfo = cronInfoSaving.cronInfos.get(note.getId());
+    assertEquals("0 0 0 * * ?", cronInfo.getCron());
+    assertEquals("user1", cronInfo.getCronExecutingUser());
+
+    // cron job is registered from the cron index after restart, without loading the note
+    JobKey jobKey = new JobKey(note.getId(), "note");
+    new StdSchedulerFactory().getScheduler().deleteJob(jobKey);
+    Notebook spyNotebook = spy(notebook);
+    QuartzSchedulerService restartedSchedulerService =
+        new QuartzSchedulerService(conf, spyNotebook);
+    assertTrue(restartedSchedulerService.awaitCronInitialized(10, TimeUnit.SECONDS));
+    assertTrue(restartedSchedulerService.getJobs().contains(jobKey));
+    verify(spyNotebook, never()).getNote(note.getId());
+
+    // remove cron
+    setCron(note, null);
+    schedulerService.refreshCron(note.getId());
+    assertNull(loadCronIndex().cronInfos.get(note.getId()));
+    notebook.removeNote(note.getId(), anonymous);
+  }
+
+  @Test
+  public void testCronIndexFollowsNoteEvents() throws Exception {
+    Note note = notebook.createNote("note1", anonymous);
+    assertTrue(loadCronIndex().noteIds.contains(note.getId()));
+
+    // saving the note updates the index when its cron is changed
+    setCron(note, "0 0 0 * * ?");
+    notebook.saveNote(note, anonymous);
+    assertEquals("0 0 0 * * ?", loadCronIndex().cronInfos.get(note.getId()).getCron());
+    JobKey jobKey = new JobKey(note.getId(), "note");
+    assertTrue(schedulerService.getJobs().contains(jobKey));
+
+    Note clonedNote = notebook.cloneNote(note.getId(), "note2", anonymous);
+    assertTrue(loadCronIndex().noteIds.contains(clonedNote.getId()));
+
+    notebook.removeNote(note.getId(), anonymous);
+    NotebookCronInfoSaving cronInfoSaving = loadCronIndex();
+    assertFalse(cronInfoSaving.noteIds.contains(note.getId()));
+    assertNull(cronInfoSaving.cronInfos.get(note.getId()));
+    assertFalse(schedulerService.getJobs().contains(jobKey));
+    notebook.removeNote(clonedNote.getId(), anonymous);
+  }
+
+  @Test
+  public void testCronIndexReconciledWithNotebookRepo() throws Exception {
+    Note removedNote = notebook.createNote("note1", anonymous);
+    setCron(removedNote, "0 0 0 * * ?");
+    notebook.saveNote(removedNote, anonymous);
+
+    // notes added and removed outside of Zeppelin, e.g. by git
+    Note addedNote = new Note();
+    addedNote.setPath("/note2");
+    setCron(addedNote, "0 0 1 * * ?");
+    notebookRepo.save(addedNote, anonymous);
+    notebookRepo.remove(removedNote.getId(), removedNote.getPath(), anonymous);
+    notebook.reloadAllNotes(anonymous);
+
+    QuartzSchedulerService restartedSchedulerService = new QuartzSchedulerService(conf, notebook);
+    assertTrue(restartedSchedulerService.awaitCronInitialized(10, TimeUnit.SECONDS));
+    assertTrue(restartedSchedulerService.getJobs()
+        .contains(new JobKey(addedNote.getId(), "note")));
+    NotebookCronInfoSaving cronInfoSaving = loadCronIndex();
+    assertEquals("0 0 1 * * ?", cronInfoSaving.cronInfos.get(addedNote.getId()).getCron());
+    assertTrue(cronInfoSaving.noteIds.contains(addedNote.getId()));
+    assertFalse(cronInfoSaving.noteIds.contains(removedNote.getId()));
+    assertNull(cronInfoSaving.cronInfos.get(removedNote.getId()));
+    notebook.removeNote(addedNote.getId(), anonymous);
+  }
+
+  @Test
+  public void testCronIndexSavedOnlyWhenChanged() throws Exception {
+    Note note1 = notebook.createNote("note1", anonymous);
+    Note note2 = notebook.createNote("note2", anonymous);
+    ConfigStorage configStorage = mock(ConfigStorage.class);
+    schedulerService.setConfigStorage(configStorage);
+    try {
+      // nothing changed
+      schedulerService.refreshCron(note1.getId());
+      notebook.saveNote(note1, anonymous);
+      verify(configStorage, never()).save(any(NotebookCronInfoSaving.class));
+
+      setCron(note1, "0 0 0 * * ?");
+      schedulerService.refreshCron(note1.getId());
+      verify(configStorage, times(1)).save(any(NotebookCronInfoSaving.class));
+
+      // the cron index is saved once for a batch
+      setCron(note1, "0 0 1 * * ?");
+      setCron(note2, "0 0 1 * * ?");
+      schedulerService.refreshCron(Arrays.asList(note1.getId(), note2.getId()));
+      verify(configStorage, times(2)).save(any(NotebookCronInfoSaving.class));
+      schedulerService.refreshCron(Arrays.asList(note1.getId(), note2.getId()));
+      verify(configStorage, times(2)).save(any(NotebookCronInfoSaving.class));
+    } finally {
+      schedulerService.setConfigStorage(ConfigStorage.getInstance(conf));
+      notebook.removeNote(note1.getId(), anonymous);
+      notebook.removeNote(note2.getId(), anonymous);
+    }
+  }
+
+  private void setCron(Note note, String cron) {
+    Map<String, Object> config = note.getConfig();
+    config.put("cron", cron);
+    config.put("cronExecutingUser", "user1");
+    note.setConfig(config);
+  }
+
+  private NotebookCronInfoSaving loadCronIndex() throws IOException {
+    return ConfigStorage.getInstance(conf).loadNotebookCronInfo();
+  }
+}
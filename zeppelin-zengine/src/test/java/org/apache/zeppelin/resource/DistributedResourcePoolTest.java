@@ -28,8 +28,11 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.apache.zeppelin.interpreter.InterpreterOption.ISOLATED;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -84,6 +87,72 @@ public class DistributedResourcePoolTest extends AbstractInterpreterTest {
     assertEquals("value2", gson.fromJson(ret.message().get(0).getData(), String.class));
   }
 
+  @Test
+  public void testRemoteResourceLookupIsInvalidated() throws InterpreterException {
+    Gson gson = new Gson();
+    // intp1 looks up key3 before it exists, the empty lookup is cached in intp1
+    assertEquals("", gson.fromJson(
+        intp1.interpret("get key3", context).message().get(0).getData(), String.class));
+
+    intp2.interpret("put key3 value3", context);
+    assertEquals("value3", gson.fromJson(
+        intp1.interpret("get key3", context).message().get(0).getData(), String.class));
+
+    intp2.interpret("remove key3", context);
+    assertEquals("", gson.fromJson(
+        intp1.interpret("get key3", context).message().get(0).getData(), String.class));
+  }
+
+  @Test
+  public void testRemoteLookupCache() {
+    final LocalResourcePool pool2 = new LocalResourcePool("pool2");
+    final AtomicInteger lookups = new AtomicInteger();
+    DistributedResourcePool pool1 = new DistributedResourcePool("pool1",
+        new ResourcePoolConnector() {
+          @Override
+          public ResourceSet getAllResources() {
+            throw new UnsupportedOperationException("Should look up by name");
+          }
+
+          @Override
+          public ResourceSet getResourcesByName(String name) {
+            lookups.incrementAndGet();
+            return pool2.getAll().filterByName(name);
+          }
+
+          @Override
+          public Object readResource(ResourceId id) {
+            return null;
+          }
+
+          @Override
+          public Object invokeMethod(ResourceId id, String methodName, Class[] paramTypes,
+                                     Object[] params) {
+            return null;
+          }
+
+          @Override
+          public Resource invokeMethod(ResourceId id, String methodName, Class[] paramTypes,
+                                       Object[] params, String returnResourceName) {
+            return null;
+          }
+        }, 60 * 1000);
+
+    assertNull(pool1.get("object1"));
+    pool2.put("object1", "value1");
+    pool2.put("note1", "paragraph1", "object1", "value2");
+    // the lookup is cached
+    assertNull(pool1.get("object1"));
+    assertEquals(1, lookups.get());
+
+    // until it is invalidated, then both scopes are served by the same lookup
+    pool1.invalidate("object1");
+    assertEquals("value1", pool1.get("object1").get());
+    assertEquals("value2", pool1.get("note1", "paragraph1", "object1").get());
+    assertNull(pool1.get("note1", "paragraph2", "object1"));
+    assertEquals(2, lookups.get());
+  }
+
   @Test
   public void testDistributedResourcePool() {
     final LocalResourcePool pool2 = new LocalResourcePool("pool2");
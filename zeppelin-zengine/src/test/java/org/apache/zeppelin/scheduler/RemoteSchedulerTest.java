@@ -25,6 +25,7 @@ import org.apache.zeppelin.interpreter.InterpreterSetting;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreter;
 import org.apache.zeppelin.interpreter.remote.RemoteInterpreterProcessListener;
 import org.apache.zeppelin.interpreter.thrift.ParagraphInfo;
+import org.apache.zeppelin.notebook.Paragraph;
 import org.apache.zeppelin.resource.LocalResourcePool;
 import org.apache.zeppelin.scheduler.Job.Status;
 import org.apache.zeppelin.user.AuthenticationInfo;
@@ -33,6 +34,9 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -264,6 +268,66 @@ public class RemoteSchedulerTest extends AbstractInterpreterTest
     schedulerSvc.removeScheduler("test");
   }
 
+  @Test
+  public void testFairShare() throws Exception {
+    interpreterSetting.setProperty(FairScheduler.ENABLED_PROPERTY, "true");
+    final RemoteInterpreter intpA =
+        (RemoteInterpreter) interpreterSetting.getInterpreter("user1", "note1", "mock");
+    intpA.open();
+    Scheduler scheduler = intpA.getScheduler();
+
+    // user1 keeps the interpreter busy and queues many more paragraphs, user2 comes later
+    List<String> startOrder = Collections.synchronizedList(new ArrayList<>());
+    List<Paragraph> paragraphs = new ArrayList<>();
+    paragraphs.add(new UserParagraph("user1-0", "user1", "1000", intpA, startOrder));
+    for (int i = 1; i <= 3; i++) {
+      paragraphs.add(new UserParagraph("user1-" + i, "user1", "100", intpA, startOrder));
+    }
+    paragraphs.add(new UserParagraph("user2-1", "user2", "100", intpA, startOrder));
+    for (Paragraph p : paragraphs) {
+      scheduler.submit(p);
+    }
+
+    int cycles = 0;
+    while (paragraphs.stream().anyMatch(p -> !p.isTerminated()) && cycles < MAX_WAIT_CYCLES) {
+      Thread.sleep(TICK_WAIT);
+      cycles++;
+    }
+    for (Paragraph p : paragraphs) {
+      assertEquals(Status.FINISHED, p.getStatus());
+    }
+    // user2 doesn't wait for all the paragraphs of user1
+    assertEquals(Arrays.asList("user1-0", "user2-1", "user1-1", "user1-2", "user1-3"),
+        startOrder);
+
+    intpA.close();
+  }
+
+  private static class UserParagraph extends Paragraph {
+    private final String statement;
+    private final RemoteInterpreter intp;
+    private final List<String> startOrder;
+
+    UserParagraph(String paragraphId, String user, String statement, RemoteInterpreter intp,
+                  List<String> startOrder) {
+      super(paragraphId, null, null);
+      this.statement = statement;
+      this.intp = intp;
+      this.startOrder = startOrder;
+      setAuthenticationInfo(new AuthenticationInfo(user));
+    }
+
+    @Override
+    protected InterpreterResult jobRun() throws Throwable {
+      startOrder.add(getId());
+      return intp.interpret(statement, InterpreterContext.builder()
+          .setNoteId("noteId")
+          .setParagraphId(getId())
+          .setResourcePool(new LocalResourcePool("pool1"))
+          .build());
+    }
+  }
+
   @Override
   public void onOutputAppend(String noteId, String paragraphId, int index, String output) {
 
@@ -298,4 +362,9 @@ public class RemoteSchedulerTest extends AbstractInterpreterTest
   public void checkpointOutput(String noteId, String paragraphId) {
 
   }
+
+  @Override
+  public void onParagraphProgressUpdate(String noteId, String paragraphId, int progress) {
+
+  }
 }